@@ -0,0 +1,119 @@
+/**
+ * Copyright (c) 2016, 2019, Oracle and/or its affiliates. All rights reserved.
+ */
+package com.oracle.bmc.http;
+
+import com.oracle.bmc.http.internal.ContentLengthFilter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.jetty.client.HttpClient;
+import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.client.ClientProperties;
+import org.glassfish.jersey.client.RequestEntityProcessing;
+import org.glassfish.jersey.jetty.connector.JettyConnectorProvider;
+
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.ClientBuilder;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * A {@code ClientConfigurator} implementation that uses the Jetty Connector Provider for the Jersey Client
+ * configuration.
+ * <p>
+ * Jetty's HTTP client is non-blocking: asynchronous calls (both the {@link java.util.concurrent.Future} and the
+ * {@link java.util.concurrent.CompletionStage} variants) only use a thread while the request is prepared and while
+ * the response is handled, not while waiting on the socket. The number of requests in flight is therefore limited
+ * by the {@link JettyConnectionPoolConfig} instead of by {@link com.oracle.bmc.ClientConfiguration#getMaxAsyncThreads()}.
+ *
+ * Note: Use of the JettyConnectorProvider will buffer requests into memory and can impact memory utilization within
+ * your application.
+ */
+@Slf4j
+public class JettyConfigurator implements ClientConfigurator {
+    /** The list of {@code ClientConfigDecorator}s to support the ability to decorate {@code ClientConfig} */
+    protected final List<ClientConfigDecorator> clientConfigDecorators = new LinkedList<>();
+
+    private final JettyConnectionPoolConfig connectionPoolConfig;
+
+    /** Creates a new {@code JettyConfigurator} object using the default connection pool configuration. */
+    public JettyConfigurator() {
+        this(JettyConnectionPoolConfig.newDefault());
+    }
+
+    /**
+     * Creates a new {@code JettyConfigurator} object.
+     *
+     * @param connectionPoolConfig the connection pool configuration
+     */
+    public JettyConfigurator(final JettyConnectionPoolConfig connectionPoolConfig) {
+        this(connectionPoolConfig, Collections.<ClientConfigDecorator>emptyList());
+    }
+
+    /**
+     * Creates a new {@code JettyConfigurator} and registers the list of provided {@code ClientConfigDecorator}s.
+     *
+     * @param connectionPoolConfig the connection pool configuration
+     * @param clientConfigDecorators the list of client configuration decorators
+     */
+    public JettyConfigurator(
+            @NonNull final JettyConnectionPoolConfig connectionPoolConfig,
+            final List<ClientConfigDecorator> clientConfigDecorators) {
+        this.connectionPoolConfig = connectionPoolConfig;
+        this.clientConfigDecorators.addAll(clientConfigDecorators);
+    }
+
+    @Override
+    public void customizeBuilder(ClientBuilder builder) {
+        setConnectorProvider(builder);
+    }
+
+    @Override
+    public void customizeClient(Client client) {
+        // Use buffered processing to get better error messages on POST and PUT
+        // but the downside is that this will buffer large uploads in memory.
+        client.property(
+                ClientProperties.REQUEST_ENTITY_PROCESSING, RequestEntityProcessing.BUFFERED);
+
+        // Let Jetty set the content-length header based on the buffered entity.
+        client.register(new ContentLengthFilter());
+
+        configureConnectionPool(client);
+    }
+
+    protected void setConnectorProvider(ClientBuilder builder) {
+        LOG.info("Setting connector provider to JettyConnectorProvider");
+
+        final ClientConfig clientConfig = new ClientConfig();
+        clientConfig.connectorProvider(new JettyConnectorProvider());
+
+        // Decorate config with any configured client config decorators
+        for (ClientConfigDecorator clientConfigDecorator : clientConfigDecorators) {
+            clientConfigDecorator.customizeClientConfig(clientConfig);
+        }
+
+        builder.withConfig(clientConfig);
+    }
+
+    /**
+     * Applies the connection pool configuration to the Jetty {@link HttpClient} of the client.
+     * <p>
+     * This has to happen after all other client properties have been set, since looking up the
+     * {@code HttpClient} initializes the connector with the current configuration.
+     *
+     * @param client the client
+     */
+    protected void configureConnectionPool(Client client) {
+        LOG.info("JettyConnectionPoolConfig: {}", connectionPoolConfig);
+
+        final HttpClient httpClient = JettyConnectorProvider.getHttpClient(client);
+        httpClient.setMaxConnectionsPerDestination(
+                connectionPoolConfig.getMaxConnectionsPerDestination());
+        httpClient.setMaxRequestsQueuedPerDestination(
+                connectionPoolConfig.getMaxRequestsQueuedPerDestination());
+        if (connectionPoolConfig.getIdleTimeoutInMillis() != null) {
+            httpClient.setIdleTimeout(connectionPoolConfig.getIdleTimeoutInMillis());
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/**
+ * Copyright (c) 2016, 2019, Oracle and/or its affiliates. All rights reserved.
+ */
+package com.oracle.bmc.http;
+
+import lombok.Data;
+
+/**
+ * The configurable parameters for the connection pool of a client using the Jetty connector.
+ * <p>
+ * Since the Jetty connector does not block a thread per request, the number of requests in flight
+ * is bounded by these limits rather than by {@link com.oracle.bmc.ClientConfiguration#getMaxAsyncThreads()}.
+ */
+@Data
+public class JettyConnectionPoolConfig {
+    private static final int DEFAULT_MAX_CONNECTIONS_PER_DESTINATION = 64;
+    private static final int DEFAULT_MAX_REQUESTS_QUEUED_PER_DESTINATION = 4096;
+
+    /**
+     * Creates a new default {@code JettyConnectionPoolConfig}.
+     *
+     * @return a new default connection pool configuration
+     */
+    public static JettyConnectionPoolConfig newDefault() {
+        return JettyConnectionPoolConfig.builder().build();
+    }
+
+    /** Creates a new {@code Builder} used to construct a new {@code JettyConnectionPoolConfig} object. **/
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * The max number of open connections per destination (scheme, host and port).  Default is 64.
+     */
+    private final int maxConnectionsPerDestination;
+    /** The max number of requests waiting for a connection per destination.  Default is 4096. */
+    private final int maxRequestsQueuedPerDestination;
+    /** The time in milliseconds an idle connection is kept open, or null for the Jetty default. */
+    private final Long idleTimeoutInMillis;
+
+    private JettyConnectionPoolConfig(final Builder builder) {
+        if (builder.maxConnectionsPerDestination <= 0) {
+            throw new IllegalArgumentException("maxConnectionsPerDestination must be positive");
+        }
+        if (builder.maxRequestsQueuedPerDestination <= 0) {
+            throw new IllegalArgumentException("maxRequestsQueuedPerDestination must be positive");
+        }
+        maxConnectionsPerDestination = builder.maxConnectionsPerDestination;
+        maxRequestsQueuedPerDestination = builder.maxRequestsQueuedPerDestination;
+        idleTimeoutInMillis = builder.idleTimeoutInMillis;
+    }
+
+    public final static class Builder {
+        private int maxConnectionsPerDestination = DEFAULT_MAX_CONNECTIONS_PER_DESTINATION;
+        private int maxRequestsQueuedPerDestination = DEFAULT_MAX_REQUESTS_QUEUED_PER_DESTINATION;
+        private Long idleTimeoutInMillis;
+
+        public Builder() {}
+
+        public Builder maxConnectionsPerDestination(final int maxConnectionsPerDestination) {
+            this.maxConnectionsPerDestination = maxConnectionsPerDestination;
+            return this;
+        }
+
+        public Builder maxRequestsQueuedPerDestination(final int maxRequestsQueuedPerDestination) {
+            this.maxRequestsQueuedPerDestination = maxRequestsQueuedPerDestination;
+            return this;
+        }
+
+        public Builder idleTimeoutInMillis(final long idleTimeoutInMillis) {
+            this.idleTimeoutInMillis = idleTimeoutInMillis;
+            return this;
+        }
+
+        public JettyConnectionPoolConfig build() {
+            return new JettyConnectionPoolConfig(this);
+        }
+    }
+}
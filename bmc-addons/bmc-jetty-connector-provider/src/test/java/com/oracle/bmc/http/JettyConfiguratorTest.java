@@ -0,0 +1,67 @@
+/**
+ * Copyright (c) 2016, 2019, Oracle and/or its affiliates. All rights reserved.
+ */
+package com.oracle.bmc.http;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.ClientBuilder;
+
+import org.eclipse.jetty.client.HttpClient;
+import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.client.ClientProperties;
+import org.glassfish.jersey.client.RequestEntityProcessing;
+import org.glassfish.jersey.jetty.connector.JettyConnectorProvider;
+import org.junit.Test;
+
+public class JettyConfiguratorTest {
+
+    @Test
+    public void defaultConnectionPool() {
+        Client client = createClient(new JettyConfigurator());
+        try {
+            assertTrue(
+                    ((ClientConfig) client.getConfiguration()).getConnectorProvider()
+                            instanceof JettyConnectorProvider);
+            assertEquals(
+                    RequestEntityProcessing.BUFFERED,
+                    client.getConfiguration()
+                            .getProperty(ClientProperties.REQUEST_ENTITY_PROCESSING));
+
+            HttpClient httpClient = JettyConnectorProvider.getHttpClient(client);
+            assertEquals(64, httpClient.getMaxConnectionsPerDestination());
+            assertEquals(4096, httpClient.getMaxRequestsQueuedPerDestination());
+        } finally {
+            client.close();
+        }
+    }
+
+    @Test
+    public void configuredConnectionPool() {
+        JettyConnectionPoolConfig poolConfig =
+                JettyConnectionPoolConfig.builder()
+                        .maxConnectionsPerDestination(1000)
+                        .maxRequestsQueuedPerDestination(10000)
+                        .idleTimeoutInMillis(30000)
+                        .build();
+        Client client = createClient(new JettyConfigurator(poolConfig));
+        try {
+            HttpClient httpClient = JettyConnectorProvider.getHttpClient(client);
+            assertEquals(1000, httpClient.getMaxConnectionsPerDestination());
+            assertEquals(10000, httpClient.getMaxRequestsQueuedPerDestination());
+            assertEquals(30000, httpClient.getIdleTimeout());
+        } finally {
+            client.close();
+        }
+    }
+
+    private static Client createClient(ClientConfigurator configurator) {
+        ClientBuilder builder = ClientBuilder.newBuilder();
+        configurator.customizeBuilder(builder);
+        Client client = builder.build();
+        configurator.customizeClient(client);
+        return client;
+    }
+}
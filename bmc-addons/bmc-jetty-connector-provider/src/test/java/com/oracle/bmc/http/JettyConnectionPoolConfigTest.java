@@ -0,0 +1,43 @@
+/**
+ * Copyright (c) 2016, 2019, Oracle and/or its affiliates. All rights reserved.
+ */
+package com.oracle.bmc.http;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+public class JettyConnectionPoolConfigTest {
+
+    @Test
+    public void newDefault() {
+        JettyConnectionPoolConfig config = JettyConnectionPoolConfig.newDefault();
+        assertEquals(64, config.getMaxConnectionsPerDestination());
+        assertEquals(4096, config.getMaxRequestsQueuedPerDestination());
+        assertNull(config.getIdleTimeoutInMillis());
+    }
+
+    @Test
+    public void builder() {
+        JettyConnectionPoolConfig config =
+                JettyConnectionPoolConfig.builder()
+                        .maxConnectionsPerDestination(1000)
+                        .maxRequestsQueuedPerDestination(10000)
+                        .idleTimeoutInMillis(30000)
+                        .build();
+        assertEquals(1000, config.getMaxConnectionsPerDestination());
+        assertEquals(10000, config.getMaxRequestsQueuedPerDestination());
+        assertEquals(Long.valueOf(30000), config.getIdleTimeoutInMillis());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void maxConnectionsPerDestination_notPositive() {
+        JettyConnectionPoolConfig.builder().maxConnectionsPerDestination(0).build();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void maxRequestsQueuedPerDestination_notPositive() {
+        JettyConnectionPoolConfig.builder().maxRequestsQueuedPerDestination(0).build();
+    }
+}
@@ -0,0 +1,93 @@
+/**
+ * Copyright (c) 2016, 2019, Oracle and/or its affiliates. All rights reserved.
+ */
+package com.oracle.bmc.standin;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.oracle.bmc.monitoring.model.FailedMetricRecord;
+import com.oracle.bmc.monitoring.model.MetricDataDetails;
+import com.oracle.bmc.monitoring.model.PostMetricDataDetails;
+import com.oracle.bmc.monitoring.model.PostMetricDataResponseDetails;
+
+/**
+ * Stand-in for PostMetricData of Monitoring.
+ * <p>
+ * The metric data is validated and counted, but not stored. Metric data without a namespace,
+ * compartment, name or datapoints is reported as failed.
+ */
+public class MonitoringStandIn extends ServiceHandler {
+    private final AtomicLong metricData = new AtomicLong();
+    private final AtomicLong datapoints = new AtomicLong();
+
+    MonitoringStandIn() {}
+
+    /**
+     * @return the number of metric data accepted
+     */
+    public long getMetricDataCount() {
+        return metricData.get();
+    }
+
+    /**
+     * @return the number of datapoints accepted
+     */
+    public long getDatapointCount() {
+        return datapoints.get();
+    }
+
+    @Override
+    void handle(StandInExchange exchange) throws IOException {
+        List<String> path = exchange.getPathSegments();
+        if (path.size() != 2
+                || !"metrics".equals(path.get(1))
+                || !"POST".equals(exchange.getMethod())) {
+            throw new StandInException(
+                    404, "NotAuthorizedOrNotFound", "Not supported by the stand-in, or not found");
+        }
+        PostMetricDataDetails details = exchange.readBody(PostMetricDataDetails.class);
+        if (details.getMetricData() == null || details.getMetricData().isEmpty()) {
+            throw new StandInException(400, "InvalidParameter", "No metric data to post");
+        }
+        List<FailedMetricRecord> failedMetrics = new ArrayList<>();
+        for (MetricDataDetails data : details.getMetricData()) {
+            String message = validate(data);
+            if (message != null) {
+                failedMetrics.add(
+                        FailedMetricRecord.builder().message(message).metricData(data).build());
+            } else {
+                metricData.incrementAndGet();
+                datapoints.addAndGet(data.getDatapoints().size());
+            }
+        }
+        exchange.respondJson(
+                200,
+                PostMetricDataResponseDetails.builder()
+                        .failedMetricsCount(failedMetrics.size())
+                        .failedMetrics(failedMetrics)
+                        .build());
+    }
+
+    private static String validate(MetricDataDetails data) {
+        if (isEmpty(data.getNamespace())) {
+            return "The namespace is required";
+        }
+        if (isEmpty(data.getCompartmentId())) {
+            return "The compartment is required";
+        }
+        if (isEmpty(data.getName())) {
+            return "The name is required";
+        }
+        if (data.getDatapoints() == null || data.getDatapoints().isEmpty()) {
+            return "At least one datapoint is required";
+        }
+        return null;
+    }
+
+    private static boolean isEmpty(String value) {
+        return value == null || value.isEmpty();
+    }
+}
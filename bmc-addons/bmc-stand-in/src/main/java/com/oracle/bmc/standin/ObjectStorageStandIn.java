@@ -0,0 +1,616 @@
+/**
+ * Copyright (c) 2016, 2019, Oracle and/or its affiliates. All rights reserved.
+ */
+package com.oracle.bmc.standin;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import com.oracle.bmc.objectstorage.model.CommitMultipartUploadDetails;
+import com.oracle.bmc.objectstorage.model.CommitMultipartUploadPartDetails;
+import com.oracle.bmc.objectstorage.model.CreateMultipartUploadDetails;
+import com.oracle.bmc.objectstorage.model.ListObjects;
+import com.oracle.bmc.objectstorage.model.MultipartUpload;
+import com.oracle.bmc.objectstorage.model.MultipartUploadPartSummary;
+import com.oracle.bmc.objectstorage.model.ObjectSummary;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Stand-in for the object and multipart upload operations of Object Storage.
+ * <p>
+ * Supported: GetNamespace, PutObject, GetObject (with a single byte range), HeadObject,
+ * DeleteObject, ListObjects, CreateMultipartUpload, UploadPart, ListMultipartUploadParts,
+ * CommitMultipartUpload and AbortMultipartUpload, with if-match and if-none-match. Buckets are not
+ * modeled: every bucket exists, in every namespace.
+ */
+public class ObjectStorageStandIn extends ServiceHandler {
+    /**
+     * The namespace returned by GetNamespace.
+     */
+    public static final String NAMESPACE_NAME = "standin";
+
+    private static final int DEFAULT_LIST_LIMIT = 1000;
+    private static final int MAX_PART_NUMBER = 10000;
+    private static final String METADATA_PREFIX = "opc-meta-";
+
+    private final ConcurrentNavigableMap<String, StoredObject> objects =
+            new ConcurrentSkipListMap<>();
+    private final ConcurrentMap<String, Upload> uploads = new ConcurrentHashMap<>();
+
+    ObjectStorageStandIn() {}
+
+    /**
+     * Stores an object, for example to prepare a test.
+     */
+    public void putObject(
+            String namespaceName, String bucketName, String objectName, byte[] content) {
+        objects.put(
+                key(namespaceName, bucketName, objectName),
+                new StoredObject(
+                        content.clone(),
+                        newEtag(),
+                        base64(md5(content)),
+                        null,
+                        null,
+                        Collections.<String, String>emptyMap(),
+                        new Date()));
+    }
+
+    /**
+     * @return a copy of the content of an object, or null if it does not exist
+     */
+    public byte[] getObject(String namespaceName, String bucketName, String objectName) {
+        StoredObject object = objects.get(key(namespaceName, bucketName, objectName));
+        return (object == null) ? null : object.content.clone();
+    }
+
+    /**
+     * @return the number of objects, in all buckets
+     */
+    public int getObjectCount() {
+        return objects.size();
+    }
+
+    /**
+     * @return the number of multipart uploads that were neither committed nor aborted
+     */
+    public int getMultipartUploadCount() {
+        return uploads.size();
+    }
+
+    /**
+     * Deletes all objects and multipart uploads.
+     */
+    public void clear() {
+        objects.clear();
+        uploads.clear();
+    }
+
+    @Override
+    void handle(StandInExchange exchange) throws IOException {
+        List<String> path = exchange.getPathSegments();
+        String method = exchange.getMethod();
+        if (path.isEmpty() || !"n".equals(path.get(0))) {
+            throw notFound();
+        }
+        if (path.size() == 1 && "GET".equals(method)) {
+            exchange.respondJson(200, NAMESPACE_NAME);
+            return;
+        }
+        if (path.size() < 5 || path.size() > 6 || !"b".equals(path.get(2))) {
+            throw notFound();
+        }
+        String namespaceName = path.get(1);
+        String bucketName = path.get(3);
+        String objectName = (path.size() == 6) ? path.get(5) : null;
+        if ("o".equals(path.get(4))) {
+            if (objectName == null && "GET".equals(method)) {
+                listObjects(exchange, namespaceName, bucketName);
+                return;
+            }
+            if (objectName != null) {
+                String key = key(namespaceName, bucketName, objectName);
+                switch (method) {
+                    case "GET":
+                        getObject(exchange, key, true);
+                        return;
+                    case "HEAD":
+                        getObject(exchange, key, false);
+                        return;
+                    case "PUT":
+                        putObject(exchange, key);
+                        return;
+                    case "DELETE":
+                        deleteObject(exchange, key);
+                        return;
+                    default:
+                        break;
+                }
+            }
+        } else if ("u".equals(path.get(4))) {
+            if (objectName == null && "POST".equals(method)) {
+                createMultipartUpload(exchange, namespaceName, bucketName);
+                return;
+            }
+            if (objectName != null) {
+                String key = key(namespaceName, bucketName, objectName);
+                switch (method) {
+                    case "PUT":
+                        uploadPart(exchange, key);
+                        return;
+                    case "GET":
+                        listParts(exchange, key);
+                        return;
+                    case "POST":
+                        commitMultipartUpload(exchange, key);
+                        return;
+                    case "DELETE":
+                        abortMultipartUpload(exchange, key);
+                        return;
+                    default:
+                        break;
+                }
+            }
+        }
+        throw notFound();
+    }
+
+    private void getObject(StandInExchange exchange, String key, boolean withContent)
+            throws IOException {
+        StoredObject object = objects.get(key);
+        if (object == null) {
+            throw new StandInException(404, "ObjectNotFound", "The object does not exist");
+        }
+        String ifMatch = exchange.getHeader("if-match");
+        if (ifMatch != null && !ifMatch.equals(object.etag)) {
+            throw preconditionFailed();
+        }
+        String ifNoneMatch = exchange.getHeader("if-none-match");
+        if (ifNoneMatch != null && (ifNoneMatch.equals("*") || ifNoneMatch.equals(object.etag))) {
+            exchange.addHeader("ETag", object.etag);
+            exchange.respond(304);
+            return;
+        }
+
+        exchange.addHeader("ETag", object.etag);
+        exchange.addHeader("last-modified", StandInExchange.formatHttpDate(object.lastModified));
+        exchange.addHeader("accept-ranges", "bytes");
+        if (object.contentMd5 != null) {
+            exchange.addHeader("content-md5", object.contentMd5);
+        }
+        if (object.multipartMd5 != null) {
+            exchange.addHeader("opc-multipart-md5", object.multipartMd5);
+        }
+        exchange.addHeader(
+                "Content-Type",
+                (object.contentType == null) ? "application/octet-stream" : object.contentType);
+        for (Map.Entry<String, String> entry : object.metadata.entrySet()) {
+            exchange.addHeader(METADATA_PREFIX + entry.getKey(), entry.getValue());
+        }
+
+        int length = object.content.length;
+        int start = 0;
+        int end = length - 1;
+        int statusCode = 200;
+        String range = exchange.getHeader("range");
+        if (range != null) {
+            long[] bounds = parseRange(range, length);
+            start = (int) bounds[0];
+            end = (int) bounds[1];
+            statusCode = 206;
+            exchange.addHeader("content-range", "bytes " + start + "-" + end + "/" + length);
+        }
+        if (withContent) {
+            exchange.respond(statusCode, object.content, start, end - start + 1);
+        } else {
+            exchange.respondHeaders(statusCode, end - start + 1);
+        }
+    }
+
+    /**
+     * Parses a single byte range, as described in RFC 7233, section 2.1.
+     *
+     * @return the first and last byte of the range
+     */
+    private static long[] parseRange(String range, long length) {
+        String value = range.trim();
+        int separator = value.indexOf('-');
+        if (!value.startsWith("bytes=") || separator < 0 || value.indexOf(',') >= 0) {
+            throw invalidRange(range);
+        }
+        String first = value.substring("bytes=".length(), separator).trim();
+        String last = value.substring(separator + 1).trim();
+        try {
+            long start;
+            long end;
+            if (first.isEmpty()) {
+                long suffixLength = Long.parseLong(last);
+                if (suffixLength <= 0) {
+                    throw invalidRange(range);
+                }
+                start = Math.max(0, length - suffixLength);
+                end = length - 1;
+            } else {
+                start = Long.parseLong(first);
+                end = last.isEmpty() ? length - 1 : Math.min(Long.parseLong(last), length - 1);
+            }
+            if (start >= length || end < start) {
+                throw invalidRange(range);
+            }
+            return new long[] {start, end};
+        } catch (NumberFormatException e) {
+            throw invalidRange(range);
+        }
+    }
+
+    private void putObject(StandInExchange exchange, String key) throws IOException {
+        byte[] content = exchange.getBody();
+        String contentMd5 = base64(md5(content));
+        checkContentMd5(exchange, contentMd5);
+        StoredObject object =
+                new StoredObject(
+                        content,
+                        newEtag(),
+                        contentMd5,
+                        null,
+                        exchange.getHeader("content-type"),
+                        readMetadata(exchange),
+                        new Date());
+        store(exchange, key, object);
+
+        exchange.addHeader("opc-content-md5", contentMd5);
+        exchange.addHeader("ETag", object.etag);
+        exchange.addHeader("last-modified", StandInExchange.formatHttpDate(object.lastModified));
+        exchange.respond(200);
+    }
+
+    private void deleteObject(StandInExchange exchange, String key) throws IOException {
+        synchronized (objects) {
+            StoredObject object = objects.get(key);
+            if (object == null) {
+                throw new StandInException(404, "ObjectNotFound", "The object does not exist");
+            }
+            String ifMatch = exchange.getHeader("if-match");
+            if (ifMatch != null && !ifMatch.equals(object.etag)) {
+                throw preconditionFailed();
+            }
+            objects.remove(key);
+        }
+        exchange.respond(204);
+    }
+
+    private void listObjects(StandInExchange exchange, String namespaceName, String bucketName)
+            throws IOException {
+        String bucketKey = key(namespaceName, bucketName, "");
+        String prefix = getOrDefault(exchange.getQueryParameter("prefix"), "");
+        String start = exchange.getQueryParameter("start");
+        String end = exchange.getQueryParameter("end");
+        String delimiter = exchange.getQueryParameter("delimiter");
+        String limitParameter = exchange.getQueryParameter("limit");
+        String fieldsParameter = exchange.getQueryParameter("fields");
+        List<String> fields =
+                (fieldsParameter == null)
+                        ? Collections.<String>emptyList()
+                        : Arrays.asList(fieldsParameter.split(","));
+        int limit;
+        try {
+            limit =
+                    (limitParameter == null)
+                            ? DEFAULT_LIST_LIMIT
+                            : Integer.parseInt(limitParameter);
+        } catch (NumberFormatException e) {
+            throw new StandInException(400, "InvalidParameter", "Invalid limit: " + limitParameter);
+        }
+
+        String fromKey = bucketKey + prefix;
+        if (start != null && start.compareTo(prefix) > 0) {
+            fromKey = bucketKey + start;
+        }
+        NavigableMap<String, StoredObject> candidates = objects.tailMap(fromKey, true);
+        List<ObjectSummary> summaries = new ArrayList<>();
+        TreeSet<String> prefixes = new TreeSet<>();
+        String nextStartWith = null;
+        for (Map.Entry<String, StoredObject> entry : candidates.entrySet()) {
+            if (!entry.getKey().startsWith(bucketKey + prefix)) {
+                break;
+            }
+            String name = entry.getKey().substring(bucketKey.length());
+            if (end != null && name.compareTo(end) >= 0) {
+                break;
+            }
+            String commonPrefix = null;
+            if (delimiter != null && !delimiter.isEmpty()) {
+                int index = name.indexOf(delimiter, prefix.length());
+                if (index >= 0) {
+                    commonPrefix = name.substring(0, index + delimiter.length());
+                    if (prefixes.contains(commonPrefix)) {
+                        continue;
+                    }
+                }
+            }
+            if (summaries.size() + prefixes.size() >= limit) {
+                nextStartWith = name;
+                break;
+            }
+            if (commonPrefix != null) {
+                prefixes.add(commonPrefix);
+                continue;
+            }
+            StoredObject object = entry.getValue();
+            ObjectSummary.Builder summary = ObjectSummary.builder().name(name);
+            if (fields.contains("size")) {
+                summary.size((long) object.content.length);
+            }
+            if (fields.contains("md5")) {
+                summary.md5(object.contentMd5 != null ? object.contentMd5 : object.multipartMd5);
+            }
+            if (fields.contains("timeCreated")) {
+                summary.timeCreated(object.lastModified);
+            }
+            summaries.add(summary.build());
+        }
+
+        ListObjects.Builder result = ListObjects.builder().objects(summaries);
+        if (delimiter != null) {
+            result.prefixes(new ArrayList<>(prefixes));
+        }
+        if (nextStartWith != null) {
+            result.nextStartWith(nextStartWith);
+        }
+        exchange.respondJson(200, result.build());
+    }
+
+    private void createMultipartUpload(
+            StandInExchange exchange, String namespaceName, String bucketName)
+            throws IOException {
+        CreateMultipartUploadDetails details =
+                exchange.readBody(CreateMultipartUploadDetails.class);
+        if (details.getObject() == null || details.getObject().isEmpty()) {
+            throw new StandInException(400, "InvalidParameter", "The object name is required");
+        }
+        Map<String, String> metadata = new HashMap<>();
+        if (details.getMetadata() != null) {
+            for (Map.Entry<String, String> entry : details.getMetadata().entrySet()) {
+                String name = entry.getKey().toLowerCase(Locale.ROOT);
+                if (name.startsWith(METADATA_PREFIX)) {
+                    name = name.substring(METADATA_PREFIX.length());
+                }
+                metadata.put(name, entry.getValue());
+            }
+        }
+        MultipartUpload upload =
+                MultipartUpload.builder()
+                        .namespace(namespaceName)
+                        .bucket(bucketName)
+                        .object(details.getObject())
+                        .uploadId(UUID.randomUUID().toString())
+                        .timeCreated(new Date())
+                        .build();
+        uploads.put(
+                upload.getUploadId(),
+                new Upload(
+                        key(namespaceName, bucketName, details.getObject()),
+                        details.getContentType(),
+                        metadata));
+        exchange.respondJson(200, upload);
+    }
+
+    private void uploadPart(StandInExchange exchange, String key) throws IOException {
+        Upload upload = getUpload(exchange, key);
+        int partNumber;
+        try {
+            partNumber = Integer.parseInt(exchange.getQueryParameter("uploadPartNum"));
+        } catch (NumberFormatException e) {
+            partNumber = 0;
+        }
+        if (partNumber < 1 || partNumber > MAX_PART_NUMBER) {
+            throw new StandInException(
+                    400, "InvalidParameter", "The part number must be between 1 and 10000");
+        }
+        byte[] content = exchange.getBody();
+        byte[] md5 = md5(content);
+        checkContentMd5(exchange, base64(md5));
+        Part part = new Part(content, md5, newEtag());
+        upload.parts.put(partNumber, part);
+
+        exchange.addHeader("opc-content-md5", base64(md5));
+        exchange.addHeader("ETag", part.etag);
+        exchange.respond(200);
+    }
+
+    private void listParts(StandInExchange exchange, String key) throws IOException {
+        Upload upload = getUpload(exchange, key);
+        List<MultipartUploadPartSummary> summaries = new ArrayList<>();
+        for (Map.Entry<Integer, Part> entry : upload.parts.entrySet()) {
+            Part part = entry.getValue();
+            summaries.add(
+                    MultipartUploadPartSummary.builder()
+                            .partNumber(entry.getKey())
+                            .etag(part.etag)
+                            .md5(base64(part.md5))
+                            .size((long) part.content.length)
+                            .build());
+        }
+        exchange.respondJson(200, summaries);
+    }
+
+    private void commitMultipartUpload(StandInExchange exchange, String key) throws IOException {
+        Upload upload = getUpload(exchange, key);
+        CommitMultipartUploadDetails details =
+                exchange.readBody(CommitMultipartUploadDetails.class);
+        if (details.getPartsToCommit() == null || details.getPartsToCommit().isEmpty()) {
+            throw new StandInException(400, "InvalidParameter", "No parts to commit");
+        }
+        NavigableMap<Integer, Part> committed = new TreeMap<>();
+        for (CommitMultipartUploadPartDetails partDetails : details.getPartsToCommit()) {
+            Part part = upload.parts.get(partDetails.getPartNum());
+            if (part == null || !part.etag.equals(partDetails.getEtag())) {
+                throw new StandInException(
+                        400,
+                        "InvalidUploadPart",
+                        "Part " + partDetails.getPartNum() + " does not exist or has another ETag");
+            }
+            committed.put(partDetails.getPartNum(), part);
+        }
+
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        ByteArrayOutputStream partMd5s = new ByteArrayOutputStream();
+        for (Part part : committed.values()) {
+            content.write(part.content);
+            partMd5s.write(part.md5);
+        }
+        String multipartMd5 = base64(md5(partMd5s.toByteArray())) + "-" + committed.size();
+        StoredObject object =
+                new StoredObject(
+                        content.toByteArray(),
+                        newEtag(),
+                        null,
+                        multipartMd5,
+                        upload.contentType,
+                        upload.metadata,
+                        new Date());
+        store(exchange, key, object);
+        uploads.remove(exchange.getQueryParameter("uploadId"));
+
+        exchange.addHeader("opc-multipart-md5", multipartMd5);
+        exchange.addHeader("ETag", object.etag);
+        exchange.addHeader("last-modified", StandInExchange.formatHttpDate(object.lastModified));
+        exchange.respond(200);
+    }
+
+    private void abortMultipartUpload(StandInExchange exchange, String key) throws IOException {
+        getUpload(exchange, key);
+        uploads.remove(exchange.getQueryParameter("uploadId"));
+        exchange.respond(204);
+    }
+
+    private Upload getUpload(StandInExchange exchange, String key) {
+        String uploadId = exchange.getQueryParameter("uploadId");
+        Upload upload = (uploadId == null) ? null : uploads.get(uploadId);
+        if (upload == null || !upload.key.equals(key)) {
+            throw new StandInException(404, "NoSuchUpload", "The upload does not exist");
+        }
+        return upload;
+    }
+
+    /**
+     * Stores an object, if the if-match and if-none-match headers of the request allow it.
+     */
+    private void store(StandInExchange exchange, String key, StoredObject object) {
+        String ifMatch = exchange.getHeader("if-match");
+        String ifNoneMatch = exchange.getHeader("if-none-match");
+        synchronized (objects) {
+            StoredObject existing = objects.get(key);
+            if (ifMatch != null && (existing == null || !ifMatch.equals(existing.etag))) {
+                throw preconditionFailed();
+            }
+            if ("*".equals(ifNoneMatch) && existing != null) {
+                throw preconditionFailed();
+            }
+            objects.put(key, object);
+        }
+    }
+
+    private static void checkContentMd5(StandInExchange exchange, String contentMd5) {
+        String expected = exchange.getHeader("content-md5");
+        if (expected != null && !expected.equals(contentMd5)) {
+            throw new StandInException(
+                    400, "InvalidParameter", "The Content-MD5 header does not match the body");
+        }
+    }
+
+    private static Map<String, String> readMetadata(StandInExchange exchange) {
+        Map<String, String> metadata = new HashMap<>();
+        for (Map.Entry<String, List<String>> header : exchange.getRequestHeaders().entrySet()) {
+            String name = header.getKey().toLowerCase(Locale.ROOT);
+            if (name.startsWith(METADATA_PREFIX) && !header.getValue().isEmpty()) {
+                metadata.put(name.substring(METADATA_PREFIX.length()), header.getValue().get(0));
+            }
+        }
+        return metadata;
+    }
+
+    private static String key(String namespaceName, String bucketName, String objectName) {
+        return namespaceName + '\0' + bucketName + '\0' + objectName;
+    }
+
+    private static String newEtag() {
+        return UUID.randomUUID().toString();
+    }
+
+    private static byte[] md5(byte[] content) {
+        try {
+            return MessageDigest.getInstance("MD5").digest(content);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String base64(byte[] bytes) {
+        return Base64.getEncoder().encodeToString(bytes);
+    }
+
+    private static <T> T getOrDefault(T value, T defaultValue) {
+        return (value == null) ? defaultValue : value;
+    }
+
+    private static StandInException notFound() {
+        return new StandInException(
+                404, "NotAuthorizedOrNotFound", "Not supported by the stand-in, or not found");
+    }
+
+    private static StandInException preconditionFailed() {
+        return new StandInException(
+                412, "IfMatchFailed", "The if-match or if-none-match condition failed");
+    }
+
+    private static StandInException invalidRange(String range) {
+        return new StandInException(416, "InvalidRange", "Invalid range: " + range);
+    }
+
+    @RequiredArgsConstructor
+    private static class StoredObject {
+        private final byte[] content;
+        private final String etag;
+        private final String contentMd5;
+        private final String multipartMd5;
+        private final String contentType;
+        private final Map<String, String> metadata;
+        private final Date lastModified;
+    }
+
+    @RequiredArgsConstructor
+    private static class Upload {
+        private final String key;
+        private final String contentType;
+        private final Map<String, String> metadata;
+        private final ConcurrentNavigableMap<Integer, Part> parts = new ConcurrentSkipListMap<>();
+    }
+
+    @RequiredArgsConstructor
+    private static class Part {
+        private final byte[] content;
+        private final byte[] md5;
+        private final String etag;
+    }
+}
@@ -0,0 +1,21 @@
+/**
+ * Copyright (c) 2016, 2019, Oracle and/or its affiliates. All rights reserved.
+ */
+package com.oracle.bmc.standin;
+
+import java.io.IOException;
+
+/**
+ * Answers the requests for one service, after they were authenticated and the faults were
+ * injected.
+ */
+abstract class ServiceHandler {
+    /**
+     * Answers a request.
+     *
+     * @param exchange the request, and its response
+     * @throws IOException if the response cannot be sent
+     * @throws StandInException to answer with an error
+     */
+    abstract void handle(StandInExchange exchange) throws IOException;
+}
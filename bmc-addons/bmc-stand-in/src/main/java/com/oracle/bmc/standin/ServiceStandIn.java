@@ -0,0 +1,233 @@
+/**
+ * Copyright (c) 2016, 2019, Oracle and/or its affiliates. All rights reserved.
+ */
+package com.oracle.bmc.standin;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * An in-process stand-in for a subset of Object Storage, Streaming and Monitoring, to load test
+ * applications and the SDK itself without calling the services.
+ * <p>
+ * The stand-in listens on the loopback interface, and every service client can call it after
+ * setting its endpoint to {@link #getEndpoint()}:
+ *
+ * <pre>
+ * try (ServiceStandIn standIn = ServiceStandIn.start()) {
+ *     ObjectStorageClient client = new ObjectStorageClient(provider);
+ *     client.setEndpoint(standIn.getEndpoint());
+ *     ...
+ * }
+ * </pre>
+ *
+ * Requests must be signed by the SDK. The stand-in checks that the signature covers the date, the
+ * request target, the host and, if it is signed, the body; the signature itself is only verified
+ * if the {@link StandInConfiguration} has public keys.
+ * <p>
+ * Every request is then delayed, and may be throttled or failed, as configured by the
+ * {@link StandInConfiguration}. The configuration can be changed while the stand-in is running,
+ * for example to inject faults in the middle of a test.
+ * <p>
+ * Everything is stored in memory, and lost when the stand-in is closed.
+ */
+@Slf4j
+public class ServiceStandIn implements AutoCloseable {
+    private static final ServiceHandler NOT_FOUND =
+            new ServiceHandler() {
+                @Override
+                void handle(StandInExchange exchange) {
+                    throw new StandInException(
+                            404,
+                            "NotAuthorizedOrNotFound",
+                            "Not supported by the stand-in, or not found");
+                }
+            };
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final StandInStatistics statistics = new StandInStatistics();
+    private final ObjectStorageStandIn objectStorage = new ObjectStorageStandIn();
+    private final StreamingStandIn streaming = new StreamingStandIn();
+    private final MonitoringStandIn monitoring = new MonitoringStandIn();
+    private volatile StandInConfiguration configuration;
+
+    private ServiceStandIn(StandInConfiguration configuration) throws IOException {
+        this.configuration = configuration;
+        this.server =
+                HttpServer.create(
+                        new InetSocketAddress(InetAddress.getLoopbackAddress(), 0),
+                        configuration.getBacklog());
+        this.executor =
+                Executors.newCachedThreadPool(
+                        new ThreadFactoryBuilder()
+                                .setDaemon(true)
+                                .setNameFormat("bmc-stand-in-%d")
+                                .build());
+        server.createContext("/", new StandInHandler(NOT_FOUND));
+        server.createContext("/n", new StandInHandler(objectStorage));
+        server.createContext("/20180418/streams", new StandInHandler(streaming));
+        server.createContext("/20180401/metrics", new StandInHandler(monitoring));
+        server.setExecutor(executor);
+    }
+
+    /**
+     * Starts a stand-in without latency or faults, which does not verify signatures.
+     *
+     * @return the running stand-in
+     * @throws IOException if the stand-in cannot listen
+     */
+    public static ServiceStandIn start() throws IOException {
+        return start(StandInConfiguration.builder().build());
+    }
+
+    /**
+     * Starts a stand-in.
+     *
+     * @param configuration the latency, faults and keys
+     * @return the running stand-in
+     * @throws IOException if the stand-in cannot listen
+     */
+    public static ServiceStandIn start(StandInConfiguration configuration) throws IOException {
+        ServiceStandIn standIn = new ServiceStandIn(configuration);
+        standIn.server.start();
+        LOG.debug("Started service stand-in at {}", standIn.getEndpoint());
+        return standIn;
+    }
+
+    /**
+     * @return the endpoint to set on the service clients
+     */
+    public String getEndpoint() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public StandInConfiguration getConfiguration() {
+        return configuration;
+    }
+
+    /**
+     * Changes the latency, faults and keys, for the requests received from now on.
+     */
+    public void setConfiguration(StandInConfiguration configuration) {
+        this.configuration = configuration;
+    }
+
+    public StandInStatistics getStatistics() {
+        return statistics;
+    }
+
+    public ObjectStorageStandIn getObjectStorage() {
+        return objectStorage;
+    }
+
+    public StreamingStandIn getStreaming() {
+        return streaming;
+    }
+
+    public MonitoringStandIn getMonitoring() {
+        return monitoring;
+    }
+
+    /**
+     * Stops the stand-in, without waiting for the requests in progress.
+     */
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+        LOG.debug("Stopped service stand-in");
+    }
+
+    private class StandInHandler implements HttpHandler {
+        private final ServiceHandler serviceHandler;
+
+        private StandInHandler(ServiceHandler serviceHandler) {
+            this.serviceHandler = serviceHandler;
+        }
+
+        @Override
+        public void handle(HttpExchange httpExchange) throws IOException {
+            statistics.recordRequest();
+            try {
+                StandInExchange exchange;
+                try {
+                    exchange = StandInExchange.read(httpExchange);
+                } catch (StandInException e) {
+                    httpExchange.sendResponseHeaders(e.getStatusCode(), -1);
+                    return;
+                }
+                handle(exchange, configuration);
+            } finally {
+                httpExchange.close();
+            }
+        }
+
+        private void handle(StandInExchange exchange, StandInConfiguration configuration)
+                throws IOException {
+            try {
+                delay(configuration);
+                try {
+                    SignatureVerifier.verify(exchange, configuration.getPublicKeySupplier());
+                } catch (StandInException e) {
+                    statistics.recordRejected();
+                    throw e;
+                }
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                if (random.nextDouble() < configuration.getThrottleRate()) {
+                    statistics.recordThrottled();
+                    if (configuration.getRetryAfterSeconds() != null) {
+                        exchange.addHeader(
+                                "Retry-After",
+                                String.valueOf(configuration.getRetryAfterSeconds()));
+                    }
+                    throw new StandInException(429, "TooManyRequests", "Too many requests");
+                }
+                if (random.nextDouble() < configuration.getErrorRate()) {
+                    statistics.recordFailed();
+                    throw new StandInException(
+                            500, "InternalServerError", "Injected internal server error");
+                }
+                serviceHandler.handle(exchange);
+            } catch (StandInException e) {
+                exchange.respondError(e.getStatusCode(), e.getServiceCode(), e.getMessage());
+            } catch (RuntimeException e) {
+                LOG.warn(
+                        "Failed to handle {} {}",
+                        exchange.getMethod(),
+                        exchange.getRequestUri(),
+                        e);
+                if (!exchange.hasResponded()) {
+                    exchange.respondError(500, "InternalServerError", "Internal server error");
+                }
+            }
+        }
+
+        private void delay(StandInConfiguration configuration) {
+            long delayMillis = configuration.getLatencyMillis();
+            if (configuration.getLatencyJitterMillis() > 0) {
+                delayMillis +=
+                        ThreadLocalRandom.current()
+                                .nextLong(configuration.getLatencyJitterMillis() + 1);
+            }
+            if (delayMillis > 0) {
+                try {
+                    Thread.sleep(delayMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+}
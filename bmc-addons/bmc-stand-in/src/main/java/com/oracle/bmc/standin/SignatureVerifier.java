@@ -0,0 +1,172 @@
+/**
+ * Copyright (c) 2016, 2019, Oracle and/or its affiliates. All rights reserved.
+ */
+package com.oracle.bmc.standin;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.Signature;
+import java.security.interfaces.RSAPublicKey;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.google.common.base.Optional;
+import com.oracle.bmc.http.signing.internal.KeySupplier;
+
+/**
+ * Authenticates requests signed the way the SDK signs them: with an Authorization header
+ * following the HTTP signatures draft, which signs at least the date, the request target and the
+ * host, and the body with x-content-sha256 if it is signed.
+ */
+class SignatureVerifier {
+    private static final long MAX_CLOCK_SKEW_MILLIS = TimeUnit.MINUTES.toMillis(5);
+    private static final Pattern PARAMETER = Pattern.compile("(\\w+)=\"([^\"]*)\"");
+    private static final List<String> REQUIRED_HEADERS =
+            Arrays.asList("date", "(request-target)", "host");
+
+    private SignatureVerifier() {}
+
+    /**
+     * Authenticates a request.
+     *
+     * @param exchange the request
+     * @param publicKeySupplier the keys to verify the signature with, or null to only check that
+     *            the request is signed
+     * @throws StandInException with 401 (NotAuthenticated) if the request is not authenticated
+     */
+    static void verify(StandInExchange exchange, KeySupplier<RSAPublicKey> publicKeySupplier) {
+        String authorization = exchange.getHeader("authorization");
+        if (authorization == null || !authorization.startsWith("Signature ")) {
+            throw notAuthenticated("The request is not signed");
+        }
+        Map<String, String> parameters = new HashMap<>();
+        Matcher matcher = PARAMETER.matcher(authorization);
+        while (matcher.find()) {
+            parameters.put(matcher.group(1), matcher.group(2));
+        }
+        String keyId = parameters.get("keyId");
+        String signature = parameters.get("signature");
+        if (keyId == null
+                || signature == null
+                || !"rsa-sha256".equals(parameters.get("algorithm"))) {
+            throw notAuthenticated("The Authorization header is invalid");
+        }
+        List<String> signedHeaders =
+                Arrays.asList(
+                        parameters.containsKey("headers")
+                                ? parameters.get("headers").toLowerCase(Locale.ROOT).split(" ")
+                                : new String[] {"date"});
+        if (!signedHeaders.containsAll(REQUIRED_HEADERS)) {
+            throw notAuthenticated("The signature must include " + REQUIRED_HEADERS);
+        }
+
+        verifyDate(exchange.getHeader("date"));
+        if (signedHeaders.contains("x-content-sha256")) {
+            verifyBodyHash(exchange);
+        }
+        if (publicKeySupplier != null) {
+            Optional<RSAPublicKey> key = publicKeySupplier.getKey(keyId);
+            if (!key.isPresent()) {
+                throw notAuthenticated("Unknown key " + keyId);
+            }
+            verifySignature(
+                    key.get(),
+                    createSigningString(exchange, signedHeaders),
+                    Base64.getDecoder().decode(signature));
+        }
+    }
+
+    private static void verifyDate(String date) {
+        long dateMillis;
+        try {
+            dateMillis =
+                    ZonedDateTime.parse(date, DateTimeFormatter.RFC_1123_DATE_TIME)
+                            .toInstant()
+                            .toEpochMilli();
+        } catch (DateTimeParseException | NullPointerException e) {
+            throw notAuthenticated("The date header is invalid: " + date);
+        }
+        if (Math.abs(System.currentTimeMillis() - dateMillis) > MAX_CLOCK_SKEW_MILLIS) {
+            throw notAuthenticated("The date header is too far from the current time: " + date);
+        }
+    }
+
+    private static void verifyBodyHash(StandInExchange exchange) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(exchange.getBody());
+            if (!Base64.getEncoder()
+                    .encodeToString(hash)
+                    .equals(exchange.getHeader("x-content-sha256"))) {
+                throw notAuthenticated("The x-content-sha256 header does not match the body");
+            }
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String createSigningString(
+            StandInExchange exchange, List<String> signedHeaders) {
+        StringBuilder builder = new StringBuilder();
+        for (String header : signedHeaders) {
+            if (builder.length() > 0) {
+                builder.append('\n');
+            }
+            builder.append(header).append(": ");
+            if ("(request-target)".equals(header)) {
+                builder.append(exchange.getMethod().toLowerCase(Locale.ROOT))
+                        .append(' ')
+                        .append(exchange.getRequestUri().getRawPath());
+                String query = exchange.getRequestUri().getRawQuery();
+                if (query != null && !query.trim().isEmpty()) {
+                    builder.append('?').append(query);
+                }
+            } else if ("host".equals(header)) {
+                // the SDK signs the host without the port, the connection may send it with
+                builder.append(stripPort(exchange.getHeader(header)));
+            } else {
+                String value = exchange.getHeader(header);
+                if (value == null) {
+                    throw notAuthenticated("The signed header " + header + " is missing");
+                }
+                builder.append(value);
+            }
+        }
+        return builder.toString();
+    }
+
+    private static String stripPort(String host) {
+        if (host == null) {
+            throw notAuthenticated("The host header is missing");
+        }
+        int portSeparator = host.lastIndexOf(':');
+        return (portSeparator > host.lastIndexOf(']')) ? host.substring(0, portSeparator) : host;
+    }
+
+    private static void verifySignature(RSAPublicKey key, String signingString, byte[] signature) {
+        try {
+            Signature verifier = Signature.getInstance("SHA256withRSA");
+            verifier.initVerify(key);
+            verifier.update(signingString.getBytes(StandardCharsets.UTF_8));
+            if (!verifier.verify(signature)) {
+                throw notAuthenticated("The signature is invalid");
+            }
+        } catch (GeneralSecurityException e) {
+            throw notAuthenticated("The signature cannot be verified: " + e.getMessage());
+        }
+    }
+
+    private static StandInException notAuthenticated(String message) {
+        return new StandInException(401, "NotAuthenticated", message);
+    }
+}
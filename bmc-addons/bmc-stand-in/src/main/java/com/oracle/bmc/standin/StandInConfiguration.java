@@ -0,0 +1,92 @@
+/**
+ * Copyright (c) 2016, 2019, Oracle and/or its affiliates. All rights reserved.
+ */
+package com.oracle.bmc.standin;
+
+import java.security.interfaces.RSAPublicKey;
+
+import com.google.common.base.Preconditions;
+import com.oracle.bmc.http.signing.internal.KeySupplier;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * The latency and faults injected by a {@link ServiceStandIn}, and how it authenticates requests.
+ * <p>
+ * Faults are injected independently for every request: a request is throttled with the
+ * probability {@link #getThrottleRate()}, and otherwise fails with the probability
+ * {@link #getErrorRate()}. Throttled and failed requests are delayed like any other.
+ */
+@Getter
+@ToString
+public class StandInConfiguration {
+    private static final int DEFAULT_BACKLOG = 1024;
+
+    /**
+     * The time every request is delayed before it is answered, in millis. Default is 0.
+     */
+    private final long latencyMillis;
+    /**
+     * The max additional time a request is delayed, chosen uniformly for every request, in
+     * millis. Default is 0.
+     */
+    private final long latencyJitterMillis;
+    /**
+     * The fraction of requests answered with 500 (InternalServerError). Default is 0.
+     */
+    private final double errorRate;
+    /**
+     * The fraction of requests answered with 429 (TooManyRequests). Default is 0.
+     */
+    private final double throttleRate;
+    /**
+     * The value of the Retry-After header of throttled requests in seconds, or null to not send
+     * the header. Default is null.
+     */
+    private final Integer retryAfterSeconds;
+    /**
+     * The public keys to verify request signatures with, by key id, or null to only check that
+     * requests are signed, without verifying the signatures. Default is null.
+     */
+    private final KeySupplier<RSAPublicKey> publicKeySupplier;
+    /**
+     * The max number of connections waiting to be accepted. The system default (about 50) refuses
+     * or delays connections when a load test opens many at once. Only used when the stand-in is
+     * started. Default is 1024.
+     */
+    private final int backlog;
+
+    // Explicit @Builder on constructor so we can enforce default values.
+    @Builder
+    private StandInConfiguration(
+            Long latencyMillis,
+            Long latencyJitterMillis,
+            Double errorRate,
+            Double throttleRate,
+            Integer retryAfterSeconds,
+            KeySupplier<RSAPublicKey> publicKeySupplier,
+            Integer backlog) {
+        this.latencyMillis = getOrDefault(latencyMillis, 0L);
+        this.latencyJitterMillis = getOrDefault(latencyJitterMillis, 0L);
+        this.errorRate = getOrDefault(errorRate, 0.0);
+        this.throttleRate = getOrDefault(throttleRate, 0.0);
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.publicKeySupplier = publicKeySupplier;
+        this.backlog = getOrDefault(backlog, DEFAULT_BACKLOG);
+        Preconditions.checkArgument(
+                this.latencyMillis >= 0 && this.latencyJitterMillis >= 0,
+                "Latency must not be negative");
+        Preconditions.checkArgument(
+                this.errorRate >= 0 && this.errorRate <= 1, "Error rate must be between 0 and 1");
+        Preconditions.checkArgument(
+                this.throttleRate >= 0 && this.throttleRate <= 1,
+                "Throttle rate must be between 0 and 1");
+        Preconditions.checkArgument(this.backlog > 0, "Backlog must be positive");
+    }
+
+    private static <T> T getOrDefault(T value, T defaultValue) {
+        return (value == null) ? defaultValue : value;
+    }
+}
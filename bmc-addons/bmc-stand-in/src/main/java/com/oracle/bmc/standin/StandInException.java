@@ -0,0 +1,22 @@
+/**
+ * Copyright (c) 2016, 2019, Oracle and/or its affiliates. All rights reserved.
+ */
+package com.oracle.bmc.standin;
+
+import lombok.Getter;
+
+/**
+ * Thrown by the stand-in services to answer a request with an error, in the format of the
+ * services: a status code, and a JSON body with a service code and a message.
+ */
+@Getter
+class StandInException extends RuntimeException {
+    private final int statusCode;
+    private final String serviceCode;
+
+    StandInException(int statusCode, String serviceCode, String message) {
+        super(message);
+        this.statusCode = statusCode;
+        this.serviceCode = serviceCode;
+    }
+}
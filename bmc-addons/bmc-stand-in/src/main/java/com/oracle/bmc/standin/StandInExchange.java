@@ -0,0 +1,247 @@
+/**
+ * Copyright (c) 2016, 2019, Oracle and/or its affiliates. All rights reserved.
+ */
+package com.oracle.bmc.standin;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.io.ByteStreams;
+import com.oracle.bmc.http.internal.RestClientFactory;
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+
+/**
+ * A request to the stand-in, with its body read completely, and helpers to answer it the way the
+ * services do.
+ */
+class StandInExchange {
+    private static final DateTimeFormatter HTTP_DATE_FORMAT =
+            DateTimeFormatter.ofPattern("EEE, dd MMM yyyy HH:mm:ss 'GMT'", Locale.US)
+                    .withZone(ZoneOffset.UTC);
+
+    private final HttpExchange exchange;
+    private final byte[] body;
+    private final List<String> pathSegments;
+    private final Map<String, String> queryParameters;
+    private boolean responded = false;
+
+    private StandInExchange(HttpExchange exchange, byte[] body) {
+        this.exchange = exchange;
+        this.body = body;
+        URI uri = exchange.getRequestURI();
+        this.pathSegments = decodePath(uri.getRawPath());
+        this.queryParameters = decodeQuery(uri.getRawQuery());
+
+        String clientRequestId = getHeader("opc-client-request-id");
+        if (clientRequestId != null) {
+            exchange.getResponseHeaders().add("opc-client-request-id", clientRequestId);
+        }
+        exchange.getResponseHeaders()
+                .add("opc-request-id", UUID.randomUUID().toString().replace("-", ""));
+    }
+
+    /**
+     * Reads the request of an exchange.
+     *
+     * @param exchange the exchange
+     * @return the request
+     * @throws IOException if the body cannot be read
+     */
+    static StandInExchange read(HttpExchange exchange) throws IOException {
+        try (InputStream is = exchange.getRequestBody()) {
+            return new StandInExchange(exchange, ByteStreams.toByteArray(is));
+        }
+    }
+
+    /**
+     * Formats a date for the Date and Last-Modified headers.
+     */
+    static String formatHttpDate(Date date) {
+        return HTTP_DATE_FORMAT.format(date.toInstant());
+    }
+
+    String getMethod() {
+        return exchange.getRequestMethod();
+    }
+
+    URI getRequestUri() {
+        return exchange.getRequestURI();
+    }
+
+    /**
+     * @return the decoded segments of the path, without empty segments
+     */
+    List<String> getPathSegments() {
+        return pathSegments;
+    }
+
+    /**
+     * @return the decoded value of a query parameter, or null if it is missing
+     */
+    String getQueryParameter(String name) {
+        return queryParameters.get(name);
+    }
+
+    /**
+     * @return the first value of a request header (case-insensitive), or null if it is missing
+     */
+    String getHeader(String name) {
+        return exchange.getRequestHeaders().getFirst(name);
+    }
+
+    Headers getRequestHeaders() {
+        return exchange.getRequestHeaders();
+    }
+
+    byte[] getBody() {
+        return body;
+    }
+
+    /**
+     * Parses the JSON body of the request.
+     *
+     * @throws StandInException if the body is not a valid instance of the type
+     */
+    <T> T readBody(Class<T> type) throws IOException {
+        try {
+            return RestClientFactory.getObjectMapper().readValue(body, type);
+        } catch (JsonProcessingException e) {
+            throw new StandInException(
+                    400, "InvalidParameter", "The request body is invalid: " + e.getMessage());
+        }
+    }
+
+    void addHeader(String name, String value) {
+        exchange.getResponseHeaders().add(name, value);
+    }
+
+    boolean hasResponded() {
+        return responded;
+    }
+
+    /**
+     * Answers without a body.
+     */
+    void respond(int statusCode) throws IOException {
+        responded = true;
+        exchange.sendResponseHeaders(statusCode, -1);
+    }
+
+    /**
+     * Answers with the headers of a body, but without the body (for HEAD requests).
+     */
+    void respondHeaders(int statusCode, long contentLength) throws IOException {
+        addHeader("Content-Length", String.valueOf(contentLength));
+        respond(statusCode);
+    }
+
+    /**
+     * Answers with a part of a byte array.
+     */
+    void respond(int statusCode, byte[] content, int offset, int length) throws IOException {
+        responded = true;
+        exchange.sendResponseHeaders(statusCode, length == 0 ? -1 : length);
+        if (length > 0) {
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(content, offset, length);
+            }
+        }
+    }
+
+    /**
+     * Answers with a model serialized to JSON.
+     */
+    void respondJson(int statusCode, Object value) throws IOException {
+        byte[] json = RestClientFactory.getObjectMapper().writeValueAsBytes(value);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        respond(statusCode, json, 0, json.length);
+    }
+
+    /**
+     * Answers with an error, in the format of the services.
+     */
+    void respondError(int statusCode, String serviceCode, String message) throws IOException {
+        respondJson(statusCode, ImmutableMap.of("code", serviceCode, "message", message));
+    }
+
+    private static List<String> decodePath(String rawPath) {
+        List<String> segments = new ArrayList<>();
+        for (String segment : rawPath.split("/")) {
+            if (!segment.isEmpty()) {
+                segments.add(percentDecode(segment));
+            }
+        }
+        return Collections.unmodifiableList(segments);
+    }
+
+    private static Map<String, String> decodeQuery(String rawQuery) {
+        Map<String, String> parameters = new HashMap<>();
+        if (rawQuery == null) {
+            return parameters;
+        }
+        for (String parameter : rawQuery.split("&")) {
+            int separator = parameter.indexOf('=');
+            try {
+                String name =
+                        URLDecoder.decode(
+                                separator < 0 ? parameter : parameter.substring(0, separator),
+                                "UTF-8");
+                String value =
+                        separator < 0
+                                ? ""
+                                : URLDecoder.decode(parameter.substring(separator + 1), "UTF-8");
+                if (!parameters.containsKey(name)) {
+                    parameters.put(name, value);
+                }
+            } catch (UnsupportedEncodingException | IllegalArgumentException e) {
+                throw new StandInException(
+                        400, "InvalidParameter", "Invalid query parameter: " + parameter);
+            }
+        }
+        return parameters;
+    }
+
+    /**
+     * Decodes a path segment. Unlike {@link URLDecoder}, a plus sign is not a space in a path.
+     */
+    private static String percentDecode(String segment) {
+        if (segment.indexOf('%') < 0) {
+            return segment;
+        }
+        // the raw path of a URI only has ASCII characters
+        ByteArrayOutputStream decoded = new ByteArrayOutputStream(segment.length());
+        try {
+            for (int i = 0; i < segment.length(); i++) {
+                char c = segment.charAt(i);
+                if (c == '%') {
+                    decoded.write(Integer.parseInt(segment.substring(i + 1, i + 3), 16));
+                    i += 2;
+                } else {
+                    decoded.write(c);
+                }
+            }
+        } catch (IndexOutOfBoundsException | NumberFormatException e) {
+            throw new StandInException(400, "InvalidParameter", "Invalid path: " + segment);
+        }
+        return new String(decoded.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
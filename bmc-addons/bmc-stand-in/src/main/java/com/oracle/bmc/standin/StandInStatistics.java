@@ -0,0 +1,63 @@
+/**
+ * Copyright (c) 2016, 2019, Oracle and/or its affiliates. All rights reserved.
+ */
+package com.oracle.bmc.standin;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts of the requests answered by a {@link ServiceStandIn}.
+ */
+public class StandInStatistics {
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong throttled = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    StandInStatistics() {}
+
+    /**
+     * @return the number of requests received
+     */
+    public long getRequestCount() {
+        return requests.get();
+    }
+
+    /**
+     * @return the number of requests rejected with 401, because they were not signed, or their
+     *         signature could not be verified
+     */
+    public long getRejectedCount() {
+        return rejected.get();
+    }
+
+    /**
+     * @return the number of requests throttled by fault injection
+     */
+    public long getThrottledCount() {
+        return throttled.get();
+    }
+
+    /**
+     * @return the number of requests failed by fault injection
+     */
+    public long getFailedCount() {
+        return failed.get();
+    }
+
+    void recordRequest() {
+        requests.incrementAndGet();
+    }
+
+    void recordRejected() {
+        rejected.incrementAndGet();
+    }
+
+    void recordThrottled() {
+        throttled.incrementAndGet();
+    }
+
+    void recordFailed() {
+        failed.incrementAndGet();
+    }
+}
@@ -0,0 +1,231 @@
+/**
+ * Copyright (c) 2016, 2019, Oracle and/or its affiliates. All rights reserved.
+ */
+package com.oracle.bmc.standin;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.oracle.bmc.streaming.model.CreateCursorDetails;
+import com.oracle.bmc.streaming.model.Cursor;
+import com.oracle.bmc.streaming.model.Message;
+import com.oracle.bmc.streaming.model.PutMessagesDetails;
+import com.oracle.bmc.streaming.model.PutMessagesDetailsEntry;
+import com.oracle.bmc.streaming.model.PutMessagesResult;
+import com.oracle.bmc.streaming.model.PutMessagesResultEntry;
+
+/**
+ * Stand-in for the message operations of Streaming.
+ * <p>
+ * Supported: PutMessages, CreateCursor and GetMessages. Every stream exists, and has a single
+ * partition, "0". Messages are never trimmed.
+ */
+public class StreamingStandIn extends ServiceHandler {
+    /**
+     * The partition of all messages.
+     */
+    public static final String PARTITION = "0";
+
+    private static final int MAX_GET_LIMIT = 10000;
+
+    private final ConcurrentMap<String, List<Message>> streams = new ConcurrentHashMap<>();
+
+    StreamingStandIn() {}
+
+    /**
+     * @return the number of messages put to a stream
+     */
+    public int getMessageCount(String streamId) {
+        List<Message> messages = streams.get(streamId);
+        if (messages == null) {
+            return 0;
+        }
+        synchronized (messages) {
+            return messages.size();
+        }
+    }
+
+    /**
+     * Deletes all messages, of all streams.
+     */
+    public void clear() {
+        streams.clear();
+    }
+
+    @Override
+    void handle(StandInExchange exchange) throws IOException {
+        List<String> path = exchange.getPathSegments();
+        String method = exchange.getMethod();
+        if (path.size() != 4 || !"streams".equals(path.get(1))) {
+            throw notFound();
+        }
+        if ("messages".equals(path.get(3))) {
+            if ("POST".equals(method)) {
+                putMessages(exchange, path.get(2));
+                return;
+            }
+            if ("GET".equals(method)) {
+                getMessages(exchange, path.get(2));
+                return;
+            }
+        }
+        if ("cursors".equals(path.get(3)) && "POST".equals(method)) {
+            createCursor(exchange, path.get(2));
+            return;
+        }
+        throw notFound();
+    }
+
+    private void putMessages(StandInExchange exchange, String streamId) throws IOException {
+        PutMessagesDetails details = exchange.readBody(PutMessagesDetails.class);
+        if (details.getMessages() == null || details.getMessages().isEmpty()) {
+            throw new StandInException(400, "InvalidParameter", "No messages to put");
+        }
+        List<Message> messages = getStream(streamId);
+        List<PutMessagesResultEntry> entries = new ArrayList<>();
+        Date timestamp = new Date();
+        synchronized (messages) {
+            for (PutMessagesDetailsEntry entry : details.getMessages()) {
+                long offset = messages.size();
+                messages.add(
+                        Message.builder()
+                                .stream(streamId)
+                                .partition(PARTITION)
+                                .key(entry.getKey())
+                                .value(entry.getValue())
+                                .offset(offset)
+                                .timestamp(timestamp)
+                                .build());
+                entries.add(
+                        PutMessagesResultEntry.builder()
+                                .partition(PARTITION)
+                                .offset(offset)
+                                .timestamp(timestamp)
+                                .build());
+            }
+        }
+        exchange.respondJson(
+                200, PutMessagesResult.builder().failures(0).entries(entries).build());
+    }
+
+    private void createCursor(StandInExchange exchange, String streamId) throws IOException {
+        CreateCursorDetails details = exchange.readBody(CreateCursorDetails.class);
+        if (details.getType() == null) {
+            throw new StandInException(400, "InvalidParameter", "The cursor type is required");
+        }
+        if (details.getPartition() != null && !PARTITION.equals(details.getPartition())) {
+            throw new StandInException(
+                    400, "InvalidParameter", "The stand-in only has partition " + PARTITION);
+        }
+        List<Message> messages = getStream(streamId);
+        long offset;
+        synchronized (messages) {
+            switch (details.getType()) {
+                case TrimHorizon:
+                    offset = 0;
+                    break;
+                case Latest:
+                    offset = messages.size();
+                    break;
+                case AtOffset:
+                    offset = requireOffset(details);
+                    break;
+                case AfterOffset:
+                    offset = requireOffset(details) + 1;
+                    break;
+                case AtTime:
+                    if (details.getTime() == null) {
+                        throw new StandInException(
+                                400, "InvalidParameter", "The time is required");
+                    }
+                    offset = messages.size();
+                    for (Message message : messages) {
+                        if (!message.getTimestamp().before(details.getTime())) {
+                            offset = message.getOffset();
+                            break;
+                        }
+                    }
+                    break;
+                default:
+                    throw new StandInException(
+                            400,
+                            "InvalidParameter",
+                            "Unsupported cursor type " + details.getType());
+            }
+        }
+        exchange.respondJson(200, Cursor.builder().value(encodeCursor(streamId, offset)).build());
+    }
+
+    private void getMessages(StandInExchange exchange, String streamId) throws IOException {
+        long offset = decodeCursor(streamId, exchange.getQueryParameter("cursor"));
+        String limitParameter = exchange.getQueryParameter("limit");
+        int limit;
+        try {
+            limit = (limitParameter == null) ? MAX_GET_LIMIT : Integer.parseInt(limitParameter);
+        } catch (NumberFormatException e) {
+            throw new StandInException(400, "InvalidParameter", "Invalid limit: " + limitParameter);
+        }
+        if (limit < 1 || limit > MAX_GET_LIMIT) {
+            throw new StandInException(
+                    400, "InvalidParameter", "The limit must be between 1 and " + MAX_GET_LIMIT);
+        }
+        List<Message> messages = getStream(streamId);
+        List<Message> result;
+        synchronized (messages) {
+            int from = (int) Math.min(offset, messages.size());
+            int to = Math.min(from + limit, messages.size());
+            result = new ArrayList<>(messages.subList(from, to));
+        }
+        exchange.addHeader("opc-next-cursor", encodeCursor(streamId, offset + result.size()));
+        exchange.respondJson(200, result);
+    }
+
+    private List<Message> getStream(String streamId) {
+        List<Message> messages = streams.get(streamId);
+        if (messages == null) {
+            streams.putIfAbsent(streamId, new ArrayList<Message>());
+            messages = streams.get(streamId);
+        }
+        return messages;
+    }
+
+    private static long requireOffset(CreateCursorDetails details) {
+        if (details.getOffset() == null || details.getOffset() < 0) {
+            throw new StandInException(400, "InvalidParameter", "A valid offset is required");
+        }
+        return details.getOffset();
+    }
+
+    private static StandInException notFound() {
+        return new StandInException(
+                404, "NotAuthorizedOrNotFound", "Not supported by the stand-in, or not found");
+    }
+
+    private static String encodeCursor(String streamId, long offset) {
+        return Base64.getUrlEncoder()
+                .encodeToString((streamId + ':' + offset).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static long decodeCursor(String streamId, String cursor) {
+        if (cursor == null) {
+            throw new StandInException(400, "InvalidParameter", "The cursor is required");
+        }
+        try {
+            String value =
+                    new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = value.lastIndexOf(':');
+            if (separator < 0 || !value.substring(0, separator).equals(streamId)) {
+                throw new StandInException(400, "InvalidParameter", "Invalid cursor: " + cursor);
+            }
+            return Long.parseLong(value.substring(separator + 1));
+        } catch (IllegalArgumentException e) {
+            throw new StandInException(400, "InvalidParameter", "Invalid cursor: " + cursor);
+        }
+    }
+}
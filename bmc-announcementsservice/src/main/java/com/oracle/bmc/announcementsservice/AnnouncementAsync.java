@@ -52,6 +52,24 @@ public interface AnnouncementAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<GetAnnouncementRequest, GetAnnouncementResponse>
                     handler);
 
+    /**
+     * Gets the details of a specific announcement.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetAnnouncementResponse> getAnnouncement(
+            GetAnnouncementRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetAnnouncementRequest, GetAnnouncementResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getAnnouncement(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets information about whether a specific announcement was acknowledged by a user.
      *
@@ -69,6 +87,24 @@ public interface AnnouncementAsync extends AutoCloseable {
                             GetAnnouncementUserStatusRequest, GetAnnouncementUserStatusResponse>
                     handler);
 
+    /**
+     * Gets information about whether a specific announcement was acknowledged by a user.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetAnnouncementUserStatusResponse>
+            getAnnouncementUserStatus(GetAnnouncementUserStatusRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetAnnouncementUserStatusRequest, GetAnnouncementUserStatusResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getAnnouncementUserStatus(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets a list of announcements for the current tenancy.
      *
@@ -86,6 +122,24 @@ public interface AnnouncementAsync extends AutoCloseable {
                             ListAnnouncementsRequest, ListAnnouncementsResponse>
                     handler);
 
+    /**
+     * Gets a list of announcements for the current tenancy.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListAnnouncementsResponse> listAnnouncements(
+            ListAnnouncementsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListAnnouncementsRequest, ListAnnouncementsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listAnnouncements(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Updates the status of the specified announcement with regard to whether it has been marked as read.
      *
@@ -103,4 +157,22 @@ public interface AnnouncementAsync extends AutoCloseable {
                             UpdateAnnouncementUserStatusRequest,
                             UpdateAnnouncementUserStatusResponse>
                     handler);
+
+    /**
+     * Updates the status of the specified announcement with regard to whether it has been marked as read.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateAnnouncementUserStatusResponse>
+            updateAnnouncementUserStatus(UpdateAnnouncementUserStatusRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateAnnouncementUserStatusRequest, UpdateAnnouncementUserStatusResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateAnnouncementUserStatus(request, handler);
+        return handler.getStage();
+    }
 }
@@ -375,6 +375,30 @@ public class AnnouncementAsyncClient implements AnnouncementAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetAnnouncementResponse> getAnnouncement(
+            final GetAnnouncementRequest request) {
+        LOG.trace("Called async getAnnouncement");
+        final GetAnnouncementRequest interceptedRequest =
+                GetAnnouncementConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetAnnouncementConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetAnnouncementResponse>
+                transformer = GetAnnouncementConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetAnnouncementUserStatusResponse> getAnnouncementUserStatus(
             final GetAnnouncementUserStatusRequest request,
@@ -451,6 +475,31 @@ public class AnnouncementAsyncClient implements AnnouncementAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetAnnouncementUserStatusResponse>
+            getAnnouncementUserStatus(final GetAnnouncementUserStatusRequest request) {
+        LOG.trace("Called async getAnnouncementUserStatus");
+        final GetAnnouncementUserStatusRequest interceptedRequest =
+                GetAnnouncementUserStatusConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetAnnouncementUserStatusConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, GetAnnouncementUserStatusResponse>
+                transformer = GetAnnouncementUserStatusConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListAnnouncementsResponse> listAnnouncements(
             final ListAnnouncementsRequest request,
@@ -525,6 +574,30 @@ public class AnnouncementAsyncClient implements AnnouncementAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListAnnouncementsResponse> listAnnouncements(
+            final ListAnnouncementsRequest request) {
+        LOG.trace("Called async listAnnouncements");
+        final ListAnnouncementsRequest interceptedRequest =
+                ListAnnouncementsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListAnnouncementsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListAnnouncementsResponse>
+                transformer = ListAnnouncementsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateAnnouncementUserStatusResponse>
             updateAnnouncementUserStatus(
@@ -618,4 +691,30 @@ public class AnnouncementAsyncClient implements AnnouncementAsync {
                     responseFuture, transformer);
         }
     }
+
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateAnnouncementUserStatusResponse>
+            updateAnnouncementUserStatus(final UpdateAnnouncementUserStatusRequest request) {
+        LOG.trace("Called async updateAnnouncementUserStatus");
+        final UpdateAnnouncementUserStatusRequest interceptedRequest =
+                UpdateAnnouncementUserStatusConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateAnnouncementUserStatusConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, UpdateAnnouncementUserStatusResponse>
+                transformer = UpdateAnnouncementUserStatusConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib, interceptedRequest.getStatusDetails(), interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
 }
@@ -51,7 +51,8 @@ public class AffectedResource {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public AffectedResource build() {
             AffectedResource __instance__ = new AffectedResource(resourceId, resourceName, region);
@@ -96,6 +97,11 @@ public class AffectedResource {
     @com.fasterxml.jackson.annotation.JsonProperty("region")
     String region;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "resourceId", "resourceName", "region");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
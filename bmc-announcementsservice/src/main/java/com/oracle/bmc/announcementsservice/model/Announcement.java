@@ -183,7 +183,8 @@ public class Announcement extends BaseAnnouncement {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public Announcement build() {
             Announcement __instance__ =
@@ -304,6 +305,27 @@ public class Announcement extends BaseAnnouncement {
     @com.fasterxml.jackson.annotation.JsonProperty("affectedResources")
     java.util.List<AffectedResource> affectedResources;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "id",
+                    "referenceTicketNumber",
+                    "summary",
+                    "timeOneTitle",
+                    "timeOneValue",
+                    "timeTwoTitle",
+                    "timeTwoValue",
+                    "services",
+                    "affectedRegions",
+                    "announcementType",
+                    "lifecycleState",
+                    "isBanner",
+                    "timeCreated",
+                    "timeUpdated",
+                    "description",
+                    "additionalInformation",
+                    "affectedResources");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
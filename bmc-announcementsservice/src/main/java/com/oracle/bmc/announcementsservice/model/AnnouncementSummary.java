@@ -158,7 +158,8 @@ public class AnnouncementSummary extends BaseAnnouncement {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public AnnouncementSummary build() {
             AnnouncementSummary __instance__ =
@@ -244,6 +245,24 @@ public class AnnouncementSummary extends BaseAnnouncement {
                 timeUpdated);
     }
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "id",
+                    "referenceTicketNumber",
+                    "summary",
+                    "timeOneTitle",
+                    "timeOneValue",
+                    "timeTwoTitle",
+                    "timeTwoValue",
+                    "services",
+                    "affectedRegions",
+                    "announcementType",
+                    "lifecycleState",
+                    "isBanner",
+                    "timeCreated",
+                    "timeUpdated");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
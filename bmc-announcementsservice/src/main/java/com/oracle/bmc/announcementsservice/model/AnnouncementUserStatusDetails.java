@@ -53,7 +53,8 @@ public class AnnouncementUserStatusDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public AnnouncementUserStatusDetails build() {
             AnnouncementUserStatusDetails __instance__ =
@@ -102,6 +103,11 @@ public class AnnouncementUserStatusDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("timeAcknowledged")
     java.util.Date timeAcknowledged;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "userStatusAnnouncementId", "userId", "timeAcknowledged");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -44,7 +44,8 @@ public class AnnouncementsCollection {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public AnnouncementsCollection build() {
             AnnouncementsCollection __instance__ = new AnnouncementsCollection(items, userStatuses);
@@ -80,6 +81,10 @@ public class AnnouncementsCollection {
     @com.fasterxml.jackson.annotation.JsonProperty("userStatuses")
     java.util.List<AnnouncementUserStatusDetails> userStatuses;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of("items", "userStatuses");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
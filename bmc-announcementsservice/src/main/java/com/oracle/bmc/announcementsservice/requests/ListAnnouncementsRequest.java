@@ -188,6 +188,7 @@ public class ListAnnouncementsRequest extends com.oracle.bmc.requests.BmcRequest
     public static class Builder {
         private com.oracle.bmc.util.internal.Consumer<javax.ws.rs.client.Invocation.Builder>
                 invocationCallback = null;
+        private com.oracle.bmc.retrier.RetryConfiguration retryConfiguration = null;
 
         /**
          * Set the invocation callback for the request to be built.
@@ -201,6 +202,17 @@ public class ListAnnouncementsRequest extends com.oracle.bmc.requests.BmcRequest
             return this;
         }
 
+        /**
+         * Set the retry configuration for the request to be built.
+         * @param retryConfiguration the retry configuration to be used for the request
+         * @return this builder instance
+         */
+        public Builder retryConfiguration(
+                com.oracle.bmc.retrier.RetryConfiguration retryConfiguration) {
+            this.retryConfiguration = retryConfiguration;
+            return this;
+        }
+
         /**
          * Copy method to populate the builder with values from the given instance.
          * @return this builder instance
@@ -218,6 +230,7 @@ public class ListAnnouncementsRequest extends com.oracle.bmc.requests.BmcRequest
             timeOneLatestTime(o.getTimeOneLatestTime());
             opcRequestId(o.getOpcRequestId());
             invocationCallback(o.getInvocationCallback());
+            retryConfiguration(o.getRetryConfiguration());
             return this;
         }
 
@@ -234,6 +247,7 @@ public class ListAnnouncementsRequest extends com.oracle.bmc.requests.BmcRequest
         public ListAnnouncementsRequest build() {
             ListAnnouncementsRequest request = buildWithoutInvocationCallback();
             request.setInvocationCallback(invocationCallback);
+            request.setRetryConfiguration(retryConfiguration);
             return request;
         }
     }
@@ -51,6 +51,23 @@ public interface AuditAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<GetConfigurationRequest, GetConfigurationResponse>
                     handler);
 
+    /**
+     * Get the configuration
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetConfigurationResponse> getConfiguration(
+            GetConfigurationRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetConfigurationRequest, GetConfigurationResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getConfiguration(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Returns all audit events for the specified compartment that were processed within the specified time range.
      *
@@ -65,6 +82,23 @@ public interface AuditAsync extends AutoCloseable {
             ListEventsRequest request,
             com.oracle.bmc.responses.AsyncHandler<ListEventsRequest, ListEventsResponse> handler);
 
+    /**
+     * Returns all audit events for the specified compartment that were processed within the specified time range.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListEventsResponse> listEvents(
+            ListEventsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListEventsRequest, ListEventsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listEvents(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Update the configuration
      *
@@ -80,4 +114,21 @@ public interface AuditAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<
                             UpdateConfigurationRequest, UpdateConfigurationResponse>
                     handler);
+
+    /**
+     * Update the configuration
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateConfigurationResponse> updateConfiguration(
+            UpdateConfigurationRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateConfigurationRequest, UpdateConfigurationResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateConfiguration(request, handler);
+        return handler.getStage();
+    }
 }
@@ -375,6 +375,30 @@ public class AuditAsyncClient implements AuditAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetConfigurationResponse> getConfiguration(
+            final GetConfigurationRequest request) {
+        LOG.trace("Called async getConfiguration");
+        final GetConfigurationRequest interceptedRequest =
+                GetConfigurationConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetConfigurationConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetConfigurationResponse>
+                transformer = GetConfigurationConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListEventsResponse> listEvents(
             final ListEventsRequest request,
@@ -447,6 +471,29 @@ public class AuditAsyncClient implements AuditAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListEventsResponse> listEvents(
+            final ListEventsRequest request) {
+        LOG.trace("Called async listEvents");
+        final ListEventsRequest interceptedRequest = ListEventsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListEventsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListEventsResponse>
+                transformer = ListEventsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateConfigurationResponse> updateConfiguration(
             final UpdateConfigurationRequest request,
@@ -537,4 +584,32 @@ public class AuditAsyncClient implements AuditAsync {
                     responseFuture, transformer);
         }
     }
+
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateConfigurationResponse> updateConfiguration(
+            final UpdateConfigurationRequest request) {
+        LOG.trace("Called async updateConfiguration");
+        final UpdateConfigurationRequest interceptedRequest =
+                UpdateConfigurationConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateConfigurationConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, UpdateConfigurationResponse>
+                transformer = UpdateConfigurationConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdateConfigurationDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
 }
@@ -224,7 +224,8 @@ public class AuditEvent {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public AuditEvent build() {
             AuditEvent __instance__ =
@@ -429,6 +430,32 @@ public class AuditEvent {
     @com.fasterxml.jackson.annotation.JsonProperty("userName")
     String userName;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "tenantId",
+                    "compartmentId",
+                    "compartmentName",
+                    "eventId",
+                    "eventName",
+                    "eventSource",
+                    "eventType",
+                    "eventTime",
+                    "principalId",
+                    "credentialId",
+                    "requestAction",
+                    "requestId",
+                    "requestAgent",
+                    "requestHeaders",
+                    "requestOrigin",
+                    "requestParameters",
+                    "requestResource",
+                    "responseHeaders",
+                    "responseStatus",
+                    "responseTime",
+                    "responsePayload",
+                    "userName");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
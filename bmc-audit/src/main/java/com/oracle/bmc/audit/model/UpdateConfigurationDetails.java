@@ -34,7 +34,8 @@ public class UpdateConfigurationDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public UpdateConfigurationDetails build() {
             UpdateConfigurationDetails __instance__ =
@@ -65,6 +66,10 @@ public class UpdateConfigurationDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("retentionPeriodDays")
     Integer retentionPeriodDays;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of("retentionPeriodDays");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -54,6 +54,24 @@ public interface AutoScalingAsync extends AutoCloseable {
                                     CreateAutoScalingConfigurationResponse>
                             handler);
 
+    /**
+     * Create an AutoScalingConfiguration
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreateAutoScalingConfigurationResponse>
+            createAutoScalingConfiguration(CreateAutoScalingConfigurationRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreateAutoScalingConfigurationRequest,
+                        CreateAutoScalingConfigurationResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createAutoScalingConfiguration(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Create a Policy for AutoScalingConfiguration
      *
@@ -70,6 +88,23 @@ public interface AutoScalingAsync extends AutoCloseable {
                             CreateAutoScalingPolicyRequest, CreateAutoScalingPolicyResponse>
                     handler);
 
+    /**
+     * Create a Policy for AutoScalingConfiguration
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreateAutoScalingPolicyResponse>
+            createAutoScalingPolicy(CreateAutoScalingPolicyRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreateAutoScalingPolicyRequest, CreateAutoScalingPolicyResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createAutoScalingPolicy(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Deletes an AutoScalingConfiguration
      *
@@ -88,6 +123,24 @@ public interface AutoScalingAsync extends AutoCloseable {
                                     DeleteAutoScalingConfigurationResponse>
                             handler);
 
+    /**
+     * Deletes an AutoScalingConfiguration
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<DeleteAutoScalingConfigurationResponse>
+            deleteAutoScalingConfiguration(DeleteAutoScalingConfigurationRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        DeleteAutoScalingConfigurationRequest,
+                        DeleteAutoScalingConfigurationResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        deleteAutoScalingConfiguration(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Deletes an AutoScalingConfiguration Policy
      *
@@ -104,6 +157,23 @@ public interface AutoScalingAsync extends AutoCloseable {
                             DeleteAutoScalingPolicyRequest, DeleteAutoScalingPolicyResponse>
                     handler);
 
+    /**
+     * Deletes an AutoScalingConfiguration Policy
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<DeleteAutoScalingPolicyResponse>
+            deleteAutoScalingPolicy(DeleteAutoScalingPolicyRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        DeleteAutoScalingPolicyRequest, DeleteAutoScalingPolicyResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        deleteAutoScalingPolicy(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Get AutoScalingConfiguration
      *
@@ -120,6 +190,23 @@ public interface AutoScalingAsync extends AutoCloseable {
                             GetAutoScalingConfigurationRequest, GetAutoScalingConfigurationResponse>
                     handler);
 
+    /**
+     * Get AutoScalingConfiguration
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetAutoScalingConfigurationResponse>
+            getAutoScalingConfiguration(GetAutoScalingConfigurationRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetAutoScalingConfigurationRequest, GetAutoScalingConfigurationResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getAutoScalingConfiguration(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Get Policy from a specific AutoScalingConfiguration
      *
@@ -136,6 +223,23 @@ public interface AutoScalingAsync extends AutoCloseable {
                             GetAutoScalingPolicyRequest, GetAutoScalingPolicyResponse>
                     handler);
 
+    /**
+     * Get Policy from a specific AutoScalingConfiguration
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetAutoScalingPolicyResponse> getAutoScalingPolicy(
+            GetAutoScalingPolicyRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetAutoScalingPolicyRequest, GetAutoScalingPolicyResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getAutoScalingPolicy(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists AutoScalingConfigurations in the specific compartment.
      *
@@ -155,6 +259,24 @@ public interface AutoScalingAsync extends AutoCloseable {
                                     ListAutoScalingConfigurationsResponse>
                             handler);
 
+    /**
+     * Lists AutoScalingConfigurations in the specific compartment.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListAutoScalingConfigurationsResponse>
+            listAutoScalingConfigurations(ListAutoScalingConfigurationsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListAutoScalingConfigurationsRequest, ListAutoScalingConfigurationsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listAutoScalingConfigurations(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists Policies in an AutoScalingConfiguration.
      *
@@ -172,6 +294,24 @@ public interface AutoScalingAsync extends AutoCloseable {
                             ListAutoScalingPoliciesRequest, ListAutoScalingPoliciesResponse>
                     handler);
 
+    /**
+     * Lists Policies in an AutoScalingConfiguration.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListAutoScalingPoliciesResponse>
+            listAutoScalingPolicies(ListAutoScalingPoliciesRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListAutoScalingPoliciesRequest, ListAutoScalingPoliciesResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listAutoScalingPolicies(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Updates an AutoScalingConfiguration
      *
@@ -190,6 +330,24 @@ public interface AutoScalingAsync extends AutoCloseable {
                                     UpdateAutoScalingConfigurationResponse>
                             handler);
 
+    /**
+     * Updates an AutoScalingConfiguration
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateAutoScalingConfigurationResponse>
+            updateAutoScalingConfiguration(UpdateAutoScalingConfigurationRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateAutoScalingConfigurationRequest,
+                        UpdateAutoScalingConfigurationResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateAutoScalingConfiguration(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Updates a Policy in the specific AutoScalingConfiguration
      *
@@ -205,4 +363,21 @@ public interface AutoScalingAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<
                             UpdateAutoScalingPolicyRequest, UpdateAutoScalingPolicyResponse>
                     handler);
+
+    /**
+     * Updates a Policy in the specific AutoScalingConfiguration
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateAutoScalingPolicyResponse>
+            updateAutoScalingPolicy(UpdateAutoScalingPolicyRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateAutoScalingPolicyRequest, UpdateAutoScalingPolicyResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateAutoScalingPolicy(request, handler);
+        return handler.getStage();
+    }
 }
@@ -397,6 +397,34 @@ public class AutoScalingAsyncClient implements AutoScalingAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateAutoScalingConfigurationResponse>
+            createAutoScalingConfiguration(final CreateAutoScalingConfigurationRequest request) {
+        LOG.trace("Called async createAutoScalingConfiguration");
+        final CreateAutoScalingConfigurationRequest interceptedRequest =
+                CreateAutoScalingConfigurationConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateAutoScalingConfigurationConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, CreateAutoScalingConfigurationResponse>
+                transformer = CreateAutoScalingConfigurationConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreateAutoScalingConfigurationDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateAutoScalingPolicyResponse> createAutoScalingPolicy(
             final CreateAutoScalingPolicyRequest request,
@@ -488,6 +516,34 @@ public class AutoScalingAsyncClient implements AutoScalingAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateAutoScalingPolicyResponse>
+            createAutoScalingPolicy(final CreateAutoScalingPolicyRequest request) {
+        LOG.trace("Called async createAutoScalingPolicy");
+        final CreateAutoScalingPolicyRequest interceptedRequest =
+                CreateAutoScalingPolicyConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateAutoScalingPolicyConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, CreateAutoScalingPolicyResponse>
+                transformer = CreateAutoScalingPolicyConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreateAutoScalingPolicyDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteAutoScalingConfigurationResponse>
             deleteAutoScalingConfiguration(
@@ -568,6 +624,31 @@ public class AutoScalingAsyncClient implements AutoScalingAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteAutoScalingConfigurationResponse>
+            deleteAutoScalingConfiguration(final DeleteAutoScalingConfigurationRequest request) {
+        LOG.trace("Called async deleteAutoScalingConfiguration");
+        final DeleteAutoScalingConfigurationRequest interceptedRequest =
+                DeleteAutoScalingConfigurationConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteAutoScalingConfigurationConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, DeleteAutoScalingConfigurationResponse>
+                transformer = DeleteAutoScalingConfigurationConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteAutoScalingPolicyResponse> deleteAutoScalingPolicy(
             final DeleteAutoScalingPolicyRequest request,
@@ -644,6 +725,31 @@ public class AutoScalingAsyncClient implements AutoScalingAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteAutoScalingPolicyResponse>
+            deleteAutoScalingPolicy(final DeleteAutoScalingPolicyRequest request) {
+        LOG.trace("Called async deleteAutoScalingPolicy");
+        final DeleteAutoScalingPolicyRequest interceptedRequest =
+                DeleteAutoScalingPolicyConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteAutoScalingPolicyConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, DeleteAutoScalingPolicyResponse>
+                transformer = DeleteAutoScalingPolicyConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetAutoScalingConfigurationResponse>
             getAutoScalingConfiguration(
@@ -723,6 +829,31 @@ public class AutoScalingAsyncClient implements AutoScalingAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetAutoScalingConfigurationResponse>
+            getAutoScalingConfiguration(final GetAutoScalingConfigurationRequest request) {
+        LOG.trace("Called async getAutoScalingConfiguration");
+        final GetAutoScalingConfigurationRequest interceptedRequest =
+                GetAutoScalingConfigurationConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetAutoScalingConfigurationConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, GetAutoScalingConfigurationResponse>
+                transformer = GetAutoScalingConfigurationConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetAutoScalingPolicyResponse> getAutoScalingPolicy(
             final GetAutoScalingPolicyRequest request,
@@ -799,6 +930,31 @@ public class AutoScalingAsyncClient implements AutoScalingAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetAutoScalingPolicyResponse> getAutoScalingPolicy(
+            final GetAutoScalingPolicyRequest request) {
+        LOG.trace("Called async getAutoScalingPolicy");
+        final GetAutoScalingPolicyRequest interceptedRequest =
+                GetAutoScalingPolicyConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetAutoScalingPolicyConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, GetAutoScalingPolicyResponse>
+                transformer = GetAutoScalingPolicyConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListAutoScalingConfigurationsResponse>
             listAutoScalingConfigurations(
@@ -878,6 +1034,31 @@ public class AutoScalingAsyncClient implements AutoScalingAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListAutoScalingConfigurationsResponse>
+            listAutoScalingConfigurations(final ListAutoScalingConfigurationsRequest request) {
+        LOG.trace("Called async listAutoScalingConfigurations");
+        final ListAutoScalingConfigurationsRequest interceptedRequest =
+                ListAutoScalingConfigurationsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListAutoScalingConfigurationsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, ListAutoScalingConfigurationsResponse>
+                transformer = ListAutoScalingConfigurationsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListAutoScalingPoliciesResponse> listAutoScalingPolicies(
             final ListAutoScalingPoliciesRequest request,
@@ -954,6 +1135,31 @@ public class AutoScalingAsyncClient implements AutoScalingAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListAutoScalingPoliciesResponse>
+            listAutoScalingPolicies(final ListAutoScalingPoliciesRequest request) {
+        LOG.trace("Called async listAutoScalingPolicies");
+        final ListAutoScalingPoliciesRequest interceptedRequest =
+                ListAutoScalingPoliciesConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListAutoScalingPoliciesConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, ListAutoScalingPoliciesResponse>
+                transformer = ListAutoScalingPoliciesConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateAutoScalingConfigurationResponse>
             updateAutoScalingConfiguration(
@@ -1049,6 +1255,34 @@ public class AutoScalingAsyncClient implements AutoScalingAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateAutoScalingConfigurationResponse>
+            updateAutoScalingConfiguration(final UpdateAutoScalingConfigurationRequest request) {
+        LOG.trace("Called async updateAutoScalingConfiguration");
+        final UpdateAutoScalingConfigurationRequest interceptedRequest =
+                UpdateAutoScalingConfigurationConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateAutoScalingConfigurationConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, UpdateAutoScalingConfigurationResponse>
+                transformer = UpdateAutoScalingConfigurationConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdateAutoScalingConfigurationDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateAutoScalingPolicyResponse> updateAutoScalingPolicy(
             final UpdateAutoScalingPolicyRequest request,
@@ -1139,4 +1373,32 @@ public class AutoScalingAsyncClient implements AutoScalingAsync {
                     responseFuture, transformer);
         }
     }
+
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateAutoScalingPolicyResponse>
+            updateAutoScalingPolicy(final UpdateAutoScalingPolicyRequest request) {
+        LOG.trace("Called async updateAutoScalingPolicy");
+        final UpdateAutoScalingPolicyRequest interceptedRequest =
+                UpdateAutoScalingPolicyConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateAutoScalingPolicyConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, UpdateAutoScalingPolicyResponse>
+                transformer = UpdateAutoScalingPolicyConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdateAutoScalingPolicyDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
 }
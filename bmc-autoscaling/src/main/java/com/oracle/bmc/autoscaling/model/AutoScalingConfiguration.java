@@ -116,7 +116,8 @@ public class AutoScalingConfiguration {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public AutoScalingConfiguration build() {
             AutoScalingConfiguration __instance__ =
@@ -233,6 +234,20 @@ public class AutoScalingConfiguration {
     @com.fasterxml.jackson.annotation.JsonProperty("timeCreated")
     java.util.Date timeCreated;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "compartmentId",
+                    "definedTags",
+                    "displayName",
+                    "freeformTags",
+                    "id",
+                    "coolDownInSeconds",
+                    "isEnabled",
+                    "resource",
+                    "policies",
+                    "timeCreated");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
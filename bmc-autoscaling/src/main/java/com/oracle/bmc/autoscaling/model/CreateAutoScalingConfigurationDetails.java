@@ -99,7 +99,8 @@ public class CreateAutoScalingConfigurationDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public CreateAutoScalingConfigurationDetails build() {
             CreateAutoScalingConfigurationDetails __instance__ =
@@ -194,6 +195,18 @@ public class CreateAutoScalingConfigurationDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("resource")
     Resource resource;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "compartmentId",
+                    "definedTags",
+                    "displayName",
+                    "freeformTags",
+                    "coolDownInSeconds",
+                    "isEnabled",
+                    "policies",
+                    "resource");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -59,7 +59,8 @@ public class CreateThresholdPolicyDetails extends CreateAutoScalingPolicyDetails
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public CreateThresholdPolicyDetails build() {
             CreateThresholdPolicyDetails __instance__ =
@@ -95,6 +96,11 @@ public class CreateThresholdPolicyDetails extends CreateAutoScalingPolicyDetails
     @com.fasterxml.jackson.annotation.JsonProperty("rules")
     java.util.List<CreateConditionDetails> rules;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "capacity", "displayName", "rules");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -74,7 +74,8 @@ public class ThresholdPolicy extends AutoScalingPolicy {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public ThresholdPolicy build() {
             ThresholdPolicy __instance__ =
@@ -118,6 +119,11 @@ public class ThresholdPolicy extends AutoScalingPolicy {
     @com.fasterxml.jackson.annotation.JsonProperty("rules")
     java.util.List<Condition> rules;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "capacity", "id", "displayName", "timeCreated", "rules");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
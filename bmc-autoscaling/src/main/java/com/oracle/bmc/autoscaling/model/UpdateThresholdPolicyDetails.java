@@ -58,7 +58,8 @@ public class UpdateThresholdPolicyDetails extends UpdateAutoScalingPolicyDetails
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public UpdateThresholdPolicyDetails build() {
             UpdateThresholdPolicyDetails __instance__ =
@@ -94,6 +95,11 @@ public class UpdateThresholdPolicyDetails extends UpdateAutoScalingPolicyDetails
     @com.fasterxml.jackson.annotation.JsonProperty("rules")
     java.util.List<UpdateConditionDetails> rules;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "displayName", "capacity", "rules");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -31,6 +31,7 @@ public class DeleteAutoScalingConfigurationRequest extends com.oracle.bmc.reques
     public static class Builder {
         private com.oracle.bmc.util.internal.Consumer<javax.ws.rs.client.Invocation.Builder>
                 invocationCallback = null;
+        private com.oracle.bmc.retrier.RetryConfiguration retryConfiguration = null;
 
         /**
          * Set the invocation callback for the request to be built.
@@ -44,6 +45,17 @@ public class DeleteAutoScalingConfigurationRequest extends com.oracle.bmc.reques
             return this;
         }
 
+        /**
+         * Set the retry configuration for the request to be built.
+         * @param retryConfiguration the retry configuration to be used for the request
+         * @return this builder instance
+         */
+        public Builder retryConfiguration(
+                com.oracle.bmc.retrier.RetryConfiguration retryConfiguration) {
+            this.retryConfiguration = retryConfiguration;
+            return this;
+        }
+
         /**
          * Copy method to populate the builder with values from the given instance.
          * @return this builder instance
@@ -53,6 +65,7 @@ public class DeleteAutoScalingConfigurationRequest extends com.oracle.bmc.reques
             ifMatch(o.getIfMatch());
             opcRequestId(o.getOpcRequestId());
             invocationCallback(o.getInvocationCallback());
+            retryConfiguration(o.getRetryConfiguration());
             return this;
         }
 
@@ -69,6 +82,7 @@ public class DeleteAutoScalingConfigurationRequest extends com.oracle.bmc.reques
         public DeleteAutoScalingConfigurationRequest build() {
             DeleteAutoScalingConfigurationRequest request = buildWithoutInvocationCallback();
             request.setInvocationCallback(invocationCallback);
+            request.setRetryConfiguration(retryConfiguration);
             return request;
         }
     }
@@ -36,6 +36,7 @@ public class DeleteAutoScalingPolicyRequest extends com.oracle.bmc.requests.BmcR
     public static class Builder {
         private com.oracle.bmc.util.internal.Consumer<javax.ws.rs.client.Invocation.Builder>
                 invocationCallback = null;
+        private com.oracle.bmc.retrier.RetryConfiguration retryConfiguration = null;
 
         /**
          * Set the invocation callback for the request to be built.
@@ -49,6 +50,17 @@ public class DeleteAutoScalingPolicyRequest extends com.oracle.bmc.requests.BmcR
             return this;
         }
 
+        /**
+         * Set the retry configuration for the request to be built.
+         * @param retryConfiguration the retry configuration to be used for the request
+         * @return this builder instance
+         */
+        public Builder retryConfiguration(
+                com.oracle.bmc.retrier.RetryConfiguration retryConfiguration) {
+            this.retryConfiguration = retryConfiguration;
+            return this;
+        }
+
         /**
          * Copy method to populate the builder with values from the given instance.
          * @return this builder instance
@@ -59,6 +71,7 @@ public class DeleteAutoScalingPolicyRequest extends com.oracle.bmc.requests.BmcR
             ifMatch(o.getIfMatch());
             opcRequestId(o.getOpcRequestId());
             invocationCallback(o.getInvocationCallback());
+            retryConfiguration(o.getRetryConfiguration());
             return this;
         }
 
@@ -75,6 +88,7 @@ public class DeleteAutoScalingPolicyRequest extends com.oracle.bmc.requests.BmcR
         public DeleteAutoScalingPolicyRequest build() {
             DeleteAutoScalingPolicyRequest request = buildWithoutInvocationCallback();
             request.setInvocationCallback(invocationCallback);
+            request.setRetryConfiguration(retryConfiguration);
             return request;
         }
     }
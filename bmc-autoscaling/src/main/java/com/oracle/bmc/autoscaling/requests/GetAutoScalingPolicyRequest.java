@@ -28,6 +28,7 @@ public class GetAutoScalingPolicyRequest extends com.oracle.bmc.requests.BmcRequ
     public static class Builder {
         private com.oracle.bmc.util.internal.Consumer<javax.ws.rs.client.Invocation.Builder>
                 invocationCallback = null;
+        private com.oracle.bmc.retrier.RetryConfiguration retryConfiguration = null;
 
         /**
          * Set the invocation callback for the request to be built.
@@ -41,6 +42,17 @@ public class GetAutoScalingPolicyRequest extends com.oracle.bmc.requests.BmcRequ
             return this;
         }
 
+        /**
+         * Set the retry configuration for the request to be built.
+         * @param retryConfiguration the retry configuration to be used for the request
+         * @return this builder instance
+         */
+        public Builder retryConfiguration(
+                com.oracle.bmc.retrier.RetryConfiguration retryConfiguration) {
+            this.retryConfiguration = retryConfiguration;
+            return this;
+        }
+
         /**
          * Copy method to populate the builder with values from the given instance.
          * @return this builder instance
@@ -50,6 +62,7 @@ public class GetAutoScalingPolicyRequest extends com.oracle.bmc.requests.BmcRequ
             autoScalingPolicyId(o.getAutoScalingPolicyId());
             opcRequestId(o.getOpcRequestId());
             invocationCallback(o.getInvocationCallback());
+            retryConfiguration(o.getRetryConfiguration());
             return this;
         }
 
@@ -66,6 +79,7 @@ public class GetAutoScalingPolicyRequest extends com.oracle.bmc.requests.BmcRequ
         public GetAutoScalingPolicyRequest build() {
             GetAutoScalingPolicyRequest request = buildWithoutInvocationCallback();
             request.setInvocationCallback(invocationCallback);
+            request.setRetryConfiguration(retryConfiguration);
             return request;
         }
     }
@@ -138,6 +138,7 @@ public class ListAutoScalingConfigurationsRequest extends com.oracle.bmc.request
     public static class Builder {
         private com.oracle.bmc.util.internal.Consumer<javax.ws.rs.client.Invocation.Builder>
                 invocationCallback = null;
+        private com.oracle.bmc.retrier.RetryConfiguration retryConfiguration = null;
 
         /**
          * Set the invocation callback for the request to be built.
@@ -151,6 +152,17 @@ public class ListAutoScalingConfigurationsRequest extends com.oracle.bmc.request
             return this;
         }
 
+        /**
+         * Set the retry configuration for the request to be built.
+         * @param retryConfiguration the retry configuration to be used for the request
+         * @return this builder instance
+         */
+        public Builder retryConfiguration(
+                com.oracle.bmc.retrier.RetryConfiguration retryConfiguration) {
+            this.retryConfiguration = retryConfiguration;
+            return this;
+        }
+
         /**
          * Copy method to populate the builder with values from the given instance.
          * @return this builder instance
@@ -164,6 +176,7 @@ public class ListAutoScalingConfigurationsRequest extends com.oracle.bmc.request
             sortBy(o.getSortBy());
             sortOrder(o.getSortOrder());
             invocationCallback(o.getInvocationCallback());
+            retryConfiguration(o.getRetryConfiguration());
             return this;
         }
 
@@ -180,6 +193,7 @@ public class ListAutoScalingConfigurationsRequest extends com.oracle.bmc.request
         public ListAutoScalingConfigurationsRequest build() {
             ListAutoScalingConfigurationsRequest request = buildWithoutInvocationCallback();
             request.setInvocationCallback(invocationCallback);
+            request.setRetryConfiguration(retryConfiguration);
             return request;
         }
     }
@@ -135,6 +135,7 @@ public class ListAutoScalingPoliciesRequest extends com.oracle.bmc.requests.BmcR
     public static class Builder {
         private com.oracle.bmc.util.internal.Consumer<javax.ws.rs.client.Invocation.Builder>
                 invocationCallback = null;
+        private com.oracle.bmc.retrier.RetryConfiguration retryConfiguration = null;
 
         /**
          * Set the invocation callback for the request to be built.
@@ -148,6 +149,17 @@ public class ListAutoScalingPoliciesRequest extends com.oracle.bmc.requests.BmcR
             return this;
         }
 
+        /**
+         * Set the retry configuration for the request to be built.
+         * @param retryConfiguration the retry configuration to be used for the request
+         * @return this builder instance
+         */
+        public Builder retryConfiguration(
+                com.oracle.bmc.retrier.RetryConfiguration retryConfiguration) {
+            this.retryConfiguration = retryConfiguration;
+            return this;
+        }
+
         /**
          * Copy method to populate the builder with values from the given instance.
          * @return this builder instance
@@ -161,6 +173,7 @@ public class ListAutoScalingPoliciesRequest extends com.oracle.bmc.requests.BmcR
             sortBy(o.getSortBy());
             sortOrder(o.getSortOrder());
             invocationCallback(o.getInvocationCallback());
+            retryConfiguration(o.getRetryConfiguration());
             return this;
         }
 
@@ -177,6 +190,7 @@ public class ListAutoScalingPoliciesRequest extends com.oracle.bmc.requests.BmcR
         public ListAutoScalingPoliciesRequest build() {
             ListAutoScalingPoliciesRequest request = buildWithoutInvocationCallback();
             request.setInvocationCallback(invocationCallback);
+            request.setRetryConfiguration(retryConfiguration);
             return request;
         }
     }
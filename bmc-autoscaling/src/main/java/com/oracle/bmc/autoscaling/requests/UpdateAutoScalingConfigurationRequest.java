@@ -46,6 +46,7 @@ public class UpdateAutoScalingConfigurationRequest extends com.oracle.bmc.reques
     public static class Builder {
         private com.oracle.bmc.util.internal.Consumer<javax.ws.rs.client.Invocation.Builder>
                 invocationCallback = null;
+        private com.oracle.bmc.retrier.RetryConfiguration retryConfiguration = null;
 
         /**
          * Set the invocation callback for the request to be built.
@@ -59,6 +60,17 @@ public class UpdateAutoScalingConfigurationRequest extends com.oracle.bmc.reques
             return this;
         }
 
+        /**
+         * Set the retry configuration for the request to be built.
+         * @param retryConfiguration the retry configuration to be used for the request
+         * @return this builder instance
+         */
+        public Builder retryConfiguration(
+                com.oracle.bmc.retrier.RetryConfiguration retryConfiguration) {
+            this.retryConfiguration = retryConfiguration;
+            return this;
+        }
+
         /**
          * Copy method to populate the builder with values from the given instance.
          * @return this builder instance
@@ -70,6 +82,7 @@ public class UpdateAutoScalingConfigurationRequest extends com.oracle.bmc.reques
             opcRequestId(o.getOpcRequestId());
             opcRetryToken(o.getOpcRetryToken());
             invocationCallback(o.getInvocationCallback());
+            retryConfiguration(o.getRetryConfiguration());
             return this;
         }
 
@@ -86,6 +99,7 @@ public class UpdateAutoScalingConfigurationRequest extends com.oracle.bmc.reques
         public UpdateAutoScalingConfigurationRequest build() {
             UpdateAutoScalingConfigurationRequest request = buildWithoutInvocationCallback();
             request.setInvocationCallback(invocationCallback);
+            request.setRetryConfiguration(retryConfiguration);
             return request;
         }
     }
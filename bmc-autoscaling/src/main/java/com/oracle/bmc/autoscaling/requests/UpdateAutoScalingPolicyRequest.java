@@ -51,6 +51,7 @@ public class UpdateAutoScalingPolicyRequest extends com.oracle.bmc.requests.BmcR
     public static class Builder {
         private com.oracle.bmc.util.internal.Consumer<javax.ws.rs.client.Invocation.Builder>
                 invocationCallback = null;
+        private com.oracle.bmc.retrier.RetryConfiguration retryConfiguration = null;
 
         /**
          * Set the invocation callback for the request to be built.
@@ -64,6 +65,17 @@ public class UpdateAutoScalingPolicyRequest extends com.oracle.bmc.requests.BmcR
             return this;
         }
 
+        /**
+         * Set the retry configuration for the request to be built.
+         * @param retryConfiguration the retry configuration to be used for the request
+         * @return this builder instance
+         */
+        public Builder retryConfiguration(
+                com.oracle.bmc.retrier.RetryConfiguration retryConfiguration) {
+            this.retryConfiguration = retryConfiguration;
+            return this;
+        }
+
         /**
          * Copy method to populate the builder with values from the given instance.
          * @return this builder instance
@@ -76,6 +88,7 @@ public class UpdateAutoScalingPolicyRequest extends com.oracle.bmc.requests.BmcR
             opcRequestId(o.getOpcRequestId());
             opcRetryToken(o.getOpcRetryToken());
             invocationCallback(o.getInvocationCallback());
+            retryConfiguration(o.getRetryConfiguration());
             return this;
         }
 
@@ -92,6 +105,7 @@ public class UpdateAutoScalingPolicyRequest extends com.oracle.bmc.requests.BmcR
         public UpdateAutoScalingPolicyRequest build() {
             UpdateAutoScalingPolicyRequest request = buildWithoutInvocationCallback();
             request.setInvocationCallback(invocationCallback);
+            request.setRetryConfiguration(retryConfiguration);
             return request;
         }
     }
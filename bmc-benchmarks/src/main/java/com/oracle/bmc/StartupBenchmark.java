@@ -0,0 +1,107 @@
+/**
+ * Copyright (c) 2016, 2019, Oracle and/or its affiliates. All rights reserved.
+ */
+package com.oracle.bmc;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.oracle.bmc.auth.ConfigFileAuthenticationDetailsProvider;
+import com.oracle.bmc.benchmarks.BenchmarkCredentials;
+import com.oracle.bmc.core.BlockstorageClient;
+import com.oracle.bmc.core.ComputeClient;
+import com.oracle.bmc.core.VirtualNetworkClient;
+import com.oracle.bmc.database.DatabaseClient;
+import com.oracle.bmc.dns.DnsClient;
+import com.oracle.bmc.identity.IdentityClient;
+import com.oracle.bmc.loadbalancer.LoadBalancerClient;
+import com.oracle.bmc.monitoring.MonitoringClient;
+import com.oracle.bmc.objectstorage.ObjectStorageClient;
+import com.oracle.bmc.objectstorage.requests.GetNamespaceRequest;
+import com.oracle.bmc.objectstorage.responses.GetNamespaceResponse;
+import com.oracle.bmc.standin.ServiceStandIn;
+import com.oracle.bmc.streaming.StreamAdminClient;
+
+/**
+ * Measures the cold start of an application: reading the configuration and constructing the
+ * service clients a typical application holds, and then making the first request with one of them
+ * against the service stand-in.
+ * <p>
+ * Every fork is a new JVM that runs the benchmark method once, so the score is the average cold
+ * start over the forks. The key, the config file and the stand-in are set up before the
+ * measurement; since the stand-in runs in the same JVM, the JDK HTTP server classes it uses are
+ * already loaded.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class StartupBenchmark {
+    private File configFile;
+    private ServiceStandIn standIn;
+    private final List<AutoCloseable> clients = new ArrayList<>();
+
+    @Setup
+    public void setUp() throws Exception {
+        configFile = BenchmarkCredentials.writeConfigFile();
+        standIn = ServiceStandIn.start();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        for (AutoCloseable client : clients) {
+            client.close();
+        }
+        standIn.close();
+    }
+
+    @Benchmark
+    public ObjectStorageClient constructClients() throws IOException {
+        return createClients();
+    }
+
+    @Benchmark
+    public GetNamespaceResponse timeToFirstRequest() throws IOException {
+        ObjectStorageClient objectStorageClient = createClients();
+        objectStorageClient.setEndpoint(standIn.getEndpoint());
+        return objectStorageClient.getNamespace(GetNamespaceRequest.builder().build());
+    }
+
+    /**
+     * Creates ten common service clients, and returns the Object Storage one.
+     */
+    private ObjectStorageClient createClients() throws IOException {
+        ConfigFileAuthenticationDetailsProvider provider =
+                new ConfigFileAuthenticationDetailsProvider(configFile.getPath(), "DEFAULT");
+
+        ObjectStorageClient objectStorageClient = new ObjectStorageClient(provider);
+        clients.add(objectStorageClient);
+        clients.add(new ComputeClient(provider));
+        clients.add(new VirtualNetworkClient(provider));
+        clients.add(new BlockstorageClient(provider));
+        clients.add(new IdentityClient(provider));
+        clients.add(new MonitoringClient(provider));
+        clients.add(new DatabaseClient(provider));
+        clients.add(new LoadBalancerClient(provider));
+        clients.add(new DnsClient(provider));
+        clients.add(new StreamAdminClient(provider));
+        return objectStorageClient;
+    }
+}
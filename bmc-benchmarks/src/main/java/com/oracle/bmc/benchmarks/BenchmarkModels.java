@@ -0,0 +1,136 @@
+/**
+ * Copyright (c) 2016, 2019, Oracle and/or its affiliates. All rights reserved.
+ */
+package com.oracle.bmc.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.oracle.bmc.core.model.CreateVnicDetails;
+import com.oracle.bmc.core.model.Instance;
+import com.oracle.bmc.core.model.InstanceSourceViaImageDetails;
+import com.oracle.bmc.core.model.LaunchInstanceDetails;
+import com.oracle.bmc.core.model.LaunchOptions;
+
+/**
+ * Models shared by the benchmarks, with the nested models, maps and dates that large responses
+ * and requests of the services have.
+ */
+public final class BenchmarkModels {
+    private static final String COMPARTMENT_ID =
+            "ocid1.compartment.oc1..aaaaaaaabenchmarkbenchmarkbenchmarkbenchmarkbenchmarkbench";
+    private static final String IMAGE_ID =
+            "ocid1.image.oc1.phx.aaaaaaaabenchmarkbenchmarkbenchmarkbenchmarkbenchmarkbenchma";
+
+    private BenchmarkModels() {}
+
+    /**
+     * Creates a page of instances, as returned by listing the instances of a compartment. The
+     * display name and fault domain of every third instance are explicitly set to null, so they
+     * are serialized as nulls.
+     *
+     * @param count the number of instances
+     * @return the instances
+     */
+    public static List<Instance> instances(int count) {
+        List<Instance> instances = new ArrayList<>(count);
+        Date timeCreated = new Date(1546300800000L);
+        for (int i = 0; i < count; i++) {
+            Instance.Builder builder =
+                    Instance.builder()
+                            .id("ocid1.instance.oc1.phx.benchmark" + i)
+                            .compartmentId(COMPARTMENT_ID)
+                            .availabilityDomain("Uocm:PHX-AD-1")
+                            .imageId(IMAGE_ID)
+                            .shape("VM.Standard2.1")
+                            .region("phx")
+                            .launchMode(Instance.LaunchMode.Paravirtualized)
+                            .launchOptions(launchOptions())
+                            .lifecycleState(Instance.LifecycleState.Running)
+                            .timeCreated(timeCreated)
+                            .sourceDetails(
+                                    InstanceSourceViaImageDetails.builder()
+                                            .imageId(IMAGE_ID)
+                                            .bootVolumeSizeInGBs(50L)
+                                            .build())
+                            .metadata(
+                                    Collections.singletonMap(
+                                            "ssh_authorized_keys", "ssh-rsa AAAAB3NzaC1yc2E"))
+                            .freeformTags(freeformTags(i))
+                            .definedTags(definedTags());
+            if (i % 3 == 0) {
+                builder.displayName(null).faultDomain(null);
+            } else {
+                builder.displayName("instance-" + i).faultDomain("FAULT-DOMAIN-" + (i % 3));
+            }
+            instances.add(builder.build());
+        }
+        return instances;
+    }
+
+    /**
+     * Creates the details to launch an instance, with most of the optional details set.
+     *
+     * @return the details
+     */
+    public static LaunchInstanceDetails launchInstanceDetails() {
+        Map<String, Object> extendedMetadata = new HashMap<>();
+        extendedMetadata.put("role", "benchmark");
+        extendedMetadata.put("nested", Collections.singletonMap("replicas", 3));
+        return LaunchInstanceDetails.builder()
+                .availabilityDomain("Uocm:PHX-AD-1")
+                .compartmentId(COMPARTMENT_ID)
+                .displayName("benchmark")
+                .faultDomain(null)
+                .hostnameLabel("benchmark")
+                .shape("VM.Standard2.1")
+                .sourceDetails(
+                        InstanceSourceViaImageDetails.builder()
+                                .imageId(IMAGE_ID)
+                                .bootVolumeSizeInGBs(50L)
+                                .build())
+                .createVnicDetails(
+                        CreateVnicDetails.builder()
+                                .subnetId("ocid1.subnet.oc1.phx.benchmark")
+                                .assignPublicIp(false)
+                                .displayName("benchmark-vnic")
+                                .hostnameLabel("benchmark")
+                                .skipSourceDestCheck(null)
+                                .freeformTags(freeformTags(0))
+                                .build())
+                .metadata(
+                        Collections.singletonMap("ssh_authorized_keys", "ssh-rsa AAAAB3NzaC1yc2E"))
+                .extendedMetadata(extendedMetadata)
+                .freeformTags(freeformTags(0))
+                .definedTags(definedTags())
+                .isPvEncryptionInTransitEnabled(true)
+                .build();
+    }
+
+    private static LaunchOptions launchOptions() {
+        return LaunchOptions.builder()
+                .bootVolumeType(LaunchOptions.BootVolumeType.Paravirtualized)
+                .firmware(LaunchOptions.Firmware.Uefi64)
+                .networkType(LaunchOptions.NetworkType.Vfio)
+                .remoteDataVolumeType(LaunchOptions.RemoteDataVolumeType.Paravirtualized)
+                .isPvEncryptionInTransitEnabled(false)
+                .isConsistentVolumeNamingEnabled(true)
+                .build();
+    }
+
+    private static Map<String, String> freeformTags(int i) {
+        Map<String, String> tags = new HashMap<>();
+        tags.put("team", "benchmark");
+        tags.put("index", String.valueOf(i));
+        return tags;
+    }
+
+    private static Map<String, Map<String, Object>> definedTags() {
+        return Collections.singletonMap(
+                "Operations", Collections.<String, Object>singletonMap("CostCenter", "42"));
+    }
+}
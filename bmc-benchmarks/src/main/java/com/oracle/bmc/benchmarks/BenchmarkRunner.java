@@ -0,0 +1,86 @@
+/**
+ * Copyright (c) 2016, 2019, Oracle and/or its affiliates. All rights reserved.
+ */
+package com.oracle.bmc.benchmarks;
+
+import java.util.Collection;
+import java.util.Map;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.BenchmarkResult;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks of the SDK with the GC profiler, and prints the bytes allocated per
+ * operation ({@code gc.alloc.rate.norm}) of every benchmark after the usual JMH results.
+ * <p>
+ * This is the main class of {@code benchmarks.jar}, and accepts the same arguments as the JMH
+ * runner, for example:
+ *
+ * <pre>
+ * java -jar bmc-benchmarks/target/benchmarks.jar RequestSigner -t 4 -rf json -rff results.json
+ * </pre>
+ *
+ * The allocations are also part of the machine readable results, so regressions can be found by
+ * comparing the results of two builds.
+ */
+public class BenchmarkRunner {
+    private static final String ALLOCATION_RESULT = "gc.alloc.rate.norm";
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        if (commandLineOptions.shouldHelp() || commandLineOptions.shouldList()) {
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+
+        Collection<RunResult> results =
+                new Runner(
+                                new OptionsBuilder()
+                                        .parent(commandLineOptions)
+                                        .addProfiler(GCProfiler.class)
+                                        .build())
+                        .run();
+
+        System.out.println();
+        System.out.println("Allocations per operation:");
+        for (RunResult runResult : results) {
+            BenchmarkResult result = runResult.getAggregatedResult();
+            Result<?> allocation = findAllocationResult(result.getSecondaryResults());
+            if (allocation != null) {
+                System.out.println(
+                        String.format(
+                                "%-90s %12.1f %s",
+                                describe(runResult),
+                                allocation.getScore(),
+                                allocation.getScoreUnit()));
+            }
+        }
+    }
+
+    private static Result<?> findAllocationResult(Map<String, Result> secondaryResults) {
+        // the label is prefixed with a separator, whose character depends on the JMH version
+        for (Map.Entry<String, Result> entry : secondaryResults.entrySet()) {
+            if (entry.getKey().endsWith(ALLOCATION_RESULT)) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+
+    private static String describe(RunResult runResult) {
+        StringBuilder description = new StringBuilder(runResult.getParams().getBenchmark());
+        for (String param : runResult.getParams().getParamsKeys()) {
+            description
+                    .append(' ')
+                    .append(param)
+                    .append('=')
+                    .append(runResult.getParams().getParam(param));
+        }
+        return description.toString();
+    }
+}
@@ -0,0 +1,122 @@
+/**
+ * Copyright (c) 2016, 2019, Oracle and/or its affiliates. All rights reserved.
+ */
+package com.oracle.bmc.http;
+
+import com.oracle.bmc.ClientConfiguration;
+import com.oracle.bmc.benchmarks.BenchmarkCredentials;
+import com.oracle.bmc.objectstorage.ObjectStorageAsyncClient;
+import com.oracle.bmc.objectstorage.requests.GetNamespaceRequest;
+import com.oracle.bmc.objectstorage.responses.GetNamespaceResponse;
+import com.oracle.bmc.standin.ServiceStandIn;
+import com.oracle.bmc.standin.StandInConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+/**
+ * Compares the throughput of the asynchronous {@link ObjectStorageAsyncClient} with the
+ * {@link DefaultConfigurator} and with the {@link JettyConfigurator}, keeping a fixed number of
+ * requests in flight against the service stand-in, which answers every request after a fixed
+ * latency.
+ * <p>
+ * If the client does not block a thread per request, the throughput approaches the concurrency
+ * divided by the latency.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class JettyConfiguratorBenchmark {
+    private static final int REQUESTS = 2000;
+
+    @Param({"default", "jetty"})
+    private String configurator;
+
+    @Param({"100", "1000"})
+    private int concurrency;
+
+    @Param({"50"})
+    private long latencyMillis;
+
+    private ServiceStandIn standIn;
+    private ObjectStorageAsyncClient client;
+
+    @Setup
+    public void setUp() throws Exception {
+        standIn =
+                ServiceStandIn.start(
+                        StandInConfiguration.builder().latencyMillis(latencyMillis).build());
+        client =
+                ObjectStorageAsyncClient.builder()
+                        .clientConfigurator(createConfigurator())
+                        .configuration(
+                                ClientConfiguration.builder().readTimeoutMillis(600000).build())
+                        .endpoint(standIn.getEndpoint())
+                        .build(BenchmarkCredentials.authenticationDetailsProvider());
+    }
+
+    @TearDown
+    public void tearDown() {
+        client.close();
+        standIn.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(REQUESTS)
+    public void getNamespace() throws InterruptedException {
+        final Semaphore inFlight = new Semaphore(concurrency);
+        final CountDownLatch done = new CountDownLatch(REQUESTS);
+        final AtomicInteger failures = new AtomicInteger();
+        GetNamespaceRequest request = GetNamespaceRequest.builder().build();
+        for (int i = 0; i < REQUESTS; i++) {
+            inFlight.acquire();
+            client.getNamespace(request)
+                    .whenComplete(
+                            new BiConsumer<GetNamespaceResponse, Throwable>() {
+                                @Override
+                                public void accept(
+                                        GetNamespaceResponse response, Throwable throwable) {
+                                    if (throwable != null) {
+                                        failures.incrementAndGet();
+                                    }
+                                    inFlight.release();
+                                    done.countDown();
+                                }
+                            });
+        }
+        done.await();
+        if (failures.get() > 0) {
+            throw new IllegalStateException(failures.get() + " requests failed");
+        }
+    }
+
+    private ClientConfigurator createConfigurator() {
+        if ("jetty".equals(configurator)) {
+            return new JettyConfigurator(
+                    JettyConnectionPoolConfig.builder()
+                            .maxConnectionsPerDestination(concurrency)
+                            .maxRequestsQueuedPerDestination(REQUESTS)
+                            .build());
+        }
+        return new DefaultConfigurator();
+    }
+}
@@ -0,0 +1,170 @@
+/**
+ * Copyright (c) 2016, 2019, Oracle and/or its affiliates. All rights reserved.
+ */
+package com.oracle.bmc.http.internal;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.google.common.base.CaseFormat;
+import com.oracle.bmc.benchmarks.BenchmarkModels;
+import com.oracle.bmc.core.model.Instance;
+import com.oracle.bmc.core.model.LaunchInstanceDetails;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures serializing models with the {@link ExplicitlySetFilter}, which the ObjectMapper of the
+ * SDK applies to every model: a page of instances (a third of them with explicit nulls), and the
+ * details to launch an instance, a request body with nested models and maps.
+ * <p>
+ * The {@code reflective} filter is a copy of the filter before the fields of each model class
+ * were cached, which looked up the fields and made them accessible again for every property.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExplicitlySetFilterBenchmark {
+    @Param({"100", "1000"})
+    private int instanceCount;
+
+    @Param({"cached", "reflective"})
+    private String filter;
+
+    private List<Instance> instances;
+    private LaunchInstanceDetails launchInstanceDetails;
+    private ObjectMapper mapper;
+
+    @Setup
+    public void setUp() {
+        instances = BenchmarkModels.instances(instanceCount);
+        launchInstanceDetails = BenchmarkModels.launchInstanceDetails();
+        mapper = RestClientFactory.getObjectMapper();
+        if ("reflective".equals(filter)) {
+            mapper =
+                    mapper.copy()
+                            .setFilterProvider(
+                                    new SimpleFilterProvider()
+                                            .addFilter(
+                                                    ExplicitlySetFilter.NAME,
+                                                    new ReflectiveExplicitlySetFilter()));
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeInstances() throws Exception {
+        return mapper.writeValueAsBytes(instances);
+    }
+
+    @Benchmark
+    public byte[] serializeLaunchInstanceDetails() throws Exception {
+        return mapper.writeValueAsBytes(launchInstanceDetails);
+    }
+
+    /**
+     * The filter as it was before the fields were cached, to compare against.
+     */
+    private static final class ReflectiveExplicitlySetFilter extends SimpleBeanPropertyFilter {
+        private static final Logger LOG = LoggerFactory.getLogger(ExplicitlySetFilter.class);
+
+        @Override
+        public void serializeAsField(
+                Object pojo,
+                JsonGenerator jgen,
+                SerializerProvider provider,
+                PropertyWriter writer)
+                throws Exception {
+            if (include(writer)) {
+                Field field = getMatchingDeclaredField(pojo.getClass(), writer.getName());
+                boolean accessible = field.isAccessible();
+                try {
+                    field.setAccessible(true);
+                    Object fieldValue = field.get(pojo);
+                    if (fieldValue != null) {
+                        // not null, definitely serialize
+                        writer.serializeAsField(pojo, jgen, provider);
+                    } else {
+                        // null, find out if null was explicitly set
+                        Field explicitField =
+                                pojo.getClass().getDeclaredField(ExplicitlySetFilter.FIELD_NAME);
+                        boolean explicitAccessible = explicitField.isAccessible();
+                        try {
+                            explicitField.setAccessible(true);
+                            Set<String> explicitlySet = (Set<String>) explicitField.get(pojo);
+                            if (explicitlySet.contains(writer.getName())) {
+                                // explicitly set, serialize
+                                writer.serializeAsField(pojo, jgen, provider);
+                            }
+                        } finally {
+                            explicitField.setAccessible(explicitAccessible);
+                        }
+                    }
+                } finally {
+                    field.setAccessible(accessible);
+                }
+            } else if (!jgen.canOmitFields()) { // since 2.3
+                writer.serializeAsOmittedField(pojo, jgen, provider);
+            }
+        }
+
+        private static Field getDeclaredField(Class<?> pojoClass, String fieldName)
+                throws NoSuchFieldException {
+            try {
+                return pojoClass.getDeclaredField(fieldName);
+            } catch (NoSuchFieldException nsfe) {
+                Class<?> superclass = pojoClass.getSuperclass();
+                if (superclass != null) {
+                    return getDeclaredField(superclass, fieldName);
+                } else {
+                    throw nsfe;
+                }
+            }
+        }
+
+        private static Field getMatchingDeclaredField(Class<?> pojoClass, String fieldName)
+                throws NoSuchFieldException {
+            // Try matching the exact field name
+            try {
+                return getDeclaredField(pojoClass, fieldName);
+            } catch (NoSuchFieldException nsfe) {
+                LOG.debug("Exact field name match failed for {}", fieldName);
+            }
+            // If not found, try converting the field name from snake case to camel case
+            return getDeclaredField(
+                    pojoClass, CaseFormat.LOWER_UNDERSCORE.to(CaseFormat.LOWER_CAMEL, fieldName));
+        }
+
+        @Override
+        protected boolean include(BeanPropertyWriter writer) {
+            return !ExplicitlySetFilter.FIELD_NAME.equals(writer.getName());
+        }
+
+        @Override
+        protected boolean include(PropertyWriter writer) {
+            return !ExplicitlySetFilter.FIELD_NAME.equals(writer.getName());
+        }
+    }
+}
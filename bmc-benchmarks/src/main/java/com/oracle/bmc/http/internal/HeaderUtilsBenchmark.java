@@ -0,0 +1,97 @@
+/**
+ * Copyright (c) 2016, 2019, Oracle and/or its affiliates. All rights reserved.
+ */
+package com.oracle.bmc.http.internal;
+
+import com.google.common.base.Optional;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures reading the headers of a response the way the generated clients do: looking up a
+ * header with {@link HeaderUtils#get(MultivaluedMap, String)} among the headers of a typical
+ * Object Storage response, and converting values with
+ * {@link HeaderUtils#toValue(String, String, Class)}, which parses dates with
+ * {@link HttpDateUtils}.
+ * <p>
+ * RFC 2616 dates are tried in the formats of RFC 1123, RFC 1036 and ANSI C, in this order, so
+ * {@code parseAsctimeDate} measures the cost of the fallbacks.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HeaderUtilsBenchmark {
+    private MultivaluedMap<String, String> headers;
+    private Date date;
+
+    @Setup
+    public void setUp() {
+        headers = new MultivaluedHashMap<>();
+        headers.add("Date", "Tue, 15 Jan 2019 21:31:40 GMT");
+        headers.add("Content-Type", "application/octet-stream");
+        headers.add("Content-Length", "1048576");
+        headers.add("Connection", "keep-alive");
+        headers.add("Accept-Ranges", "bytes");
+        headers.add("ETag", "2a5c2ed6-cd55-4b56-9f2d-a25bd0a6ff7e");
+        headers.add("Last-Modified", "Tue, 15 Jan 2019 21:30:10 GMT");
+        headers.add("Content-MD5", "XrY7u+Ae7tCTyyK7j1rNww==");
+        headers.add("opc-meta-owner", "benchmark");
+        headers.add("archival-state", "Available");
+        headers.add("opc-client-request-id", "C0A8B2E94CF24BC0A2B1B1F7B1AE6F4A");
+        headers.add("opc-request-id", "phx-1:eOqP2dnJOq4ZQo5nqvMV7hfDmEsJfsdq");
+        date = new Date(1547587900123L);
+    }
+
+    @Benchmark
+    public Optional<List<String>> getLastHeader() {
+        return HeaderUtils.get(headers, "opc-request-id");
+    }
+
+    @Benchmark
+    public Optional<List<String>> getMissingHeader() {
+        return HeaderUtils.get(headers, "opc-multipart-md5");
+    }
+
+    @Benchmark
+    public Long toLong() {
+        return HeaderUtils.toValue("Content-Length", "1048576", Long.class);
+    }
+
+    @Benchmark
+    public Date parseRfc1123Date() {
+        return HeaderUtils.toValue("Last-Modified", "Tue, 15 Jan 2019 21:30:10 GMT", Date.class);
+    }
+
+    @Benchmark
+    public Date parseAsctimeDate() {
+        return HeaderUtils.toValue("Last-Modified", "Tue Jan 15 21:30:10 2019", Date.class);
+    }
+
+    @Benchmark
+    public Date parseRfc3339Date() {
+        return HeaderUtils.toValue("time-created", "2019-01-15T21:30:10.123Z", Date.class);
+    }
+
+    @Benchmark
+    public String formatRfc3339Date() {
+        return HttpDateUtils.format(date);
+    }
+}
@@ -0,0 +1,99 @@
+/**
+ * Copyright (c) 2016, 2019, Oracle and/or its affiliates. All rights reserved.
+ */
+package com.oracle.bmc.http.internal;
+
+import com.oracle.bmc.benchmarks.BenchmarkModels;
+import com.oracle.bmc.core.model.Instance;
+import org.glassfish.jersey.jackson.internal.jackson.jaxrs.json.JacksonJsonProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.ClientBuilder;
+import javax.ws.rs.client.ClientRequestContext;
+import javax.ws.rs.client.ClientRequestFilter;
+import javax.ws.rs.client.Invocation;
+import javax.ws.rs.core.GenericType;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures reading a page of instances with
+ * {@link ResponseHelper#readEntity(Response, GenericType)}, both directly from the response
+ * stream, as the synchronous clients do, and after buffering the response, as the asynchronous
+ * clients do.
+ * <p>
+ * The responses are made by a client filter instead of a server, so the results are the cost of
+ * the JAX-RS client invocation and the deserialization, without the network.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseHelperBenchmark {
+    private static final GenericType<List<Instance>> INSTANCE_LIST =
+            new GenericType<List<Instance>>() {};
+
+    @Param({"100", "1000"})
+    private int instanceCount;
+
+    private Client client;
+    private Invocation.Builder invocation;
+
+    @Setup
+    public void setUp() throws Exception {
+        final byte[] page =
+                RestClientFactory.getObjectMapper()
+                        .writeValueAsBytes(BenchmarkModels.instances(instanceCount));
+        client =
+                ClientBuilder.newClient()
+                        .register(new JacksonJsonProvider(RestClientFactory.getObjectMapper()))
+                        .register(
+                                new ClientRequestFilter() {
+                                    @Override
+                                    public void filter(ClientRequestContext requestContext) {
+                                        requestContext.abortWith(
+                                                Response.ok(page, MediaType.APPLICATION_JSON_TYPE)
+                                                        .build());
+                                    }
+                                });
+        invocation =
+                client.target("http://localhost/20160918/instances")
+                        .request(MediaType.APPLICATION_JSON_TYPE);
+    }
+
+    @TearDown
+    public void tearDown() {
+        client.close();
+    }
+
+    @Benchmark
+    public List<Instance> readEntity() {
+        Response response = invocation.get();
+        ResponseHelper.throwIfNotSuccessful(response);
+        return ResponseHelper.readEntity(response, INSTANCE_LIST);
+    }
+
+    @Benchmark
+    public List<Instance> readSharedEntity() {
+        Response response = WrappedResponse.shared(invocation.get());
+        ResponseHelper.throwIfNotSuccessful(response);
+        return ResponseHelper.readEntity(response, INSTANCE_LIST);
+    }
+}
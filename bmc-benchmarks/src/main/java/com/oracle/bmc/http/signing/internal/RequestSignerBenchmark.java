@@ -0,0 +1,128 @@
+/**
+ * Copyright (c) 2016, 2019, Oracle and/or its affiliates. All rights reserved.
+ */
+package com.oracle.bmc.http.signing.internal;
+
+import com.google.common.base.Optional;
+import com.google.common.base.Suppliers;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.oracle.bmc.http.internal.SerializedBody;
+import com.oracle.bmc.http.signing.SigningStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.security.interfaces.RSAPrivateKey;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of {@link RequestSignerImpl#signRequest(URI, String, Map, Object)}
+ * for a GET and a POST request, and compares signing with the {@link SignatureSigner}, which keeps
+ * initialized {@link Signature}s in a pool per private key (held in a Guava cache with weak keys,
+ * dropped after 5 minutes without access), with looking up and initializing a new
+ * {@link Signature} for every request, as it was done before.
+ * <p>
+ * Run the main method to run it with 1, 4 and 16 threads and the GC profiler, or run it with the
+ * {@link com.oracle.bmc.benchmarks.BenchmarkRunner} and pick the number of threads with
+ * {@code -t}. Both report the allocations per signed request; the difference between
+ * {@code signRequest} and {@code signWithCachedSignature} is what the request signer allocates in
+ * addition to the RSA signature itself.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestSignerBenchmark {
+    private static final URI TARGET_URI =
+            URI.create("https://objectstorage.us-phoenix-1.oraclecloud.com/n/ns/b/b/o/o");
+    private static final Map<String, List<String>> HEADERS =
+            ImmutableMap.<String, List<String>>of(
+                    "opc-request-id",
+                    ImmutableList.of("requestId"),
+                    "Accept",
+                    ImmutableList.of("application/json"),
+                    "Content-Type",
+                    ImmutableList.of("application/json"));
+    private static final SerializedBody BODY = SerializedBody.of("{\"name\":\"bucket\"}");
+    private static final byte[] MESSAGE =
+            ("date: Thu, 05 Jan 2014 21:31:40 GMT\n"
+                            + "(request-target): get /n/ns/b/b/o/o\n"
+                            + "host: objectstorage.us-phoenix-1.oraclecloud.com")
+                    .getBytes(StandardCharsets.UTF_8);
+
+    private RSAPrivateKey privateKey;
+    private RequestSignerImpl requestSigner;
+    private SignatureSigner signatureSigner;
+
+    public static void main(String[] args) throws Exception {
+        for (int threads : new int[] {1, 4, 16}) {
+            new Runner(
+                            new OptionsBuilder()
+                                    .include(RequestSignerBenchmark.class.getSimpleName())
+                                    .threads(threads)
+                                    .addProfiler(GCProfiler.class)
+                                    .build())
+                    .run();
+        }
+    }
+
+    @Setup
+    public void setUp() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        privateKey = (RSAPrivateKey) generator.generateKeyPair().getPrivate();
+        requestSigner =
+                new RequestSignerImpl(
+                        new KeySupplier<RSAPrivateKey>() {
+                            @Override
+                            public Optional<RSAPrivateKey> getKey(String keyId) {
+                                return Optional.of(privateKey);
+                            }
+                        },
+                        SigningStrategy.STANDARD,
+                        Suppliers.ofInstance("ocid1.tenancy/ocid1.user/fingerprint"));
+        signatureSigner = new SignatureSigner();
+    }
+
+    @Benchmark
+    public Map<String, String> signRequest() {
+        return requestSigner.signRequest(TARGET_URI, "GET", HEADERS, null);
+    }
+
+    @Benchmark
+    public Map<String, String> signPostRequest() {
+        return requestSigner.signRequest(TARGET_URI, "POST", HEADERS, BODY);
+    }
+
+    @Benchmark
+    public byte[] signWithCachedSignature() {
+        return signatureSigner.sign(privateKey, MESSAGE, Algorithm.RSAPSS256.getJvmName());
+    }
+
+    @Benchmark
+    public byte[] signWithNewSignature() throws Exception {
+        Signature signature = Signature.getInstance(Algorithm.RSAPSS256.getJvmName());
+        signature.initSign(privateKey);
+        signature.update(MESSAGE);
+        return signature.sign();
+    }
+}
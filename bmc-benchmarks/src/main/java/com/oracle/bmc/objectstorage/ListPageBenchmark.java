@@ -0,0 +1,93 @@
+/**
+ * Copyright (c) 2016, 2019, Oracle and/or its affiliates. All rights reserved.
+ */
+package com.oracle.bmc.objectstorage;
+
+import com.oracle.bmc.benchmarks.BenchmarkCredentials;
+import com.oracle.bmc.objectstorage.requests.ListObjectsRequest;
+import com.oracle.bmc.objectstorage.responses.ListObjectsResponse;
+import com.oracle.bmc.standin.ObjectStorageStandIn;
+import com.oracle.bmc.standin.ServiceStandIn;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading a page of objects with {@link ObjectStorageClient#listObjects}, which parses
+ * the response directly from the connection, and with the Future returned by
+ * {@link ObjectStorageAsyncClient#listObjects}, which buffers the response first because a Future
+ * may be read more than once.
+ * <p>
+ * The pages are served by the service stand-in. The bytes allocated per page, reported by the
+ * {@link com.oracle.bmc.benchmarks.BenchmarkRunner}, include the copy of the response made by
+ * buffering.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ListPageBenchmark {
+    private static final String NAMESPACE = ObjectStorageStandIn.NAMESPACE_NAME;
+    private static final String BUCKET = "bucket";
+
+    @Param({"100", "1000"})
+    private int items;
+
+    private ServiceStandIn standIn;
+    private ObjectStorageClient client;
+    private ObjectStorageAsyncClient asyncClient;
+    private ListObjectsRequest request;
+
+    @Setup
+    public void setUp() throws Exception {
+        standIn = ServiceStandIn.start();
+        byte[] content = new byte[1];
+        for (int i = 0; i < items; i++) {
+            standIn.getObjectStorage().putObject(NAMESPACE, BUCKET, "object-" + i, content);
+        }
+
+        client = new ObjectStorageClient(BenchmarkCredentials.authenticationDetailsProvider());
+        client.setEndpoint(standIn.getEndpoint());
+        asyncClient =
+                new ObjectStorageAsyncClient(BenchmarkCredentials.authenticationDetailsProvider());
+        asyncClient.setEndpoint(standIn.getEndpoint());
+        request =
+                ListObjectsRequest.builder()
+                        .namespaceName(NAMESPACE)
+                        .bucketName(BUCKET)
+                        .limit(items)
+                        .fields("name,size,md5,timeCreated")
+                        .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        client.close();
+        asyncClient.close();
+        standIn.close();
+    }
+
+    @Benchmark
+    public ListObjectsResponse streaming() {
+        return client.listObjects(request);
+    }
+
+    @Benchmark
+    public ListObjectsResponse buffered() throws InterruptedException, ExecutionException {
+        return asyncClient.listObjects(request, null).get();
+    }
+}
@@ -0,0 +1,134 @@
+/**
+ * Copyright (c) 2016, 2019, Oracle and/or its affiliates. All rights reserved.
+ */
+package com.oracle.bmc.objectstorage;
+
+import com.google.common.io.ByteStreams;
+import com.oracle.bmc.benchmarks.BenchmarkCredentials;
+import com.oracle.bmc.objectstorage.requests.GetObjectRequest;
+import com.oracle.bmc.objectstorage.requests.HeadObjectRequest;
+import com.oracle.bmc.objectstorage.requests.ListObjectsRequest;
+import com.oracle.bmc.objectstorage.requests.PutObjectRequest;
+import com.oracle.bmc.objectstorage.responses.GetObjectResponse;
+import com.oracle.bmc.objectstorage.responses.HeadObjectResponse;
+import com.oracle.bmc.objectstorage.responses.ListObjectsResponse;
+import com.oracle.bmc.objectstorage.responses.PutObjectResponse;
+import com.oracle.bmc.standin.ObjectStorageStandIn;
+import com.oracle.bmc.standin.ServiceStandIn;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures calls of the {@link ObjectStorageClient} end to end, from building the request to
+ * reading the response, against the service stand-in on the loopback interface, which answers
+ * immediately. The results include signing, the JAX-RS client and the HTTP connection, but not
+ * the latency of the service.
+ * <p>
+ * Run it with more threads ({@code -t}) to see the contention of concurrent requests.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ObjectStorageClientBenchmark {
+    private static final String NAMESPACE = ObjectStorageStandIn.NAMESPACE_NAME;
+    private static final String BUCKET = "bucket";
+    private static final String OBJECT = "object";
+    private static final String LISTED_PREFIX = "prefix/";
+    private static final int LISTED_OBJECTS = 1000;
+
+    @Param({"1024", "1048576"})
+    private int objectSize;
+
+    private byte[] object;
+    private ServiceStandIn standIn;
+    private ObjectStorageClient client;
+
+    @Setup
+    public void setUp() throws Exception {
+        object = new byte[objectSize];
+        new Random(42).nextBytes(object);
+
+        standIn = ServiceStandIn.start();
+        ObjectStorageStandIn objectStorage = standIn.getObjectStorage();
+        objectStorage.putObject(NAMESPACE, BUCKET, OBJECT, object);
+        byte[] listedObject = new byte[1];
+        for (int i = 0; i < LISTED_OBJECTS; i++) {
+            objectStorage.putObject(NAMESPACE, BUCKET, LISTED_PREFIX + "object-" + i, listedObject);
+        }
+
+        client = new ObjectStorageClient(BenchmarkCredentials.authenticationDetailsProvider());
+        client.setEndpoint(standIn.getEndpoint());
+    }
+
+    @TearDown
+    public void tearDown() {
+        client.close();
+        standIn.close();
+    }
+
+    @Benchmark
+    public long getObject() throws IOException {
+        GetObjectResponse response =
+                client.getObject(
+                        GetObjectRequest.builder()
+                                .namespaceName(NAMESPACE)
+                                .bucketName(BUCKET)
+                                .objectName(OBJECT)
+                                .build());
+        try (InputStream body = response.getInputStream()) {
+            return ByteStreams.exhaust(body);
+        }
+    }
+
+    @Benchmark
+    public HeadObjectResponse headObject() {
+        return client.headObject(
+                HeadObjectRequest.builder()
+                        .namespaceName(NAMESPACE)
+                        .bucketName(BUCKET)
+                        .objectName(OBJECT)
+                        .build());
+    }
+
+    @Benchmark
+    public PutObjectResponse putObject() {
+        return client.putObject(
+                PutObjectRequest.builder()
+                        .namespaceName(NAMESPACE)
+                        .bucketName(BUCKET)
+                        .objectName(OBJECT)
+                        .contentLength((long) object.length)
+                        .putObjectBody(new ByteArrayInputStream(object))
+                        .build());
+    }
+
+    @Benchmark
+    public ListObjectsResponse listObjects() {
+        return client.listObjects(
+                ListObjectsRequest.builder()
+                        .namespaceName(NAMESPACE)
+                        .bucketName(BUCKET)
+                        .prefix(LISTED_PREFIX)
+                        .fields("name,size,md5,timeCreated")
+                        .build());
+    }
+}
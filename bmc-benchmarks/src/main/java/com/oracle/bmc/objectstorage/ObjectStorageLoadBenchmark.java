@@ -0,0 +1,117 @@
+/**
+ * Copyright (c) 2016, 2019, Oracle and/or its affiliates. All rights reserved.
+ */
+package com.oracle.bmc.objectstorage;
+
+import com.google.common.io.ByteStreams;
+import com.oracle.bmc.benchmarks.BenchmarkCredentials;
+import com.oracle.bmc.objectstorage.requests.GetObjectRequest;
+import com.oracle.bmc.objectstorage.requests.PutObjectRequest;
+import com.oracle.bmc.objectstorage.responses.GetObjectResponse;
+import com.oracle.bmc.objectstorage.responses.PutObjectResponse;
+import com.oracle.bmc.standin.ObjectStorageStandIn;
+import com.oracle.bmc.standin.ServiceStandIn;
+import com.oracle.bmc.standin.StandInConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput and the latency distribution of concurrent {@link ObjectStorageClient}
+ * calls against the service stand-in, which delays every request like a service would. Unlike
+ * {@link ObjectStorageClientBenchmark}, the results depend on how well the client overlaps
+ * requests (the connection pool, the threads), not only on its per-request overhead.
+ * <p>
+ * The sample time mode reports percentiles; compare p0.99 and p0.999 to the configured latency to
+ * see the tail latency added by the client. Run it with other thread counts ({@code -t}) to
+ * see how throughput scales.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(16)
+@Fork(1)
+public class ObjectStorageLoadBenchmark {
+    private static final String NAMESPACE = ObjectStorageStandIn.NAMESPACE_NAME;
+    private static final String BUCKET = "bucket";
+    private static final String OBJECT = "object";
+
+    @Param({"65536"})
+    private int objectSize;
+
+    @Param({"0", "20"})
+    private long latencyMillis;
+
+    @Param({"0", "10"})
+    private long latencyJitterMillis;
+
+    private byte[] object;
+    private ServiceStandIn standIn;
+    private ObjectStorageClient client;
+
+    @Setup
+    public void setUp() throws Exception {
+        object = new byte[objectSize];
+        new Random(42).nextBytes(object);
+        standIn =
+                ServiceStandIn.start(
+                        StandInConfiguration.builder()
+                                .latencyMillis(latencyMillis)
+                                .latencyJitterMillis(latencyJitterMillis)
+                                .build());
+        standIn.getObjectStorage().putObject(NAMESPACE, BUCKET, OBJECT, object);
+
+        client = new ObjectStorageClient(BenchmarkCredentials.authenticationDetailsProvider());
+        client.setEndpoint(standIn.getEndpoint());
+    }
+
+    @TearDown
+    public void tearDown() {
+        client.close();
+        standIn.close();
+    }
+
+    @Benchmark
+    public long getObject() throws IOException {
+        GetObjectResponse response =
+                client.getObject(
+                        GetObjectRequest.builder()
+                                .namespaceName(NAMESPACE)
+                                .bucketName(BUCKET)
+                                .objectName(OBJECT)
+                                .build());
+        try (InputStream body = response.getInputStream()) {
+            return ByteStreams.exhaust(body);
+        }
+    }
+
+    @Benchmark
+    public PutObjectResponse putObject() {
+        return client.putObject(
+                PutObjectRequest.builder()
+                        .namespaceName(NAMESPACE)
+                        .bucketName(BUCKET)
+                        .objectName(OBJECT)
+                        .contentLength((long) object.length)
+                        .putObjectBody(new ByteArrayInputStream(object))
+                        .build());
+    }
+}
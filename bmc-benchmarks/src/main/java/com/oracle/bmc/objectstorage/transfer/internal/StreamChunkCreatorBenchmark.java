@@ -0,0 +1,75 @@
+/**
+ * Copyright (c) 2016, 2019, Oracle and/or its affiliates. All rights reserved.
+ */
+package com.oracle.bmc.objectstorage.transfer.internal;
+
+import com.oracle.bmc.io.internal.WrappedByteArrayInputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures splitting a 64 MiB upload into parts with the {@link StreamChunkCreator}, and reading
+ * every part the way the request body is written, with a buffer of 8 KiB.
+ * <p>
+ * A duplicatable source (as files and byte arrays are uploaded) makes every part a duplicate of
+ * the source that skips to the start of the part; any other stream is read sequentially.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StreamChunkCreatorBenchmark {
+    private static final int SOURCE_LENGTH = 64 * 1024 * 1024;
+
+    @Param({"1048576", "8388608"})
+    private int partSize;
+
+    @Param({"true", "false"})
+    private boolean duplicatable;
+
+    private byte[] source;
+    private byte[] buffer;
+
+    @Setup
+    public void setUp() {
+        source = new byte[SOURCE_LENGTH];
+        new Random(42).nextBytes(source);
+        buffer = new byte[8192];
+    }
+
+    @Benchmark
+    public long readAllParts() throws IOException {
+        InputStream stream =
+                duplicatable
+                        ? new WrappedByteArrayInputStream(source)
+                        : new ByteArrayInputStream(source);
+        StreamChunkCreator chunkCreator = new StreamChunkCreator(stream, SOURCE_LENGTH, partSize);
+        long total = 0;
+        while (chunkCreator.hasMore()) {
+            try (InputStream part = chunkCreator.next()) {
+                int read;
+                while ((read = part.read(buffer)) != -1) {
+                    total += read;
+                }
+            }
+        }
+        return total;
+    }
+}
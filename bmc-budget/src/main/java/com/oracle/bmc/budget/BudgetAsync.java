@@ -52,6 +52,24 @@ public interface BudgetAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<CreateAlertRuleRequest, CreateAlertRuleResponse>
                     handler);
 
+    /**
+     * Creates a new Alert Rule.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreateAlertRuleResponse> createAlertRule(
+            CreateAlertRuleRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreateAlertRuleRequest, CreateAlertRuleResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createAlertRule(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Creates a new Budget.
      *
@@ -68,6 +86,24 @@ public interface BudgetAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<CreateBudgetRequest, CreateBudgetResponse>
                     handler);
 
+    /**
+     * Creates a new Budget.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreateBudgetResponse> createBudget(
+            CreateBudgetRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreateBudgetRequest, CreateBudgetResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createBudget(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Deletes a specified Alert Rule resource.
      *
@@ -83,6 +119,23 @@ public interface BudgetAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<DeleteAlertRuleRequest, DeleteAlertRuleResponse>
                     handler);
 
+    /**
+     * Deletes a specified Alert Rule resource.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<DeleteAlertRuleResponse> deleteAlertRule(
+            DeleteAlertRuleRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        DeleteAlertRuleRequest, DeleteAlertRuleResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        deleteAlertRule(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Deletes a specified Budget resource
      *
@@ -98,6 +151,23 @@ public interface BudgetAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<DeleteBudgetRequest, DeleteBudgetResponse>
                     handler);
 
+    /**
+     * Deletes a specified Budget resource
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<DeleteBudgetResponse> deleteBudget(
+            DeleteBudgetRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        DeleteBudgetRequest, DeleteBudgetResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        deleteBudget(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets an Alert Rule for a specified Budget.
      *
@@ -113,6 +183,23 @@ public interface BudgetAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<GetAlertRuleRequest, GetAlertRuleResponse>
                     handler);
 
+    /**
+     * Gets an Alert Rule for a specified Budget.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetAlertRuleResponse> getAlertRule(
+            GetAlertRuleRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetAlertRuleRequest, GetAlertRuleResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getAlertRule(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets a Budget by identifier
      *
@@ -127,6 +214,23 @@ public interface BudgetAsync extends AutoCloseable {
             GetBudgetRequest request,
             com.oracle.bmc.responses.AsyncHandler<GetBudgetRequest, GetBudgetResponse> handler);
 
+    /**
+     * Gets a Budget by identifier
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetBudgetResponse> getBudget(
+            GetBudgetRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetBudgetRequest, GetBudgetResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getBudget(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Returns a list of Alert Rules for a specified Budget.
      *
@@ -143,6 +247,24 @@ public interface BudgetAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<ListAlertRulesRequest, ListAlertRulesResponse>
                     handler);
 
+    /**
+     * Returns a list of Alert Rules for a specified Budget.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListAlertRulesResponse> listAlertRules(
+            ListAlertRulesRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListAlertRulesRequest, ListAlertRulesResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listAlertRules(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets a list of all Budgets in a compartment.
      *
@@ -158,6 +280,24 @@ public interface BudgetAsync extends AutoCloseable {
             ListBudgetsRequest request,
             com.oracle.bmc.responses.AsyncHandler<ListBudgetsRequest, ListBudgetsResponse> handler);
 
+    /**
+     * Gets a list of all Budgets in a compartment.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListBudgetsResponse> listBudgets(
+            ListBudgetsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListBudgetsRequest, ListBudgetsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listBudgets(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Update an Alert Rule for the budget identified by the OCID.
      *
@@ -173,6 +313,23 @@ public interface BudgetAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<UpdateAlertRuleRequest, UpdateAlertRuleResponse>
                     handler);
 
+    /**
+     * Update an Alert Rule for the budget identified by the OCID.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateAlertRuleResponse> updateAlertRule(
+            UpdateAlertRuleRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateAlertRuleRequest, UpdateAlertRuleResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateAlertRule(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Update a Budget identified by the OCID
      *
@@ -187,4 +344,21 @@ public interface BudgetAsync extends AutoCloseable {
             UpdateBudgetRequest request,
             com.oracle.bmc.responses.AsyncHandler<UpdateBudgetRequest, UpdateBudgetResponse>
                     handler);
+
+    /**
+     * Update a Budget identified by the OCID
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateBudgetResponse> updateBudget(
+            UpdateBudgetRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateBudgetRequest, UpdateBudgetResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateBudget(request, handler);
+        return handler.getStage();
+    }
 }
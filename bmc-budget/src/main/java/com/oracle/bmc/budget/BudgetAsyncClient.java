@@ -391,6 +391,33 @@ public class BudgetAsyncClient implements BudgetAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateAlertRuleResponse> createAlertRule(
+            final CreateAlertRuleRequest request) {
+        LOG.trace("Called async createAlertRule");
+        final CreateAlertRuleRequest interceptedRequest =
+                CreateAlertRuleConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateAlertRuleConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, CreateAlertRuleResponse>
+                transformer = CreateAlertRuleConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreateAlertRuleDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateBudgetResponse> createBudget(
             final CreateBudgetRequest request,
@@ -479,6 +506,33 @@ public class BudgetAsyncClient implements BudgetAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateBudgetResponse> createBudget(
+            final CreateBudgetRequest request) {
+        LOG.trace("Called async createBudget");
+        final CreateBudgetRequest interceptedRequest =
+                CreateBudgetConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateBudgetConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, CreateBudgetResponse>
+                transformer = CreateBudgetConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreateBudgetDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteAlertRuleResponse> deleteAlertRule(
             final DeleteAlertRuleRequest request,
@@ -553,6 +607,30 @@ public class BudgetAsyncClient implements BudgetAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteAlertRuleResponse> deleteAlertRule(
+            final DeleteAlertRuleRequest request) {
+        LOG.trace("Called async deleteAlertRule");
+        final DeleteAlertRuleRequest interceptedRequest =
+                DeleteAlertRuleConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteAlertRuleConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, DeleteAlertRuleResponse>
+                transformer = DeleteAlertRuleConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteBudgetResponse> deleteBudget(
             final DeleteBudgetRequest request,
@@ -626,6 +704,30 @@ public class BudgetAsyncClient implements BudgetAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteBudgetResponse> deleteBudget(
+            final DeleteBudgetRequest request) {
+        LOG.trace("Called async deleteBudget");
+        final DeleteBudgetRequest interceptedRequest =
+                DeleteBudgetConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteBudgetConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, DeleteBudgetResponse>
+                transformer = DeleteBudgetConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetAlertRuleResponse> getAlertRule(
             final GetAlertRuleRequest request,
@@ -699,6 +801,30 @@ public class BudgetAsyncClient implements BudgetAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetAlertRuleResponse> getAlertRule(
+            final GetAlertRuleRequest request) {
+        LOG.trace("Called async getAlertRule");
+        final GetAlertRuleRequest interceptedRequest =
+                GetAlertRuleConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetAlertRuleConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetAlertRuleResponse>
+                transformer = GetAlertRuleConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetBudgetResponse> getBudget(
             final GetBudgetRequest request,
@@ -771,6 +897,29 @@ public class BudgetAsyncClient implements BudgetAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetBudgetResponse> getBudget(
+            final GetBudgetRequest request) {
+        LOG.trace("Called async getBudget");
+        final GetBudgetRequest interceptedRequest = GetBudgetConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetBudgetConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetBudgetResponse>
+                transformer = GetBudgetConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListAlertRulesResponse> listAlertRules(
             final ListAlertRulesRequest request,
@@ -845,6 +994,30 @@ public class BudgetAsyncClient implements BudgetAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListAlertRulesResponse> listAlertRules(
+            final ListAlertRulesRequest request) {
+        LOG.trace("Called async listAlertRules");
+        final ListAlertRulesRequest interceptedRequest =
+                ListAlertRulesConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListAlertRulesConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListAlertRulesResponse>
+                transformer = ListAlertRulesConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListBudgetsResponse> listBudgets(
             final ListBudgetsRequest request,
@@ -918,6 +1091,30 @@ public class BudgetAsyncClient implements BudgetAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListBudgetsResponse> listBudgets(
+            final ListBudgetsRequest request) {
+        LOG.trace("Called async listBudgets");
+        final ListBudgetsRequest interceptedRequest =
+                ListBudgetsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListBudgetsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListBudgetsResponse>
+                transformer = ListBudgetsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateAlertRuleResponse> updateAlertRule(
             final UpdateAlertRuleRequest request,
@@ -1007,6 +1204,33 @@ public class BudgetAsyncClient implements BudgetAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateAlertRuleResponse> updateAlertRule(
+            final UpdateAlertRuleRequest request) {
+        LOG.trace("Called async updateAlertRule");
+        final UpdateAlertRuleRequest interceptedRequest =
+                UpdateAlertRuleConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateAlertRuleConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, UpdateAlertRuleResponse>
+                transformer = UpdateAlertRuleConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdateAlertRuleDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateBudgetResponse> updateBudget(
             final UpdateBudgetRequest request,
@@ -1094,4 +1318,31 @@ public class BudgetAsyncClient implements BudgetAsync {
                     responseFuture, transformer);
         }
     }
+
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateBudgetResponse> updateBudget(
+            final UpdateBudgetRequest request) {
+        LOG.trace("Called async updateBudget");
+        final UpdateBudgetRequest interceptedRequest =
+                UpdateBudgetConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateBudgetConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, UpdateBudgetResponse>
+                transformer = UpdateBudgetConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdateBudgetDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
 }
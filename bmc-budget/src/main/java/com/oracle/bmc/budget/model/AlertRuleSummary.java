@@ -159,7 +159,8 @@ public class AlertRuleSummary {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public AlertRuleSummary build() {
             AlertRuleSummary __instance__ =
@@ -315,6 +316,25 @@ public class AlertRuleSummary {
     @com.fasterxml.jackson.annotation.JsonProperty("definedTags")
     java.util.Map<String, java.util.Map<String, Object>> definedTags;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "id",
+                    "budgetId",
+                    "displayName",
+                    "type",
+                    "threshold",
+                    "thresholdType",
+                    "lifecycleState",
+                    "message",
+                    "description",
+                    "version",
+                    "recipients",
+                    "timeCreated",
+                    "timeUpdated",
+                    "freeformTags",
+                    "definedTags");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
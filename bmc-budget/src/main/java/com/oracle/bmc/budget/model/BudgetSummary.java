@@ -177,7 +177,8 @@ public class BudgetSummary {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public BudgetSummary build() {
             BudgetSummary __instance__ =
@@ -348,6 +349,27 @@ public class BudgetSummary {
     @com.fasterxml.jackson.annotation.JsonProperty("definedTags")
     java.util.Map<String, java.util.Map<String, Object>> definedTags;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "id",
+                    "compartmentId",
+                    "targetCompartmentId",
+                    "displayName",
+                    "description",
+                    "amount",
+                    "resetPeriod",
+                    "lifecycleState",
+                    "alertRuleCount",
+                    "version",
+                    "actualSpend",
+                    "forecastedSpend",
+                    "timeSpendComputed",
+                    "timeCreated",
+                    "timeUpdated",
+                    "freeformTags",
+                    "definedTags");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
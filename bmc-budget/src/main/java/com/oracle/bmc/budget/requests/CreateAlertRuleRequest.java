@@ -38,6 +38,7 @@ public class CreateAlertRuleRequest extends com.oracle.bmc.requests.BmcRequest {
     public static class Builder {
         private com.oracle.bmc.util.internal.Consumer<javax.ws.rs.client.Invocation.Builder>
                 invocationCallback = null;
+        private com.oracle.bmc.retrier.RetryConfiguration retryConfiguration = null;
 
         /**
          * Set the invocation callback for the request to be built.
@@ -51,6 +52,17 @@ public class CreateAlertRuleRequest extends com.oracle.bmc.requests.BmcRequest {
             return this;
         }
 
+        /**
+         * Set the retry configuration for the request to be built.
+         * @param retryConfiguration the retry configuration to be used for the request
+         * @return this builder instance
+         */
+        public Builder retryConfiguration(
+                com.oracle.bmc.retrier.RetryConfiguration retryConfiguration) {
+            this.retryConfiguration = retryConfiguration;
+            return this;
+        }
+
         /**
          * Copy method to populate the builder with values from the given instance.
          * @return this builder instance
@@ -61,6 +73,7 @@ public class CreateAlertRuleRequest extends com.oracle.bmc.requests.BmcRequest {
             opcRetryToken(o.getOpcRetryToken());
             opcRequestId(o.getOpcRequestId());
             invocationCallback(o.getInvocationCallback());
+            retryConfiguration(o.getRetryConfiguration());
             return this;
         }
 
@@ -77,6 +90,7 @@ public class CreateAlertRuleRequest extends com.oracle.bmc.requests.BmcRequest {
         public CreateAlertRuleRequest build() {
             CreateAlertRuleRequest request = buildWithoutInvocationCallback();
             request.setInvocationCallback(invocationCallback);
+            request.setRetryConfiguration(retryConfiguration);
             return request;
         }
     }
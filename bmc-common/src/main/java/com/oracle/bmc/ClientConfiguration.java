@@ -3,6 +3,9 @@
  */
 package com.oracle.bmc;
 
+import com.oracle.bmc.http.RequestListener;
+import com.oracle.bmc.retrier.RetryConfiguration;
+
 import lombok.Builder;
 import lombok.Getter;
 import lombok.ToString;
@@ -29,6 +32,17 @@ public class ClientConfiguration {
      * The max number of async threads to use.  Default is 50;
      */
     private final int maxAsyncThreads;
+    /**
+     * The retry configuration applied to all requests made by the client, unless overridden by
+     * {@link com.oracle.bmc.requests.BmcRequest#setRetryConfiguration(RetryConfiguration)}.
+     * Default is {@link RetryConfiguration#NO_RETRY}.
+     */
+    private final RetryConfiguration retryConfiguration;
+    /**
+     * The listener told about every request made by the client, with its latency breakdown.
+     * Default is {@link RequestListener#NO_OP}, which does not collect any metrics.
+     */
+    private final RequestListener requestListener;
 
     // Explicit @Builder on constructor so we can enforce default values.
     @Builder
@@ -36,11 +50,15 @@ public class ClientConfiguration {
             Integer connectionTimeoutMillis,
             Integer readTimeoutMillis,
             Integer maxAsyncThreads,
-            Boolean disableDataBufferingOnUpload) {
+            Boolean disableDataBufferingOnUpload,
+            RetryConfiguration retryConfiguration,
+            RequestListener requestListener) {
         this.connectionTimeoutMillis =
                 getOrDefault(connectionTimeoutMillis, CONNECTION_TIMEOUT_MILLIS);
         this.readTimeoutMillis = getOrDefault(readTimeoutMillis, READ_TIMEOUT_MILLIS);
         this.maxAsyncThreads = getOrDefault(maxAsyncThreads, MAX_ASYNC_THREADS);
+        this.retryConfiguration = getOrDefault(retryConfiguration, RetryConfiguration.NO_RETRY);
+        this.requestListener = getOrDefault(requestListener, RequestListener.NO_OP);
     }
 
     private static <T> T getOrDefault(T value, T defaultValue) {
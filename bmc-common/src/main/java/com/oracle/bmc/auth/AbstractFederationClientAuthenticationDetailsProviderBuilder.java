@@ -3,22 +3,30 @@
  */
 package com.oracle.bmc.auth;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Optional;
 import com.oracle.bmc.InternalSdk;
 import com.oracle.bmc.Realm;
 import com.oracle.bmc.Region;
+import com.oracle.bmc.auth.exception.InstancePrincipalUnavailableException;
 import com.oracle.bmc.auth.internal.AuthUtils;
+import com.oracle.bmc.auth.internal.FileSecurityTokenCache;
+import com.oracle.bmc.auth.internal.SharedSessionKeySupplier;
+import com.oracle.bmc.auth.internal.SharedX509CertificateSupplier;
+import com.oracle.bmc.auth.internal.UrlContentFetcher;
 import com.oracle.bmc.auth.internal.X509FederationClient;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
-import javax.ws.rs.client.Client;
-import javax.ws.rs.client.ClientBuilder;
-import javax.ws.rs.client.WebTarget;
 import javax.ws.rs.core.MediaType;
+import java.io.File;
+import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.util.HashSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
 
 /**
  * Abstract builder base class for authentication details provider extending
@@ -47,6 +55,11 @@ public abstract class AbstractFederationClientAuthenticationDetailsProviderBuild
      */
     protected static final String METADATA_SERVICE_BASE_URL = "http://169.254.169.254/opc/v1/";
 
+    /**
+     * Base url of metadata service actually used, only changed by tests.
+     */
+    @VisibleForTesting String metadataServiceBaseUrl = METADATA_SERVICE_BASE_URL;
+
     /**
      * The federation endpoint url.
      */
@@ -64,6 +77,12 @@ public abstract class AbstractFederationClientAuthenticationDetailsProviderBuild
 
     private String purpose = null;
 
+    private Double backgroundTokenRefreshFraction = null;
+
+    private boolean pregenerateSessionKeys = false;
+
+    private FileSecurityTokenCache sharedSecurityTokenCache = null;
+
     /**
      * Detected region.
      */
@@ -95,50 +114,105 @@ public abstract class AbstractFederationClientAuthenticationDetailsProviderBuild
         return (B) this;
     }
 
+    /**
+     * Enables refreshing the security token in the background, before it expires, so requests
+     * do not have to wait for a new token. A new token is requested once the given fraction of
+     * the lifetime of the current token has passed, e.g. 0.75 to refresh after three quarters
+     * of its lifetime. By default, the token is only refreshed once it expired.
+     * <p>
+     * Each background refresh also rotates the session keys: the new token is requested for a new
+     * key pair, and requests switch to both once the token arrived. Use
+     * {@link #pregenerateSessionKeys(boolean)} to generate the next key pair ahead of time.
+     *
+     * @param backgroundTokenRefreshFraction fraction of the token lifetime, between 0 and 1
+     *            (exclusive), or null to disable background refreshes
+     */
+    public B backgroundTokenRefreshFraction(Double backgroundTokenRefreshFraction) {
+        this.backgroundTokenRefreshFraction = backgroundTokenRefreshFraction;
+        return (B) this;
+    }
+
+    /**
+     * Configures whether the default session key supplier generates the next session key pair
+     * ahead of time on a background thread, so refreshing the security token does not have to
+     * wait for a new key pair to be generated. Has no effect if a custom session key supplier
+     * is configured. Disabled by default.
+     */
+    public B pregenerateSessionKeys(boolean pregenerateSessionKeys) {
+        this.pregenerateSessionKeys = pregenerateSessionKeys;
+        return (B) this;
+    }
+
+    /**
+     * Configures a security token cache shared with other processes on the same host, so only
+     * one of them requests a new token from the auth service (and refreshes the certificates)
+     * when the token expires, and the others reuse it. The certificates detected from instance
+     * metadata are shared through the cache as well. The cached tokens, certificates and keys
+     * are encrypted with the passphrase, which must be the same for all processes sharing the
+     * directory. By default, tokens are not shared.
+     *
+     * @param directory the directory of the cache, only accessible by the user running the
+     *            processes
+     * @param passphrase the passphrase to encrypt the cached tokens with
+     */
+    public B sharedSecurityTokenCache(File directory, char[] passphrase) {
+        this.sharedSecurityTokenCache = new FileSecurityTokenCache(directory, passphrase);
+        return (B) this;
+    }
+
     /**
      * Build a new AuthenticationDetailsProvider that uses the FederationCLient.
      *
      * @return A new provider instance.
      */
     public P build() {
-        SessionKeySupplier sessionKeySupplierToUse =
-                sessionKeySupplier != null
-                        ? sessionKeySupplier
-                        : new AbstractRequestingAuthenticationDetailsProvider
-                                .SessionKeySupplierImpl();
-
-        if (purpose != null) {
-            this.federationClient =
-                    new X509FederationClient(
-                            federationEndpoint,
-                            tenancyId,
-                            leafCertificateSupplier,
-                            sessionKeySupplierToUse,
-                            intermediateCertificateSuppliers,
-                            federationClientConfigurator,
-                            additionalFederationClientConfigurators,
-                            purpose);
+        SessionKeySupplier sessionKeySupplierToUse;
+        if (sessionKeySupplier != null) {
+            sessionKeySupplierToUse = sessionKeySupplier;
+        } else if (pregenerateSessionKeys) {
+            sessionKeySupplierToUse =
+                    new AbstractRequestingAuthenticationDetailsProvider
+                            .PregeneratingSessionKeySupplierImpl();
         } else {
-            this.federationClient =
-                    new X509FederationClient(
-                            federationEndpoint,
-                            tenancyId,
-                            leafCertificateSupplier,
-                            sessionKeySupplierToUse,
-                            intermediateCertificateSuppliers,
-                            federationClientConfigurator,
-                            additionalFederationClientConfigurators);
+            sessionKeySupplierToUse =
+                    new AbstractRequestingAuthenticationDetailsProvider.SessionKeySupplierImpl();
+        }
+        if (sharedSecurityTokenCache != null || backgroundTokenRefreshFraction != null) {
+            sessionKeySupplierToUse = new SharedSessionKeySupplier(sessionKeySupplierToUse);
         }
 
+        this.federationClient =
+                new X509FederationClient(
+                        federationEndpoint,
+                        tenancyId,
+                        leafCertificateSupplier,
+                        sessionKeySupplierToUse,
+                        intermediateCertificateSuppliers,
+                        federationClientConfigurator,
+                        additionalFederationClientConfigurators,
+                        purpose != null ? purpose : X509FederationClient.DEFAULT_PURPOSE,
+                        backgroundTokenRefreshFraction,
+                        sharedSecurityTokenCache);
+
         return buildProvider(sessionKeySupplierToUse);
     }
 
     /**
      * Auto-detect endpoint and certificate information using Instance metadata.
+     * <p>
+     * The endpoint and the certificates are detected concurrently.
      */
     protected void autoDetectUsingMetadataUrl() {
-        autoDetectEndpointUsingMetadataUrl();
+        Future<String> endpoint =
+                UrlContentFetcher.submit(
+                        new Callable<String>() {
+                            @Override
+                            public String call() {
+                                return autoDetectEndpointUsingMetadataUrl();
+                            }
+                        });
         autoDetectCertificatesUsingMetadataUrl();
+        UrlContentFetcher.getResult(endpoint);
     }
 
     /**
@@ -148,9 +222,18 @@ public abstract class AbstractFederationClientAuthenticationDetailsProviderBuild
      */
     protected String autoDetectEndpointUsingMetadataUrl() {
         if (federationEndpoint == null) {
-            Client client = ClientBuilder.newClient();
-            WebTarget base = client.target(METADATA_SERVICE_BASE_URL + "instance/");
-            String regionStr = base.path("region").request(MediaType.TEXT_PLAIN).get(String.class);
+            String regionStr;
+            try {
+                regionStr =
+                        new String(
+                                UrlContentFetcher.read(
+                                        new URL(metadataServiceBaseUrl + "instance/region"),
+                                        MediaType.TEXT_PLAIN),
+                                StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                throw new InstancePrincipalUnavailableException(
+                        "Failed to get the region from the instance metadata service", e);
+            }
             LOG.info("Looking up region for {}", regionStr);
 
             try {
@@ -178,16 +261,32 @@ public abstract class AbstractFederationClientAuthenticationDetailsProviderBuild
 
     /**
      * Auto detects and configures the certificates needed using Instance metadata.
-     *
+     * <p>
+     * The leaf certificate (and its private key) and the intermediate certificate are read
+     * concurrently.
      */
     protected void autoDetectCertificatesUsingMetadataUrl() {
         try {
+            Future<X509CertificateSupplier> intermediateCertificateSupplier = null;
+            if (intermediateCertificateSuppliers == null) {
+                final URL intermediateCertificateUrl =
+                        new URL(metadataServiceBaseUrl + "identity/intermediate.pem");
+                intermediateCertificateSupplier =
+                        UrlContentFetcher.submit(
+                                new Callable<X509CertificateSupplier>() {
+                                    @Override
+                                    public X509CertificateSupplier call() {
+                                        return createCertificateSupplier(
+                                                intermediateCertificateUrl, null);
+                                    }
+                                });
+            }
+
             if (leafCertificateSupplier == null) {
                 leafCertificateSupplier =
-                        new URLBasedX509CertificateSupplier(
-                                new URL(METADATA_SERVICE_BASE_URL + "identity/cert.pem"),
-                                new URL(METADATA_SERVICE_BASE_URL + "identity/key.pem"),
-                                (char[]) null);
+                        createCertificateSupplier(
+                                new URL(metadataServiceBaseUrl + "identity/cert.pem"),
+                                new URL(metadataServiceBaseUrl + "identity/key.pem"));
             }
 
             if (tenancyId == null) {
@@ -198,20 +297,30 @@ public abstract class AbstractFederationClientAuthenticationDetailsProviderBuild
                                         .getCertificate());
             }
 
-            if (intermediateCertificateSuppliers == null) {
+            if (intermediateCertificateSupplier != null) {
                 intermediateCertificateSuppliers = new HashSet<>();
 
                 intermediateCertificateSuppliers.add(
-                        new URLBasedX509CertificateSupplier(
-                                new URL(METADATA_SERVICE_BASE_URL + "identity/intermediate.pem"),
-                                null,
-                                (char[]) null));
+                        UrlContentFetcher.getResult(intermediateCertificateSupplier));
             }
         } catch (MalformedURLException ex) {
             throw new IllegalArgumentException("The metadata service url is invalid.", ex);
         }
     }
 
+    /**
+     * Creates the supplier of a certificate from instance metadata, shared with other processes
+     * if a shared security token cache is configured.
+     */
+    private X509CertificateSupplier createCertificateSupplier(
+            URL certificateUrl, URL privateKeyUrl) {
+        if (sharedSecurityTokenCache != null) {
+            return new SharedX509CertificateSupplier(
+                    sharedSecurityTokenCache, certificateUrl, privateKeyUrl);
+        }
+        return new URLBasedX509CertificateSupplier(certificateUrl, privateKeyUrl, (char[]) null);
+    }
+
     /**
      * Build the actual provider.
      * @param sessionKeySupplierToUse
@@ -3,6 +3,7 @@
  */
 package com.oracle.bmc.auth;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.oracle.bmc.InternalSdk;
 import com.oracle.bmc.auth.internal.AuthUtils;
 import com.oracle.bmc.auth.internal.FederationClient;
@@ -19,11 +20,19 @@ import java.security.interfaces.RSAPublicKey;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import lombok.extern.slf4j.Slf4j;
 
 /**
  * Base class for authentication details providers that make remote requests.
  */
 @InternalSdk
+@Slf4j
 public class AbstractRequestingAuthenticationDetailsProvider
         implements BasicAuthenticationDetailsProvider {
     protected final FederationClient federationClient;
@@ -237,4 +246,99 @@ public class AbstractRequestingAuthenticationDetailsProvider
             this.keyPair = GENERATOR.generateKeyPair();
         }
     }
+
+    /**
+     * A helper class to generate in-memory temporary session keys, which keeps a spare key pair
+     * that is generated ahead of time on a background thread. Refreshing the keys then only swaps
+     * in the spare key pair (and starts generating the next one), instead of generating a new
+     * key pair while the federation client is waiting for it. If the spare key pair is not ready
+     * yet, refreshing the keys waits for it.
+     * <p>
+     * This class is thread-safe.
+     */
+    protected static class PregeneratingSessionKeySupplierImpl implements SessionKeySupplier {
+        private volatile KeyPair keyPair;
+        // guarded by this
+        private Future<KeyPair> spareKeyPair;
+
+        protected PregeneratingSessionKeySupplierImpl() {
+            this.keyPair = generateKeyPair();
+            this.spareKeyPair = generateSpareKeyPair();
+        }
+
+        @Override
+        public KeyPair getKeyPair() {
+            return keyPair;
+        }
+
+        /**
+         * Gets the public key
+         * @return the public key, not null
+         * @deprecated use getKeyPair() instead
+         */
+        @Override
+        @Deprecated
+        public RSAPublicKey getPublicKey() {
+            return (RSAPublicKey) keyPair.getPublic();
+        }
+
+        /**
+         * Gets the private key
+         * @return the private key, not null
+         * @deprecated use getKeyPair() instead
+         */
+        @Override
+        @Deprecated
+        public RSAPrivateKey getPrivateKey() {
+            return (RSAPrivateKey) keyPair.getPrivate();
+        }
+
+        @Override
+        public synchronized void refreshKeys() {
+            KeyPair newKeyPair;
+            try {
+                newKeyPair = spareKeyPair.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                newKeyPair = generateKeyPair();
+            } catch (ExecutionException e) {
+                LOG.warn("Failed to generate spare session key pair", e.getCause());
+                newKeyPair = generateKeyPair();
+            }
+            this.keyPair = newKeyPair;
+            this.spareKeyPair = generateSpareKeyPair();
+        }
+
+        private static Future<KeyPair> generateSpareKeyPair() {
+            return KeyPairGeneratorExecutor.INSTANCE.submit(
+                    new Callable<KeyPair>() {
+                        @Override
+                        public KeyPair call() {
+                            return generateKeyPair();
+                        }
+                    });
+        }
+
+        private static KeyPair generateKeyPair() {
+            try {
+                KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+                generator.initialize(2048);
+                return generator.generateKeyPair();
+            } catch (NoSuchAlgorithmException e) {
+                throw new Error(e.getMessage());
+            }
+        }
+
+        /**
+         * Lazily created executor shared by all suppliers to generate their spare key pairs.
+         */
+        private static final class KeyPairGeneratorExecutor {
+            private static final ExecutorService INSTANCE =
+                    Executors.newSingleThreadExecutor(
+                            new ThreadFactoryBuilder()
+                                    .setDaemon(true)
+                                    .setNameFormat("bmc-session-key-generator-%d")
+                                    .build());
+        }
+    }
 }
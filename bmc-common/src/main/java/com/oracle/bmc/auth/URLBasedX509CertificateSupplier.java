@@ -5,19 +5,22 @@ package com.oracle.bmc.auth;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.security.cert.CertificateException;
 import java.security.cert.CertificateFactory;
 import java.security.cert.X509Certificate;
 import java.security.interfaces.RSAPrivateKey;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicReference;
 
 import javax.security.auth.Refreshable;
 
-import org.apache.commons.io.IOUtils;
-
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.oracle.bmc.auth.internal.UrlContentFetcher;
 import com.oracle.bmc.auth.internal.X509CertificateWithOriginalPem;
 import com.oracle.bmc.http.signing.internal.PEMFileRSAPrivateKeySupplier;
 
@@ -27,6 +30,10 @@ import lombok.extern.slf4j.Slf4j;
  * {@link X509CertificateSupplier} implementation that reads both certificate and private key
  * off of URL.  This class also provides a way to manually refresh the certificate and
  * private key at any point.
+ * <p>
+ * The certificate and the private key are read concurrently, with the timeouts of
+ * {@link UrlContentFetcher}. If neither changed since the last refresh, the previously parsed
+ * certificate and private key are kept.
  */
 @Slf4j
 public class URLBasedX509CertificateSupplier implements X509CertificateSupplier, Refreshable {
@@ -63,6 +70,11 @@ public class URLBasedX509CertificateSupplier implements X509CertificateSupplier,
      */
     private final char[] privateKeyPassphraseCharacters;
 
+    /**
+     * Hash of the certificate and private key read last, guarded by this.
+     */
+    private HashCode lastContentHash;
+
     /**
      * Constructor.
      * @param certificateUrl The certificate url
@@ -112,10 +124,37 @@ public class URLBasedX509CertificateSupplier implements X509CertificateSupplier,
      * A method to refresh the X509 certificate.
      */
     @Override
-    public void refresh() {
-        String rawCertificate = readRawCertificate(certificateUrl);
+    public synchronized void refresh() {
+        String rawCertificate;
+        byte[] rawPrivateKey;
+        if (privateKeyUrl == null) {
+            rawCertificate = readRawCertificate(certificateUrl);
+            rawPrivateKey = null;
+        } else {
+            Future<String> certificateFuture =
+                    UrlContentFetcher.submit(
+                            new Callable<String>() {
+                                @Override
+                                public String call() {
+                                    return readRawCertificate(certificateUrl);
+                                }
+                            });
+            rawPrivateKey = readRawPrivateKey(privateKeyUrl);
+            rawCertificate = UrlContentFetcher.getResult(certificateFuture);
+        }
+
+        Hasher hasher = Hashing.sha256().newHasher().putUnencodedChars(rawCertificate);
+        if (rawPrivateKey != null) {
+            hasher.putBytes(rawPrivateKey);
+        }
+        HashCode contentHash = hasher.hash();
+        if (contentHash.equals(lastContentHash)) {
+            LOG.debug("Certificate and private key from {} did not change", certificateUrl);
+            return;
+        }
+
         X509Certificate certificate = readCertificate(rawCertificate);
-        RSAPrivateKey privateKey = readPrivateKey(privateKeyUrl, privateKeyPassphraseCharacters);
+        RSAPrivateKey privateKey = readPrivateKey(rawPrivateKey, privateKeyPassphraseCharacters);
         if (EXPERIMENTAL_SUPPRESS_X509_WORKAROUND) {
             this.certificateAndKeyPair.set(
                     new CertificateAndPrivateKeyPair(certificate, privateKey));
@@ -125,6 +164,7 @@ public class URLBasedX509CertificateSupplier implements X509CertificateSupplier,
             this.certificateAndKeyPair.set(
                     new CertificateAndPrivateKeyPair(wrappedCertificate, privateKey));
         }
+        lastContentHash = contentHash;
     }
 
     /**
@@ -152,32 +192,36 @@ public class URLBasedX509CertificateSupplier implements X509CertificateSupplier,
     }
 
     private static String readRawCertificate(URL certificateUrl) {
-        try (InputStream is = certificateUrl.openStream()) {
-            return IOUtils.toString(is, StandardCharsets.UTF_8);
+        try {
+            return new String(UrlContentFetcher.read(certificateUrl, null), StandardCharsets.UTF_8);
         } catch (IOException e) {
             throw new IllegalArgumentException("Open stream of certificate failed.", e);
         }
     }
 
+    private static byte[] readRawPrivateKey(URL privateKeyUrl) {
+        try {
+            return UrlContentFetcher.read(privateKeyUrl, null);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("No file for private key", e);
+        }
+    }
+
     /**
-     * Read the private key from url.
-     * @param privateKeyUrl the private key url.
+     * Read the private key from its raw content.
+     * @param rawPrivateKey the private key, in PEM format, or null
      * @param privateKeyPassphrase the private key passhprase
      * @return the private key
      */
-    private static RSAPrivateKey readPrivateKey(URL privateKeyUrl, char[] privateKeyPassphrase) {
-        if (privateKeyUrl == null) {
+    private static RSAPrivateKey readPrivateKey(byte[] rawPrivateKey, char[] privateKeyPassphrase) {
+        if (rawPrivateKey == null) {
             return null;
         }
 
-        try {
-            return new PEMFileRSAPrivateKeySupplier(
-                            privateKeyUrl.openStream(), privateKeyPassphrase)
-                    .getKey(null)
-                    .orNull();
-        } catch (IOException e) {
-            throw new IllegalArgumentException("No file for private key", e);
-        }
+        return new PEMFileRSAPrivateKeySupplier(
+                        new ByteArrayInputStream(rawPrivateKey), privateKeyPassphrase)
+                .getKey(null)
+                .orNull();
     }
 
     /**
@@ -0,0 +1,447 @@
+/**
+ * Copyright (c) 2016, 2019, Oracle and/or its affiliates. All rights reserved.
+ */
+package com.oracle.bmc.auth.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.SecureRandom;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.PBEKeySpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import com.google.common.base.Preconditions;
+import com.google.common.hash.Hashing;
+import com.oracle.bmc.auth.X509CertificateSupplier.CertificateAndPrivateKeyPair;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * A security token cache in a local directory, shared by all processes on the host that use the
+ * same directory and passphrase.
+ * <p>
+ * There is one entry per tenancy and purpose, holding the security token and the session key
+ * pair it was issued for, and one entry per certificate source, holding the certificate and its
+ * private key, if any (see {@link SharedX509CertificateSupplier}). Entries are encrypted with
+ * AES-GCM, using a key derived from the passphrase, and are only readable by the owner where the
+ * file system supports POSIX permissions. Entries are read and replaced while holding an
+ * exclusive lock on a lock file, so only one process at a time requests a new token (or
+ * certificate) for an entry, and the others can reuse it.
+ * <p>
+ * Failures to read or write an entry are logged and treated as a cache miss, so a broken cache
+ * does not prevent getting tokens from the auth service.
+ */
+@Slf4j
+public class FileSecurityTokenCache {
+    private static final byte FORMAT_VERSION = 1;
+    private static final int SALT_LENGTH = 16;
+    private static final int IV_LENGTH = 12;
+    private static final int GCM_TAG_LENGTH_BITS = 128;
+    private static final int KEY_DERIVATION_ITERATIONS = 10000;
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    // file locks are held by the JVM, so threads of the same JVM are serialized separately
+    private static final ConcurrentMap<String, ReentrantLock> LOCAL_LOCKS =
+            new ConcurrentHashMap<>();
+
+    private final File directory;
+    private final char[] passphrase;
+    private final byte[] salt;
+    private final SecretKey key;
+
+    // the key of the last entry read with a different salt, i.e. written by another process
+    private volatile DerivedKey lastReadKey;
+
+    /**
+     * Creates a new cache.
+     *
+     * @param directory the directory of the cache, created if it does not exist
+     * @param passphrase the passphrase the entries are encrypted with, shared by all processes
+     *            using the cache
+     */
+    public FileSecurityTokenCache(File directory, char[] passphrase) {
+        Preconditions.checkNotNull(directory);
+        Preconditions.checkArgument(
+                passphrase != null && passphrase.length > 0, "The passphrase must not be empty");
+        this.directory = directory;
+        this.passphrase = passphrase.clone();
+        this.salt = new byte[SALT_LENGTH];
+        RANDOM.nextBytes(salt);
+        this.key = deriveKey(this.passphrase, salt);
+    }
+
+    /**
+     * Locks the entry for the tenancy and purpose, waiting for other threads and processes to
+     * release it.
+     *
+     * @param tenancyId the tenancy id
+     * @param purpose the purpose of the tokens
+     * @return the locked entry, which must be closed to release the lock
+     * @throws IOException if the lock file cannot be created or locked
+     */
+    public LockedEntry lock(String tenancyId, String purpose) throws IOException {
+        return lockEntry(tenancyId + "\n" + purpose, ".token");
+    }
+
+    /**
+     * Locks the entry for a certificate, waiting for other threads and processes to release it.
+     *
+     * @param source where the certificate is read from, e.g. its URL
+     * @return the locked entry, which must be closed to release the lock
+     * @throws IOException if the lock file cannot be created or locked
+     */
+    public LockedEntry lockCertificate(String source) throws IOException {
+        return lockEntry("certificate\n" + source, ".certificate");
+    }
+
+    private LockedEntry lockEntry(String key, String extension) throws IOException {
+        String name = Hashing.sha256().hashString(key, StandardCharsets.UTF_8).toString();
+        if (!directory.isDirectory() && !directory.mkdirs() && !directory.isDirectory()) {
+            throw new IOException("Unable to create security token cache directory " + directory);
+        }
+        File lockFile = new File(directory, name + ".lock");
+        ReentrantLock localLock = getLocalLock(lockFile.getCanonicalPath());
+        localLock.lock();
+        RandomAccessFile file = null;
+        try {
+            file = new RandomAccessFile(lockFile, "rw");
+            FileChannel channel = file.getChannel();
+            FileLock fileLock = channel.lock();
+            return new LockedEntry(
+                    new File(directory, name + extension),
+                    name.getBytes(StandardCharsets.UTF_8),
+                    file,
+                    fileLock,
+                    localLock);
+        } catch (IOException | RuntimeException e) {
+            if (file != null) {
+                file.close();
+            }
+            localLock.unlock();
+            throw e;
+        }
+    }
+
+    private static ReentrantLock getLocalLock(String path) {
+        ReentrantLock lock = LOCAL_LOCKS.get(path);
+        if (lock == null) {
+            ReentrantLock newLock = new ReentrantLock();
+            lock = LOCAL_LOCKS.putIfAbsent(path, newLock);
+            if (lock == null) {
+                lock = newLock;
+            }
+        }
+        return lock;
+    }
+
+    /**
+     * A security token and the session key pair it was issued for.
+     */
+    @RequiredArgsConstructor
+    @Getter
+    public static class CachedToken {
+        private final String token;
+        private final KeyPair keyPair;
+    }
+
+    /**
+     * An entry of the cache, locked for the current thread until it is closed.
+     */
+    @RequiredArgsConstructor
+    public class LockedEntry implements AutoCloseable {
+        private final File file;
+        private final byte[] associatedData;
+        private final RandomAccessFile lockFile;
+        private final FileLock fileLock;
+        private final ReentrantLock localLock;
+
+        /**
+         * Reads the cached token.
+         *
+         * @return the token, or null if there is none or it cannot be read
+         */
+        public CachedToken read() {
+            byte[] content = readContent();
+            try {
+                return (content != null) ? decode(content) : null;
+            } catch (IOException | GeneralSecurityException | RuntimeException e) {
+                LOG.warn("Unable to read cached security token from {}", file, e);
+                return null;
+            }
+        }
+
+        /**
+         * Replaces the cached token.
+         *
+         * @param token the token
+         * @param keyPair the session key pair the token was issued for
+         */
+        public void write(String token, KeyPair keyPair) {
+            try {
+                writeContent(encode(token, keyPair));
+            } catch (IOException e) {
+                LOG.warn("Unable to write cached security token to {}", file, e);
+            }
+        }
+
+        /**
+         * Reads the cached certificate of an entry locked with {@link #lockCertificate(String)}.
+         *
+         * @return the certificate and its private key, if any, or null if there is none or it
+         *         cannot be read
+         */
+        public CertificateAndPrivateKeyPair readCertificate() {
+            byte[] content = readContent();
+            try {
+                return (content != null) ? decodeCertificate(content) : null;
+            } catch (IOException | GeneralSecurityException | RuntimeException e) {
+                LOG.warn("Unable to read cached certificate from {}", file, e);
+                return null;
+            }
+        }
+
+        /**
+         * Replaces the cached certificate of an entry locked with
+         * {@link #lockCertificate(String)}.
+         *
+         * @param certificateAndKeyPair the certificate and its private key, if any
+         */
+        public void writeCertificate(CertificateAndPrivateKeyPair certificateAndKeyPair) {
+            try {
+                writeContent(encodeCertificate(certificateAndKeyPair));
+            } catch (IOException | GeneralSecurityException e) {
+                LOG.warn("Unable to write cached certificate to {}", file, e);
+            }
+        }
+
+        private byte[] readContent() {
+            if (!file.isFile()) {
+                return null;
+            }
+            try {
+                return decrypt(Files.readAllBytes(file.toPath()), associatedData);
+            } catch (IOException | GeneralSecurityException | RuntimeException e) {
+                LOG.warn("Unable to read cache entry {}", file, e);
+                return null;
+            }
+        }
+
+        private void writeContent(byte[] content) {
+            Path temporary = null;
+            try {
+                byte[] encrypted = encrypt(content, associatedData);
+                temporary = Files.createTempFile(directory.toPath(), file.getName(), ".tmp");
+                restrictToOwner(temporary);
+                Files.write(temporary, encrypted);
+                Files.move(
+                        temporary,
+                        file.toPath(),
+                        StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+                temporary = null;
+            } catch (IOException | GeneralSecurityException | RuntimeException e) {
+                LOG.warn("Unable to write cache entry {}", file, e);
+            } finally {
+                if (temporary != null) {
+                    temporary.toFile().delete();
+                }
+            }
+        }
+
+        /**
+         * Releases the lock.
+         */
+        @Override
+        public void close() {
+            try {
+                fileLock.release();
+                lockFile.close();
+            } catch (IOException e) {
+                LOG.warn("Unable to release lock on {}", file, e);
+            } finally {
+                localLock.unlock();
+            }
+        }
+    }
+
+    private static void restrictToOwner(Path path) {
+        try {
+            Files.setPosixFilePermissions(path, PosixFilePermissions.fromString("rw-------"));
+        } catch (UnsupportedOperationException | IOException e) {
+            LOG.debug("Unable to restrict permissions of {}", path, e);
+        }
+    }
+
+    private static byte[] encode(String token, KeyPair keyPair) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            writeBytes(out, token.getBytes(StandardCharsets.UTF_8));
+            writeBytes(out, keyPair.getPublic().getEncoded());
+            writeBytes(out, keyPair.getPrivate().getEncoded());
+        }
+        return bytes.toByteArray();
+    }
+
+    private static CachedToken decode(byte[] bytes)
+            throws IOException, GeneralSecurityException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            String token = new String(readBytes(in), StandardCharsets.UTF_8);
+            KeyFactory keyFactory = KeyFactory.getInstance("RSA");
+            KeyPair keyPair =
+                    new KeyPair(
+                            keyFactory.generatePublic(new X509EncodedKeySpec(readBytes(in))),
+                            keyFactory.generatePrivate(new PKCS8EncodedKeySpec(readBytes(in))));
+            return new CachedToken(token, keyPair);
+        }
+    }
+
+    // the certificate is stored as PEM, since the original encoding is what the auth service needs
+    private static byte[] encodeCertificate(CertificateAndPrivateKeyPair certificateAndKeyPair)
+            throws IOException, GeneralSecurityException {
+        String pem =
+                "-----BEGIN CERTIFICATE-----\n"
+                        + AuthUtils.base64EncodeNoChunking(certificateAndKeyPair.getCertificate())
+                        + "\n-----END CERTIFICATE-----\n";
+        RSAPrivateKey privateKey = certificateAndKeyPair.getPrivateKey();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            writeBytes(out, pem.getBytes(StandardCharsets.UTF_8));
+            writeBytes(out, (privateKey != null) ? privateKey.getEncoded() : new byte[0]);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static CertificateAndPrivateKeyPair decodeCertificate(byte[] bytes)
+            throws IOException, GeneralSecurityException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            String pem = new String(readBytes(in), StandardCharsets.UTF_8);
+            X509Certificate certificate =
+                    (X509Certificate)
+                            CertificateFactory.getInstance("X.509")
+                                    .generateCertificate(
+                                            new ByteArrayInputStream(
+                                                    pem.getBytes(StandardCharsets.UTF_8)));
+            byte[] encodedPrivateKey = readBytes(in);
+            RSAPrivateKey privateKey =
+                    (encodedPrivateKey.length > 0)
+                            ? (RSAPrivateKey)
+                                    KeyFactory.getInstance("RSA")
+                                            .generatePrivate(
+                                                    new PKCS8EncodedKeySpec(encodedPrivateKey))
+                            : null;
+            return new CertificateAndPrivateKeyPair(
+                    new X509CertificateWithOriginalPem(certificate, pem), privateKey);
+        }
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    // format: version, salt, IV, AES-GCM ciphertext
+    private byte[] encrypt(byte[] plaintext, byte[] associatedData)
+            throws GeneralSecurityException {
+        byte[] iv = new byte[IV_LENGTH];
+        RANDOM.nextBytes(iv);
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(GCM_TAG_LENGTH_BITS, iv));
+        cipher.updateAAD(associatedData);
+        byte[] ciphertext = cipher.doFinal(plaintext);
+
+        byte[] result = new byte[1 + SALT_LENGTH + IV_LENGTH + ciphertext.length];
+        result[0] = FORMAT_VERSION;
+        System.arraycopy(salt, 0, result, 1, SALT_LENGTH);
+        System.arraycopy(iv, 0, result, 1 + SALT_LENGTH, IV_LENGTH);
+        System.arraycopy(ciphertext, 0, result, 1 + SALT_LENGTH + IV_LENGTH, ciphertext.length);
+        return result;
+    }
+
+    private byte[] decrypt(byte[] data, byte[] associatedData) throws GeneralSecurityException {
+        if (data.length < 1 + SALT_LENGTH + IV_LENGTH || data[0] != FORMAT_VERSION) {
+            throw new GeneralSecurityException("Unsupported security token cache entry");
+        }
+        byte[] entrySalt = Arrays.copyOfRange(data, 1, 1 + SALT_LENGTH);
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        cipher.init(
+                Cipher.DECRYPT_MODE,
+                getKey(entrySalt),
+                new GCMParameterSpec(GCM_TAG_LENGTH_BITS, data, 1 + SALT_LENGTH, IV_LENGTH));
+        cipher.updateAAD(associatedData);
+        return cipher.doFinal(
+                data, 1 + SALT_LENGTH + IV_LENGTH, data.length - 1 - SALT_LENGTH - IV_LENGTH);
+    }
+
+    // deriving a key is deliberately slow, so keys of entries written by others are reused
+    private SecretKey getKey(byte[] entrySalt) {
+        if (Arrays.equals(salt, entrySalt)) {
+            return key;
+        }
+        DerivedKey last = lastReadKey;
+        if (last != null && Arrays.equals(last.salt, entrySalt)) {
+            return last.key;
+        }
+        SecretKey derived = deriveKey(passphrase, entrySalt);
+        lastReadKey = new DerivedKey(entrySalt, derived);
+        return derived;
+    }
+
+    private static SecretKey deriveKey(char[] passphrase, byte[] salt) {
+        try {
+            PBEKeySpec spec = new PBEKeySpec(passphrase, salt, KEY_DERIVATION_ITERATIONS, 256);
+            try {
+                byte[] encoded =
+                        SecretKeyFactory.getInstance("PBKDF2WithHmacSHA256")
+                                .generateSecret(spec)
+                                .getEncoded();
+                return new SecretKeySpec(encoded, "AES");
+            } finally {
+                spec.clearPassword();
+            }
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Unable to derive security token cache key", e);
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static final class DerivedKey {
+        private final byte[] salt;
+        private final SecretKey key;
+    }
+}
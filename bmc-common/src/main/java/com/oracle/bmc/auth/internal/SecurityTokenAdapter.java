@@ -3,6 +3,7 @@
  */
 package com.oracle.bmc.auth.internal;
 
+import java.security.PublicKey;
 import java.security.interfaces.RSAPublicKey;
 import java.text.ParseException;
 import java.util.Date;
@@ -12,14 +13,27 @@ import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.SignedJWT;
 import com.oracle.bmc.auth.SessionKeySupplier;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Wraps a security token, and checks if it is still valid.
+ * <p>
+ * The expiration time is read from the token once, and the public key of the token is only
+ * compared with the session key once per key pair of the {@link SessionKeySupplier}. Checking a
+ * valid token is then a clock compare and an identity compare of the current public key.
+ */
 @Slf4j
 class SecurityTokenAdapter {
     private final JWTClaimsSet jwt;
     private final SessionKeySupplier sessionKeySupplier;
     @Getter private final String securityToken;
+    // Long.MIN_VALUE if the token has no expiration time
+    @Getter(AccessLevel.PACKAGE)
+    private final long expirationTimeMillis;
+    // the public key of the session key supplier that was found to match the JWK of the token
+    private volatile PublicKey verifiedPublicKey;
 
     SecurityTokenAdapter(String securityToken, SessionKeySupplier sessionKeySupplier) {
         this.securityToken = securityToken;
@@ -29,8 +43,9 @@ class SecurityTokenAdapter {
             jwt = parse(securityToken);
         }
         this.sessionKeySupplier = sessionKeySupplier;
+        final Date exp = (jwt != null) ? jwt.getExpirationTime() : null;
+        this.expirationTimeMillis = (exp != null) ? exp.getTime() : Long.MIN_VALUE;
     }
-
     private JWTClaimsSet parse(String token) {
         try {
             SignedJWT signedJWT = SignedJWT.parse(token);
@@ -50,37 +65,45 @@ class SecurityTokenAdapter {
      * @return true if valid
      */
     boolean isValid() {
+        return isValid(sessionKeySupplier.getKeyPair().getPublic());
+    }
+
+    /**
+     * Checks if the token is still valid for the given session key, which does not have to be
+     * the current key of the session key supplier.
+     * @param publicKey the public session key
+     * @return true if valid
+     */
+    boolean isValid(PublicKey publicKey) {
         if (jwt == null) {
             LOG.debug("Security token is not valid.");
             return false;
         }
 
-        try {
-            Date exp = jwt.getExpirationTime();
-            if (exp != null) {
-                // Make sure the token is not expired
-                if (exp.after(new Date())) {
-                    LOG.debug("Security token is not expired");
+        // Make sure the token is not expired
+        if (expirationTimeMillis <= System.currentTimeMillis()) {
+            LOG.debug("Security token is expired.");
+            return false;
+        }
 
-                    // Next compare the public key inside the JWT is the same
-                    // from the supplier.
-                    // We check this in case secrets service deploys a new key
-                    // and the JWT is still not expired.
-                    // In such case, we would want to re-issue the token
-                    String jwk = jwt.getStringClaim("jwk");
-                    if (jwk != null) {
-                        Optional<RSAPublicKey> jwkRsa = AuthUtils.toPublicKeyFromJson(jwk);
-                        if (jwkRsa.isPresent()
-                                && isEqualPublicKey(
-                                        jwkRsa.get(),
-                                        (RSAPublicKey)
-                                                sessionKeySupplier.getKeyPair().getPublic())) {
+        // Next compare the public key inside the JWT is the same
+        // from the supplier.
+        // We check this in case secrets service deploys a new key
+        // and the JWT is still not expired.
+        // In such case, we would want to re-issue the token
+        if (publicKey == verifiedPublicKey) {
+            return true;
+        }
 
-                            LOG.debug(
-                                    "Security token is still valid. Public key matches with the JWK.");
-                            return true;
-                        }
-                    }
+        try {
+            String jwk = jwt.getStringClaim("jwk");
+            if (jwk != null) {
+                Optional<RSAPublicKey> jwkRsa = AuthUtils.toPublicKeyFromJson(jwk);
+                if (jwkRsa.isPresent()
+                        && isEqualPublicKey(jwkRsa.get(), (RSAPublicKey) publicKey)) {
+                    LOG.debug("Security token is still valid. Public key matches with the JWK.");
+                    verifiedPublicKey = publicKey;
+                    return true;
                 }
             }
         } catch (IllegalArgumentException e) {
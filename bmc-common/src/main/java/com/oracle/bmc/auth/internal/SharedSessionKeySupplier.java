@@ -0,0 +1,72 @@
+/**
+ * Copyright (c) 2016, 2019, Oracle and/or its affiliates. All rights reserved.
+ */
+package com.oracle.bmc.auth.internal;
+
+import java.security.KeyPair;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+
+import com.google.common.base.Preconditions;
+import com.oracle.bmc.auth.SessionKeySupplier;
+
+/**
+ * Session key supplier for federation clients using a {@link FileSecurityTokenCache} or refreshing
+ * their security tokens in the background. When the federation client reuses a security token
+ * from the cache, it also uses the session key pair the token was issued for, until the keys are
+ * refreshed again. When it refreshes the token in the background, the current key pair is kept
+ * until the token for the next one arrived.
+ */
+public class SharedSessionKeySupplier implements SessionKeySupplier {
+    private final SessionKeySupplier delegate;
+    private volatile KeyPair sharedKeyPair;
+
+    public SharedSessionKeySupplier(SessionKeySupplier delegate) {
+        this.delegate = Preconditions.checkNotNull(delegate);
+    }
+
+    @Override
+    public KeyPair getKeyPair() {
+        KeyPair keyPair = sharedKeyPair;
+        return keyPair != null ? keyPair : delegate.getKeyPair();
+    }
+
+    @Override
+    @Deprecated
+    public RSAPublicKey getPublicKey() {
+        return (RSAPublicKey) getKeyPair().getPublic();
+    }
+
+    @Override
+    @Deprecated
+    public RSAPrivateKey getPrivateKey() {
+        return (RSAPrivateKey) getKeyPair().getPrivate();
+    }
+
+    @Override
+    public void refreshKeys() {
+        delegate.refreshKeys();
+        sharedKeyPair = null;
+    }
+
+    /**
+     * Refreshes the keys of the delegate, but keeps returning the current key pair until
+     * {@link #useSharedKeyPair(KeyPair)} or {@link #refreshKeys()} is called.
+     *
+     * @return the next key pair
+     */
+    KeyPair prepareNextKeyPair() {
+        sharedKeyPair = getKeyPair();
+        delegate.refreshKeys();
+        return delegate.getKeyPair();
+    }
+
+    /**
+     * Uses the key pair of a shared security token, until the keys are refreshed.
+     *
+     * @param keyPair the key pair
+     */
+    void useSharedKeyPair(KeyPair keyPair) {
+        sharedKeyPair = Preconditions.checkNotNull(keyPair);
+    }
+}
@@ -0,0 +1,144 @@
+/**
+ * Copyright (c) 2016, 2019, Oracle and/or its affiliates. All rights reserved.
+ */
+package com.oracle.bmc.auth.internal;
+
+import java.io.IOException;
+import java.net.URL;
+import java.security.cert.CertificateEncodingException;
+import java.security.cert.X509Certificate;
+import java.security.interfaces.RSAPrivateKey;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.security.auth.Refreshable;
+
+import com.google.common.base.Preconditions;
+import com.oracle.bmc.auth.URLBasedX509CertificateSupplier;
+import com.oracle.bmc.auth.X509CertificateSupplier;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Certificate supplier that reads the certificate and its private key off of URLs, like
+ * {@link URLBasedX509CertificateSupplier}, but shares them with other processes on the same host
+ * through the certificate entry of a {@link FileSecurityTokenCache}.
+ * <p>
+ * The supplier starts with the cached certificate, if it did not expire yet. When refreshed, it
+ * uses the cached certificate if another process stored a different one since this supplier last
+ * loaded it. Otherwise it reads the certificate from the URLs and stores it in the cache. So when
+ * the federation clients of several processes refresh their certificates, the certificates are
+ * only read from the URLs once.
+ */
+@Slf4j
+public class SharedX509CertificateSupplier implements X509CertificateSupplier, Refreshable {
+    private final FileSecurityTokenCache cache;
+    private final URL certificateUrl;
+    private final URL privateKeyUrl;
+
+    private final AtomicReference<CertificateAndPrivateKeyPair> certificateAndKeyPair =
+            new AtomicReference<>(null);
+
+    // created once the certificate is read from the URLs the first time; guarded by this
+    private URLBasedX509CertificateSupplier urlSupplier;
+
+    /**
+     * Constructor.
+     * @param cache The cache to share the certificate through
+     * @param certificateUrl The certificate url
+     * @param privateKeyUrl The private key url, may be null for intermediate certificates
+     */
+    public SharedX509CertificateSupplier(
+            FileSecurityTokenCache cache, URL certificateUrl, URL privateKeyUrl) {
+        this.cache = Preconditions.checkNotNull(cache);
+        this.certificateUrl = Preconditions.checkNotNull(certificateUrl);
+        this.privateKeyUrl = privateKeyUrl;
+
+        load();
+    }
+
+    @Override
+    @Deprecated
+    public X509Certificate getCertificate() {
+        return getCertificateAndKeyPair().getCertificate();
+    }
+
+    @Override
+    @Deprecated
+    public RSAPrivateKey getPrivateKey() {
+        return getCertificateAndKeyPair().getPrivateKey();
+    }
+
+    @Override
+    public CertificateAndPrivateKeyPair getCertificateAndKeyPair() {
+        return certificateAndKeyPair.get();
+    }
+
+    /**
+     * Refreshes the certificate, from the cache if another process already refreshed it, or else
+     * from the URLs.
+     */
+    @Override
+    public void refresh() {
+        load();
+    }
+
+    /**
+     * So far we don't care whether the certificate is current or not.
+     * @return false always.
+     */
+    @Override
+    public boolean isCurrent() {
+        return false;
+    }
+
+    private synchronized void load() {
+        try (FileSecurityTokenCache.LockedEntry entry =
+                cache.lockCertificate(certificateUrl.toString())) {
+            CertificateAndPrivateKeyPair cached = entry.readCertificate();
+            if (isNewer(cached)) {
+                LOG.info("Using certificate {} from the shared cache.", certificateUrl);
+                certificateAndKeyPair.set(cached);
+                return;
+            }
+            CertificateAndPrivateKeyPair read = readFromUrls();
+            entry.writeCertificate(read);
+            certificateAndKeyPair.set(read);
+        } catch (IOException e) {
+            LOG.warn("Unable to lock shared certificate cache, not sharing the certificate", e);
+            certificateAndKeyPair.set(readFromUrls());
+        }
+    }
+
+    private CertificateAndPrivateKeyPair readFromUrls() {
+        if (urlSupplier == null) {
+            urlSupplier =
+                    new URLBasedX509CertificateSupplier(
+                            certificateUrl, privateKeyUrl, (char[]) null);
+        } else {
+            urlSupplier.refresh();
+        }
+        return urlSupplier.getCertificateAndKeyPair();
+    }
+
+    // whether the cached certificate can be used instead of reading the certificate again
+    private boolean isNewer(CertificateAndPrivateKeyPair cached) {
+        if (cached == null
+                || (privateKeyUrl != null && cached.getPrivateKey() == null)
+                || cached.getCertificate().getNotAfter().getTime() <= System.currentTimeMillis()) {
+            return false;
+        }
+        CertificateAndPrivateKeyPair current = certificateAndKeyPair.get();
+        if (current == null) {
+            return true;
+        }
+        // the cache only ever moves forward, so a different certificate was stored after this
+        // supplier loaded its own
+        try {
+            return !Arrays.equals(
+                    cached.getCertificate().getEncoded(), current.getCertificate().getEncoded());
+        } catch (CertificateEncodingException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/**
+ * Copyright (c) 2016, 2019, Oracle and/or its affiliates. All rights reserved.
+ */
+package com.oracle.bmc.auth.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLConnection;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.google.common.base.Throwables;
+import com.google.common.io.ByteStreams;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Reads the content of URLs, like the region, certificates and keys of the instance metadata
+ * service, with bounded timeouts. Independent reads can be run concurrently on a shared pool of
+ * daemon threads, so bootstrapping and refreshing take one round trip instead of one per
+ * resource.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class UrlContentFetcher {
+    /**
+     * Timeout to establish a connection, in milliseconds.
+     */
+    public static final int CONNECT_TIMEOUT_MILLIS = 10000;
+
+    /**
+     * Timeout to wait for data once connected, in milliseconds.
+     */
+    public static final int READ_TIMEOUT_MILLIS = 30000;
+
+    /**
+     * Reads the content of a URL.
+     *
+     * @param url the URL
+     * @param accept the media type to accept, or null
+     * @return the content
+     * @throws IOException if the content cannot be read within the timeouts
+     */
+    public static byte[] read(URL url, String accept) throws IOException {
+        URLConnection connection = url.openConnection();
+        connection.setConnectTimeout(CONNECT_TIMEOUT_MILLIS);
+        connection.setReadTimeout(READ_TIMEOUT_MILLIS);
+        if (accept != null) {
+            connection.setRequestProperty("Accept", accept);
+        }
+        try (InputStream is = connection.getInputStream()) {
+            return ByteStreams.toByteArray(is);
+        }
+    }
+
+    /**
+     * Runs a task on the shared pool.
+     *
+     * @param task the task
+     * @return the future result of the task, see {@link #getResult(Future)}
+     */
+    public static <T> Future<T> submit(Callable<T> task) {
+        return FetchExecutor.INSTANCE.submit(task);
+    }
+
+    /**
+     * Waits for the result of a task submitted with {@link #submit(Callable)}.
+     *
+     * @param future the future result
+     * @return the result
+     * @throws RuntimeException the unchecked exception thrown by the task, or an
+     *             IllegalStateException if it threw a checked exception or the current thread
+     *             was interrupted
+     */
+    public static <T> T getResult(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for " + future, e);
+        } catch (ExecutionException e) {
+            Throwables.throwIfUnchecked(e.getCause());
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Lazily created pool shared by all fetches.
+     */
+    private static final class FetchExecutor {
+        private static final ExecutorService INSTANCE =
+                Executors.newCachedThreadPool(
+                        new ThreadFactoryBuilder()
+                                .setDaemon(true)
+                                .setNameFormat("bmc-url-fetch-%d")
+                                .build());
+    }
+}
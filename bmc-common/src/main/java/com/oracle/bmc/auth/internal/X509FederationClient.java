@@ -9,6 +9,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Function;
 import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.oracle.bmc.auth.SessionKeySupplier;
 import com.oracle.bmc.auth.X509CertificateSupplier;
 import com.oracle.bmc.http.ClientConfigurator;
@@ -22,6 +23,7 @@ import com.oracle.bmc.requests.BmcRequest;
 
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import javax.annotation.concurrent.Immutable;
@@ -30,14 +32,21 @@ import javax.security.auth.Refreshable;
 import javax.ws.rs.client.Invocation.Builder;
 import javax.ws.rs.client.WebTarget;
 import javax.ws.rs.core.Response;
+import java.io.IOException;
+import java.lang.ref.WeakReference;
 import java.security.KeyPair;
 import java.security.cert.CertificateException;
 import java.security.cert.X509Certificate;
 import java.security.interfaces.RSAPublicKey;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * This class gets a security token from the auth service by signing the request with a PKI issued leaf certificate,
@@ -47,13 +56,20 @@ import java.util.Set;
 public class X509FederationClient implements FederationClient {
     private static final Function<Response, WithHeaders<SecurityToken>> SECURITY_TOKEN_FN =
             new ResponseConversionFunctionFactory().create(SecurityToken.class);
-    private static final String DEFAULT_PURPOSE = "DEFAULT";
+    /**
+     * The purpose used if none is configured.
+     */
+    public static final String DEFAULT_PURPOSE = "DEFAULT";
+    // minimum delay before a background refresh
+    private static final long MIN_BACKGROUND_REFRESH_DELAY_MILLIS = 1000L;
 
     @Getter private final X509CertificateSupplier leafCertificateSupplier;
     @Getter private String tenancyId;
     private final Set<X509CertificateSupplier> intermediateCertificateSuppliers;
     private final SessionKeySupplier sessionKeySupplier;
     private final String purpose;
+    private final Double backgroundRefreshFraction;
+    private final FileSecurityTokenCache sharedTokenCache;
 
     private final RestClient federationHttpClient;
 
@@ -61,6 +77,11 @@ public class X509FederationClient implements FederationClient {
     // see https://www.cs.umd.edu/~pugh/java/memoryModel/DoubleCheckedLocking.html
     private volatile SecurityTokenAdapter securityTokenAdapter = null;
 
+    // the pending background refresh, if any; guarded by this
+    private ScheduledFuture<?> scheduledRefresh = null;
+    // the scheduler of background refreshes, or null for the shared one; guarded by this
+    private ScheduledExecutorService backgroundRefreshScheduler = null;
+
     /**
      * Same as {@link #X509FederationClient(String, String, X509CertificateSupplier, SessionKeySupplier, Set, ClientConfigurator, List, String)}
      * but with 'purpose' set to {@link #DEFAULT_PURPOSE}.
@@ -104,6 +125,92 @@ public class X509FederationClient implements FederationClient {
             ClientConfigurator clientConfigurator,
             List<ClientConfigurator> additionalClientConfigurators,
             String purpose) {
+        this(
+                federationEndpoint,
+                tenancyId,
+                leafCertificateSupplier,
+                sessionKeySupplier,
+                intermediateCertificateSuppliers,
+                clientConfigurator,
+                additionalClientConfigurators,
+                purpose,
+                null);
+    }
+
+    /**
+     * Same as {@link #X509FederationClient(String, String, X509CertificateSupplier, SessionKeySupplier, Set, ClientConfigurator, List, String)},
+     * but optionally refreshing the security token in the background before it expires.
+     * <p>
+     * Once a token was obtained, a new one is requested on a background thread after the given fraction
+     * of the token's lifetime has passed. Until the new token arrives, requests keep using the current
+     * one, so they are not blocked by the call to the auth service.
+     * <p>
+     * If the session key supplier is a {@link SharedSessionKeySupplier}, as configured by the
+     * authentication details provider builders, the background refresh also rotates the session keys:
+     * the new token is requested for the next key pair, and requests switch to the new token and key
+     * pair once it arrived. Otherwise the background refresh keeps the current session keys, which are
+     * only rotated when a token is refreshed on demand, i.e. when it expired or
+     * {@link #refreshAndGetSecurityToken()} was called.
+     *
+     * @param backgroundRefreshFraction fraction of the token lifetime after which the token is
+     *            refreshed in the background, between 0 and 1 (exclusive), or null to only refresh
+     *            the token once it expired
+     */
+    public X509FederationClient(
+            String federationEndpoint,
+            String tenancyId,
+            X509CertificateSupplier leafCertificateSupplier,
+            SessionKeySupplier sessionKeySupplier,
+            Set<X509CertificateSupplier> intermediateCertificateSuppliers,
+            ClientConfigurator clientConfigurator,
+            List<ClientConfigurator> additionalClientConfigurators,
+            String purpose,
+            Double backgroundRefreshFraction) {
+        this(
+                federationEndpoint,
+                tenancyId,
+                leafCertificateSupplier,
+                sessionKeySupplier,
+                intermediateCertificateSuppliers,
+                clientConfigurator,
+                additionalClientConfigurators,
+                purpose,
+                backgroundRefreshFraction,
+                null);
+    }
+
+    /**
+     * Same as {@link #X509FederationClient(String, String, X509CertificateSupplier, SessionKeySupplier, Set, ClientConfigurator, List, String, Double)},
+     * but optionally sharing security tokens with other processes on the same host.
+     * <p>
+     * Before requesting a new token from the auth service, the client locks the entry of the tenancy and
+     * purpose in the shared cache. If another process already stored a newer token there, the client uses
+     * that token and the session key pair it was issued for, without calling the auth service or refreshing
+     * the certificates. Otherwise it stores the token it gets from the auth service.
+     *
+     * @param sharedTokenCache the shared security token cache, or null to not share tokens. If not null,
+     *            the session key supplier must be a {@link SharedSessionKeySupplier}
+     */
+    public X509FederationClient(
+            String federationEndpoint,
+            String tenancyId,
+            X509CertificateSupplier leafCertificateSupplier,
+            SessionKeySupplier sessionKeySupplier,
+            Set<X509CertificateSupplier> intermediateCertificateSuppliers,
+            ClientConfigurator clientConfigurator,
+            List<ClientConfigurator> additionalClientConfigurators,
+            String purpose,
+            Double backgroundRefreshFraction,
+            FileSecurityTokenCache sharedTokenCache) {
+        Preconditions.checkArgument(
+                sharedTokenCache == null || sessionKeySupplier instanceof SharedSessionKeySupplier,
+                "A shared security token cache requires a SharedSessionKeySupplier");
+        this.sharedTokenCache = sharedTokenCache;
+        Preconditions.checkArgument(
+                backgroundRefreshFraction == null
+                        || (backgroundRefreshFraction > 0 && backgroundRefreshFraction < 1),
+                "The background refresh fraction must be between 0 and 1 (exclusive)");
+        this.backgroundRefreshFraction = backgroundRefreshFraction;
         this.leafCertificateSupplier = Preconditions.checkNotNull(leafCertificateSupplier);
         this.sessionKeySupplier = Preconditions.checkNotNull(sessionKeySupplier);
         this.intermediateCertificateSuppliers = intermediateCertificateSuppliers;
@@ -149,43 +256,8 @@ public class X509FederationClient implements FederationClient {
         synchronized (this) {
             // Check again to see if the JWT is still invalid, unless we want to skip that check
             if (!doFinalTokenValidityCheck || !securityTokenAdapter.isValid()) {
-                LOG.info("Refreshing session keys.");
-                sessionKeySupplier.refreshKeys();
-
-                if (leafCertificateSupplier instanceof Refreshable) {
-                    try {
-                        ((Refreshable) leafCertificateSupplier).refresh();
-                    } catch (RefreshFailedException ex) {
-                        throw new BmcException(
-                                false, "Can't refresh the leaf certification!", ex, null);
-                    }
-                    String newTenancyId =
-                            AuthUtils.getTenantIdFromCertificate(
-                                    leafCertificateSupplier
-                                            .getCertificateAndKeyPair()
-                                            .getCertificate());
-
-                    if (!this.tenancyId.equals(newTenancyId)) {
-                        throw new IllegalArgumentException(
-                                "The tenancy id should never be changed in cert file!");
-                    }
-                }
-
-                for (X509CertificateSupplier supplier : intermediateCertificateSuppliers) {
-                    if (supplier instanceof Refreshable) {
-                        try {
-                            ((Refreshable) supplier).refresh();
-                        } catch (RefreshFailedException ex) {
-                            throw new BmcException(
-                                    false,
-                                    "Can't refresh the intermediate certification!",
-                                    ex,
-                                    null);
-                        }
-                    }
-                }
-
-                securityTokenAdapter = getSecurityTokenFromServer();
+                refreshSecurityToken(false);
+                scheduleBackgroundRefresh(backgroundRefreshFraction);
                 return securityTokenAdapter.getSecurityToken();
             }
 
@@ -193,14 +265,216 @@ public class X509FederationClient implements FederationClient {
         }
     }
 
+    /**
+     * Replaces the scheduler of background refreshes, so tests can run them when they want to.
+     *
+     * @param scheduler the scheduler
+     */
+    @VisibleForTesting
+    synchronized void setBackgroundRefreshScheduler(ScheduledExecutorService scheduler) {
+        this.backgroundRefreshScheduler = scheduler;
+    }
+
+    /**
+     * Refreshes the security token ahead of its expiration, called from the background refresh
+     * scheduler. Requests keep using the current token and session keys until the new token
+     * arrived.
+     */
+    private void refreshInBackground() {
+        synchronized (this) {
+            scheduledRefresh = null;
+            // if the token already expired (or the keys changed), the next request refreshes it
+            if (!securityTokenAdapter.isValid()) {
+                return;
+            }
+            try {
+                LOG.info("Refreshing security token in the background.");
+                refreshSecurityToken(true);
+                scheduleBackgroundRefresh(backgroundRefreshFraction);
+            } catch (RuntimeException e) {
+                // try again while the current token is still valid
+                LOG.warn("Failed to refresh security token in the background", e);
+                scheduleBackgroundRefresh(0.5);
+            }
+        }
+    }
+
+    /**
+     * Schedules a background refresh after the given fraction of the remaining lifetime of the
+     * current token, replacing the pending one, if any. Must be called while holding the lock on
+     * this client. Does nothing unless background refreshes are enabled.
+     *
+     * @param fraction fraction of the remaining lifetime of the current token
+     */
+    private void scheduleBackgroundRefresh(Double fraction) {
+        if (scheduledRefresh != null) {
+            scheduledRefresh.cancel(false);
+            scheduledRefresh = null;
+        }
+        if (backgroundRefreshFraction == null || !securityTokenAdapter.isValid()) {
+            return;
+        }
+        long remainingMillis =
+                securityTokenAdapter.getExpirationTimeMillis() - System.currentTimeMillis();
+        long delayMillis =
+                Math.max((long) (remainingMillis * fraction), MIN_BACKGROUND_REFRESH_DELAY_MILLIS);
+        if (delayMillis >= remainingMillis) {
+            // too late, the token is refreshed on demand once it expired
+            return;
+        }
+        LOG.debug("Scheduling background refresh of security token in {} ms", delayMillis);
+        ScheduledExecutorService scheduler =
+                (backgroundRefreshScheduler != null)
+                        ? backgroundRefreshScheduler
+                        : BackgroundRefreshScheduler.EXECUTOR;
+        scheduledRefresh =
+                scheduler.schedule(
+                        new BackgroundRefreshTask(new WeakReference<>(this)),
+                        delayMillis,
+                        TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Gets a new security token, from the shared token cache if another process already got one,
+     * or else from the auth service, and uses it. Must be called while holding the lock on this
+     * client.
+     *
+     * @param inBackground whether the current token may still be in use; if so, the session keys
+     *            are only replaced together with the token
+     */
+    private void refreshSecurityToken(boolean inBackground) {
+        if (sharedTokenCache == null) {
+            requestSecurityToken(inBackground);
+            return;
+        }
+        try (FileSecurityTokenCache.LockedEntry entry = sharedTokenCache.lock(tenancyId, purpose)) {
+            if (useSharedSecurityToken(entry.read())) {
+                return;
+            }
+            requestSecurityToken(inBackground);
+            entry.write(securityTokenAdapter.getSecurityToken(), sessionKeySupplier.getKeyPair());
+        } catch (IOException e) {
+            LOG.warn("Unable to lock shared security token cache, not sharing the token", e);
+            requestSecurityToken(inBackground);
+        }
+    }
+
+    /**
+     * Uses a token from the shared token cache, and the session key pair it was stored with, if it
+     * expires after the current one and is valid for that key pair.
+     *
+     * @param cachedToken the cached token, may be null
+     * @return true if the cached token is used, false to request a new one
+     */
+    private boolean useSharedSecurityToken(FileSecurityTokenCache.CachedToken cachedToken) {
+        // the current token is being replaced, e.g. because it was rejected
+        if (cachedToken == null
+                || cachedToken.getToken().equals(securityTokenAdapter.getSecurityToken())) {
+            return false;
+        }
+        SecurityTokenAdapter sharedToken =
+                new SecurityTokenAdapter(cachedToken.getToken(), sessionKeySupplier);
+        long currentExpirationTimeMillis =
+                Math.max(
+                        System.currentTimeMillis(), securityTokenAdapter.getExpirationTimeMillis());
+        if (sharedToken.getExpirationTimeMillis() <= currentExpirationTimeMillis) {
+            return false;
+        }
+        KeyPair sharedKeyPair = cachedToken.getKeyPair();
+        if (!sharedToken.isValid(sharedKeyPair.getPublic())) {
+            return false;
+        }
+        KeyPair currentKeyPair = sessionKeySupplier.getKeyPair();
+        LOG.info("Using security token from the shared cache.");
+        useSecurityToken(
+                sharedToken,
+                Arrays.equals(
+                                sharedKeyPair.getPublic().getEncoded(),
+                                currentKeyPair.getPublic().getEncoded())
+                        ? currentKeyPair
+                        : sharedKeyPair);
+        return true;
+    }
+
+    /**
+     * Requests a new token from the auth service and uses it.
+     * <p>
+     * On demand, the session keys are refreshed first; the current token is not usable anyway. In
+     * the background, a {@link SharedSessionKeySupplier} keeps returning the current key pair while
+     * the token for the next one is requested, and other session key suppliers keep their keys.
+     *
+     * @param inBackground whether the current token may still be in use
+     */
+    private void requestSecurityToken(boolean inBackground) {
+        KeyPair keyPair;
+        if (!inBackground) {
+            LOG.info("Refreshing session keys.");
+            sessionKeySupplier.refreshKeys();
+            keyPair = sessionKeySupplier.getKeyPair();
+        } else if (sessionKeySupplier instanceof SharedSessionKeySupplier) {
+            LOG.info("Rotating session keys in the background.");
+            keyPair = ((SharedSessionKeySupplier) sessionKeySupplier).prepareNextKeyPair();
+        } else {
+            keyPair = sessionKeySupplier.getKeyPair();
+        }
+        refreshCertificates();
+        useSecurityToken(getSecurityTokenFromServer(keyPair), keyPair);
+    }
+
+    /**
+     * Switches to a new token and the session key pair it was issued for.
+     * <p>
+     * Requests read the token and the private key they are signed with separately, so both are
+     * replaced right after each other. A request that reads the token just before and the key just
+     * after the switch is rejected as not authenticated, and retried after refreshing the token.
+     *
+     * @param token the new token
+     * @param keyPair the session key pair of the token
+     */
+    private void useSecurityToken(SecurityTokenAdapter token, KeyPair keyPair) {
+        if (keyPair != sessionKeySupplier.getKeyPair()) {
+            ((SharedSessionKeySupplier) sessionKeySupplier).useSharedKeyPair(keyPair);
+        }
+        securityTokenAdapter = token;
+    }
+
+    private void refreshCertificates() {
+        if (leafCertificateSupplier instanceof Refreshable) {
+            try {
+                ((Refreshable) leafCertificateSupplier).refresh();
+            } catch (RefreshFailedException ex) {
+                throw new BmcException(false, "Can't refresh the leaf certification!", ex, null);
+            }
+            String newTenancyId =
+                    AuthUtils.getTenantIdFromCertificate(
+                            leafCertificateSupplier.getCertificateAndKeyPair().getCertificate());
+
+            if (!this.tenancyId.equals(newTenancyId)) {
+                throw new IllegalArgumentException(
+                        "The tenancy id should never be changed in cert file!");
+            }
+        }
+
+        for (X509CertificateSupplier supplier : intermediateCertificateSuppliers) {
+            if (supplier instanceof Refreshable) {
+                try {
+                    ((Refreshable) supplier).refresh();
+                } catch (RefreshFailedException ex) {
+                    throw new BmcException(
+                            false, "Can't refresh the intermediate certification!", ex, null);
+                }
+            }
+        }
+    }
+
     /**
      * Gets a security token from the federation server
+     * @param keyPair the session key pair to get the token for
      * @return the security token, which is basically a JWT token string
      */
-    private SecurityTokenAdapter getSecurityTokenFromServer() {
+    private SecurityTokenAdapter getSecurityTokenFromServer(KeyPair keyPair) {
         LOG.info("Getting security token from the auth server");
 
-        KeyPair keyPair = sessionKeySupplier.getKeyPair();
         if (keyPair == null) {
             throw new IllegalStateException("Keypair for session was not provided");
         }
@@ -253,13 +527,8 @@ public class X509FederationClient implements FederationClient {
                             intermediateStrings,
                             purpose);
 
-            WebTarget target = federationHttpClient.getBaseTarget().path("v1").path("x509");
-            Builder ib = target.request();
-
-            // Make a call and get back the security token
-            Response response = makeCall(ib, federationRequest);
-            SecurityToken securityToken = SECURITY_TOKEN_FN.apply(response).getItem();
-            return new SecurityTokenAdapter(securityToken.getToken(), sessionKeySupplier);
+            return new SecurityTokenAdapter(
+                    federate(federationRequest).getToken(), sessionKeySupplier);
         } catch (BmcException e) {
             throw e;
         } catch (CertificateException e) {
@@ -268,6 +537,21 @@ public class X509FederationClient implements FederationClient {
         }
     }
 
+    /**
+     * Makes the call to the federation server.
+     * @param federationRequest the request to send
+     * @return the security token returned by the server
+     */
+    @VisibleForTesting
+    SecurityToken federate(X509FederationRequest federationRequest) {
+        WebTarget target = federationHttpClient.getBaseTarget().path("v1").path("x509");
+        Builder ib = target.request();
+
+        // Make a call and get back the security token
+        Response response = makeCall(ib, federationRequest);
+        return SECURITY_TOKEN_FN.apply(response).getItem();
+    }
+
     // really simple retry until the SDK supports internal retries
     @VisibleForTesting
     Response makeCall(Builder ib, X509FederationRequest federationRequest) {
@@ -294,6 +578,42 @@ public class X509FederationClient implements FederationClient {
         throw lastException;
     }
 
+    /**
+     * Runs a scheduled background refresh. Only weakly references the client, so clients that
+     * are no longer used can be garbage collected before their next refresh.
+     */
+    @RequiredArgsConstructor
+    private static final class BackgroundRefreshTask implements Runnable {
+        private final WeakReference<X509FederationClient> client;
+
+        @Override
+        public void run() {
+            X509FederationClient federationClient = client.get();
+            if (federationClient != null) {
+                federationClient.refreshInBackground();
+            }
+        }
+    }
+
+    /**
+     * Lazily created scheduler shared by all clients refreshing their tokens in the background.
+     */
+    private static final class BackgroundRefreshScheduler {
+        private static final ScheduledThreadPoolExecutor EXECUTOR = createExecutor();
+
+        private static ScheduledThreadPoolExecutor createExecutor() {
+            ScheduledThreadPoolExecutor executor =
+                    new ScheduledThreadPoolExecutor(
+                            1,
+                            new ThreadFactoryBuilder()
+                                    .setDaemon(true)
+                                    .setNameFormat("bmc-security-token-refresh-%d")
+                                    .build());
+            executor.setRemoveOnCancelPolicy(true);
+            return executor;
+        }
+    }
+
     @EqualsAndHashCode(callSuper = false)
     @Immutable
     @JsonInclude(JsonInclude.Include.NON_NULL)
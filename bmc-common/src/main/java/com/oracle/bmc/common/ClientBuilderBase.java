@@ -7,6 +7,7 @@ import com.google.common.collect.ImmutableMap;
 import com.oracle.bmc.ClientConfiguration;
 import com.oracle.bmc.Service;
 import com.oracle.bmc.http.ClientConfigurator;
+import com.oracle.bmc.http.SharedTransport;
 import com.oracle.bmc.http.signing.RequestSignerFactory;
 import com.oracle.bmc.http.signing.SigningStrategy;
 import com.oracle.bmc.http.signing.internal.DefaultRequestSignerFactory;
@@ -24,6 +25,7 @@ public abstract class ClientBuilderBase<B extends ClientBuilderBase, C> {
     protected ClientConfiguration configuration;
     protected ClientConfigurator clientConfigurator;
     protected List<ClientConfigurator> additionalClientConfigurators = new ArrayList<>();
+    protected SharedTransport sharedTransport;
     protected RequestSignerFactory requestSignerFactory =
             new DefaultRequestSignerFactory(com.oracle.bmc.http.signing.SigningStrategy.STANDARD);
     protected Map<SigningStrategy, RequestSignerFactory> signingStrategyRequestSignerFactories =
@@ -48,22 +50,51 @@ public abstract class ClientBuilderBase<B extends ClientBuilderBase, C> {
      * Set the client configurator. May be null.
      * @param clientConfigurator client configurator. May be null.
      * @return this builder
+     * @throws IllegalStateException if a shared transport was set
      */
     public B clientConfigurator(com.oracle.bmc.http.ClientConfigurator clientConfigurator) {
+        checkNoSharedTransport("client configurator");
         this.clientConfigurator = clientConfigurator;
         return (B) this;
     }
 
+    /**
+     * Use the given shared transport instead of creating a new REST client for the client to be
+     * created. Clients built with the same shared transport share its connector and connection
+     * pool, but sign their requests with their own authentication details provider.
+     * <p>
+     * The REST client is configured by the configurator of the shared transport, so a shared
+     * transport cannot be combined with a client configurator or additional client configurators
+     * of this builder; configure the shared transport instead.
+     * @param sharedTransport the shared transport
+     * @return this builder
+     * @throws IllegalStateException if a client configurator or additional client configurators
+     *             were set
+     */
+    public B sharedTransport(@lombok.NonNull SharedTransport sharedTransport) {
+        if ((clientConfigurator != null && clientConfigurator != this.sharedTransport)
+                || !additionalClientConfigurators.isEmpty()) {
+            throw new IllegalStateException(
+                    "Cannot use a shared transport together with client configurators, set the client configurator of the shared transport instead");
+        }
+        this.sharedTransport = sharedTransport;
+        // the shared transport reaches the REST client factory as the client configurator
+        this.clientConfigurator = sharedTransport;
+        return (B) this;
+    }
+
     /**
      * Add an additional client configurator to be run after the primary configurator.
      * @param additionalClientConfigurator the additional client configurator
      * @return this builder
+     * @throws IllegalStateException if a shared transport was set
      */
     public B additionalClientConfigurator(
             @lombok.NonNull com.oracle.bmc.http.ClientConfigurator additionalClientConfigurator) {
         if (additionalClientConfigurator == null) {
             throw new NullPointerException("additionalClientConfigurator");
         }
+        checkNoSharedTransport("additional client configurator");
         this.additionalClientConfigurators.add(additionalClientConfigurator);
         return (B) this;
     }
@@ -107,6 +138,15 @@ public abstract class ClientBuilderBase<B extends ClientBuilderBase, C> {
         return (B) this;
     }
 
+    private void checkNoSharedTransport(String configurator) {
+        if (sharedTransport != null) {
+            throw new IllegalStateException(
+                    "Cannot set a "
+                            + configurator
+                            + " together with a shared transport, set the client configurator of the shared transport instead");
+        }
+    }
+
     /**
      * Set the authentication details provider. Once this is called, the builder can build the client.
      * @param authenticationDetailsProvider authentication details provider
@@ -0,0 +1,32 @@
+/**
+ * Copyright (c) 2016, 2019, Oracle and/or its affiliates. All rights reserved.
+ */
+package com.oracle.bmc.http;
+
+/**
+ * Listener that is told about every request a service client made, with a breakdown of where
+ * the time was spent, see {@link RequestMetrics}.
+ * <p>
+ * Register it with {@link com.oracle.bmc.ClientConfiguration.ClientConfigurationBuilder#requestListener(RequestListener)}.
+ * The listener is called once per request (after all retries), on the thread that completed the
+ * request, so it should return quickly. Exceptions thrown by the listener are logged and ignored.
+ * <p>
+ * Unless a listener is registered, the SDK does not collect any metrics.
+ */
+public interface RequestListener {
+    /**
+     * Listener that ignores all requests. This is the default.
+     */
+    RequestListener NO_OP =
+            new RequestListener() {
+                @Override
+                public void requestCompleted(RequestMetrics metrics) {}
+            };
+
+    /**
+     * Called when a request completed, successfully or not.
+     *
+     * @param metrics The metrics of the request.
+     */
+    void requestCompleted(RequestMetrics metrics);
+}
@@ -0,0 +1,80 @@
+/**
+ * Copyright (c) 2016, 2019, Oracle and/or its affiliates. All rights reserved.
+ */
+package com.oracle.bmc.http;
+
+import java.net.URI;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * The metrics of a request, handed to the {@link RequestListener}.
+ * <p>
+ * The phase timings are in nanoseconds, and are those of the last attempt if the request was
+ * retried. They are measured with the JAX-RS filters and interceptors of the REST client, so
+ * connection acquisition and the TLS handshake, which the connector does not report separately,
+ * are part of {@link #getTimeToFirstByteNanos()}. Phases that did not happen (like writing the
+ * body of a GET request) are 0.
+ */
+@Value
+@Builder
+public class RequestMetrics {
+    /**
+     * The opc-request-id sent with the request.
+     */
+    private final String opcRequestId;
+    /**
+     * The HTTP method, or null if the request never reached the REST client's filters.
+     */
+    private final String method;
+    /**
+     * The URI of the request, or null if the request never reached the REST client's filters.
+     */
+    private final URI uri;
+    /**
+     * The HTTP status code of the last response, or 0 if no response was received.
+     */
+    private final int statusCode;
+    /**
+     * The number of times the request was retried by the SDK.
+     */
+    private final int retryCount;
+    /**
+     * The number of bytes of the request body written, 0 if there was no body.
+     */
+    private final long bytesSent;
+    /**
+     * The length of the response body, as announced by the Content-Length header, or -1 if
+     * unknown.
+     */
+    private final long bytesReceived;
+    /**
+     * The time spent signing the request.
+     */
+    private final long signingNanos;
+    /**
+     * The time spent writing the request body to the connection.
+     */
+    private final long requestWriteNanos;
+    /**
+     * The time from handing the signed request to the connector until the response headers
+     * were received. This includes connection acquisition, the TLS handshake, writing the
+     * request body and the time taken by the service.
+     */
+    private final long timeToFirstByteNanos;
+    /**
+     * The time spent converting the response, which includes reading and deserializing the
+     * response body (unless the body is returned as a stream).
+     */
+    private final long deserializationNanos;
+    /**
+     * The total time of the request, from preparing it until it was converted (or failed),
+     * including all retries.
+     */
+    private final long totalNanos;
+    /**
+     * The exception the request failed with, or null if it succeeded.
+     */
+    private final Throwable failure;
+}
@@ -0,0 +1,105 @@
+/**
+ * Copyright (c) 2016, 2019, Oracle and/or its affiliates. All rights reserved.
+ */
+package com.oracle.bmc.http;
+
+import com.google.common.base.MoreObjects;
+import com.oracle.bmc.ClientConfiguration;
+import com.oracle.bmc.http.internal.RestClientFactory;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.ClientBuilder;
+
+/**
+ * An HTTP transport (the underlying REST client with its connector, connection pool, JSON
+ * provider and filters) that can be shared by many service clients.
+ * <p>
+ * By default, every service client creates its own REST client. Service clients built with
+ * {@link com.oracle.bmc.common.ClientBuilderBase#sharedTransport(SharedTransport)} instead all
+ * use the REST client of this transport, so connections to an endpoint host are pooled (and TLS
+ * sessions reused) across them. Each service client still signs its requests with its own
+ * authentication details provider, and still uses its own connection timeout, read timeout and
+ * retry configuration.
+ * <p>
+ * The REST client is created with the {@link ClientConfigurator} of this transport on first use;
+ * the builders of the service clients reject client configurators of their own once a shared
+ * transport is set, and the other way around. The max number of
+ * async threads is taken from the {@link ClientConfiguration} of this transport.
+ * <p>
+ * Closing a service client does not close the shared REST client; call {@link #close()} once no
+ * service client uses this transport anymore.
+ */
+@Slf4j
+public class SharedTransport implements ClientConfigurator, AutoCloseable {
+    /**
+     * The configuration used to create the REST client.
+     */
+    @Getter private final ClientConfiguration configuration;
+    /**
+     * The configurator used to create the REST client.
+     */
+    @Getter private final ClientConfigurator clientConfigurator;
+
+    private Client client;
+    private boolean closed;
+
+    /**
+     * Creates a new transport using the default configuration and {@link DefaultConfigurator}.
+     */
+    public SharedTransport() {
+        this(null, null);
+    }
+
+    // Explicit @Builder on constructor so we can enforce default values.
+    @Builder
+    private SharedTransport(
+            ClientConfiguration configuration, ClientConfigurator clientConfigurator) {
+        this.configuration =
+                MoreObjects.firstNonNull(configuration, ClientConfiguration.builder().build());
+        this.clientConfigurator =
+                MoreObjects.firstNonNull(clientConfigurator, new DefaultConfigurator());
+    }
+
+    /**
+     * Gets the shared REST client, creating it on first use.
+     *
+     * @return The shared REST client.
+     * @throws IllegalStateException if this transport has been closed.
+     */
+    public synchronized Client getClient() {
+        if (closed) {
+            throw new IllegalStateException("SharedTransport has been closed");
+        }
+        if (client == null) {
+            LOG.info("Creating shared REST client");
+            client = RestClientFactory.createSharedClient(configuration, this);
+        }
+        return client;
+    }
+
+    @Override
+    public void customizeBuilder(ClientBuilder builder) {
+        clientConfigurator.customizeBuilder(builder);
+    }
+
+    @Override
+    public void customizeClient(Client client) {
+        clientConfigurator.customizeClient(client);
+    }
+
+    /**
+     * Closes the shared REST client. Service clients using this transport cannot make requests
+     * anymore afterwards.
+     */
+    @Override
+    public synchronized void close() {
+        closed = true;
+        if (client != null) {
+            client.close();
+            client = null;
+        }
+    }
+}
@@ -4,6 +4,7 @@
 package com.oracle.bmc.http.internal;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.Map;
 
 import javax.annotation.Priority;
@@ -13,6 +14,8 @@ import javax.ws.rs.client.ClientRequestFilter;
 import javax.ws.rs.core.MultivaluedMap;
 
 import com.oracle.bmc.http.signing.RequestSigner;
+import com.oracle.bmc.io.DuplicatableInputStream;
+import com.oracle.bmc.io.internal.SpoolingInputStream;
 
 import com.oracle.bmc.http.signing.SigningStrategy;
 import lombok.NonNull;
@@ -20,6 +23,11 @@ import lombok.RequiredArgsConstructor;
 
 /**
  * Filter that injects authentication headers into the request.
+ * <p>
+ * The request signers of the filter can be overridden per request with the
+ * {@link #DEFAULT_REQUEST_SIGNER_PROPERTY_NAME} and {@link #REQUEST_SIGNERS_PROPERTY_NAME}
+ * properties; this is how service clients sharing a {@link com.oracle.bmc.http.SharedTransport}
+ * sign their requests.
  */
 @Priority(Priorities.AUTHENTICATION)
 @RequiredArgsConstructor
@@ -27,6 +35,10 @@ public class AuthnClientFilter implements ClientRequestFilter {
 
     public static final String SIGNING_STRATEGY_PROPERTY_NAME =
             "x-obmcs-internal-signing-strategy-name";
+    public static final String DEFAULT_REQUEST_SIGNER_PROPERTY_NAME =
+            "x-obmcs-internal-default-request-signer";
+    public static final String REQUEST_SIGNERS_PROPERTY_NAME =
+            "x-obmcs-internal-request-signers";
 
     private final RequestSigner defaultRequestSigner;
     private final Map<SigningStrategy, RequestSigner> requestSigners;
@@ -34,23 +46,51 @@ public class AuthnClientFilter implements ClientRequestFilter {
     @Override
     public void filter(@NonNull ClientRequestContext clientRequestContext) throws IOException {
         RequestSigner chosenRequestSigner = this.defaultRequestSigner;
+        Map<SigningStrategy, RequestSigner> requestSigners = this.requestSigners;
+
+        RequestSigner perClientRequestSigner =
+                (RequestSigner)
+                        clientRequestContext.getProperty(DEFAULT_REQUEST_SIGNER_PROPERTY_NAME);
+        if (perClientRequestSigner != null) {
+            chosenRequestSigner = perClientRequestSigner;
+            requestSigners =
+                    (Map<SigningStrategy, RequestSigner>)
+                            clientRequestContext.getProperty(REQUEST_SIGNERS_PROPERTY_NAME);
+            clientRequestContext.removeProperty(DEFAULT_REQUEST_SIGNER_PROPERTY_NAME);
+            clientRequestContext.removeProperty(REQUEST_SIGNERS_PROPERTY_NAME);
+        }
+        if (chosenRequestSigner == null) {
+            throw new IllegalStateException("No request signer configured for the request");
+        }
 
         SigningStrategy perOperationSigningStrategy =
                 (SigningStrategy) clientRequestContext.getProperty(SIGNING_STRATEGY_PROPERTY_NAME);
         if (perOperationSigningStrategy != null
+                && requestSigners != null
                 && requestSigners.containsKey(perOperationSigningStrategy)) {
             chosenRequestSigner = requestSigners.get(perOperationSigningStrategy);
             // removing this property from the context, now that we have processed it
             clientRequestContext.removeProperty(SIGNING_STRATEGY_PROPERTY_NAME);
         }
 
+        Object recorder = clientRequestContext.getProperty(RequestMetricsRecorder.PROPERTY_NAME);
+        long signingStart = (recorder != null) ? System.nanoTime() : 0L;
+
+        Object entity = clientRequestContext.getEntity();
+        if (entity instanceof InputStream && !(entity instanceof DuplicatableInputStream)) {
+            // the signer needs a duplicate of stream bodies to compute their length and hash (if
+            // they are signed), so the stream is spooled once it is duplicated
+            entity = new SpoolingInputStream((InputStream) entity);
+            clientRequestContext.setEntity(entity);
+        }
+
         MultivaluedMap<String, String> stringHeaders = clientRequestContext.getStringHeaders();
         Map<String, String> authHeaders =
                 chosenRequestSigner.signRequest(
                         clientRequestContext.getUri(),
                         clientRequestContext.getMethod(),
                         stringHeaders,
-                        clientRequestContext.getEntity());
+                        entity);
 
         MultivaluedMap<String, Object> headers = clientRequestContext.getHeaders();
         for (Map.Entry<String, String> e : authHeaders.entrySet()) {
@@ -58,5 +98,9 @@ public class AuthnClientFilter implements ClientRequestFilter {
                 headers.putSingle(e.getKey(), e.getValue());
             }
         }
+
+        if (recorder instanceof RequestMetricsRecorder) {
+            ((RequestMetricsRecorder) recorder).signed(System.nanoTime() - signingStart);
+        }
     }
 }
@@ -11,7 +11,7 @@ import javax.ws.rs.client.ClientRequestFilter;
 
 /**
  * A client request filter to remove content-length.
- * It is required for calls to only allow Apache and Resteasy to set the content-length header.
+ * It is required for calls to only allow Apache, Jetty and Resteasy to set the content-length header.
  */
 @Slf4j
 public class ContentLengthFilter implements ClientRequestFilter {
@@ -32,7 +32,7 @@ class EntityFactory {
             return null;
         }
         // POST only supports JSON bodies
-        return Entity.json(getBodyAsString(body));
+        return json(body);
     }
 
     /**
@@ -57,7 +57,9 @@ class EntityFactory {
         // to overwrite/set the content-* headers.
         // You also cannot set the variant to null (to try to preserve any existing headers)
         // as that will remove them altogether or set them explicitly to null.
-        if (body instanceof InputStream) {
+        if (body instanceof SerializedBody) {
+            requestBody = Entity.json(body);
+        } else if (body instanceof InputStream) {
             requestBody = Entity.entity(body, InputStreamVariantCreator.create(request));
         } else {
             requestBody = Entity.json(body);
@@ -87,10 +89,12 @@ class EntityFactory {
         // to overwrite/set the content-* headers.
         // You also cannot set the variant to null (to try to preserve any existing headers)
         // as that will remove them altogether or set them explicitly to null.
-        if (body instanceof InputStream) {
+        if (body instanceof SerializedBody) {
+            requestBody = Entity.json(body);
+        } else if (body instanceof InputStream) {
             requestBody = Entity.entity(body, InputStreamVariantCreator.create(request));
         } else {
-            requestBody = Entity.json(getBodyAsString(body));
+            requestBody = json(body);
         }
         return requestBody;
     }
@@ -127,6 +131,18 @@ class EntityFactory {
         }
     }
 
+    /**
+     * Create a JSON entity, sending an already serialized body unchanged.
+     * @param body body
+     * @return the entity
+     */
+    private static Entity<?> json(Object body) {
+        if (body instanceof SerializedBody) {
+            return Entity.json(body);
+        }
+        return Entity.json(getBodyAsString(body));
+    }
+
     /**
      * Convert the body to a JSON string, unless it is already a string.
      * @param body body
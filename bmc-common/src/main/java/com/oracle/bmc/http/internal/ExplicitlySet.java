@@ -0,0 +1,270 @@
+/**
+ * Copyright (c) 2016, 2019, Oracle and/or its affiliates. All rights reserved.
+ */
+package com.oracle.bmc.http.internal;
+
+import java.util.AbstractSet;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import com.google.common.collect.ImmutableMap;
+
+/**
+ * The fields of a model (or its builder) that were explicitly set, possibly to {@code null}.
+ * <p>
+ * Each model class declares the {@link Fields} it can track once, and every builder and instance
+ * only keeps a bit mask over them, so tracking explicitly set fields costs one small object per
+ * builder and instance, no matter how many fields are set. Models with more than 64 fields use a
+ * {@link BitSet} instead of a single {@code long}.
+ * <p>
+ * This is a {@code Set<String>} of field names, so models can keep exposing their explicitly set
+ * fields as a {@code java.util.Set<String>}. Like the {@link java.util.HashSet} models used
+ * before, this is not thread-safe; models are immutable once built.
+ */
+public final class ExplicitlySet extends AbstractSet<String> {
+    private final Fields fields;
+    // used if there are at most 64 fields
+    private long mask;
+    // used instead of the mask if there are more than 64 fields, null otherwise
+    private final BitSet bits;
+
+    /**
+     * Creates an empty set for the given fields.
+     *
+     * @param fields The fields of the model.
+     */
+    public ExplicitlySet(Fields fields) {
+        this.fields = fields;
+        this.bits = fields.names.length > Long.SIZE ? new BitSet(fields.names.length) : null;
+    }
+
+    /**
+     * Marks a field as explicitly set.
+     *
+     * @param fieldName The name of the field.
+     * @return true if the field was not explicitly set before.
+     * @throws IllegalArgumentException if the field is not one of the fields of the model.
+     */
+    @Override
+    public boolean add(String fieldName) {
+        int index = fields.indexOf(fieldName);
+        if (index < 0) {
+            throw new IllegalArgumentException("Unknown field: " + fieldName);
+        }
+        if (isSet(index)) {
+            return false;
+        }
+        set(index);
+        return true;
+    }
+
+    /**
+     * Marks all fields in the given collection as explicitly set. Sets for the same fields are
+     * merged without iterating over them.
+     *
+     * @param names The names of the fields.
+     * @return true if any field was not explicitly set before.
+     * @throws IllegalArgumentException if a field is not one of the fields of the model.
+     */
+    @Override
+    public boolean addAll(Collection<? extends String> names) {
+        ExplicitlySet other = sameFields(names);
+        if (other == null) {
+            return super.addAll(names);
+        }
+        if (bits != null) {
+            int before = bits.cardinality();
+            bits.or(other.bits);
+            return bits.cardinality() != before;
+        }
+        long before = mask;
+        mask |= other.mask;
+        return mask != before;
+    }
+
+    /**
+     * Retains only the fields that are also in the given collection. Sets for the same fields are
+     * intersected without iterating over them.
+     *
+     * @param names The names of the fields.
+     * @return true if any field is no longer explicitly set.
+     */
+    @Override
+    public boolean retainAll(Collection<?> names) {
+        ExplicitlySet other = sameFields(names);
+        if (other == null) {
+            return super.retainAll(names);
+        }
+        if (bits != null) {
+            int before = bits.cardinality();
+            bits.and(other.bits);
+            return bits.cardinality() != before;
+        }
+        long before = mask;
+        mask &= other.mask;
+        return mask != before;
+    }
+
+    /**
+     * Returns whether a field was explicitly set.
+     *
+     * @param fieldName The name of the field.
+     * @return true if the field was explicitly set, false if it was not or is not one of the fields
+     *         of the model.
+     */
+    @Override
+    public boolean contains(Object fieldName) {
+        int index = indexOf(fieldName);
+        return index >= 0 && isSet(index);
+    }
+
+    @Override
+    public boolean remove(Object fieldName) {
+        int index = indexOf(fieldName);
+        if (index < 0 || !isSet(index)) {
+            return false;
+        }
+        clear(index);
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        mask = 0;
+        if (bits != null) {
+            bits.clear();
+        }
+    }
+
+    @Override
+    public int size() {
+        return (bits != null) ? bits.cardinality() : Long.bitCount(mask);
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+        return new Iterator<String>() {
+            private int next = nextSet(0);
+            private int last = -1;
+
+            @Override
+            public boolean hasNext() {
+                return next >= 0;
+            }
+
+            @Override
+            public String next() {
+                if (next < 0) {
+                    throw new NoSuchElementException();
+                }
+                last = next;
+                next = nextSet(next + 1);
+                return fields.names[last];
+            }
+
+            @Override
+            public void remove() {
+                if (last < 0) {
+                    throw new IllegalStateException();
+                }
+                clear(last);
+                last = -1;
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        ExplicitlySet other = (o instanceof Collection) ? sameFields((Collection<?>) o) : null;
+        if (other == null) {
+            return super.equals(o);
+        }
+        return (bits != null) ? bits.equals(other.bits) : mask == other.mask;
+    }
+
+    @Override
+    public int hashCode() {
+        // the hash code of a Set is the sum of the hash codes of its elements
+        return super.hashCode();
+    }
+
+    private ExplicitlySet sameFields(Collection<?> names) {
+        if (names instanceof ExplicitlySet && ((ExplicitlySet) names).fields == fields) {
+            return (ExplicitlySet) names;
+        }
+        return null;
+    }
+
+    private int indexOf(Object fieldName) {
+        return (fieldName instanceof String) ? fields.indexOf((String) fieldName) : -1;
+    }
+
+    private boolean isSet(int index) {
+        return (bits != null) ? bits.get(index) : (mask & (1L << index)) != 0;
+    }
+
+    private void set(int index) {
+        if (bits != null) {
+            bits.set(index);
+        } else {
+            mask |= 1L << index;
+        }
+    }
+
+    private void clear(int index) {
+        if (bits != null) {
+            bits.clear(index);
+        } else {
+            mask &= ~(1L << index);
+        }
+    }
+
+    private int nextSet(int fromIndex) {
+        if (bits != null) {
+            return bits.nextSetBit(fromIndex);
+        }
+        if (fromIndex >= Long.SIZE) {
+            return -1;
+        }
+        long remaining = mask & (-1L << fromIndex);
+        return (remaining == 0) ? -1 : Long.numberOfTrailingZeros(remaining);
+    }
+
+    /**
+     * The fields of a model class that can be explicitly set, in a fixed order.
+     */
+    public static final class Fields {
+        private final String[] names;
+        private final Map<String, Integer> indexes;
+
+        private Fields(String[] names) {
+            ImmutableMap.Builder<String, Integer> builder = ImmutableMap.builder();
+            for (int i = 0; i < names.length; i++) {
+                builder.put(names[i], i);
+            }
+            this.names = names.clone();
+            this.indexes = builder.build();
+        }
+
+        /**
+         * Creates the fields of a model class.
+         *
+         * @param names The names of the fields.
+         * @return The fields.
+         */
+        public static Fields of(String... names) {
+            return new Fields(names);
+        }
+
+        private int indexOf(String fieldName) {
+            Integer index = indexes.get(fieldName);
+            return (index != null) ? index : -1;
+        }
+    }
+}
@@ -13,13 +13,32 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.lang.reflect.Field;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
+/**
+ * Filter that serializes null values only if they were explicitly set.
+ * <p>
+ * The explicitly set fields are read from the {@value #FIELD_NAME} field of the model, which is
+ * either an {@link ExplicitlySet} or a {@code Set<String>} of field names.
+ * <p>
+ * The fields of each model class are looked up (and made accessible) once, and cached, so
+ * serializing a model does not search its class hierarchy for every property again.
+ */
 @Slf4j
 public class ExplicitlySetFilter extends SimpleBeanPropertyFilter {
     public static final ExplicitlySetFilter INSTANCE = new ExplicitlySetFilter();
     public static final String NAME = "explicitlySetFilter";
     public static final String FIELD_NAME = "__explicitlySet__";
 
+    private final ClassValue<ModelAccessor> accessors =
+            new ClassValue<ModelAccessor>() {
+                @Override
+                protected ModelAccessor computeValue(Class<?> pojoClass) {
+                    return new ModelAccessor(pojoClass);
+                }
+            };
+
     private ExplicitlySetFilter() {}
 
     @Override
@@ -27,64 +46,24 @@ public class ExplicitlySetFilter extends SimpleBeanPropertyFilter {
             Object pojo, JsonGenerator jgen, SerializerProvider provider, PropertyWriter writer)
             throws Exception {
         if (include(writer)) {
-            Field field = getMatchingDeclaredField(pojo.getClass(), writer.getName());
-            boolean accessible = field.isAccessible();
-            try {
-                field.setAccessible(true);
-                Object fieldValue = field.get(pojo);
-                if (fieldValue != null) {
-                    // not null, definitely serialize
-                    writer.serializeAsField(pojo, jgen, provider);
-                } else {
-                    // null, find out if null was explicitly set
-                    Field explicitField = pojo.getClass().getDeclaredField(FIELD_NAME);
-                    boolean explicitAccessible = explicitField.isAccessible();
-                    try {
-                        explicitField.setAccessible(true);
-                        Set<String> explicitlySet = (Set<String>) explicitField.get(pojo);
-                        if (explicitlySet.contains(writer.getName())) {
-                            // explicitly set, serialize
-                            writer.serializeAsField(pojo, jgen, provider);
-                        }
-                    } finally {
-                        explicitField.setAccessible(explicitAccessible);
-                    }
-                }
-            } finally {
-                field.setAccessible(accessible);
+            ModelAccessor accessor = accessors.get(pojo.getClass());
+            // use the accessor Jackson serializes the property with, if there is one
+            Object fieldValue =
+                    (writer instanceof BeanPropertyWriter)
+                            ? ((BeanPropertyWriter) writer).get(pojo)
+                            : accessor.getField(writer.getName()).get(pojo);
+            if (fieldValue != null) {
+                // not null, definitely serialize
+                writer.serializeAsField(pojo, jgen, provider);
+            } else if (accessor.isExplicitlySet(pojo, writer.getName())) {
+                // null, but explicitly set, serialize
+                writer.serializeAsField(pojo, jgen, provider);
             }
         } else if (!jgen.canOmitFields()) { // since 2.3
             writer.serializeAsOmittedField(pojo, jgen, provider);
         }
     }
 
-    private static Field getDeclaredField(Class<?> pojoClass, String fieldName)
-            throws NoSuchFieldException {
-        try {
-            return pojoClass.getDeclaredField(fieldName);
-        } catch (NoSuchFieldException nsfe) {
-            Class<?> superclass = pojoClass.getSuperclass();
-            if (superclass != null) {
-                return getDeclaredField(superclass, fieldName);
-            } else {
-                throw nsfe;
-            }
-        }
-    }
-
-    private static Field getMatchingDeclaredField(Class<?> pojoClass, String fieldName)
-            throws NoSuchFieldException {
-        // Try matching the exact field name
-        try {
-            return getDeclaredField(pojoClass, fieldName);
-        } catch (NoSuchFieldException nsfe) {
-            LOG.debug("Exact field name match failed for {}", fieldName);
-        }
-        // If not found, try converting the field name from snake case to camel case
-        return getDeclaredField(
-                pojoClass, CaseFormat.LOWER_UNDERSCORE.to(CaseFormat.LOWER_CAMEL, fieldName));
-    }
-
     @Override
     protected boolean include(BeanPropertyWriter writer) {
         return !FIELD_NAME.equals(writer.getName());
@@ -94,4 +73,85 @@ public class ExplicitlySetFilter extends SimpleBeanPropertyFilter {
     protected boolean include(PropertyWriter writer) {
         return !FIELD_NAME.equals(writer.getName());
     }
+
+    /**
+     * The cached, accessible fields of one model class.
+     */
+    private static final class ModelAccessor {
+        private final Class<?> pojoClass;
+        private final Field explicitlySetField;
+        private final ConcurrentMap<String, Field> fields = new ConcurrentHashMap<>();
+
+        private ModelAccessor(Class<?> pojoClass) {
+            this.pojoClass = pojoClass;
+            Field explicitField;
+            try {
+                explicitField = makeAccessible(pojoClass.getDeclaredField(FIELD_NAME));
+            } catch (NoSuchFieldException e) {
+                explicitField = null;
+            }
+            this.explicitlySetField = explicitField;
+        }
+
+        /**
+         * Gets the field for the given property name, either the field with that name, or the
+         * field with the camel case version of that (snake case) name.
+         */
+        private Field getField(String propertyName) throws NoSuchFieldException {
+            Field field = fields.get(propertyName);
+            if (field == null) {
+                field = makeAccessible(getMatchingDeclaredField(pojoClass, propertyName));
+                fields.putIfAbsent(propertyName, field);
+            }
+            return field;
+        }
+
+        @SuppressWarnings("unchecked")
+        private boolean isExplicitlySet(Object pojo, String propertyName) throws Exception {
+            if (explicitlySetField == null) {
+                throw new NoSuchFieldException(FIELD_NAME);
+            }
+            Object explicitlySet = explicitlySetField.get(pojo);
+            // the builders record the field names, not the (possibly snake case) property names
+            String fieldName = getField(propertyName).getName();
+            if (explicitlySet instanceof ExplicitlySet) {
+                return ((ExplicitlySet) explicitlySet).contains(fieldName);
+            }
+            // models generated before ExplicitlySet was introduced
+            Set<String> names = (Set<String>) explicitlySet;
+            return names.contains(propertyName) || names.contains(fieldName);
+        }
+
+        private static Field makeAccessible(Field field) {
+            field.setAccessible(true);
+            return field;
+        }
+
+        private static Field getDeclaredField(Class<?> pojoClass, String fieldName)
+                throws NoSuchFieldException {
+            try {
+                return pojoClass.getDeclaredField(fieldName);
+            } catch (NoSuchFieldException nsfe) {
+                Class<?> superclass = pojoClass.getSuperclass();
+                if (superclass != null) {
+                    return getDeclaredField(superclass, fieldName);
+                } else {
+                    throw nsfe;
+                }
+            }
+        }
+
+        private static Field getMatchingDeclaredField(Class<?> pojoClass, String fieldName)
+                throws NoSuchFieldException {
+            // Try matching the exact field name
+            try {
+                return getDeclaredField(pojoClass, fieldName);
+            } catch (NoSuchFieldException nsfe) {
+                LOG.debug("Exact field name match failed for {}", fieldName);
+            }
+            // If not found, try converting the field name from snake case to camel case
+            return getDeclaredField(
+                    pojoClass, CaseFormat.LOWER_UNDERSCORE.to(CaseFormat.LOWER_CAMEL, fieldName));
+        }
+    }
 }
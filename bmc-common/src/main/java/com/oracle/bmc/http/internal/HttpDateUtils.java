@@ -86,10 +86,12 @@ public class HttpDateUtils {
      * @return A new Date instance, or null if it could not be parsed.
      */
     static Date parse(String headerName, String value) {
-        // date and last-modified use 'HTTP-date' format, rfc2616:
+        // date, last-modified and retry-after use 'HTTP-date' format, rfc2616:
         // https://www.w3.org/Protocols/rfc2616/rfc2616-sec3.html
         String lowerCasedHeaderName = headerName.toLowerCase(Locale.ROOT);
-        if ("date".equals(lowerCasedHeaderName) || "last-modified".equals(lowerCasedHeaderName)) {
+        if ("date".equals(lowerCasedHeaderName)
+                || "last-modified".equals(lowerCasedHeaderName)
+                || "retry-after".equals(lowerCasedHeaderName)) {
             Date date = tryParse(value, RFC2616_DATE_FORMATS.get());
             if (date == null) {
                 LOG.warn("Could not create Date instance from rfc2616 format: " + value);
@@ -0,0 +1,75 @@
+/**
+ * Copyright (c) 2016, 2019, Oracle and/or its affiliates. All rights reserved.
+ */
+package com.oracle.bmc.http.internal;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import javax.annotation.Priority;
+import javax.ws.rs.client.ClientRequestContext;
+import javax.ws.rs.client.ClientRequestFilter;
+import javax.ws.rs.client.ClientResponseContext;
+import javax.ws.rs.client.ClientResponseFilter;
+import javax.ws.rs.ext.WriterInterceptor;
+import javax.ws.rs.ext.WriterInterceptorContext;
+
+import com.google.common.io.CountingOutputStream;
+
+/**
+ * Filter that records when a request is handed to the connector, how long writing its body
+ * takes, and when its response headers arrive, for requests with a
+ * {@link RequestMetricsRecorder}. Requests without one pass through unchanged.
+ * <p>
+ * It has the lowest priority, so it is the last request filter and the innermost writer
+ * interceptor (measuring what is written to the connection), and the first response filter.
+ */
+@Priority(Integer.MAX_VALUE)
+public class RequestMetricsFilter
+        implements ClientRequestFilter, ClientResponseFilter, WriterInterceptor {
+
+    @Override
+    public void filter(ClientRequestContext requestContext) {
+        RequestMetricsRecorder recorder =
+                getRecorder(requestContext.getProperty(RequestMetricsRecorder.PROPERTY_NAME));
+        if (recorder != null) {
+            recorder.sent(requestContext.getMethod(), requestContext.getUri());
+        }
+    }
+
+    @Override
+    public void filter(
+            ClientRequestContext requestContext, ClientResponseContext responseContext) {
+        RequestMetricsRecorder recorder =
+                getRecorder(requestContext.getProperty(RequestMetricsRecorder.PROPERTY_NAME));
+        if (recorder != null) {
+            recorder.responseReceived(responseContext.getStatus(), responseContext.getLength());
+        }
+    }
+
+    @Override
+    public void aroundWriteTo(WriterInterceptorContext context) throws IOException {
+        RequestMetricsRecorder recorder =
+                getRecorder(context.getProperty(RequestMetricsRecorder.PROPERTY_NAME));
+        if (recorder == null) {
+            context.proceed();
+            return;
+        }
+        OutputStream original = context.getOutputStream();
+        CountingOutputStream counting = new CountingOutputStream(original);
+        context.setOutputStream(counting);
+        long start = System.nanoTime();
+        try {
+            context.proceed();
+        } finally {
+            recorder.bodyWritten(System.nanoTime() - start, counting.getCount());
+            context.setOutputStream(original);
+        }
+    }
+
+    private static RequestMetricsRecorder getRecorder(Object property) {
+        return (property instanceof RequestMetricsRecorder)
+                ? (RequestMetricsRecorder) property
+                : null;
+    }
+}
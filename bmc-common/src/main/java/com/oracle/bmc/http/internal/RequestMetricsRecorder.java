@@ -0,0 +1,148 @@
+/**
+ * Copyright (c) 2016, 2019, Oracle and/or its affiliates. All rights reserved.
+ */
+package com.oracle.bmc.http.internal;
+
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.annotation.Nullable;
+import javax.ws.rs.core.Response;
+
+import com.oracle.bmc.http.RequestListener;
+import com.oracle.bmc.http.RequestMetrics;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Collects the {@link RequestMetrics} of one request, and hands them to the
+ * {@link RequestListener} once the request completed.
+ * <p>
+ * A recorder is only created if a listener was registered. It is passed to the filters of the
+ * REST client as the {@link #PROPERTY_NAME} request property, and to the response conversion
+ * functions through the {@link WrappedResponse} it is attached to, so no state outlives the
+ * request.
+ * <p>
+ * Exposed only for internal use.
+ */
+@Slf4j
+public final class RequestMetricsRecorder {
+    public static final String PROPERTY_NAME = "x-obmcs-internal-request-metrics";
+
+    private final RequestListener listener;
+    private final String opcRequestId;
+    private final long startNanos;
+    private final AtomicBoolean completed = new AtomicBoolean();
+
+    // the phases of the current attempt, reset when the request is retried
+    private volatile int attempts = 1;
+    private volatile String method;
+    private volatile URI uri;
+    private volatile long signingNanos;
+    private volatile long sentNanos;
+    private volatile long requestWriteNanos;
+    private volatile long bytesSent;
+    private volatile long timeToFirstByteNanos;
+    private volatile long bytesReceived = -1;
+    private volatile int statusCode;
+
+    RequestMetricsRecorder(RequestListener listener, String opcRequestId) {
+        this.listener = listener;
+        this.opcRequestId = opcRequestId;
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * Returns the recorder of the request that produced the response, if any.
+     *
+     * @param response The response.
+     * @return The recorder, or null if metrics are not recorded for the request.
+     */
+    @Nullable
+    static RequestMetricsRecorder of(Response response) {
+        return (response instanceof WrappedResponse)
+                ? ((WrappedResponse) response).getMetrics()
+                : null;
+    }
+
+    /**
+     * Attaches this recorder to the response of the request, so the response conversion
+     * function can complete it.
+     *
+     * @param response The response.
+     * @return The response wrapped with this recorder.
+     */
+    WrappedResponse attach(Response response) {
+        statusCode = response.getStatus();
+        return WrappedResponse.withMetrics(response, this);
+    }
+
+    void retrying() {
+        attempts++;
+        method = null;
+        uri = null;
+        signingNanos = 0;
+        sentNanos = 0;
+        requestWriteNanos = 0;
+        bytesSent = 0;
+        timeToFirstByteNanos = 0;
+        bytesReceived = -1;
+        statusCode = 0;
+    }
+
+    void signed(long nanos) {
+        signingNanos = nanos;
+    }
+
+    void sent(String method, URI uri) {
+        this.method = method;
+        this.uri = uri;
+        this.sentNanos = System.nanoTime();
+    }
+
+    void bodyWritten(long nanos, long bytes) {
+        requestWriteNanos = nanos;
+        bytesSent = bytes;
+    }
+
+    void responseReceived(int statusCode, long length) {
+        if (sentNanos != 0) {
+            timeToFirstByteNanos = System.nanoTime() - sentNanos;
+        }
+        this.statusCode = statusCode;
+        this.bytesReceived = length;
+    }
+
+    /**
+     * Completes the request, and calls the listener. Only the first call has an effect.
+     *
+     * @param deserializationNanos The time spent converting the response.
+     * @param failure The exception the request failed with, or null.
+     */
+    void complete(long deserializationNanos, @Nullable Throwable failure) {
+        if (!completed.compareAndSet(false, true)) {
+            return;
+        }
+        RequestMetrics metrics =
+                RequestMetrics.builder()
+                        .opcRequestId(opcRequestId)
+                        .method(method)
+                        .uri(uri)
+                        .statusCode(statusCode)
+                        .retryCount(attempts - 1)
+                        .bytesSent(bytesSent)
+                        .bytesReceived(bytesReceived)
+                        .signingNanos(signingNanos)
+                        .requestWriteNanos(requestWriteNanos)
+                        .timeToFirstByteNanos(timeToFirstByteNanos)
+                        .deserializationNanos(deserializationNanos)
+                        .totalNanos(System.nanoTime() - startNanos)
+                        .failure(failure)
+                        .build();
+        try {
+            listener.requestCompleted(metrics);
+        } catch (RuntimeException e) {
+            LOG.warn("Request listener failed for request {}", opcRequestId, e);
+        }
+    }
+}
@@ -83,8 +83,21 @@ public class ResponseConversionFunctionFactory {
             implements Function<Response, T> {
         @Override
         public final T apply(Response response) {
-            ResponseHelper.throwIfNotSuccessful(response);
-            return doApply(response);
+            RequestMetricsRecorder metrics = RequestMetricsRecorder.of(response);
+            if (metrics == null) {
+                ResponseHelper.throwIfNotSuccessful(response);
+                return doApply(response);
+            }
+            long start = System.nanoTime();
+            try {
+                ResponseHelper.throwIfNotSuccessful(response);
+                T converted = doApply(response);
+                metrics.complete(System.nanoTime() - start, null);
+                return converted;
+            } catch (RuntimeException e) {
+                metrics.complete(System.nanoTime() - start, e);
+                throw e;
+            }
         }
 
         protected abstract T doApply(Response response);
@@ -67,7 +67,7 @@ public class ResponseHelper {
 
         // synchronized for async handlers where both an AsyncHandler and a Future might try to
         // handle the response
-        synchronized (response) {
+        synchronized (WrappedResponse.unwrap(response)) {
 
             // If the response Content-Type is not application/json, then don't bother parsing the response body.
             if (!MediaType.APPLICATION_JSON_TYPE.equals(response.getMediaType())) {
@@ -147,12 +147,9 @@ public class ResponseHelper {
     public static <T> T readEntity(@NonNull final Response response, GenericType<T> entityType) {
         // synchronized for async handlers where both an AsyncHandler and a Future might try to
         // handle the response
-        synchronized (response) {
+        synchronized (WrappedResponse.unwrap(response)) {
             if (response.getStatusInfo().getFamily().equals(Status.Family.SUCCESSFUL)) {
-                // buffer entity so it can be reread during client parsing (ex, async requests reading
-                // through both an AsyncHandler and through the returned Future)
-                response.bufferEntity();
-
+                bufferEntityIfShared(response);
                 return response.readEntity(entityType);
             }
         }
@@ -177,7 +174,7 @@ public class ResponseHelper {
             throws BmcException {
         // synchronized for async handlers where both an AsyncHandler and a Future might try to
         // handle the response
-        synchronized (response) {
+        synchronized (WrappedResponse.unwrap(response)) {
             if (response.getStatusInfo().getFamily().equals(Status.Family.SUCCESSFUL)) {
                 if (entityType == InputStream.class) {
                     // If we want an InputStream, then we don't care about the content type.
@@ -215,10 +212,7 @@ public class ResponseHelper {
                     }
                 }
 
-                // buffer entity so it can be reread during client parsing (ex, async requests reading
-                // through both an AsyncHandler and through the returned Future)
-                response.bufferEntity();
-
+                bufferEntityIfShared(response);
                 T entity = response.readEntity(entityType);
                 if (MediaType.APPLICATION_JSON_TYPE.equals(response.getMediaType())
                         && entityType == String.class) {
@@ -239,6 +233,14 @@ public class ResponseHelper {
                 "Attempted to read entity from unsuccessful response, should have called throwIfNotSuccessful first");
     }
 
+    private static void bufferEntityIfShared(Response response) {
+        // buffer entity so it can be reread during client parsing, otherwise parse it directly
+        // from the connection
+        if (response instanceof WrappedResponse && ((WrappedResponse) response).isShared()) {
+            response.bufferEntity();
+        }
+    }
+
     @Value
     @JsonDeserialize(builder = ErrorCodeAndMessage.Builder.class)
     @Builder(builderClassName = "Builder")
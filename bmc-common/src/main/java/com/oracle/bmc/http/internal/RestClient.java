@@ -3,18 +3,26 @@
  */
 package com.oracle.bmc.http.internal;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
 import com.google.common.base.Throwables;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.oracle.bmc.http.RequestListener;
+import com.oracle.bmc.io.DuplicatableInputStream;
 import com.oracle.bmc.model.BmcException;
 import com.oracle.bmc.requests.BmcRequest;
+import com.oracle.bmc.retrier.RetryConfiguration;
+import com.oracle.bmc.retrier.RetryContext;
 import com.oracle.bmc.util.internal.Consumer;
+import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
-import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 
 import javax.annotation.Nullable;
+import javax.ws.rs.HttpMethod;
 import javax.ws.rs.ProcessingException;
 import javax.ws.rs.client.AsyncInvoker;
 import javax.ws.rs.client.Client;
@@ -29,8 +37,20 @@ import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.core.Response;
 import java.io.InputStream;
 import java.io.InterruptedIOException;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
 
 /**
  * A REST client that can make synchronous and asynchronous calls.<br/>
@@ -40,11 +60,20 @@ import java.util.concurrent.Future;
 @Slf4j
 public class RestClient implements AutoCloseable {
     private static final String PATCH_VERB = "PATCH";
+    private static final String RETRY_AFTER_HEADER = "retry-after";
+    private static final String OPC_RETRY_TOKEN_HEADER = "opc-retry-token";
 
     private final EntityFactory entityFactory;
-    private final Client client;
+    private final Supplier<Client> clientSupplier;
+    private final RetryConfiguration retryConfiguration;
+    private final RequestListener requestListener;
+    private final Map<String, Object> requestProperties;
+    private final boolean sharedClient;
 
-    private WrappedWebTarget baseTarget;
+    private volatile Client client;
+    private volatile boolean closed;
+    private volatile String endpoint;
+    private volatile WrappedWebTarget baseTarget;
 
     /**
      * Create a new client that uses a provided client to make all its requests.
@@ -54,8 +83,58 @@ public class RestClient implements AutoCloseable {
      * @param entityFactory An entity factory to create entities for POST/PUT operations.
      */
     public RestClient(@NonNull Client client, @NonNull EntityFactory entityFactory) {
+        this(client, entityFactory, RetryConfiguration.NO_RETRY);
+    }
+
+    /**
+     * Create a new client that uses a provided client to make all its requests,
+     * retrying failed synchronous requests as configured.
+     * It's up to the caller to properly configure the client.
+     *
+     * @param client             A HTTP client to make all requests with.
+     * @param entityFactory      An entity factory to create entities for POST/PUT operations.
+     * @param retryConfiguration The retry configuration used for requests that do not set their own.
+     */
+    public RestClient(
+            @NonNull Client client,
+            @NonNull EntityFactory entityFactory,
+            @NonNull RetryConfiguration retryConfiguration) {
+        this(
+                Suppliers.ofInstance(client),
+                entityFactory,
+                retryConfiguration,
+                RequestListener.NO_OP,
+                Collections.<String, Object>emptyMap(),
+                false);
         this.client = client;
+    }
+
+    /**
+     * Create a new client that creates the client to make all its requests with only
+     * when the first request is made (or the target is first needed), so constructing
+     * service clients stays cheap.
+     *
+     * @param clientSupplier     Creates the HTTP client to make all requests with; called at most once.
+     * @param entityFactory      An entity factory to create entities for POST/PUT operations.
+     * @param retryConfiguration The retry configuration used for requests that do not set their own.
+     * @param requestListener    The listener told about every request.
+     * @param requestProperties  The properties to set on every request.
+     * @param sharedClient       True if the HTTP client is shared with other REST clients, and
+     *                           must not be closed when this client is closed.
+     */
+    RestClient(
+            @NonNull Supplier<Client> clientSupplier,
+            @NonNull EntityFactory entityFactory,
+            @NonNull RetryConfiguration retryConfiguration,
+            @NonNull RequestListener requestListener,
+            @NonNull Map<String, Object> requestProperties,
+            boolean sharedClient) {
+        this.clientSupplier = clientSupplier;
         this.entityFactory = entityFactory;
+        this.retryConfiguration = retryConfiguration;
+        this.requestListener = requestListener;
+        this.requestProperties = requestProperties;
+        this.sharedClient = sharedClient;
     }
 
     /**
@@ -64,12 +143,22 @@ public class RestClient implements AutoCloseable {
      * @param endpoint The endpoint.
      */
     public void setEndpoint(@NonNull String endpoint) {
-        this.baseTarget = new WrappedWebTarget(client.target(endpoint));
+        synchronized (this) {
+            this.endpoint = endpoint;
+            this.baseTarget = null;
+        }
     }
 
     @Override
     public void close() {
-        client.close();
+        Client toClose;
+        synchronized (this) {
+            closed = true;
+            toClose = client;
+        }
+        if (toClose != null && !sharedClient) {
+            toClose.close();
+        }
     }
 
     /**
@@ -78,10 +167,29 @@ public class RestClient implements AutoCloseable {
      * @return The target.
      */
     public WrappedWebTarget getBaseTarget() {
-        if (this.baseTarget == null) {
-            throw new NullPointerException("No endpoint has been configured");
+        WrappedWebTarget target = this.baseTarget;
+        if (target != null) {
+            return target;
+        }
+        synchronized (this) {
+            if (this.endpoint == null) {
+                throw new NullPointerException("No endpoint has been configured");
+            }
+            if (this.baseTarget == null) {
+                this.baseTarget = new WrappedWebTarget(getClient().target(this.endpoint));
+            }
+            return this.baseTarget;
+        }
+    }
+
+    private synchronized Client getClient() {
+        if (closed) {
+            throw new IllegalStateException("Client has been closed");
+        }
+        if (client == null) {
+            client = clientSupplier.get();
         }
-        return this.baseTarget;
+        return client;
     }
 
     // Rest APIs
@@ -97,13 +205,8 @@ public class RestClient implements AutoCloseable {
      */
     public <T extends BmcRequest> Response get(
             @NonNull WrappedInvocationBuilder ib, @NonNull T request) throws BmcException {
-        InvocationInformation info = preprocessRequest(ib, request);
-        try {
-            Response response = ib.get();
-            return response;
-        } catch (ProcessingException ex) {
-            throw convertToBmcException(baseTarget, ex, info);
-        }
+        InvocationInformation info = preprocess(ib, request);
+        return invoke(ib, HttpMethod.GET, null, request, info);
     }
 
     /**
@@ -124,12 +227,13 @@ public class RestClient implements AutoCloseable {
             @NonNull T request,
             @Nullable Consumer<Response> onSuccess,
             @Nullable Consumer<Throwable> onError) {
-        InvocationInformation info = preprocessRequest(ib, request);
+        InvocationInformation info = preprocess(ib, request);
 
         if (onSuccess == null && onError == null) {
-            return ib.async().get();
+            return shared(info, ib.async().get());
         } else {
-            return ib.async().get(new Callback(baseTarget, info, onSuccess, onError));
+            return shared(
+                    info, ib.async().get(new Callback(getBaseTarget(), info, onSuccess, onError)));
         }
     }
 
@@ -147,31 +251,18 @@ public class RestClient implements AutoCloseable {
     public <T extends BmcRequest> Response post(
             @NonNull WrappedInvocationBuilder ib, @Nullable Object body, @NonNull T request)
             throws BmcException {
-        InvocationInformation info = preprocessRequest(ib, request);
-        try {
-            Entity<?> requestBody = this.entityFactory.forPost(request, attemptToSerialize(body));
-            final Response response = ib.post(requestBody);
-            return response;
-        } catch (ProcessingException e) {
-            throw convertToBmcException(baseTarget, e, info);
-        }
+        InvocationInformation info = preprocess(ib, request);
+        return invoke(ib, HttpMethod.POST, attemptToSerialize(body), request, info);
     }
 
     /**
-     * Convert the body to a JSON string, unless it is already a string, or if it is an InputStream
+     * Serialize the body to JSON once, unless it is an InputStream. The serialized body
+     * is used both to sign the request and as the entity, and is duplicated for retries.
      * @param body body
-     * @return body as string, or unchanged if String or InputStream
+     * @return body as {@link SerializedBody}, or unchanged if InputStream
      */
     private Object attemptToSerialize(@Nullable Object body) {
-        try {
-            return (body instanceof String || body instanceof InputStream)
-                    ? body
-                    : (body != null)
-                            ? RestClientFactory.getObjectMapper().writeValueAsString(body)
-                            : StringUtils.EMPTY;
-        } catch (JsonProcessingException e) {
-            throw new IllegalArgumentException("Unable to process JSON body", e);
-        }
+        return (body instanceof InputStream) ? body : SerializedBody.of(body);
     }
 
     /**
@@ -195,13 +286,18 @@ public class RestClient implements AutoCloseable {
             @NonNull T request,
             @Nullable Consumer<Response> onSuccess,
             @Nullable Consumer<Throwable> onError) {
-        InvocationInformation info = preprocessRequest(ib, request);
+        InvocationInformation info = preprocess(ib, request);
         Entity<?> requestBody = this.entityFactory.forPost(request, attemptToSerialize(body));
 
         if (onSuccess == null && onError == null) {
-            return ib.async().post(requestBody);
+            return shared(info, ib.async().post(requestBody));
         } else {
-            return ib.async().post(requestBody, new Callback(baseTarget, info, onSuccess, onError));
+            return shared(
+                    info,
+                    ib.async()
+                            .post(
+                                    requestBody,
+                                    new Callback(getBaseTarget(), info, onSuccess, onError)));
         }
     }
 
@@ -271,14 +367,8 @@ public class RestClient implements AutoCloseable {
     public <T extends BmcRequest> Response patch(
             @NonNull WrappedInvocationBuilder ib, @Nullable Object body, @NonNull T request)
             throws BmcException {
-        InvocationInformation info = preprocessRequest(ib, request);
-        try {
-            Entity<?> requestBody = this.entityFactory.forPatch(request, attemptToSerialize(body));
-            final Response response = ib.method(PATCH_VERB, requestBody);
-            return response;
-        } catch (ProcessingException e) {
-            throw convertToBmcException(baseTarget, e, info);
-        }
+        InvocationInformation info = preprocess(ib, request);
+        return invoke(ib, PATCH_VERB, attemptToSerialize(body), request, info);
     }
 
     /**
@@ -324,17 +414,19 @@ public class RestClient implements AutoCloseable {
             @NonNull T request,
             @Nullable Consumer<Response> onSuccess,
             @Nullable Consumer<Throwable> onError) {
-        InvocationInformation info = preprocessRequest(ib, request);
+        InvocationInformation info = preprocess(ib, request);
         Entity<?> requestBody = this.entityFactory.forPatch(request, attemptToSerialize(body));
 
         if (onSuccess == null && onError == null) {
-            return ib.async().method(PATCH_VERB, requestBody);
+            return shared(info, ib.async().method(PATCH_VERB, requestBody));
         } else {
-            return ib.async()
-                    .method(
-                            PATCH_VERB,
-                            requestBody,
-                            new Callback(baseTarget, info, onSuccess, onError));
+            return shared(
+                    info,
+                    ib.async()
+                            .method(
+                                    PATCH_VERB,
+                                    requestBody,
+                                    new Callback(getBaseTarget(), info, onSuccess, onError)));
         }
     }
 
@@ -371,14 +463,8 @@ public class RestClient implements AutoCloseable {
     public <T extends BmcRequest> Response put(
             @NonNull WrappedInvocationBuilder ib, @Nullable Object body, @NonNull T request)
             throws BmcException {
-        InvocationInformation info = preprocessRequest(ib, request);
-        try {
-            Entity<?> requestBody = this.entityFactory.forPut(request, attemptToSerialize(body));
-            final Response response = ib.put(requestBody);
-            return response;
-        } catch (ProcessingException e) {
-            throw convertToBmcException(baseTarget, e, info);
-        }
+        InvocationInformation info = preprocess(ib, request);
+        return invoke(ib, HttpMethod.PUT, attemptToSerialize(body), request, info);
     }
 
     /**
@@ -433,13 +519,18 @@ public class RestClient implements AutoCloseable {
             @NonNull T request,
             @Nullable Consumer<Response> onSuccess,
             @Nullable Consumer<Throwable> onError) {
-        InvocationInformation info = preprocessRequest(ib, request);
+        InvocationInformation info = preprocess(ib, request);
         Entity<?> requestBody = this.entityFactory.forPut(request, attemptToSerialize(body));
 
         if (onSuccess == null && onError == null) {
-            return ib.async().put(requestBody);
+            return shared(info, ib.async().put(requestBody));
         } else {
-            return ib.async().put(requestBody, new Callback(baseTarget, info, onSuccess, onError));
+            return shared(
+                    info,
+                    ib.async()
+                            .put(
+                                    requestBody,
+                                    new Callback(getBaseTarget(), info, onSuccess, onError)));
         }
     }
 
@@ -457,13 +548,8 @@ public class RestClient implements AutoCloseable {
      */
     public <T extends BmcRequest> Response delete(
             @NonNull WrappedInvocationBuilder ib, @NonNull T request) throws BmcException {
-        InvocationInformation info = preprocessRequest(ib, request);
-        try {
-            Response response = ib.delete(Response.class);
-            return response;
-        } catch (ProcessingException e) {
-            throw convertToBmcException(baseTarget, e, info);
-        }
+        InvocationInformation info = preprocess(ib, request);
+        return invoke(ib, HttpMethod.DELETE, null, request, info);
     }
 
     /**
@@ -488,12 +574,14 @@ public class RestClient implements AutoCloseable {
             @NonNull T request,
             @Nullable Consumer<Response> onSuccess,
             @Nullable Consumer<Throwable> onError) {
-        InvocationInformation info = preprocessRequest(ib, request);
+        InvocationInformation info = preprocess(ib, request);
 
         if (onSuccess == null && onError == null) {
-            return ib.async().delete();
+            return shared(info, ib.async().delete());
         } else {
-            return ib.async().delete(new Callback(baseTarget, info, onSuccess, onError));
+            return shared(
+                    info,
+                    ib.async().delete(new Callback(getBaseTarget(), info, onSuccess, onError)));
         }
     }
 
@@ -511,13 +599,8 @@ public class RestClient implements AutoCloseable {
      */
     public <T extends BmcRequest> Response head(
             @NonNull WrappedInvocationBuilder ib, @NonNull T request) throws BmcException {
-        InvocationInformation info = preprocessRequest(ib, request);
-        try {
-            Response response = ib.head();
-            return response;
-        } catch (ProcessingException ex) {
-            throw convertToBmcException(baseTarget, ex, info);
-        }
+        InvocationInformation info = preprocess(ib, request);
+        return invoke(ib, HttpMethod.HEAD, null, request, info);
     }
 
     /**
@@ -543,15 +626,518 @@ public class RestClient implements AutoCloseable {
             @NonNull T request,
             @Nullable Consumer<Response> onSuccess,
             @Nullable Consumer<Throwable> onError) {
-        InvocationInformation info = preprocessRequest(ib, request);
+        InvocationInformation info = preprocess(ib, request);
 
         if (onSuccess == null && onError == null) {
-            return ib.async().head();
+            return shared(info, ib.async().head());
         } else {
-            return ib.async().head(new Callback(baseTarget, info, onSuccess, onError));
+            return shared(
+                    info, ib.async().head(new Callback(getBaseTarget(), info, onSuccess, onError)));
         }
     }
 
+    /**
+     * Request a resource asynchronously, returning a {@link CompletionStage} that is completed
+     * without blocking a thread while waiting for the response.
+     *
+     * @param ib      The invocation builder to use when making the request.
+     * @param request The original client request object given to the service
+     *                client.
+     * @return A CompletionStage that completes with the {@link Response}, or exceptionally
+     *         with a {@link BmcException}.
+     */
+    public <T extends BmcRequest> CompletionStage<Response> rxGet(
+            @NonNull WrappedInvocationBuilder ib, @NonNull T request) {
+        InvocationInformation info = preprocess(ib, request);
+        return invokeRx(ib, HttpMethod.GET, null, request, info);
+    }
+
+    /**
+     * Post a request object to the endpoint represented by the web target
+     * asynchronously, returning a {@link CompletionStage}.
+     *
+     * @param ib      An invocation builder to execute requests with.
+     * @param body    The content body to post to the web target.
+     * @param request The original client request object given to the service
+     *                client.
+     * @return A CompletionStage that completes with the {@link Response}, or exceptionally
+     *         with a {@link BmcException}.
+     */
+    public <T extends BmcRequest> CompletionStage<Response> rxPost(
+            @NonNull WrappedInvocationBuilder ib, @Nullable Object body, @NonNull T request) {
+        InvocationInformation info = preprocess(ib, request);
+        return invokeRx(ib, HttpMethod.POST, attemptToSerialize(body), request, info);
+    }
+
+    /**
+     * Post an empty body to the endpoint represented by the web target
+     * asynchronously, returning a {@link CompletionStage}.
+     *
+     * @param ib      An invocation builder to execute requests with.
+     * @param request The original client request object given to the service
+     *                client.
+     * @return A CompletionStage that completes with the {@link Response}, or exceptionally
+     *         with a {@link BmcException}.
+     */
+    public <T extends BmcRequest> CompletionStage<Response> rxPost(
+            @NonNull WrappedInvocationBuilder ib, @NonNull T request) {
+        return rxPost(ib, null, request);
+    }
+
+    /**
+     * Patch a request object to the endpoint represented by the web target
+     * asynchronously, returning a {@link CompletionStage}.
+     *
+     * @param ib      An invocation builder to execute requests with.
+     * @param body    The content body to patch the web target with.
+     * @param request The original client request object given to the service
+     *                client.
+     * @return A CompletionStage that completes with the {@link Response}, or exceptionally
+     *         with a {@link BmcException}.
+     */
+    public <T extends BmcRequest> CompletionStage<Response> rxPatch(
+            @NonNull WrappedInvocationBuilder ib, @Nullable Object body, @NonNull T request) {
+        InvocationInformation info = preprocess(ib, request);
+        return invokeRx(ib, PATCH_VERB, attemptToSerialize(body), request, info);
+    }
+
+    /**
+     * Patch a request object without body to the endpoint represented by the web target
+     * asynchronously, returning a {@link CompletionStage}.
+     *
+     * @param ib      An invocation builder to execute requests with.
+     * @param request The original client request object given to the service
+     *                client.
+     * @return A CompletionStage that completes with the {@link Response}, or exceptionally
+     *         with a {@link BmcException}.
+     */
+    public <T extends BmcRequest> CompletionStage<Response> rxPatch(
+            @NonNull WrappedInvocationBuilder ib, @NonNull T request) {
+        return rxPatch(ib, null, request);
+    }
+
+    /**
+     * Put a request object to the endpoint represented by the web target
+     * asynchronously, returning a {@link CompletionStage}.
+     *
+     * @param ib      An invocation builder to execute requests with.
+     * @param body    The content body to put to the web target.
+     * @param request The original client request object given to the service
+     *                client.
+     * @return A CompletionStage that completes with the {@link Response}, or exceptionally
+     *         with a {@link BmcException}.
+     */
+    public <T extends BmcRequest> CompletionStage<Response> rxPut(
+            @NonNull WrappedInvocationBuilder ib, @Nullable Object body, @NonNull T request) {
+        InvocationInformation info = preprocess(ib, request);
+        return invokeRx(ib, HttpMethod.PUT, attemptToSerialize(body), request, info);
+    }
+
+    /**
+     * Put a request object without body to the endpoint represented by the web target
+     * asynchronously, returning a {@link CompletionStage}.
+     *
+     * @param ib      An invocation builder to execute requests with.
+     * @param request The original client request object given to the service
+     *                client.
+     * @return A CompletionStage that completes with the {@link Response}, or exceptionally
+     *         with a {@link BmcException}.
+     */
+    public <T extends BmcRequest> CompletionStage<Response> rxPut(
+            @NonNull WrappedInvocationBuilder ib, @NonNull T request) {
+        return rxPut(ib, null, request);
+    }
+
+    /**
+     * Execute a delete on a resource asynchronously, returning a {@link CompletionStage}.
+     *
+     * @param ib      An invocation builder to execute requests with.
+     * @param request The original client request object given to the service
+     *                client.
+     * @return A CompletionStage that completes with the {@link Response}, or exceptionally
+     *         with a {@link BmcException}.
+     */
+    public <T extends BmcRequest> CompletionStage<Response> rxDelete(
+            @NonNull WrappedInvocationBuilder ib, @NonNull T request) {
+        InvocationInformation info = preprocess(ib, request);
+        return invokeRx(ib, HttpMethod.DELETE, null, request, info);
+    }
+
+    /**
+     * Execute a head request for a resource asynchronously, returning a {@link CompletionStage}.
+     *
+     * @param ib      An invocation builder to execute requests with.
+     * @param request The original client request object given to the service
+     *                client.
+     * @return A CompletionStage that completes with the {@link Response}, or exceptionally
+     *         with a {@link BmcException}.
+     */
+    public <T extends BmcRequest> CompletionStage<Response> rxHead(
+            @NonNull WrappedInvocationBuilder ib, @NonNull T request) {
+        InvocationInformation info = preprocess(ib, request);
+        return invokeRx(ib, HttpMethod.HEAD, null, request, info);
+    }
+
+    /**
+     * Sends a synchronous request, retrying it according to the retry configuration
+     * of the request, or of this client if the request does not set one.
+     * <p>
+     * Unsuccessful responses that will not be retried are returned as-is, so that the
+     * response conversion functions can turn them into exceptions like before.
+     */
+    private <T extends BmcRequest> Response invoke(
+            WrappedInvocationBuilder ib,
+            String method,
+            @Nullable Object body,
+            T request,
+            InvocationInformation info) {
+        RetryConfiguration retry = getRetryConfiguration(request);
+        boolean retryable =
+                retry.isRetryEnabled() && isIdempotent(method, ib) && isReplayable(body);
+        // read once, setEndpoint may reset the base target while the request is in flight
+        WebTarget target = getBaseTarget();
+
+        RequestMetricsRecorder metrics = info.getMetrics();
+        int attempts = 0;
+        while (true) {
+            attempts++;
+            if (metrics != null && attempts > 1) {
+                metrics.retrying();
+            }
+            BmcException failure;
+            Long retryAfterMillis = null;
+            try {
+                Response response = send(ib, method, replay(body, attempts), request);
+                if (!retryable || isSuccessful(response)) {
+                    if (retryable) {
+                        retry.getRetryBudget().recordSuccess();
+                    }
+                    return attach(metrics, response);
+                }
+                retryAfterMillis = getRetryAfterMillis(response);
+                failure = toBmcException(response);
+            } catch (ProcessingException e) {
+                failure = convertToBmcException(target, e, info);
+                if (!retryable) {
+                    throw failed(metrics, failure);
+                }
+            }
+
+            long delay = getRetryDelay(retry, attempts, failure, retryAfterMillis);
+            if (delay < 0) {
+                throw failed(metrics, failure);
+            }
+            LOG.debug(
+                    "Retrying {} request {} after {}ms (attempt {} failed: {})",
+                    method,
+                    info.getRequestId(),
+                    delay,
+                    attempts,
+                    failure.getMessage());
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw failed(metrics, failure);
+            }
+        }
+    }
+
+    /**
+     * Sends an asynchronous request through the callback based {@link AsyncInvoker}, retrying
+     * like {@link #invoke} does. Retries are delayed by scheduling the next attempt instead of
+     * sleeping, so no thread is blocked between attempts.
+     */
+    private <T extends BmcRequest> CompletionStage<Response> invokeRx(
+            WrappedInvocationBuilder ib,
+            String method,
+            @Nullable Object body,
+            T request,
+            InvocationInformation info) {
+        RetryConfiguration retry = getRetryConfiguration(request);
+        boolean retryable =
+                retry.isRetryEnabled() && isIdempotent(method, ib) && isReplayable(body);
+        // read once, setEndpoint may reset the base target while the request is in flight
+        WebTarget target = getBaseTarget();
+        CompletableFuture<Response> result = new CompletableFuture<>();
+        attemptRx(ib, target, method, body, request, info, retry, retryable, 1, result);
+        return result;
+    }
+
+    private void attemptRx(
+            final WrappedInvocationBuilder ib,
+            final WebTarget target,
+            final String method,
+            @Nullable final Object body,
+            final BmcRequest request,
+            final InvocationInformation info,
+            final RetryConfiguration retry,
+            final boolean retryable,
+            final int attempt,
+            final CompletableFuture<Response> result) {
+        final RequestMetricsRecorder metrics = info.getMetrics();
+        if (metrics != null && attempt > 1) {
+            metrics.retrying();
+        }
+        CompletionStage<Response> stage;
+        try {
+            stage = sendRx(ib, method, replay(body, attempt), request);
+        } catch (RuntimeException e) {
+            stage = failedStage(e);
+        }
+        stage.whenComplete(
+                new BiConsumer<Response, Throwable>() {
+                    @Override
+                    public void accept(Response response, Throwable throwable) {
+                        BmcException failure;
+                        Long retryAfterMillis = null;
+                        if (throwable != null) {
+                            Throwable cause = unwrap(throwable);
+                            if (!(cause instanceof ProcessingException)) {
+                                result.completeExceptionally(failed(metrics, cause));
+                                return;
+                            }
+                            failure =
+                                    convertToBmcException(
+                                            target, (ProcessingException) cause, info);
+                            if (!retryable) {
+                                result.completeExceptionally(failed(metrics, failure));
+                                return;
+                            }
+                        } else if (!retryable || isSuccessful(response)) {
+                            if (retryable) {
+                                retry.getRetryBudget().recordSuccess();
+                            }
+                            result.complete(attach(metrics, response));
+                            return;
+                        } else {
+                            retryAfterMillis = getRetryAfterMillis(response);
+                            failure = toBmcException(response);
+                        }
+
+                        long delay = getRetryDelay(retry, attempt, failure, retryAfterMillis);
+                        if (delay < 0) {
+                            result.completeExceptionally(failed(metrics, failure));
+                            return;
+                        }
+                        LOG.debug(
+                                "Retrying async {} request {} after {}ms (attempt {} failed: {})",
+                                method,
+                                info.getRequestId(),
+                                delay,
+                                attempt,
+                                failure.getMessage());
+                        RetryScheduler.INSTANCE.schedule(
+                                new Runnable() {
+                                    @Override
+                                    public void run() {
+                                        attemptRx(
+                                                ib,
+                                                target,
+                                                method,
+                                                body,
+                                                request,
+                                                info,
+                                                retry,
+                                                retryable,
+                                                attempt + 1,
+                                                result);
+                                    }
+                                },
+                                delay,
+                                TimeUnit.MILLISECONDS);
+                    }
+                });
+    }
+
+    /**
+     * Attaches the metrics of the request to its response, so the response conversion
+     * function completes them.
+     */
+    private static Response attach(@Nullable RequestMetricsRecorder metrics, Response response) {
+        return (metrics != null) ? metrics.attach(response) : response;
+    }
+
+    /**
+     * Completes the metrics of a request that failed without a response to convert.
+     */
+    private static <E extends Throwable> E failed(
+            @Nullable RequestMetricsRecorder metrics, E failure) {
+        if (metrics != null) {
+            metrics.complete(0L, failure);
+        }
+        return failure;
+    }
+
+    private RetryConfiguration getRetryConfiguration(BmcRequest request) {
+        return request.getRetryConfiguration() != null
+                ? request.getRetryConfiguration()
+                : this.retryConfiguration;
+    }
+
+    /**
+     * Returns the delay before the next attempt, or -1 if the failure must not be retried.
+     */
+    private static long getRetryDelay(
+            RetryConfiguration retry,
+            int attemptsMade,
+            BmcException failure,
+            @Nullable Long retryAfterMillis) {
+        if (attemptsMade >= retry.getMaxAttempts()
+                || !retry.getRetryCondition().shouldBeRetried(failure)
+                || !retry.getRetryBudget().tryAcquire()) {
+            return -1;
+        }
+        return retry.getRetryStrategy()
+                .nextDelay(new RetryContext(attemptsMade, failure, retryAfterMillis));
+    }
+
+    /**
+     * Converts an unsuccessful response into the exception the response conversion
+     * functions would have thrown, and releases the response.
+     */
+    private static BmcException toBmcException(Response response) {
+        try {
+            ResponseHelper.throwIfNotSuccessful(response);
+            throw new IllegalStateException(
+                    "Expected unsuccessful response, got " + response.getStatus());
+        } catch (BmcException e) {
+            return e;
+        } finally {
+            response.close();
+        }
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+        if (throwable instanceof CompletionException && throwable.getCause() != null) {
+            return throwable.getCause();
+        }
+        return throwable;
+    }
+
+    private static <T> CompletionStage<T> failedStage(Throwable throwable) {
+        CompletableFuture<T> failed = new CompletableFuture<>();
+        failed.completeExceptionally(throwable);
+        return failed;
+    }
+
+    private Response send(
+            WrappedInvocationBuilder ib, String method, @Nullable Object body, BmcRequest request) {
+        switch (method) {
+            case HttpMethod.GET:
+                return ib.get();
+            case HttpMethod.HEAD:
+                return ib.head();
+            case HttpMethod.DELETE:
+                return ib.delete(Response.class);
+            case HttpMethod.POST:
+                return ib.post(this.entityFactory.forPost(request, body));
+            case HttpMethod.PUT:
+                return ib.put(this.entityFactory.forPut(request, body));
+            case PATCH_VERB:
+                return ib.method(PATCH_VERB, this.entityFactory.forPatch(request, body));
+            default:
+                throw new IllegalArgumentException("Unsupported HTTP method: " + method);
+        }
+    }
+
+    private CompletionStage<Response> sendRx(
+            WrappedInvocationBuilder ib, String method, @Nullable Object body, BmcRequest request) {
+        // Jersey's CompletionStageRxInvoker runs the synchronous invoker on its executor, which
+        // would hold a thread for the whole request even with a non-blocking connector. The
+        // callback based AsyncInvoker hands the request to the connector instead.
+        final CompletableFuture<Response> stage = new CompletableFuture<>();
+        InvocationCallback<Response> callback =
+                new InvocationCallback<Response>() {
+                    @Override
+                    public void completed(Response response) {
+                        stage.complete(response);
+                    }
+
+                    @Override
+                    public void failed(Throwable throwable) {
+                        stage.completeExceptionally(throwable);
+                    }
+                };
+        switch (method) {
+            case HttpMethod.GET:
+                ib.async().get(callback);
+                break;
+            case HttpMethod.HEAD:
+                ib.async().method(HttpMethod.HEAD, callback);
+                break;
+            case HttpMethod.DELETE:
+                ib.async().delete(callback);
+                break;
+            case HttpMethod.POST:
+                ib.async().post(this.entityFactory.forPost(request, body), callback);
+                break;
+            case HttpMethod.PUT:
+                ib.async().put(this.entityFactory.forPut(request, body), callback);
+                break;
+            case PATCH_VERB:
+                ib.async().method(PATCH_VERB, this.entityFactory.forPatch(request, body), callback);
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported HTTP method: " + method);
+        }
+        return stage;
+    }
+
+    private static boolean isSuccessful(Response response) {
+        return Response.Status.Family.SUCCESSFUL.equals(response.getStatusInfo().getFamily())
+                || response.getStatus() == Response.Status.NOT_MODIFIED.getStatusCode();
+    }
+
+    /**
+     * POST and PATCH requests are only idempotent if they carry a retry token.
+     */
+    private static boolean isIdempotent(String method, WrappedInvocationBuilder ib) {
+        if (HttpMethod.POST.equals(method) || PATCH_VERB.equals(method)) {
+            return ib.getHeaders().getFirst(OPC_RETRY_TOKEN_HEADER) != null;
+        }
+        return true;
+    }
+
+    private static boolean isReplayable(@Nullable Object body) {
+        return !(body instanceof InputStream) || body instanceof DuplicatableInputStream;
+    }
+
+    /**
+     * The first attempt sends the body as given, later attempts send a duplicate of
+     * stream bodies since the original has already been consumed.
+     */
+    private static Object replay(@Nullable Object body, int attempt) {
+        if (attempt > 1 && body instanceof DuplicatableInputStream) {
+            return ((DuplicatableInputStream) body).duplicate();
+        }
+        return body;
+    }
+
+    /**
+     * Reads the Retry-After header, either a number of seconds or an HTTP-date.
+     */
+    private static Long getRetryAfterMillis(Response response) {
+        String retryAfter = response.getHeaderString(RETRY_AFTER_HEADER);
+        if (StringUtils.isBlank(retryAfter)) {
+            return null;
+        }
+        retryAfter = retryAfter.trim();
+        if (StringUtils.isNumeric(retryAfter)) {
+            try {
+                return Long.parseLong(retryAfter) * 1000L;
+            } catch (NumberFormatException e) {
+                LOG.debug("Ignoring invalid Retry-After header: {}", retryAfter);
+                return null;
+            }
+        }
+        Date date = HttpDateUtils.parse(RETRY_AFTER_HEADER, retryAfter);
+        if (date == null) {
+            return null;
+        }
+        return Math.max(0L, date.getTime() - System.currentTimeMillis());
+    }
+
     /**
      * Wraps a ProcessingException as a BmcException.
      *
@@ -578,8 +1164,21 @@ public class RestClient implements AutoCloseable {
                 info.getRequestId());
     }
 
+    private <T extends BmcRequest> InvocationInformation preprocess(
+            WrappedInvocationBuilder ib, T request) {
+        for (Map.Entry<String, Object> property : requestProperties.entrySet()) {
+            ib.property(property.getKey(), property.getValue());
+        }
+        return preprocessRequest(ib, request, requestListener);
+    }
+
     static <T extends BmcRequest> InvocationInformation preprocessRequest(
             WrappedInvocationBuilder ib, T request) {
+        return preprocessRequest(ib, request, RequestListener.NO_OP);
+    }
+
+    static <T extends BmcRequest> InvocationInformation preprocessRequest(
+            WrappedInvocationBuilder ib, T request, RequestListener requestListener) {
         NonSubmittingInvocationBuilder nonSubmittingInvocationBuilder =
                 new NonSubmittingInvocationBuilder(ib);
         Consumer<Invocation.Builder> invocationPreprocessor = request.getInvocationCallback();
@@ -599,7 +1198,12 @@ public class RestClient implements AutoCloseable {
             LOG.debug("User-set request ID: {}", requestId);
         }
 
-        return new InvocationInformation(requestId, ib.getHeaders());
+        RequestMetricsRecorder metrics = null;
+        if (requestListener != RequestListener.NO_OP) {
+            metrics = new RequestMetricsRecorder(requestListener, requestId);
+            ib.property(RequestMetricsRecorder.PROPERTY_NAME, metrics);
+        }
+        return new InvocationInformation(requestId, ib.getHeaders(), metrics);
     }
 
     private static String generateRequestId() {
@@ -814,7 +1418,8 @@ public class RestClient implements AutoCloseable {
             }
 
             try {
-                onSuccess.accept(response);
+                // the returned Future may read the response as well
+                onSuccess.accept(info.share(response));
             } catch (Exception e) {
                 LOG.debug("Failure during success handling");
                 failed(e);
@@ -823,12 +1428,13 @@ public class RestClient implements AutoCloseable {
 
         @Override
         public void failed(Throwable throwable) {
+            Throwable failure = RestClient.failed(info.getMetrics(), handleException(throwable));
             if (onError == null) {
                 LOG.debug("Detected failure, but no handler configured");
                 return;
             }
 
-            onError.accept(handleException(throwable));
+            onError.accept(failure);
         }
 
         private Throwable handleException(Throwable throwable) {
@@ -839,9 +1445,93 @@ public class RestClient implements AutoCloseable {
         }
     }
 
-    @Value
-    static class InvocationInformation {
+    /**
+     * The responses of Futures may be read more than once (by calling get() again, or by both
+     * the Future and an AsyncHandler), unlike the responses of synchronous and CompletionStage
+     * calls, which are read exactly once.
+     */
+    private static Future<Response> shared(InvocationInformation info, Future<Response> future) {
+        return new SharedResponseFuture(info, future);
+    }
+
+    @RequiredArgsConstructor
+    private static final class SharedResponseFuture implements Future<Response> {
+        private final InvocationInformation info;
+        private final Future<Response> delegate;
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            return delegate.cancel(mayInterruptIfRunning);
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return delegate.isCancelled();
+        }
+
+        @Override
+        public boolean isDone() {
+            return delegate.isDone();
+        }
+
+        @Override
+        public Response get() throws InterruptedException, ExecutionException {
+            Response response;
+            try {
+                response = delegate.get();
+            } catch (ExecutionException e) {
+                failed(info.getMetrics(), e.getCause());
+                throw e;
+            }
+            return info.share(response);
+        }
+
+        @Override
+        public Response get(long timeout, TimeUnit unit)
+                throws InterruptedException, ExecutionException, TimeoutException {
+            Response response;
+            try {
+                response = delegate.get(timeout, unit);
+            } catch (ExecutionException e) {
+                failed(info.getMetrics(), e.getCause());
+                throw e;
+            }
+            return info.share(response);
+        }
+    }
+
+    // lazily started daemon thread that delays retries of asynchronous requests
+    private static final class RetryScheduler {
+        private static final ScheduledExecutorService INSTANCE =
+                Executors.newSingleThreadScheduledExecutor(
+                        new ThreadFactoryBuilder()
+                                .setDaemon(true)
+                                .setNameFormat("bmc-async-retry-%d")
+                                .build());
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    static final class InvocationInformation {
         private final String requestId;
         private final MultivaluedMap<String, Object> headersSetInCallback;
+        // null unless a request listener is registered
+        private final RequestMetricsRecorder metrics;
+
+        // the wrapped response of an asynchronous request, once it completed; guarded by this
+        @Getter(AccessLevel.NONE)
+        private Response sharedResponse;
+
+        /**
+         * Wraps the response of an asynchronous request as a shared response with the metrics
+         * of the request attached. The response is only wrapped once, however often the Future
+         * and the AsyncHandler ask for it.
+         */
+        synchronized Response share(Response response) {
+            if (sharedResponse == null) {
+                sharedResponse = WrappedResponse.shared(attach(metrics, response));
+            }
+            return sharedResponse;
+        }
     }
 }
@@ -8,8 +8,11 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.ser.FilterProvider;
 import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.google.common.base.Supplier;
+import com.google.common.collect.ImmutableMap;
 import com.oracle.bmc.ClientConfiguration;
 import com.oracle.bmc.http.ClientConfigurator;
+import com.oracle.bmc.http.SharedTransport;
 import com.oracle.bmc.http.signing.RequestSigner;
 import com.oracle.bmc.http.signing.SigningStrategy;
 import lombok.Getter;
@@ -19,6 +22,7 @@ import org.glassfish.jersey.jackson.internal.jackson.jaxrs.json.JacksonJaxbJsonP
 import org.glassfish.jersey.jackson.internal.jackson.jaxrs.json.JacksonJsonProvider;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.ws.rs.client.Client;
 import javax.ws.rs.client.ClientBuilder;
 import java.util.Collections;
@@ -36,6 +40,7 @@ public class RestClientFactory {
                     DEFAULT_MAPPER, JacksonJaxbJsonProvider.DEFAULT_ANNOTATIONS);
     private static final ClientIdFilter CLIENT_ID_FILTER = new ClientIdFilter();
     private static final LogHeadersFilter LOG_HEADERS_FILTER = new LogHeadersFilter();
+    private static final RequestMetricsFilter REQUEST_METRICS_FILTER = new RequestMetricsFilter();
 
     static {
         // Our default object mapper will ignore unknown properties when
@@ -55,6 +60,7 @@ public class RestClientFactory {
     }
 
     @Getter private final ClientConfigurator clientConfigurator;
+    @Getter private final SharedTransport sharedTransport;
 
     /**
      * Creates a new REST client factor that allow the given configurator to
@@ -64,7 +70,24 @@ public class RestClientFactory {
      *            The configurator to customize the REST client.
      */
     public RestClientFactory(@Nonnull ClientConfigurator clientConfigurator) {
+        this(clientConfigurator, null);
+    }
+
+    /**
+     * Creates a new REST client factory. If a shared transport is given, the
+     * REST clients created use its underlying client instead of creating
+     * their own, and the configurator is not used.
+     *
+     * @param clientConfigurator
+     *            The configurator to customize the REST client.
+     * @param sharedTransport
+     *            The shared transport to use, or null.
+     */
+    public RestClientFactory(
+            @Nonnull ClientConfigurator clientConfigurator,
+            @Nullable SharedTransport sharedTransport) {
         this.clientConfigurator = clientConfigurator;
+        this.sharedTransport = sharedTransport;
     }
 
     /**
@@ -131,18 +154,78 @@ public class RestClientFactory {
      * @return A new RestClient instance.
      */
     public RestClient create(
-            RequestSigner defaultRequestSigner,
-            Map<SigningStrategy, RequestSigner> requestSigners,
+            final RequestSigner defaultRequestSigner,
+            final Map<SigningStrategy, RequestSigner> requestSigners,
             ClientConfiguration configuration) {
         ClientConfiguration clientConfigurationToUse =
                 configuration != null ? configuration : ClientConfiguration.builder().build();
-        Client client =
-                createClient(
-                        defaultRequestSigner,
-                        requestSigners,
-                        clientConfigurationToUse,
-                        this.clientConfigurator);
-        return new RestClient(client, new EntityFactory());
+        if (sharedTransport != null) {
+            // the shared client has no signers or timeouts of its own, they are set per request
+            Map<String, Object> requestProperties =
+                    ImmutableMap.<String, Object>of(
+                            AuthnClientFilter.DEFAULT_REQUEST_SIGNER_PROPERTY_NAME,
+                            defaultRequestSigner,
+                            AuthnClientFilter.REQUEST_SIGNERS_PROPERTY_NAME,
+                            ImmutableMap.copyOf(requestSigners),
+                            ClientProperties.CONNECT_TIMEOUT,
+                            clientConfigurationToUse.getConnectionTimeoutMillis(),
+                            ClientProperties.READ_TIMEOUT,
+                            clientConfigurationToUse.getReadTimeoutMillis());
+            final SharedTransport transport = sharedTransport;
+            return new RestClient(
+                    new Supplier<Client>() {
+                        @Override
+                        public Client get() {
+                            return transport.getClient();
+                        }
+                    },
+                    new EntityFactory(),
+                    clientConfigurationToUse.getRetryConfiguration(),
+                    clientConfigurationToUse.getRequestListener(),
+                    requestProperties,
+                    true);
+        }
+        // the client is only created once the first request is made
+        final ClientConfiguration configurationForClient = clientConfigurationToUse;
+        final ClientConfigurator configurator = this.clientConfigurator;
+        return new RestClient(
+                new Supplier<Client>() {
+                    @Override
+                    public Client get() {
+                        return createClient(
+                                defaultRequestSigner,
+                                requestSigners,
+                                configurationForClient,
+                                configurator);
+                    }
+                },
+                new EntityFactory(),
+                clientConfigurationToUse.getRetryConfiguration(),
+                clientConfigurationToUse.getRequestListener(),
+                Collections.<String, Object>emptyMap(),
+                false);
+    }
+
+    /**
+     * Creates a client to be shared by service clients. Requests made with it
+     * have to provide their request signers as request properties, see
+     * {@link AuthnClientFilter}.
+     * <p>
+     * Exposed only for internal use.
+     *
+     * @param configuration
+     *            The client configuration to use.
+     * @param clientConfigurator
+     *            The configurator to customize the client.
+     * @return A new client.
+     */
+    public static Client createSharedClient(
+            ClientConfiguration configuration, ClientConfigurator clientConfigurator) {
+        return createClient(
+                null,
+                Collections.<SigningStrategy, RequestSigner>emptyMap(),
+                configuration,
+                clientConfigurator);
     }
 
     private static Client createClient(
@@ -168,6 +251,7 @@ public class RestClientFactory {
         client.register(new AuthnClientFilter(defaultRequestSigner, requestSigners));
         client.register(CLIENT_ID_FILTER);
         client.register(LOG_HEADERS_FILTER);
+        client.register(REQUEST_METRICS_FILTER);
 
         clientConfigurator.customizeClient(client);
         return client;
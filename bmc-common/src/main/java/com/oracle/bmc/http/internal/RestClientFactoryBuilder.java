@@ -8,9 +8,11 @@ import com.google.common.collect.ImmutableList;
 import com.oracle.bmc.http.ClientConfigurator;
 import com.oracle.bmc.http.CompositeClientConfigurator;
 import com.oracle.bmc.http.DefaultConfigurator;
+import com.oracle.bmc.http.SharedTransport;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -20,6 +22,7 @@ import java.util.List;
  * when no other values were provided.
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j
 public class RestClientFactoryBuilder {
     public static final ClientConfigurator DEFAULT_CONFIGURATOR = new DefaultConfigurator();
 
@@ -99,12 +102,22 @@ public class RestClientFactoryBuilder {
      */
     public RestClientFactory build() {
         ClientConfigurator preferredClientConfigurator = getClientConfigurator();
+        SharedTransport sharedTransport = null;
+        if (preferredClientConfigurator instanceof SharedTransport) {
+            sharedTransport = (SharedTransport) preferredClientConfigurator;
+            if (!additionalClientConfigurators.isEmpty()) {
+                LOG.warn(
+                        "Ignoring {} additional client configurator(s), the client uses a shared transport",
+                        additionalClientConfigurators.size());
+            }
+        }
         return new RestClientFactory(
                 new CompositeClientConfigurator(
                         ImmutableList.<ClientConfigurator>builder()
                                 .add(preferredClientConfigurator)
                                 .addAll(additionalClientConfigurators)
-                                .build()));
+                                .build()),
+                sharedTransport);
     }
 
     private ClientConfigurator getClientConfigurator() {
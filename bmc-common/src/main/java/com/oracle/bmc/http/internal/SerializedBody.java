@@ -0,0 +1,99 @@
+/**
+ * Copyright (c) 2016, 2019, Oracle and/or its affiliates. All rights reserved.
+ */
+package com.oracle.bmc.http.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import javax.annotation.Nullable;
+
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import com.google.common.hash.HashingOutputStream;
+import com.oracle.bmc.io.DuplicatableInputStream;
+
+/**
+ * A JSON request body that has been serialized exactly once.
+ * <p>
+ * The body is written into a buffer, and its SHA-256 hash is computed while it is written. The
+ * same buffer is then used by the request signer (for the content-length and x-content-sha256
+ * headers) and by the connector (as the entity stream), and retries send duplicates of this
+ * stream, so the body is never copied again.
+ */
+public final class SerializedBody extends ByteArrayInputStream
+        implements DuplicatableInputStream {
+    private static final byte[] EMPTY_BUFFER = new byte[0];
+    private static final HashCode EMPTY_SHA256 = Hashing.sha256().hashBytes(EMPTY_BUFFER);
+
+    private final HashCode sha256;
+
+    private SerializedBody(byte[] buffer, int length, HashCode sha256) {
+        super(buffer, 0, length);
+        this.sha256 = sha256;
+    }
+
+    /**
+     * Serializes the body to JSON, unless it is already a string (which is sent unchanged).
+     *
+     * @param body The body, may be null for an empty body.
+     * @return The serialized body.
+     * @throws IllegalArgumentException if the body could not be serialized.
+     */
+    public static SerializedBody of(@Nullable Object body) {
+        if (body == null) {
+            return new SerializedBody(EMPTY_BUFFER, 0, EMPTY_SHA256);
+        }
+        if (body instanceof String) {
+            byte[] bytes = ((String) body).getBytes(StandardCharsets.UTF_8);
+            return new SerializedBody(bytes, bytes.length, Hashing.sha256().hashBytes(bytes));
+        }
+        ExposedByteArrayOutputStream buffer = new ExposedByteArrayOutputStream();
+        HashingOutputStream hashingStream = new HashingOutputStream(Hashing.sha256(), buffer);
+        try {
+            RestClientFactory.getObjectMapper().writeValue(hashingStream, body);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unable to process JSON body", e);
+        }
+        return new SerializedBody(buffer.getBuffer(), buffer.size(), hashingStream.hash());
+    }
+
+    /**
+     * Returns the length of the serialized body in bytes.
+     *
+     * @return The length of the serialized body.
+     */
+    public int length() {
+        return count;
+    }
+
+    /**
+     * Returns the SHA-256 hash of the serialized body.
+     *
+     * @return The SHA-256 hash of the serialized body.
+     */
+    public HashCode getSha256() {
+        return sha256;
+    }
+
+    @Override
+    public InputStream duplicate() {
+        return new SerializedBody(buf, count, sha256);
+    }
+
+    /**
+     * Gives access to the internal buffer, so it does not have to be copied.
+     */
+    private static final class ExposedByteArrayOutputStream extends ByteArrayOutputStream {
+        ExposedByteArrayOutputStream() {
+            super(1024);
+        }
+
+        byte[] getBuffer() {
+            return buf;
+        }
+    }
+}
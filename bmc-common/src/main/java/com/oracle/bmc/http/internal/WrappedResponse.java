@@ -0,0 +1,235 @@
+/**
+ * Copyright (c) 2016, 2019, Oracle and/or its affiliates. All rights reserved.
+ */
+package com.oracle.bmc.http.internal;
+
+import java.lang.annotation.Annotation;
+import java.net.URI;
+import java.util.Date;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.GenericType;
+import javax.ws.rs.core.Link;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.NewCookie;
+import javax.ws.rs.core.Response;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * A {@link Response} that delegates to another {@link Response}, and carries what the response
+ * conversion functions need to know about the request that produced it.
+ * <p>
+ * The responses of asynchronous requests that return a Future are wrapped and marked as shared,
+ * since they may be read by both the Future and an AsyncHandler, or by repeated calls to
+ * {@link java.util.concurrent.Future#get()}. {@link ResponseHelper} buffers the entity of shared
+ * responses. Several wrappers may wrap the same response; they all lock and buffer the delegate.
+ * <p>
+ * The responses of requests with a {@link RequestMetricsRecorder} are wrapped as well, so the
+ * response conversion functions can complete the metrics of the request.
+ */
+class WrappedResponse extends Response {
+    @Getter private final Response delegate;
+    @Getter private final boolean shared;
+    // null unless a request listener is registered
+    @Getter private final RequestMetricsRecorder metrics;
+
+    private WrappedResponse(
+            Response delegate, boolean shared, @Nullable RequestMetricsRecorder metrics) {
+        this.delegate = delegate;
+        this.shared = shared;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Wraps a response that may be read more than once, keeping the metrics recorder it may
+     * already be wrapped with.
+     *
+     * @param response The response.
+     * @return The wrapped response.
+     */
+    static WrappedResponse shared(@NonNull Response response) {
+        RequestMetricsRecorder metrics = null;
+        if (response instanceof WrappedResponse) {
+            metrics = ((WrappedResponse) response).getMetrics();
+            response = ((WrappedResponse) response).getDelegate();
+        }
+        return new WrappedResponse(response, true, metrics);
+    }
+
+    /**
+     * Wraps a response with the metrics recorder of the request that produced it.
+     *
+     * @param response The response.
+     * @param metrics The recorder.
+     * @return The wrapped response.
+     */
+    static WrappedResponse withMetrics(
+            @NonNull Response response, @NonNull RequestMetricsRecorder metrics) {
+        boolean shared = false;
+        if (response instanceof WrappedResponse) {
+            shared = ((WrappedResponse) response).isShared();
+            response = ((WrappedResponse) response).getDelegate();
+        }
+        return new WrappedResponse(response, shared, metrics);
+    }
+
+    /**
+     * Returns the object to synchronize on when reading the response, the same for all the
+     * wrappers of a response.
+     *
+     * @param response The response, wrapped or not.
+     * @return The response that is not wrapped.
+     */
+    static Response unwrap(Response response) {
+        return (response instanceof WrappedResponse)
+                ? ((WrappedResponse) response).getDelegate()
+                : response;
+    }
+
+    @Override
+    public int getStatus() {
+        return delegate.getStatus();
+    }
+
+    @Override
+    public StatusType getStatusInfo() {
+        return delegate.getStatusInfo();
+    }
+
+    @Override
+    public Object getEntity() {
+        return delegate.getEntity();
+    }
+
+    @Override
+    public <T> T readEntity(Class<T> entityType) {
+        return delegate.readEntity(entityType);
+    }
+
+    @Override
+    public <T> T readEntity(GenericType<T> entityType) {
+        return delegate.readEntity(entityType);
+    }
+
+    @Override
+    public <T> T readEntity(Class<T> entityType, Annotation[] annotations) {
+        return delegate.readEntity(entityType, annotations);
+    }
+
+    @Override
+    public <T> T readEntity(GenericType<T> entityType, Annotation[] annotations) {
+        return delegate.readEntity(entityType, annotations);
+    }
+
+    @Override
+    public boolean hasEntity() {
+        return delegate.hasEntity();
+    }
+
+    @Override
+    public boolean bufferEntity() {
+        return delegate.bufferEntity();
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+
+    @Override
+    public MediaType getMediaType() {
+        return delegate.getMediaType();
+    }
+
+    @Override
+    public Locale getLanguage() {
+        return delegate.getLanguage();
+    }
+
+    @Override
+    public int getLength() {
+        return delegate.getLength();
+    }
+
+    @Override
+    public Set<String> getAllowedMethods() {
+        return delegate.getAllowedMethods();
+    }
+
+    @Override
+    public Map<String, NewCookie> getCookies() {
+        return delegate.getCookies();
+    }
+
+    @Override
+    public EntityTag getEntityTag() {
+        return delegate.getEntityTag();
+    }
+
+    @Override
+    public Date getDate() {
+        return delegate.getDate();
+    }
+
+    @Override
+    public Date getLastModified() {
+        return delegate.getLastModified();
+    }
+
+    @Override
+    public URI getLocation() {
+        return delegate.getLocation();
+    }
+
+    @Override
+    public Set<Link> getLinks() {
+        return delegate.getLinks();
+    }
+
+    @Override
+    public boolean hasLink(String relation) {
+        return delegate.hasLink(relation);
+    }
+
+    @Override
+    public Link getLink(String relation) {
+        return delegate.getLink(relation);
+    }
+
+    @Override
+    public Link.Builder getLinkBuilder(String relation) {
+        return delegate.getLinkBuilder(relation);
+    }
+
+    @Override
+    public MultivaluedMap<String, Object> getMetadata() {
+        return delegate.getMetadata();
+    }
+
+    @Override
+    public MultivaluedMap<String, Object> getHeaders() {
+        return delegate.getHeaders();
+    }
+
+    @Override
+    public MultivaluedMap<String, String> getStringHeaders() {
+        return delegate.getStringHeaders();
+    }
+
+    @Override
+    public String getHeaderString(String name) {
+        return delegate.getHeaderString(name);
+    }
+
+    @Override
+    public String toString() {
+        return delegate.toString();
+    }
+}
@@ -5,9 +5,11 @@ package com.oracle.bmc.http.signing.internal;
 
 import java.security.interfaces.RSAPrivateKey;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import com.google.common.base.Optional;
 import com.google.common.base.Supplier;
+import com.google.common.base.Ticker;
 import com.google.common.collect.ImmutableMap;
 import com.oracle.bmc.Service;
 import com.oracle.bmc.auth.AbstractAuthenticationDetailsProvider;
@@ -29,6 +31,9 @@ import lombok.RequiredArgsConstructor;
  */
 @RequiredArgsConstructor
 public class DefaultRequestSignerFactory implements RequestSignerFactory {
+    // how long a failure to read the key ID or the private key is remembered
+    private static final long FAILURE_TTL_NANOS = TimeUnit.SECONDS.toNanos(5);
+
     private final SigningStrategy signingStrategy;
 
     /**
@@ -73,14 +78,15 @@ public class DefaultRequestSignerFactory implements RequestSignerFactory {
             };
         }
 
-        // else fetch it now and return a fixed supplier
-        final String keyId = authenticationDetailsProvider.getKeyId();
-        return new Supplier<String>() {
-            @Override
-            public String get() {
-                return keyId;
-            }
-        };
+        // else fetch it on the first request and return the same ID (or, for a while, failure)
+        // afterwards
+        return new FailureMemoizingSupplier<>(
+                new Supplier<String>() {
+                    @Override
+                    public String get() {
+                        return authenticationDetailsProvider.getKeyId();
+                    }
+                });
     }
 
     private static KeySupplier<RSAPrivateKey> createKeySupplier(
@@ -104,10 +110,24 @@ public class DefaultRequestSignerFactory implements RequestSignerFactory {
             };
         }
 
-        // else parse once now and return a fixed supplier
-        return new PEMFileRSAPrivateKeySupplier(
-                authenticationDetailsProvider.getPrivateKey(),
-                authenticationDetailsProvider.getPassphraseCharacters());
+        // else parse once, on the first request, and return the same key (or, for a while,
+        // failure) afterwards
+        final Supplier<PEMFileRSAPrivateKeySupplier> parsedKeySupplier =
+                new FailureMemoizingSupplier<>(
+                        new Supplier<PEMFileRSAPrivateKeySupplier>() {
+                            @Override
+                            public PEMFileRSAPrivateKeySupplier get() {
+                                return new PEMFileRSAPrivateKeySupplier(
+                                        authenticationDetailsProvider.getPrivateKey(),
+                                        authenticationDetailsProvider.getPassphraseCharacters());
+                            }
+                        });
+        return new KeySupplier<RSAPrivateKey>() {
+            @Override
+            public Optional<RSAPrivateKey> getKey(String keyId) {
+                return parsedKeySupplier.get().getKey(keyId);
+            }
+        };
     }
 
     private static AuthCachingPolicy getAuthCachingPolicy(
@@ -127,4 +147,56 @@ public class DefaultRequestSignerFactory implements RequestSignerFactory {
         }
         return builder.build();
     }
+
+    /**
+     * Like {@link com.google.common.base.Suppliers#memoize(Supplier)}, but also remembers a
+     * failure for a short while, so a missing or invalid key is not read again on every request,
+     * while a transient failure (a key file being rotated, a network file system hiccup) does not
+     * break the client for good. Failures are thrown as {@link SignedRequestException}, which is
+     * not retried.
+     */
+    static final class FailureMemoizingSupplier<T> implements Supplier<T> {
+        private final Supplier<T> delegate;
+        private final long failureTtlNanos;
+        private final Ticker ticker;
+        private volatile boolean initialized;
+        private T value;
+        private RuntimeException failure;
+        private long failureExpiresAtNanos;
+
+        FailureMemoizingSupplier(Supplier<T> delegate) {
+            this(delegate, FAILURE_TTL_NANOS, Ticker.systemTicker());
+        }
+
+        FailureMemoizingSupplier(Supplier<T> delegate, long failureTtlNanos, Ticker ticker) {
+            this.delegate = delegate;
+            this.failureTtlNanos = failureTtlNanos;
+            this.ticker = ticker;
+        }
+
+        @Override
+        public T get() {
+            if (initialized) {
+                return value;
+            }
+            synchronized (this) {
+                if (!initialized) {
+                    if (failure == null || ticker.read() - failureExpiresAtNanos >= 0) {
+                        try {
+                            value = delegate.get();
+                            failure = null;
+                            initialized = true;
+                        } catch (RuntimeException e) {
+                            failure = e;
+                            failureExpiresAtNanos = ticker.read() + failureTtlNanos;
+                        }
+                    }
+                    if (failure != null) {
+                        throw new SignedRequestException(failure);
+                    }
+                }
+                return value;
+            }
+        }
+    }
 }
@@ -10,15 +10,17 @@ import com.google.common.base.Preconditions;
 import com.google.common.base.Supplier;
 import com.google.common.collect.ImmutableList;
 import com.google.common.hash.Hashing;
+import com.google.common.hash.HashingInputStream;
+import com.google.common.io.BaseEncoding;
 import com.google.common.io.ByteStreams;
 import com.oracle.bmc.http.internal.RestClientFactory;
+import com.oracle.bmc.http.internal.SerializedBody;
 import com.oracle.bmc.http.signing.RequestSigner;
 import com.oracle.bmc.http.signing.RequestSignerException;
 import com.oracle.bmc.http.signing.SigningStrategy;
 import com.oracle.bmc.io.DuplicatableInputStream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.codec.binary.Base64;
 import org.apache.commons.lang3.StringUtils;
 
 import javax.annotation.Nonnull;
@@ -38,6 +40,8 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Implementation of the {@linkplain RequestSigner} interface
@@ -48,6 +52,17 @@ import java.util.TimeZone;
 @Slf4j
 public class RequestSignerImpl implements RequestSigner {
     private static final SignatureSigner SIGNER = new SignatureSigner();
+    // builders larger than this (from requests with very long headers) are not kept for reuse
+    private static final int MAX_REUSED_BUILDER_CAPACITY = 8 * 1024;
+    private static final ThreadLocal<StringBuilder> STRING_BUILDERS =
+            new ThreadLocal<StringBuilder>() {
+                @Override
+                protected StringBuilder initialValue() {
+                    return new StringBuilder(512);
+                }
+            };
+    // the date header changes at most once per second, so it is only formatted once per second
+    private static volatile FormattedDate formattedDate;
 
     private final KeySupplier<RSAPrivateKey> keySupplier;
     private final SigningConfiguration signingConfiguration;
@@ -157,64 +172,53 @@ public class RequestSignerImpl implements RequestSigner {
             final String lowerHttpMethod = httpMethod.toLowerCase();
             final String path = extractPath(uri);
 
-            // 1) get the required headers that must be signed, and the ones that should be signed if present
-            final List<String> requiredHeaders =
-                    getRequiredSigningHeaders(lowerHttpMethod, signingConfiguration);
-            final List<String> optionalHeaders =
-                    getOptionalSigningHeaders(lowerHttpMethod, signingConfiguration);
-            for (String optionalHeaderName : optionalHeaders) {
-                if (headers.get(optionalHeaderName) != null) {
-                    requiredHeaders.add(optionalHeaderName);
-                }
-            }
+            // 1) get the headers that must be signed, including the optional ones that are present
+            final SigningPlan signingPlan = signingConfiguration.getSigningPlan(lowerHttpMethod);
+            final List<String> requiredHeaders = signingPlan.getHeadersToSign(headers);
 
-            // 2) copy of original headers as case-insensitive, do not modify input map
-            final Map<String, List<String>> existingHeaders = ignoreCaseHeaders(headers);
-
-            // 3) calculate any required headers that are missing
+            // 2) calculate any required headers that are missing, do not modify input map
             final Map<String, String> missingHeaders =
                     calculateMissingHeaders(
                             lowerHttpMethod,
                             uri,
-                            existingHeaders,
+                            headers,
                             body,
                             requiredHeaders,
                             signingConfiguration);
 
-            // 4) create a map containing both existing + missing headers
-            final Map<String, List<String>> allHeaders = new HashMap<>();
-            allHeaders.putAll(existingHeaders);
-            for (Map.Entry<String, String> e : missingHeaders.entrySet()) {
-                allHeaders.put(e.getKey(), ImmutableList.of(e.getValue()));
-            }
-
-            // 5) calculate the signature
+            // 3) calculate the signature over both existing + missing headers
+            final StringBuilder builder = getStringBuilder();
             final String stringToSign =
                     calculateStringToSign(
-                            lowerHttpMethod, path, allHeaders, requiredHeaders, headers);
+                            builder,
+                            lowerHttpMethod,
+                            path,
+                            missingHeaders,
+                            headers,
+                            requiredHeaders);
 
             final String signature = sign(key, algorithm, stringToSign);
 
-            // 6) calculate the auth header and add to all the missing headers that should be added
+            // 4) calculate the auth header and add to all the missing headers that should be added
             final String authorizationHeader =
                     calculateAuthorizationHeader(
+                            builder,
                             keyId,
-                            lowerHttpMethod,
                             signature,
                             algorithm,
                             version.getVersionName(),
-                            requiredHeaders,
-                            optionalHeaders);
+                            signingPlan.getHeadersParameter(requiredHeaders));
             missingHeaders.put(Constants.AUTHORIZATION_HEADER, authorizationHeader);
 
-            // 7) add any auth headers that were passed in as part of the original headers to the headers being returned
+            // 5) add any auth headers that were passed in as part of the original headers to the headers being returned
             for (String headerName : requiredHeaders) {
-                if (!missingHeaders.containsKey(headerName)
-                        && existingHeaders.containsKey(headerName)
-                        && !existingHeaders.get(headerName).isEmpty()) {
-                    // get the first entry; this will be the only entry, because otherwise calculateStringToSign would
-                    // have thrown an exception
-                    missingHeaders.put(headerName, existingHeaders.get(headerName).get(0));
+                if (!missingHeaders.containsKey(headerName)) {
+                    final List<String> headerValues = getHeaderValues(headers, headerName);
+                    if (headerValues != null && !headerValues.isEmpty()) {
+                        // get the first entry; this will be the only entry, because otherwise
+                        // calculateStringToSign would have thrown an exception
+                        missingHeaders.put(headerName, headerValues.get(0));
+                    }
                 }
             }
             return missingHeaders;
@@ -260,14 +264,27 @@ public class RequestSignerImpl implements RequestSigner {
         return keyOptional.get();
     }
 
+    /**
+     * Get the values of a header. The header maps of the REST client ignore the case of header
+     * names; other maps are searched for a name that only differs in case, if necessary.
+     *
+     * @param headers the headers
+     * @param headerName the lower-case name of the header
+     * @return the values of the header, or null if not present
+     */
     @VisibleForTesting
-    static Map<String, List<String>> ignoreCaseHeaders(
-            final Map<String, List<String>> originalHeaders) {
-        Map<String, List<String>> transformedMap = new HashMap<>();
-        for (Entry<String, List<String>> entry : originalHeaders.entrySet()) {
-            transformedMap.put(entry.getKey().toLowerCase(), entry.getValue());
+    static List<String> getHeaderValues(
+            final Map<String, List<String>> headers, final String headerName) {
+        final List<String> headerValues = headers.get(headerName);
+        if (headerValues != null) {
+            return headerValues;
+        }
+        for (Entry<String, List<String>> entry : headers.entrySet()) {
+            if (headerName.equalsIgnoreCase(entry.getKey())) {
+                return entry.getValue();
+            }
         }
-        return transformedMap;
+        return null;
     }
 
     private static String transformHeadersToJsonString(final Map<String, List<String>> headers) {
@@ -300,7 +317,7 @@ public class RequestSignerImpl implements RequestSigner {
         Map<String, String> missingHeaders = new HashMap<>();
 
         if (isRequiredHeaderMissing(Constants.DATE, requiredHeaders, existingHeaders)) {
-            missingHeaders.put(Constants.DATE, createFormatter().format(new Date()));
+            missingHeaders.put(Constants.DATE, formatDate(System.currentTimeMillis()));
         }
 
         if (isRequiredHeaderMissing(Constants.HOST, requiredHeaders, existingHeaders)) {
@@ -323,14 +340,11 @@ public class RequestSignerImpl implements RequestSigner {
 
         // the one exception for the below is when doing a PUT if the body is an InputStream
         // and the configuration allows it to be skipped
-        if ((isPut || isPatch) && (body instanceof InputStream)) {
-            if (signingConfiguration.skipContentHeadersForStreamingPutRequests) {
-                return missingHeaders;
-            } else {
-                // TODO: support DuplicatableInputStream to be able to calculate length/sha-256
-                throw new IllegalArgumentException(
-                        "Streaming body not supported for signing strategy");
-            }
+        if ((isPut || isPatch)
+                && (body instanceof InputStream)
+                && !(body instanceof SerializedBody)
+                && signingConfiguration.skipContentHeadersForStreamingPutRequests) {
+            return missingHeaders;
         }
 
         // supply content-type, content-length and x-content-sha256 if missing (PUT and POST only)
@@ -339,11 +353,12 @@ public class RequestSignerImpl implements RequestSigner {
             // expect application/json (except if we're sending an input stream)
             // NOTE: this should never happen as EntityFactory ensures all
             // requests have this header, so log a warning
-            if (!existingHeaders.containsKey(Constants.CONTENT_TYPE)) {
+            final List<String> contentTypes =
+                    getHeaderValues(existingHeaders, Constants.CONTENT_TYPE);
+            if (contentTypes == null) {
                 LOG.warn("Missing 'content-type' header, defaulting to 'application/json'");
                 missingHeaders.put(Constants.CONTENT_TYPE, Constants.JSON_CONTENT_TYPE);
             } else {
-                List<String> contentTypes = existingHeaders.get(Constants.CONTENT_TYPE);
                 if (contentTypes.size() != 1) {
                     throw new IllegalArgumentException(
                             "Expected exactly one '"
@@ -355,21 +370,53 @@ public class RequestSignerImpl implements RequestSigner {
             }
         }
 
-        final byte[] bodyBytes = readBodyBytes(body);
+        final boolean isContentLengthMissing =
+                isRequiredHeaderMissing(Constants.CONTENT_LENGTH, requiredHeaders, existingHeaders);
+        final boolean isContentSha256Missing =
+                isRequiredHeaderMissing(
+                        Constants.X_CONTENT_SHA256, requiredHeaders, existingHeaders);
+        if (!isContentLengthMissing && !isContentSha256Missing) {
+            // the body does not have to be read
+            return missingHeaders;
+        }
 
-        if (isRequiredHeaderMissing(Constants.CONTENT_LENGTH, requiredHeaders, existingHeaders)) {
-            missingHeaders.put(Constants.CONTENT_LENGTH, Integer.toString(bodyBytes.length));
+        final long contentLength;
+        final String contentSha256;
+        if (body instanceof SerializedBody) {
+            // bodies serialized by the RestClient already know their length and hash
+            final SerializedBody serializedBody = (SerializedBody) body;
+            contentLength = serializedBody.length();
+            contentSha256 = base64Encode(serializedBody.getSha256().asBytes());
+        } else if (body instanceof DuplicatableInputStream) {
+            // hash a duplicate of the stream as it is read, without buffering all of it
+            try (HashingInputStream hashingStream =
+                    new HashingInputStream(
+                            Hashing.sha256(), ((DuplicatableInputStream) body).duplicate())) {
+                contentLength = ByteStreams.exhaust(hashingStream);
+                contentSha256 = base64Encode(hashingStream.hash().asBytes());
+            }
+        } else {
+            final byte[] bodyBytes = readBodyBytes(body);
+            contentLength = bodyBytes.length;
+            contentSha256 = calculateBodySHA256(bodyBytes);
         }
-        if (isRequiredHeaderMissing(Constants.X_CONTENT_SHA256, requiredHeaders, existingHeaders)) {
-            missingHeaders.put(Constants.X_CONTENT_SHA256, calculateBodySHA256(bodyBytes));
+
+        if (isContentLengthMissing) {
+            missingHeaders.put(Constants.CONTENT_LENGTH, Long.toString(contentLength));
+        }
+        if (isContentSha256Missing) {
+            missingHeaders.put(Constants.X_CONTENT_SHA256, contentSha256);
         }
 
         return missingHeaders;
     }
 
     private static boolean isRequiredHeaderMissing(
-            String headerName, List<String> requiredHeaders, Map<String, ?> existingHeaders) {
-        return requiredHeaders.contains(headerName) && !existingHeaders.containsKey(headerName);
+            String headerName,
+            List<String> requiredHeaders,
+            Map<String, List<String>> existingHeaders) {
+        return requiredHeaders.contains(headerName)
+                && getHeaderValues(existingHeaders, headerName) == null;
     }
 
     private static String calculateBodySHA256(final byte[] body) {
@@ -379,40 +426,48 @@ public class RequestSignerImpl implements RequestSigner {
 
     @VisibleForTesting
     static String calculateStringToSign(
+            StringBuilder builder,
             String httpMethod,
             String path,
-            Map<String, List<String>> allHeaders,
-            List<String> requiredHeaders,
-            Map<String, List<String>> originalHeaders) {
+            Map<String, String> missingHeaders,
+            Map<String, List<String>> originalHeaders,
+            List<String> requiredHeaders) {
 
         // Header name and value are separated with ": " and each (name, value)
         // pair is separated with "\n"
-        List<String> signatureParts = new ArrayList<>();
+        builder.setLength(0);
 
         // Use the order from requiredHeaders, which must match the order
         // when creating the authorization header
         for (String headerName : requiredHeaders) {
-            List<String> headerValues = allHeaders.get(headerName);
-            if (headerValues != null && headerValues.size() != 1) {
-                final RequestSignerException exception =
-                        new RequestSignerException(
-                                "Expecting exactly one value for header " + headerName);
-                LOG.error(
-                        "More than one value for header [{}] to be signed found.  All headers: {}",
-                        headerName,
-                        transformHeadersToJsonString(originalHeaders),
-                        exception);
-                throw exception;
+            String headerValue = missingHeaders.get(headerName);
+            if (headerValue == null) {
+                List<String> headerValues = getHeaderValues(originalHeaders, headerName);
+                if (headerValues != null && headerValues.size() != 1) {
+                    final RequestSignerException exception =
+                            new RequestSignerException(
+                                    "Expecting exactly one value for header " + headerName);
+                    LOG.error(
+                            "More than one value for header [{}] to be signed found.  All headers: {}",
+                            headerName,
+                            transformHeadersToJsonString(originalHeaders),
+                            exception);
+                    throw exception;
+                }
+                headerValue = (headerValues != null) ? headerValues.get(0) : null;
             }
 
-            String headerValue = (headerValues != null) ? headerValues.get(0) : null;
+            if (builder.length() > 0) {
+                builder.append('\n');
+            }
+            builder.append(headerName).append(": ");
             if (headerName.equals(Constants.REQUEST_TARGET)) {
                 // Manually compute pseudo-header (request-target), since it
                 // won't be in headers
-                headerValue = httpMethod + " " + path;
-            }
-
-            if (headerValue == null) {
+                builder.append(httpMethod).append(' ').append(path);
+            } else if (headerValue != null) {
+                builder.append(headerValue);
+            } else {
                 final RequestSignerException exception =
                         new RequestSignerException(
                                 "Expecting exactly one value for header " + headerName);
@@ -423,11 +478,9 @@ public class RequestSignerImpl implements RequestSigner {
                         exception);
                 throw exception;
             }
-
-            signatureParts.add(String.format("%s: %s", headerName, headerValue));
         }
 
-        return StringUtils.join(signatureParts, "\n");
+        return builder.toString();
     }
 
     private static String sign(RSAPrivateKey key, Algorithm algorithm, String stringToSign) {
@@ -438,48 +491,49 @@ public class RequestSignerImpl implements RequestSigner {
     }
 
     private static String calculateAuthorizationHeader(
+            final StringBuilder builder,
             final String keyId,
-            final String httpMethod,
             final String signature,
             final Algorithm algorithm,
             final String version,
-            final List<String> requiredHeaders,
-            final List<String> optionalHeaders) {
-        final String authorizationHeader =
-                "Signature headers=\"%s\",keyId=\"%s\","
-                        + "algorithm=\"%s\",signature=\"%s\",version=\"%s\"";
-        // Space delimited: "date (request-target) content-length" etc
-        String headers = StringUtils.join(requiredHeaders, " ");
-
-        final String algorithmName = algorithm.getSpecName();
-        return String.format(
-                authorizationHeader, headers, keyId, algorithmName, signature, version);
+            final String headersParameter) {
+        // Signature headers="%s",keyId="%s",algorithm="%s",signature="%s",version="%s"
+        builder.setLength(0);
+        return builder.append("Signature headers=\"")
+                .append(headersParameter)
+                .append("\",keyId=\"")
+                .append(keyId)
+                .append("\",algorithm=\"")
+                .append(algorithm.getSpecName())
+                .append("\",signature=\"")
+                .append(signature)
+                .append("\",version=\"")
+                .append(version)
+                .append('"')
+                .toString();
     }
 
-    private static List<String> getRequiredSigningHeaders(
-            final String httpMethod, final SigningConfiguration signingConfiguration) {
-        List<String> headerNames = signingConfiguration.headersToSign.get(httpMethod);
-        return getIgnoreCaseHeaders(headerNames);
+    private static StringBuilder getStringBuilder() {
+        StringBuilder builder = STRING_BUILDERS.get();
+        if (builder.capacity() > MAX_REUSED_BUILDER_CAPACITY) {
+            builder = new StringBuilder(512);
+            STRING_BUILDERS.set(builder);
+        }
+        return builder;
     }
 
     private static List<String> getIgnoreCaseHeaders(List<String> headerNames) {
         if (headerNames == null) {
-            return new ArrayList<>(0);
+            return ImmutableList.of();
         }
-        ArrayList<String> result = new ArrayList<>(headerNames.size());
+        ImmutableList.Builder<String> result = ImmutableList.builder();
         for (String headerName : headerNames) {
             result.add(headerName.toLowerCase());
         }
-        return result;
+        return result.build();
     }
 
-    private static List<String> getOptionalSigningHeaders(
-            final String httpMethod, final SigningConfiguration signingConfiguration) {
-        List<String> headerNames = signingConfiguration.optionalHeadersToSign.get(httpMethod);
-        return getIgnoreCaseHeaders(headerNames);
-    }
-
-    private static byte[] readBodyBytes(Object body) throws IOException {
+    private static byte[] readBodyBytes(Object body) {
         // empty body is OK
         if (body == null) {
             return "".getBytes(StandardCharsets.UTF_8);
@@ -487,11 +541,8 @@ public class RequestSignerImpl implements RequestSigner {
         // if already a string, just use it unchanged
         if (body instanceof String) {
             return ((String) body).getBytes(StandardCharsets.UTF_8);
-        } else if (body instanceof DuplicatableInputStream) {
-            final InputStream duplicatedBody = ((DuplicatableInputStream) body).duplicate();
-            return ByteStreams.toByteArray(duplicatedBody);
         } else if (body instanceof InputStream) {
-            // TODO: Allow input streams to be signed, but for now restrict to DIS until we can refactor
+            // the REST client makes all stream bodies duplicatable, see AuthnClientFilter
             throw new IllegalArgumentException(
                     "Only DuplicatableInputStream supported for body that needs signing.");
         }
@@ -500,10 +551,20 @@ public class RequestSignerImpl implements RequestSigner {
     }
 
     private static String base64Encode(byte[] bytes) {
-        // encodeBase64String changed from chunked in v1.4 to not chunked in
-        // v1.5 so we cannot rely on which version is going to be used by clients,
-        // be explicit that this is not-chunked
-        return new String(Base64.encodeBase64(bytes, false), StandardCharsets.UTF_8);
+        // not chunked; unlike the commons-codec encoder, this does not allocate an 8KB buffer
+        // for every call
+        return BaseEncoding.base64().encode(bytes);
+    }
+
+    @VisibleForTesting
+    static String formatDate(final long currentTimeMillis) {
+        final long second = currentTimeMillis / 1000;
+        FormattedDate date = formattedDate;
+        if (date == null || date.second != second) {
+            date = new FormattedDate(second, createFormatter().format(new Date(second * 1000)));
+            formattedDate = date;
+        }
+        return date.value;
     }
 
     private static SimpleDateFormat createFormatter() {
@@ -529,5 +590,70 @@ public class RequestSignerImpl implements RequestSigner {
          * Flag indicating whether InputStreams in PUT requests are allowed to skip content headers.
          */
         private final boolean skipContentHeadersForStreamingPutRequests;
+        /**
+         * Map of lower-case HTTP method to the signing plan, created on first use.
+         */
+        private final ConcurrentMap<String, SigningPlan> signingPlans =
+                new ConcurrentHashMap<>();
+
+        private SigningPlan getSigningPlan(final String httpMethod) {
+            SigningPlan signingPlan = signingPlans.get(httpMethod);
+            if (signingPlan == null) {
+                signingPlan =
+                        new SigningPlan(
+                                getIgnoreCaseHeaders(headersToSign.get(httpMethod)),
+                                getIgnoreCaseHeaders(optionalHeadersToSign.get(httpMethod)));
+                signingPlans.putIfAbsent(httpMethod, signingPlan);
+            }
+            return signingPlan;
+        }
+    }
+
+    /**
+     * The headers to sign for one HTTP method, with the header names already lower-cased, and
+     * the headers parameter of the authorization header if no optional header is present.
+     */
+    private static final class SigningPlan {
+        private final List<String> requiredHeaders;
+        private final List<String> optionalHeaders;
+        private final String requiredHeadersParameter;
+
+        private SigningPlan(List<String> requiredHeaders, List<String> optionalHeaders) {
+            this.requiredHeaders = requiredHeaders;
+            this.optionalHeaders = optionalHeaders;
+            // Space delimited: "date (request-target) content-length" etc
+            this.requiredHeadersParameter = StringUtils.join(requiredHeaders, " ");
+        }
+
+        /**
+         * Get the headers to sign, the required headers followed by the optional headers present
+         * in the request.
+         */
+        private List<String> getHeadersToSign(Map<String, List<String>> headers) {
+            List<String> headersToSign = requiredHeaders;
+            for (String optionalHeader : optionalHeaders) {
+                if (getHeaderValues(headers, optionalHeader) != null) {
+                    if (headersToSign == requiredHeaders) {
+                        headersToSign =
+                                new ArrayList<>(requiredHeaders.size() + optionalHeaders.size());
+                        headersToSign.addAll(requiredHeaders);
+                    }
+                    headersToSign.add(optionalHeader);
+                }
+            }
+            return headersToSign;
+        }
+
+        private String getHeadersParameter(List<String> headersToSign) {
+            return (headersToSign == requiredHeaders)
+                    ? requiredHeadersParameter
+                    : StringUtils.join(headersToSign, " ");
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static final class FormattedDate {
+        private final long second;
+        private final String value;
     }
 }
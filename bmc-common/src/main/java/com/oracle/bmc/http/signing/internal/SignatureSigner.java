@@ -8,22 +8,54 @@ import java.security.NoSuchAlgorithmException;
 import java.security.Signature;
 import java.security.SignatureException;
 import java.security.interfaces.RSAPrivateKey;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import javax.annotation.Nonnull;
-import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
 
 import org.apache.commons.lang3.StringUtils;
 
 import com.google.common.base.Preconditions;
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * The SignatureSigner is used to actually sign a message with a private key. This version is specific to RSA.
+ * <p>
+ * Looking up and initializing a {@link Signature} is more expensive than signing a request, so
+ * signatures are kept in a pool per private key once used, still initialized with that key; keys
+ * are compared by identity. The pool of a key is dropped once it was not used for a few minutes,
+ * so a rotated key (e.g. an old key replaced by the {@link KeySupplier}) is not kept reachable
+ * by idle signatures.
  */
-@Immutable
+@ThreadSafe
 @Slf4j
 public class SignatureSigner {
+    private static final long IDLE_POOL_EXPIRY_MINUTES = 5;
+
+    private final Cache<RSAPrivateKey, Queue<SigningContext>> pools;
+
+    public SignatureSigner() {
+        this(Ticker.systemTicker());
+    }
+
+    SignatureSigner(Ticker ticker) {
+        // weak keys are compared by identity
+        this.pools =
+                CacheBuilder.newBuilder()
+                        .weakKeys()
+                        .expireAfterAccess(IDLE_POOL_EXPIRY_MINUTES, TimeUnit.MINUTES)
+                        .ticker(ticker)
+                        .build();
+    }
 
     /**
      * Sign the given message using the given private key
@@ -50,13 +82,64 @@ public class SignatureSigner {
         Preconditions.checkArgument(!StringUtils.isBlank(algorithm));
 
         try {
-            final Signature signature = Signature.getInstance(algorithm);
-            signature.initSign(privateKey);
-            signature.update(message);
-            return signature.sign();
+            final Queue<SigningContext> pool = getPool(privateKey);
+            final SigningContext context = acquire(pool, privateKey, algorithm);
+            context.signature.update(message);
+            // sign() resets the signature, so it can be used again with the same key
+            final byte[] signature = context.signature.sign();
+            pool.offer(context);
+            return signature;
         } catch (final NoSuchAlgorithmException | InvalidKeyException | SignatureException e) {
+            // the signature may be in an unknown state now, it is not returned to the pool
             LOG.debug("Error signing message", e);
             throw new SignedRequestException(e);
         }
     }
+
+    private Queue<SigningContext> getPool(final RSAPrivateKey privateKey) {
+        try {
+            return pools.get(
+                    privateKey,
+                    new Callable<Queue<SigningContext>>() {
+                        @Override
+                        public Queue<SigningContext> call() {
+                            return new ConcurrentLinkedQueue<>();
+                        }
+                    });
+        } catch (ExecutionException e) {
+            // creating a queue does not throw
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * @return the number of keys with a pool of signatures, visible for testing
+     */
+    long getPooledKeyCount() {
+        pools.cleanUp();
+        return pools.size();
+    }
+
+    private static SigningContext acquire(
+            final Queue<SigningContext> pool,
+            final RSAPrivateKey privateKey,
+            final String algorithm)
+            throws NoSuchAlgorithmException, InvalidKeyException {
+        final SigningContext context = pool.poll();
+        if (context != null && context.algorithm.equals(algorithm)) {
+            return context;
+        }
+        final Signature signature = Signature.getInstance(algorithm);
+        signature.initSign(privateKey);
+        return new SigningContext(algorithm, signature);
+    }
+
+    /**
+     * A signature, initialized for signing with the private key of its pool.
+     */
+    @RequiredArgsConstructor
+    private static final class SigningContext {
+        private final String algorithm;
+        private final Signature signature;
+    }
 }
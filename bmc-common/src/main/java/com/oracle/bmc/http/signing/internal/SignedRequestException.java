@@ -4,7 +4,10 @@
 package com.oracle.bmc.http.signing.internal;
 
 /**
- * Generic exception exposed to callers of the HTTP Signature code
+ * Generic exception exposed to callers of the HTTP Signature code.
+ * <p>
+ * Requests that could not be signed are not retried, since the credentials will not change
+ * between attempts.
  */
 public class SignedRequestException extends RuntimeException {
 
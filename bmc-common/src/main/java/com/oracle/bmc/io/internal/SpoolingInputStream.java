@@ -0,0 +1,107 @@
+/**
+ * Copyright (c) 2016, 2019, Oracle and/or its affiliates. All rights reserved.
+ */
+package com.oracle.bmc.io.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.google.common.io.ByteStreams;
+import com.google.common.io.FileBackedOutputStream;
+import com.oracle.bmc.io.DuplicatableInputStream;
+
+/**
+ * A wrapper over an {@link InputStream} that cannot be duplicated, which makes it duplicatable
+ * by spooling it the first time {@link #duplicate()} is called.
+ * <p>
+ * The first {@link #IN_MEMORY_THRESHOLD} bytes are spooled in memory, larger streams are
+ * spooled to a temporary file, so large streams do not need heap proportional to their size.
+ * The temporary file is deleted when this stream is closed (or, should it never be closed, when
+ * it is garbage collected). If {@link #duplicate()} is never called, this stream reads straight
+ * from the wrapped stream.
+ * <p>
+ * The stream must not have been read from before it is duplicated the first time, and duplicates
+ * must not be used after this stream was closed.
+ */
+public class SpoolingInputStream extends InputStream implements DuplicatableInputStream {
+    /**
+     * Streams up to this many bytes are spooled in memory.
+     */
+    public static final int IN_MEMORY_THRESHOLD = 64 * 1024;
+
+    private final InputStream source;
+
+    private FileBackedOutputStream spool;
+    private InputStream current;
+    private boolean readStarted;
+
+    public SpoolingInputStream(InputStream source) {
+        this.source = source;
+        this.current = source;
+    }
+
+    @Override
+    public synchronized InputStream duplicate() {
+        try {
+            if (spool == null) {
+                if (readStarted) {
+                    throw new IllegalStateException("Stream was already read from");
+                }
+                FileBackedOutputStream copy = new FileBackedOutputStream(IN_MEMORY_THRESHOLD, true);
+                try {
+                    ByteStreams.copy(source, copy);
+                    copy.close();
+                } catch (IOException | RuntimeException e) {
+                    // deletes the partial temporary file, if any; the source was consumed, so
+                    // neither this stream nor a duplicate can be read anymore
+                    copy.reset();
+                    readStarted = true;
+                    throw e;
+                } finally {
+                    source.close();
+                }
+                current = copy.asByteSource().openStream();
+                spool = copy;
+            }
+            return spool.asByteSource().openStream();
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to spool stream", e);
+        }
+    }
+
+    @Override
+    public synchronized int read() throws IOException {
+        readStarted = true;
+        return current.read();
+    }
+
+    @Override
+    public synchronized int read(byte[] b, int off, int len) throws IOException {
+        readStarted = true;
+        return current.read(b, off, len);
+    }
+
+    @Override
+    public synchronized long skip(long n) throws IOException {
+        readStarted = true;
+        return current.skip(n);
+    }
+
+    @Override
+    public synchronized int available() throws IOException {
+        return current.available();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            current.close();
+            source.close();
+        } finally {
+            if (spool != null) {
+                // deletes the temporary file, if any
+                spool.reset();
+            }
+        }
+    }
+}
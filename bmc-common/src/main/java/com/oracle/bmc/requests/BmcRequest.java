@@ -5,6 +5,7 @@ package com.oracle.bmc.requests;
 
 import javax.ws.rs.client.Invocation;
 
+import com.oracle.bmc.retrier.RetryConfiguration;
 import com.oracle.bmc.util.internal.Consumer;
 
 import lombok.Getter;
@@ -22,4 +23,11 @@ public class BmcRequest {
      * effect on headers set.
      */
     @Setter @Getter private Consumer<Invocation.Builder> invocationCallback;
+
+    /**
+     * Optional retry configuration for this request only. If null, the retry
+     * configuration of the client's {@link com.oracle.bmc.ClientConfiguration}
+     * is used.
+     */
+    @Setter @Getter private RetryConfiguration retryConfiguration;
 }
@@ -0,0 +1,58 @@
+/**
+ * Copyright (c) 2016, 2019, Oracle and/or its affiliates. All rights reserved.
+ */
+package com.oracle.bmc.retrier;
+
+import java.io.EOFException;
+import java.io.InterruptedIOException;
+import java.net.SocketException;
+
+import com.oracle.bmc.http.signing.internal.SignedRequestException;
+import com.oracle.bmc.model.BmcException;
+
+/**
+ * Retry condition that retries timeouts, connection failures (ex, connection resets), conflicts
+ * with the state of the resource (409 IncorrectState), throttling (429) and server errors (5xx,
+ * except 501).
+ * <p>
+ * Other client side failures (ex, failures to serialize the request, to sign it, or an invalid
+ * endpoint) are permanent, and are not retried.
+ */
+public class DefaultRetryCondition implements RetryCondition {
+    private static final String INCORRECT_STATE = "IncorrectState";
+
+    @Override
+    public boolean shouldBeRetried(BmcException exception) {
+        if (exception.isTimeout()) {
+            return true;
+        }
+        if (exception.isClientSide()) {
+            return isConnectionFailure(exception.getCause());
+        }
+        switch (exception.getStatusCode()) {
+            case 409:
+                return INCORRECT_STATE.equals(exception.getServiceCode());
+            case 429:
+                return true;
+            case 501:
+                // not implemented, retrying will not change that
+                return false;
+            default:
+                return exception.getStatusCode() >= 500;
+        }
+    }
+
+    private static boolean isConnectionFailure(Throwable cause) {
+        for (Throwable t = cause; t != null; t = t.getCause()) {
+            if (t instanceof SignedRequestException) {
+                return false;
+            }
+            if (t instanceof SocketException
+                    || t instanceof InterruptedIOException
+                    || t instanceof EOFException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,38 @@
+/**
+ * Copyright (c) 2016, 2019, Oracle and/or its affiliates. All rights reserved.
+ */
+package com.oracle.bmc.retrier;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Retry strategy that uses exponential backoff with full jitter, i.e. the delay is chosen
+ * uniformly between 0 and {@code min(maxDelayInMillis, baseDelayInMillis * 2^attempts)}.
+ * <p>
+ * If the service requested a minimum delay through the Retry-After header, that delay is
+ * honored even if it is longer than the computed one.
+ */
+@RequiredArgsConstructor
+public class ExponentialBackoffRetryStrategy implements RetryStrategy {
+    private final long baseDelayInMillis;
+    private final long maxDelayInMillis;
+
+    @Override
+    public long nextDelay(RetryContext context) {
+        long ceiling = maxDelayInMillis;
+        // avoid overflowing the shift for long running retries
+        if (context.getAttemptsMade() < 62) {
+            long exponential = baseDelayInMillis << Math.max(0, context.getAttemptsMade() - 1);
+            if (exponential > 0) {
+                ceiling = Math.min(exponential, maxDelayInMillis);
+            }
+        }
+        long delay = ThreadLocalRandom.current().nextLong(ceiling + 1);
+        if (context.getRetryAfterMillis() != null) {
+            return Math.max(delay, context.getRetryAfterMillis());
+        }
+        return delay;
+    }
+}
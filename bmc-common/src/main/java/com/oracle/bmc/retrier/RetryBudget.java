@@ -0,0 +1,98 @@
+/**
+ * Copyright (c) 2016, 2019, Oracle and/or its affiliates. All rights reserved.
+ */
+package com.oracle.bmc.retrier;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Token bucket that limits how many retries can be made, so that retries cannot amplify an
+ * outage.
+ * <p>
+ * Every retry takes {@code retryCost} tokens out of the bucket, and every successful attempt puts
+ * {@code successRefill} tokens back, up to {@code capacity}. If the bucket does not hold enough
+ * tokens, the failure is surfaced to the caller instead of being retried. A budget can be shared
+ * by several clients by using the same {@link RetryConfiguration} for all of them.
+ */
+@ToString
+public class RetryBudget {
+    private static final int DEFAULT_CAPACITY = 100;
+    private static final int DEFAULT_RETRY_COST = 5;
+    private static final int DEFAULT_SUCCESS_REFILL = 1;
+
+    @Getter private final int capacity;
+    @Getter private final int retryCost;
+    @Getter private final int successRefill;
+    private final AtomicInteger tokens;
+
+    /**
+     * Creates a budget of 100 tokens, where a retry costs 5 tokens and a success refills 1 token.
+     */
+    public RetryBudget() {
+        this(DEFAULT_CAPACITY, DEFAULT_RETRY_COST, DEFAULT_SUCCESS_REFILL);
+    }
+
+    /**
+     * Creates a new budget.
+     *
+     * @param capacity
+     *            The maximum (and initial) number of tokens.
+     * @param retryCost
+     *            The number of tokens a single retry takes.
+     * @param successRefill
+     *            The number of tokens a successful attempt puts back.
+     */
+    public RetryBudget(int capacity, int retryCost, int successRefill) {
+        if (capacity < 0 || retryCost < 0 || successRefill < 0) {
+            throw new IllegalArgumentException("Retry budget settings must not be negative");
+        }
+        this.capacity = capacity;
+        this.retryCost = retryCost;
+        this.successRefill = successRefill;
+        this.tokens = new AtomicInteger(capacity);
+    }
+
+    /**
+     * Attempts to take the tokens for one retry out of the bucket.
+     *
+     * @return true if the retry may be made, false if the budget is exhausted.
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = tokens.get();
+            if (current < retryCost) {
+                return false;
+            }
+            if (tokens.compareAndSet(current, current - retryCost)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Records a successful attempt, refilling the bucket.
+     */
+    public void recordSuccess() {
+        while (true) {
+            int current = tokens.get();
+            if (current >= capacity) {
+                return;
+            }
+            if (tokens.compareAndSet(current, Math.min(capacity, current + successRefill))) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of tokens currently available.
+     *
+     * @return the number of tokens.
+     */
+    public int getAvailableTokens() {
+        return tokens.get();
+    }
+}
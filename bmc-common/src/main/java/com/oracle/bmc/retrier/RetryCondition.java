@@ -0,0 +1,20 @@
+/**
+ * Copyright (c) 2016, 2019, Oracle and/or its affiliates. All rights reserved.
+ */
+package com.oracle.bmc.retrier;
+
+import com.oracle.bmc.model.BmcException;
+
+/**
+ * Interface that defines which failed attempts may be retried.
+ */
+public interface RetryCondition {
+    /**
+     * Returns whether or not the failure may be retried.
+     *
+     * @param exception
+     *            The exception produced by the last attempt.
+     * @return true if another attempt may be made, false otherwise.
+     */
+    boolean shouldBeRetried(BmcException exception);
+}
@@ -0,0 +1,91 @@
+/**
+ * Copyright (c) 2016, 2019, Oracle and/or its affiliates. All rights reserved.
+ */
+package com.oracle.bmc.retrier;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Configuration of the retries made by service clients.
+ * <p>
+ * Can be set for all requests of a client through
+ * {@link com.oracle.bmc.ClientConfiguration.ClientConfigurationBuilder#retryConfiguration(RetryConfiguration)},
+ * or for a single request through
+ * {@link com.oracle.bmc.requests.BmcRequest#setRetryConfiguration(RetryConfiguration)}.
+ * <p>
+ * Only idempotent requests are retried: GET, HEAD, PUT and DELETE requests, as well as POST and
+ * PATCH requests that carry an {@code opc-retry-token} header. Requests with a stream body are only
+ * retried if the stream is a {@link com.oracle.bmc.io.DuplicatableInputStream}.
+ */
+@Getter
+@ToString
+public class RetryConfiguration {
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long BASE_DELAY_MILLIS = 100L;
+    private static final long MAX_DELAY_MILLIS = 30000L;
+
+    /**
+     * Configuration that makes a single attempt and never retries.
+     */
+    public static final RetryConfiguration NO_RETRY =
+            RetryConfiguration.builder().maxAttempts(1).build();
+
+    /**
+     * Default configuration: up to 3 attempts, exponential backoff with full jitter,
+     * {@link DefaultRetryCondition}, and a {@link RetryBudget} shared by all users of this instance.
+     */
+    public static final RetryConfiguration DEFAULT = RetryConfiguration.builder().build();
+
+    /**
+     * The max number of attempts, including the first one.  Default is 3.
+     */
+    private final int maxAttempts;
+    /**
+     * The strategy that decides how long to wait between attempts.  Default is exponential backoff
+     * with full jitter, starting at 100ms and capped at 30s.
+     */
+    private final RetryStrategy retryStrategy;
+    /**
+     * The condition that decides which failures can be retried.  Default is {@link DefaultRetryCondition}.
+     */
+    private final RetryCondition retryCondition;
+    /**
+     * The budget limiting the number of retries.  Default is a new {@link RetryBudget} per configuration.
+     */
+    private final RetryBudget retryBudget;
+
+    // Explicit @Builder on constructor so we can enforce default values.
+    @Builder
+    private RetryConfiguration(
+            Integer maxAttempts,
+            RetryStrategy retryStrategy,
+            RetryCondition retryCondition,
+            RetryBudget retryBudget) {
+        this.maxAttempts = getOrDefault(maxAttempts, MAX_ATTEMPTS);
+        if (this.maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be at least 1");
+        }
+        this.retryStrategy =
+                retryStrategy != null
+                        ? retryStrategy
+                        : new ExponentialBackoffRetryStrategy(BASE_DELAY_MILLIS, MAX_DELAY_MILLIS);
+        this.retryCondition =
+                retryCondition != null ? retryCondition : new DefaultRetryCondition();
+        this.retryBudget = retryBudget != null ? retryBudget : new RetryBudget();
+    }
+
+    /**
+     * Returns whether or not this configuration allows any retries at all.
+     *
+     * @return true if more than one attempt may be made.
+     */
+    public boolean isRetryEnabled() {
+        return maxAttempts > 1;
+    }
+
+    private static <T> T getOrDefault(T value, T defaultValue) {
+        return (value == null) ? defaultValue : value;
+    }
+}
@@ -0,0 +1,32 @@
+/**
+ * Copyright (c) 2016, 2019, Oracle and/or its affiliates. All rights reserved.
+ */
+package com.oracle.bmc.retrier;
+
+import com.oracle.bmc.model.BmcException;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * The context of a failed attempt, handed to the {@link RetryStrategy}.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class RetryContext {
+    /**
+     * The number of attempts that have been made so far.
+     */
+    private final int attemptsMade;
+    /**
+     * The exception produced by the last attempt.
+     */
+    private final BmcException lastException;
+    /**
+     * The delay requested by the service through the Retry-After header, in millis,
+     * or null if the service did not request one.
+     */
+    private final Long retryAfterMillis;
+}
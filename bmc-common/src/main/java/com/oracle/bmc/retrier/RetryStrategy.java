@@ -0,0 +1,19 @@
+/**
+ * Copyright (c) 2016, 2019, Oracle and/or its affiliates. All rights reserved.
+ */
+package com.oracle.bmc.retrier;
+
+/**
+ * Interface that defines how long to wait between attempts of the same request.
+ */
+public interface RetryStrategy {
+    /**
+     * Returns the amount of time to wait (in millis) before making another
+     * attempt.
+     *
+     * @param context
+     *            The context after the last attempt.
+     * @return The amount of time to wait, in millis.
+     */
+    long nextDelay(RetryContext context);
+}
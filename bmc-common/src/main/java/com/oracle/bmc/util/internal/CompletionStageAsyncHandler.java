@@ -0,0 +1,45 @@
+/**
+ * Copyright (c) 2016, 2019, Oracle and/or its affiliates. All rights reserved.
+ */
+package com.oracle.bmc.util.internal;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import com.oracle.bmc.responses.AsyncHandler;
+
+/**
+ * Handler that completes a {@link CompletionStage} with the outcome of an asynchronous request.
+ * <p>
+ * Used by the default {@code CompletionStage} methods of the async service interfaces to adapt
+ * the {@link AsyncHandler} based methods, so existing implementations of these interfaces keep
+ * working.
+ *
+ * @param <REQUEST>
+ *            The request type.
+ * @param <RESPONSE>
+ *            The response type.
+ */
+public class CompletionStageAsyncHandler<REQUEST, RESPONSE>
+        implements AsyncHandler<REQUEST, RESPONSE> {
+    private final CompletableFuture<RESPONSE> stage = new CompletableFuture<>();
+
+    @Override
+    public void onSuccess(REQUEST request, RESPONSE response) {
+        stage.complete(response);
+    }
+
+    @Override
+    public void onError(REQUEST request, Throwable error) {
+        stage.completeExceptionally(error);
+    }
+
+    /**
+     * Returns the stage completed by this handler.
+     *
+     * @return The stage.
+     */
+    public CompletionStage<RESPONSE> getStage() {
+        return stage;
+    }
+}
@@ -0,0 +1,151 @@
+/**
+ * Copyright (c) 2016, 2019, Oracle and/or its affiliates. All rights reserved.
+ */
+package com.oracle.bmc.util.internal;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.BiConsumer;
+
+import com.google.common.base.Function;
+import com.google.common.base.Supplier;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.oracle.bmc.auth.RefreshableOnNotAuthenticatedProvider;
+import com.oracle.bmc.model.BmcException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Utilities for the {@link CompletionStage} based asynchronous client methods.
+ */
+@Slf4j
+public class CompletionStageUtils {
+
+    /**
+     * Transforms the response of an asynchronous call without blocking a thread.
+     * <p>
+     * If the authentication provider is a {@link RefreshableOnNotAuthenticatedProvider} (like
+     * instance principals) and the transformed response is a 401, the auth token is refreshed on a
+     * shared daemon thread, since that blocks on the network, and the call is made once more, all
+     * within the returned stage, like
+     * {@link RefreshAuthTokenTransformingFuture} does for {@link java.util.concurrent.Future}s.
+     *
+     * @param call
+     *            Makes the call; invoked once, and once more if the auth token was refreshed.
+     * @param transformer
+     *            Converts the raw response into the response type, throwing
+     *            {@link BmcException} if it was unsuccessful.
+     * @param authProvider
+     *            The authentication provider of the client.
+     * @param <FROM>
+     *            The type returned by the call.
+     * @param <TO>
+     *            The type to convert to.
+     * @return A CompletionStage that completes with the transformed response, or exceptionally
+     *         with the failure.
+     */
+    public static <FROM, TO> CompletionStage<TO> transform(
+            final Supplier<? extends CompletionStage<FROM>> call,
+            final Function<FROM, TO> transformer,
+            final Object authProvider) {
+        final CompletableFuture<TO> result = new CompletableFuture<>();
+        callAndTransform(
+                call,
+                transformer,
+                (authProvider instanceof RefreshableOnNotAuthenticatedProvider)
+                        ? (RefreshableOnNotAuthenticatedProvider<?>) authProvider
+                        : null,
+                result);
+        return result;
+    }
+
+    /**
+     * Makes the call and completes the result with the transformed response.
+     *
+     * @param refreshableProvider
+     *            The provider to refresh on a 401, or null to not retry the call.
+     */
+    private static <FROM, TO> void callAndTransform(
+            final Supplier<? extends CompletionStage<FROM>> call,
+            final Function<FROM, TO> transformer,
+            final RefreshableOnNotAuthenticatedProvider<?> refreshableProvider,
+            final CompletableFuture<TO> result) {
+        final CompletionStage<FROM> stage;
+        try {
+            stage = call.get();
+        } catch (RuntimeException e) {
+            // for example, the request could not be signed
+            result.completeExceptionally(e);
+            return;
+        }
+        stage.whenComplete(
+                new BiConsumer<FROM, Throwable>() {
+                    @Override
+                    public void accept(FROM from, Throwable throwable) {
+                        if (throwable != null) {
+                            result.completeExceptionally(unwrap(throwable));
+                            return;
+                        }
+                        try {
+                            result.complete(transformer.apply(from));
+                        } catch (BmcException e) {
+                            if (e.getStatusCode() == 401 && refreshableProvider != null) {
+                                LOG.debug("Refreshing auth token after 401");
+                                retryAfterRefresh(call, transformer, refreshableProvider, result);
+                            } else {
+                                result.completeExceptionally(e);
+                            }
+                        } catch (RuntimeException e) {
+                            result.completeExceptionally(e);
+                        }
+                    }
+                });
+    }
+
+    private static <FROM, TO> void retryAfterRefresh(
+            final Supplier<? extends CompletionStage<FROM>> call,
+            final Function<FROM, TO> transformer,
+            final RefreshableOnNotAuthenticatedProvider<?> authProvider,
+            final CompletableFuture<TO> result) {
+        // refreshing fetches a new token over the network, which must not block the thread the
+        // connector completes responses on
+        try {
+            RefreshExecutor.INSTANCE.execute(
+                    new Runnable() {
+                        @Override
+                        public void run() {
+                            try {
+                                authProvider.refresh();
+                            } catch (RuntimeException e) {
+                                result.completeExceptionally(e);
+                                return;
+                            }
+                            callAndTransform(call, transformer, null, result);
+                        }
+                    });
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(e);
+        }
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+        if (throwable instanceof CompletionException && throwable.getCause() != null) {
+            return throwable.getCause();
+        }
+        return throwable;
+    }
+
+    // lazily started daemon threads that refresh auth tokens after a 401
+    private static final class RefreshExecutor {
+        private static final ExecutorService INSTANCE =
+                Executors.newCachedThreadPool(
+                        new ThreadFactoryBuilder()
+                                .setDaemon(true)
+                                .setNameFormat("bmc-async-token-refresh-%d")
+                                .build());
+    }
+}
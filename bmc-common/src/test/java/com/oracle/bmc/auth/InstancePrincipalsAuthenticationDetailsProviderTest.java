@@ -0,0 +1,194 @@
+/**
+ * Copyright (c) 2016, 2019, Oracle and/or its affiliates. All rights reserved.
+ */
+package com.oracle.bmc.auth;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.math.BigInteger;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.cert.X509Certificate;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateConverter;
+import org.bouncycastle.cert.jcajce.JcaX509v3CertificateBuilder;
+import org.bouncycastle.openssl.jcajce.JcaPEMWriter;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.oracle.bmc.Region;
+import com.oracle.bmc.auth.InstancePrincipalsAuthenticationDetailsProvider.InstancePrincipalsAuthenticationDetailsProviderBuilder;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Builds the provider against a local stand-in for the instance metadata service. The stand-in
+ * holds the first requests until two of them are in flight at the same time, so requests sent
+ * one after another are only answered after a timeout.
+ */
+public class InstancePrincipalsAuthenticationDetailsProviderTest {
+    private static final long TIMEOUT_SECONDS = 10L;
+    private static final String TENANCY_ID = "ocid1.tenancy.oc1..test";
+
+    private final Map<String, String> resources = new ConcurrentHashMap<>();
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicInteger requestsInFlight = new AtomicInteger();
+    private final AtomicInteger maxRequestsInFlight = new AtomicInteger();
+    private final CountDownLatch concurrentRequests = new CountDownLatch(2);
+
+    private ExecutorService serverExecutor;
+    private HttpServer server;
+
+    @Before
+    public void setUp() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        KeyPair keyPair = generator.generateKeyPair();
+        String certificate = toPem(createCertificate(keyPair));
+        resources.put("/opc/v1/instance/region", "us-phoenix-1");
+        resources.put("/opc/v1/identity/cert.pem", certificate);
+        resources.put("/opc/v1/identity/key.pem", toPem(keyPair.getPrivate()));
+        resources.put("/opc/v1/identity/intermediate.pem", certificate);
+
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext(
+                "/opc/v1/",
+                new HttpHandler() {
+                    @Override
+                    public void handle(HttpExchange exchange) throws IOException {
+                        serve(exchange);
+                    }
+                });
+        serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.start();
+    }
+
+    @After
+    public void tearDown() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    public void metadataIsFetchedConcurrently() {
+        InstancePrincipalsAuthenticationDetailsProviderBuilder builder =
+                InstancePrincipalsAuthenticationDetailsProvider.builder();
+        builder.metadataServiceBaseUrl =
+                "http://localhost:" + server.getAddress().getPort() + "/opc/v1/";
+
+        builder.autoDetectUsingMetadataUrl();
+        InstancePrincipalsAuthenticationDetailsProvider provider = builder.build();
+
+        assertEquals(Region.US_PHOENIX_1, provider.getRegion());
+        assertEquals(TENANCY_ID, builder.getTenancyId());
+        // region, certificate, private key and intermediate certificate
+        assertEquals(4, requests.get());
+        assertTrue(
+                "At most " + maxRequestsInFlight.get() + " request(s) were in flight",
+                maxRequestsInFlight.get() >= 2);
+    }
+
+    @Test
+    public void unchangedCertificateIsReusedOnRefresh() throws Exception {
+        InstancePrincipalsAuthenticationDetailsProviderBuilder builder =
+                InstancePrincipalsAuthenticationDetailsProvider.builder();
+        builder.metadataServiceBaseUrl =
+                "http://localhost:" + server.getAddress().getPort() + "/opc/v1/";
+        builder.build();
+        URLBasedX509CertificateSupplier supplier =
+                (URLBasedX509CertificateSupplier) builder.getLeafCertificateSupplier();
+        X509CertificateSupplier.CertificateAndPrivateKeyPair initial =
+                supplier.getCertificateAndKeyPair();
+
+        supplier.refresh();
+        assertSame(initial, supplier.getCertificateAndKeyPair());
+
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        KeyPair keyPair = generator.generateKeyPair();
+        resources.put("/opc/v1/identity/cert.pem", toPem(createCertificate(keyPair)));
+        resources.put("/opc/v1/identity/key.pem", toPem(keyPair.getPrivate()));
+
+        supplier.refresh();
+        assertNotSame(initial, supplier.getCertificateAndKeyPair());
+        assertEquals(
+                keyPair.getPublic(),
+                supplier.getCertificateAndKeyPair().getCertificate().getPublicKey());
+    }
+
+    private void serve(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        int inFlight = requestsInFlight.incrementAndGet();
+        try {
+            while (true) {
+                int max = maxRequestsInFlight.get();
+                if (inFlight <= max || maxRequestsInFlight.compareAndSet(max, inFlight)) {
+                    break;
+                }
+            }
+            concurrentRequests.countDown();
+            concurrentRequests.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            String resource = resources.get(exchange.getRequestURI().getPath());
+            if (resource == null) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            byte[] body = resource.getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            requestsInFlight.decrementAndGet();
+            exchange.close();
+        }
+    }
+
+    private static X509Certificate createCertificate(KeyPair keyPair) throws Exception {
+        X500Name name = new X500Name("CN=instance,OU=opc-tenant:" + TENANCY_ID);
+        long now = System.currentTimeMillis();
+        return new JcaX509CertificateConverter()
+                .getCertificate(
+                        new JcaX509v3CertificateBuilder(
+                                        name,
+                                        BigInteger.valueOf(now),
+                                        new Date(now - 60000L),
+                                        new Date(now + 3600000L),
+                                        name,
+                                        keyPair.getPublic())
+                                .build(
+                                        new JcaContentSignerBuilder("SHA256withRSA")
+                                                .build(keyPair.getPrivate())));
+    }
+
+    private static String toPem(Object object) throws IOException {
+        StringWriter writer = new StringWriter();
+        try (JcaPEMWriter pemWriter = new JcaPEMWriter(writer)) {
+            pemWriter.writeObject(object);
+        }
+        return writer.toString();
+    }
+}
@@ -0,0 +1,56 @@
+/**
+ * Copyright (c) 2016, 2019, Oracle and/or its affiliates. All rights reserved.
+ */
+package com.oracle.bmc.auth;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+
+import java.security.KeyPair;
+import java.security.interfaces.RSAPublicKey;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class PregeneratingSessionKeySupplierImplTest {
+
+    @Test
+    public void refreshKeysSwapsInNewKeyPair() {
+        AbstractRequestingAuthenticationDetailsProvider.PregeneratingSessionKeySupplierImpl
+                supplier =
+                        new AbstractRequestingAuthenticationDetailsProvider
+                                .PregeneratingSessionKeySupplierImpl();
+        KeyPair initial = supplier.getKeyPair();
+        assertNotNull(initial);
+        assertSame(initial, supplier.getKeyPair());
+
+        supplier.refreshKeys();
+
+        KeyPair refreshed = supplier.getKeyPair();
+        assertNotEquals(initial.getPublic(), refreshed.getPublic());
+        assertEquals(2048, ((RSAPublicKey) refreshed.getPublic()).getModulus().bitLength());
+        assertSame(refreshed.getPrivate(), supplier.getPrivateKey());
+        assertSame(refreshed.getPublic(), supplier.getPublicKey());
+    }
+
+    @Test
+    public void refreshKeysNeverReusesKeyPair() {
+        AbstractRequestingAuthenticationDetailsProvider.PregeneratingSessionKeySupplierImpl
+                supplier =
+                        new AbstractRequestingAuthenticationDetailsProvider
+                                .PregeneratingSessionKeySupplierImpl();
+        Set<Object> publicKeys = new HashSet<>();
+        publicKeys.add(supplier.getKeyPair().getPublic());
+
+        // refreshing faster than spare key pairs are generated waits for them
+        for (int i = 0; i < 3; i++) {
+            supplier.refreshKeys();
+            publicKeys.add(supplier.getKeyPair().getPublic());
+        }
+
+        assertEquals(4, publicKeys.size());
+    }
+}
@@ -0,0 +1,194 @@
+/**
+ * Copyright (c) 2016, 2019, Oracle and/or its affiliates. All rights reserved.
+ */
+package com.oracle.bmc.auth.internal;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.cert.X509Certificate;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.oracle.bmc.auth.URLBasedX509CertificateSupplier;
+import com.oracle.bmc.auth.X509CertificateSupplier.CertificateAndPrivateKeyPair;
+
+public class FileSecurityTokenCacheTest {
+    private static final String TENANCY_ID = "ocid1.tenancy.oc1..test";
+    private static final char[] PASSPHRASE = "passphrase".toCharArray();
+
+    @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+    private File directory;
+    private KeyPair keyPair;
+
+    @Before
+    public void setUp() throws Exception {
+        directory = new File(folder.getRoot(), "tokens");
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        keyPair = generator.generateKeyPair();
+    }
+
+    @Test
+    public void tokenIsSharedBetweenCaches() throws Exception {
+        FileSecurityTokenCache writer = new FileSecurityTokenCache(directory, PASSPHRASE);
+        try (FileSecurityTokenCache.LockedEntry entry = writer.lock(TENANCY_ID, "DEFAULT")) {
+            assertNull(entry.read());
+            entry.write("token", keyPair);
+        }
+
+        // another process has its own instance, and encrypts with a different salt
+        FileSecurityTokenCache reader = new FileSecurityTokenCache(directory, PASSPHRASE);
+        try (FileSecurityTokenCache.LockedEntry entry = reader.lock(TENANCY_ID, "DEFAULT")) {
+            FileSecurityTokenCache.CachedToken cached = entry.read();
+            assertEquals("token", cached.getToken());
+            assertArrayEquals(
+                    keyPair.getPublic().getEncoded(), cached.getKeyPair().getPublic().getEncoded());
+            assertArrayEquals(
+                    keyPair.getPrivate().getEncoded(),
+                    cached.getKeyPair().getPrivate().getEncoded());
+        }
+    }
+
+    @Test
+    public void certificateIsSharedBetweenCaches() throws Exception {
+        CertificateAndPrivateKeyPair certificateAndKeyPair =
+                new URLBasedX509CertificateSupplier(
+                                getClass().getResource("/test_certificate_1.pem"),
+                                getClass().getResource("/test_certificate_key_1.pem"),
+                                (char[]) null)
+                        .getCertificateAndKeyPair();
+        FileSecurityTokenCache writer = new FileSecurityTokenCache(directory, PASSPHRASE);
+        try (FileSecurityTokenCache.LockedEntry entry = writer.lockCertificate("leaf")) {
+            assertNull(entry.readCertificate());
+            entry.writeCertificate(certificateAndKeyPair);
+        }
+
+        FileSecurityTokenCache reader = new FileSecurityTokenCache(directory, PASSPHRASE);
+        try (FileSecurityTokenCache.LockedEntry entry = reader.lockCertificate("leaf")) {
+            CertificateAndPrivateKeyPair cached = entry.readCertificate();
+            X509Certificate certificate = certificateAndKeyPair.getCertificate();
+            assertArrayEquals(certificate.getEncoded(), cached.getCertificate().getEncoded());
+            assertArrayEquals(
+                    certificateAndKeyPair.getPrivateKey().getEncoded(),
+                    cached.getPrivateKey().getEncoded());
+        }
+        // certificates and tokens are separate entries
+        try (FileSecurityTokenCache.LockedEntry entry = reader.lockCertificate("intermediate")) {
+            assertNull(entry.readCertificate());
+        }
+        try (FileSecurityTokenCache.LockedEntry entry = reader.lock(TENANCY_ID, "DEFAULT")) {
+            assertNull(entry.read());
+        }
+    }
+
+    @Test
+    public void tokenIsEncrypted() throws Exception {
+        FileSecurityTokenCache cache = new FileSecurityTokenCache(directory, PASSPHRASE);
+        try (FileSecurityTokenCache.LockedEntry entry = cache.lock(TENANCY_ID, "DEFAULT")) {
+            entry.write("plaintext-token", keyPair);
+        }
+
+        File[] files = directory.listFiles();
+        assertEquals(2, files.length);
+        for (File file : files) {
+            String content = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+            assertFalse(content.contains("plaintext-token"));
+        }
+    }
+
+    @Test
+    public void tokenCannotBeReadWithOtherPassphrase() throws Exception {
+        try (FileSecurityTokenCache.LockedEntry entry =
+                new FileSecurityTokenCache(directory, PASSPHRASE).lock(TENANCY_ID, "DEFAULT")) {
+            entry.write("token", keyPair);
+        }
+
+        try (FileSecurityTokenCache.LockedEntry entry =
+                new FileSecurityTokenCache(directory, "other".toCharArray())
+                        .lock(TENANCY_ID, "DEFAULT")) {
+            assertNull(entry.read());
+        }
+    }
+
+    @Test
+    public void entriesAreKeyedByTenancyAndPurpose() throws Exception {
+        FileSecurityTokenCache cache = new FileSecurityTokenCache(directory, PASSPHRASE);
+        try (FileSecurityTokenCache.LockedEntry entry = cache.lock(TENANCY_ID, "DEFAULT")) {
+            entry.write("token", keyPair);
+        }
+
+        try (FileSecurityTokenCache.LockedEntry entry = cache.lock(TENANCY_ID, "SERVICE")) {
+            assertNull(entry.read());
+        }
+        try (FileSecurityTokenCache.LockedEntry entry = cache.lock("other", "DEFAULT")) {
+            assertNull(entry.read());
+        }
+    }
+
+    @Test
+    public void corruptedEntryIsIgnored() throws Exception {
+        FileSecurityTokenCache cache = new FileSecurityTokenCache(directory, PASSPHRASE);
+        try (FileSecurityTokenCache.LockedEntry entry = cache.lock(TENANCY_ID, "DEFAULT")) {
+            entry.write("token", keyPair);
+        }
+        for (File file : directory.listFiles()) {
+            if (file.getName().endsWith(".token")) {
+                byte[] content = Files.readAllBytes(file.toPath());
+                content[content.length - 1] ^= 1;
+                Files.write(file.toPath(), content);
+            }
+        }
+
+        try (FileSecurityTokenCache.LockedEntry entry = cache.lock(TENANCY_ID, "DEFAULT")) {
+            assertNull(entry.read());
+        }
+    }
+
+    @Test
+    public void entryIsLockedExclusively() throws Exception {
+        final FileSecurityTokenCache cache = new FileSecurityTokenCache(directory, PASSPHRASE);
+        final CountDownLatch locked = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> future;
+            try (FileSecurityTokenCache.LockedEntry entry = cache.lock(TENANCY_ID, "DEFAULT")) {
+                future =
+                        executor.submit(
+                                new Runnable() {
+                                    @Override
+                                    public void run() {
+                                        try (FileSecurityTokenCache.LockedEntry other =
+                                                cache.lock(TENANCY_ID, "DEFAULT")) {
+                                            locked.countDown();
+                                        } catch (Exception e) {
+                                            throw new IllegalStateException(e);
+                                        }
+                                    }
+                                });
+                assertFalse(locked.await(200, TimeUnit.MILLISECONDS));
+            }
+            assertTrue(locked.await(5, TimeUnit.SECONDS));
+            future.get();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
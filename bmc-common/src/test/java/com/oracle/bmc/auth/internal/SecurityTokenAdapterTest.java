@@ -0,0 +1,127 @@
+/**
+ * Copyright (c) 2016, 2019, Oracle and/or its affiliates. All rights reserved.
+ */
+package com.oracle.bmc.auth.internal;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Date;
+
+import org.apache.commons.codec.binary.Base64;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.oracle.bmc.auth.SessionKeySupplier;
+
+public class SecurityTokenAdapterTest {
+    private KeyPairGenerator generator;
+    private TestSessionKeySupplier sessionKeySupplier;
+
+    @Before
+    public void setUp() throws Exception {
+        generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        sessionKeySupplier = new TestSessionKeySupplier(generator.generateKeyPair());
+    }
+
+    @Test
+    public void emptyTokenIsNotValid() {
+        assertFalse(new SecurityTokenAdapter(null, sessionKeySupplier).isValid());
+    }
+
+    @Test
+    public void tokenForCurrentKeyIsValid() throws Exception {
+        SecurityTokenAdapter adapter =
+                new SecurityTokenAdapter(
+                        createToken(sessionKeySupplier.getKeyPair(), hoursFromNow(1)),
+                        sessionKeySupplier);
+
+        assertTrue(adapter.isValid());
+        // still valid when the result of the key comparison is reused
+        assertTrue(adapter.isValid());
+    }
+
+    @Test
+    public void expiredTokenIsNotValid() throws Exception {
+        SecurityTokenAdapter adapter =
+                new SecurityTokenAdapter(
+                        createToken(sessionKeySupplier.getKeyPair(), hoursFromNow(-1)),
+                        sessionKeySupplier);
+
+        assertFalse(adapter.isValid());
+    }
+
+    @Test
+    public void tokenIsNotValidAfterKeysAreRefreshed() throws Exception {
+        SecurityTokenAdapter adapter =
+                new SecurityTokenAdapter(
+                        createToken(sessionKeySupplier.getKeyPair(), hoursFromNow(1)),
+                        sessionKeySupplier);
+        assertTrue(adapter.isValid());
+
+        sessionKeySupplier.refreshKeys();
+
+        assertFalse(adapter.isValid());
+    }
+
+    private static Date hoursFromNow(int hours) {
+        return new Date(System.currentTimeMillis() + hours * 3600 * 1000L);
+    }
+
+    private static String createToken(KeyPair keyPair, Date expirationTime) throws Exception {
+        RSAPublicKey publicKey = (RSAPublicKey) keyPair.getPublic();
+        String jwk =
+                "{\"kid\":\"kid\",\"kty\":\"RSA\",\"alg\":\"RS256\",\"n\":\""
+                        + Base64.encodeBase64URLSafeString(publicKey.getModulus().toByteArray())
+                        + "\",\"e\":\""
+                        + Base64.encodeBase64URLSafeString(
+                                publicKey.getPublicExponent().toByteArray())
+                        + "\"}";
+        JWTClaimsSet claims =
+                new JWTClaimsSet.Builder()
+                        .expirationTime(expirationTime)
+                        .claim("jwk", jwk)
+                        .build();
+        SignedJWT jwt = new SignedJWT(new JWSHeader(JWSAlgorithm.RS256), claims);
+        jwt.sign(new RSASSASigner((RSAPrivateKey) keyPair.getPrivate()));
+        return jwt.serialize();
+    }
+
+    private class TestSessionKeySupplier implements SessionKeySupplier {
+        private volatile KeyPair keyPair;
+
+        private TestSessionKeySupplier(KeyPair keyPair) {
+            this.keyPair = keyPair;
+        }
+
+        @Override
+        public KeyPair getKeyPair() {
+            return keyPair;
+        }
+
+        @Override
+        public RSAPublicKey getPublicKey() {
+            return (RSAPublicKey) keyPair.getPublic();
+        }
+
+        @Override
+        public RSAPrivateKey getPrivateKey() {
+            return (RSAPrivateKey) keyPair.getPrivate();
+        }
+
+        @Override
+        public void refreshKeys() {
+            keyPair = generator.generateKeyPair();
+        }
+    }
+}
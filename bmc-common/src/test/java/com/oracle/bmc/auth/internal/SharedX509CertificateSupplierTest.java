@@ -0,0 +1,143 @@
+/**
+ * Copyright (c) 2016, 2019, Oracle and/or its affiliates. All rights reserved.
+ */
+package com.oracle.bmc.auth.internal;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.File;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.oracle.bmc.auth.URLBasedX509CertificateSupplier;
+import com.oracle.bmc.auth.X509CertificateSupplier;
+import com.oracle.bmc.auth.X509CertificateSupplier.CertificateAndPrivateKeyPair;
+
+public class SharedX509CertificateSupplierTest {
+    private static final char[] PASSPHRASE = "passphrase".toCharArray();
+
+    @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+    private File certificateFile;
+    private File privateKeyFile;
+    private FileSecurityTokenCache cache;
+
+    @Before
+    public void setUp() throws Exception {
+        certificateFile = new File(folder.getRoot(), "certificate.pem");
+        privateKeyFile = new File(folder.getRoot(), "key.pem");
+        cache = new FileSecurityTokenCache(new File(folder.getRoot(), "cache"), PASSPHRASE);
+    }
+
+    @Test
+    public void certificateIsReadOnce() throws Exception {
+        install(1);
+        SharedX509CertificateSupplier first = createSupplier(cache);
+
+        // the second supplier would fail to read the certificate from its urls
+        delete();
+        SharedX509CertificateSupplier second =
+                createSupplier(new FileSecurityTokenCache(cacheDirectory(), PASSPHRASE));
+
+        assertSameCertificate(first, second);
+        assertSameCertificate(1, second);
+    }
+
+    @Test
+    public void refreshedCertificateIsShared() throws Exception {
+        install(1);
+        SharedX509CertificateSupplier first = createSupplier(cache);
+        SharedX509CertificateSupplier second =
+                createSupplier(new FileSecurityTokenCache(cacheDirectory(), PASSPHRASE));
+
+        // the first supplier reads the rotated certificate
+        install(2);
+        first.refresh();
+        assertSameCertificate(2, first);
+
+        // the second one uses the certificate the first one read
+        delete();
+        second.refresh();
+        assertSameCertificate(2, second);
+
+        // the cached certificate is the one the second supplier already has, so it reads again
+        install(1);
+        second.refresh();
+        assertSameCertificate(1, second);
+    }
+
+    @Test
+    public void intermediateCertificateHasNoPrivateKey() throws Exception {
+        install(1);
+        SharedX509CertificateSupplier first =
+                new SharedX509CertificateSupplier(cache, certificateFile.toURI().toURL(), null);
+        delete();
+        SharedX509CertificateSupplier second =
+                new SharedX509CertificateSupplier(
+                        new FileSecurityTokenCache(cacheDirectory(), PASSPHRASE),
+                        certificateFile.toURI().toURL(),
+                        null);
+
+        assertSameCertificate(first, second);
+        assertNull(second.getCertificateAndKeyPair().getPrivateKey());
+    }
+
+    private SharedX509CertificateSupplier createSupplier(FileSecurityTokenCache cache)
+            throws Exception {
+        return new SharedX509CertificateSupplier(
+                cache, certificateFile.toURI().toURL(), privateKeyFile.toURI().toURL());
+    }
+
+    private File cacheDirectory() {
+        return new File(folder.getRoot(), "cache");
+    }
+
+    private void install(int number) throws Exception {
+        copy("/test_certificate_" + number + ".pem", certificateFile);
+        copy("/test_certificate_key_" + number + ".pem", privateKeyFile);
+    }
+
+    private void copy(String resource, File file) throws Exception {
+        try (InputStream in = getClass().getResourceAsStream(resource)) {
+            Files.copy(in, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private void delete() {
+        certificateFile.delete();
+        privateKeyFile.delete();
+    }
+
+    private void assertSameCertificate(int number, X509CertificateSupplier supplier)
+            throws Exception {
+        assertSameCertificate(
+                new URLBasedX509CertificateSupplier(
+                        getClass().getResource("/test_certificate_" + number + ".pem"),
+                        getClass().getResource("/test_certificate_key_" + number + ".pem"),
+                        (char[]) null),
+                supplier);
+    }
+
+    private static void assertSameCertificate(
+            X509CertificateSupplier expected, X509CertificateSupplier actual) throws Exception {
+        CertificateAndPrivateKeyPair expectedPair = expected.getCertificateAndKeyPair();
+        CertificateAndPrivateKeyPair actualPair = actual.getCertificateAndKeyPair();
+        assertArrayEquals(
+                expectedPair.getCertificate().getEncoded(),
+                actualPair.getCertificate().getEncoded());
+        if (expectedPair.getPrivateKey() == null) {
+            assertNull(actualPair.getPrivateKey());
+        } else {
+            assertArrayEquals(
+                    expectedPair.getPrivateKey().getEncoded(),
+                    actualPair.getPrivateKey().getEncoded());
+        }
+    }
+}
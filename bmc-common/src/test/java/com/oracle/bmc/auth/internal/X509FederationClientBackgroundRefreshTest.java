@@ -0,0 +1,380 @@
+/**
+ * Copyright (c) 2016, 2019, Oracle and/or its affiliates. All rights reserved.
+ */
+package com.oracle.bmc.auth.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.cert.X509Certificate;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.codec.binary.Base64;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.oracle.bmc.auth.SessionKeySupplier;
+import com.oracle.bmc.auth.X509CertificateSupplier;
+import com.oracle.bmc.http.ClientConfigurator;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Tests the background refresh of {@link X509FederationClient} against a stand-in for the auth
+ * service that replaces the call to the federation server, so no request is ever sent. The
+ * refreshes are run by the test instead of a timer, so the test does not depend on how fast the
+ * machine is.
+ */
+public class X509FederationClientBackgroundRefreshTest {
+    private static final int TOKEN_LIFETIME_SECONDS = 3600;
+    private static final int THREADS = 8;
+    private static final long TIMEOUT_SECONDS = 10L;
+
+    @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+    private final AtomicInteger federationRequests = new AtomicInteger();
+
+    private KeyPairGenerator generator;
+    private KeyPair serverKeyPair;
+    private ManualScheduler scheduler;
+    // if set, the auth service counts down the first latch and waits for the second one
+    private volatile CountDownLatch federationReceived;
+    private volatile CountDownLatch federationReleased;
+
+    @Before
+    public void setUp() throws Exception {
+        generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        serverKeyPair = generator.generateKeyPair();
+        scheduler = new ManualScheduler();
+    }
+
+    @After
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void requestsDoNotWaitForTokenRefresh() throws Exception {
+        X509FederationClient client = createClient(0.5);
+        final String initialToken = client.getSecurityToken();
+        assertEquals(1, federationRequests.get());
+
+        // the refresh is scheduled after half the lifetime of the token, the first token lives up
+        // to one second longer
+        ScheduledRefresh refresh = scheduler.next();
+        long lifetimeMillis = TimeUnit.SECONDS.toMillis(TOKEN_LIFETIME_SECONDS + 1);
+        assertTrue(
+                "Refresh scheduled in " + refresh.delayMillis + " ms",
+                refresh.delayMillis > lifetimeMillis * 0.4
+                        && refresh.delayMillis <= lifetimeMillis * 0.5);
+
+        // hold the background refresh in the auth service
+        federationReceived = new CountDownLatch(1);
+        federationReleased = new CountDownLatch(1);
+        Thread refresher = new Thread(refresh.task);
+        refresher.start();
+        assertTrue(federationReceived.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        // requests keep using the current token while the refresh is in flight
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<String>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(getSecurityToken(client)));
+            }
+            for (Future<String> future : futures) {
+                assertEquals(initialToken, future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            }
+        } finally {
+            federationReleased.countDown();
+            executor.shutdown();
+        }
+        refresher.join(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+        assertFalse(refresher.isAlive());
+
+        // the refreshed token is used right away, and the next refresh is scheduled
+        assertEquals(2, federationRequests.get());
+        assertNotEquals(initialToken, client.getSecurityToken());
+        assertNotNull(scheduler.next());
+        assertEquals(2, federationRequests.get());
+    }
+
+    @Test
+    public void noBackgroundRefreshUnlessEnabled() throws Exception {
+        X509FederationClient client = createClient(null);
+        client.getSecurityToken();
+        assertTrue(scheduler.scheduled.isEmpty());
+    }
+
+    @Test
+    public void backgroundRefreshRotatesSessionKeys() throws Exception {
+        SessionKeySupplier keys = new SharedSessionKeySupplier(new TestSessionKeySupplier());
+        X509FederationClient client = createClient(0.5, null, keys);
+        String initialToken = client.getSecurityToken();
+        KeyPair initialKeyPair = keys.getKeyPair();
+        ScheduledRefresh refresh = scheduler.next();
+
+        // hold the background refresh in the auth service
+        federationReceived = new CountDownLatch(1);
+        federationReleased = new CountDownLatch(1);
+        Thread refresher = new Thread(refresh.task);
+        refresher.start();
+        assertTrue(federationReceived.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        // while the token for the next key pair is requested, the current token and keys are used
+        try {
+            assertEquals(initialToken, client.getSecurityToken());
+            assertSame(initialKeyPair, keys.getKeyPair());
+        } finally {
+            federationReleased.countDown();
+        }
+        refresher.join(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+        assertFalse(refresher.isAlive());
+
+        // then the new token and the key pair it was issued for are used together
+        String newToken = client.getSecurityToken();
+        assertNotEquals(initialToken, newToken);
+        assertNotEquals(initialKeyPair.getPublic(), keys.getKeyPair().getPublic());
+        assertTrue(new SecurityTokenAdapter(newToken, keys).isValid());
+        assertEquals(2, federationRequests.get());
+    }
+
+    @Test
+    public void backgroundRefreshUsesSharedTokenAndKeys() throws Exception {
+        FileSecurityTokenCache cache =
+                new FileSecurityTokenCache(folder.newFolder(), "passphrase".toCharArray());
+        SessionKeySupplier firstKeys = new SharedSessionKeySupplier(new TestSessionKeySupplier());
+        SessionKeySupplier secondKeys = new SharedSessionKeySupplier(new TestSessionKeySupplier());
+        X509FederationClient first = createClient(0.5, cache, firstKeys);
+        X509FederationClient second = createClient(0.5, cache, secondKeys);
+
+        // the second client uses the token of the first one, and its keys
+        String firstToken = first.getSecurityToken();
+        scheduler.next();
+        assertEquals(firstToken, second.getSecurityToken());
+        ScheduledRefresh refresh = scheduler.next();
+        assertEquals(firstKeys.getKeyPair().getPublic(), secondKeys.getKeyPair().getPublic());
+        assertEquals(1, federationRequests.get());
+
+        // the first client gets a token for new keys
+        String newToken = first.refreshAndGetSecurityToken();
+        assertEquals(2, federationRequests.get());
+
+        // the background refresh of the second client switches to the new token and its keys
+        refresh.task.run();
+        assertEquals(newToken, second.getSecurityToken());
+        assertEquals(firstKeys.getKeyPair().getPublic(), secondKeys.getKeyPair().getPublic());
+        assertEquals(2, federationRequests.get());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidRefreshFraction() throws Exception {
+        createClient(1.0);
+    }
+
+    private X509FederationClient createClient(Double backgroundRefreshFraction)
+            throws Exception {
+        return createClient(backgroundRefreshFraction, null, new TestSessionKeySupplier());
+    }
+
+    private X509FederationClient createClient(
+            Double backgroundRefreshFraction,
+            FileSecurityTokenCache sharedTokenCache,
+            SessionKeySupplier sessionKeySupplier)
+            throws Exception {
+        X509Certificate certificate = mock(X509Certificate.class);
+        when(certificate.getEncoded()).thenReturn("certificate".getBytes(StandardCharsets.UTF_8));
+        final X509CertificateSupplier.CertificateAndPrivateKeyPair leaf =
+                new X509CertificateSupplier.CertificateAndPrivateKeyPair(
+                        certificate, (RSAPrivateKey) generator.generateKeyPair().getPrivate());
+        X509CertificateSupplier leafCertificateSupplier =
+                new X509CertificateSupplier() {
+                    @Override
+                    public X509Certificate getCertificate() {
+                        return leaf.getCertificate();
+                    }
+
+                    @Override
+                    public RSAPrivateKey getPrivateKey() {
+                        return leaf.getPrivateKey();
+                    }
+
+                    @Override
+                    public CertificateAndPrivateKeyPair getCertificateAndKeyPair() {
+                        return leaf;
+                    }
+                };
+
+        X509FederationClient client =
+                new X509FederationClient(
+                        "http://localhost:1",
+                        "ocid1.tenancy.oc1..test",
+                        leafCertificateSupplier,
+                        sessionKeySupplier,
+                        Collections.<X509CertificateSupplier>emptySet(),
+                        null,
+                        Collections.<ClientConfigurator>emptyList(),
+                        X509FederationClient.DEFAULT_PURPOSE,
+                        backgroundRefreshFraction,
+                        sharedTokenCache) {
+                    @Override
+                    SecurityToken federate(X509FederationRequest federationRequest) {
+                        return federateInStandIn(federationRequest);
+                    }
+                };
+        client.setBackgroundRefreshScheduler(scheduler);
+        return client;
+    }
+
+    private static Callable<String> getSecurityToken(final X509FederationClient client) {
+        return new Callable<String>() {
+            @Override
+            public String call() {
+                return client.getSecurityToken();
+            }
+        };
+    }
+
+    private X509FederationClient.SecurityToken federateInStandIn(
+            X509FederationClient.X509FederationRequest request) {
+        try {
+            int requestNumber = federationRequests.incrementAndGet();
+            RSAPublicKey publicKey =
+                    (RSAPublicKey)
+                            KeyFactory.getInstance("RSA")
+                                    .generatePublic(
+                                            new X509EncodedKeySpec(
+                                                    Base64.decodeBase64(request.getPublicKey())));
+            CountDownLatch received = federationReceived;
+            if (received != null) {
+                received.countDown();
+                federationReleased.await();
+            }
+
+            // the expiration time of a JWT has a granularity of seconds, later tokens expire later
+            long expirationSeconds =
+                    System.currentTimeMillis() / 1000L + TOKEN_LIFETIME_SECONDS + requestNumber;
+            return new X509FederationClient.SecurityToken(
+                    createToken(
+                            publicKey,
+                            new Date(expirationSeconds * 1000L),
+                            String.valueOf(requestNumber)));
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to create the security token", e);
+        }
+    }
+
+    private String createToken(RSAPublicKey publicKey, Date expirationTime, String tokenId)
+            throws Exception {
+        String jwk =
+                "{\"kid\":\"kid\",\"kty\":\"RSA\",\"alg\":\"RS256\",\"n\":\""
+                        + Base64.encodeBase64URLSafeString(publicKey.getModulus().toByteArray())
+                        + "\",\"e\":\""
+                        + Base64.encodeBase64URLSafeString(
+                                publicKey.getPublicExponent().toByteArray())
+                        + "\"}";
+        JWTClaimsSet claims =
+                new JWTClaimsSet.Builder()
+                        .jwtID(tokenId)
+                        .expirationTime(expirationTime)
+                        .claim("jwk", jwk)
+                        .build();
+        SignedJWT jwt = new SignedJWT(new JWSHeader(JWSAlgorithm.RS256), claims);
+        jwt.sign(new RSASSASigner((RSAPrivateKey) serverKeyPair.getPrivate()));
+        return jwt.serialize();
+    }
+
+    /**
+     * A background refresh that was scheduled.
+     */
+    @RequiredArgsConstructor
+    private static class ScheduledRefresh {
+        private final Runnable task;
+        private final long delayMillis;
+    }
+
+    /**
+     * Records the scheduled background refreshes instead of running them, so the test can run
+     * them when it wants to.
+     */
+    private static class ManualScheduler extends ScheduledThreadPoolExecutor {
+        private final BlockingQueue<ScheduledRefresh> scheduled = new LinkedBlockingQueue<>();
+
+        private ManualScheduler() {
+            super(1);
+        }
+
+        @Override
+        public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+            scheduled.add(new ScheduledRefresh(command, unit.toMillis(delay)));
+            // a future that can be cancelled, but never runs while the test runs
+            return super.schedule(command, 1, TimeUnit.DAYS);
+        }
+
+        private ScheduledRefresh next() throws InterruptedException {
+            ScheduledRefresh refresh = scheduled.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            assertNotNull("No background refresh was scheduled", refresh);
+            return refresh;
+        }
+    }
+
+    private class TestSessionKeySupplier implements SessionKeySupplier {
+        private volatile KeyPair keyPair = generator.generateKeyPair();
+
+        @Override
+        public KeyPair getKeyPair() {
+            return keyPair;
+        }
+
+        @Override
+        public RSAPublicKey getPublicKey() {
+            return (RSAPublicKey) keyPair.getPublic();
+        }
+
+        @Override
+        public RSAPrivateKey getPrivateKey() {
+            return (RSAPrivateKey) keyPair.getPrivate();
+        }
+
+        @Override
+        public void refreshKeys() {
+            keyPair = generator.generateKeyPair();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/**
+ * Copyright (c) 2016, 2019, Oracle and/or its affiliates. All rights reserved.
+ */
+package com.oracle.bmc.http;
+
+import com.oracle.bmc.auth.AbstractAuthenticationDetailsProvider;
+import com.oracle.bmc.common.ClientBuilderBase;
+import com.oracle.bmc.http.internal.RestClient;
+import com.oracle.bmc.http.internal.RestClientFactory;
+import com.oracle.bmc.http.internal.RestClientFactoryBuilder;
+import com.oracle.bmc.http.signing.RequestSigner;
+import com.oracle.bmc.http.signing.SigningStrategy;
+import org.junit.After;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.ClientBuilder;
+import java.util.Collections;
+
+import static org.junit.Assert.assertSame;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for {@link SharedTransport}.
+ */
+public class SharedTransportTest {
+    private final ClientConfigurator clientConfigurator = Mockito.mock(ClientConfigurator.class);
+    private final SharedTransport sharedTransport =
+            SharedTransport.builder().clientConfigurator(clientConfigurator).build();
+
+    @After
+    public void tearDown() {
+        sharedTransport.close();
+    }
+
+    @Test
+    public void clientIsCreatedOnce() {
+        Client client = sharedTransport.getClient();
+        assertSame(client, sharedTransport.getClient());
+
+        verify(clientConfigurator, times(1)).customizeBuilder(any(ClientBuilder.class));
+        verify(clientConfigurator, times(1)).customizeClient(client);
+    }
+
+    @Test
+    public void closingRestClientDoesNotCloseSharedClient() {
+        RestClientFactory factory =
+                RestClientFactoryBuilder.builder().clientConfigurator(sharedTransport).build();
+        RestClient first = createRestClient(factory);
+        RestClient second = createRestClient(factory);
+
+        first.close();
+        second.setEndpoint("https://localhost");
+        second.getBaseTarget().request();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void closedTransportCannotBeUsed() {
+        sharedTransport.getClient();
+        sharedTransport.close();
+        sharedTransport.getClient();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void builderRejectsClientConfiguratorAfterSharedTransport() {
+        new TestClientBuilder()
+                .sharedTransport(sharedTransport)
+                .clientConfigurator(clientConfigurator);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void builderRejectsSharedTransportAfterClientConfigurator() {
+        new TestClientBuilder()
+                .clientConfigurator(clientConfigurator)
+                .sharedTransport(sharedTransport);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void builderRejectsAdditionalClientConfiguratorWithSharedTransport() {
+        new TestClientBuilder()
+                .sharedTransport(sharedTransport)
+                .additionalClientConfigurator(clientConfigurator);
+    }
+
+    @Test
+    public void builderAcceptsAnotherSharedTransport() {
+        SharedTransport other = new SharedTransport();
+        TestClientBuilder builder =
+                new TestClientBuilder().sharedTransport(sharedTransport).sharedTransport(other);
+        assertSame(other, builder.getClientConfigurator());
+        other.close();
+    }
+
+    private static RestClient createRestClient(RestClientFactory factory) {
+        return factory.create(
+                Mockito.mock(RequestSigner.class),
+                Collections.<SigningStrategy, RequestSigner>emptyMap());
+    }
+
+    private static class TestClientBuilder extends ClientBuilderBase<TestClientBuilder, Object> {
+        private TestClientBuilder() {
+            super(null);
+        }
+
+        private ClientConfigurator getClientConfigurator() {
+            return clientConfigurator;
+        }
+
+        @Override
+        public Object build(AbstractAuthenticationDetailsProvider authenticationDetailsProvider) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,233 @@
+/**
+ * Copyright (c) 2016, 2019, Oracle and/or its affiliates. All rights reserved.
+ */
+package com.oracle.bmc.http.internal;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Serializes models shaped like the generated ones with the object mapper of the SDK, so the
+ * {@link ExplicitlySetFilter} runs with the property writers Jackson actually uses.
+ */
+public class ExplicitlySetFilterSerializationTest {
+    @Test
+    public void unsetFieldsAreOmitted() throws Exception {
+        assertSerialized("{}", Volume.builder().build());
+        assertSerialized(
+                "{\"displayName\":\"volume\"}", Volume.builder().displayName("volume").build());
+    }
+
+    @Test
+    public void explicitNullsAreSerialized() throws Exception {
+        assertSerialized("{\"displayName\":null}", Volume.builder().displayName(null).build());
+    }
+
+    @Test
+    public void snakeCasePropertiesAreSerialized() throws Exception {
+        assertSerialized("{\"size_in_gbs\":50}", Volume.builder().sizeInGBs(50L).build());
+        assertSerialized("{\"size_in_gbs\":null}", Volume.builder().sizeInGBs(null).build());
+        assertSerialized(
+                "{\"displayName\":\"volume\",\"size_in_gbs\":50}",
+                Volume.builder().displayName("volume").sizeInGBs(50L).build());
+    }
+
+    @Test
+    public void snakeCasePropertiesOfLegacyModelsAreSerialized() throws Exception {
+        assertSerialized("{}", LegacyVolume.builder().build());
+        assertSerialized(
+                "{\"size_in_gbs\":null}", LegacyVolume.builder().sizeInGBs(null).build());
+    }
+
+    @Test
+    public void nestedModelsAreFiltered() throws Exception {
+        assertSerialized(
+                "{\"displayName\":\"volume\",\"source\":{\"source_id\":null}}",
+                Volume.builder()
+                        .displayName("volume")
+                        .source(VolumeSource.builder().sourceId(null).build())
+                        .build());
+        assertSerialized(
+                "{\"source\":{\"type\":\"backup\"}}",
+                Volume.builder().source(VolumeSource.builder().type("backup").build()).build());
+        assertSerialized("{\"source\":null}", Volume.builder().source(null).build());
+    }
+
+    private static void assertSerialized(String expectedJson, Object model) throws Exception {
+        ObjectMapper mapper = RestClientFactory.getObjectMapper();
+        String json = mapper.writeValueAsString(model);
+        // the order of the properties does not matter
+        assertEquals(json, mapper.readTree(expectedJson), mapper.readTree(json));
+    }
+
+    @lombok.Value
+    @com.fasterxml.jackson.databind.annotation.JsonDeserialize(builder = Volume.Builder.class)
+    @com.fasterxml.jackson.annotation.JsonFilter(
+            com.oracle.bmc.http.internal.ExplicitlySetFilter.NAME)
+    static class Volume {
+        @com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder(withPrefix = "")
+        @lombok.experimental.Accessors(fluent = true)
+        public static class Builder {
+            @com.fasterxml.jackson.annotation.JsonProperty("displayName")
+            private String displayName;
+
+            public Builder displayName(String displayName) {
+                this.displayName = displayName;
+                this.__explicitlySet__.add("displayName");
+                return this;
+            }
+
+            @com.fasterxml.jackson.annotation.JsonProperty("size_in_gbs")
+            private Long sizeInGBs;
+
+            public Builder sizeInGBs(Long sizeInGBs) {
+                this.sizeInGBs = sizeInGBs;
+                this.__explicitlySet__.add("sizeInGBs");
+                return this;
+            }
+
+            @com.fasterxml.jackson.annotation.JsonProperty("source")
+            private VolumeSource source;
+
+            public Builder source(VolumeSource source) {
+                this.source = source;
+                this.__explicitlySet__.add("source");
+                return this;
+            }
+
+            @com.fasterxml.jackson.annotation.JsonIgnore
+            private final java.util.Set<String> __explicitlySet__ =
+                    new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
+
+            public Volume build() {
+                Volume __instance__ = new Volume(displayName, sizeInGBs, source);
+                __instance__.__explicitlySet__.addAll(__explicitlySet__);
+                return __instance__;
+            }
+        }
+
+        public static Builder builder() {
+            return new Builder();
+        }
+
+        @com.fasterxml.jackson.annotation.JsonProperty("displayName")
+        String displayName;
+
+        @com.fasterxml.jackson.annotation.JsonProperty("size_in_gbs")
+        Long sizeInGBs;
+
+        @com.fasterxml.jackson.annotation.JsonProperty("source")
+        VolumeSource source;
+
+        private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields
+                __explicitlySetFields__ =
+                        com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                                "displayName", "sizeInGBs", "source");
+
+        @com.fasterxml.jackson.annotation.JsonIgnore
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
+    }
+
+    @lombok.Value
+    @com.fasterxml.jackson.databind.annotation.JsonDeserialize(builder = VolumeSource.Builder.class)
+    @com.fasterxml.jackson.annotation.JsonFilter(
+            com.oracle.bmc.http.internal.ExplicitlySetFilter.NAME)
+    static class VolumeSource {
+        @com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder(withPrefix = "")
+        @lombok.experimental.Accessors(fluent = true)
+        public static class Builder {
+            @com.fasterxml.jackson.annotation.JsonProperty("type")
+            private String type;
+
+            public Builder type(String type) {
+                this.type = type;
+                this.__explicitlySet__.add("type");
+                return this;
+            }
+
+            @com.fasterxml.jackson.annotation.JsonProperty("source_id")
+            private String sourceId;
+
+            public Builder sourceId(String sourceId) {
+                this.sourceId = sourceId;
+                this.__explicitlySet__.add("sourceId");
+                return this;
+            }
+
+            @com.fasterxml.jackson.annotation.JsonIgnore
+            private final java.util.Set<String> __explicitlySet__ =
+                    new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
+
+            public VolumeSource build() {
+                VolumeSource __instance__ = new VolumeSource(type, sourceId);
+                __instance__.__explicitlySet__.addAll(__explicitlySet__);
+                return __instance__;
+            }
+        }
+
+        public static Builder builder() {
+            return new Builder();
+        }
+
+        @com.fasterxml.jackson.annotation.JsonProperty("type")
+        String type;
+
+        @com.fasterxml.jackson.annotation.JsonProperty("source_id")
+        String sourceId;
+
+        private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields
+                __explicitlySetFields__ =
+                        com.oracle.bmc.http.internal.ExplicitlySet.Fields.of("type", "sourceId");
+
+        @com.fasterxml.jackson.annotation.JsonIgnore
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
+    }
+
+    /**
+     * A model generated before {@link ExplicitlySet} was introduced, which tracks the explicitly
+     * set fields in a {@link java.util.HashSet}.
+     */
+    @lombok.Value
+    @com.fasterxml.jackson.databind.annotation.JsonDeserialize(builder = LegacyVolume.Builder.class)
+    @com.fasterxml.jackson.annotation.JsonFilter(
+            com.oracle.bmc.http.internal.ExplicitlySetFilter.NAME)
+    static class LegacyVolume {
+        @com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder(withPrefix = "")
+        @lombok.experimental.Accessors(fluent = true)
+        public static class Builder {
+            @com.fasterxml.jackson.annotation.JsonProperty("size_in_gbs")
+            private Long sizeInGBs;
+
+            public Builder sizeInGBs(Long sizeInGBs) {
+                this.sizeInGBs = sizeInGBs;
+                this.__explicitlySet__.add("sizeInGBs");
+                return this;
+            }
+
+            @com.fasterxml.jackson.annotation.JsonIgnore
+            private final java.util.Set<String> __explicitlySet__ =
+                    new java.util.HashSet<String>();
+
+            public LegacyVolume build() {
+                LegacyVolume __instance__ = new LegacyVolume(sizeInGBs);
+                __instance__.__explicitlySet__.addAll(__explicitlySet__);
+                return __instance__;
+            }
+        }
+
+        public static Builder builder() {
+            return new Builder();
+        }
+
+        @com.fasterxml.jackson.annotation.JsonProperty("size_in_gbs")
+        Long sizeInGBs;
+
+        @com.fasterxml.jackson.annotation.JsonIgnore
+        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    }
+}
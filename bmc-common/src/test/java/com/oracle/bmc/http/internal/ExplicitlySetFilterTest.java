@@ -6,6 +6,7 @@ package com.oracle.bmc.http.internal;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.google.common.io.ByteStreams;
 import com.oracle.bmc.requests.BmcRequest;
 import org.junit.Ignore;
 import org.junit.Test;
@@ -14,8 +15,10 @@ import org.mockito.ArgumentCaptor;
 import javax.ws.rs.client.Client;
 import javax.ws.rs.client.Invocation;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.*;
 
@@ -128,9 +131,7 @@ public class ExplicitlySetFilterTest {
             ArgumentCaptor<Object> bodyCaptor = ArgumentCaptor.forClass(Object.class);
             verify(ef).forPost(any(), bodyCaptor.capture());
 
-            Object value = bodyCaptor.getValue();
-
-            String serialized = value.toString();
+            String serialized = bodyAsString(bodyCaptor.getValue());
             assertTrue(serialized.contains("\"type\":\"sub\""));
             String replaced = serialized.replace("sub", "unknown");
             assertTrue(replaced.contains("\"type\":\"unknown\""));
@@ -152,6 +153,22 @@ public class ExplicitlySetFilterTest {
         assertTrue(serializedBody.contains("\"major_version\":\"1.0\""));
     }
 
+    @Test
+    public void serializeExplicitNullSnakeCasedParameter() {
+        Subclass sub = Subclass.builder().baseVal(1).subVal("two").majorVersion(null).build();
+        String serializedBody = serializeForPost(sub);
+
+        assertTrue(serializedBody.contains("\"major_version\":null"));
+    }
+
+    @Test
+    public void serializeNullSnakeCasedParameter() {
+        Subclass sub = Subclass.builder().baseVal(1).subVal("two").build();
+        String serializedBody = serializeForPost(sub);
+
+        assertFalse(serializedBody.contains("major_version"));
+    }
+
     private static String serializeForPost(Object o) {
         Client client = mock(Client.class);
         EntityFactory ef = mock(EntityFactory.class);
@@ -163,7 +180,16 @@ public class ExplicitlySetFilterTest {
             ArgumentCaptor<Object> bodyCaptor = ArgumentCaptor.forClass(Object.class);
             verify(ef).forPost(any(), bodyCaptor.capture());
 
-            return bodyCaptor.getValue().toString();
+            return bodyAsString(bodyCaptor.getValue());
+        }
+    }
+
+    private static String bodyAsString(Object body) {
+        try {
+            return new String(
+                    ByteStreams.toByteArray((SerializedBody) body), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
         }
     }
 
@@ -0,0 +1,145 @@
+/**
+ * Copyright (c) 2016, 2019, Oracle and/or its affiliates. All rights reserved.
+ */
+package com.oracle.bmc.http.internal;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Unit tests for {@link ExplicitlySet}.
+ */
+public class ExplicitlySetTest {
+    private static final ExplicitlySet.Fields FIELDS =
+            ExplicitlySet.Fields.of("id", "displayName", "definedTags");
+
+    @Test
+    public void addAndContains() {
+        ExplicitlySet set = new ExplicitlySet(FIELDS);
+        assertFalse(set.contains("displayName"));
+
+        set.add("displayName");
+        assertTrue(set.contains("displayName"));
+        assertFalse(set.contains("id"));
+        assertFalse(set.contains("unknown"));
+        assertEquals("[displayName]", set.toString());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void addUnknownField() {
+        new ExplicitlySet(FIELDS).add("unknown");
+    }
+
+    @Test
+    public void addAllAndRetainAll() {
+        ExplicitlySet builder = new ExplicitlySet(FIELDS);
+        builder.add("id");
+        builder.add("definedTags");
+
+        ExplicitlySet instance = new ExplicitlySet(FIELDS);
+        instance.addAll(builder);
+        assertEquals(builder, instance);
+        assertEquals(builder.hashCode(), instance.hashCode());
+        assertEquals("[id, definedTags]", instance.toString());
+
+        ExplicitlySet copied = new ExplicitlySet(FIELDS);
+        copied.add("id");
+        copied.add("displayName");
+        copied.retainAll(instance);
+        assertTrue(copied.contains("id"));
+        assertFalse(copied.contains("displayName"));
+        assertFalse(copied.contains("definedTags"));
+        assertNotEquals(instance, copied);
+    }
+
+    @Test
+    public void addAllOfDifferentFields() {
+        ExplicitlySet set = new ExplicitlySet(FIELDS);
+        ExplicitlySet other = new ExplicitlySet(ExplicitlySet.Fields.of("id", "other"));
+        other.add("id");
+        set.addAll(other);
+        assertEquals(new HashSet<>(Arrays.asList("id")), set);
+
+        other.add("other");
+        try {
+            set.addAll(other);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void behavesLikeASet() {
+        Set<String> set = new ExplicitlySet(FIELDS);
+        set.add("definedTags");
+        set.add("id");
+        assertFalse(set.add("id"));
+        assertEquals(2, set.size());
+
+        Set<String> expected = new HashSet<>(Arrays.asList("id", "definedTags"));
+        assertEquals(expected, set);
+        assertEquals(set, expected);
+        assertEquals(expected.hashCode(), set.hashCode());
+
+        Iterator<String> iterator = set.iterator();
+        assertEquals("id", iterator.next());
+        iterator.remove();
+        assertEquals("definedTags", iterator.next());
+        assertFalse(iterator.hasNext());
+        assertEquals(new HashSet<>(Arrays.asList("definedTags")), set);
+
+        set.retainAll(new HashSet<>(Arrays.asList("id")));
+        assertTrue(set.isEmpty());
+    }
+
+    @Test
+    public void supportsUpTo64Fields() {
+        ExplicitlySet set = new ExplicitlySet(ExplicitlySet.Fields.of(names(64)));
+        set.add("field63");
+        assertTrue(set.contains("field63"));
+        assertFalse(set.contains("field0"));
+        assertEquals("[field63]", set.toString());
+    }
+
+    @Test
+    public void moreThan64Fields() {
+        ExplicitlySet.Fields fields = ExplicitlySet.Fields.of(names(100));
+        ExplicitlySet builder = new ExplicitlySet(fields);
+        builder.add("field1");
+        builder.add("field64");
+        builder.add("field99");
+        assertTrue(builder.contains("field64"));
+        assertFalse(builder.contains("field65"));
+        assertEquals("[field1, field64, field99]", builder.toString());
+
+        ExplicitlySet instance = new ExplicitlySet(fields);
+        instance.addAll(builder);
+        assertEquals(builder, instance);
+        assertEquals(builder.hashCode(), instance.hashCode());
+
+        ExplicitlySet copied = new ExplicitlySet(fields);
+        copied.add("field64");
+        copied.add("field65");
+        copied.retainAll(instance);
+        assertEquals(new HashSet<>(Arrays.asList("field64")), copied);
+    }
+
+    private static String[] names(int count) {
+        String[] names = new String[count];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = "field" + i;
+        }
+        return names;
+    }
+}
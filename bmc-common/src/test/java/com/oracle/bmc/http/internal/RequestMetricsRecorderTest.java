@@ -0,0 +1,132 @@
+/**
+ * Copyright (c) 2016, 2019, Oracle and/or its affiliates. All rights reserved.
+ */
+package com.oracle.bmc.http.internal;
+
+import com.oracle.bmc.http.RequestListener;
+import com.oracle.bmc.http.RequestMetrics;
+import com.oracle.bmc.model.BmcException;
+import org.junit.Test;
+
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.Response;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class RequestMetricsRecorderTest {
+    private final List<RequestMetrics> completed = new ArrayList<>();
+    private final RequestListener listener =
+            new RequestListener() {
+                @Override
+                public void requestCompleted(RequestMetrics metrics) {
+                    completed.add(metrics);
+                }
+            };
+
+    @Test
+    public void completedByResponseConversion() {
+        RequestMetricsRecorder recorder = new RequestMetricsRecorder(listener, "requestId");
+        recorder.retrying();
+        recorder.signed(5L);
+        recorder.sent("PUT", URI.create("http://localhost/o"));
+        recorder.bodyWritten(7L, 100L);
+        recorder.responseReceived(200, 42L);
+
+        Response response = recorder.attach(mockResponse(Response.Status.OK));
+        new ResponseConversionFunctionFactory().create().apply(response);
+
+        assertEquals(1, completed.size());
+        RequestMetrics metrics = completed.get(0);
+        assertEquals("requestId", metrics.getOpcRequestId());
+        assertEquals("PUT", metrics.getMethod());
+        assertEquals(URI.create("http://localhost/o"), metrics.getUri());
+        assertEquals(200, metrics.getStatusCode());
+        assertEquals(1, metrics.getRetryCount());
+        assertEquals(100L, metrics.getBytesSent());
+        assertEquals(42L, metrics.getBytesReceived());
+        assertEquals(5L, metrics.getSigningNanos());
+        assertEquals(7L, metrics.getRequestWriteNanos());
+        assertTrue(metrics.getTimeToFirstByteNanos() >= 0);
+        assertTrue(metrics.getTotalNanos() >= metrics.getDeserializationNanos());
+        assertNull(metrics.getFailure());
+
+        // converting the same response again (e.g. from a Future and a handler) does not
+        // complete the request twice
+        new ResponseConversionFunctionFactory().create().apply(response);
+        assertEquals(1, completed.size());
+    }
+
+    @Test
+    public void unsuccessfulResponseIsReportedAsFailure() {
+        RequestMetricsRecorder recorder = new RequestMetricsRecorder(listener, "requestId");
+        Response response = recorder.attach(mockResponse(Response.Status.SERVICE_UNAVAILABLE));
+
+        try {
+            new ResponseConversionFunctionFactory().create().apply(response);
+            fail("Should have thrown");
+        } catch (BmcException e) {
+            assertEquals(1, completed.size());
+            assertSame(e, completed.get(0).getFailure());
+            assertEquals(503, completed.get(0).getStatusCode());
+        }
+    }
+
+    @Test
+    public void completesOnlyOnce() {
+        RequestMetricsRecorder recorder = new RequestMetricsRecorder(listener, "requestId");
+        recorder.complete(0L, new IllegalStateException());
+        recorder.complete(0L, null);
+
+        assertEquals(1, completed.size());
+        assertEquals(0, completed.get(0).getStatusCode());
+        assertEquals(-1L, completed.get(0).getBytesReceived());
+    }
+
+    @Test
+    public void listenerFailureIsIgnored() {
+        RequestMetricsRecorder recorder =
+                new RequestMetricsRecorder(
+                        new RequestListener() {
+                            @Override
+                            public void requestCompleted(RequestMetrics metrics) {
+                                throw new IllegalStateException("listener failed");
+                            }
+                        },
+                        "requestId");
+        Response response = recorder.attach(mockResponse(Response.Status.OK));
+
+        new ResponseConversionFunctionFactory().create().apply(response);
+    }
+
+    @Test
+    public void sharedResponseKeepsRecorder() {
+        RequestMetricsRecorder recorder = new RequestMetricsRecorder(listener, "requestId");
+        Response response =
+                WrappedResponse.shared(recorder.attach(mockResponse(Response.Status.OK)));
+        assertSame(recorder, RequestMetricsRecorder.of(response));
+
+        new ResponseConversionFunctionFactory().create().apply(response);
+        assertEquals(1, completed.size());
+        assertNull(RequestMetricsRecorder.of(mockResponse(Response.Status.OK)));
+    }
+
+    private static Response mockResponse(Response.Status status) {
+        Response response = mock(Response.class);
+        when(response.getStatusInfo()).thenReturn(status);
+        when(response.getStatus()).thenReturn(status.getStatusCode());
+        when(response.getMediaType()).thenReturn(MediaType.APPLICATION_JSON_TYPE);
+        when(response.getStringHeaders()).thenReturn(new MultivaluedHashMap<String, String>());
+        return response;
+    }
+}
@@ -134,6 +134,47 @@ public class ResponseHelperTest {
         verifyNoMoreInteractions(response, statusInfo, mockStream);
     }
 
+    @Test
+    public void testReadEntity_notBufferedUnlessShared() {
+        Response response = mockSuccessfulResponse();
+        when(response.readEntity(String.class)).thenReturn("namespace");
+
+        assertEquals("namespace", ResponseHelper.readEntity(response, String.class));
+        verify(response, never()).bufferEntity();
+    }
+
+    @Test
+    public void testReadEntity_sharedIsBuffered() {
+        Response response = mockSuccessfulResponse();
+        when(response.readEntity(String.class)).thenReturn("namespace");
+
+        assertEquals(
+                "namespace",
+                ResponseHelper.readEntity(WrappedResponse.shared(response), String.class));
+        verify(response).bufferEntity();
+    }
+
+    @Test
+    public void testReadEntity_sharedStreamIsNotBuffered() {
+        Response response = mockSuccessfulResponse();
+        InputStream mockStream = mock(InputStream.class);
+        when(response.getHeaders()).thenReturn(new MultivaluedHashMap<String, Object>());
+        when(response.readEntity(InputStream.class)).thenReturn(mockStream);
+
+        assertTrue(
+                ResponseHelper.readEntity(WrappedResponse.shared(response), InputStream.class)
+                        == mockStream);
+        verify(response, never()).bufferEntity();
+    }
+
+    private static Response mockSuccessfulResponse() {
+        Response response = mock(Response.class);
+        Response.StatusType statusInfo = mock(Response.StatusType.class);
+        when(response.getStatusInfo()).thenReturn(statusInfo);
+        when(statusInfo.getFamily()).thenReturn(Response.Status.Family.SUCCESSFUL);
+        return response;
+    }
+
     private static Response buildMockResponse(
             final String opcRequestId, final MediaType mediaType, final Response.Status status) {
         final Response response = mock(Response.class);
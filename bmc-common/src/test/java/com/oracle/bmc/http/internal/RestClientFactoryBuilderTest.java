@@ -6,10 +6,13 @@ package com.oracle.bmc.http.internal;
 import com.google.common.collect.ImmutableList;
 import com.oracle.bmc.http.ClientConfigurator;
 import com.oracle.bmc.http.CompositeClientConfigurator;
+import com.oracle.bmc.http.SharedTransport;
 import org.junit.Test;
 import org.mockito.Mockito;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -170,4 +173,18 @@ public class RestClientFactoryBuilderTest {
                 ImmutableList.of(clientConfigurator, clientConfigurator1, clientConfigurator2),
                 compositeClientConfigurator.getConfigurators());
     }
+
+    @Test
+    public void testSharedTransport() {
+        SharedTransport sharedTransport = new SharedTransport();
+        RestClientFactory factory =
+                RestClientFactoryBuilder.builder().clientConfigurator(sharedTransport).build();
+        assertSame(sharedTransport, factory.getSharedTransport());
+    }
+
+    @Test
+    public void testNoSharedTransport() {
+        RestClientFactory factory = RestClientFactoryBuilder.builder().build();
+        assertNull(factory.getSharedTransport());
+    }
 }
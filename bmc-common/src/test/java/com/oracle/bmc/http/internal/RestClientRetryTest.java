@@ -0,0 +1,226 @@
+/**
+ * Copyright (c) 2016, 2019, Oracle and/or its affiliates. All rights reserved.
+ */
+package com.oracle.bmc.http.internal;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.ClientBuilder;
+import javax.ws.rs.core.Response;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.io.ByteStreams;
+import com.oracle.bmc.model.BmcException;
+import com.oracle.bmc.requests.BmcRequest;
+import com.oracle.bmc.retrier.RetryBudget;
+import com.oracle.bmc.retrier.RetryConfiguration;
+import com.oracle.bmc.retrier.RetryContext;
+import com.oracle.bmc.retrier.RetryStrategy;
+import com.oracle.bmc.util.StreamUtils;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Tests the retry loops of {@link RestClient} (synchronous and {@code rx*}) against a local
+ * server that replies with scripted status codes.
+ */
+public class RestClientRetryTest {
+    private static final byte[] BODY = "request body".getBytes(StandardCharsets.UTF_8);
+
+    private final List<byte[]> receivedBodies =
+            Collections.synchronizedList(new ArrayList<byte[]>());
+    private final List<RetryContext> retryContexts =
+            Collections.synchronizedList(new ArrayList<RetryContext>());
+    private final RetryStrategy noDelay =
+            new RetryStrategy() {
+                @Override
+                public long nextDelay(RetryContext context) {
+                    retryContexts.add(context);
+                    return 0L;
+                }
+            };
+
+    private HttpServer server;
+    private Client client;
+    private List<String[]> script;
+
+    @Before
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext(
+                "/",
+                new HttpHandler() {
+                    @Override
+                    public void handle(HttpExchange exchange) throws IOException {
+                        try (InputStream in = exchange.getRequestBody()) {
+                            receivedBodies.add(ByteStreams.toByteArray(in));
+                        }
+                        int index = Math.min(receivedBodies.size(), script.size()) - 1;
+                        String[] reply = script.get(index);
+                        for (int i = 1; i + 1 < reply.length; i += 2) {
+                            exchange.getResponseHeaders().add(reply[i], reply[i + 1]);
+                        }
+                        exchange.getResponseHeaders().add("Content-Type", "text/plain");
+                        byte[] body = "reply".getBytes(StandardCharsets.UTF_8);
+                        exchange.sendResponseHeaders(Integer.parseInt(reply[0]), body.length);
+                        try (OutputStream out = exchange.getResponseBody()) {
+                            out.write(body);
+                        }
+                    }
+                });
+        server.start();
+        client = ClientBuilder.newClient();
+    }
+
+    @After
+    public void tearDown() {
+        client.close();
+        server.stop(0);
+    }
+
+    @Test
+    public void replaysDuplicatableBody() throws Exception {
+        script = replies(new String[] {"503"}, new String[] {"200"});
+        RestClient restClient = newRestClient(RetryConfiguration.builder().maxAttempts(3));
+
+        Response response =
+                restClient.put(
+                        target(restClient),
+                        StreamUtils.createByteArrayInputStream(BODY),
+                        new BmcRequest());
+
+        assertEquals(200, response.getStatus());
+        response.close();
+        assertEquals(2, receivedBodies.size());
+        assertArrayEquals(BODY, receivedBodies.get(0));
+        assertArrayEquals(BODY, receivedBodies.get(1));
+    }
+
+    @Test
+    public void replaysDuplicatableBody_rx() throws Exception {
+        script = replies(new String[] {"503"}, new String[] {"200"});
+        RestClient restClient = newRestClient(RetryConfiguration.builder().maxAttempts(3));
+
+        Response response =
+                restClient
+                        .rxPut(
+                                target(restClient),
+                                StreamUtils.createByteArrayInputStream(BODY),
+                                new BmcRequest())
+                        .toCompletableFuture()
+                        .get(10, TimeUnit.SECONDS);
+
+        assertEquals(200, response.getStatus());
+        response.close();
+        assertEquals(2, receivedBodies.size());
+        assertArrayEquals(BODY, receivedBodies.get(0));
+        assertArrayEquals(BODY, receivedBodies.get(1));
+    }
+
+    @Test
+    public void passesRetryAfterToStrategy() throws Exception {
+        script = replies(new String[] {"429", "Retry-After", "2"}, new String[] {"200"});
+        RestClient restClient = newRestClient(RetryConfiguration.builder().maxAttempts(3));
+
+        Response response = restClient.get(target(restClient), new BmcRequest());
+
+        assertEquals(200, response.getStatus());
+        response.close();
+        assertEquals(1, retryContexts.size());
+        assertEquals(1, retryContexts.get(0).getAttemptsMade());
+        assertEquals(429, retryContexts.get(0).getLastException().getStatusCode());
+        assertEquals(Long.valueOf(2000L), retryContexts.get(0).getRetryAfterMillis());
+    }
+
+    @Test
+    public void passesRetryAfterToStrategy_rx() throws Exception {
+        script = replies(new String[] {"429", "Retry-After", "2"}, new String[] {"200"});
+        RestClient restClient = newRestClient(RetryConfiguration.builder().maxAttempts(3));
+
+        Response response =
+                restClient
+                        .rxGet(target(restClient), new BmcRequest())
+                        .toCompletableFuture()
+                        .get(10, TimeUnit.SECONDS);
+
+        assertEquals(200, response.getStatus());
+        response.close();
+        assertEquals(1, retryContexts.size());
+        assertEquals(Long.valueOf(2000L), retryContexts.get(0).getRetryAfterMillis());
+    }
+
+    @Test
+    public void stopsWhenBudgetIsExhausted() {
+        script = replies(new String[] {"503"});
+        RetryBudget budget = new RetryBudget(5, 5, 0);
+        RestClient restClient =
+                newRestClient(RetryConfiguration.builder().maxAttempts(5).retryBudget(budget));
+
+        try {
+            restClient.get(target(restClient), new BmcRequest());
+            fail("Expected BmcException");
+        } catch (BmcException e) {
+            assertEquals(503, e.getStatusCode());
+        }
+        // one retry fits in the budget, the second one does not
+        assertEquals(2, receivedBodies.size());
+        assertEquals(0, budget.getAvailableTokens());
+    }
+
+    @Test
+    public void stopsWhenBudgetIsExhausted_rx() throws Exception {
+        script = replies(new String[] {"503"});
+        RetryBudget budget = new RetryBudget(5, 5, 0);
+        RestClient restClient =
+                newRestClient(RetryConfiguration.builder().maxAttempts(5).retryBudget(budget));
+
+        try {
+            restClient
+                    .rxGet(target(restClient), new BmcRequest())
+                    .toCompletableFuture()
+                    .get(10, TimeUnit.SECONDS);
+            fail("Expected BmcException");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof BmcException);
+            assertEquals(503, ((BmcException) e.getCause()).getStatusCode());
+        }
+        assertEquals(2, receivedBodies.size());
+        assertEquals(0, budget.getAvailableTokens());
+    }
+
+    private RestClient newRestClient(RetryConfiguration.RetryConfigurationBuilder retry) {
+        RestClient restClient =
+                new RestClient(client, new EntityFactory(), retry.retryStrategy(noDelay).build());
+        restClient.setEndpoint("http://localhost:" + server.getAddress().getPort());
+        return restClient;
+    }
+
+    private static WrappedInvocationBuilder target(RestClient restClient) {
+        return restClient.getBaseTarget().path("resource").request();
+    }
+
+    private static List<String[]> replies(String[]... replies) {
+        List<String[]> list = new ArrayList<>();
+        Collections.addAll(list, replies);
+        return list;
+    }
+}
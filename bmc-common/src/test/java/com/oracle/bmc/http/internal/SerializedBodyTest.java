@@ -0,0 +1,70 @@
+/**
+ * Copyright (c) 2016, 2019, Oracle and/or its affiliates. All rights reserved.
+ */
+package com.oracle.bmc.http.internal;
+
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteStreams;
+import lombok.Value;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Unit tests for {@link SerializedBody}.
+ */
+public class SerializedBodyTest {
+    @Test
+    public void serializesObjectOnce() throws IOException {
+        SerializedBody body = SerializedBody.of(new Record(7, "foo"));
+
+        byte[] expected = "{\"i\":7,\"s\":\"foo\"}".getBytes(StandardCharsets.UTF_8);
+        assertEquals(expected.length, body.length());
+        assertEquals(Hashing.sha256().hashBytes(expected), body.getSha256());
+        assertEquals(new String(expected, StandardCharsets.UTF_8), read(body));
+    }
+
+    @Test
+    public void sendsStringUnchanged() throws IOException {
+        String input = "{\"name\":\"\u00e9\"}";
+        SerializedBody body = SerializedBody.of(input);
+
+        byte[] expected = input.getBytes(StandardCharsets.UTF_8);
+        assertEquals(expected.length, body.length());
+        assertEquals(Hashing.sha256().hashBytes(expected), body.getSha256());
+        assertEquals(input, read(body));
+    }
+
+    @Test
+    public void nullIsEmpty() throws IOException {
+        SerializedBody body = SerializedBody.of(null);
+
+        assertEquals(0, body.length());
+        assertEquals(Hashing.sha256().hashBytes(new byte[0]), body.getSha256());
+        assertEquals("", read(body));
+    }
+
+    @Test
+    public void duplicateStartsFromTheBeginning() throws IOException {
+        SerializedBody body = SerializedBody.of(new Record(7, "foo"));
+        String content = read(body);
+
+        SerializedBody duplicate = (SerializedBody) body.duplicate();
+        assertEquals(body.length(), duplicate.length());
+        assertEquals(body.getSha256(), duplicate.getSha256());
+        assertEquals(content, read(duplicate));
+    }
+
+    private static String read(SerializedBody body) throws IOException {
+        return new String(ByteStreams.toByteArray(body), StandardCharsets.UTF_8);
+    }
+
+    @Value
+    static class Record {
+        int i;
+        String s;
+    }
+}
@@ -0,0 +1,119 @@
+/**
+ * Copyright (c) 2016, 2019, Oracle and/or its affiliates. All rights reserved.
+ */
+package com.oracle.bmc.http.signing.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+import com.google.common.base.Supplier;
+import com.google.common.base.Ticker;
+import com.oracle.bmc.Service;
+import com.oracle.bmc.auth.BasicAuthenticationDetailsProvider;
+import com.oracle.bmc.http.signing.RequestSigner;
+import com.oracle.bmc.http.signing.SigningStrategy;
+
+public class DefaultRequestSignerFactoryTest {
+
+    @Test
+    public void invalidPrivateKeyIsOnlyReadOnce() {
+        CountingProvider provider = new CountingProvider();
+        RequestSigner signer =
+                new DefaultRequestSignerFactory(SigningStrategy.STANDARD)
+                        .createRequestSigner((Service) null, provider);
+
+        for (int i = 0; i < 3; i++) {
+            try {
+                signer.signRequest(
+                        URI.create("https://example.com/path"),
+                        "GET",
+                        Collections.<String, List<String>>emptyMap(),
+                        null);
+                fail("Expected SignedRequestException");
+            } catch (SignedRequestException e) {
+                assertTrue(e.getCause() instanceof SignedRequestException);
+            }
+        }
+        assertEquals(1, provider.keyIdReads.get());
+        assertEquals(1, provider.privateKeyReads.get());
+    }
+
+    @Test
+    public void failureIsRetriedAfterItExpires() {
+        final AtomicInteger loads = new AtomicInteger();
+        final AtomicLong nanos = new AtomicLong();
+        Supplier<String> supplier =
+                new DefaultRequestSignerFactory.FailureMemoizingSupplier<>(
+                        new Supplier<String>() {
+                            @Override
+                            public String get() {
+                                if (loads.incrementAndGet() == 1) {
+                                    throw new IllegalStateException("key file being rotated");
+                                }
+                                return "key";
+                            }
+                        },
+                        TimeUnit.SECONDS.toNanos(5),
+                        new Ticker() {
+                            @Override
+                            public long read() {
+                                return nanos.get();
+                            }
+                        });
+
+        for (int i = 0; i < 2; i++) {
+            try {
+                supplier.get();
+                fail("Expected SignedRequestException");
+            } catch (SignedRequestException e) {
+                assertTrue(e.getCause() instanceof IllegalStateException);
+            }
+        }
+        assertEquals(1, loads.get());
+
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(5));
+        assertEquals("key", supplier.get());
+        assertEquals("key", supplier.get());
+        assertEquals(2, loads.get());
+    }
+
+    private static class CountingProvider implements BasicAuthenticationDetailsProvider {
+        private final AtomicInteger keyIdReads = new AtomicInteger();
+        private final AtomicInteger privateKeyReads = new AtomicInteger();
+
+        @Override
+        public String getKeyId() {
+            keyIdReads.incrementAndGet();
+            return "keyId";
+        }
+
+        @Override
+        public InputStream getPrivateKey() {
+            privateKeyReads.incrementAndGet();
+            return new ByteArrayInputStream("not a key".getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public String getPassPhrase() {
+            return null;
+        }
+
+        @Override
+        public char[] getPassphraseCharacters() {
+            return null;
+        }
+    }
+}
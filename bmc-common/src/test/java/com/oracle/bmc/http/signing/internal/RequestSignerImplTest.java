@@ -9,8 +9,11 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
+import com.google.common.hash.Hashing;
+import com.google.common.io.BaseEncoding;
 import com.google.common.io.ByteStreams;
 import com.oracle.bmc.http.internal.RestClientFactory;
+import com.oracle.bmc.http.internal.SerializedBody;
 import com.oracle.bmc.http.signing.RequestSignerException;
 import com.oracle.bmc.http.signing.SigningStrategy;
 import com.oracle.bmc.util.StreamUtils;
@@ -45,6 +48,8 @@ import java.util.regex.Pattern;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.Matchers.any;
@@ -77,53 +82,37 @@ public class RequestSignerImplTest {
     }
 
     @Test
-    public void ignoreCaseHeaders_shouldReturnMapWithLowerCaseKeys_whenHeadersContainUpperCaseKeys()
+    public void getHeaderValues_shouldIgnoreCase_whenHeadersContainUpperCaseKeys()
             throws Exception {
         final Map<String, List<String>> headers = new HashMap<>();
         headers.put("Content-Length", Collections.singletonList("238"));
         headers.put("Content-Type", Collections.singletonList(MediaType.APPLICATION_JSON));
         headers.put("OPC-REQUEST-ID", Collections.singletonList("RequestID"));
 
-        final Map<String, List<String>> actual = RequestSignerImpl.ignoreCaseHeaders(headers);
-
-        assertNotNull("Map should not be null", actual);
-        assertEquals("Map should contain 3 entries", 3, actual.size());
         for (Map.Entry<String, List<String>> expectedEntry : headers.entrySet()) {
             final String expectedKey = expectedEntry.getKey();
-            final List<String> expectedValue = expectedEntry.getValue();
-
-            assertTrue(
-                    "Actual map should contain matching key for lower case value",
-                    actual.containsKey(expectedKey.toLowerCase()));
-            final List<String> actualValue = actual.get(expectedKey.toLowerCase());
             assertEquals(
-                    "Values should be equal for key: " + expectedKey, expectedValue, actualValue);
+                    "Values should be equal for key: " + expectedKey,
+                    expectedEntry.getValue(),
+                    RequestSignerImpl.getHeaderValues(headers, expectedKey.toLowerCase()));
         }
+        assertNull(RequestSignerImpl.getHeaderValues(headers, "date"));
     }
 
     // Reload the classes so PowerMockito can inject the static mocks.
     @PrepareForTest({LoggerFactory.class, RestClientFactory.class, RequestSignerImpl.class})
     @Test
-    public void ignoreCaseHeaders_whenDuplicateHeaderKeysExists() throws Exception {
+    public void getHeaderValues_whenDuplicateHeaderKeysExists() throws Exception {
         final Map<String, List<String>> headers = new HashMap<>();
         headers.put("content-length", Collections.singletonList("238"));
         headers.put("opc-request-id", Lists.newArrayList("ID1", "ID2"));
 
-        final Map<String, List<String>> actual = RequestSignerImpl.ignoreCaseHeaders(headers);
-
-        assertNotNull("Map should not be null", actual);
-        assertEquals("Map should contain 2 entries", 2, actual.size());
-        for (Map.Entry<String, List<String>> expectedEntry : headers.entrySet()) {
-            final String expectedKey = expectedEntry.getKey();
-            final List<String> expectedValue = expectedEntry.getValue();
-
-            assertTrue(
-                    "Actual map should contain matching key for lower case value",
-                    actual.containsKey(expectedKey.toLowerCase()));
-            final List<String> actualValue = actual.get(expectedKey.toLowerCase());
-            assertEquals(
-                    "Values should be equal for key: " + expectedKey, expectedValue, actualValue);
-        }
+        assertEquals(
+                Collections.singletonList("238"),
+                RequestSignerImpl.getHeaderValues(headers, "content-length"));
+        assertEquals(
+                Lists.newArrayList("ID1", "ID2"),
+                RequestSignerImpl.getHeaderValues(headers, "opc-request-id"));
     }
 
     // Reload the classes so PowerMockito can inject the static mocks.
@@ -136,13 +125,44 @@ public class RequestSignerImplTest {
 
         try {
             RequestSignerImpl.calculateStringToSign(
-                    "get", "/path", headers, ImmutableList.of("opc-request-id"), headers);
+                    new StringBuilder(),
+                    "get",
+                    "/path",
+                    Collections.<String, String>emptyMap(),
+                    headers,
+                    ImmutableList.of("opc-request-id"));
             fail("Should have thrown");
         } catch (RequestSignerException e) {
             assertEquals("Expecting exactly one value for header opc-request-id", e.getMessage());
         }
     }
 
+    @Test
+    public void calculateStringToSign_withMissingAndMixedCaseHeaders() {
+        final Map<String, List<String>> headers = new HashMap<>();
+        headers.put("Content-Length", Collections.singletonList("238"));
+
+        assertEquals(
+                "date: Thu, 01 Jan 1970 00:00:00 GMT\n"
+                        + "(request-target): get /path?a=b\n"
+                        + "content-length: 238",
+                RequestSignerImpl.calculateStringToSign(
+                        new StringBuilder("left over"),
+                        "get",
+                        "/path?a=b",
+                        ImmutableMap.of("date", "Thu, 01 Jan 1970 00:00:00 GMT"),
+                        headers,
+                        ImmutableList.of("date", "(request-target)", "content-length")));
+    }
+
+    @Test
+    public void formatDate_isCachedPerSecond() {
+        final String date = RequestSignerImpl.formatDate(1000L);
+        assertEquals("Thu, 01 Jan 1970 00:00:01 GMT", date);
+        assertSame(date, RequestSignerImpl.formatDate(1999L));
+        assertEquals("Thu, 01 Jan 1970 00:00:02 GMT", RequestSignerImpl.formatDate(2000L));
+    }
+
     @Test
     public void calculateMissingHeaders_postStringContentAsJson() throws IOException {
         calculateAndVerifyMissingHeaders(
@@ -180,6 +200,14 @@ public class RequestSignerImplTest {
         assertTrue(Arrays.equals(BYTE_BUFFER, ByteStreams.toByteArray(body)));
     }
 
+    @Test
+    public void calculateMissingHeaders_postSerializedBody() throws IOException {
+        calculateAndVerifyMissingHeaders(
+                MediaType.APPLICATION_JSON,
+                SerializedBody.of(SERIALIZED_MAP_JSON_STRING),
+                SERIALIZED_MAP_JSON_STRING.length());
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void calculateMissingHeaders_postByteArrayBody() throws IOException {
         calculateAndVerifyMissingHeaders(MediaType.TEXT_PLAIN, BYTE_BUFFER, BYTE_BUFFER.length);
@@ -191,6 +219,58 @@ public class RequestSignerImplTest {
                 MediaType.TEXT_PLAIN, new ByteArrayInputStream(BYTE_BUFFER), BYTE_BUFFER.length);
     }
 
+    @Test
+    public void calculateMissingHeaders_putDuplicatableInputStreamWithStandardStrategy()
+            throws IOException {
+        final InputStream body = StreamUtils.createByteArrayInputStream(BYTE_BUFFER);
+        final Map<String, String> missingHeaders =
+                RequestSignerImpl.calculateMissingHeaders(
+                        HttpMethod.PUT.toLowerCase(),
+                        URI.create("https://objectstorage.us-phoenix-1.oraclecloud.com/n/b/o"),
+                        ImmutableMap.<String, List<String>>of(
+                                "content-type", ImmutableList.of(MediaType.TEXT_PLAIN)),
+                        body,
+                        Constants.ALL_HEADERS,
+                        toSigningConfiguration(SigningStrategy.STANDARD));
+
+        assertEquals(
+                Integer.toString(BYTE_BUFFER.length),
+                missingHeaders.get(HttpHeaders.CONTENT_LENGTH.toLowerCase()));
+        assertEquals(
+                BaseEncoding.base64().encode(Hashing.sha256().hashBytes(BYTE_BUFFER).asBytes()),
+                missingHeaders.get("x-content-sha256"));
+        // the body was not consumed
+        assertTrue(Arrays.equals(BYTE_BUFFER, ByteStreams.toByteArray(body)));
+    }
+
+    @Test
+    public void calculateMissingHeaders_postInputStreamBodyWithoutSignedBody()
+            throws IOException {
+        final InputStream body = new ByteArrayInputStream(BYTE_BUFFER);
+        final Map<String, String> missingHeaders =
+                RequestSignerImpl.calculateMissingHeaders(
+                        HttpMethod.POST.toLowerCase(),
+                        URI.create("https://objectstorage.us-phoenix-1.oraclecloud.com/n/b/o"),
+                        ImmutableMap.<String, List<String>>of(
+                                "content-type", ImmutableList.of(MediaType.TEXT_PLAIN)),
+                        body,
+                        Constants.GENERIC_HEADERS,
+                        toSigningConfiguration(SigningStrategy.EXCLUDE_BODY));
+
+        assertFalse(missingHeaders.containsKey(HttpHeaders.CONTENT_LENGTH.toLowerCase()));
+        assertFalse(missingHeaders.containsKey("x-content-sha256"));
+        // the body was not read
+        assertEquals(BYTE_BUFFER.length, body.available());
+    }
+
+    private static RequestSignerImpl.SigningConfiguration toSigningConfiguration(
+            SigningStrategy signingStrategy) {
+        return new RequestSignerImpl.SigningConfiguration(
+                signingStrategy.getHeadersToSign(),
+                signingStrategy.getOptionalHeadersToSign(),
+                signingStrategy.isSkipContentHeadersForStreamingPutRequests());
+    }
+
     private void calculateAndVerifyMissingHeaders(
             final String contentType, final Object body, final int contentLength)
             throws IOException {
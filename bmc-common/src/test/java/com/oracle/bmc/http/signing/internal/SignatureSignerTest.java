@@ -0,0 +1,141 @@
+/**
+ * Copyright (c) 2016, 2019, Oracle and/or its affiliates. All rights reserved.
+ */
+package com.oracle.bmc.http.signing.internal;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.interfaces.RSAPrivateKey;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.common.base.Ticker;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class SignatureSignerTest {
+    private static final String ALGORITHM = Algorithm.RSAPSS256.getJvmName();
+    private static final byte[] MESSAGE = "message".getBytes(StandardCharsets.UTF_8);
+
+    private static KeyPair keyPair;
+    private static KeyPair rotatedKeyPair;
+
+    @BeforeClass
+    public static void generateKeys() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        keyPair = generator.generateKeyPair();
+        rotatedKeyPair = generator.generateKeyPair();
+    }
+
+    @Test
+    public void signRepeatedly() throws Exception {
+        SignatureSigner signer = new SignatureSigner();
+        for (int i = 0; i < 3; i++) {
+            byte[] signature = signer.sign(privateKey(keyPair), MESSAGE, ALGORITHM);
+            assertTrue(verify(keyPair.getPublic(), MESSAGE, signature));
+        }
+    }
+
+    @Test
+    public void signWithRotatedKey() throws Exception {
+        SignatureSigner signer = new SignatureSigner();
+        byte[] signature = signer.sign(privateKey(keyPair), MESSAGE, ALGORITHM);
+        assertTrue(verify(keyPair.getPublic(), MESSAGE, signature));
+
+        byte[] rotatedSignature = signer.sign(privateKey(rotatedKeyPair), MESSAGE, ALGORITHM);
+        assertTrue(verify(rotatedKeyPair.getPublic(), MESSAGE, rotatedSignature));
+        assertFalse(verify(keyPair.getPublic(), MESSAGE, rotatedSignature));
+    }
+
+    @Test
+    public void rotatedKeyIsDroppedOnceIdle() throws Exception {
+        final AtomicLong nanos = new AtomicLong();
+        SignatureSigner signer =
+                new SignatureSigner(
+                        new Ticker() {
+                            @Override
+                            public long read() {
+                                return nanos.get();
+                            }
+                        });
+        signer.sign(privateKey(keyPair), MESSAGE, ALGORITHM);
+        assertEquals(1, signer.getPooledKeyCount());
+
+        nanos.addAndGet(TimeUnit.MINUTES.toNanos(5));
+        byte[] signature = signer.sign(privateKey(rotatedKeyPair), MESSAGE, ALGORITHM);
+        assertTrue(verify(rotatedKeyPair.getPublic(), MESSAGE, signature));
+        // only the pool of the rotated key is left
+        assertEquals(1, signer.getPooledKeyCount());
+    }
+
+    @Test
+    public void signWithUnknownAlgorithm() throws Exception {
+        SignatureSigner signer = new SignatureSigner();
+        try {
+            signer.sign(privateKey(keyPair), MESSAGE, "UnknownWithRSA");
+            fail("Should have thrown");
+        } catch (SignedRequestException e) {
+            // expected
+        }
+
+        byte[] signature = signer.sign(privateKey(keyPair), MESSAGE, ALGORITHM);
+        assertTrue(verify(keyPair.getPublic(), MESSAGE, signature));
+    }
+
+    @Test
+    public void signConcurrently() throws Exception {
+        final SignatureSigner signer = new SignatureSigner();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                final KeyPair pair = (i % 2 == 0) ? keyPair : rotatedKeyPair;
+                final byte[] message = ("message-" + i).getBytes(StandardCharsets.UTF_8);
+                results.add(
+                        executor.submit(
+                                new Callable<Boolean>() {
+                                    @Override
+                                    public Boolean call() throws Exception {
+                                        byte[] signature =
+                                                signer.sign(privateKey(pair), message, ALGORITHM);
+                                        return verify(pair.getPublic(), message, signature);
+                                    }
+                                }));
+            }
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static RSAPrivateKey privateKey(KeyPair pair) {
+        return (RSAPrivateKey) pair.getPrivate();
+    }
+
+    private static boolean verify(PublicKey publicKey, byte[] message, byte[] signature)
+            throws GeneralSecurityException {
+        Signature verifier = Signature.getInstance(ALGORITHM);
+        verifier.initVerify(publicKey);
+        verifier.update(message);
+        return verifier.verify(signature);
+    }
+}
@@ -0,0 +1,129 @@
+/**
+ * Copyright (c) 2016, 2019, Oracle and/or its affiliates. All rights reserved.
+ */
+package com.oracle.bmc.io.internal;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.google.common.io.ByteStreams;
+
+public class SpoolingInputStreamTest {
+
+    @Test
+    public void readWithoutDuplicate() throws IOException {
+        byte[] data = randomBytes(100);
+        try (SpoolingInputStream stream = new SpoolingInputStream(new ByteArrayInputStream(data))) {
+            assertArrayEquals(data, ByteStreams.toByteArray(stream));
+        }
+    }
+
+    @Test
+    public void duplicateSpooledInMemory() throws IOException {
+        verifyDuplicates(randomBytes(100));
+    }
+
+    @Test
+    public void duplicateSpooledToFile() throws IOException {
+        verifyDuplicates(randomBytes(SpoolingInputStream.IN_MEMORY_THRESHOLD * 3 + 7));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void duplicateAfterRead() throws IOException {
+        try (SpoolingInputStream stream =
+                new SpoolingInputStream(new ByteArrayInputStream(randomBytes(10)))) {
+            stream.read();
+            stream.duplicate();
+        }
+    }
+
+    @Test
+    public void failedSpoolIsNotReused() throws IOException {
+        byte[] data = randomBytes(SpoolingInputStream.IN_MEMORY_THRESHOLD * 2);
+        try (SpoolingInputStream stream =
+                new SpoolingInputStream(new FailingInputStream(data, data.length / 2))) {
+            for (int i = 0; i < 2; i++) {
+                try {
+                    stream.duplicate();
+                    fail("Expected IllegalStateException");
+                } catch (IllegalStateException e) {
+                    // a partial copy must never be handed out as a duplicate
+                }
+            }
+        }
+    }
+
+    private static void verifyDuplicates(byte[] data) throws IOException {
+        try (SpoolingInputStream stream =
+                new SpoolingInputStream(new NonDuplicatableInputStream(data))) {
+            for (int i = 0; i < 2; i++) {
+                try (InputStream duplicate = stream.duplicate()) {
+                    assertArrayEquals(data, ByteStreams.toByteArray(duplicate));
+                }
+            }
+            // the stream itself can still be read fully after it was duplicated
+            assertArrayEquals(data, ByteStreams.toByteArray(stream));
+            assertEquals(-1, stream.read());
+        }
+    }
+
+    private static byte[] randomBytes(int length) {
+        byte[] data = new byte[length];
+        new Random(length).nextBytes(data);
+        return data;
+    }
+
+    /**
+     * A stream that fails after some bytes, like a socket stream whose connection was reset.
+     */
+    private static class FailingInputStream extends InputStream {
+        private final ByteArrayInputStream delegate;
+        private int remaining;
+
+        private FailingInputStream(byte[] data, int failAt) {
+            this.delegate = new ByteArrayInputStream(data);
+            this.remaining = failAt;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining-- <= 0) {
+                throw new IOException("Connection reset");
+            }
+            return delegate.read();
+        }
+    }
+
+    /**
+     * A stream that can only be read once, like a socket stream.
+     */
+    private static class NonDuplicatableInputStream extends InputStream {
+        private final ByteArrayInputStream delegate;
+        private boolean closed;
+
+        private NonDuplicatableInputStream(byte[] data) {
+            this.delegate = new ByteArrayInputStream(data);
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (closed) {
+                throw new IOException("Stream closed");
+            }
+            return delegate.read();
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
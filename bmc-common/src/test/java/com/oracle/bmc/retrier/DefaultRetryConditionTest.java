@@ -0,0 +1,80 @@
+/**
+ * Copyright (c) 2016, 2019, Oracle and/or its affiliates. All rights reserved.
+ */
+package com.oracle.bmc.retrier;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.EOFException;
+import java.net.SocketException;
+
+import javax.ws.rs.ProcessingException;
+
+import org.junit.Test;
+
+import com.oracle.bmc.http.signing.internal.SignedRequestException;
+import com.oracle.bmc.model.BmcException;
+
+public class DefaultRetryConditionTest {
+    private final DefaultRetryCondition condition = new DefaultRetryCondition();
+
+    @Test
+    public void retriesThrottlingAndServerErrors() {
+        assertTrue(condition.shouldBeRetried(new BmcException(429, "TooManyRequests", "", "id")));
+        assertTrue(condition.shouldBeRetried(new BmcException(500, "InternalError", "", "id")));
+        assertTrue(condition.shouldBeRetried(new BmcException(502, "BadGateway", "", "id")));
+        assertTrue(
+                condition.shouldBeRetried(new BmcException(503, "ServiceUnavailable", "", "id")));
+        assertTrue(condition.shouldBeRetried(new BmcException(504, "GatewayTimeout", "", "id")));
+    }
+
+    @Test
+    public void retriesIncorrectStateConflicts() {
+        assertTrue(condition.shouldBeRetried(new BmcException(409, "IncorrectState", "", "id")));
+        assertFalse(condition.shouldBeRetried(new BmcException(409, "Conflict", "", "id")));
+    }
+
+    @Test
+    public void retriesTimeoutsAndConnectionFailures() {
+        assertTrue(condition.shouldBeRetried(new BmcException(true, "timeout", null, "id")));
+        assertTrue(
+                condition.shouldBeRetried(
+                        new BmcException(
+                                false,
+                                "reset",
+                                new ProcessingException(new SocketException("Connection reset")),
+                                "id")));
+    }
+
+    @Test
+    public void doesNotRetryOtherClientSideFailures() {
+        assertFalse(condition.shouldBeRetried(new BmcException(false, "unknown", null, "id")));
+        assertFalse(
+                condition.shouldBeRetried(
+                        new BmcException(
+                                false,
+                                "serialization",
+                                new ProcessingException(new IllegalArgumentException("bad")),
+                                "id")));
+        // a truncated private key is not a connection failure
+        assertFalse(
+                condition.shouldBeRetried(
+                        new BmcException(
+                                false,
+                                "signing",
+                                new ProcessingException(
+                                        new SignedRequestException(new EOFException())),
+                                "id")));
+    }
+
+    @Test
+    public void doesNotRetryClientErrors() {
+        assertFalse(
+                condition.shouldBeRetried(new BmcException(400, "InvalidParameter", "", "id")));
+        assertFalse(
+                condition.shouldBeRetried(
+                        new BmcException(404, "NotAuthorizedOrNotFound", "", "id")));
+        assertFalse(condition.shouldBeRetried(new BmcException(501, "NotImplemented", "", "id")));
+    }
+}
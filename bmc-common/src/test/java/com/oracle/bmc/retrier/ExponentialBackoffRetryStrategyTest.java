@@ -0,0 +1,43 @@
+/**
+ * Copyright (c) 2016, 2019, Oracle and/or its affiliates. All rights reserved.
+ */
+package com.oracle.bmc.retrier;
+
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class ExponentialBackoffRetryStrategyTest {
+
+    @Test
+    public void getDelays_withinJitterCeiling() {
+        ExponentialBackoffRetryStrategy strategy = new ExponentialBackoffRetryStrategy(100L, 1000L);
+        long[] ceilings = {100L, 200L, 400L, 800L, 1000L, 1000L};
+        for (int attempt = 1; attempt <= ceilings.length; attempt++) {
+            for (int i = 0; i < 100; i++) {
+                long delay = strategy.nextDelay(new RetryContext(attempt, null, null));
+                assertTrue(delay >= 0);
+                assertTrue(delay <= ceilings[attempt - 1]);
+            }
+        }
+    }
+
+    @Test
+    public void getDelays_overflow() {
+        ExponentialBackoffRetryStrategy strategy =
+                new ExponentialBackoffRetryStrategy(100L, 30000L);
+        for (int attempt = 1; attempt < 100; attempt++) {
+            long delay = strategy.nextDelay(new RetryContext(attempt, null, null));
+            assertTrue(delay >= 0);
+            assertTrue(delay <= 30000L);
+        }
+    }
+
+    @Test
+    public void getDelays_honorsRetryAfter() {
+        ExponentialBackoffRetryStrategy strategy = new ExponentialBackoffRetryStrategy(100L, 1000L);
+        for (int i = 0; i < 100; i++) {
+            assertTrue(strategy.nextDelay(new RetryContext(1, null, 5000L)) >= 5000L);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+/**
+ * Copyright (c) 2016, 2019, Oracle and/or its affiliates. All rights reserved.
+ */
+package com.oracle.bmc.retrier;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class RetryBudgetTest {
+
+    @Test
+    public void tryAcquire_exhaustsBudget() {
+        RetryBudget budget = new RetryBudget(10, 5, 1);
+        assertTrue(budget.tryAcquire());
+        assertTrue(budget.tryAcquire());
+        assertFalse(budget.tryAcquire());
+        assertEquals(0, budget.getAvailableTokens());
+    }
+
+    @Test
+    public void recordSuccess_refillsUpToCapacity() {
+        RetryBudget budget = new RetryBudget(10, 5, 2);
+        assertTrue(budget.tryAcquire());
+        budget.recordSuccess();
+        assertEquals(7, budget.getAvailableTokens());
+        budget.recordSuccess();
+        budget.recordSuccess();
+        assertEquals(10, budget.getAvailableTokens());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeSettings() {
+        new RetryBudget(-1, 5, 1);
+    }
+}
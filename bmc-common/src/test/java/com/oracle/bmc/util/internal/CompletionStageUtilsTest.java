@@ -0,0 +1,124 @@
+/**
+ * Copyright (c) 2016, 2019, Oracle and/or its affiliates. All rights reserved.
+ */
+package com.oracle.bmc.util.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.google.common.base.Function;
+import com.google.common.base.Supplier;
+import com.oracle.bmc.auth.RefreshableOnNotAuthenticatedProvider;
+import com.oracle.bmc.model.BmcException;
+
+public class CompletionStageUtilsTest {
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private final Supplier<CompletionStage<Integer>> call =
+            new Supplier<CompletionStage<Integer>>() {
+                @Override
+                public CompletionStage<Integer> get() {
+                    return CompletableFuture.completedFuture(calls.incrementAndGet());
+                }
+            };
+
+    // fails with a 401 on the first call only
+    private final Function<Integer, String> transformer =
+            new Function<Integer, String>() {
+                @Override
+                public String apply(Integer attempt) {
+                    if (attempt == 1) {
+                        throw new BmcException(401, "NotAuthenticated", "expired", "id");
+                    }
+                    return "attempt" + attempt;
+                }
+            };
+
+    @Test
+    public void transform_refreshesTokenOn401() throws Exception {
+        RefreshableOnNotAuthenticatedProvider<?> provider =
+                mock(RefreshableOnNotAuthenticatedProvider.class);
+
+        String result =
+                CompletionStageUtils.transform(call, transformer, provider)
+                        .toCompletableFuture()
+                        .get();
+
+        assertEquals("attempt2", result);
+        verify(provider, times(1)).refresh();
+    }
+
+    @Test
+    public void transform_failsIfRetriedCallThrows() throws Exception {
+        final IllegalStateException failure = new IllegalStateException("signing failed");
+        Supplier<CompletionStage<Integer>> throwingRetry =
+                new Supplier<CompletionStage<Integer>>() {
+                    @Override
+                    public CompletionStage<Integer> get() {
+                        if (calls.incrementAndGet() > 1) {
+                            throw failure;
+                        }
+                        return CompletableFuture.completedFuture(1);
+                    }
+                };
+        RefreshableOnNotAuthenticatedProvider<?> provider =
+                mock(RefreshableOnNotAuthenticatedProvider.class);
+
+        try {
+            CompletionStageUtils.transform(throwingRetry, transformer, provider)
+                    .toCompletableFuture()
+                    .get(10, TimeUnit.SECONDS);
+            fail("Should have thrown");
+        } catch (ExecutionException e) {
+            assertSame(failure, e.getCause());
+        }
+        verify(provider, times(1)).refresh();
+    }
+
+    @Test
+    public void transform_doesNotRetryWithoutRefreshableProvider() throws Exception {
+        try {
+            CompletionStageUtils.transform(call, transformer, new Object())
+                    .toCompletableFuture()
+                    .get();
+            fail("Should have thrown");
+        } catch (ExecutionException e) {
+            assertEquals(401, ((BmcException) e.getCause()).getStatusCode());
+        }
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void transform_propagatesCallFailure() throws Exception {
+        final BmcException failure = new BmcException(true, "timeout", null, "id");
+        Supplier<CompletionStage<Integer>> failingCall =
+                new Supplier<CompletionStage<Integer>>() {
+                    @Override
+                    public CompletionStage<Integer> get() {
+                        CompletableFuture<Integer> future = new CompletableFuture<>();
+                        future.completeExceptionally(failure);
+                        return future;
+                    }
+                };
+        try {
+            CompletionStageUtils.transform(failingCall, transformer, new Object())
+                    .toCompletableFuture()
+                    .get();
+            fail("Should have thrown");
+        } catch (ExecutionException e) {
+            assertSame(failure, e.getCause());
+        }
+    }
+}
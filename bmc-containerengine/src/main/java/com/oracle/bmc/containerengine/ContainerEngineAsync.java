@@ -51,6 +51,23 @@ public interface ContainerEngineAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<CreateClusterRequest, CreateClusterResponse>
                     handler);
 
+    /**
+     * Create a new cluster.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreateClusterResponse> createCluster(
+            CreateClusterRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreateClusterRequest, CreateClusterResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createCluster(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Create the Kubeconfig YAML for a cluster.
      *
@@ -66,6 +83,23 @@ public interface ContainerEngineAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<CreateKubeconfigRequest, CreateKubeconfigResponse>
                     handler);
 
+    /**
+     * Create the Kubeconfig YAML for a cluster.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreateKubeconfigResponse> createKubeconfig(
+            CreateKubeconfigRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreateKubeconfigRequest, CreateKubeconfigResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createKubeconfig(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Create a new node pool.
      *
@@ -81,6 +115,23 @@ public interface ContainerEngineAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<CreateNodePoolRequest, CreateNodePoolResponse>
                     handler);
 
+    /**
+     * Create a new node pool.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreateNodePoolResponse> createNodePool(
+            CreateNodePoolRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreateNodePoolRequest, CreateNodePoolResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createNodePool(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Delete a cluster.
      *
@@ -96,6 +147,23 @@ public interface ContainerEngineAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<DeleteClusterRequest, DeleteClusterResponse>
                     handler);
 
+    /**
+     * Delete a cluster.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<DeleteClusterResponse> deleteCluster(
+            DeleteClusterRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        DeleteClusterRequest, DeleteClusterResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        deleteCluster(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Delete a node pool.
      *
@@ -111,6 +179,23 @@ public interface ContainerEngineAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<DeleteNodePoolRequest, DeleteNodePoolResponse>
                     handler);
 
+    /**
+     * Delete a node pool.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<DeleteNodePoolResponse> deleteNodePool(
+            DeleteNodePoolRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        DeleteNodePoolRequest, DeleteNodePoolResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        deleteNodePool(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Cancel a work request that has not started.
      *
@@ -127,6 +212,23 @@ public interface ContainerEngineAsync extends AutoCloseable {
                             DeleteWorkRequestRequest, DeleteWorkRequestResponse>
                     handler);
 
+    /**
+     * Cancel a work request that has not started.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<DeleteWorkRequestResponse> deleteWorkRequest(
+            DeleteWorkRequestRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        DeleteWorkRequestRequest, DeleteWorkRequestResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        deleteWorkRequest(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Get the details of a cluster.
      *
@@ -141,6 +243,23 @@ public interface ContainerEngineAsync extends AutoCloseable {
             GetClusterRequest request,
             com.oracle.bmc.responses.AsyncHandler<GetClusterRequest, GetClusterResponse> handler);
 
+    /**
+     * Get the details of a cluster.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetClusterResponse> getCluster(
+            GetClusterRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetClusterRequest, GetClusterResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getCluster(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Get options available for clusters.
      *
@@ -157,6 +276,23 @@ public interface ContainerEngineAsync extends AutoCloseable {
                             GetClusterOptionsRequest, GetClusterOptionsResponse>
                     handler);
 
+    /**
+     * Get options available for clusters.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetClusterOptionsResponse> getClusterOptions(
+            GetClusterOptionsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetClusterOptionsRequest, GetClusterOptionsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getClusterOptions(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Get the details of a node pool.
      *
@@ -171,6 +307,23 @@ public interface ContainerEngineAsync extends AutoCloseable {
             GetNodePoolRequest request,
             com.oracle.bmc.responses.AsyncHandler<GetNodePoolRequest, GetNodePoolResponse> handler);
 
+    /**
+     * Get the details of a node pool.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetNodePoolResponse> getNodePool(
+            GetNodePoolRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetNodePoolRequest, GetNodePoolResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getNodePool(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Get options available for node pools.
      *
@@ -187,6 +340,23 @@ public interface ContainerEngineAsync extends AutoCloseable {
                             GetNodePoolOptionsRequest, GetNodePoolOptionsResponse>
                     handler);
 
+    /**
+     * Get options available for node pools.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetNodePoolOptionsResponse> getNodePoolOptions(
+            GetNodePoolOptionsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetNodePoolOptionsRequest, GetNodePoolOptionsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getNodePoolOptions(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Get the details of a work request.
      *
@@ -202,6 +372,23 @@ public interface ContainerEngineAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<GetWorkRequestRequest, GetWorkRequestResponse>
                     handler);
 
+    /**
+     * Get the details of a work request.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetWorkRequestResponse> getWorkRequest(
+            GetWorkRequestRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetWorkRequestRequest, GetWorkRequestResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getWorkRequest(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * List all the cluster objects in a compartment.
      *
@@ -217,6 +404,23 @@ public interface ContainerEngineAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<ListClustersRequest, ListClustersResponse>
                     handler);
 
+    /**
+     * List all the cluster objects in a compartment.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListClustersResponse> listClusters(
+            ListClustersRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListClustersRequest, ListClustersResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listClusters(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * List all the node pools in a compartment, and optionally filter by cluster.
      *
@@ -232,6 +436,23 @@ public interface ContainerEngineAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<ListNodePoolsRequest, ListNodePoolsResponse>
                     handler);
 
+    /**
+     * List all the node pools in a compartment, and optionally filter by cluster.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListNodePoolsResponse> listNodePools(
+            ListNodePoolsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListNodePoolsRequest, ListNodePoolsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listNodePools(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Get the errors of a work request.
      *
@@ -248,6 +469,23 @@ public interface ContainerEngineAsync extends AutoCloseable {
                             ListWorkRequestErrorsRequest, ListWorkRequestErrorsResponse>
                     handler);
 
+    /**
+     * Get the errors of a work request.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListWorkRequestErrorsResponse>
+            listWorkRequestErrors(ListWorkRequestErrorsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListWorkRequestErrorsRequest, ListWorkRequestErrorsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listWorkRequestErrors(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Get the logs of a work request.
      *
@@ -264,6 +502,23 @@ public interface ContainerEngineAsync extends AutoCloseable {
                             ListWorkRequestLogsRequest, ListWorkRequestLogsResponse>
                     handler);
 
+    /**
+     * Get the logs of a work request.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListWorkRequestLogsResponse> listWorkRequestLogs(
+            ListWorkRequestLogsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListWorkRequestLogsRequest, ListWorkRequestLogsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listWorkRequestLogs(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * List all work requests in a compartment.
      *
@@ -279,6 +534,23 @@ public interface ContainerEngineAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<ListWorkRequestsRequest, ListWorkRequestsResponse>
                     handler);
 
+    /**
+     * List all work requests in a compartment.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListWorkRequestsResponse> listWorkRequests(
+            ListWorkRequestsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListWorkRequestsRequest, ListWorkRequestsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listWorkRequests(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Update the details of a cluster.
      *
@@ -294,6 +566,23 @@ public interface ContainerEngineAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<UpdateClusterRequest, UpdateClusterResponse>
                     handler);
 
+    /**
+     * Update the details of a cluster.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateClusterResponse> updateCluster(
+            UpdateClusterRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateClusterRequest, UpdateClusterResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateCluster(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Update the details of a node pool.
      *
@@ -308,4 +597,21 @@ public interface ContainerEngineAsync extends AutoCloseable {
             UpdateNodePoolRequest request,
             com.oracle.bmc.responses.AsyncHandler<UpdateNodePoolRequest, UpdateNodePoolResponse>
                     handler);
+
+    /**
+     * Update the details of a node pool.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateNodePoolResponse> updateNodePool(
+            UpdateNodePoolRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateNodePoolRequest, UpdateNodePoolResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateNodePool(request, handler);
+        return handler.getStage();
+    }
 }
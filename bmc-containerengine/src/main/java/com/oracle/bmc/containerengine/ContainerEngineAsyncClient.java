@@ -391,6 +391,33 @@ public class ContainerEngineAsyncClient implements ContainerEngineAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateClusterResponse> createCluster(
+            final CreateClusterRequest request) {
+        LOG.trace("Called async createCluster");
+        final CreateClusterRequest interceptedRequest =
+                CreateClusterConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateClusterConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, CreateClusterResponse>
+                transformer = CreateClusterConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreateClusterDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateKubeconfigResponse> createKubeconfig(
             final CreateKubeconfigRequest request,
@@ -480,6 +507,33 @@ public class ContainerEngineAsyncClient implements ContainerEngineAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateKubeconfigResponse> createKubeconfig(
+            final CreateKubeconfigRequest request) {
+        LOG.trace("Called async createKubeconfig");
+        final CreateKubeconfigRequest interceptedRequest =
+                CreateKubeconfigConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateKubeconfigConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, CreateKubeconfigResponse>
+                transformer = CreateKubeconfigConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreateClusterKubeconfigContentDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateNodePoolResponse> createNodePool(
             final CreateNodePoolRequest request,
@@ -569,6 +623,33 @@ public class ContainerEngineAsyncClient implements ContainerEngineAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateNodePoolResponse> createNodePool(
+            final CreateNodePoolRequest request) {
+        LOG.trace("Called async createNodePool");
+        final CreateNodePoolRequest interceptedRequest =
+                CreateNodePoolConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateNodePoolConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, CreateNodePoolResponse>
+                transformer = CreateNodePoolConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreateNodePoolDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteClusterResponse> deleteCluster(
             final DeleteClusterRequest request,
@@ -642,6 +723,30 @@ public class ContainerEngineAsyncClient implements ContainerEngineAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteClusterResponse> deleteCluster(
+            final DeleteClusterRequest request) {
+        LOG.trace("Called async deleteCluster");
+        final DeleteClusterRequest interceptedRequest =
+                DeleteClusterConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteClusterConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, DeleteClusterResponse>
+                transformer = DeleteClusterConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteNodePoolResponse> deleteNodePool(
             final DeleteNodePoolRequest request,
@@ -716,6 +821,30 @@ public class ContainerEngineAsyncClient implements ContainerEngineAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteNodePoolResponse> deleteNodePool(
+            final DeleteNodePoolRequest request) {
+        LOG.trace("Called async deleteNodePool");
+        final DeleteNodePoolRequest interceptedRequest =
+                DeleteNodePoolConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteNodePoolConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, DeleteNodePoolResponse>
+                transformer = DeleteNodePoolConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteWorkRequestResponse> deleteWorkRequest(
             final DeleteWorkRequestRequest request,
@@ -790,6 +919,30 @@ public class ContainerEngineAsyncClient implements ContainerEngineAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteWorkRequestResponse> deleteWorkRequest(
+            final DeleteWorkRequestRequest request) {
+        LOG.trace("Called async deleteWorkRequest");
+        final DeleteWorkRequestRequest interceptedRequest =
+                DeleteWorkRequestConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteWorkRequestConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, DeleteWorkRequestResponse>
+                transformer = DeleteWorkRequestConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetClusterResponse> getCluster(
             final GetClusterRequest request,
@@ -862,6 +1015,29 @@ public class ContainerEngineAsyncClient implements ContainerEngineAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetClusterResponse> getCluster(
+            final GetClusterRequest request) {
+        LOG.trace("Called async getCluster");
+        final GetClusterRequest interceptedRequest = GetClusterConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetClusterConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetClusterResponse>
+                transformer = GetClusterConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetClusterOptionsResponse> getClusterOptions(
             final GetClusterOptionsRequest request,
@@ -936,6 +1112,30 @@ public class ContainerEngineAsyncClient implements ContainerEngineAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetClusterOptionsResponse> getClusterOptions(
+            final GetClusterOptionsRequest request) {
+        LOG.trace("Called async getClusterOptions");
+        final GetClusterOptionsRequest interceptedRequest =
+                GetClusterOptionsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetClusterOptionsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetClusterOptionsResponse>
+                transformer = GetClusterOptionsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetNodePoolResponse> getNodePool(
             final GetNodePoolRequest request,
@@ -1009,6 +1209,30 @@ public class ContainerEngineAsyncClient implements ContainerEngineAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetNodePoolResponse> getNodePool(
+            final GetNodePoolRequest request) {
+        LOG.trace("Called async getNodePool");
+        final GetNodePoolRequest interceptedRequest =
+                GetNodePoolConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetNodePoolConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetNodePoolResponse>
+                transformer = GetNodePoolConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetNodePoolOptionsResponse> getNodePoolOptions(
             final GetNodePoolOptionsRequest request,
@@ -1083,6 +1307,30 @@ public class ContainerEngineAsyncClient implements ContainerEngineAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetNodePoolOptionsResponse> getNodePoolOptions(
+            final GetNodePoolOptionsRequest request) {
+        LOG.trace("Called async getNodePoolOptions");
+        final GetNodePoolOptionsRequest interceptedRequest =
+                GetNodePoolOptionsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetNodePoolOptionsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetNodePoolOptionsResponse>
+                transformer = GetNodePoolOptionsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetWorkRequestResponse> getWorkRequest(
             final GetWorkRequestRequest request,
@@ -1157,6 +1405,30 @@ public class ContainerEngineAsyncClient implements ContainerEngineAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetWorkRequestResponse> getWorkRequest(
+            final GetWorkRequestRequest request) {
+        LOG.trace("Called async getWorkRequest");
+        final GetWorkRequestRequest interceptedRequest =
+                GetWorkRequestConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetWorkRequestConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetWorkRequestResponse>
+                transformer = GetWorkRequestConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListClustersResponse> listClusters(
             final ListClustersRequest request,
@@ -1230,6 +1502,30 @@ public class ContainerEngineAsyncClient implements ContainerEngineAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListClustersResponse> listClusters(
+            final ListClustersRequest request) {
+        LOG.trace("Called async listClusters");
+        final ListClustersRequest interceptedRequest =
+                ListClustersConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListClustersConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListClustersResponse>
+                transformer = ListClustersConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListNodePoolsResponse> listNodePools(
             final ListNodePoolsRequest request,
@@ -1303,6 +1599,30 @@ public class ContainerEngineAsyncClient implements ContainerEngineAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListNodePoolsResponse> listNodePools(
+            final ListNodePoolsRequest request) {
+        LOG.trace("Called async listNodePools");
+        final ListNodePoolsRequest interceptedRequest =
+                ListNodePoolsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListNodePoolsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListNodePoolsResponse>
+                transformer = ListNodePoolsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListWorkRequestErrorsResponse> listWorkRequestErrors(
             final ListWorkRequestErrorsRequest request,
@@ -1379,6 +1699,31 @@ public class ContainerEngineAsyncClient implements ContainerEngineAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListWorkRequestErrorsResponse>
+            listWorkRequestErrors(final ListWorkRequestErrorsRequest request) {
+        LOG.trace("Called async listWorkRequestErrors");
+        final ListWorkRequestErrorsRequest interceptedRequest =
+                ListWorkRequestErrorsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListWorkRequestErrorsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, ListWorkRequestErrorsResponse>
+                transformer = ListWorkRequestErrorsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListWorkRequestLogsResponse> listWorkRequestLogs(
             final ListWorkRequestLogsRequest request,
@@ -1455,6 +1800,31 @@ public class ContainerEngineAsyncClient implements ContainerEngineAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListWorkRequestLogsResponse> listWorkRequestLogs(
+            final ListWorkRequestLogsRequest request) {
+        LOG.trace("Called async listWorkRequestLogs");
+        final ListWorkRequestLogsRequest interceptedRequest =
+                ListWorkRequestLogsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListWorkRequestLogsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, ListWorkRequestLogsResponse>
+                transformer = ListWorkRequestLogsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListWorkRequestsResponse> listWorkRequests(
             final ListWorkRequestsRequest request,
@@ -1529,6 +1899,30 @@ public class ContainerEngineAsyncClient implements ContainerEngineAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListWorkRequestsResponse> listWorkRequests(
+            final ListWorkRequestsRequest request) {
+        LOG.trace("Called async listWorkRequests");
+        final ListWorkRequestsRequest interceptedRequest =
+                ListWorkRequestsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListWorkRequestsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListWorkRequestsResponse>
+                transformer = ListWorkRequestsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateClusterResponse> updateCluster(
             final UpdateClusterRequest request,
@@ -1617,6 +2011,33 @@ public class ContainerEngineAsyncClient implements ContainerEngineAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateClusterResponse> updateCluster(
+            final UpdateClusterRequest request) {
+        LOG.trace("Called async updateCluster");
+        final UpdateClusterRequest interceptedRequest =
+                UpdateClusterConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateClusterConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, UpdateClusterResponse>
+                transformer = UpdateClusterConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdateClusterDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateNodePoolResponse> updateNodePool(
             final UpdateNodePoolRequest request,
@@ -1705,4 +2126,31 @@ public class ContainerEngineAsyncClient implements ContainerEngineAsync {
                     responseFuture, transformer);
         }
     }
+
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateNodePoolResponse> updateNodePool(
+            final UpdateNodePoolRequest request) {
+        LOG.trace("Called async updateNodePool");
+        final UpdateNodePoolRequest interceptedRequest =
+                UpdateNodePoolConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateNodePoolConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, UpdateNodePoolResponse>
+                transformer = UpdateNodePoolConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdateNodePoolDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
 }
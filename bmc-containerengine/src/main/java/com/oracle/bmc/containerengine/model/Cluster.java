@@ -123,7 +123,8 @@ public class Cluster {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public Cluster build() {
             Cluster __instance__ =
@@ -236,6 +237,21 @@ public class Cluster {
     @com.fasterxml.jackson.annotation.JsonProperty("availableKubernetesUpgrades")
     java.util.List<String> availableKubernetesUpgrades;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "id",
+                    "name",
+                    "compartmentId",
+                    "vcnId",
+                    "kubernetesVersion",
+                    "options",
+                    "metadata",
+                    "lifecycleState",
+                    "lifecycleDetails",
+                    "endpoints",
+                    "availableKubernetesUpgrades");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
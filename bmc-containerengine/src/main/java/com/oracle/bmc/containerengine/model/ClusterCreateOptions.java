@@ -52,7 +52,8 @@ public class ClusterCreateOptions {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public ClusterCreateOptions build() {
             ClusterCreateOptions __instance__ =
@@ -98,6 +99,11 @@ public class ClusterCreateOptions {
     @com.fasterxml.jackson.annotation.JsonProperty("addOns")
     AddOnOptions addOns;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "serviceLbSubnetIds", "kubernetesNetworkConfig", "addOns");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
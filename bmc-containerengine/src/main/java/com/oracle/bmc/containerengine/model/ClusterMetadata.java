@@ -104,7 +104,8 @@ public class ClusterMetadata {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public ClusterMetadata build() {
             ClusterMetadata __instance__ =
@@ -201,6 +202,19 @@ public class ClusterMetadata {
     @com.fasterxml.jackson.annotation.JsonProperty("updatedByWorkRequestId")
     String updatedByWorkRequestId;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "timeCreated",
+                    "createdByUserId",
+                    "createdByWorkRequestId",
+                    "timeDeleted",
+                    "deletedByUserId",
+                    "deletedByWorkRequestId",
+                    "timeUpdated",
+                    "updatedByUserId",
+                    "updatedByWorkRequestId");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -32,7 +32,8 @@ public class ClusterOptions {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public ClusterOptions build() {
             ClusterOptions __instance__ = new ClusterOptions(kubernetesVersions);
@@ -62,6 +63,10 @@ public class ClusterOptions {
     @com.fasterxml.jackson.annotation.JsonProperty("kubernetesVersions")
     java.util.List<String> kubernetesVersions;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of("kubernetesVersions");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -43,7 +43,8 @@ public class CreateClusterKubeconfigContentDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public CreateClusterKubeconfigContentDetails build() {
             CreateClusterKubeconfigContentDetails __instance__ =
@@ -80,6 +81,10 @@ public class CreateClusterKubeconfigContentDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("expiration")
     Integer expiration;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of("tokenVersion", "expiration");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
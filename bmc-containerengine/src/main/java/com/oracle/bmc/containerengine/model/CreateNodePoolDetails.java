@@ -124,7 +124,8 @@ public class CreateNodePoolDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public CreateNodePoolDetails build() {
             CreateNodePoolDetails __instance__ =
@@ -237,6 +238,21 @@ public class CreateNodePoolDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("subnetIds")
     java.util.List<String> subnetIds;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "compartmentId",
+                    "clusterId",
+                    "name",
+                    "kubernetesVersion",
+                    "nodeMetadata",
+                    "nodeImageName",
+                    "nodeShape",
+                    "initialNodeLabels",
+                    "sshPublicKey",
+                    "quantityPerSubnet",
+                    "subnetIds");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -149,7 +149,8 @@ public class NodePool {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public NodePool build() {
             NodePool __instance__ =
@@ -286,6 +287,24 @@ public class NodePool {
     @com.fasterxml.jackson.annotation.JsonProperty("nodes")
     java.util.List<Node> nodes;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "id",
+                    "compartmentId",
+                    "clusterId",
+                    "name",
+                    "kubernetesVersion",
+                    "nodeMetadata",
+                    "nodeImageId",
+                    "nodeImageName",
+                    "nodeShape",
+                    "initialNodeLabels",
+                    "sshPublicKey",
+                    "quantityPerSubnet",
+                    "subnetIds",
+                    "nodes");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
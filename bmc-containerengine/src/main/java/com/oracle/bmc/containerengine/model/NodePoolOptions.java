@@ -50,7 +50,8 @@ public class NodePoolOptions {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public NodePoolOptions build() {
             NodePoolOptions __instance__ = new NodePoolOptions(kubernetesVersions, images, shapes);
@@ -95,6 +96,11 @@ public class NodePoolOptions {
     @com.fasterxml.jackson.annotation.JsonProperty("shapes")
     java.util.List<String> shapes;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "kubernetesVersions", "images", "shapes");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -131,7 +131,8 @@ public class NodePoolSummary {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public NodePoolSummary build() {
             NodePoolSummary __instance__ =
@@ -252,6 +253,22 @@ public class NodePoolSummary {
     @com.fasterxml.jackson.annotation.JsonProperty("subnetIds")
     java.util.List<String> subnetIds;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "id",
+                    "compartmentId",
+                    "clusterId",
+                    "name",
+                    "kubernetesVersion",
+                    "nodeImageId",
+                    "nodeImageName",
+                    "nodeShape",
+                    "initialNodeLabels",
+                    "sshPublicKey",
+                    "quantityPerSubnet",
+                    "subnetIds");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
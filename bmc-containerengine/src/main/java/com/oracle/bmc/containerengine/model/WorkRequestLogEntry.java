@@ -43,7 +43,8 @@ public class WorkRequestLogEntry {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public WorkRequestLogEntry build() {
             WorkRequestLogEntry __instance__ = new WorkRequestLogEntry(message, timestamp);
@@ -79,6 +80,10 @@ public class WorkRequestLogEntry {
     @com.fasterxml.jackson.annotation.JsonProperty("timestamp")
     String timestamp;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of("message", "timestamp");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
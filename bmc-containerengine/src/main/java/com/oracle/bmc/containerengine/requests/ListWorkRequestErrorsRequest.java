@@ -30,6 +30,7 @@ public class ListWorkRequestErrorsRequest extends com.oracle.bmc.requests.BmcReq
     public static class Builder {
         private com.oracle.bmc.util.internal.Consumer<javax.ws.rs.client.Invocation.Builder>
                 invocationCallback = null;
+        private com.oracle.bmc.retrier.RetryConfiguration retryConfiguration = null;
 
         /**
          * Set the invocation callback for the request to be built.
@@ -43,6 +44,17 @@ public class ListWorkRequestErrorsRequest extends com.oracle.bmc.requests.BmcReq
             return this;
         }
 
+        /**
+         * Set the retry configuration for the request to be built.
+         * @param retryConfiguration the retry configuration to be used for the request
+         * @return this builder instance
+         */
+        public Builder retryConfiguration(
+                com.oracle.bmc.retrier.RetryConfiguration retryConfiguration) {
+            this.retryConfiguration = retryConfiguration;
+            return this;
+        }
+
         /**
          * Copy method to populate the builder with values from the given instance.
          * @return this builder instance
@@ -52,6 +64,7 @@ public class ListWorkRequestErrorsRequest extends com.oracle.bmc.requests.BmcReq
             workRequestId(o.getWorkRequestId());
             opcRequestId(o.getOpcRequestId());
             invocationCallback(o.getInvocationCallback());
+            retryConfiguration(o.getRetryConfiguration());
             return this;
         }
 
@@ -68,6 +81,7 @@ public class ListWorkRequestErrorsRequest extends com.oracle.bmc.requests.BmcReq
         public ListWorkRequestErrorsRequest build() {
             ListWorkRequestErrorsRequest request = buildWithoutInvocationCallback();
             request.setInvocationCallback(invocationCallback);
+            request.setRetryConfiguration(retryConfiguration);
             return request;
         }
     }
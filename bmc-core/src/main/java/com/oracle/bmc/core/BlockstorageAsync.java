@@ -53,6 +53,25 @@ public interface BlockstorageAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<CopyVolumeBackupRequest, CopyVolumeBackupResponse>
                     handler);
 
+    /**
+     * Creates a volume backup copy in specified region. For general information about volume backups,
+     * see [Overview of Block Volume Service Backups](https://docs.cloud.oracle.com/Content/Block/Concepts/blockvolumebackups.htm)
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CopyVolumeBackupResponse> copyVolumeBackup(
+            CopyVolumeBackupRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CopyVolumeBackupRequest, CopyVolumeBackupResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        copyVolumeBackup(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Creates a new boot volume in the specified compartment from an existing boot volume or a boot volume backup.
      * For general information about boot volumes, see [Boot Volumes](https://docs.cloud.oracle.com/Content/Block/Concepts/bootvolumes.htm).
@@ -72,6 +91,27 @@ public interface BlockstorageAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<CreateBootVolumeRequest, CreateBootVolumeResponse>
                     handler);
 
+    /**
+     * Creates a new boot volume in the specified compartment from an existing boot volume or a boot volume backup.
+     * For general information about boot volumes, see [Boot Volumes](https://docs.cloud.oracle.com/Content/Block/Concepts/bootvolumes.htm).
+     * You may optionally specify a *display name* for the volume, which is simply a friendly name or
+     * description. It does not have to be unique, and you can change it. Avoid entering confidential information.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreateBootVolumeResponse> createBootVolume(
+            CreateBootVolumeRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreateBootVolumeRequest, CreateBootVolumeResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createBootVolume(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Creates a new boot volume backup of the specified boot volume. For general information about boot volume backups,
      * see [Overview of Boot Volume Backups](https://docs.cloud.oracle.com/Content/Block/Concepts/bootvolumebackups.htm)
@@ -94,6 +134,29 @@ public interface BlockstorageAsync extends AutoCloseable {
                             CreateBootVolumeBackupRequest, CreateBootVolumeBackupResponse>
                     handler);
 
+    /**
+     * Creates a new boot volume backup of the specified boot volume. For general information about boot volume backups,
+     * see [Overview of Boot Volume Backups](https://docs.cloud.oracle.com/Content/Block/Concepts/bootvolumebackups.htm)
+     * <p>
+     * When the request is received, the backup object is in a REQUEST_RECEIVED state.
+     * When the data is imaged, it goes into a CREATING state.
+     * After the backup is fully uploaded to the cloud, it goes into an AVAILABLE state.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreateBootVolumeBackupResponse>
+            createBootVolumeBackup(CreateBootVolumeBackupRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreateBootVolumeBackupRequest, CreateBootVolumeBackupResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createBootVolumeBackup(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Creates a new volume in the specified compartment. Volumes can be created in sizes ranging from
      * 50 GB (51200 MB) to 32 TB (33554432 MB), in 1 GB (1024 MB) increments. By default, volumes are 1 TB (1048576 MB).
@@ -123,6 +186,37 @@ public interface BlockstorageAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<CreateVolumeRequest, CreateVolumeResponse>
                     handler);
 
+    /**
+     * Creates a new volume in the specified compartment. Volumes can be created in sizes ranging from
+     * 50 GB (51200 MB) to 32 TB (33554432 MB), in 1 GB (1024 MB) increments. By default, volumes are 1 TB (1048576 MB).
+     * For general information about block volumes, see
+     * [Overview of Block Volume Service](https://docs.cloud.oracle.com/Content/Block/Concepts/overview.htm).
+     * <p>
+     * A volume and instance can be in separate compartments but must be in the same availability domain.
+     * For information about access control and compartments, see
+     * [Overview of the IAM Service](https://docs.cloud.oracle.com/Content/Identity/Concepts/overview.htm). For information about
+     * availability domains, see [Regions and Availability Domains](https://docs.cloud.oracle.com/Content/General/Concepts/regions.htm).
+     * To get a list of availability domains, use the `ListAvailabilityDomains` operation
+     * in the Identity and Access Management Service API.
+     * <p>
+     * You may optionally specify a *display name* for the volume, which is simply a friendly name or
+     * description. It does not have to be unique, and you can change it. Avoid entering confidential information.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreateVolumeResponse> createVolume(
+            CreateVolumeRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreateVolumeRequest, CreateVolumeResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createVolume(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Creates a new backup of the specified volume. For general information about volume backups,
      * see [Overview of Block Volume Service Backups](https://docs.cloud.oracle.com/Content/Block/Concepts/blockvolumebackups.htm)
@@ -145,6 +239,29 @@ public interface BlockstorageAsync extends AutoCloseable {
                             CreateVolumeBackupRequest, CreateVolumeBackupResponse>
                     handler);
 
+    /**
+     * Creates a new backup of the specified volume. For general information about volume backups,
+     * see [Overview of Block Volume Service Backups](https://docs.cloud.oracle.com/Content/Block/Concepts/blockvolumebackups.htm)
+     * <p>
+     * When the request is received, the backup object is in a REQUEST_RECEIVED state.
+     * When the data is imaged, it goes into a CREATING state.
+     * After the backup is fully uploaded to the cloud, it goes into an AVAILABLE state.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreateVolumeBackupResponse> createVolumeBackup(
+            CreateVolumeBackupRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreateVolumeBackupRequest, CreateVolumeBackupResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createVolumeBackup(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Assigns a policy to the specified asset, such as a volume. Note that a given asset can
      * only have one policy assigned to it; if this method is called for an asset that previously
@@ -166,6 +283,27 @@ public interface BlockstorageAsync extends AutoCloseable {
                                     CreateVolumeBackupPolicyAssignmentResponse>
                             handler);
 
+    /**
+     * Assigns a policy to the specified asset, such as a volume. Note that a given asset can
+     * only have one policy assigned to it; if this method is called for an asset that previously
+     * has a different policy assigned, the prior assignment will be silently deleted.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreateVolumeBackupPolicyAssignmentResponse>
+            createVolumeBackupPolicyAssignment(CreateVolumeBackupPolicyAssignmentRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreateVolumeBackupPolicyAssignmentRequest,
+                        CreateVolumeBackupPolicyAssignmentResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createVolumeBackupPolicyAssignment(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Creates a new volume group in the specified compartment.
      * A volume group is a collection of volumes and may be created from a list of volumes, cloning an existing
@@ -189,6 +327,30 @@ public interface BlockstorageAsync extends AutoCloseable {
                             CreateVolumeGroupRequest, CreateVolumeGroupResponse>
                     handler);
 
+    /**
+     * Creates a new volume group in the specified compartment.
+     * A volume group is a collection of volumes and may be created from a list of volumes, cloning an existing
+     * volume group, or by restoring a volume group backup. A volume group can contain up to 64 volumes.
+     * You may optionally specify a *display name* for the volume group, which is simply a friendly name or
+     * description. It does not have to be unique, and you can change it. Avoid entering confidential information.
+     * <p>
+     * For more information, see [Volume Groups](https://docs.cloud.oracle.com/Content/Block/Concepts/volumegroups.htm).
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreateVolumeGroupResponse> createVolumeGroup(
+            CreateVolumeGroupRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreateVolumeGroupRequest, CreateVolumeGroupResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createVolumeGroup(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Creates a new backup volume group of the specified volume group.
      * For more information, see [Volume Groups](https://docs.cloud.oracle.com/Content/Block/Concepts/volumegroups.htm).
@@ -207,6 +369,25 @@ public interface BlockstorageAsync extends AutoCloseable {
                             CreateVolumeGroupBackupRequest, CreateVolumeGroupBackupResponse>
                     handler);
 
+    /**
+     * Creates a new backup volume group of the specified volume group.
+     * For more information, see [Volume Groups](https://docs.cloud.oracle.com/Content/Block/Concepts/volumegroups.htm).
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreateVolumeGroupBackupResponse>
+            createVolumeGroupBackup(CreateVolumeGroupBackupRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreateVolumeGroupBackupRequest, CreateVolumeGroupBackupResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createVolumeGroupBackup(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Deletes the specified boot volume. The volume cannot have an active connection to an instance.
      * To disconnect the boot volume from a connected instance, see
@@ -226,6 +407,27 @@ public interface BlockstorageAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<DeleteBootVolumeRequest, DeleteBootVolumeResponse>
                     handler);
 
+    /**
+     * Deletes the specified boot volume. The volume cannot have an active connection to an instance.
+     * To disconnect the boot volume from a connected instance, see
+     * [Disconnecting From a Boot Volume](https://docs.cloud.oracle.com/Content/Block/Tasks/deletingbootvolume.htm).
+     * **Warning:** All data on the boot volume will be permanently lost when the boot volume is deleted.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<DeleteBootVolumeResponse> deleteBootVolume(
+            DeleteBootVolumeRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        DeleteBootVolumeRequest, DeleteBootVolumeResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        deleteBootVolume(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Deletes a boot volume backup.
      *
@@ -242,6 +444,23 @@ public interface BlockstorageAsync extends AutoCloseable {
                             DeleteBootVolumeBackupRequest, DeleteBootVolumeBackupResponse>
                     handler);
 
+    /**
+     * Deletes a boot volume backup.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<DeleteBootVolumeBackupResponse>
+            deleteBootVolumeBackup(DeleteBootVolumeBackupRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        DeleteBootVolumeBackupRequest, DeleteBootVolumeBackupResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        deleteBootVolumeBackup(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Remove kms for the specific boot volume. If the volume doesn't use KMS, then do nothing.
      *
@@ -259,6 +478,24 @@ public interface BlockstorageAsync extends AutoCloseable {
                             DeleteBootVolumeKmsKeyRequest, DeleteBootVolumeKmsKeyResponse>
                     handler);
 
+    /**
+     * Remove kms for the specific boot volume. If the volume doesn't use KMS, then do nothing.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<DeleteBootVolumeKmsKeyResponse>
+            deleteBootVolumeKmsKey(DeleteBootVolumeKmsKeyRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        DeleteBootVolumeKmsKeyRequest, DeleteBootVolumeKmsKeyResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        deleteBootVolumeKmsKey(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Deletes the specified volume. The volume cannot have an active connection to an instance.
      * To disconnect the volume from a connected instance, see
@@ -278,6 +515,27 @@ public interface BlockstorageAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<DeleteVolumeRequest, DeleteVolumeResponse>
                     handler);
 
+    /**
+     * Deletes the specified volume. The volume cannot have an active connection to an instance.
+     * To disconnect the volume from a connected instance, see
+     * [Disconnecting From a Volume](https://docs.cloud.oracle.com/Content/Block/Tasks/disconnectingfromavolume.htm).
+     * **Warning:** All data on the volume will be permanently lost when the volume is deleted.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<DeleteVolumeResponse> deleteVolume(
+            DeleteVolumeRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        DeleteVolumeRequest, DeleteVolumeResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        deleteVolume(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Deletes a volume backup.
      *
@@ -294,6 +552,23 @@ public interface BlockstorageAsync extends AutoCloseable {
                             DeleteVolumeBackupRequest, DeleteVolumeBackupResponse>
                     handler);
 
+    /**
+     * Deletes a volume backup.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<DeleteVolumeBackupResponse> deleteVolumeBackup(
+            DeleteVolumeBackupRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        DeleteVolumeBackupRequest, DeleteVolumeBackupResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        deleteVolumeBackup(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Deletes a volume backup policy assignment (i.e. unassigns the policy from an asset).
      *
@@ -312,6 +587,24 @@ public interface BlockstorageAsync extends AutoCloseable {
                                     DeleteVolumeBackupPolicyAssignmentResponse>
                             handler);
 
+    /**
+     * Deletes a volume backup policy assignment (i.e. unassigns the policy from an asset).
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<DeleteVolumeBackupPolicyAssignmentResponse>
+            deleteVolumeBackupPolicyAssignment(DeleteVolumeBackupPolicyAssignmentRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        DeleteVolumeBackupPolicyAssignmentRequest,
+                        DeleteVolumeBackupPolicyAssignmentResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        deleteVolumeBackupPolicyAssignment(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Deletes the specified volume group. Individual volumes are not deleted, only the volume group is deleted.
      * For more information, see [Volume Groups](https://docs.cloud.oracle.com/Content/Block/Concepts/volumegroups.htm).
@@ -330,6 +623,25 @@ public interface BlockstorageAsync extends AutoCloseable {
                             DeleteVolumeGroupRequest, DeleteVolumeGroupResponse>
                     handler);
 
+    /**
+     * Deletes the specified volume group. Individual volumes are not deleted, only the volume group is deleted.
+     * For more information, see [Volume Groups](https://docs.cloud.oracle.com/Content/Block/Concepts/volumegroups.htm).
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<DeleteVolumeGroupResponse> deleteVolumeGroup(
+            DeleteVolumeGroupRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        DeleteVolumeGroupRequest, DeleteVolumeGroupResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        deleteVolumeGroup(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Deletes a volume group backup. This operation deletes all the backups in the volume group. For more information, see [Volume Groups](https://docs.cloud.oracle.com/Content/Block/Concepts/volumegroups.htm).
      *
@@ -346,6 +658,23 @@ public interface BlockstorageAsync extends AutoCloseable {
                             DeleteVolumeGroupBackupRequest, DeleteVolumeGroupBackupResponse>
                     handler);
 
+    /**
+     * Deletes a volume group backup. This operation deletes all the backups in the volume group. For more information, see [Volume Groups](https://docs.cloud.oracle.com/Content/Block/Concepts/volumegroups.htm).
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<DeleteVolumeGroupBackupResponse>
+            deleteVolumeGroupBackup(DeleteVolumeGroupBackupRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        DeleteVolumeGroupBackupRequest, DeleteVolumeGroupBackupResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        deleteVolumeGroupBackup(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Remove kms for the specific volume. If the volume doesn't use KMS, then do nothing.
      *
@@ -363,6 +692,24 @@ public interface BlockstorageAsync extends AutoCloseable {
                             DeleteVolumeKmsKeyRequest, DeleteVolumeKmsKeyResponse>
                     handler);
 
+    /**
+     * Remove kms for the specific volume. If the volume doesn't use KMS, then do nothing.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<DeleteVolumeKmsKeyResponse> deleteVolumeKmsKey(
+            DeleteVolumeKmsKeyRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        DeleteVolumeKmsKeyRequest, DeleteVolumeKmsKeyResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        deleteVolumeKmsKey(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets information for the specified boot volume.
      *
@@ -378,6 +725,23 @@ public interface BlockstorageAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<GetBootVolumeRequest, GetBootVolumeResponse>
                     handler);
 
+    /**
+     * Gets information for the specified boot volume.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetBootVolumeResponse> getBootVolume(
+            GetBootVolumeRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetBootVolumeRequest, GetBootVolumeResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getBootVolume(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets information for the specified boot volume backup.
      *
@@ -394,6 +758,23 @@ public interface BlockstorageAsync extends AutoCloseable {
                             GetBootVolumeBackupRequest, GetBootVolumeBackupResponse>
                     handler);
 
+    /**
+     * Gets information for the specified boot volume backup.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetBootVolumeBackupResponse> getBootVolumeBackup(
+            GetBootVolumeBackupRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetBootVolumeBackupRequest, GetBootVolumeBackupResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getBootVolumeBackup(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets kms key id for the specified boot volume.
      *
@@ -411,6 +792,24 @@ public interface BlockstorageAsync extends AutoCloseable {
                             GetBootVolumeKmsKeyRequest, GetBootVolumeKmsKeyResponse>
                     handler);
 
+    /**
+     * Gets kms key id for the specified boot volume.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetBootVolumeKmsKeyResponse> getBootVolumeKmsKey(
+            GetBootVolumeKmsKeyRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetBootVolumeKmsKeyRequest, GetBootVolumeKmsKeyResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getBootVolumeKmsKey(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets information for the specified volume.
      *
@@ -425,6 +824,23 @@ public interface BlockstorageAsync extends AutoCloseable {
             GetVolumeRequest request,
             com.oracle.bmc.responses.AsyncHandler<GetVolumeRequest, GetVolumeResponse> handler);
 
+    /**
+     * Gets information for the specified volume.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetVolumeResponse> getVolume(
+            GetVolumeRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetVolumeRequest, GetVolumeResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getVolume(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets information for the specified volume backup.
      *
@@ -440,6 +856,23 @@ public interface BlockstorageAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<GetVolumeBackupRequest, GetVolumeBackupResponse>
                     handler);
 
+    /**
+     * Gets information for the specified volume backup.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetVolumeBackupResponse> getVolumeBackup(
+            GetVolumeBackupRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetVolumeBackupRequest, GetVolumeBackupResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getVolumeBackup(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets information for the specified volume backup policy.
      *
@@ -456,6 +889,23 @@ public interface BlockstorageAsync extends AutoCloseable {
                             GetVolumeBackupPolicyRequest, GetVolumeBackupPolicyResponse>
                     handler);
 
+    /**
+     * Gets information for the specified volume backup policy.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetVolumeBackupPolicyResponse>
+            getVolumeBackupPolicy(GetVolumeBackupPolicyRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetVolumeBackupPolicyRequest, GetVolumeBackupPolicyResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getVolumeBackupPolicy(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the volume backup policy assignment for the specified asset. Note that the
      * assetId query parameter is required, and that the returned list will contain at most
@@ -477,6 +927,28 @@ public interface BlockstorageAsync extends AutoCloseable {
                                     GetVolumeBackupPolicyAssetAssignmentResponse>
                             handler);
 
+    /**
+     * Gets the volume backup policy assignment for the specified asset. Note that the
+     * assetId query parameter is required, and that the returned list will contain at most
+     * one item (since any given asset can only have one policy assigned to it).
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetVolumeBackupPolicyAssetAssignmentResponse>
+            getVolumeBackupPolicyAssetAssignment(
+                    GetVolumeBackupPolicyAssetAssignmentRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetVolumeBackupPolicyAssetAssignmentRequest,
+                        GetVolumeBackupPolicyAssetAssignmentResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getVolumeBackupPolicyAssetAssignment(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets information for the specified volume backup policy assignment.
      *
@@ -495,6 +967,24 @@ public interface BlockstorageAsync extends AutoCloseable {
                                     GetVolumeBackupPolicyAssignmentResponse>
                             handler);
 
+    /**
+     * Gets information for the specified volume backup policy assignment.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetVolumeBackupPolicyAssignmentResponse>
+            getVolumeBackupPolicyAssignment(GetVolumeBackupPolicyAssignmentRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetVolumeBackupPolicyAssignmentRequest,
+                        GetVolumeBackupPolicyAssignmentResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getVolumeBackupPolicyAssignment(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets information for the specified volume group. For more information, see [Volume Groups](https://docs.cloud.oracle.com/Content/Block/Concepts/volumegroups.htm).
      *
@@ -510,6 +1000,23 @@ public interface BlockstorageAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<GetVolumeGroupRequest, GetVolumeGroupResponse>
                     handler);
 
+    /**
+     * Gets information for the specified volume group. For more information, see [Volume Groups](https://docs.cloud.oracle.com/Content/Block/Concepts/volumegroups.htm).
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetVolumeGroupResponse> getVolumeGroup(
+            GetVolumeGroupRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetVolumeGroupRequest, GetVolumeGroupResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getVolumeGroup(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets information for the specified volume group backup. For more information, see [Volume Groups](https://docs.cloud.oracle.com/Content/Block/Concepts/volumegroups.htm).
      *
@@ -526,6 +1033,23 @@ public interface BlockstorageAsync extends AutoCloseable {
                             GetVolumeGroupBackupRequest, GetVolumeGroupBackupResponse>
                     handler);
 
+    /**
+     * Gets information for the specified volume group backup. For more information, see [Volume Groups](https://docs.cloud.oracle.com/Content/Block/Concepts/volumegroups.htm).
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetVolumeGroupBackupResponse> getVolumeGroupBackup(
+            GetVolumeGroupBackupRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetVolumeGroupBackupRequest, GetVolumeGroupBackupResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getVolumeGroupBackup(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets kms key id for the specified volume.
      *
@@ -542,6 +1066,24 @@ public interface BlockstorageAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<GetVolumeKmsKeyRequest, GetVolumeKmsKeyResponse>
                     handler);
 
+    /**
+     * Gets kms key id for the specified volume.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetVolumeKmsKeyResponse> getVolumeKmsKey(
+            GetVolumeKmsKeyRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetVolumeKmsKeyRequest, GetVolumeKmsKeyResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getVolumeKmsKey(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists the boot volume backups in the specified compartment. You can filter the results by boot volume.
      *
@@ -559,6 +1101,24 @@ public interface BlockstorageAsync extends AutoCloseable {
                             ListBootVolumeBackupsRequest, ListBootVolumeBackupsResponse>
                     handler);
 
+    /**
+     * Lists the boot volume backups in the specified compartment. You can filter the results by boot volume.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListBootVolumeBackupsResponse>
+            listBootVolumeBackups(ListBootVolumeBackupsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListBootVolumeBackupsRequest, ListBootVolumeBackupsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listBootVolumeBackups(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists the boot volumes in the specified compartment and availability domain.
      *
@@ -575,6 +1135,24 @@ public interface BlockstorageAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<ListBootVolumesRequest, ListBootVolumesResponse>
                     handler);
 
+    /**
+     * Lists the boot volumes in the specified compartment and availability domain.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListBootVolumesResponse> listBootVolumes(
+            ListBootVolumesRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListBootVolumesRequest, ListBootVolumesResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listBootVolumes(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists all volume backup policies available to the caller.
      *
@@ -591,6 +1169,23 @@ public interface BlockstorageAsync extends AutoCloseable {
                             ListVolumeBackupPoliciesRequest, ListVolumeBackupPoliciesResponse>
                     handler);
 
+    /**
+     * Lists all volume backup policies available to the caller.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListVolumeBackupPoliciesResponse>
+            listVolumeBackupPolicies(ListVolumeBackupPoliciesRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListVolumeBackupPoliciesRequest, ListVolumeBackupPoliciesResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listVolumeBackupPolicies(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists the volume backups in the specified compartment. You can filter the results by volume.
      *
@@ -608,6 +1203,24 @@ public interface BlockstorageAsync extends AutoCloseable {
                             ListVolumeBackupsRequest, ListVolumeBackupsResponse>
                     handler);
 
+    /**
+     * Lists the volume backups in the specified compartment. You can filter the results by volume.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListVolumeBackupsResponse> listVolumeBackups(
+            ListVolumeBackupsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListVolumeBackupsRequest, ListVolumeBackupsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listVolumeBackups(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists the volume group backups in the specified compartment. You can filter the results by volume group.
      * For more information, see [Volume Groups](https://docs.cloud.oracle.com/Content/Block/Concepts/volumegroups.htm).
@@ -626,6 +1239,25 @@ public interface BlockstorageAsync extends AutoCloseable {
                             ListVolumeGroupBackupsRequest, ListVolumeGroupBackupsResponse>
                     handler);
 
+    /**
+     * Lists the volume group backups in the specified compartment. You can filter the results by volume group.
+     * For more information, see [Volume Groups](https://docs.cloud.oracle.com/Content/Block/Concepts/volumegroups.htm).
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListVolumeGroupBackupsResponse>
+            listVolumeGroupBackups(ListVolumeGroupBackupsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListVolumeGroupBackupsRequest, ListVolumeGroupBackupsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listVolumeGroupBackups(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists the volume groups in the specified compartment and availability domain.
      * For more information, see [Volume Groups](https://docs.cloud.oracle.com/Content/Block/Concepts/volumegroups.htm).
@@ -643,6 +1275,25 @@ public interface BlockstorageAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<ListVolumeGroupsRequest, ListVolumeGroupsResponse>
                     handler);
 
+    /**
+     * Lists the volume groups in the specified compartment and availability domain.
+     * For more information, see [Volume Groups](https://docs.cloud.oracle.com/Content/Block/Concepts/volumegroups.htm).
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListVolumeGroupsResponse> listVolumeGroups(
+            ListVolumeGroupsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListVolumeGroupsRequest, ListVolumeGroupsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listVolumeGroups(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists the volumes in the specified compartment and availability domain.
      *
@@ -658,6 +1309,24 @@ public interface BlockstorageAsync extends AutoCloseable {
             ListVolumesRequest request,
             com.oracle.bmc.responses.AsyncHandler<ListVolumesRequest, ListVolumesResponse> handler);
 
+    /**
+     * Lists the volumes in the specified compartment and availability domain.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListVolumesResponse> listVolumes(
+            ListVolumesRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListVolumesRequest, ListVolumesResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listVolumes(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Updates the specified boot volume's display name, defined tags, and free-form tags.
      *
@@ -673,6 +1342,23 @@ public interface BlockstorageAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<UpdateBootVolumeRequest, UpdateBootVolumeResponse>
                     handler);
 
+    /**
+     * Updates the specified boot volume's display name, defined tags, and free-form tags.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateBootVolumeResponse> updateBootVolume(
+            UpdateBootVolumeRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateBootVolumeRequest, UpdateBootVolumeResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateBootVolume(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Updates the display name for the specified boot volume backup.
      * Avoid entering confidential information.
@@ -691,6 +1377,25 @@ public interface BlockstorageAsync extends AutoCloseable {
                             UpdateBootVolumeBackupRequest, UpdateBootVolumeBackupResponse>
                     handler);
 
+    /**
+     * Updates the display name for the specified boot volume backup.
+     * Avoid entering confidential information.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateBootVolumeBackupResponse>
+            updateBootVolumeBackup(UpdateBootVolumeBackupRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateBootVolumeBackupRequest, UpdateBootVolumeBackupResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateBootVolumeBackup(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Update kms key id for the specific volume.
      *
@@ -708,6 +1413,24 @@ public interface BlockstorageAsync extends AutoCloseable {
                             UpdateBootVolumeKmsKeyRequest, UpdateBootVolumeKmsKeyResponse>
                     handler);
 
+    /**
+     * Update kms key id for the specific volume.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateBootVolumeKmsKeyResponse>
+            updateBootVolumeKmsKey(UpdateBootVolumeKmsKeyRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateBootVolumeKmsKeyRequest, UpdateBootVolumeKmsKeyResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateBootVolumeKmsKey(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Updates the specified volume's display name.
      * Avoid entering confidential information.
@@ -725,6 +1448,25 @@ public interface BlockstorageAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<UpdateVolumeRequest, UpdateVolumeResponse>
                     handler);
 
+    /**
+     * Updates the specified volume's display name.
+     * Avoid entering confidential information.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateVolumeResponse> updateVolume(
+            UpdateVolumeRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateVolumeRequest, UpdateVolumeResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateVolume(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Updates the display name for the specified volume backup.
      * Avoid entering confidential information.
@@ -743,6 +1485,25 @@ public interface BlockstorageAsync extends AutoCloseable {
                             UpdateVolumeBackupRequest, UpdateVolumeBackupResponse>
                     handler);
 
+    /**
+     * Updates the display name for the specified volume backup.
+     * Avoid entering confidential information.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateVolumeBackupResponse> updateVolumeBackup(
+            UpdateVolumeBackupRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateVolumeBackupRequest, UpdateVolumeBackupResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateVolumeBackup(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Updates the set of volumes in a volume group along with the display name. Use this operation
      * to add or remove volumes in a volume group. Specify the full list of volume IDs to include in the
@@ -765,6 +1526,29 @@ public interface BlockstorageAsync extends AutoCloseable {
                             UpdateVolumeGroupRequest, UpdateVolumeGroupResponse>
                     handler);
 
+    /**
+     * Updates the set of volumes in a volume group along with the display name. Use this operation
+     * to add or remove volumes in a volume group. Specify the full list of volume IDs to include in the
+     * volume group. If the volume ID is not specified in the call, it will be removed from the volume group.
+     * Avoid entering confidential information.
+     * <p>
+     * For more information, see [Volume Groups](https://docs.cloud.oracle.com/Content/Block/Concepts/volumegroups.htm).
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateVolumeGroupResponse> updateVolumeGroup(
+            UpdateVolumeGroupRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateVolumeGroupRequest, UpdateVolumeGroupResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateVolumeGroup(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Updates the display name for the specified volume group backup. For more information, see [Volume Groups](https://docs.cloud.oracle.com/Content/Block/Concepts/volumegroups.htm).
      *
@@ -781,6 +1565,23 @@ public interface BlockstorageAsync extends AutoCloseable {
                             UpdateVolumeGroupBackupRequest, UpdateVolumeGroupBackupResponse>
                     handler);
 
+    /**
+     * Updates the display name for the specified volume group backup. For more information, see [Volume Groups](https://docs.cloud.oracle.com/Content/Block/Concepts/volumegroups.htm).
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateVolumeGroupBackupResponse>
+            updateVolumeGroupBackup(UpdateVolumeGroupBackupRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateVolumeGroupBackupRequest, UpdateVolumeGroupBackupResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateVolumeGroupBackup(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Update kms key id for the specific volume.
      *
@@ -797,4 +1598,22 @@ public interface BlockstorageAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<
                             UpdateVolumeKmsKeyRequest, UpdateVolumeKmsKeyResponse>
                     handler);
+
+    /**
+     * Update kms key id for the specific volume.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateVolumeKmsKeyResponse> updateVolumeKmsKey(
+            UpdateVolumeKmsKeyRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateVolumeKmsKeyRequest, UpdateVolumeKmsKeyResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateVolumeKmsKey(request, handler);
+        return handler.getStage();
+    }
 }
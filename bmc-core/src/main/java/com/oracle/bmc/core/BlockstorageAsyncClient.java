@@ -391,6 +391,33 @@ public class BlockstorageAsyncClient implements BlockstorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CopyVolumeBackupResponse> copyVolumeBackup(
+            final CopyVolumeBackupRequest request) {
+        LOG.trace("Called async copyVolumeBackup");
+        final CopyVolumeBackupRequest interceptedRequest =
+                CopyVolumeBackupConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CopyVolumeBackupConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, CopyVolumeBackupResponse>
+                transformer = CopyVolumeBackupConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCopyVolumeBackupDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateBootVolumeResponse> createBootVolume(
             final CreateBootVolumeRequest request,
@@ -480,6 +507,33 @@ public class BlockstorageAsyncClient implements BlockstorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateBootVolumeResponse> createBootVolume(
+            final CreateBootVolumeRequest request) {
+        LOG.trace("Called async createBootVolume");
+        final CreateBootVolumeRequest interceptedRequest =
+                CreateBootVolumeConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateBootVolumeConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, CreateBootVolumeResponse>
+                transformer = CreateBootVolumeConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreateBootVolumeDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateBootVolumeBackupResponse> createBootVolumeBackup(
             final CreateBootVolumeBackupRequest request,
@@ -571,6 +625,34 @@ public class BlockstorageAsyncClient implements BlockstorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateBootVolumeBackupResponse>
+            createBootVolumeBackup(final CreateBootVolumeBackupRequest request) {
+        LOG.trace("Called async createBootVolumeBackup");
+        final CreateBootVolumeBackupRequest interceptedRequest =
+                CreateBootVolumeBackupConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateBootVolumeBackupConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, CreateBootVolumeBackupResponse>
+                transformer = CreateBootVolumeBackupConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreateBootVolumeBackupDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateVolumeResponse> createVolume(
             final CreateVolumeRequest request,
@@ -659,6 +741,33 @@ public class BlockstorageAsyncClient implements BlockstorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateVolumeResponse> createVolume(
+            final CreateVolumeRequest request) {
+        LOG.trace("Called async createVolume");
+        final CreateVolumeRequest interceptedRequest =
+                CreateVolumeConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateVolumeConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, CreateVolumeResponse>
+                transformer = CreateVolumeConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreateVolumeDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateVolumeBackupResponse> createVolumeBackup(
             final CreateVolumeBackupRequest request,
@@ -748,6 +857,33 @@ public class BlockstorageAsyncClient implements BlockstorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateVolumeBackupResponse> createVolumeBackup(
+            final CreateVolumeBackupRequest request) {
+        LOG.trace("Called async createVolumeBackup");
+        final CreateVolumeBackupRequest interceptedRequest =
+                CreateVolumeBackupConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateVolumeBackupConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, CreateVolumeBackupResponse>
+                transformer = CreateVolumeBackupConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreateVolumeBackupDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateVolumeBackupPolicyAssignmentResponse>
             createVolumeBackupPolicyAssignment(
@@ -845,6 +981,34 @@ public class BlockstorageAsyncClient implements BlockstorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateVolumeBackupPolicyAssignmentResponse>
+            createVolumeBackupPolicyAssignment(final CreateVolumeBackupPolicyAssignmentRequest request) {
+        LOG.trace("Called async createVolumeBackupPolicyAssignment");
+        final CreateVolumeBackupPolicyAssignmentRequest interceptedRequest =
+                CreateVolumeBackupPolicyAssignmentConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateVolumeBackupPolicyAssignmentConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, CreateVolumeBackupPolicyAssignmentResponse>
+                transformer = CreateVolumeBackupPolicyAssignmentConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreateVolumeBackupPolicyAssignmentDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateVolumeGroupResponse> createVolumeGroup(
             final CreateVolumeGroupRequest request,
@@ -934,6 +1098,33 @@ public class BlockstorageAsyncClient implements BlockstorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateVolumeGroupResponse> createVolumeGroup(
+            final CreateVolumeGroupRequest request) {
+        LOG.trace("Called async createVolumeGroup");
+        final CreateVolumeGroupRequest interceptedRequest =
+                CreateVolumeGroupConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateVolumeGroupConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, CreateVolumeGroupResponse>
+                transformer = CreateVolumeGroupConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreateVolumeGroupDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateVolumeGroupBackupResponse> createVolumeGroupBackup(
             final CreateVolumeGroupBackupRequest request,
@@ -1025,6 +1216,34 @@ public class BlockstorageAsyncClient implements BlockstorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateVolumeGroupBackupResponse>
+            createVolumeGroupBackup(final CreateVolumeGroupBackupRequest request) {
+        LOG.trace("Called async createVolumeGroupBackup");
+        final CreateVolumeGroupBackupRequest interceptedRequest =
+                CreateVolumeGroupBackupConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateVolumeGroupBackupConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, CreateVolumeGroupBackupResponse>
+                transformer = CreateVolumeGroupBackupConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreateVolumeGroupBackupDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteBootVolumeResponse> deleteBootVolume(
             final DeleteBootVolumeRequest request,
@@ -1099,6 +1318,30 @@ public class BlockstorageAsyncClient implements BlockstorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteBootVolumeResponse> deleteBootVolume(
+            final DeleteBootVolumeRequest request) {
+        LOG.trace("Called async deleteBootVolume");
+        final DeleteBootVolumeRequest interceptedRequest =
+                DeleteBootVolumeConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteBootVolumeConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, DeleteBootVolumeResponse>
+                transformer = DeleteBootVolumeConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteBootVolumeBackupResponse> deleteBootVolumeBackup(
             final DeleteBootVolumeBackupRequest request,
@@ -1175,6 +1418,31 @@ public class BlockstorageAsyncClient implements BlockstorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteBootVolumeBackupResponse>
+            deleteBootVolumeBackup(final DeleteBootVolumeBackupRequest request) {
+        LOG.trace("Called async deleteBootVolumeBackup");
+        final DeleteBootVolumeBackupRequest interceptedRequest =
+                DeleteBootVolumeBackupConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteBootVolumeBackupConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, DeleteBootVolumeBackupResponse>
+                transformer = DeleteBootVolumeBackupConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteBootVolumeKmsKeyResponse> deleteBootVolumeKmsKey(
             final DeleteBootVolumeKmsKeyRequest request,
@@ -1251,6 +1519,31 @@ public class BlockstorageAsyncClient implements BlockstorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteBootVolumeKmsKeyResponse>
+            deleteBootVolumeKmsKey(final DeleteBootVolumeKmsKeyRequest request) {
+        LOG.trace("Called async deleteBootVolumeKmsKey");
+        final DeleteBootVolumeKmsKeyRequest interceptedRequest =
+                DeleteBootVolumeKmsKeyConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteBootVolumeKmsKeyConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, DeleteBootVolumeKmsKeyResponse>
+                transformer = DeleteBootVolumeKmsKeyConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteVolumeResponse> deleteVolume(
             final DeleteVolumeRequest request,
@@ -1324,6 +1617,30 @@ public class BlockstorageAsyncClient implements BlockstorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteVolumeResponse> deleteVolume(
+            final DeleteVolumeRequest request) {
+        LOG.trace("Called async deleteVolume");
+        final DeleteVolumeRequest interceptedRequest =
+                DeleteVolumeConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteVolumeConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, DeleteVolumeResponse>
+                transformer = DeleteVolumeConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteVolumeBackupResponse> deleteVolumeBackup(
             final DeleteVolumeBackupRequest request,
@@ -1398,6 +1715,30 @@ public class BlockstorageAsyncClient implements BlockstorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteVolumeBackupResponse> deleteVolumeBackup(
+            final DeleteVolumeBackupRequest request) {
+        LOG.trace("Called async deleteVolumeBackup");
+        final DeleteVolumeBackupRequest interceptedRequest =
+                DeleteVolumeBackupConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteVolumeBackupConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, DeleteVolumeBackupResponse>
+                transformer = DeleteVolumeBackupConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteVolumeBackupPolicyAssignmentResponse>
             deleteVolumeBackupPolicyAssignment(
@@ -1478,6 +1819,31 @@ public class BlockstorageAsyncClient implements BlockstorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteVolumeBackupPolicyAssignmentResponse>
+            deleteVolumeBackupPolicyAssignment(final DeleteVolumeBackupPolicyAssignmentRequest request) {
+        LOG.trace("Called async deleteVolumeBackupPolicyAssignment");
+        final DeleteVolumeBackupPolicyAssignmentRequest interceptedRequest =
+                DeleteVolumeBackupPolicyAssignmentConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteVolumeBackupPolicyAssignmentConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, DeleteVolumeBackupPolicyAssignmentResponse>
+                transformer = DeleteVolumeBackupPolicyAssignmentConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteVolumeGroupResponse> deleteVolumeGroup(
             final DeleteVolumeGroupRequest request,
@@ -1552,6 +1918,30 @@ public class BlockstorageAsyncClient implements BlockstorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteVolumeGroupResponse> deleteVolumeGroup(
+            final DeleteVolumeGroupRequest request) {
+        LOG.trace("Called async deleteVolumeGroup");
+        final DeleteVolumeGroupRequest interceptedRequest =
+                DeleteVolumeGroupConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteVolumeGroupConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, DeleteVolumeGroupResponse>
+                transformer = DeleteVolumeGroupConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteVolumeGroupBackupResponse> deleteVolumeGroupBackup(
             final DeleteVolumeGroupBackupRequest request,
@@ -1628,6 +2018,31 @@ public class BlockstorageAsyncClient implements BlockstorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteVolumeGroupBackupResponse>
+            deleteVolumeGroupBackup(final DeleteVolumeGroupBackupRequest request) {
+        LOG.trace("Called async deleteVolumeGroupBackup");
+        final DeleteVolumeGroupBackupRequest interceptedRequest =
+                DeleteVolumeGroupBackupConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteVolumeGroupBackupConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, DeleteVolumeGroupBackupResponse>
+                transformer = DeleteVolumeGroupBackupConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteVolumeKmsKeyResponse> deleteVolumeKmsKey(
             final DeleteVolumeKmsKeyRequest request,
@@ -1702,6 +2117,30 @@ public class BlockstorageAsyncClient implements BlockstorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteVolumeKmsKeyResponse> deleteVolumeKmsKey(
+            final DeleteVolumeKmsKeyRequest request) {
+        LOG.trace("Called async deleteVolumeKmsKey");
+        final DeleteVolumeKmsKeyRequest interceptedRequest =
+                DeleteVolumeKmsKeyConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteVolumeKmsKeyConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, DeleteVolumeKmsKeyResponse>
+                transformer = DeleteVolumeKmsKeyConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetBootVolumeResponse> getBootVolume(
             final GetBootVolumeRequest request,
@@ -1775,6 +2214,30 @@ public class BlockstorageAsyncClient implements BlockstorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetBootVolumeResponse> getBootVolume(
+            final GetBootVolumeRequest request) {
+        LOG.trace("Called async getBootVolume");
+        final GetBootVolumeRequest interceptedRequest =
+                GetBootVolumeConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetBootVolumeConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetBootVolumeResponse>
+                transformer = GetBootVolumeConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetBootVolumeBackupResponse> getBootVolumeBackup(
             final GetBootVolumeBackupRequest request,
@@ -1851,6 +2314,31 @@ public class BlockstorageAsyncClient implements BlockstorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetBootVolumeBackupResponse> getBootVolumeBackup(
+            final GetBootVolumeBackupRequest request) {
+        LOG.trace("Called async getBootVolumeBackup");
+        final GetBootVolumeBackupRequest interceptedRequest =
+                GetBootVolumeBackupConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetBootVolumeBackupConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, GetBootVolumeBackupResponse>
+                transformer = GetBootVolumeBackupConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetBootVolumeKmsKeyResponse> getBootVolumeKmsKey(
             final GetBootVolumeKmsKeyRequest request,
@@ -1927,6 +2415,31 @@ public class BlockstorageAsyncClient implements BlockstorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetBootVolumeKmsKeyResponse> getBootVolumeKmsKey(
+            final GetBootVolumeKmsKeyRequest request) {
+        LOG.trace("Called async getBootVolumeKmsKey");
+        final GetBootVolumeKmsKeyRequest interceptedRequest =
+                GetBootVolumeKmsKeyConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetBootVolumeKmsKeyConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, GetBootVolumeKmsKeyResponse>
+                transformer = GetBootVolumeKmsKeyConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetVolumeResponse> getVolume(
             final GetVolumeRequest request,
@@ -1999,6 +2512,29 @@ public class BlockstorageAsyncClient implements BlockstorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetVolumeResponse> getVolume(
+            final GetVolumeRequest request) {
+        LOG.trace("Called async getVolume");
+        final GetVolumeRequest interceptedRequest = GetVolumeConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetVolumeConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetVolumeResponse>
+                transformer = GetVolumeConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetVolumeBackupResponse> getVolumeBackup(
             final GetVolumeBackupRequest request,
@@ -2073,6 +2609,30 @@ public class BlockstorageAsyncClient implements BlockstorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetVolumeBackupResponse> getVolumeBackup(
+            final GetVolumeBackupRequest request) {
+        LOG.trace("Called async getVolumeBackup");
+        final GetVolumeBackupRequest interceptedRequest =
+                GetVolumeBackupConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetVolumeBackupConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetVolumeBackupResponse>
+                transformer = GetVolumeBackupConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetVolumeBackupPolicyResponse> getVolumeBackupPolicy(
             final GetVolumeBackupPolicyRequest request,
@@ -2149,6 +2709,31 @@ public class BlockstorageAsyncClient implements BlockstorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetVolumeBackupPolicyResponse>
+            getVolumeBackupPolicy(final GetVolumeBackupPolicyRequest request) {
+        LOG.trace("Called async getVolumeBackupPolicy");
+        final GetVolumeBackupPolicyRequest interceptedRequest =
+                GetVolumeBackupPolicyConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetVolumeBackupPolicyConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, GetVolumeBackupPolicyResponse>
+                transformer = GetVolumeBackupPolicyConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetVolumeBackupPolicyAssetAssignmentResponse>
             getVolumeBackupPolicyAssetAssignment(
@@ -2230,6 +2815,32 @@ public class BlockstorageAsyncClient implements BlockstorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetVolumeBackupPolicyAssetAssignmentResponse>
+            getVolumeBackupPolicyAssetAssignment(final GetVolumeBackupPolicyAssetAssignmentRequest request) {
+        LOG.trace("Called async getVolumeBackupPolicyAssetAssignment");
+        final GetVolumeBackupPolicyAssetAssignmentRequest interceptedRequest =
+                GetVolumeBackupPolicyAssetAssignmentConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetVolumeBackupPolicyAssetAssignmentConverter.fromRequest(
+                        client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, GetVolumeBackupPolicyAssetAssignmentResponse>
+                transformer = GetVolumeBackupPolicyAssetAssignmentConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetVolumeBackupPolicyAssignmentResponse>
             getVolumeBackupPolicyAssignment(
@@ -2310,6 +2921,31 @@ public class BlockstorageAsyncClient implements BlockstorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetVolumeBackupPolicyAssignmentResponse>
+            getVolumeBackupPolicyAssignment(final GetVolumeBackupPolicyAssignmentRequest request) {
+        LOG.trace("Called async getVolumeBackupPolicyAssignment");
+        final GetVolumeBackupPolicyAssignmentRequest interceptedRequest =
+                GetVolumeBackupPolicyAssignmentConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetVolumeBackupPolicyAssignmentConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, GetVolumeBackupPolicyAssignmentResponse>
+                transformer = GetVolumeBackupPolicyAssignmentConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetVolumeGroupResponse> getVolumeGroup(
             final GetVolumeGroupRequest request,
@@ -2384,6 +3020,30 @@ public class BlockstorageAsyncClient implements BlockstorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetVolumeGroupResponse> getVolumeGroup(
+            final GetVolumeGroupRequest request) {
+        LOG.trace("Called async getVolumeGroup");
+        final GetVolumeGroupRequest interceptedRequest =
+                GetVolumeGroupConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetVolumeGroupConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetVolumeGroupResponse>
+                transformer = GetVolumeGroupConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetVolumeGroupBackupResponse> getVolumeGroupBackup(
             final GetVolumeGroupBackupRequest request,
@@ -2460,6 +3120,31 @@ public class BlockstorageAsyncClient implements BlockstorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetVolumeGroupBackupResponse> getVolumeGroupBackup(
+            final GetVolumeGroupBackupRequest request) {
+        LOG.trace("Called async getVolumeGroupBackup");
+        final GetVolumeGroupBackupRequest interceptedRequest =
+                GetVolumeGroupBackupConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetVolumeGroupBackupConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, GetVolumeGroupBackupResponse>
+                transformer = GetVolumeGroupBackupConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetVolumeKmsKeyResponse> getVolumeKmsKey(
             final GetVolumeKmsKeyRequest request,
@@ -2534,6 +3219,30 @@ public class BlockstorageAsyncClient implements BlockstorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetVolumeKmsKeyResponse> getVolumeKmsKey(
+            final GetVolumeKmsKeyRequest request) {
+        LOG.trace("Called async getVolumeKmsKey");
+        final GetVolumeKmsKeyRequest interceptedRequest =
+                GetVolumeKmsKeyConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetVolumeKmsKeyConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetVolumeKmsKeyResponse>
+                transformer = GetVolumeKmsKeyConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListBootVolumeBackupsResponse> listBootVolumeBackups(
             final ListBootVolumeBackupsRequest request,
@@ -2610,6 +3319,31 @@ public class BlockstorageAsyncClient implements BlockstorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListBootVolumeBackupsResponse>
+            listBootVolumeBackups(final ListBootVolumeBackupsRequest request) {
+        LOG.trace("Called async listBootVolumeBackups");
+        final ListBootVolumeBackupsRequest interceptedRequest =
+                ListBootVolumeBackupsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListBootVolumeBackupsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, ListBootVolumeBackupsResponse>
+                transformer = ListBootVolumeBackupsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListBootVolumesResponse> listBootVolumes(
             final ListBootVolumesRequest request,
@@ -2684,6 +3418,30 @@ public class BlockstorageAsyncClient implements BlockstorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListBootVolumesResponse> listBootVolumes(
+            final ListBootVolumesRequest request) {
+        LOG.trace("Called async listBootVolumes");
+        final ListBootVolumesRequest interceptedRequest =
+                ListBootVolumesConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListBootVolumesConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListBootVolumesResponse>
+                transformer = ListBootVolumesConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListVolumeBackupPoliciesResponse> listVolumeBackupPolicies(
             final ListVolumeBackupPoliciesRequest request,
@@ -2760,6 +3518,31 @@ public class BlockstorageAsyncClient implements BlockstorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListVolumeBackupPoliciesResponse>
+            listVolumeBackupPolicies(final ListVolumeBackupPoliciesRequest request) {
+        LOG.trace("Called async listVolumeBackupPolicies");
+        final ListVolumeBackupPoliciesRequest interceptedRequest =
+                ListVolumeBackupPoliciesConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListVolumeBackupPoliciesConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, ListVolumeBackupPoliciesResponse>
+                transformer = ListVolumeBackupPoliciesConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListVolumeBackupsResponse> listVolumeBackups(
             final ListVolumeBackupsRequest request,
@@ -2834,6 +3617,30 @@ public class BlockstorageAsyncClient implements BlockstorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListVolumeBackupsResponse> listVolumeBackups(
+            final ListVolumeBackupsRequest request) {
+        LOG.trace("Called async listVolumeBackups");
+        final ListVolumeBackupsRequest interceptedRequest =
+                ListVolumeBackupsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListVolumeBackupsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListVolumeBackupsResponse>
+                transformer = ListVolumeBackupsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListVolumeGroupBackupsResponse> listVolumeGroupBackups(
             final ListVolumeGroupBackupsRequest request,
@@ -2910,6 +3717,31 @@ public class BlockstorageAsyncClient implements BlockstorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListVolumeGroupBackupsResponse>
+            listVolumeGroupBackups(final ListVolumeGroupBackupsRequest request) {
+        LOG.trace("Called async listVolumeGroupBackups");
+        final ListVolumeGroupBackupsRequest interceptedRequest =
+                ListVolumeGroupBackupsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListVolumeGroupBackupsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, ListVolumeGroupBackupsResponse>
+                transformer = ListVolumeGroupBackupsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListVolumeGroupsResponse> listVolumeGroups(
             final ListVolumeGroupsRequest request,
@@ -2984,6 +3816,30 @@ public class BlockstorageAsyncClient implements BlockstorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListVolumeGroupsResponse> listVolumeGroups(
+            final ListVolumeGroupsRequest request) {
+        LOG.trace("Called async listVolumeGroups");
+        final ListVolumeGroupsRequest interceptedRequest =
+                ListVolumeGroupsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListVolumeGroupsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListVolumeGroupsResponse>
+                transformer = ListVolumeGroupsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListVolumesResponse> listVolumes(
             final ListVolumesRequest request,
@@ -3057,6 +3913,30 @@ public class BlockstorageAsyncClient implements BlockstorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListVolumesResponse> listVolumes(
+            final ListVolumesRequest request) {
+        LOG.trace("Called async listVolumes");
+        final ListVolumesRequest interceptedRequest =
+                ListVolumesConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListVolumesConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListVolumesResponse>
+                transformer = ListVolumesConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateBootVolumeResponse> updateBootVolume(
             final UpdateBootVolumeRequest request,
@@ -3146,6 +4026,33 @@ public class BlockstorageAsyncClient implements BlockstorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateBootVolumeResponse> updateBootVolume(
+            final UpdateBootVolumeRequest request) {
+        LOG.trace("Called async updateBootVolume");
+        final UpdateBootVolumeRequest interceptedRequest =
+                UpdateBootVolumeConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateBootVolumeConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, UpdateBootVolumeResponse>
+                transformer = UpdateBootVolumeConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdateBootVolumeDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateBootVolumeBackupResponse> updateBootVolumeBackup(
             final UpdateBootVolumeBackupRequest request,
@@ -3237,6 +4144,34 @@ public class BlockstorageAsyncClient implements BlockstorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateBootVolumeBackupResponse>
+            updateBootVolumeBackup(final UpdateBootVolumeBackupRequest request) {
+        LOG.trace("Called async updateBootVolumeBackup");
+        final UpdateBootVolumeBackupRequest interceptedRequest =
+                UpdateBootVolumeBackupConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateBootVolumeBackupConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, UpdateBootVolumeBackupResponse>
+                transformer = UpdateBootVolumeBackupConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdateBootVolumeBackupDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateBootVolumeKmsKeyResponse> updateBootVolumeKmsKey(
             final UpdateBootVolumeKmsKeyRequest request,
@@ -3328,6 +4263,34 @@ public class BlockstorageAsyncClient implements BlockstorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateBootVolumeKmsKeyResponse>
+            updateBootVolumeKmsKey(final UpdateBootVolumeKmsKeyRequest request) {
+        LOG.trace("Called async updateBootVolumeKmsKey");
+        final UpdateBootVolumeKmsKeyRequest interceptedRequest =
+                UpdateBootVolumeKmsKeyConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateBootVolumeKmsKeyConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, UpdateBootVolumeKmsKeyResponse>
+                transformer = UpdateBootVolumeKmsKeyConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdateBootVolumeKmsKeyDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateVolumeResponse> updateVolume(
             final UpdateVolumeRequest request,
@@ -3416,6 +4379,33 @@ public class BlockstorageAsyncClient implements BlockstorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateVolumeResponse> updateVolume(
+            final UpdateVolumeRequest request) {
+        LOG.trace("Called async updateVolume");
+        final UpdateVolumeRequest interceptedRequest =
+                UpdateVolumeConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateVolumeConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, UpdateVolumeResponse>
+                transformer = UpdateVolumeConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdateVolumeDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateVolumeBackupResponse> updateVolumeBackup(
             final UpdateVolumeBackupRequest request,
@@ -3505,6 +4495,33 @@ public class BlockstorageAsyncClient implements BlockstorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateVolumeBackupResponse> updateVolumeBackup(
+            final UpdateVolumeBackupRequest request) {
+        LOG.trace("Called async updateVolumeBackup");
+        final UpdateVolumeBackupRequest interceptedRequest =
+                UpdateVolumeBackupConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateVolumeBackupConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, UpdateVolumeBackupResponse>
+                transformer = UpdateVolumeBackupConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdateVolumeBackupDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateVolumeGroupResponse> updateVolumeGroup(
             final UpdateVolumeGroupRequest request,
@@ -3594,6 +4611,33 @@ public class BlockstorageAsyncClient implements BlockstorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateVolumeGroupResponse> updateVolumeGroup(
+            final UpdateVolumeGroupRequest request) {
+        LOG.trace("Called async updateVolumeGroup");
+        final UpdateVolumeGroupRequest interceptedRequest =
+                UpdateVolumeGroupConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateVolumeGroupConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, UpdateVolumeGroupResponse>
+                transformer = UpdateVolumeGroupConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdateVolumeGroupDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateVolumeGroupBackupResponse> updateVolumeGroupBackup(
             final UpdateVolumeGroupBackupRequest request,
@@ -3685,6 +4729,34 @@ public class BlockstorageAsyncClient implements BlockstorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateVolumeGroupBackupResponse>
+            updateVolumeGroupBackup(final UpdateVolumeGroupBackupRequest request) {
+        LOG.trace("Called async updateVolumeGroupBackup");
+        final UpdateVolumeGroupBackupRequest interceptedRequest =
+                UpdateVolumeGroupBackupConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateVolumeGroupBackupConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, UpdateVolumeGroupBackupResponse>
+                transformer = UpdateVolumeGroupBackupConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdateVolumeGroupBackupDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateVolumeKmsKeyResponse> updateVolumeKmsKey(
             final UpdateVolumeKmsKeyRequest request,
@@ -3773,4 +4845,31 @@ public class BlockstorageAsyncClient implements BlockstorageAsync {
                     responseFuture, transformer);
         }
     }
+
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateVolumeKmsKeyResponse> updateVolumeKmsKey(
+            final UpdateVolumeKmsKeyRequest request) {
+        LOG.trace("Called async updateVolumeKmsKey");
+        final UpdateVolumeKmsKeyRequest interceptedRequest =
+                UpdateVolumeKmsKeyConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateVolumeKmsKeyConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, UpdateVolumeKmsKeyResponse>
+                transformer = UpdateVolumeKmsKeyConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdateVolumeKmsKeyDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
 }
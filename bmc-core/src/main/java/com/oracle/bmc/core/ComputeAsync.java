@@ -52,6 +52,24 @@ public interface ComputeAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<AttachBootVolumeRequest, AttachBootVolumeResponse>
                     handler);
 
+    /**
+     * Attaches the specified boot volume to the specified instance.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<AttachBootVolumeResponse> attachBootVolume(
+            AttachBootVolumeRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        AttachBootVolumeRequest, AttachBootVolumeResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        attachBootVolume(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Creates a secondary VNIC and attaches it to the specified instance.
      * For more information about secondary VNICs, see
@@ -69,6 +87,26 @@ public interface ComputeAsync extends AutoCloseable {
             AttachVnicRequest request,
             com.oracle.bmc.responses.AsyncHandler<AttachVnicRequest, AttachVnicResponse> handler);
 
+    /**
+     * Creates a secondary VNIC and attaches it to the specified instance.
+     * For more information about secondary VNICs, see
+     * [Virtual Network Interface Cards (VNICs)](https://docs.cloud.oracle.com/Content/Network/Tasks/managingVNICs.htm).
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<AttachVnicResponse> attachVnic(
+            AttachVnicRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        AttachVnicRequest, AttachVnicResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        attachVnic(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Attaches the specified storage volume to the specified instance.
      *
@@ -85,6 +123,24 @@ public interface ComputeAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<AttachVolumeRequest, AttachVolumeResponse>
                     handler);
 
+    /**
+     * Attaches the specified storage volume to the specified instance.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<AttachVolumeResponse> attachVolume(
+            AttachVolumeRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        AttachVolumeRequest, AttachVolumeResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        attachVolume(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Captures the most recent serial console data (up to a megabyte) for the
      * specified instance.
@@ -118,6 +174,40 @@ public interface ComputeAsync extends AutoCloseable {
                             CaptureConsoleHistoryRequest, CaptureConsoleHistoryResponse>
                     handler);
 
+    /**
+     * Captures the most recent serial console data (up to a megabyte) for the
+     * specified instance.
+     * <p>
+     * The `CaptureConsoleHistory` operation works with the other console history operations
+     * as described below.
+     * <p>
+     * 1. Use `CaptureConsoleHistory` to request the capture of up to a megabyte of the
+     * most recent console history. This call returns a `ConsoleHistory`
+     * object. The object will have a state of REQUESTED.
+     * 2. Wait for the capture operation to succeed by polling `GetConsoleHistory` with
+     * the identifier of the console history metadata. The state of the
+     * `ConsoleHistory` object will go from REQUESTED to GETTING-HISTORY and
+     * then SUCCEEDED (or FAILED).
+     * 3. Use `GetConsoleHistoryContent` to get the actual console history data (not the
+     * metadata).
+     * 4. Optionally, use `DeleteConsoleHistory` to delete the console history metadata
+     * and the console history data.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CaptureConsoleHistoryResponse>
+            captureConsoleHistory(CaptureConsoleHistoryRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CaptureConsoleHistoryRequest, CaptureConsoleHistoryResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        captureConsoleHistory(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Create a subscription for listing resource version for a compartment. It will take some time to propagate to all regions.
      *
@@ -136,6 +226,24 @@ public interface ComputeAsync extends AutoCloseable {
                             CreateAppCatalogSubscriptionResponse>
                     handler);
 
+    /**
+     * Create a subscription for listing resource version for a compartment. It will take some time to propagate to all regions.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreateAppCatalogSubscriptionResponse>
+            createAppCatalogSubscription(CreateAppCatalogSubscriptionRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreateAppCatalogSubscriptionRequest, CreateAppCatalogSubscriptionResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createAppCatalogSubscription(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Creates a boot disk image for the specified instance or imports an exported image from the Oracle Cloud Infrastructure Object Storage service.
      * <p>
@@ -173,6 +281,46 @@ public interface ComputeAsync extends AutoCloseable {
             CreateImageRequest request,
             com.oracle.bmc.responses.AsyncHandler<CreateImageRequest, CreateImageResponse> handler);
 
+    /**
+     * Creates a boot disk image for the specified instance or imports an exported image from the Oracle Cloud Infrastructure Object Storage service.
+     * <p>
+     * When creating a new image, you must provide the OCID of the instance you want to use as the basis for the image, and
+     * the OCID of the compartment containing that instance. For more information about images,
+     * see [Managing Custom Images](https://docs.cloud.oracle.com/Content/Compute/Tasks/managingcustomimages.htm).
+     * <p>
+     * When importing an exported image from Object Storage, you specify the source information
+     * in {@link #imageSourceDetails(ImageSourceDetailsRequest, Consumer, Consumer) imageSourceDetails}.
+     * <p>
+     * When importing an image based on the namespace, bucket name, and object name,
+     * use {@link #imageSourceViaObjectStorageTupleDetails(ImageSourceViaObjectStorageTupleDetailsRequest, Consumer, Consumer) imageSourceViaObjectStorageTupleDetails}.
+     * <p>
+     * When importing an image based on the Object Storage URL, use
+     * {@link #imageSourceViaObjectStorageUriDetails(ImageSourceViaObjectStorageUriDetailsRequest, Consumer, Consumer) imageSourceViaObjectStorageUriDetails}.
+     * See [Object Storage URLs](https://docs.cloud.oracle.com/Content/Compute/Tasks/imageimportexport.htm#URLs) and [Using Pre-Authenticated Requests](https://docs.cloud.oracle.com/Content/Object/Tasks/usingpreauthenticatedrequests.htm)
+     * for constructing URLs for image import/export.
+     * <p>
+     * For more information about importing exported images, see
+     * [Image Import/Export](https://docs.cloud.oracle.com/Content/Compute/Tasks/imageimportexport.htm).
+     * <p>
+     * You may optionally specify a *display name* for the image, which is simply a friendly name or description.
+     * It does not have to be unique, and you can change it. See {@link #updateImage(UpdateImageRequest, Consumer, Consumer) updateImage}.
+     * Avoid entering confidential information.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreateImageResponse> createImage(
+            CreateImageRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreateImageRequest, CreateImageResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createImage(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Creates a new console connection to the specified instance.
      * Once the console connection has been created and is available,
@@ -196,6 +344,29 @@ public interface ComputeAsync extends AutoCloseable {
                                     CreateInstanceConsoleConnectionResponse>
                             handler);
 
+    /**
+     * Creates a new console connection to the specified instance.
+     * Once the console connection has been created and is available,
+     * you connect to the console using SSH.
+     * <p>
+     * For more information about console access, see [Accessing the Console](https://docs.cloud.oracle.com/Content/Compute/References/serialconsole.htm).
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreateInstanceConsoleConnectionResponse>
+            createInstanceConsoleConnection(CreateInstanceConsoleConnectionRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreateInstanceConsoleConnectionRequest,
+                        CreateInstanceConsoleConnectionResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createInstanceConsoleConnection(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Delete a subscription for a listing resource version for a compartment.
      *
@@ -213,6 +384,23 @@ public interface ComputeAsync extends AutoCloseable {
                             DeleteAppCatalogSubscriptionResponse>
                     handler);
 
+    /**
+     * Delete a subscription for a listing resource version for a compartment.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<DeleteAppCatalogSubscriptionResponse>
+            deleteAppCatalogSubscription(DeleteAppCatalogSubscriptionRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        DeleteAppCatalogSubscriptionRequest, DeleteAppCatalogSubscriptionResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        deleteAppCatalogSubscription(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Deletes the specified console history metadata and the console history data.
      *
@@ -229,6 +417,23 @@ public interface ComputeAsync extends AutoCloseable {
                             DeleteConsoleHistoryRequest, DeleteConsoleHistoryResponse>
                     handler);
 
+    /**
+     * Deletes the specified console history metadata and the console history data.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<DeleteConsoleHistoryResponse> deleteConsoleHistory(
+            DeleteConsoleHistoryRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        DeleteConsoleHistoryRequest, DeleteConsoleHistoryResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        deleteConsoleHistory(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Deletes an image.
      *
@@ -243,6 +448,23 @@ public interface ComputeAsync extends AutoCloseable {
             DeleteImageRequest request,
             com.oracle.bmc.responses.AsyncHandler<DeleteImageRequest, DeleteImageResponse> handler);
 
+    /**
+     * Deletes an image.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<DeleteImageResponse> deleteImage(
+            DeleteImageRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        DeleteImageRequest, DeleteImageResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        deleteImage(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Deletes the specified instance console connection.
      *
@@ -261,6 +483,24 @@ public interface ComputeAsync extends AutoCloseable {
                                     DeleteInstanceConsoleConnectionResponse>
                             handler);
 
+    /**
+     * Deletes the specified instance console connection.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<DeleteInstanceConsoleConnectionResponse>
+            deleteInstanceConsoleConnection(DeleteInstanceConsoleConnectionRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        DeleteInstanceConsoleConnectionRequest,
+                        DeleteInstanceConsoleConnectionResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        deleteInstanceConsoleConnection(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Detaches a boot volume from an instance. You must specify the OCID of the boot volume attachment.
      * <p>
@@ -280,6 +520,27 @@ public interface ComputeAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<DetachBootVolumeRequest, DetachBootVolumeResponse>
                     handler);
 
+    /**
+     * Detaches a boot volume from an instance. You must specify the OCID of the boot volume attachment.
+     * <p>
+     * This is an asynchronous operation. The attachment's `lifecycleState` will change to DETACHING temporarily
+     * until the attachment is completely removed.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<DetachBootVolumeResponse> detachBootVolume(
+            DetachBootVolumeRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        DetachBootVolumeRequest, DetachBootVolumeResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        detachBootVolume(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Detaches and deletes the specified secondary VNIC.
      * This operation cannot be used on the instance's primary VNIC.
@@ -304,6 +565,33 @@ public interface ComputeAsync extends AutoCloseable {
             DetachVnicRequest request,
             com.oracle.bmc.responses.AsyncHandler<DetachVnicRequest, DetachVnicResponse> handler);
 
+    /**
+     * Detaches and deletes the specified secondary VNIC.
+     * This operation cannot be used on the instance's primary VNIC.
+     * When you terminate an instance, all attached VNICs (primary
+     * and secondary) are automatically detached and deleted.
+     * <p>
+     **Important:** If the VNIC has a
+     * {@link PrivateIp} that is the
+     * [target of a route rule](https://docs.cloud.oracle.com/Content/Network/Tasks/managingroutetables.htm#privateip),
+     * deleting the VNIC causes that route rule to blackhole and the traffic
+     * will be dropped.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<DetachVnicResponse> detachVnic(
+            DetachVnicRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        DetachVnicRequest, DetachVnicResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        detachVnic(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Detaches a storage volume from an instance. You must specify the OCID of the volume attachment.
      * <p>
@@ -323,6 +611,27 @@ public interface ComputeAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<DetachVolumeRequest, DetachVolumeResponse>
                     handler);
 
+    /**
+     * Detaches a storage volume from an instance. You must specify the OCID of the volume attachment.
+     * <p>
+     * This is an asynchronous operation. The attachment's `lifecycleState` will change to DETACHING temporarily
+     * until the attachment is completely removed.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<DetachVolumeResponse> detachVolume(
+            DetachVolumeRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        DetachVolumeRequest, DetachVolumeResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        detachVolume(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Exports the specified image to the Oracle Cloud Infrastructure Object Storage service. You can use the Object Storage URL,
      * or the namespace, bucket name, and object name when specifying the location to export to.
@@ -347,6 +656,33 @@ public interface ComputeAsync extends AutoCloseable {
             ExportImageRequest request,
             com.oracle.bmc.responses.AsyncHandler<ExportImageRequest, ExportImageResponse> handler);
 
+    /**
+     * Exports the specified image to the Oracle Cloud Infrastructure Object Storage service. You can use the Object Storage URL,
+     * or the namespace, bucket name, and object name when specifying the location to export to.
+     * <p>
+     * For more information about exporting images, see [Image Import/Export](https://docs.cloud.oracle.com/Content/Compute/Tasks/imageimportexport.htm).
+     * <p>
+     * To perform an image export, you need write access to the Object Storage bucket for the image,
+     * see [Let Users Write Objects to Object Storage Buckets](https://docs.cloud.oracle.com/Content/Identity/Concepts/commonpolicies.htm#Let4).
+     * <p>
+     * See [Object Storage URLs](https://docs.cloud.oracle.com/Content/Compute/Tasks/imageimportexport.htm#URLs) and [Using Pre-Authenticated Requests](https://docs.cloud.oracle.com/Content/Object/Tasks/usingpreauthenticatedrequests.htm)
+     * for constructing URLs for image import/export.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ExportImageResponse> exportImage(
+            ExportImageRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ExportImageRequest, ExportImageResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        exportImage(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the specified listing.
      *
@@ -363,6 +699,23 @@ public interface ComputeAsync extends AutoCloseable {
                             GetAppCatalogListingRequest, GetAppCatalogListingResponse>
                     handler);
 
+    /**
+     * Gets the specified listing.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetAppCatalogListingResponse> getAppCatalogListing(
+            GetAppCatalogListingRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetAppCatalogListingRequest, GetAppCatalogListingResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getAppCatalogListing(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Retrieves the agreements for a particular resource version of a listing.
      *
@@ -381,6 +734,24 @@ public interface ComputeAsync extends AutoCloseable {
                                     GetAppCatalogListingAgreementsResponse>
                             handler);
 
+    /**
+     * Retrieves the agreements for a particular resource version of a listing.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetAppCatalogListingAgreementsResponse>
+            getAppCatalogListingAgreements(GetAppCatalogListingAgreementsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetAppCatalogListingAgreementsRequest,
+                        GetAppCatalogListingAgreementsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getAppCatalogListingAgreements(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the specified listing resource version.
      *
@@ -399,6 +770,25 @@ public interface ComputeAsync extends AutoCloseable {
                                     GetAppCatalogListingResourceVersionResponse>
                             handler);
 
+    /**
+     * Gets the specified listing resource version.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetAppCatalogListingResourceVersionResponse>
+            getAppCatalogListingResourceVersion(
+                    GetAppCatalogListingResourceVersionRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetAppCatalogListingResourceVersionRequest,
+                        GetAppCatalogListingResourceVersionResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getAppCatalogListingResourceVersion(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets information about the specified boot volume attachment.
      *
@@ -415,6 +805,23 @@ public interface ComputeAsync extends AutoCloseable {
                             GetBootVolumeAttachmentRequest, GetBootVolumeAttachmentResponse>
                     handler);
 
+    /**
+     * Gets information about the specified boot volume attachment.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetBootVolumeAttachmentResponse>
+            getBootVolumeAttachment(GetBootVolumeAttachmentRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetBootVolumeAttachmentRequest, GetBootVolumeAttachmentResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getBootVolumeAttachment(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Shows the metadata for the specified console history.
      * See {@link #captureConsoleHistory(CaptureConsoleHistoryRequest, Consumer, Consumer) captureConsoleHistory}
@@ -434,6 +841,26 @@ public interface ComputeAsync extends AutoCloseable {
                             GetConsoleHistoryRequest, GetConsoleHistoryResponse>
                     handler);
 
+    /**
+     * Shows the metadata for the specified console history.
+     * See {@link #captureConsoleHistory(CaptureConsoleHistoryRequest, Consumer, Consumer) captureConsoleHistory}
+     * for details about using the console history operations.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetConsoleHistoryResponse> getConsoleHistory(
+            GetConsoleHistoryRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetConsoleHistoryRequest, GetConsoleHistoryResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getConsoleHistory(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the actual console history data (not the metadata).
      * See {@link #captureConsoleHistory(CaptureConsoleHistoryRequest, Consumer, Consumer) captureConsoleHistory}
@@ -453,6 +880,26 @@ public interface ComputeAsync extends AutoCloseable {
                             GetConsoleHistoryContentRequest, GetConsoleHistoryContentResponse>
                     handler);
 
+    /**
+     * Gets the actual console history data (not the metadata).
+     * See {@link #captureConsoleHistory(CaptureConsoleHistoryRequest, Consumer, Consumer) captureConsoleHistory}
+     * for details about using the console history operations.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetConsoleHistoryContentResponse>
+            getConsoleHistoryContent(GetConsoleHistoryContentRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetConsoleHistoryContentRequest, GetConsoleHistoryContentResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getConsoleHistoryContent(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the specified image.
      *
@@ -467,6 +914,23 @@ public interface ComputeAsync extends AutoCloseable {
             GetImageRequest request,
             com.oracle.bmc.responses.AsyncHandler<GetImageRequest, GetImageResponse> handler);
 
+    /**
+     * Gets the specified image.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetImageResponse> getImage(
+            GetImageRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetImageRequest, GetImageResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getImage(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets information about the specified instance.
      *
@@ -481,6 +945,23 @@ public interface ComputeAsync extends AutoCloseable {
             GetInstanceRequest request,
             com.oracle.bmc.responses.AsyncHandler<GetInstanceRequest, GetInstanceResponse> handler);
 
+    /**
+     * Gets information about the specified instance.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetInstanceResponse> getInstance(
+            GetInstanceRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetInstanceRequest, GetInstanceResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getInstance(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the specified instance console connection's information.
      *
@@ -498,6 +979,23 @@ public interface ComputeAsync extends AutoCloseable {
                             GetInstanceConsoleConnectionResponse>
                     handler);
 
+    /**
+     * Gets the specified instance console connection's information.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetInstanceConsoleConnectionResponse>
+            getInstanceConsoleConnection(GetInstanceConsoleConnectionRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetInstanceConsoleConnectionRequest, GetInstanceConsoleConnectionResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getInstanceConsoleConnection(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the information for the specified VNIC attachment.
      *
@@ -515,6 +1013,24 @@ public interface ComputeAsync extends AutoCloseable {
                             GetVnicAttachmentRequest, GetVnicAttachmentResponse>
                     handler);
 
+    /**
+     * Gets the information for the specified VNIC attachment.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetVnicAttachmentResponse> getVnicAttachment(
+            GetVnicAttachmentRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetVnicAttachmentRequest, GetVnicAttachmentResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getVnicAttachment(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets information about the specified volume attachment.
      *
@@ -531,6 +1047,23 @@ public interface ComputeAsync extends AutoCloseable {
                             GetVolumeAttachmentRequest, GetVolumeAttachmentResponse>
                     handler);
 
+    /**
+     * Gets information about the specified volume attachment.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetVolumeAttachmentResponse> getVolumeAttachment(
+            GetVolumeAttachmentRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetVolumeAttachmentRequest, GetVolumeAttachmentResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getVolumeAttachment(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the generated credentials for the instance. Only works for instances that require password to log in (E.g. Windows).
      * For certain OS'es, users will be forced to change the initial credentials.
@@ -551,6 +1084,27 @@ public interface ComputeAsync extends AutoCloseable {
                                     GetWindowsInstanceInitialCredentialsResponse>
                             handler);
 
+    /**
+     * Gets the generated credentials for the instance. Only works for instances that require password to log in (E.g. Windows).
+     * For certain OS'es, users will be forced to change the initial credentials.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetWindowsInstanceInitialCredentialsResponse>
+            getWindowsInstanceInitialCredentials(
+                    GetWindowsInstanceInitialCredentialsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetWindowsInstanceInitialCredentialsRequest,
+                        GetWindowsInstanceInitialCredentialsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getWindowsInstanceInitialCredentials(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Performs one of the following power actions on the specified instance:
      * <p>
@@ -579,6 +1133,36 @@ public interface ComputeAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<InstanceActionRequest, InstanceActionResponse>
                     handler);
 
+    /**
+     * Performs one of the following power actions on the specified instance:
+     * <p>
+     * - **START** - Powers on the instance.
+     * <p>
+     * - **STOP** - Powers off the instance.
+     * <p>
+     * - **SOFTRESET** - Gracefully reboots instance by sending a shutdown command to the operating system and then powers the instance back on.
+     * <p>
+     * - **SOFTSTOP** - Gracefully shuts down instance by sending a shutdown command to the operating system.
+     * <p>
+     * - **RESET** - Powers off the instance and then powers it back on.
+     * <p>
+     * For more information see [Stopping and Starting an Instance](https://docs.cloud.oracle.com/Content/Compute/Tasks/restartinginstance.htm).
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<InstanceActionResponse> instanceAction(
+            InstanceActionRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        InstanceActionRequest, InstanceActionResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        instanceAction(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Creates a new instance in the specified compartment and the specified availability domain.
      * For general information about instances, see
@@ -625,6 +1209,54 @@ public interface ComputeAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<LaunchInstanceRequest, LaunchInstanceResponse>
                     handler);
 
+    /**
+     * Creates a new instance in the specified compartment and the specified availability domain.
+     * For general information about instances, see
+     * [Overview of the Compute Service](https://docs.cloud.oracle.com/Content/Compute/Concepts/computeoverview.htm).
+     * <p>
+     * For information about access control and compartments, see
+     * [Overview of the IAM Service](https://docs.cloud.oracle.com/Content/Identity/Concepts/overview.htm).
+     * <p>
+     * For information about availability domains, see
+     * [Regions and Availability Domains](https://docs.cloud.oracle.com/Content/General/Concepts/regions.htm).
+     * To get a list of availability domains, use the `ListAvailabilityDomains` operation
+     * in the Identity and Access Management Service API.
+     * <p>
+     * All Oracle Cloud Infrastructure resources, including instances, get an Oracle-assigned,
+     * unique ID called an Oracle Cloud Identifier (OCID).
+     * When you create a resource, you can find its OCID in the response. You can
+     * also retrieve a resource's OCID by using a List API operation
+     * on that resource type, or by viewing the resource in the Console.
+     * <p>
+     * To launch an instance using an image or a boot volume use the `sourceDetails` parameter in {@link LaunchInstanceDetails}.
+     * <p>
+     * When you launch an instance, it is automatically attached to a virtual
+     * network interface card (VNIC), called the *primary VNIC*. The VNIC
+     * has a private IP address from the subnet's CIDR. You can either assign a
+     * private IP address of your choice or let Oracle automatically assign one.
+     * You can choose whether the instance has a public IP address. To retrieve the
+     * addresses, use the {@link #listVnicAttachments(ListVnicAttachmentsRequest, Consumer, Consumer) listVnicAttachments}
+     * operation to get the VNIC ID for the instance, and then call
+     * {@link #getVnic(GetVnicRequest, Consumer, Consumer) getVnic} with the VNIC ID.
+     * <p>
+     * You can later add secondary VNICs to an instance. For more information, see
+     * [Virtual Network Interface Cards (VNICs)](https://docs.cloud.oracle.com/Content/Network/Tasks/managingVNICs.htm).
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<LaunchInstanceResponse> launchInstance(
+            LaunchInstanceRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        LaunchInstanceRequest, LaunchInstanceResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        launchInstance(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets all resource versions for a particular listing.
      *
@@ -643,6 +1275,25 @@ public interface ComputeAsync extends AutoCloseable {
                                     ListAppCatalogListingResourceVersionsResponse>
                             handler);
 
+    /**
+     * Gets all resource versions for a particular listing.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListAppCatalogListingResourceVersionsResponse>
+            listAppCatalogListingResourceVersions(
+                    ListAppCatalogListingResourceVersionsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListAppCatalogListingResourceVersionsRequest,
+                        ListAppCatalogListingResourceVersionsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listAppCatalogListingResourceVersions(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists the published listings.
      *
@@ -659,6 +1310,23 @@ public interface ComputeAsync extends AutoCloseable {
                             ListAppCatalogListingsRequest, ListAppCatalogListingsResponse>
                     handler);
 
+    /**
+     * Lists the published listings.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListAppCatalogListingsResponse>
+            listAppCatalogListings(ListAppCatalogListingsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListAppCatalogListingsRequest, ListAppCatalogListingsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listAppCatalogListings(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists subscriptions for a compartment.
      *
@@ -675,6 +1343,23 @@ public interface ComputeAsync extends AutoCloseable {
                             ListAppCatalogSubscriptionsRequest, ListAppCatalogSubscriptionsResponse>
                     handler);
 
+    /**
+     * Lists subscriptions for a compartment.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListAppCatalogSubscriptionsResponse>
+            listAppCatalogSubscriptions(ListAppCatalogSubscriptionsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListAppCatalogSubscriptionsRequest, ListAppCatalogSubscriptionsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listAppCatalogSubscriptions(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists the boot volume attachments in the specified compartment. You can filter the
      * list by specifying an instance OCID, boot volume OCID, or both.
@@ -693,6 +1378,25 @@ public interface ComputeAsync extends AutoCloseable {
                             ListBootVolumeAttachmentsRequest, ListBootVolumeAttachmentsResponse>
                     handler);
 
+    /**
+     * Lists the boot volume attachments in the specified compartment. You can filter the
+     * list by specifying an instance OCID, boot volume OCID, or both.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListBootVolumeAttachmentsResponse>
+            listBootVolumeAttachments(ListBootVolumeAttachmentsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListBootVolumeAttachmentsRequest, ListBootVolumeAttachmentsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listBootVolumeAttachments(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists the console history metadata for the specified compartment or instance.
      *
@@ -710,6 +1414,24 @@ public interface ComputeAsync extends AutoCloseable {
                             ListConsoleHistoriesRequest, ListConsoleHistoriesResponse>
                     handler);
 
+    /**
+     * Lists the console history metadata for the specified compartment or instance.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListConsoleHistoriesResponse> listConsoleHistories(
+            ListConsoleHistoriesRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListConsoleHistoriesRequest, ListConsoleHistoriesResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listConsoleHistories(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists the available images in the specified compartment, including both
      * [Oracle-provided images](https://docs.cloud.oracle.com/Content/Compute/References/images.htm) and
@@ -731,6 +1453,30 @@ public interface ComputeAsync extends AutoCloseable {
             ListImagesRequest request,
             com.oracle.bmc.responses.AsyncHandler<ListImagesRequest, ListImagesResponse> handler);
 
+    /**
+     * Lists the available images in the specified compartment, including both
+     * [Oracle-provided images](https://docs.cloud.oracle.com/Content/Compute/References/images.htm) and
+     * [custom images](https://docs.cloud.oracle.com/Content/Compute/Tasks/managingcustomimages.htm) that have
+     * been created. The list of images returned is ordered to first show all
+     * Oracle-provided images, then all custom images.
+     * <p>
+     * The order of images returned may change when new images are released.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListImagesResponse> listImages(
+            ListImagesRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListImagesRequest, ListImagesResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listImages(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists the console connections for the specified compartment or instance.
      * <p>
@@ -752,6 +1498,27 @@ public interface ComputeAsync extends AutoCloseable {
                                     ListInstanceConsoleConnectionsResponse>
                             handler);
 
+    /**
+     * Lists the console connections for the specified compartment or instance.
+     * <p>
+     * For more information about console access, see [Accessing the Console](https://docs.cloud.oracle.com/Content/Compute/References/serialconsole.htm).
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListInstanceConsoleConnectionsResponse>
+            listInstanceConsoleConnections(ListInstanceConsoleConnectionsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListInstanceConsoleConnectionsRequest,
+                        ListInstanceConsoleConnectionsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listInstanceConsoleConnections(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets a list of all the devices for given instance. You can optionally filter results by device availability.
      *
@@ -768,6 +1535,23 @@ public interface ComputeAsync extends AutoCloseable {
                             ListInstanceDevicesRequest, ListInstanceDevicesResponse>
                     handler);
 
+    /**
+     * Gets a list of all the devices for given instance. You can optionally filter results by device availability.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListInstanceDevicesResponse> listInstanceDevices(
+            ListInstanceDevicesRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListInstanceDevicesRequest, ListInstanceDevicesResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listInstanceDevices(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists the instances in the specified compartment and the specified availability domain.
      * You can filter the results by specifying an instance name (the list will include all the identically-named
@@ -786,6 +1570,26 @@ public interface ComputeAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<ListInstancesRequest, ListInstancesResponse>
                     handler);
 
+    /**
+     * Lists the instances in the specified compartment and the specified availability domain.
+     * You can filter the results by specifying an instance name (the list will include all the identically-named
+     * instances in the compartment).
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListInstancesResponse> listInstances(
+            ListInstancesRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListInstancesRequest, ListInstancesResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listInstances(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists the shapes that can be used to launch an instance within the specified compartment. You can
      * filter the list by compatibility with a specific image.
@@ -802,6 +1606,25 @@ public interface ComputeAsync extends AutoCloseable {
             ListShapesRequest request,
             com.oracle.bmc.responses.AsyncHandler<ListShapesRequest, ListShapesResponse> handler);
 
+    /**
+     * Lists the shapes that can be used to launch an instance within the specified compartment. You can
+     * filter the list by compatibility with a specific image.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListShapesResponse> listShapes(
+            ListShapesRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListShapesRequest, ListShapesResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listShapes(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists the VNIC attachments in the specified compartment. A VNIC attachment
      * resides in the same compartment as the attached instance. The list can be
@@ -821,6 +1644,26 @@ public interface ComputeAsync extends AutoCloseable {
                             ListVnicAttachmentsRequest, ListVnicAttachmentsResponse>
                     handler);
 
+    /**
+     * Lists the VNIC attachments in the specified compartment. A VNIC attachment
+     * resides in the same compartment as the attached instance. The list can be
+     * filtered by instance, VNIC, or availability domain.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListVnicAttachmentsResponse> listVnicAttachments(
+            ListVnicAttachmentsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListVnicAttachmentsRequest, ListVnicAttachmentsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listVnicAttachments(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists the volume attachments in the specified compartment. You can filter the
      * list by specifying an instance OCID, volume OCID, or both.
@@ -842,6 +1685,28 @@ public interface ComputeAsync extends AutoCloseable {
                             ListVolumeAttachmentsRequest, ListVolumeAttachmentsResponse>
                     handler);
 
+    /**
+     * Lists the volume attachments in the specified compartment. You can filter the
+     * list by specifying an instance OCID, volume OCID, or both.
+     * <p>
+     * Currently, the only supported volume attachment type are {@link IScsiVolumeAttachment} and
+     * {@link ParavirtualizedVolumeAttachment}.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListVolumeAttachmentsResponse>
+            listVolumeAttachments(ListVolumeAttachmentsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListVolumeAttachmentsRequest, ListVolumeAttachmentsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listVolumeAttachments(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Terminates the specified instance. Any attached VNICs and volumes are automatically detached
      * when the instance terminates.
@@ -866,6 +1731,31 @@ public interface ComputeAsync extends AutoCloseable {
                             TerminateInstanceRequest, TerminateInstanceResponse>
                     handler);
 
+    /**
+     * Terminates the specified instance. Any attached VNICs and volumes are automatically detached
+     * when the instance terminates.
+     * <p>
+     * To preserve the boot volume associated with the instance, specify `true` for `PreserveBootVolumeQueryParam`.
+     * To delete the boot volume when the instance is deleted, specify `false` or do not specify a value for `PreserveBootVolumeQueryParam`.
+     * <p>
+     * This is an asynchronous operation. The instance's `lifecycleState` will change to TERMINATING temporarily
+     * until the instance is completely removed.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<TerminateInstanceResponse> terminateInstance(
+            TerminateInstanceRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        TerminateInstanceRequest, TerminateInstanceResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        terminateInstance(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Updates the specified console history metadata.
      *
@@ -882,6 +1772,23 @@ public interface ComputeAsync extends AutoCloseable {
                             UpdateConsoleHistoryRequest, UpdateConsoleHistoryResponse>
                     handler);
 
+    /**
+     * Updates the specified console history metadata.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateConsoleHistoryResponse> updateConsoleHistory(
+            UpdateConsoleHistoryRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateConsoleHistoryRequest, UpdateConsoleHistoryResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateConsoleHistory(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Updates the display name of the image. Avoid entering confidential information.
      *
@@ -896,6 +1803,23 @@ public interface ComputeAsync extends AutoCloseable {
             UpdateImageRequest request,
             com.oracle.bmc.responses.AsyncHandler<UpdateImageRequest, UpdateImageResponse> handler);
 
+    /**
+     * Updates the display name of the image. Avoid entering confidential information.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateImageResponse> updateImage(
+            UpdateImageRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateImageRequest, UpdateImageResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateImage(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Updates certain fields on the specified instance. Fields that are not provided in the
      * request will not be updated. Avoid entering confidential information.
@@ -917,4 +1841,28 @@ public interface ComputeAsync extends AutoCloseable {
             UpdateInstanceRequest request,
             com.oracle.bmc.responses.AsyncHandler<UpdateInstanceRequest, UpdateInstanceResponse>
                     handler);
+
+    /**
+     * Updates certain fields on the specified instance. Fields that are not provided in the
+     * request will not be updated. Avoid entering confidential information.
+     * <p>
+     * Changes to metadata fields will be reflected in the instance metadata service (this may take
+     * up to a minute).
+     * <p>
+     * The OCID of the instance remains the same.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateInstanceResponse> updateInstance(
+            UpdateInstanceRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateInstanceRequest, UpdateInstanceResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateInstance(request, handler);
+        return handler.getStage();
+    }
 }
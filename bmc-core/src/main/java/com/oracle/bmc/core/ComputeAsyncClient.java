@@ -391,6 +391,33 @@ public class ComputeAsyncClient implements ComputeAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<AttachBootVolumeResponse> attachBootVolume(
+            final AttachBootVolumeRequest request) {
+        LOG.trace("Called async attachBootVolume");
+        final AttachBootVolumeRequest interceptedRequest =
+                AttachBootVolumeConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                AttachBootVolumeConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, AttachBootVolumeResponse>
+                transformer = AttachBootVolumeConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getAttachBootVolumeDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<AttachVnicResponse> attachVnic(
             final AttachVnicRequest request,
@@ -478,6 +505,30 @@ public class ComputeAsyncClient implements ComputeAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<AttachVnicResponse> attachVnic(
+            final AttachVnicRequest request) {
+        LOG.trace("Called async attachVnic");
+        final AttachVnicRequest interceptedRequest = AttachVnicConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                AttachVnicConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, AttachVnicResponse>
+                transformer = AttachVnicConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib, interceptedRequest.getAttachVnicDetails(), interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<AttachVolumeResponse> attachVolume(
             final AttachVolumeRequest request,
@@ -566,6 +617,33 @@ public class ComputeAsyncClient implements ComputeAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<AttachVolumeResponse> attachVolume(
+            final AttachVolumeRequest request) {
+        LOG.trace("Called async attachVolume");
+        final AttachVolumeRequest interceptedRequest =
+                AttachVolumeConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                AttachVolumeConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, AttachVolumeResponse>
+                transformer = AttachVolumeConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getAttachVolumeDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CaptureConsoleHistoryResponse> captureConsoleHistory(
             final CaptureConsoleHistoryRequest request,
@@ -657,6 +735,34 @@ public class ComputeAsyncClient implements ComputeAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CaptureConsoleHistoryResponse>
+            captureConsoleHistory(final CaptureConsoleHistoryRequest request) {
+        LOG.trace("Called async captureConsoleHistory");
+        final CaptureConsoleHistoryRequest interceptedRequest =
+                CaptureConsoleHistoryConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CaptureConsoleHistoryConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, CaptureConsoleHistoryResponse>
+                transformer = CaptureConsoleHistoryConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCaptureConsoleHistoryDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateAppCatalogSubscriptionResponse>
             createAppCatalogSubscription(
@@ -751,6 +857,34 @@ public class ComputeAsyncClient implements ComputeAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateAppCatalogSubscriptionResponse>
+            createAppCatalogSubscription(final CreateAppCatalogSubscriptionRequest request) {
+        LOG.trace("Called async createAppCatalogSubscription");
+        final CreateAppCatalogSubscriptionRequest interceptedRequest =
+                CreateAppCatalogSubscriptionConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateAppCatalogSubscriptionConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, CreateAppCatalogSubscriptionResponse>
+                transformer = CreateAppCatalogSubscriptionConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreateAppCatalogSubscriptionDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateImageResponse> createImage(
             final CreateImageRequest request,
@@ -839,6 +973,31 @@ public class ComputeAsyncClient implements ComputeAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateImageResponse> createImage(
+            final CreateImageRequest request) {
+        LOG.trace("Called async createImage");
+        final CreateImageRequest interceptedRequest =
+                CreateImageConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateImageConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, CreateImageResponse>
+                transformer = CreateImageConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib, interceptedRequest.getCreateImageDetails(), interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateInstanceConsoleConnectionResponse>
             createInstanceConsoleConnection(
@@ -934,6 +1093,34 @@ public class ComputeAsyncClient implements ComputeAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateInstanceConsoleConnectionResponse>
+            createInstanceConsoleConnection(final CreateInstanceConsoleConnectionRequest request) {
+        LOG.trace("Called async createInstanceConsoleConnection");
+        final CreateInstanceConsoleConnectionRequest interceptedRequest =
+                CreateInstanceConsoleConnectionConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateInstanceConsoleConnectionConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, CreateInstanceConsoleConnectionResponse>
+                transformer = CreateInstanceConsoleConnectionConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreateInstanceConsoleConnectionDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteAppCatalogSubscriptionResponse>
             deleteAppCatalogSubscription(
@@ -1013,6 +1200,31 @@ public class ComputeAsyncClient implements ComputeAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteAppCatalogSubscriptionResponse>
+            deleteAppCatalogSubscription(final DeleteAppCatalogSubscriptionRequest request) {
+        LOG.trace("Called async deleteAppCatalogSubscription");
+        final DeleteAppCatalogSubscriptionRequest interceptedRequest =
+                DeleteAppCatalogSubscriptionConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteAppCatalogSubscriptionConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, DeleteAppCatalogSubscriptionResponse>
+                transformer = DeleteAppCatalogSubscriptionConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteConsoleHistoryResponse> deleteConsoleHistory(
             final DeleteConsoleHistoryRequest request,
@@ -1089,6 +1301,31 @@ public class ComputeAsyncClient implements ComputeAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteConsoleHistoryResponse> deleteConsoleHistory(
+            final DeleteConsoleHistoryRequest request) {
+        LOG.trace("Called async deleteConsoleHistory");
+        final DeleteConsoleHistoryRequest interceptedRequest =
+                DeleteConsoleHistoryConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteConsoleHistoryConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, DeleteConsoleHistoryResponse>
+                transformer = DeleteConsoleHistoryConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteImageResponse> deleteImage(
             final DeleteImageRequest request,
@@ -1162,6 +1399,30 @@ public class ComputeAsyncClient implements ComputeAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteImageResponse> deleteImage(
+            final DeleteImageRequest request) {
+        LOG.trace("Called async deleteImage");
+        final DeleteImageRequest interceptedRequest =
+                DeleteImageConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteImageConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, DeleteImageResponse>
+                transformer = DeleteImageConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteInstanceConsoleConnectionResponse>
             deleteInstanceConsoleConnection(
@@ -1242,6 +1503,31 @@ public class ComputeAsyncClient implements ComputeAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteInstanceConsoleConnectionResponse>
+            deleteInstanceConsoleConnection(final DeleteInstanceConsoleConnectionRequest request) {
+        LOG.trace("Called async deleteInstanceConsoleConnection");
+        final DeleteInstanceConsoleConnectionRequest interceptedRequest =
+                DeleteInstanceConsoleConnectionConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteInstanceConsoleConnectionConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, DeleteInstanceConsoleConnectionResponse>
+                transformer = DeleteInstanceConsoleConnectionConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DetachBootVolumeResponse> detachBootVolume(
             final DetachBootVolumeRequest request,
@@ -1316,6 +1602,30 @@ public class ComputeAsyncClient implements ComputeAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DetachBootVolumeResponse> detachBootVolume(
+            final DetachBootVolumeRequest request) {
+        LOG.trace("Called async detachBootVolume");
+        final DetachBootVolumeRequest interceptedRequest =
+                DetachBootVolumeConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DetachBootVolumeConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, DetachBootVolumeResponse>
+                transformer = DetachBootVolumeConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DetachVnicResponse> detachVnic(
             final DetachVnicRequest request,
@@ -1388,6 +1698,29 @@ public class ComputeAsyncClient implements ComputeAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DetachVnicResponse> detachVnic(
+            final DetachVnicRequest request) {
+        LOG.trace("Called async detachVnic");
+        final DetachVnicRequest interceptedRequest = DetachVnicConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DetachVnicConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, DetachVnicResponse>
+                transformer = DetachVnicConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DetachVolumeResponse> detachVolume(
             final DetachVolumeRequest request,
@@ -1461,6 +1794,30 @@ public class ComputeAsyncClient implements ComputeAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DetachVolumeResponse> detachVolume(
+            final DetachVolumeRequest request) {
+        LOG.trace("Called async detachVolume");
+        final DetachVolumeRequest interceptedRequest =
+                DetachVolumeConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DetachVolumeConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, DetachVolumeResponse>
+                transformer = DetachVolumeConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ExportImageResponse> exportImage(
             final ExportImageRequest request,
@@ -1549,6 +1906,31 @@ public class ComputeAsyncClient implements ComputeAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ExportImageResponse> exportImage(
+            final ExportImageRequest request) {
+        LOG.trace("Called async exportImage");
+        final ExportImageRequest interceptedRequest =
+                ExportImageConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ExportImageConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ExportImageResponse>
+                transformer = ExportImageConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib, interceptedRequest.getExportImageDetails(), interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetAppCatalogListingResponse> getAppCatalogListing(
             final GetAppCatalogListingRequest request,
@@ -1625,6 +2007,31 @@ public class ComputeAsyncClient implements ComputeAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetAppCatalogListingResponse> getAppCatalogListing(
+            final GetAppCatalogListingRequest request) {
+        LOG.trace("Called async getAppCatalogListing");
+        final GetAppCatalogListingRequest interceptedRequest =
+                GetAppCatalogListingConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetAppCatalogListingConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, GetAppCatalogListingResponse>
+                transformer = GetAppCatalogListingConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetAppCatalogListingAgreementsResponse>
             getAppCatalogListingAgreements(
@@ -1705,6 +2112,31 @@ public class ComputeAsyncClient implements ComputeAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetAppCatalogListingAgreementsResponse>
+            getAppCatalogListingAgreements(final GetAppCatalogListingAgreementsRequest request) {
+        LOG.trace("Called async getAppCatalogListingAgreements");
+        final GetAppCatalogListingAgreementsRequest interceptedRequest =
+                GetAppCatalogListingAgreementsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetAppCatalogListingAgreementsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, GetAppCatalogListingAgreementsResponse>
+                transformer = GetAppCatalogListingAgreementsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetAppCatalogListingResourceVersionResponse>
             getAppCatalogListingResourceVersion(
@@ -1786,6 +2218,32 @@ public class ComputeAsyncClient implements ComputeAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetAppCatalogListingResourceVersionResponse>
+            getAppCatalogListingResourceVersion(final GetAppCatalogListingResourceVersionRequest request) {
+        LOG.trace("Called async getAppCatalogListingResourceVersion");
+        final GetAppCatalogListingResourceVersionRequest interceptedRequest =
+                GetAppCatalogListingResourceVersionConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetAppCatalogListingResourceVersionConverter.fromRequest(
+                        client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, GetAppCatalogListingResourceVersionResponse>
+                transformer = GetAppCatalogListingResourceVersionConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetBootVolumeAttachmentResponse> getBootVolumeAttachment(
             final GetBootVolumeAttachmentRequest request,
@@ -1862,6 +2320,31 @@ public class ComputeAsyncClient implements ComputeAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetBootVolumeAttachmentResponse>
+            getBootVolumeAttachment(final GetBootVolumeAttachmentRequest request) {
+        LOG.trace("Called async getBootVolumeAttachment");
+        final GetBootVolumeAttachmentRequest interceptedRequest =
+                GetBootVolumeAttachmentConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetBootVolumeAttachmentConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, GetBootVolumeAttachmentResponse>
+                transformer = GetBootVolumeAttachmentConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetConsoleHistoryResponse> getConsoleHistory(
             final GetConsoleHistoryRequest request,
@@ -1936,6 +2419,30 @@ public class ComputeAsyncClient implements ComputeAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetConsoleHistoryResponse> getConsoleHistory(
+            final GetConsoleHistoryRequest request) {
+        LOG.trace("Called async getConsoleHistory");
+        final GetConsoleHistoryRequest interceptedRequest =
+                GetConsoleHistoryConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetConsoleHistoryConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetConsoleHistoryResponse>
+                transformer = GetConsoleHistoryConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetConsoleHistoryContentResponse> getConsoleHistoryContent(
             final GetConsoleHistoryContentRequest request,
@@ -2012,6 +2519,31 @@ public class ComputeAsyncClient implements ComputeAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetConsoleHistoryContentResponse>
+            getConsoleHistoryContent(final GetConsoleHistoryContentRequest request) {
+        LOG.trace("Called async getConsoleHistoryContent");
+        final GetConsoleHistoryContentRequest interceptedRequest =
+                GetConsoleHistoryContentConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetConsoleHistoryContentConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, GetConsoleHistoryContentResponse>
+                transformer = GetConsoleHistoryContentConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetImageResponse> getImage(
             final GetImageRequest request,
@@ -2084,6 +2616,29 @@ public class ComputeAsyncClient implements ComputeAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetImageResponse> getImage(
+            final GetImageRequest request) {
+        LOG.trace("Called async getImage");
+        final GetImageRequest interceptedRequest = GetImageConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetImageConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetImageResponse>
+                transformer = GetImageConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetInstanceResponse> getInstance(
             final GetInstanceRequest request,
@@ -2158,11 +2713,35 @@ public class ComputeAsyncClient implements ComputeAsync {
     }
 
     @Override
-    public java.util.concurrent.Future<GetInstanceConsoleConnectionResponse>
-            getInstanceConsoleConnection(
-                    final GetInstanceConsoleConnectionRequest request,
-                    final com.oracle.bmc.responses.AsyncHandler<
-                                    GetInstanceConsoleConnectionRequest,
+    public java.util.concurrent.CompletionStage<GetInstanceResponse> getInstance(
+            final GetInstanceRequest request) {
+        LOG.trace("Called async getInstance");
+        final GetInstanceRequest interceptedRequest =
+                GetInstanceConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetInstanceConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetInstanceResponse>
+                transformer = GetInstanceConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
+    @Override
+    public java.util.concurrent.Future<GetInstanceConsoleConnectionResponse>
+            getInstanceConsoleConnection(
+                    final GetInstanceConsoleConnectionRequest request,
+                    final com.oracle.bmc.responses.AsyncHandler<
+                                    GetInstanceConsoleConnectionRequest,
                                     GetInstanceConsoleConnectionResponse>
                             handler) {
         LOG.trace("Called async getInstanceConsoleConnection");
@@ -2236,6 +2815,31 @@ public class ComputeAsyncClient implements ComputeAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetInstanceConsoleConnectionResponse>
+            getInstanceConsoleConnection(final GetInstanceConsoleConnectionRequest request) {
+        LOG.trace("Called async getInstanceConsoleConnection");
+        final GetInstanceConsoleConnectionRequest interceptedRequest =
+                GetInstanceConsoleConnectionConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetInstanceConsoleConnectionConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, GetInstanceConsoleConnectionResponse>
+                transformer = GetInstanceConsoleConnectionConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetVnicAttachmentResponse> getVnicAttachment(
             final GetVnicAttachmentRequest request,
@@ -2310,6 +2914,30 @@ public class ComputeAsyncClient implements ComputeAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetVnicAttachmentResponse> getVnicAttachment(
+            final GetVnicAttachmentRequest request) {
+        LOG.trace("Called async getVnicAttachment");
+        final GetVnicAttachmentRequest interceptedRequest =
+                GetVnicAttachmentConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetVnicAttachmentConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetVnicAttachmentResponse>
+                transformer = GetVnicAttachmentConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetVolumeAttachmentResponse> getVolumeAttachment(
             final GetVolumeAttachmentRequest request,
@@ -2386,6 +3014,31 @@ public class ComputeAsyncClient implements ComputeAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetVolumeAttachmentResponse> getVolumeAttachment(
+            final GetVolumeAttachmentRequest request) {
+        LOG.trace("Called async getVolumeAttachment");
+        final GetVolumeAttachmentRequest interceptedRequest =
+                GetVolumeAttachmentConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetVolumeAttachmentConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, GetVolumeAttachmentResponse>
+                transformer = GetVolumeAttachmentConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetWindowsInstanceInitialCredentialsResponse>
             getWindowsInstanceInitialCredentials(
@@ -2467,6 +3120,32 @@ public class ComputeAsyncClient implements ComputeAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetWindowsInstanceInitialCredentialsResponse>
+            getWindowsInstanceInitialCredentials(final GetWindowsInstanceInitialCredentialsRequest request) {
+        LOG.trace("Called async getWindowsInstanceInitialCredentials");
+        final GetWindowsInstanceInitialCredentialsRequest interceptedRequest =
+                GetWindowsInstanceInitialCredentialsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetWindowsInstanceInitialCredentialsConverter.fromRequest(
+                        client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, GetWindowsInstanceInitialCredentialsResponse>
+                transformer = GetWindowsInstanceInitialCredentialsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<InstanceActionResponse> instanceAction(
             final InstanceActionRequest request,
@@ -2541,6 +3220,30 @@ public class ComputeAsyncClient implements ComputeAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<InstanceActionResponse> instanceAction(
+            final InstanceActionRequest request) {
+        LOG.trace("Called async instanceAction");
+        final InstanceActionRequest interceptedRequest =
+                InstanceActionConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                InstanceActionConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, InstanceActionResponse>
+                transformer = InstanceActionConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<LaunchInstanceResponse> launchInstance(
             final LaunchInstanceRequest request,
@@ -2630,6 +3333,33 @@ public class ComputeAsyncClient implements ComputeAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<LaunchInstanceResponse> launchInstance(
+            final LaunchInstanceRequest request) {
+        LOG.trace("Called async launchInstance");
+        final LaunchInstanceRequest interceptedRequest =
+                LaunchInstanceConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                LaunchInstanceConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, LaunchInstanceResponse>
+                transformer = LaunchInstanceConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getLaunchInstanceDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListAppCatalogListingResourceVersionsResponse>
             listAppCatalogListingResourceVersions(
@@ -2711,6 +3441,32 @@ public class ComputeAsyncClient implements ComputeAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListAppCatalogListingResourceVersionsResponse>
+            listAppCatalogListingResourceVersions(final ListAppCatalogListingResourceVersionsRequest request) {
+        LOG.trace("Called async listAppCatalogListingResourceVersions");
+        final ListAppCatalogListingResourceVersionsRequest interceptedRequest =
+                ListAppCatalogListingResourceVersionsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListAppCatalogListingResourceVersionsConverter.fromRequest(
+                        client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, ListAppCatalogListingResourceVersionsResponse>
+                transformer = ListAppCatalogListingResourceVersionsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListAppCatalogListingsResponse> listAppCatalogListings(
             final ListAppCatalogListingsRequest request,
@@ -2787,6 +3543,31 @@ public class ComputeAsyncClient implements ComputeAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListAppCatalogListingsResponse>
+            listAppCatalogListings(final ListAppCatalogListingsRequest request) {
+        LOG.trace("Called async listAppCatalogListings");
+        final ListAppCatalogListingsRequest interceptedRequest =
+                ListAppCatalogListingsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListAppCatalogListingsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, ListAppCatalogListingsResponse>
+                transformer = ListAppCatalogListingsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListAppCatalogSubscriptionsResponse>
             listAppCatalogSubscriptions(
@@ -2866,6 +3647,31 @@ public class ComputeAsyncClient implements ComputeAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListAppCatalogSubscriptionsResponse>
+            listAppCatalogSubscriptions(final ListAppCatalogSubscriptionsRequest request) {
+        LOG.trace("Called async listAppCatalogSubscriptions");
+        final ListAppCatalogSubscriptionsRequest interceptedRequest =
+                ListAppCatalogSubscriptionsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListAppCatalogSubscriptionsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, ListAppCatalogSubscriptionsResponse>
+                transformer = ListAppCatalogSubscriptionsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListBootVolumeAttachmentsResponse> listBootVolumeAttachments(
             final ListBootVolumeAttachmentsRequest request,
@@ -2942,6 +3748,31 @@ public class ComputeAsyncClient implements ComputeAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListBootVolumeAttachmentsResponse>
+            listBootVolumeAttachments(final ListBootVolumeAttachmentsRequest request) {
+        LOG.trace("Called async listBootVolumeAttachments");
+        final ListBootVolumeAttachmentsRequest interceptedRequest =
+                ListBootVolumeAttachmentsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListBootVolumeAttachmentsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, ListBootVolumeAttachmentsResponse>
+                transformer = ListBootVolumeAttachmentsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListConsoleHistoriesResponse> listConsoleHistories(
             final ListConsoleHistoriesRequest request,
@@ -3018,6 +3849,31 @@ public class ComputeAsyncClient implements ComputeAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListConsoleHistoriesResponse> listConsoleHistories(
+            final ListConsoleHistoriesRequest request) {
+        LOG.trace("Called async listConsoleHistories");
+        final ListConsoleHistoriesRequest interceptedRequest =
+                ListConsoleHistoriesConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListConsoleHistoriesConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, ListConsoleHistoriesResponse>
+                transformer = ListConsoleHistoriesConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListImagesResponse> listImages(
             final ListImagesRequest request,
@@ -3090,6 +3946,29 @@ public class ComputeAsyncClient implements ComputeAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListImagesResponse> listImages(
+            final ListImagesRequest request) {
+        LOG.trace("Called async listImages");
+        final ListImagesRequest interceptedRequest = ListImagesConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListImagesConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListImagesResponse>
+                transformer = ListImagesConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListInstanceConsoleConnectionsResponse>
             listInstanceConsoleConnections(
@@ -3170,6 +4049,31 @@ public class ComputeAsyncClient implements ComputeAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListInstanceConsoleConnectionsResponse>
+            listInstanceConsoleConnections(final ListInstanceConsoleConnectionsRequest request) {
+        LOG.trace("Called async listInstanceConsoleConnections");
+        final ListInstanceConsoleConnectionsRequest interceptedRequest =
+                ListInstanceConsoleConnectionsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListInstanceConsoleConnectionsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, ListInstanceConsoleConnectionsResponse>
+                transformer = ListInstanceConsoleConnectionsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListInstanceDevicesResponse> listInstanceDevices(
             final ListInstanceDevicesRequest request,
@@ -3246,6 +4150,31 @@ public class ComputeAsyncClient implements ComputeAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListInstanceDevicesResponse> listInstanceDevices(
+            final ListInstanceDevicesRequest request) {
+        LOG.trace("Called async listInstanceDevices");
+        final ListInstanceDevicesRequest interceptedRequest =
+                ListInstanceDevicesConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListInstanceDevicesConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, ListInstanceDevicesResponse>
+                transformer = ListInstanceDevicesConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListInstancesResponse> listInstances(
             final ListInstancesRequest request,
@@ -3319,6 +4248,30 @@ public class ComputeAsyncClient implements ComputeAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListInstancesResponse> listInstances(
+            final ListInstancesRequest request) {
+        LOG.trace("Called async listInstances");
+        final ListInstancesRequest interceptedRequest =
+                ListInstancesConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListInstancesConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListInstancesResponse>
+                transformer = ListInstancesConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListShapesResponse> listShapes(
             final ListShapesRequest request,
@@ -3391,6 +4344,29 @@ public class ComputeAsyncClient implements ComputeAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListShapesResponse> listShapes(
+            final ListShapesRequest request) {
+        LOG.trace("Called async listShapes");
+        final ListShapesRequest interceptedRequest = ListShapesConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListShapesConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListShapesResponse>
+                transformer = ListShapesConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListVnicAttachmentsResponse> listVnicAttachments(
             final ListVnicAttachmentsRequest request,
@@ -3467,6 +4443,31 @@ public class ComputeAsyncClient implements ComputeAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListVnicAttachmentsResponse> listVnicAttachments(
+            final ListVnicAttachmentsRequest request) {
+        LOG.trace("Called async listVnicAttachments");
+        final ListVnicAttachmentsRequest interceptedRequest =
+                ListVnicAttachmentsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListVnicAttachmentsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, ListVnicAttachmentsResponse>
+                transformer = ListVnicAttachmentsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListVolumeAttachmentsResponse> listVolumeAttachments(
             final ListVolumeAttachmentsRequest request,
@@ -3543,6 +4544,31 @@ public class ComputeAsyncClient implements ComputeAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListVolumeAttachmentsResponse>
+            listVolumeAttachments(final ListVolumeAttachmentsRequest request) {
+        LOG.trace("Called async listVolumeAttachments");
+        final ListVolumeAttachmentsRequest interceptedRequest =
+                ListVolumeAttachmentsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListVolumeAttachmentsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, ListVolumeAttachmentsResponse>
+                transformer = ListVolumeAttachmentsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<TerminateInstanceResponse> terminateInstance(
             final TerminateInstanceRequest request,
@@ -3617,6 +4643,30 @@ public class ComputeAsyncClient implements ComputeAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<TerminateInstanceResponse> terminateInstance(
+            final TerminateInstanceRequest request) {
+        LOG.trace("Called async terminateInstance");
+        final TerminateInstanceRequest interceptedRequest =
+                TerminateInstanceConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                TerminateInstanceConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, TerminateInstanceResponse>
+                transformer = TerminateInstanceConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateConsoleHistoryResponse> updateConsoleHistory(
             final UpdateConsoleHistoryRequest request,
@@ -3708,6 +4758,34 @@ public class ComputeAsyncClient implements ComputeAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateConsoleHistoryResponse> updateConsoleHistory(
+            final UpdateConsoleHistoryRequest request) {
+        LOG.trace("Called async updateConsoleHistory");
+        final UpdateConsoleHistoryRequest interceptedRequest =
+                UpdateConsoleHistoryConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateConsoleHistoryConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, UpdateConsoleHistoryResponse>
+                transformer = UpdateConsoleHistoryConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdateConsoleHistoryDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateImageResponse> updateImage(
             final UpdateImageRequest request,
@@ -3796,6 +4874,31 @@ public class ComputeAsyncClient implements ComputeAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateImageResponse> updateImage(
+            final UpdateImageRequest request) {
+        LOG.trace("Called async updateImage");
+        final UpdateImageRequest interceptedRequest =
+                UpdateImageConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateImageConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, UpdateImageResponse>
+                transformer = UpdateImageConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib, interceptedRequest.getUpdateImageDetails(), interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateInstanceResponse> updateInstance(
             final UpdateInstanceRequest request,
@@ -3884,4 +4987,31 @@ public class ComputeAsyncClient implements ComputeAsync {
                     responseFuture, transformer);
         }
     }
+
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateInstanceResponse> updateInstance(
+            final UpdateInstanceRequest request) {
+        LOG.trace("Called async updateInstance");
+        final UpdateInstanceRequest interceptedRequest =
+                UpdateInstanceConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateInstanceConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, UpdateInstanceResponse>
+                transformer = UpdateInstanceConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdateInstanceDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
 }
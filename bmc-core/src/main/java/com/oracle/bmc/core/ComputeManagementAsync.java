@@ -53,6 +53,24 @@ public interface ComputeManagementAsync extends AutoCloseable {
                             AttachLoadBalancerRequest, AttachLoadBalancerResponse>
                     handler);
 
+    /**
+     * Attach load balancer to the instance pool.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<AttachLoadBalancerResponse> attachLoadBalancer(
+            AttachLoadBalancerRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        AttachLoadBalancerRequest, AttachLoadBalancerResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        attachLoadBalancer(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Creates an instance configuration
      *
@@ -70,6 +88,24 @@ public interface ComputeManagementAsync extends AutoCloseable {
                             CreateInstanceConfigurationRequest, CreateInstanceConfigurationResponse>
                     handler);
 
+    /**
+     * Creates an instance configuration
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreateInstanceConfigurationResponse>
+            createInstanceConfiguration(CreateInstanceConfigurationRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreateInstanceConfigurationRequest, CreateInstanceConfigurationResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createInstanceConfiguration(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Create an instance pool.
      *
@@ -86,6 +122,23 @@ public interface ComputeManagementAsync extends AutoCloseable {
                             CreateInstancePoolRequest, CreateInstancePoolResponse>
                     handler);
 
+    /**
+     * Create an instance pool.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreateInstancePoolResponse> createInstancePool(
+            CreateInstancePoolRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreateInstancePoolRequest, CreateInstancePoolResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createInstancePool(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Deletes an instance configuration.
      *
@@ -102,6 +155,23 @@ public interface ComputeManagementAsync extends AutoCloseable {
                             DeleteInstanceConfigurationRequest, DeleteInstanceConfigurationResponse>
                     handler);
 
+    /**
+     * Deletes an instance configuration.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<DeleteInstanceConfigurationResponse>
+            deleteInstanceConfiguration(DeleteInstanceConfigurationRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        DeleteInstanceConfigurationRequest, DeleteInstanceConfigurationResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        deleteInstanceConfiguration(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Detach a load balancer from the instance pool.
      *
@@ -119,6 +189,24 @@ public interface ComputeManagementAsync extends AutoCloseable {
                             DetachLoadBalancerRequest, DetachLoadBalancerResponse>
                     handler);
 
+    /**
+     * Detach a load balancer from the instance pool.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<DetachLoadBalancerResponse> detachLoadBalancer(
+            DetachLoadBalancerRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        DetachLoadBalancerRequest, DetachLoadBalancerResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        detachLoadBalancer(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the specified instance configuration
      *
@@ -135,6 +223,23 @@ public interface ComputeManagementAsync extends AutoCloseable {
                             GetInstanceConfigurationRequest, GetInstanceConfigurationResponse>
                     handler);
 
+    /**
+     * Gets the specified instance configuration
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetInstanceConfigurationResponse>
+            getInstanceConfiguration(GetInstanceConfigurationRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetInstanceConfigurationRequest, GetInstanceConfigurationResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getInstanceConfiguration(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the specified instance pool
      *
@@ -150,6 +255,23 @@ public interface ComputeManagementAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<GetInstancePoolRequest, GetInstancePoolResponse>
                     handler);
 
+    /**
+     * Gets the specified instance pool
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetInstancePoolResponse> getInstancePool(
+            GetInstancePoolRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetInstancePoolRequest, GetInstancePoolResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getInstancePool(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Launch an instance from an instance configuration
      *
@@ -167,6 +289,24 @@ public interface ComputeManagementAsync extends AutoCloseable {
                             LaunchInstanceConfigurationRequest, LaunchInstanceConfigurationResponse>
                     handler);
 
+    /**
+     * Launch an instance from an instance configuration
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<LaunchInstanceConfigurationResponse>
+            launchInstanceConfiguration(LaunchInstanceConfigurationRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        LaunchInstanceConfigurationRequest, LaunchInstanceConfigurationResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        launchInstanceConfiguration(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists the available instanceConfigurations in the specific compartment.
      *
@@ -184,6 +324,24 @@ public interface ComputeManagementAsync extends AutoCloseable {
                             ListInstanceConfigurationsRequest, ListInstanceConfigurationsResponse>
                     handler);
 
+    /**
+     * Lists the available instanceConfigurations in the specific compartment.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListInstanceConfigurationsResponse>
+            listInstanceConfigurations(ListInstanceConfigurationsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListInstanceConfigurationsRequest, ListInstanceConfigurationsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listInstanceConfigurations(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * List the instances in the specified instance pool.
      *
@@ -200,6 +358,23 @@ public interface ComputeManagementAsync extends AutoCloseable {
                             ListInstancePoolInstancesRequest, ListInstancePoolInstancesResponse>
                     handler);
 
+    /**
+     * List the instances in the specified instance pool.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListInstancePoolInstancesResponse>
+            listInstancePoolInstances(ListInstancePoolInstancesRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListInstancePoolInstancesRequest, ListInstancePoolInstancesResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listInstancePoolInstances(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists the instance pools in the specified compartment.
      *
@@ -216,6 +391,23 @@ public interface ComputeManagementAsync extends AutoCloseable {
                             ListInstancePoolsRequest, ListInstancePoolsResponse>
                     handler);
 
+    /**
+     * Lists the instance pools in the specified compartment.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListInstancePoolsResponse> listInstancePools(
+            ListInstancePoolsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListInstancePoolsRequest, ListInstancePoolsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listInstancePools(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Performs the reset (power off and power on) action on the specified instance pool,
      * which performs the action on all the instances in the pool.
@@ -234,6 +426,25 @@ public interface ComputeManagementAsync extends AutoCloseable {
                             ResetInstancePoolRequest, ResetInstancePoolResponse>
                     handler);
 
+    /**
+     * Performs the reset (power off and power on) action on the specified instance pool,
+     * which performs the action on all the instances in the pool.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ResetInstancePoolResponse> resetInstancePool(
+            ResetInstancePoolRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ResetInstancePoolRequest, ResetInstancePoolResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        resetInstancePool(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Performs the softreset (ACPI shutdown and power on) action on the specified instance pool,
      * which performs the action on all the instances in the pool.
@@ -252,6 +463,25 @@ public interface ComputeManagementAsync extends AutoCloseable {
                             SoftresetInstancePoolRequest, SoftresetInstancePoolResponse>
                     handler);
 
+    /**
+     * Performs the softreset (ACPI shutdown and power on) action on the specified instance pool,
+     * which performs the action on all the instances in the pool.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<SoftresetInstancePoolResponse>
+            softresetInstancePool(SoftresetInstancePoolRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        SoftresetInstancePoolRequest, SoftresetInstancePoolResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        softresetInstancePool(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Performs the start (power on) action on the specified instance pool,
      * which performs the action on all the instances in the pool.
@@ -270,6 +500,25 @@ public interface ComputeManagementAsync extends AutoCloseable {
                             StartInstancePoolRequest, StartInstancePoolResponse>
                     handler);
 
+    /**
+     * Performs the start (power on) action on the specified instance pool,
+     * which performs the action on all the instances in the pool.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<StartInstancePoolResponse> startInstancePool(
+            StartInstancePoolRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        StartInstancePoolRequest, StartInstancePoolResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        startInstancePool(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Performs the stop (power off) action on the specified instance pool,
      * which performs the action on all the instances in the pool.
@@ -287,6 +536,25 @@ public interface ComputeManagementAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<StopInstancePoolRequest, StopInstancePoolResponse>
                     handler);
 
+    /**
+     * Performs the stop (power off) action on the specified instance pool,
+     * which performs the action on all the instances in the pool.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<StopInstancePoolResponse> stopInstancePool(
+            StopInstancePoolRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        StopInstancePoolRequest, StopInstancePoolResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        stopInstancePool(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Terminate the specified instance pool.
      *
@@ -303,6 +571,23 @@ public interface ComputeManagementAsync extends AutoCloseable {
                             TerminateInstancePoolRequest, TerminateInstancePoolResponse>
                     handler);
 
+    /**
+     * Terminate the specified instance pool.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<TerminateInstancePoolResponse>
+            terminateInstancePool(TerminateInstancePoolRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        TerminateInstancePoolRequest, TerminateInstancePoolResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        terminateInstancePool(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Updates the freeFormTags, definedTags, and display name of an instance configuration.
      *
@@ -319,6 +604,23 @@ public interface ComputeManagementAsync extends AutoCloseable {
                             UpdateInstanceConfigurationRequest, UpdateInstanceConfigurationResponse>
                     handler);
 
+    /**
+     * Updates the freeFormTags, definedTags, and display name of an instance configuration.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateInstanceConfigurationResponse>
+            updateInstanceConfiguration(UpdateInstanceConfigurationRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateInstanceConfigurationRequest, UpdateInstanceConfigurationResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateInstanceConfiguration(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Update the specified instance pool.
      * The OCID of the instance pool remains the same.
@@ -336,4 +638,23 @@ public interface ComputeManagementAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<
                             UpdateInstancePoolRequest, UpdateInstancePoolResponse>
                     handler);
+
+    /**
+     * Update the specified instance pool.
+     * The OCID of the instance pool remains the same.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateInstancePoolResponse> updateInstancePool(
+            UpdateInstancePoolRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateInstancePoolRequest, UpdateInstancePoolResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateInstancePool(request, handler);
+        return handler.getStage();
+    }
 }
@@ -392,6 +392,33 @@ public class ComputeManagementAsyncClient implements ComputeManagementAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<AttachLoadBalancerResponse> attachLoadBalancer(
+            final AttachLoadBalancerRequest request) {
+        LOG.trace("Called async attachLoadBalancer");
+        final AttachLoadBalancerRequest interceptedRequest =
+                AttachLoadBalancerConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                AttachLoadBalancerConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, AttachLoadBalancerResponse>
+                transformer = AttachLoadBalancerConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getAttachLoadBalancerDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateInstanceConfigurationResponse>
             createInstanceConfiguration(
@@ -486,6 +513,34 @@ public class ComputeManagementAsyncClient implements ComputeManagementAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateInstanceConfigurationResponse>
+            createInstanceConfiguration(final CreateInstanceConfigurationRequest request) {
+        LOG.trace("Called async createInstanceConfiguration");
+        final CreateInstanceConfigurationRequest interceptedRequest =
+                CreateInstanceConfigurationConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateInstanceConfigurationConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, CreateInstanceConfigurationResponse>
+                transformer = CreateInstanceConfigurationConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreateInstanceConfiguration(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateInstancePoolResponse> createInstancePool(
             final CreateInstancePoolRequest request,
@@ -575,6 +630,33 @@ public class ComputeManagementAsyncClient implements ComputeManagementAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateInstancePoolResponse> createInstancePool(
+            final CreateInstancePoolRequest request) {
+        LOG.trace("Called async createInstancePool");
+        final CreateInstancePoolRequest interceptedRequest =
+                CreateInstancePoolConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateInstancePoolConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, CreateInstancePoolResponse>
+                transformer = CreateInstancePoolConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreateInstancePoolDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteInstanceConfigurationResponse>
             deleteInstanceConfiguration(
@@ -654,6 +736,31 @@ public class ComputeManagementAsyncClient implements ComputeManagementAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteInstanceConfigurationResponse>
+            deleteInstanceConfiguration(final DeleteInstanceConfigurationRequest request) {
+        LOG.trace("Called async deleteInstanceConfiguration");
+        final DeleteInstanceConfigurationRequest interceptedRequest =
+                DeleteInstanceConfigurationConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteInstanceConfigurationConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, DeleteInstanceConfigurationResponse>
+                transformer = DeleteInstanceConfigurationConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DetachLoadBalancerResponse> detachLoadBalancer(
             final DetachLoadBalancerRequest request,
@@ -743,6 +850,33 @@ public class ComputeManagementAsyncClient implements ComputeManagementAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DetachLoadBalancerResponse> detachLoadBalancer(
+            final DetachLoadBalancerRequest request) {
+        LOG.trace("Called async detachLoadBalancer");
+        final DetachLoadBalancerRequest interceptedRequest =
+                DetachLoadBalancerConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DetachLoadBalancerConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, DetachLoadBalancerResponse>
+                transformer = DetachLoadBalancerConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getDetachLoadBalancerDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetInstanceConfigurationResponse> getInstanceConfiguration(
             final GetInstanceConfigurationRequest request,
@@ -819,6 +953,31 @@ public class ComputeManagementAsyncClient implements ComputeManagementAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetInstanceConfigurationResponse>
+            getInstanceConfiguration(final GetInstanceConfigurationRequest request) {
+        LOG.trace("Called async getInstanceConfiguration");
+        final GetInstanceConfigurationRequest interceptedRequest =
+                GetInstanceConfigurationConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetInstanceConfigurationConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, GetInstanceConfigurationResponse>
+                transformer = GetInstanceConfigurationConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetInstancePoolResponse> getInstancePool(
             final GetInstancePoolRequest request,
@@ -893,6 +1052,30 @@ public class ComputeManagementAsyncClient implements ComputeManagementAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetInstancePoolResponse> getInstancePool(
+            final GetInstancePoolRequest request) {
+        LOG.trace("Called async getInstancePool");
+        final GetInstancePoolRequest interceptedRequest =
+                GetInstancePoolConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetInstancePoolConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetInstancePoolResponse>
+                transformer = GetInstancePoolConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<LaunchInstanceConfigurationResponse>
             launchInstanceConfiguration(
@@ -987,6 +1170,34 @@ public class ComputeManagementAsyncClient implements ComputeManagementAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<LaunchInstanceConfigurationResponse>
+            launchInstanceConfiguration(final LaunchInstanceConfigurationRequest request) {
+        LOG.trace("Called async launchInstanceConfiguration");
+        final LaunchInstanceConfigurationRequest interceptedRequest =
+                LaunchInstanceConfigurationConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                LaunchInstanceConfigurationConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, LaunchInstanceConfigurationResponse>
+                transformer = LaunchInstanceConfigurationConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getInstanceConfiguration(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListInstanceConfigurationsResponse>
             listInstanceConfigurations(
@@ -1065,6 +1276,31 @@ public class ComputeManagementAsyncClient implements ComputeManagementAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListInstanceConfigurationsResponse>
+            listInstanceConfigurations(final ListInstanceConfigurationsRequest request) {
+        LOG.trace("Called async listInstanceConfigurations");
+        final ListInstanceConfigurationsRequest interceptedRequest =
+                ListInstanceConfigurationsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListInstanceConfigurationsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, ListInstanceConfigurationsResponse>
+                transformer = ListInstanceConfigurationsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListInstancePoolInstancesResponse> listInstancePoolInstances(
             final ListInstancePoolInstancesRequest request,
@@ -1141,6 +1377,31 @@ public class ComputeManagementAsyncClient implements ComputeManagementAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListInstancePoolInstancesResponse>
+            listInstancePoolInstances(final ListInstancePoolInstancesRequest request) {
+        LOG.trace("Called async listInstancePoolInstances");
+        final ListInstancePoolInstancesRequest interceptedRequest =
+                ListInstancePoolInstancesConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListInstancePoolInstancesConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, ListInstancePoolInstancesResponse>
+                transformer = ListInstancePoolInstancesConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListInstancePoolsResponse> listInstancePools(
             final ListInstancePoolsRequest request,
@@ -1215,6 +1476,30 @@ public class ComputeManagementAsyncClient implements ComputeManagementAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListInstancePoolsResponse> listInstancePools(
+            final ListInstancePoolsRequest request) {
+        LOG.trace("Called async listInstancePools");
+        final ListInstancePoolsRequest interceptedRequest =
+                ListInstancePoolsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListInstancePoolsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListInstancePoolsResponse>
+                transformer = ListInstancePoolsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ResetInstancePoolResponse> resetInstancePool(
             final ResetInstancePoolRequest request,
@@ -1289,6 +1574,30 @@ public class ComputeManagementAsyncClient implements ComputeManagementAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ResetInstancePoolResponse> resetInstancePool(
+            final ResetInstancePoolRequest request) {
+        LOG.trace("Called async resetInstancePool");
+        final ResetInstancePoolRequest interceptedRequest =
+                ResetInstancePoolConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ResetInstancePoolConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ResetInstancePoolResponse>
+                transformer = ResetInstancePoolConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<SoftresetInstancePoolResponse> softresetInstancePool(
             final SoftresetInstancePoolRequest request,
@@ -1365,6 +1674,31 @@ public class ComputeManagementAsyncClient implements ComputeManagementAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<SoftresetInstancePoolResponse>
+            softresetInstancePool(final SoftresetInstancePoolRequest request) {
+        LOG.trace("Called async softresetInstancePool");
+        final SoftresetInstancePoolRequest interceptedRequest =
+                SoftresetInstancePoolConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                SoftresetInstancePoolConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, SoftresetInstancePoolResponse>
+                transformer = SoftresetInstancePoolConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<StartInstancePoolResponse> startInstancePool(
             final StartInstancePoolRequest request,
@@ -1439,6 +1773,30 @@ public class ComputeManagementAsyncClient implements ComputeManagementAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<StartInstancePoolResponse> startInstancePool(
+            final StartInstancePoolRequest request) {
+        LOG.trace("Called async startInstancePool");
+        final StartInstancePoolRequest interceptedRequest =
+                StartInstancePoolConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                StartInstancePoolConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, StartInstancePoolResponse>
+                transformer = StartInstancePoolConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<StopInstancePoolResponse> stopInstancePool(
             final StopInstancePoolRequest request,
@@ -1513,6 +1871,30 @@ public class ComputeManagementAsyncClient implements ComputeManagementAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<StopInstancePoolResponse> stopInstancePool(
+            final StopInstancePoolRequest request) {
+        LOG.trace("Called async stopInstancePool");
+        final StopInstancePoolRequest interceptedRequest =
+                StopInstancePoolConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                StopInstancePoolConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, StopInstancePoolResponse>
+                transformer = StopInstancePoolConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<TerminateInstancePoolResponse> terminateInstancePool(
             final TerminateInstancePoolRequest request,
@@ -1589,6 +1971,31 @@ public class ComputeManagementAsyncClient implements ComputeManagementAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<TerminateInstancePoolResponse>
+            terminateInstancePool(final TerminateInstancePoolRequest request) {
+        LOG.trace("Called async terminateInstancePool");
+        final TerminateInstancePoolRequest interceptedRequest =
+                TerminateInstancePoolConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                TerminateInstancePoolConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, TerminateInstancePoolResponse>
+                transformer = TerminateInstancePoolConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateInstanceConfigurationResponse>
             updateInstanceConfiguration(
@@ -1683,6 +2090,34 @@ public class ComputeManagementAsyncClient implements ComputeManagementAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateInstanceConfigurationResponse>
+            updateInstanceConfiguration(final UpdateInstanceConfigurationRequest request) {
+        LOG.trace("Called async updateInstanceConfiguration");
+        final UpdateInstanceConfigurationRequest interceptedRequest =
+                UpdateInstanceConfigurationConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateInstanceConfigurationConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, UpdateInstanceConfigurationResponse>
+                transformer = UpdateInstanceConfigurationConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdateInstanceConfigurationDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateInstancePoolResponse> updateInstancePool(
             final UpdateInstancePoolRequest request,
@@ -1771,4 +2206,31 @@ public class ComputeManagementAsyncClient implements ComputeManagementAsync {
                     responseFuture, transformer);
         }
     }
+
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateInstancePoolResponse> updateInstancePool(
+            final UpdateInstancePoolRequest request) {
+        LOG.trace("Called async updateInstancePool");
+        final UpdateInstancePoolRequest interceptedRequest =
+                UpdateInstancePoolConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateInstancePoolConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, UpdateInstancePoolResponse>
+                transformer = UpdateInstancePoolConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdateInstancePoolDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
 }
@@ -392,6 +392,33 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<AttachServiceIdResponse> attachServiceId(
+            final AttachServiceIdRequest request) {
+        LOG.trace("Called async attachServiceId");
+        final AttachServiceIdRequest interceptedRequest =
+                AttachServiceIdConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                AttachServiceIdConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, AttachServiceIdResponse>
+                transformer = AttachServiceIdConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getAttachServiceDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<BulkAddVirtualCircuitPublicPrefixesResponse>
             bulkAddVirtualCircuitPublicPrefixes(
@@ -490,6 +517,35 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<BulkAddVirtualCircuitPublicPrefixesResponse>
+            bulkAddVirtualCircuitPublicPrefixes(final BulkAddVirtualCircuitPublicPrefixesRequest request) {
+        LOG.trace("Called async bulkAddVirtualCircuitPublicPrefixes");
+        final BulkAddVirtualCircuitPublicPrefixesRequest interceptedRequest =
+                BulkAddVirtualCircuitPublicPrefixesConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                BulkAddVirtualCircuitPublicPrefixesConverter.fromRequest(
+                        client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, BulkAddVirtualCircuitPublicPrefixesResponse>
+                transformer = BulkAddVirtualCircuitPublicPrefixesConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getBulkAddVirtualCircuitPublicPrefixesDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<BulkDeleteVirtualCircuitPublicPrefixesResponse>
             bulkDeleteVirtualCircuitPublicPrefixes(
@@ -588,6 +644,35 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<BulkDeleteVirtualCircuitPublicPrefixesResponse>
+            bulkDeleteVirtualCircuitPublicPrefixes(final BulkDeleteVirtualCircuitPublicPrefixesRequest request) {
+        LOG.trace("Called async bulkDeleteVirtualCircuitPublicPrefixes");
+        final BulkDeleteVirtualCircuitPublicPrefixesRequest interceptedRequest =
+                BulkDeleteVirtualCircuitPublicPrefixesConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                BulkDeleteVirtualCircuitPublicPrefixesConverter.fromRequest(
+                        client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, BulkDeleteVirtualCircuitPublicPrefixesResponse>
+                transformer = BulkDeleteVirtualCircuitPublicPrefixesConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getBulkDeleteVirtualCircuitPublicPrefixesDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ConnectLocalPeeringGatewaysResponse>
             connectLocalPeeringGateways(
@@ -682,6 +767,34 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ConnectLocalPeeringGatewaysResponse>
+            connectLocalPeeringGateways(final ConnectLocalPeeringGatewaysRequest request) {
+        LOG.trace("Called async connectLocalPeeringGateways");
+        final ConnectLocalPeeringGatewaysRequest interceptedRequest =
+                ConnectLocalPeeringGatewaysConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ConnectLocalPeeringGatewaysConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, ConnectLocalPeeringGatewaysResponse>
+                transformer = ConnectLocalPeeringGatewaysConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getConnectLocalPeeringGatewaysDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ConnectRemotePeeringConnectionsResponse>
             connectRemotePeeringConnections(
@@ -777,6 +890,34 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ConnectRemotePeeringConnectionsResponse>
+            connectRemotePeeringConnections(final ConnectRemotePeeringConnectionsRequest request) {
+        LOG.trace("Called async connectRemotePeeringConnections");
+        final ConnectRemotePeeringConnectionsRequest interceptedRequest =
+                ConnectRemotePeeringConnectionsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ConnectRemotePeeringConnectionsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, ConnectRemotePeeringConnectionsResponse>
+                transformer = ConnectRemotePeeringConnectionsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getConnectRemotePeeringConnectionsDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateCpeResponse> createCpe(
             final CreateCpeRequest request,
@@ -864,6 +1005,30 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateCpeResponse> createCpe(
+            final CreateCpeRequest request) {
+        LOG.trace("Called async createCpe");
+        final CreateCpeRequest interceptedRequest = CreateCpeConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateCpeConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, CreateCpeResponse>
+                transformer = CreateCpeConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib, interceptedRequest.getCreateCpeDetails(), interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateCrossConnectResponse> createCrossConnect(
             final CreateCrossConnectRequest request,
@@ -953,6 +1118,33 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateCrossConnectResponse> createCrossConnect(
+            final CreateCrossConnectRequest request) {
+        LOG.trace("Called async createCrossConnect");
+        final CreateCrossConnectRequest interceptedRequest =
+                CreateCrossConnectConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateCrossConnectConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, CreateCrossConnectResponse>
+                transformer = CreateCrossConnectConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreateCrossConnectDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateCrossConnectGroupResponse> createCrossConnectGroup(
             final CreateCrossConnectGroupRequest request,
@@ -1044,6 +1236,34 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateCrossConnectGroupResponse>
+            createCrossConnectGroup(final CreateCrossConnectGroupRequest request) {
+        LOG.trace("Called async createCrossConnectGroup");
+        final CreateCrossConnectGroupRequest interceptedRequest =
+                CreateCrossConnectGroupConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateCrossConnectGroupConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, CreateCrossConnectGroupResponse>
+                transformer = CreateCrossConnectGroupConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreateCrossConnectGroupDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateDhcpOptionsResponse> createDhcpOptions(
             final CreateDhcpOptionsRequest request,
@@ -1133,6 +1353,31 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateDhcpOptionsResponse> createDhcpOptions(
+            final CreateDhcpOptionsRequest request) {
+        LOG.trace("Called async createDhcpOptions");
+        final CreateDhcpOptionsRequest interceptedRequest =
+                CreateDhcpOptionsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateDhcpOptionsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, CreateDhcpOptionsResponse>
+                transformer = CreateDhcpOptionsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib, interceptedRequest.getCreateDhcpDetails(), interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateDrgResponse> createDrg(
             final CreateDrgRequest request,
@@ -1220,6 +1465,30 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateDrgResponse> createDrg(
+            final CreateDrgRequest request) {
+        LOG.trace("Called async createDrg");
+        final CreateDrgRequest interceptedRequest = CreateDrgConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateDrgConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, CreateDrgResponse>
+                transformer = CreateDrgConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib, interceptedRequest.getCreateDrgDetails(), interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateDrgAttachmentResponse> createDrgAttachment(
             final CreateDrgAttachmentRequest request,
@@ -1311,6 +1580,34 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateDrgAttachmentResponse> createDrgAttachment(
+            final CreateDrgAttachmentRequest request) {
+        LOG.trace("Called async createDrgAttachment");
+        final CreateDrgAttachmentRequest interceptedRequest =
+                CreateDrgAttachmentConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateDrgAttachmentConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, CreateDrgAttachmentResponse>
+                transformer = CreateDrgAttachmentConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreateDrgAttachmentDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateIPSecConnectionResponse> createIPSecConnection(
             final CreateIPSecConnectionRequest request,
@@ -1402,6 +1699,34 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateIPSecConnectionResponse>
+            createIPSecConnection(final CreateIPSecConnectionRequest request) {
+        LOG.trace("Called async createIPSecConnection");
+        final CreateIPSecConnectionRequest interceptedRequest =
+                CreateIPSecConnectionConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateIPSecConnectionConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, CreateIPSecConnectionResponse>
+                transformer = CreateIPSecConnectionConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreateIPSecConnectionDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateInternetGatewayResponse> createInternetGateway(
             final CreateInternetGatewayRequest request,
@@ -1493,6 +1818,34 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateInternetGatewayResponse>
+            createInternetGateway(final CreateInternetGatewayRequest request) {
+        LOG.trace("Called async createInternetGateway");
+        final CreateInternetGatewayRequest interceptedRequest =
+                CreateInternetGatewayConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateInternetGatewayConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, CreateInternetGatewayResponse>
+                transformer = CreateInternetGatewayConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreateInternetGatewayDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateLocalPeeringGatewayResponse> createLocalPeeringGateway(
             final CreateLocalPeeringGatewayRequest request,
@@ -1584,6 +1937,34 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateLocalPeeringGatewayResponse>
+            createLocalPeeringGateway(final CreateLocalPeeringGatewayRequest request) {
+        LOG.trace("Called async createLocalPeeringGateway");
+        final CreateLocalPeeringGatewayRequest interceptedRequest =
+                CreateLocalPeeringGatewayConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateLocalPeeringGatewayConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, CreateLocalPeeringGatewayResponse>
+                transformer = CreateLocalPeeringGatewayConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreateLocalPeeringGatewayDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateNatGatewayResponse> createNatGateway(
             final CreateNatGatewayRequest request,
@@ -1673,6 +2054,33 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateNatGatewayResponse> createNatGateway(
+            final CreateNatGatewayRequest request) {
+        LOG.trace("Called async createNatGateway");
+        final CreateNatGatewayRequest interceptedRequest =
+                CreateNatGatewayConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateNatGatewayConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, CreateNatGatewayResponse>
+                transformer = CreateNatGatewayConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreateNatGatewayDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreatePrivateIpResponse> createPrivateIp(
             final CreatePrivateIpRequest request,
@@ -1762,6 +2170,33 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreatePrivateIpResponse> createPrivateIp(
+            final CreatePrivateIpRequest request) {
+        LOG.trace("Called async createPrivateIp");
+        final CreatePrivateIpRequest interceptedRequest =
+                CreatePrivateIpConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreatePrivateIpConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, CreatePrivateIpResponse>
+                transformer = CreatePrivateIpConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreatePrivateIpDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreatePublicIpResponse> createPublicIp(
             final CreatePublicIpRequest request,
@@ -1851,6 +2286,33 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreatePublicIpResponse> createPublicIp(
+            final CreatePublicIpRequest request) {
+        LOG.trace("Called async createPublicIp");
+        final CreatePublicIpRequest interceptedRequest =
+                CreatePublicIpConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreatePublicIpConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, CreatePublicIpResponse>
+                transformer = CreatePublicIpConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreatePublicIpDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateRemotePeeringConnectionResponse>
             createRemotePeeringConnection(
@@ -1945,6 +2407,34 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateRemotePeeringConnectionResponse>
+            createRemotePeeringConnection(final CreateRemotePeeringConnectionRequest request) {
+        LOG.trace("Called async createRemotePeeringConnection");
+        final CreateRemotePeeringConnectionRequest interceptedRequest =
+                CreateRemotePeeringConnectionConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateRemotePeeringConnectionConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, CreateRemotePeeringConnectionResponse>
+                transformer = CreateRemotePeeringConnectionConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreateRemotePeeringConnectionDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateRouteTableResponse> createRouteTable(
             final CreateRouteTableRequest request,
@@ -2034,6 +2524,33 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateRouteTableResponse> createRouteTable(
+            final CreateRouteTableRequest request) {
+        LOG.trace("Called async createRouteTable");
+        final CreateRouteTableRequest interceptedRequest =
+                CreateRouteTableConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateRouteTableConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, CreateRouteTableResponse>
+                transformer = CreateRouteTableConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreateRouteTableDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateSecurityListResponse> createSecurityList(
             final CreateSecurityListRequest request,
@@ -2123,6 +2640,33 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateSecurityListResponse> createSecurityList(
+            final CreateSecurityListRequest request) {
+        LOG.trace("Called async createSecurityList");
+        final CreateSecurityListRequest interceptedRequest =
+                CreateSecurityListConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateSecurityListConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, CreateSecurityListResponse>
+                transformer = CreateSecurityListConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreateSecurityListDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateServiceGatewayResponse> createServiceGateway(
             final CreateServiceGatewayRequest request,
@@ -2214,6 +2758,34 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateServiceGatewayResponse> createServiceGateway(
+            final CreateServiceGatewayRequest request) {
+        LOG.trace("Called async createServiceGateway");
+        final CreateServiceGatewayRequest interceptedRequest =
+                CreateServiceGatewayConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateServiceGatewayConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, CreateServiceGatewayResponse>
+                transformer = CreateServiceGatewayConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreateServiceGatewayDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateSubnetResponse> createSubnet(
             final CreateSubnetRequest request,
@@ -2302,6 +2874,33 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateSubnetResponse> createSubnet(
+            final CreateSubnetRequest request) {
+        LOG.trace("Called async createSubnet");
+        final CreateSubnetRequest interceptedRequest =
+                CreateSubnetConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateSubnetConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, CreateSubnetResponse>
+                transformer = CreateSubnetConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreateSubnetDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateVcnResponse> createVcn(
             final CreateVcnRequest request,
@@ -2390,9 +2989,33 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
     }
 
     @Override
-    public java.util.concurrent.Future<CreateVirtualCircuitResponse> createVirtualCircuit(
-            final CreateVirtualCircuitRequest request,
-            final com.oracle.bmc.responses.AsyncHandler<
+    public java.util.concurrent.CompletionStage<CreateVcnResponse> createVcn(
+            final CreateVcnRequest request) {
+        LOG.trace("Called async createVcn");
+        final CreateVcnRequest interceptedRequest = CreateVcnConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateVcnConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, CreateVcnResponse>
+                transformer = CreateVcnConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib, interceptedRequest.getCreateVcnDetails(), interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
+    @Override
+    public java.util.concurrent.Future<CreateVirtualCircuitResponse> createVirtualCircuit(
+            final CreateVirtualCircuitRequest request,
+            final com.oracle.bmc.responses.AsyncHandler<
                             CreateVirtualCircuitRequest, CreateVirtualCircuitResponse>
                     handler) {
         LOG.trace("Called async createVirtualCircuit");
@@ -2480,6 +3103,34 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateVirtualCircuitResponse> createVirtualCircuit(
+            final CreateVirtualCircuitRequest request) {
+        LOG.trace("Called async createVirtualCircuit");
+        final CreateVirtualCircuitRequest interceptedRequest =
+                CreateVirtualCircuitConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateVirtualCircuitConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, CreateVirtualCircuitResponse>
+                transformer = CreateVirtualCircuitConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreateVirtualCircuitDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteCpeResponse> deleteCpe(
             final DeleteCpeRequest request,
@@ -2552,6 +3203,29 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteCpeResponse> deleteCpe(
+            final DeleteCpeRequest request) {
+        LOG.trace("Called async deleteCpe");
+        final DeleteCpeRequest interceptedRequest = DeleteCpeConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteCpeConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, DeleteCpeResponse>
+                transformer = DeleteCpeConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteCrossConnectResponse> deleteCrossConnect(
             final DeleteCrossConnectRequest request,
@@ -2626,6 +3300,30 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteCrossConnectResponse> deleteCrossConnect(
+            final DeleteCrossConnectRequest request) {
+        LOG.trace("Called async deleteCrossConnect");
+        final DeleteCrossConnectRequest interceptedRequest =
+                DeleteCrossConnectConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteCrossConnectConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, DeleteCrossConnectResponse>
+                transformer = DeleteCrossConnectConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteCrossConnectGroupResponse> deleteCrossConnectGroup(
             final DeleteCrossConnectGroupRequest request,
@@ -2702,6 +3400,31 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteCrossConnectGroupResponse>
+            deleteCrossConnectGroup(final DeleteCrossConnectGroupRequest request) {
+        LOG.trace("Called async deleteCrossConnectGroup");
+        final DeleteCrossConnectGroupRequest interceptedRequest =
+                DeleteCrossConnectGroupConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteCrossConnectGroupConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, DeleteCrossConnectGroupResponse>
+                transformer = DeleteCrossConnectGroupConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteDhcpOptionsResponse> deleteDhcpOptions(
             final DeleteDhcpOptionsRequest request,
@@ -2776,6 +3499,30 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteDhcpOptionsResponse> deleteDhcpOptions(
+            final DeleteDhcpOptionsRequest request) {
+        LOG.trace("Called async deleteDhcpOptions");
+        final DeleteDhcpOptionsRequest interceptedRequest =
+                DeleteDhcpOptionsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteDhcpOptionsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, DeleteDhcpOptionsResponse>
+                transformer = DeleteDhcpOptionsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteDrgResponse> deleteDrg(
             final DeleteDrgRequest request,
@@ -2848,6 +3595,29 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteDrgResponse> deleteDrg(
+            final DeleteDrgRequest request) {
+        LOG.trace("Called async deleteDrg");
+        final DeleteDrgRequest interceptedRequest = DeleteDrgConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteDrgConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, DeleteDrgResponse>
+                transformer = DeleteDrgConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteDrgAttachmentResponse> deleteDrgAttachment(
             final DeleteDrgAttachmentRequest request,
@@ -2924,6 +3694,31 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteDrgAttachmentResponse> deleteDrgAttachment(
+            final DeleteDrgAttachmentRequest request) {
+        LOG.trace("Called async deleteDrgAttachment");
+        final DeleteDrgAttachmentRequest interceptedRequest =
+                DeleteDrgAttachmentConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteDrgAttachmentConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, DeleteDrgAttachmentResponse>
+                transformer = DeleteDrgAttachmentConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteIPSecConnectionResponse> deleteIPSecConnection(
             final DeleteIPSecConnectionRequest request,
@@ -3000,6 +3795,31 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteIPSecConnectionResponse>
+            deleteIPSecConnection(final DeleteIPSecConnectionRequest request) {
+        LOG.trace("Called async deleteIPSecConnection");
+        final DeleteIPSecConnectionRequest interceptedRequest =
+                DeleteIPSecConnectionConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteIPSecConnectionConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, DeleteIPSecConnectionResponse>
+                transformer = DeleteIPSecConnectionConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteInternetGatewayResponse> deleteInternetGateway(
             final DeleteInternetGatewayRequest request,
@@ -3076,6 +3896,31 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteInternetGatewayResponse>
+            deleteInternetGateway(final DeleteInternetGatewayRequest request) {
+        LOG.trace("Called async deleteInternetGateway");
+        final DeleteInternetGatewayRequest interceptedRequest =
+                DeleteInternetGatewayConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteInternetGatewayConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, DeleteInternetGatewayResponse>
+                transformer = DeleteInternetGatewayConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteLocalPeeringGatewayResponse> deleteLocalPeeringGateway(
             final DeleteLocalPeeringGatewayRequest request,
@@ -3152,6 +3997,31 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteLocalPeeringGatewayResponse>
+            deleteLocalPeeringGateway(final DeleteLocalPeeringGatewayRequest request) {
+        LOG.trace("Called async deleteLocalPeeringGateway");
+        final DeleteLocalPeeringGatewayRequest interceptedRequest =
+                DeleteLocalPeeringGatewayConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteLocalPeeringGatewayConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, DeleteLocalPeeringGatewayResponse>
+                transformer = DeleteLocalPeeringGatewayConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteNatGatewayResponse> deleteNatGateway(
             final DeleteNatGatewayRequest request,
@@ -3226,6 +4096,30 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteNatGatewayResponse> deleteNatGateway(
+            final DeleteNatGatewayRequest request) {
+        LOG.trace("Called async deleteNatGateway");
+        final DeleteNatGatewayRequest interceptedRequest =
+                DeleteNatGatewayConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteNatGatewayConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, DeleteNatGatewayResponse>
+                transformer = DeleteNatGatewayConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeletePrivateIpResponse> deletePrivateIp(
             final DeletePrivateIpRequest request,
@@ -3300,6 +4194,30 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeletePrivateIpResponse> deletePrivateIp(
+            final DeletePrivateIpRequest request) {
+        LOG.trace("Called async deletePrivateIp");
+        final DeletePrivateIpRequest interceptedRequest =
+                DeletePrivateIpConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeletePrivateIpConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, DeletePrivateIpResponse>
+                transformer = DeletePrivateIpConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeletePublicIpResponse> deletePublicIp(
             final DeletePublicIpRequest request,
@@ -3374,6 +4292,30 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeletePublicIpResponse> deletePublicIp(
+            final DeletePublicIpRequest request) {
+        LOG.trace("Called async deletePublicIp");
+        final DeletePublicIpRequest interceptedRequest =
+                DeletePublicIpConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeletePublicIpConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, DeletePublicIpResponse>
+                transformer = DeletePublicIpConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteRemotePeeringConnectionResponse>
             deleteRemotePeeringConnection(
@@ -3453,6 +4395,31 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteRemotePeeringConnectionResponse>
+            deleteRemotePeeringConnection(final DeleteRemotePeeringConnectionRequest request) {
+        LOG.trace("Called async deleteRemotePeeringConnection");
+        final DeleteRemotePeeringConnectionRequest interceptedRequest =
+                DeleteRemotePeeringConnectionConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteRemotePeeringConnectionConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, DeleteRemotePeeringConnectionResponse>
+                transformer = DeleteRemotePeeringConnectionConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteRouteTableResponse> deleteRouteTable(
             final DeleteRouteTableRequest request,
@@ -3527,6 +4494,30 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteRouteTableResponse> deleteRouteTable(
+            final DeleteRouteTableRequest request) {
+        LOG.trace("Called async deleteRouteTable");
+        final DeleteRouteTableRequest interceptedRequest =
+                DeleteRouteTableConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteRouteTableConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, DeleteRouteTableResponse>
+                transformer = DeleteRouteTableConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteSecurityListResponse> deleteSecurityList(
             final DeleteSecurityListRequest request,
@@ -3601,6 +4592,30 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteSecurityListResponse> deleteSecurityList(
+            final DeleteSecurityListRequest request) {
+        LOG.trace("Called async deleteSecurityList");
+        final DeleteSecurityListRequest interceptedRequest =
+                DeleteSecurityListConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteSecurityListConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, DeleteSecurityListResponse>
+                transformer = DeleteSecurityListConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteServiceGatewayResponse> deleteServiceGateway(
             final DeleteServiceGatewayRequest request,
@@ -3677,6 +4692,31 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteServiceGatewayResponse> deleteServiceGateway(
+            final DeleteServiceGatewayRequest request) {
+        LOG.trace("Called async deleteServiceGateway");
+        final DeleteServiceGatewayRequest interceptedRequest =
+                DeleteServiceGatewayConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteServiceGatewayConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, DeleteServiceGatewayResponse>
+                transformer = DeleteServiceGatewayConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteSubnetResponse> deleteSubnet(
             final DeleteSubnetRequest request,
@@ -3750,6 +4790,30 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteSubnetResponse> deleteSubnet(
+            final DeleteSubnetRequest request) {
+        LOG.trace("Called async deleteSubnet");
+        final DeleteSubnetRequest interceptedRequest =
+                DeleteSubnetConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteSubnetConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, DeleteSubnetResponse>
+                transformer = DeleteSubnetConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteVcnResponse> deleteVcn(
             final DeleteVcnRequest request,
@@ -3822,6 +4886,29 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteVcnResponse> deleteVcn(
+            final DeleteVcnRequest request) {
+        LOG.trace("Called async deleteVcn");
+        final DeleteVcnRequest interceptedRequest = DeleteVcnConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteVcnConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, DeleteVcnResponse>
+                transformer = DeleteVcnConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteVirtualCircuitResponse> deleteVirtualCircuit(
             final DeleteVirtualCircuitRequest request,
@@ -3898,6 +4985,31 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteVirtualCircuitResponse> deleteVirtualCircuit(
+            final DeleteVirtualCircuitRequest request) {
+        LOG.trace("Called async deleteVirtualCircuit");
+        final DeleteVirtualCircuitRequest interceptedRequest =
+                DeleteVirtualCircuitConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteVirtualCircuitConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, DeleteVirtualCircuitResponse>
+                transformer = DeleteVirtualCircuitConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DetachServiceIdResponse> detachServiceId(
             final DetachServiceIdRequest request,
@@ -3987,6 +5099,33 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DetachServiceIdResponse> detachServiceId(
+            final DetachServiceIdRequest request) {
+        LOG.trace("Called async detachServiceId");
+        final DetachServiceIdRequest interceptedRequest =
+                DetachServiceIdConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DetachServiceIdConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, DetachServiceIdResponse>
+                transformer = DetachServiceIdConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getDetachServiceDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetCpeResponse> getCpe(
             final GetCpeRequest request,
@@ -4057,6 +5196,29 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetCpeResponse> getCpe(
+            final GetCpeRequest request) {
+        LOG.trace("Called async getCpe");
+        final GetCpeRequest interceptedRequest = GetCpeConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetCpeConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetCpeResponse>
+                transformer = GetCpeConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetCrossConnectResponse> getCrossConnect(
             final GetCrossConnectRequest request,
@@ -4131,6 +5293,30 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetCrossConnectResponse> getCrossConnect(
+            final GetCrossConnectRequest request) {
+        LOG.trace("Called async getCrossConnect");
+        final GetCrossConnectRequest interceptedRequest =
+                GetCrossConnectConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetCrossConnectConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetCrossConnectResponse>
+                transformer = GetCrossConnectConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetCrossConnectGroupResponse> getCrossConnectGroup(
             final GetCrossConnectGroupRequest request,
@@ -4207,6 +5393,31 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetCrossConnectGroupResponse> getCrossConnectGroup(
+            final GetCrossConnectGroupRequest request) {
+        LOG.trace("Called async getCrossConnectGroup");
+        final GetCrossConnectGroupRequest interceptedRequest =
+                GetCrossConnectGroupConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetCrossConnectGroupConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, GetCrossConnectGroupResponse>
+                transformer = GetCrossConnectGroupConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetCrossConnectLetterOfAuthorityResponse>
             getCrossConnectLetterOfAuthority(
@@ -4287,6 +5498,31 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetCrossConnectLetterOfAuthorityResponse>
+            getCrossConnectLetterOfAuthority(final GetCrossConnectLetterOfAuthorityRequest request) {
+        LOG.trace("Called async getCrossConnectLetterOfAuthority");
+        final GetCrossConnectLetterOfAuthorityRequest interceptedRequest =
+                GetCrossConnectLetterOfAuthorityConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetCrossConnectLetterOfAuthorityConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, GetCrossConnectLetterOfAuthorityResponse>
+                transformer = GetCrossConnectLetterOfAuthorityConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetCrossConnectStatusResponse> getCrossConnectStatus(
             final GetCrossConnectStatusRequest request,
@@ -4363,6 +5599,31 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetCrossConnectStatusResponse>
+            getCrossConnectStatus(final GetCrossConnectStatusRequest request) {
+        LOG.trace("Called async getCrossConnectStatus");
+        final GetCrossConnectStatusRequest interceptedRequest =
+                GetCrossConnectStatusConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetCrossConnectStatusConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, GetCrossConnectStatusResponse>
+                transformer = GetCrossConnectStatusConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetDhcpOptionsResponse> getDhcpOptions(
             final GetDhcpOptionsRequest request,
@@ -4437,6 +5698,30 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetDhcpOptionsResponse> getDhcpOptions(
+            final GetDhcpOptionsRequest request) {
+        LOG.trace("Called async getDhcpOptions");
+        final GetDhcpOptionsRequest interceptedRequest =
+                GetDhcpOptionsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetDhcpOptionsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetDhcpOptionsResponse>
+                transformer = GetDhcpOptionsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetDrgResponse> getDrg(
             final GetDrgRequest request,
@@ -4507,6 +5792,29 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetDrgResponse> getDrg(
+            final GetDrgRequest request) {
+        LOG.trace("Called async getDrg");
+        final GetDrgRequest interceptedRequest = GetDrgConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetDrgConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetDrgResponse>
+                transformer = GetDrgConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetDrgAttachmentResponse> getDrgAttachment(
             final GetDrgAttachmentRequest request,
@@ -4581,6 +5889,30 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetDrgAttachmentResponse> getDrgAttachment(
+            final GetDrgAttachmentRequest request) {
+        LOG.trace("Called async getDrgAttachment");
+        final GetDrgAttachmentRequest interceptedRequest =
+                GetDrgAttachmentConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetDrgAttachmentConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetDrgAttachmentResponse>
+                transformer = GetDrgAttachmentConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetFastConnectProviderServiceResponse>
             getFastConnectProviderService(
@@ -4660,6 +5992,31 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetFastConnectProviderServiceResponse>
+            getFastConnectProviderService(final GetFastConnectProviderServiceRequest request) {
+        LOG.trace("Called async getFastConnectProviderService");
+        final GetFastConnectProviderServiceRequest interceptedRequest =
+                GetFastConnectProviderServiceConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetFastConnectProviderServiceConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, GetFastConnectProviderServiceResponse>
+                transformer = GetFastConnectProviderServiceConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetFastConnectProviderServiceKeyResponse>
             getFastConnectProviderServiceKey(
@@ -4740,6 +6097,31 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetFastConnectProviderServiceKeyResponse>
+            getFastConnectProviderServiceKey(final GetFastConnectProviderServiceKeyRequest request) {
+        LOG.trace("Called async getFastConnectProviderServiceKey");
+        final GetFastConnectProviderServiceKeyRequest interceptedRequest =
+                GetFastConnectProviderServiceKeyConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetFastConnectProviderServiceKeyConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, GetFastConnectProviderServiceKeyResponse>
+                transformer = GetFastConnectProviderServiceKeyConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetIPSecConnectionResponse> getIPSecConnection(
             final GetIPSecConnectionRequest request,
@@ -4814,6 +6196,30 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetIPSecConnectionResponse> getIPSecConnection(
+            final GetIPSecConnectionRequest request) {
+        LOG.trace("Called async getIPSecConnection");
+        final GetIPSecConnectionRequest interceptedRequest =
+                GetIPSecConnectionConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetIPSecConnectionConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetIPSecConnectionResponse>
+                transformer = GetIPSecConnectionConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetIPSecConnectionDeviceConfigResponse>
             getIPSecConnectionDeviceConfig(
@@ -4894,6 +6300,31 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetIPSecConnectionDeviceConfigResponse>
+            getIPSecConnectionDeviceConfig(final GetIPSecConnectionDeviceConfigRequest request) {
+        LOG.trace("Called async getIPSecConnectionDeviceConfig");
+        final GetIPSecConnectionDeviceConfigRequest interceptedRequest =
+                GetIPSecConnectionDeviceConfigConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetIPSecConnectionDeviceConfigConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, GetIPSecConnectionDeviceConfigResponse>
+                transformer = GetIPSecConnectionDeviceConfigConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetIPSecConnectionDeviceStatusResponse>
             getIPSecConnectionDeviceStatus(
@@ -4974,6 +6405,31 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetIPSecConnectionDeviceStatusResponse>
+            getIPSecConnectionDeviceStatus(final GetIPSecConnectionDeviceStatusRequest request) {
+        LOG.trace("Called async getIPSecConnectionDeviceStatus");
+        final GetIPSecConnectionDeviceStatusRequest interceptedRequest =
+                GetIPSecConnectionDeviceStatusConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetIPSecConnectionDeviceStatusConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, GetIPSecConnectionDeviceStatusResponse>
+                transformer = GetIPSecConnectionDeviceStatusConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetInternetGatewayResponse> getInternetGateway(
             final GetInternetGatewayRequest request,
@@ -5048,6 +6504,30 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetInternetGatewayResponse> getInternetGateway(
+            final GetInternetGatewayRequest request) {
+        LOG.trace("Called async getInternetGateway");
+        final GetInternetGatewayRequest interceptedRequest =
+                GetInternetGatewayConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetInternetGatewayConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetInternetGatewayResponse>
+                transformer = GetInternetGatewayConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetLocalPeeringGatewayResponse> getLocalPeeringGateway(
             final GetLocalPeeringGatewayRequest request,
@@ -5124,6 +6604,31 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetLocalPeeringGatewayResponse>
+            getLocalPeeringGateway(final GetLocalPeeringGatewayRequest request) {
+        LOG.trace("Called async getLocalPeeringGateway");
+        final GetLocalPeeringGatewayRequest interceptedRequest =
+                GetLocalPeeringGatewayConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetLocalPeeringGatewayConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, GetLocalPeeringGatewayResponse>
+                transformer = GetLocalPeeringGatewayConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetNatGatewayResponse> getNatGateway(
             final GetNatGatewayRequest request,
@@ -5197,6 +6702,30 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetNatGatewayResponse> getNatGateway(
+            final GetNatGatewayRequest request) {
+        LOG.trace("Called async getNatGateway");
+        final GetNatGatewayRequest interceptedRequest =
+                GetNatGatewayConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetNatGatewayConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetNatGatewayResponse>
+                transformer = GetNatGatewayConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetPrivateIpResponse> getPrivateIp(
             final GetPrivateIpRequest request,
@@ -5270,6 +6799,30 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetPrivateIpResponse> getPrivateIp(
+            final GetPrivateIpRequest request) {
+        LOG.trace("Called async getPrivateIp");
+        final GetPrivateIpRequest interceptedRequest =
+                GetPrivateIpConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetPrivateIpConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetPrivateIpResponse>
+                transformer = GetPrivateIpConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetPublicIpResponse> getPublicIp(
             final GetPublicIpRequest request,
@@ -5343,6 +6896,30 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetPublicIpResponse> getPublicIp(
+            final GetPublicIpRequest request) {
+        LOG.trace("Called async getPublicIp");
+        final GetPublicIpRequest interceptedRequest =
+                GetPublicIpConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetPublicIpConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetPublicIpResponse>
+                transformer = GetPublicIpConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetPublicIpByIpAddressResponse> getPublicIpByIpAddress(
             final GetPublicIpByIpAddressRequest request,
@@ -5434,6 +7011,34 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetPublicIpByIpAddressResponse>
+            getPublicIpByIpAddress(final GetPublicIpByIpAddressRequest request) {
+        LOG.trace("Called async getPublicIpByIpAddress");
+        final GetPublicIpByIpAddressRequest interceptedRequest =
+                GetPublicIpByIpAddressConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetPublicIpByIpAddressConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, GetPublicIpByIpAddressResponse>
+                transformer = GetPublicIpByIpAddressConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getGetPublicIpByIpAddressDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetPublicIpByPrivateIpIdResponse> getPublicIpByPrivateIpId(
             final GetPublicIpByPrivateIpIdRequest request,
@@ -5525,6 +7130,34 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetPublicIpByPrivateIpIdResponse>
+            getPublicIpByPrivateIpId(final GetPublicIpByPrivateIpIdRequest request) {
+        LOG.trace("Called async getPublicIpByPrivateIpId");
+        final GetPublicIpByPrivateIpIdRequest interceptedRequest =
+                GetPublicIpByPrivateIpIdConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetPublicIpByPrivateIpIdConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, GetPublicIpByPrivateIpIdResponse>
+                transformer = GetPublicIpByPrivateIpIdConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getGetPublicIpByPrivateIpIdDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetRemotePeeringConnectionResponse>
             getRemotePeeringConnection(
@@ -5603,6 +7236,31 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetRemotePeeringConnectionResponse>
+            getRemotePeeringConnection(final GetRemotePeeringConnectionRequest request) {
+        LOG.trace("Called async getRemotePeeringConnection");
+        final GetRemotePeeringConnectionRequest interceptedRequest =
+                GetRemotePeeringConnectionConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetRemotePeeringConnectionConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, GetRemotePeeringConnectionResponse>
+                transformer = GetRemotePeeringConnectionConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetRouteTableResponse> getRouteTable(
             final GetRouteTableRequest request,
@@ -5676,6 +7334,30 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetRouteTableResponse> getRouteTable(
+            final GetRouteTableRequest request) {
+        LOG.trace("Called async getRouteTable");
+        final GetRouteTableRequest interceptedRequest =
+                GetRouteTableConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetRouteTableConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetRouteTableResponse>
+                transformer = GetRouteTableConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetSecurityListResponse> getSecurityList(
             final GetSecurityListRequest request,
@@ -5750,6 +7432,30 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetSecurityListResponse> getSecurityList(
+            final GetSecurityListRequest request) {
+        LOG.trace("Called async getSecurityList");
+        final GetSecurityListRequest interceptedRequest =
+                GetSecurityListConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetSecurityListConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetSecurityListResponse>
+                transformer = GetSecurityListConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetServiceResponse> getService(
             final GetServiceRequest request,
@@ -5822,6 +7528,29 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetServiceResponse> getService(
+            final GetServiceRequest request) {
+        LOG.trace("Called async getService");
+        final GetServiceRequest interceptedRequest = GetServiceConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetServiceConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetServiceResponse>
+                transformer = GetServiceConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetServiceGatewayResponse> getServiceGateway(
             final GetServiceGatewayRequest request,
@@ -5896,6 +7625,30 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetServiceGatewayResponse> getServiceGateway(
+            final GetServiceGatewayRequest request) {
+        LOG.trace("Called async getServiceGateway");
+        final GetServiceGatewayRequest interceptedRequest =
+                GetServiceGatewayConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetServiceGatewayConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetServiceGatewayResponse>
+                transformer = GetServiceGatewayConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetSubnetResponse> getSubnet(
             final GetSubnetRequest request,
@@ -5968,6 +7721,29 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetSubnetResponse> getSubnet(
+            final GetSubnetRequest request) {
+        LOG.trace("Called async getSubnet");
+        final GetSubnetRequest interceptedRequest = GetSubnetConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetSubnetConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetSubnetResponse>
+                transformer = GetSubnetConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetVcnResponse> getVcn(
             final GetVcnRequest request,
@@ -6038,6 +7814,29 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetVcnResponse> getVcn(
+            final GetVcnRequest request) {
+        LOG.trace("Called async getVcn");
+        final GetVcnRequest interceptedRequest = GetVcnConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetVcnConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetVcnResponse>
+                transformer = GetVcnConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetVirtualCircuitResponse> getVirtualCircuit(
             final GetVirtualCircuitRequest request,
@@ -6112,6 +7911,30 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetVirtualCircuitResponse> getVirtualCircuit(
+            final GetVirtualCircuitRequest request) {
+        LOG.trace("Called async getVirtualCircuit");
+        final GetVirtualCircuitRequest interceptedRequest =
+                GetVirtualCircuitConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetVirtualCircuitConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetVirtualCircuitResponse>
+                transformer = GetVirtualCircuitConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetVnicResponse> getVnic(
             final GetVnicRequest request,
@@ -6183,6 +8006,29 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetVnicResponse> getVnic(
+            final GetVnicRequest request) {
+        LOG.trace("Called async getVnic");
+        final GetVnicRequest interceptedRequest = GetVnicConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetVnicConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetVnicResponse>
+                transformer = GetVnicConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListAllowedPeerRegionsForRemotePeeringResponse>
             listAllowedPeerRegionsForRemotePeering(
@@ -6264,6 +8110,32 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListAllowedPeerRegionsForRemotePeeringResponse>
+            listAllowedPeerRegionsForRemotePeering(final ListAllowedPeerRegionsForRemotePeeringRequest request) {
+        LOG.trace("Called async listAllowedPeerRegionsForRemotePeering");
+        final ListAllowedPeerRegionsForRemotePeeringRequest interceptedRequest =
+                ListAllowedPeerRegionsForRemotePeeringConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListAllowedPeerRegionsForRemotePeeringConverter.fromRequest(
+                        client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, ListAllowedPeerRegionsForRemotePeeringResponse>
+                transformer = ListAllowedPeerRegionsForRemotePeeringConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListCpesResponse> listCpes(
             final ListCpesRequest request,
@@ -6336,6 +8208,29 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListCpesResponse> listCpes(
+            final ListCpesRequest request) {
+        LOG.trace("Called async listCpes");
+        final ListCpesRequest interceptedRequest = ListCpesConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListCpesConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListCpesResponse>
+                transformer = ListCpesConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListCrossConnectGroupsResponse> listCrossConnectGroups(
             final ListCrossConnectGroupsRequest request,
@@ -6412,6 +8307,31 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListCrossConnectGroupsResponse>
+            listCrossConnectGroups(final ListCrossConnectGroupsRequest request) {
+        LOG.trace("Called async listCrossConnectGroups");
+        final ListCrossConnectGroupsRequest interceptedRequest =
+                ListCrossConnectGroupsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListCrossConnectGroupsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, ListCrossConnectGroupsResponse>
+                transformer = ListCrossConnectGroupsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListCrossConnectLocationsResponse> listCrossConnectLocations(
             final ListCrossConnectLocationsRequest request,
@@ -6488,6 +8408,31 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListCrossConnectLocationsResponse>
+            listCrossConnectLocations(final ListCrossConnectLocationsRequest request) {
+        LOG.trace("Called async listCrossConnectLocations");
+        final ListCrossConnectLocationsRequest interceptedRequest =
+                ListCrossConnectLocationsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListCrossConnectLocationsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, ListCrossConnectLocationsResponse>
+                transformer = ListCrossConnectLocationsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListCrossConnectsResponse> listCrossConnects(
             final ListCrossConnectsRequest request,
@@ -6562,6 +8507,30 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListCrossConnectsResponse> listCrossConnects(
+            final ListCrossConnectsRequest request) {
+        LOG.trace("Called async listCrossConnects");
+        final ListCrossConnectsRequest interceptedRequest =
+                ListCrossConnectsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListCrossConnectsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListCrossConnectsResponse>
+                transformer = ListCrossConnectsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListCrossconnectPortSpeedShapesResponse>
             listCrossconnectPortSpeedShapes(
@@ -6642,6 +8611,31 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListCrossconnectPortSpeedShapesResponse>
+            listCrossconnectPortSpeedShapes(final ListCrossconnectPortSpeedShapesRequest request) {
+        LOG.trace("Called async listCrossconnectPortSpeedShapes");
+        final ListCrossconnectPortSpeedShapesRequest interceptedRequest =
+                ListCrossconnectPortSpeedShapesConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListCrossconnectPortSpeedShapesConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, ListCrossconnectPortSpeedShapesResponse>
+                transformer = ListCrossconnectPortSpeedShapesConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListDhcpOptionsResponse> listDhcpOptions(
             final ListDhcpOptionsRequest request,
@@ -6716,6 +8710,30 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListDhcpOptionsResponse> listDhcpOptions(
+            final ListDhcpOptionsRequest request) {
+        LOG.trace("Called async listDhcpOptions");
+        final ListDhcpOptionsRequest interceptedRequest =
+                ListDhcpOptionsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListDhcpOptionsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListDhcpOptionsResponse>
+                transformer = ListDhcpOptionsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListDrgAttachmentsResponse> listDrgAttachments(
             final ListDrgAttachmentsRequest request,
@@ -6790,6 +8808,30 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListDrgAttachmentsResponse> listDrgAttachments(
+            final ListDrgAttachmentsRequest request) {
+        LOG.trace("Called async listDrgAttachments");
+        final ListDrgAttachmentsRequest interceptedRequest =
+                ListDrgAttachmentsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListDrgAttachmentsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListDrgAttachmentsResponse>
+                transformer = ListDrgAttachmentsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListDrgsResponse> listDrgs(
             final ListDrgsRequest request,
@@ -6862,6 +8904,29 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListDrgsResponse> listDrgs(
+            final ListDrgsRequest request) {
+        LOG.trace("Called async listDrgs");
+        final ListDrgsRequest interceptedRequest = ListDrgsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListDrgsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListDrgsResponse>
+                transformer = ListDrgsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListFastConnectProviderServicesResponse>
             listFastConnectProviderServices(
@@ -6942,6 +9007,31 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListFastConnectProviderServicesResponse>
+            listFastConnectProviderServices(final ListFastConnectProviderServicesRequest request) {
+        LOG.trace("Called async listFastConnectProviderServices");
+        final ListFastConnectProviderServicesRequest interceptedRequest =
+                ListFastConnectProviderServicesConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListFastConnectProviderServicesConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, ListFastConnectProviderServicesResponse>
+                transformer = ListFastConnectProviderServicesConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListFastConnectProviderVirtualCircuitBandwidthShapesResponse>
             listFastConnectProviderVirtualCircuitBandwidthShapes(
@@ -7028,6 +9118,36 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListFastConnectProviderVirtualCircuitBandwidthShapesResponse>
+            listFastConnectProviderVirtualCircuitBandwidthShapes(final ListFastConnectProviderVirtualCircuitBandwidthShapesRequest request) {
+        LOG.trace("Called async listFastConnectProviderVirtualCircuitBandwidthShapes");
+        final ListFastConnectProviderVirtualCircuitBandwidthShapesRequest interceptedRequest =
+                ListFastConnectProviderVirtualCircuitBandwidthShapesConverter.interceptRequest(
+                        request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListFastConnectProviderVirtualCircuitBandwidthShapesConverter.fromRequest(
+                        client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response,
+                        ListFastConnectProviderVirtualCircuitBandwidthShapesResponse>
+                transformer =
+                        ListFastConnectProviderVirtualCircuitBandwidthShapesConverter
+                                .fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListIPSecConnectionsResponse> listIPSecConnections(
             final ListIPSecConnectionsRequest request,
@@ -7104,6 +9224,31 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListIPSecConnectionsResponse> listIPSecConnections(
+            final ListIPSecConnectionsRequest request) {
+        LOG.trace("Called async listIPSecConnections");
+        final ListIPSecConnectionsRequest interceptedRequest =
+                ListIPSecConnectionsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListIPSecConnectionsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, ListIPSecConnectionsResponse>
+                transformer = ListIPSecConnectionsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListInternetGatewaysResponse> listInternetGateways(
             final ListInternetGatewaysRequest request,
@@ -7180,6 +9325,31 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListInternetGatewaysResponse> listInternetGateways(
+            final ListInternetGatewaysRequest request) {
+        LOG.trace("Called async listInternetGateways");
+        final ListInternetGatewaysRequest interceptedRequest =
+                ListInternetGatewaysConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListInternetGatewaysConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, ListInternetGatewaysResponse>
+                transformer = ListInternetGatewaysConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListLocalPeeringGatewaysResponse> listLocalPeeringGateways(
             final ListLocalPeeringGatewaysRequest request,
@@ -7256,6 +9426,31 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListLocalPeeringGatewaysResponse>
+            listLocalPeeringGateways(final ListLocalPeeringGatewaysRequest request) {
+        LOG.trace("Called async listLocalPeeringGateways");
+        final ListLocalPeeringGatewaysRequest interceptedRequest =
+                ListLocalPeeringGatewaysConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListLocalPeeringGatewaysConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, ListLocalPeeringGatewaysResponse>
+                transformer = ListLocalPeeringGatewaysConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListNatGatewaysResponse> listNatGateways(
             final ListNatGatewaysRequest request,
@@ -7330,6 +9525,30 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListNatGatewaysResponse> listNatGateways(
+            final ListNatGatewaysRequest request) {
+        LOG.trace("Called async listNatGateways");
+        final ListNatGatewaysRequest interceptedRequest =
+                ListNatGatewaysConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListNatGatewaysConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListNatGatewaysResponse>
+                transformer = ListNatGatewaysConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListPrivateIpsResponse> listPrivateIps(
             final ListPrivateIpsRequest request,
@@ -7404,6 +9623,30 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListPrivateIpsResponse> listPrivateIps(
+            final ListPrivateIpsRequest request) {
+        LOG.trace("Called async listPrivateIps");
+        final ListPrivateIpsRequest interceptedRequest =
+                ListPrivateIpsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListPrivateIpsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListPrivateIpsResponse>
+                transformer = ListPrivateIpsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListPublicIpsResponse> listPublicIps(
             final ListPublicIpsRequest request,
@@ -7477,6 +9720,30 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListPublicIpsResponse> listPublicIps(
+            final ListPublicIpsRequest request) {
+        LOG.trace("Called async listPublicIps");
+        final ListPublicIpsRequest interceptedRequest =
+                ListPublicIpsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListPublicIpsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListPublicIpsResponse>
+                transformer = ListPublicIpsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListRemotePeeringConnectionsResponse>
             listRemotePeeringConnections(
@@ -7556,6 +9823,31 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListRemotePeeringConnectionsResponse>
+            listRemotePeeringConnections(final ListRemotePeeringConnectionsRequest request) {
+        LOG.trace("Called async listRemotePeeringConnections");
+        final ListRemotePeeringConnectionsRequest interceptedRequest =
+                ListRemotePeeringConnectionsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListRemotePeeringConnectionsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, ListRemotePeeringConnectionsResponse>
+                transformer = ListRemotePeeringConnectionsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListRouteTablesResponse> listRouteTables(
             final ListRouteTablesRequest request,
@@ -7630,6 +9922,30 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListRouteTablesResponse> listRouteTables(
+            final ListRouteTablesRequest request) {
+        LOG.trace("Called async listRouteTables");
+        final ListRouteTablesRequest interceptedRequest =
+                ListRouteTablesConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListRouteTablesConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListRouteTablesResponse>
+                transformer = ListRouteTablesConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListSecurityListsResponse> listSecurityLists(
             final ListSecurityListsRequest request,
@@ -7704,6 +10020,30 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListSecurityListsResponse> listSecurityLists(
+            final ListSecurityListsRequest request) {
+        LOG.trace("Called async listSecurityLists");
+        final ListSecurityListsRequest interceptedRequest =
+                ListSecurityListsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListSecurityListsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListSecurityListsResponse>
+                transformer = ListSecurityListsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListServiceGatewaysResponse> listServiceGateways(
             final ListServiceGatewaysRequest request,
@@ -7780,6 +10120,31 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListServiceGatewaysResponse> listServiceGateways(
+            final ListServiceGatewaysRequest request) {
+        LOG.trace("Called async listServiceGateways");
+        final ListServiceGatewaysRequest interceptedRequest =
+                ListServiceGatewaysConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListServiceGatewaysConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, ListServiceGatewaysResponse>
+                transformer = ListServiceGatewaysConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListServicesResponse> listServices(
             final ListServicesRequest request,
@@ -7853,6 +10218,30 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListServicesResponse> listServices(
+            final ListServicesRequest request) {
+        LOG.trace("Called async listServices");
+        final ListServicesRequest interceptedRequest =
+                ListServicesConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListServicesConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListServicesResponse>
+                transformer = ListServicesConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListSubnetsResponse> listSubnets(
             final ListSubnetsRequest request,
@@ -7926,6 +10315,30 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListSubnetsResponse> listSubnets(
+            final ListSubnetsRequest request) {
+        LOG.trace("Called async listSubnets");
+        final ListSubnetsRequest interceptedRequest =
+                ListSubnetsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListSubnetsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListSubnetsResponse>
+                transformer = ListSubnetsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListVcnsResponse> listVcns(
             final ListVcnsRequest request,
@@ -7998,6 +10411,29 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListVcnsResponse> listVcns(
+            final ListVcnsRequest request) {
+        LOG.trace("Called async listVcns");
+        final ListVcnsRequest interceptedRequest = ListVcnsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListVcnsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListVcnsResponse>
+                transformer = ListVcnsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListVirtualCircuitBandwidthShapesResponse>
             listVirtualCircuitBandwidthShapes(
@@ -8078,6 +10514,31 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListVirtualCircuitBandwidthShapesResponse>
+            listVirtualCircuitBandwidthShapes(final ListVirtualCircuitBandwidthShapesRequest request) {
+        LOG.trace("Called async listVirtualCircuitBandwidthShapes");
+        final ListVirtualCircuitBandwidthShapesRequest interceptedRequest =
+                ListVirtualCircuitBandwidthShapesConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListVirtualCircuitBandwidthShapesConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, ListVirtualCircuitBandwidthShapesResponse>
+                transformer = ListVirtualCircuitBandwidthShapesConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListVirtualCircuitPublicPrefixesResponse>
             listVirtualCircuitPublicPrefixes(
@@ -8158,6 +10619,31 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListVirtualCircuitPublicPrefixesResponse>
+            listVirtualCircuitPublicPrefixes(final ListVirtualCircuitPublicPrefixesRequest request) {
+        LOG.trace("Called async listVirtualCircuitPublicPrefixes");
+        final ListVirtualCircuitPublicPrefixesRequest interceptedRequest =
+                ListVirtualCircuitPublicPrefixesConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListVirtualCircuitPublicPrefixesConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, ListVirtualCircuitPublicPrefixesResponse>
+                transformer = ListVirtualCircuitPublicPrefixesConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListVirtualCircuitsResponse> listVirtualCircuits(
             final ListVirtualCircuitsRequest request,
@@ -8234,6 +10720,31 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListVirtualCircuitsResponse> listVirtualCircuits(
+            final ListVirtualCircuitsRequest request) {
+        LOG.trace("Called async listVirtualCircuits");
+        final ListVirtualCircuitsRequest interceptedRequest =
+                ListVirtualCircuitsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListVirtualCircuitsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, ListVirtualCircuitsResponse>
+                transformer = ListVirtualCircuitsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateCpeResponse> updateCpe(
             final UpdateCpeRequest request,
@@ -8321,6 +10832,30 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateCpeResponse> updateCpe(
+            final UpdateCpeRequest request) {
+        LOG.trace("Called async updateCpe");
+        final UpdateCpeRequest interceptedRequest = UpdateCpeConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateCpeConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, UpdateCpeResponse>
+                transformer = UpdateCpeConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib, interceptedRequest.getUpdateCpeDetails(), interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateCrossConnectResponse> updateCrossConnect(
             final UpdateCrossConnectRequest request,
@@ -8410,6 +10945,33 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateCrossConnectResponse> updateCrossConnect(
+            final UpdateCrossConnectRequest request) {
+        LOG.trace("Called async updateCrossConnect");
+        final UpdateCrossConnectRequest interceptedRequest =
+                UpdateCrossConnectConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateCrossConnectConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, UpdateCrossConnectResponse>
+                transformer = UpdateCrossConnectConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdateCrossConnectDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateCrossConnectGroupResponse> updateCrossConnectGroup(
             final UpdateCrossConnectGroupRequest request,
@@ -8501,6 +11063,34 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateCrossConnectGroupResponse>
+            updateCrossConnectGroup(final UpdateCrossConnectGroupRequest request) {
+        LOG.trace("Called async updateCrossConnectGroup");
+        final UpdateCrossConnectGroupRequest interceptedRequest =
+                UpdateCrossConnectGroupConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateCrossConnectGroupConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, UpdateCrossConnectGroupResponse>
+                transformer = UpdateCrossConnectGroupConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdateCrossConnectGroupDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateDhcpOptionsResponse> updateDhcpOptions(
             final UpdateDhcpOptionsRequest request,
@@ -8590,6 +11180,31 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateDhcpOptionsResponse> updateDhcpOptions(
+            final UpdateDhcpOptionsRequest request) {
+        LOG.trace("Called async updateDhcpOptions");
+        final UpdateDhcpOptionsRequest interceptedRequest =
+                UpdateDhcpOptionsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateDhcpOptionsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, UpdateDhcpOptionsResponse>
+                transformer = UpdateDhcpOptionsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib, interceptedRequest.getUpdateDhcpDetails(), interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateDrgResponse> updateDrg(
             final UpdateDrgRequest request,
@@ -8677,6 +11292,30 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateDrgResponse> updateDrg(
+            final UpdateDrgRequest request) {
+        LOG.trace("Called async updateDrg");
+        final UpdateDrgRequest interceptedRequest = UpdateDrgConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateDrgConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, UpdateDrgResponse>
+                transformer = UpdateDrgConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib, interceptedRequest.getUpdateDrgDetails(), interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateDrgAttachmentResponse> updateDrgAttachment(
             final UpdateDrgAttachmentRequest request,
@@ -8768,6 +11407,34 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateDrgAttachmentResponse> updateDrgAttachment(
+            final UpdateDrgAttachmentRequest request) {
+        LOG.trace("Called async updateDrgAttachment");
+        final UpdateDrgAttachmentRequest interceptedRequest =
+                UpdateDrgAttachmentConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateDrgAttachmentConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, UpdateDrgAttachmentResponse>
+                transformer = UpdateDrgAttachmentConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdateDrgAttachmentDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateIPSecConnectionResponse> updateIPSecConnection(
             final UpdateIPSecConnectionRequest request,
@@ -8859,6 +11526,34 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateIPSecConnectionResponse>
+            updateIPSecConnection(final UpdateIPSecConnectionRequest request) {
+        LOG.trace("Called async updateIPSecConnection");
+        final UpdateIPSecConnectionRequest interceptedRequest =
+                UpdateIPSecConnectionConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateIPSecConnectionConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, UpdateIPSecConnectionResponse>
+                transformer = UpdateIPSecConnectionConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdateIPSecConnectionDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateInternetGatewayResponse> updateInternetGateway(
             final UpdateInternetGatewayRequest request,
@@ -8950,6 +11645,34 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateInternetGatewayResponse>
+            updateInternetGateway(final UpdateInternetGatewayRequest request) {
+        LOG.trace("Called async updateInternetGateway");
+        final UpdateInternetGatewayRequest interceptedRequest =
+                UpdateInternetGatewayConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateInternetGatewayConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, UpdateInternetGatewayResponse>
+                transformer = UpdateInternetGatewayConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdateInternetGatewayDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateLocalPeeringGatewayResponse> updateLocalPeeringGateway(
             final UpdateLocalPeeringGatewayRequest request,
@@ -9041,6 +11764,34 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateLocalPeeringGatewayResponse>
+            updateLocalPeeringGateway(final UpdateLocalPeeringGatewayRequest request) {
+        LOG.trace("Called async updateLocalPeeringGateway");
+        final UpdateLocalPeeringGatewayRequest interceptedRequest =
+                UpdateLocalPeeringGatewayConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateLocalPeeringGatewayConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, UpdateLocalPeeringGatewayResponse>
+                transformer = UpdateLocalPeeringGatewayConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdateLocalPeeringGatewayDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateNatGatewayResponse> updateNatGateway(
             final UpdateNatGatewayRequest request,
@@ -9130,6 +11881,33 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateNatGatewayResponse> updateNatGateway(
+            final UpdateNatGatewayRequest request) {
+        LOG.trace("Called async updateNatGateway");
+        final UpdateNatGatewayRequest interceptedRequest =
+                UpdateNatGatewayConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateNatGatewayConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, UpdateNatGatewayResponse>
+                transformer = UpdateNatGatewayConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdateNatGatewayDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdatePrivateIpResponse> updatePrivateIp(
             final UpdatePrivateIpRequest request,
@@ -9219,6 +11997,33 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdatePrivateIpResponse> updatePrivateIp(
+            final UpdatePrivateIpRequest request) {
+        LOG.trace("Called async updatePrivateIp");
+        final UpdatePrivateIpRequest interceptedRequest =
+                UpdatePrivateIpConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdatePrivateIpConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, UpdatePrivateIpResponse>
+                transformer = UpdatePrivateIpConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdatePrivateIpDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdatePublicIpResponse> updatePublicIp(
             final UpdatePublicIpRequest request,
@@ -9308,6 +12113,33 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdatePublicIpResponse> updatePublicIp(
+            final UpdatePublicIpRequest request) {
+        LOG.trace("Called async updatePublicIp");
+        final UpdatePublicIpRequest interceptedRequest =
+                UpdatePublicIpConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdatePublicIpConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, UpdatePublicIpResponse>
+                transformer = UpdatePublicIpConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdatePublicIpDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateRemotePeeringConnectionResponse>
             updateRemotePeeringConnection(
@@ -9402,6 +12234,34 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateRemotePeeringConnectionResponse>
+            updateRemotePeeringConnection(final UpdateRemotePeeringConnectionRequest request) {
+        LOG.trace("Called async updateRemotePeeringConnection");
+        final UpdateRemotePeeringConnectionRequest interceptedRequest =
+                UpdateRemotePeeringConnectionConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateRemotePeeringConnectionConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, UpdateRemotePeeringConnectionResponse>
+                transformer = UpdateRemotePeeringConnectionConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdateRemotePeeringConnectionDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateRouteTableResponse> updateRouteTable(
             final UpdateRouteTableRequest request,
@@ -9491,6 +12351,33 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateRouteTableResponse> updateRouteTable(
+            final UpdateRouteTableRequest request) {
+        LOG.trace("Called async updateRouteTable");
+        final UpdateRouteTableRequest interceptedRequest =
+                UpdateRouteTableConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateRouteTableConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, UpdateRouteTableResponse>
+                transformer = UpdateRouteTableConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdateRouteTableDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateSecurityListResponse> updateSecurityList(
             final UpdateSecurityListRequest request,
@@ -9580,6 +12467,33 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateSecurityListResponse> updateSecurityList(
+            final UpdateSecurityListRequest request) {
+        LOG.trace("Called async updateSecurityList");
+        final UpdateSecurityListRequest interceptedRequest =
+                UpdateSecurityListConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateSecurityListConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, UpdateSecurityListResponse>
+                transformer = UpdateSecurityListConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdateSecurityListDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateServiceGatewayResponse> updateServiceGateway(
             final UpdateServiceGatewayRequest request,
@@ -9671,6 +12585,34 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateServiceGatewayResponse> updateServiceGateway(
+            final UpdateServiceGatewayRequest request) {
+        LOG.trace("Called async updateServiceGateway");
+        final UpdateServiceGatewayRequest interceptedRequest =
+                UpdateServiceGatewayConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateServiceGatewayConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, UpdateServiceGatewayResponse>
+                transformer = UpdateServiceGatewayConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdateServiceGatewayDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateSubnetResponse> updateSubnet(
             final UpdateSubnetRequest request,
@@ -9759,6 +12701,33 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateSubnetResponse> updateSubnet(
+            final UpdateSubnetRequest request) {
+        LOG.trace("Called async updateSubnet");
+        final UpdateSubnetRequest interceptedRequest =
+                UpdateSubnetConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateSubnetConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, UpdateSubnetResponse>
+                transformer = UpdateSubnetConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdateSubnetDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateVcnResponse> updateVcn(
             final UpdateVcnRequest request,
@@ -9846,6 +12815,30 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateVcnResponse> updateVcn(
+            final UpdateVcnRequest request) {
+        LOG.trace("Called async updateVcn");
+        final UpdateVcnRequest interceptedRequest = UpdateVcnConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateVcnConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, UpdateVcnResponse>
+                transformer = UpdateVcnConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib, interceptedRequest.getUpdateVcnDetails(), interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateVirtualCircuitResponse> updateVirtualCircuit(
             final UpdateVirtualCircuitRequest request,
@@ -9937,6 +12930,34 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateVirtualCircuitResponse> updateVirtualCircuit(
+            final UpdateVirtualCircuitRequest request) {
+        LOG.trace("Called async updateVirtualCircuit");
+        final UpdateVirtualCircuitRequest interceptedRequest =
+                UpdateVirtualCircuitConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateVirtualCircuitConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, UpdateVirtualCircuitResponse>
+                transformer = UpdateVirtualCircuitConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdateVirtualCircuitDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateVnicResponse> updateVnic(
             final UpdateVnicRequest request,
@@ -10023,4 +13044,28 @@ public class VirtualNetworkAsyncClient implements VirtualNetworkAsync {
                     responseFuture, transformer);
         }
     }
+
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateVnicResponse> updateVnic(
+            final UpdateVnicRequest request) {
+        LOG.trace("Called async updateVnic");
+        final UpdateVnicRequest interceptedRequest = UpdateVnicConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateVnicConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, UpdateVnicResponse>
+                transformer = UpdateVnicConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib, interceptedRequest.getUpdateVnicDetails(), interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
 }
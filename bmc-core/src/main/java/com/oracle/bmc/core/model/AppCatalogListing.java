@@ -97,7 +97,8 @@ public class AppCatalogListing {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public AppCatalogListing build() {
             AppCatalogListing __instance__ =
@@ -188,6 +189,18 @@ public class AppCatalogListing {
     @com.fasterxml.jackson.annotation.JsonProperty("summary")
     String summary;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "contactUrl",
+                    "description",
+                    "listingId",
+                    "displayName",
+                    "timePublished",
+                    "publisherLogoUrl",
+                    "publisherName",
+                    "summary");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -97,7 +97,8 @@ public class AppCatalogListingResourceVersion {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public AppCatalogListingResourceVersion build() {
             AppCatalogListingResourceVersion __instance__ =
@@ -248,6 +249,18 @@ public class AppCatalogListingResourceVersion {
     @com.fasterxml.jackson.annotation.JsonProperty("allowedActions")
     java.util.List<AllowedActions> allowedActions;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "listingId",
+                    "timePublished",
+                    "listingResourceId",
+                    "listingResourceVersion",
+                    "availableRegions",
+                    "compatibleShapes",
+                    "accessiblePorts",
+                    "allowedActions");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
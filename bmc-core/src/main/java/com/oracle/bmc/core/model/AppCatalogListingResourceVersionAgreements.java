@@ -79,7 +79,8 @@ public class AppCatalogListingResourceVersionAgreements {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public AppCatalogListingResourceVersionAgreements build() {
             AppCatalogListingResourceVersionAgreements __instance__ =
@@ -155,6 +156,16 @@ public class AppCatalogListingResourceVersionAgreements {
     @com.fasterxml.jackson.annotation.JsonProperty("signature")
     String signature;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "listingId",
+                    "listingResourceVersion",
+                    "oracleTermsOfUseLink",
+                    "eulaLink",
+                    "timeRetrieved",
+                    "signature");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
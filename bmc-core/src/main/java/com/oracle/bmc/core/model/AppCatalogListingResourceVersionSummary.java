@@ -61,7 +61,8 @@ public class AppCatalogListingResourceVersionSummary {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public AppCatalogListingResourceVersionSummary build() {
             AppCatalogListingResourceVersionSummary __instance__ =
@@ -117,6 +118,11 @@ public class AppCatalogListingResourceVersionSummary {
     @com.fasterxml.jackson.annotation.JsonProperty("listingResourceVersion")
     String listingResourceVersion;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "listingId", "timePublished", "listingResourceId", "listingResourceVersion");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -97,7 +97,8 @@ public class AppCatalogSubscriptionSummary {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public AppCatalogSubscriptionSummary build() {
             AppCatalogSubscriptionSummary __instance__ =
@@ -188,6 +189,18 @@ public class AppCatalogSubscriptionSummary {
     @com.fasterxml.jackson.annotation.JsonProperty("timeCreated")
     java.util.Date timeCreated;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "publisherName",
+                    "listingId",
+                    "listingResourceVersion",
+                    "listingResourceId",
+                    "displayName",
+                    "summary",
+                    "compartmentId",
+                    "timeCreated");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -85,7 +85,8 @@ public class AttachIScsiVolumeDetails extends AttachVolumeDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public AttachIScsiVolumeDetails build() {
             AttachIScsiVolumeDetails __instance__ =
@@ -135,6 +136,11 @@ public class AttachIScsiVolumeDetails extends AttachVolumeDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("useChap")
     Boolean useChap;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "device", "displayName", "instanceId", "isReadOnly", "volumeId", "useChap");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -61,7 +61,8 @@ public class AttachLoadBalancerDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public AttachLoadBalancerDetails build() {
             AttachLoadBalancerDetails __instance__ =
@@ -115,6 +116,11 @@ public class AttachLoadBalancerDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("vnicSelection")
     String vnicSelection;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "loadBalancerId", "backendSetName", "port", "vnicSelection");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -85,7 +85,8 @@ public class AttachParavirtualizedVolumeDetails extends AttachVolumeDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public AttachParavirtualizedVolumeDetails build() {
             AttachParavirtualizedVolumeDetails __instance__ =
@@ -140,6 +141,16 @@ public class AttachParavirtualizedVolumeDetails extends AttachVolumeDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("isPvEncryptionInTransitEnabled")
     Boolean isPvEncryptionInTransitEnabled;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "device",
+                    "displayName",
+                    "instanceId",
+                    "isReadOnly",
+                    "volumeId",
+                    "isPvEncryptionInTransitEnabled");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
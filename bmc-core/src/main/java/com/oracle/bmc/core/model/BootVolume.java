@@ -168,7 +168,8 @@ public class BootVolume {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public BootVolume build() {
             BootVolume __instance__ =
@@ -380,6 +381,25 @@ public class BootVolume {
     @com.fasterxml.jackson.annotation.JsonProperty("kmsKeyId")
     String kmsKeyId;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "availabilityDomain",
+                    "compartmentId",
+                    "definedTags",
+                    "displayName",
+                    "freeformTags",
+                    "id",
+                    "imageId",
+                    "isHydrated",
+                    "lifecycleState",
+                    "sizeInGBs",
+                    "sizeInMBs",
+                    "sourceDetails",
+                    "timeCreated",
+                    "volumeGroupId",
+                    "kmsKeyId");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
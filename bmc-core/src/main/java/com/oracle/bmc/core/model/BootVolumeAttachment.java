@@ -110,7 +110,8 @@ public class BootVolumeAttachment {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public BootVolumeAttachment build() {
             BootVolumeAttachment __instance__ =
@@ -264,6 +265,19 @@ public class BootVolumeAttachment {
     @com.fasterxml.jackson.annotation.JsonProperty("isPvEncryptionInTransitEnabled")
     Boolean isPvEncryptionInTransitEnabled;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "availabilityDomain",
+                    "bootVolumeId",
+                    "compartmentId",
+                    "displayName",
+                    "id",
+                    "instanceId",
+                    "lifecycleState",
+                    "timeCreated",
+                    "isPvEncryptionInTransitEnabled");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
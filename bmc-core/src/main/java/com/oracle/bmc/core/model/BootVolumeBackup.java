@@ -169,7 +169,8 @@ public class BootVolumeBackup {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public BootVolumeBackup build() {
             BootVolumeBackup __instance__ =
@@ -474,6 +475,25 @@ public class BootVolumeBackup {
     @com.fasterxml.jackson.annotation.JsonProperty("uniqueSizeInGBs")
     Long uniqueSizeInGBs;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "bootVolumeId",
+                    "compartmentId",
+                    "definedTags",
+                    "displayName",
+                    "expirationTime",
+                    "freeformTags",
+                    "id",
+                    "imageId",
+                    "lifecycleState",
+                    "sizeInGBs",
+                    "sourceType",
+                    "timeCreated",
+                    "timeRequestReceived",
+                    "type",
+                    "uniqueSizeInGBs");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -35,7 +35,8 @@ public class BulkAddVirtualCircuitPublicPrefixesDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public BulkAddVirtualCircuitPublicPrefixesDetails build() {
             BulkAddVirtualCircuitPublicPrefixesDetails __instance__ =
@@ -66,6 +67,10 @@ public class BulkAddVirtualCircuitPublicPrefixesDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("publicPrefixes")
     java.util.List<CreateVirtualCircuitPublicPrefixDetails> publicPrefixes;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of("publicPrefixes");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -62,7 +62,8 @@ public class CaptureConsoleHistoryDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public CaptureConsoleHistoryDetails build() {
             CaptureConsoleHistoryDetails __instance__ =
@@ -126,6 +127,11 @@ public class CaptureConsoleHistoryDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("instanceId")
     String instanceId;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "definedTags", "displayName", "freeformTags", "instanceId");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
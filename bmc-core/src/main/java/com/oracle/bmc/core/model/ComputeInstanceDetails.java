@@ -60,7 +60,8 @@ public class ComputeInstanceDetails extends InstanceConfigurationInstanceDetails
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public ComputeInstanceDetails build() {
             ComputeInstanceDetails __instance__ =
@@ -108,6 +109,11 @@ public class ComputeInstanceDetails extends InstanceConfigurationInstanceDetails
     @com.fasterxml.jackson.annotation.JsonProperty("secondaryVnics")
     java.util.List<InstanceConfigurationAttachVnicDetails> secondaryVnics;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "blockVolumes", "launchDetails", "secondaryVnics");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -34,7 +34,8 @@ public class ConnectLocalPeeringGatewaysDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public ConnectLocalPeeringGatewaysDetails build() {
             ConnectLocalPeeringGatewaysDetails __instance__ =
@@ -65,6 +66,10 @@ public class ConnectLocalPeeringGatewaysDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("peerId")
     String peerId;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of("peerId");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -43,7 +43,8 @@ public class ConnectRemotePeeringConnectionsDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public ConnectRemotePeeringConnectionsDetails build() {
             ConnectRemotePeeringConnectionsDetails __instance__ =
@@ -83,6 +84,10 @@ public class ConnectRemotePeeringConnectionsDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("peerRegionName")
     String peerRegionName;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of("peerId", "peerRegionName");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -88,7 +88,8 @@ public class CreateAppCatalogSubscriptionDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public CreateAppCatalogSubscriptionDetails build() {
             CreateAppCatalogSubscriptionDetails __instance__ =
@@ -171,6 +172,17 @@ public class CreateAppCatalogSubscriptionDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("signature")
     String signature;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "compartmentId",
+                    "listingId",
+                    "listingResourceVersion",
+                    "oracleTermsOfUseLink",
+                    "eulaLink",
+                    "timeRetrieved",
+                    "signature");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
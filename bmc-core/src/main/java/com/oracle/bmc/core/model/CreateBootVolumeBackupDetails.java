@@ -71,7 +71,8 @@ public class CreateBootVolumeBackupDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public CreateBootVolumeBackupDetails build() {
             CreateBootVolumeBackupDetails __instance__ =
@@ -177,6 +178,11 @@ public class CreateBootVolumeBackupDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("type")
     Type type;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "bootVolumeId", "definedTags", "displayName", "freeformTags", "type");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
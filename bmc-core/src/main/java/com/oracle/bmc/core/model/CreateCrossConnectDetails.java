@@ -99,7 +99,8 @@ public class CreateCrossConnectDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public CreateCrossConnectDetails build() {
             CreateCrossConnectDetails __instance__ =
@@ -210,6 +211,18 @@ public class CreateCrossConnectDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("customerReferenceName")
     String customerReferenceName;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "compartmentId",
+                    "crossConnectGroupId",
+                    "displayName",
+                    "farCrossConnectOrCrossConnectGroupId",
+                    "locationName",
+                    "nearCrossConnectOrCrossConnectGroupId",
+                    "portSpeedShapeName",
+                    "customerReferenceName");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
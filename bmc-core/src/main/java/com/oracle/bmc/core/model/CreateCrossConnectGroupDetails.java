@@ -52,7 +52,8 @@ public class CreateCrossConnectGroupDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public CreateCrossConnectGroupDetails build() {
             CreateCrossConnectGroupDetails __instance__ =
@@ -103,6 +104,11 @@ public class CreateCrossConnectGroupDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("customerReferenceName")
     String customerReferenceName;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "compartmentId", "displayName", "customerReferenceName");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -61,7 +61,8 @@ public class CreateDrgAttachmentDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public CreateDrgAttachmentDetails build() {
             CreateDrgAttachmentDetails __instance__ =
@@ -122,6 +123,11 @@ public class CreateDrgAttachmentDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("vcnId")
     String vcnId;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "displayName", "drgId", "routeTableId", "vcnId");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
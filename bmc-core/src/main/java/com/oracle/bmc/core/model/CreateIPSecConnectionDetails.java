@@ -89,7 +89,8 @@ public class CreateIPSecConnectionDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public CreateIPSecConnectionDetails build() {
             CreateIPSecConnectionDetails __instance__ =
@@ -183,6 +184,17 @@ public class CreateIPSecConnectionDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("staticRoutes")
     java.util.List<String> staticRoutes;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "compartmentId",
+                    "cpeId",
+                    "definedTags",
+                    "displayName",
+                    "drgId",
+                    "freeformTags",
+                    "staticRoutes");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
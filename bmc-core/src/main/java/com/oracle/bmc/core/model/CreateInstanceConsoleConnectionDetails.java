@@ -64,7 +64,8 @@ public class CreateInstanceConsoleConnectionDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public CreateInstanceConsoleConnectionDetails build() {
             CreateInstanceConsoleConnectionDetails __instance__ =
@@ -127,6 +128,11 @@ public class CreateInstanceConsoleConnectionDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("publicKey")
     String publicKey;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "definedTags", "freeformTags", "instanceId", "publicKey");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -101,7 +101,8 @@ public class CreateInstancePoolDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public CreateInstancePoolDetails build() {
             CreateInstancePoolDetails __instance__ =
@@ -202,6 +203,18 @@ public class CreateInstancePoolDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("loadBalancers")
     java.util.List<AttachLoadBalancerDetails> loadBalancers;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "compartmentId",
+                    "definedTags",
+                    "displayName",
+                    "freeformTags",
+                    "instanceConfigurationId",
+                    "placementConfigurations",
+                    "size",
+                    "loadBalancers");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -80,7 +80,8 @@ public class CreatePrivateIpDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public CreatePrivateIpDetails build() {
             CreatePrivateIpDetails __instance__ =
@@ -182,6 +183,16 @@ public class CreatePrivateIpDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("vnicId")
     String vnicId;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "definedTags",
+                    "displayName",
+                    "freeformTags",
+                    "hostnameLabel",
+                    "ipAddress",
+                    "vnicId");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
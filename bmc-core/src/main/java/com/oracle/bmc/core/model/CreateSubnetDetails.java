@@ -134,7 +134,8 @@ public class CreateSubnetDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public CreateSubnetDetails build() {
             CreateSubnetDetails __instance__ =
@@ -302,6 +303,22 @@ public class CreateSubnetDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("vcnId")
     String vcnId;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "availabilityDomain",
+                    "cidrBlock",
+                    "compartmentId",
+                    "definedTags",
+                    "dhcpOptionsId",
+                    "displayName",
+                    "dnsLabel",
+                    "freeformTags",
+                    "prohibitPublicIpOnVnic",
+                    "routeTableId",
+                    "securityListIds",
+                    "vcnId");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -144,7 +144,8 @@ public class CreateVirtualCircuitDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public CreateVirtualCircuitDetails build() {
             CreateVirtualCircuitDetails __instance__ =
@@ -342,6 +343,23 @@ public class CreateVirtualCircuitDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("type")
     Type type;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "bandwidthShapeName",
+                    "compartmentId",
+                    "crossConnectMappings",
+                    "customerBgpAsn",
+                    "displayName",
+                    "gatewayId",
+                    "providerName",
+                    "providerServiceId",
+                    "providerServiceKeyName",
+                    "providerServiceName",
+                    "publicPrefixes",
+                    "region",
+                    "type");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
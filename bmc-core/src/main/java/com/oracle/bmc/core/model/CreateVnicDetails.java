@@ -102,7 +102,8 @@ public class CreateVnicDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public CreateVnicDetails build() {
             CreateVnicDetails __instance__ =
@@ -262,6 +263,18 @@ public class CreateVnicDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("subnetId")
     String subnetId;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "assignPublicIp",
+                    "definedTags",
+                    "displayName",
+                    "freeformTags",
+                    "hostnameLabel",
+                    "privateIp",
+                    "skipSourceDestCheck",
+                    "subnetId");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
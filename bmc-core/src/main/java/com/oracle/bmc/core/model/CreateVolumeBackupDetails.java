@@ -71,7 +71,8 @@ public class CreateVolumeBackupDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public CreateVolumeBackupDetails build() {
             CreateVolumeBackupDetails __instance__ =
@@ -177,6 +178,11 @@ public class CreateVolumeBackupDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("volumeId")
     String volumeId;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "definedTags", "displayName", "freeformTags", "type", "volumeId");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
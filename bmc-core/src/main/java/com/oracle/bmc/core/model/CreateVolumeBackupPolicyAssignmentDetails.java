@@ -43,7 +43,8 @@ public class CreateVolumeBackupPolicyAssignmentDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public CreateVolumeBackupPolicyAssignmentDetails build() {
             CreateVolumeBackupPolicyAssignmentDetails __instance__ =
@@ -80,6 +81,10 @@ public class CreateVolumeBackupPolicyAssignmentDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("policyId")
     String policyId;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of("assetId", "policyId");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -125,7 +125,8 @@ public class CreateVolumeDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public CreateVolumeDetails build() {
             CreateVolumeDetails __instance__ =
@@ -262,6 +263,21 @@ public class CreateVolumeDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("volumeBackupId")
     String volumeBackupId;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "availabilityDomain",
+                    "backupPolicyId",
+                    "compartmentId",
+                    "definedTags",
+                    "displayName",
+                    "freeformTags",
+                    "kmsKeyId",
+                    "sizeInGBs",
+                    "sizeInMBs",
+                    "sourceDetails",
+                    "volumeBackupId");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -95,7 +95,8 @@ public class CrossConnectMapping {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public CrossConnectMapping build() {
             CrossConnectMapping __instance__ =
@@ -191,6 +192,15 @@ public class CrossConnectMapping {
     @com.fasterxml.jackson.annotation.JsonProperty("vlan")
     Integer vlan;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "bgpMd5AuthKey",
+                    "crossConnectOrCrossConnectGroupId",
+                    "customerBgpPeeringIp",
+                    "oracleBgpPeeringIp",
+                    "vlan");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -44,7 +44,8 @@ public class CrossConnectPortSpeedShape {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public CrossConnectPortSpeedShape build() {
             CrossConnectPortSpeedShape __instance__ =
@@ -87,6 +88,10 @@ public class CrossConnectPortSpeedShape {
     @com.fasterxml.jackson.annotation.JsonProperty("portSpeedInGbps")
     Integer portSpeedInGbps;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of("name", "portSpeedInGbps");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
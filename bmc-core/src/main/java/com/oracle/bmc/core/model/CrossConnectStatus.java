@@ -61,7 +61,8 @@ public class CrossConnectStatus {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public CrossConnectStatus build() {
             CrossConnectStatus __instance__ =
@@ -233,6 +234,11 @@ public class CrossConnectStatus {
     @com.fasterxml.jackson.annotation.JsonProperty("lightLevelIndicator")
     LightLevelIndicator lightLevelIndicator;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "crossConnectId", "interfaceState", "lightLevelIndBm", "lightLevelIndicator");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
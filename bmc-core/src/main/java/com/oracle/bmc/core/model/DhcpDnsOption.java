@@ -50,7 +50,8 @@ public class DhcpDnsOption extends DhcpOption {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public DhcpDnsOption build() {
             DhcpDnsOption __instance__ = new DhcpDnsOption(customDnsServers, serverType);
@@ -172,6 +173,10 @@ public class DhcpDnsOption extends DhcpOption {
     @com.fasterxml.jackson.annotation.JsonProperty("serverType")
     ServerType serverType;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of("customDnsServers", "serverType");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -42,7 +42,8 @@ public class DhcpSearchDomainOption extends DhcpOption {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public DhcpSearchDomainOption build() {
             DhcpSearchDomainOption __instance__ = new DhcpSearchDomainOption(searchDomainNames);
@@ -91,6 +92,10 @@ public class DhcpSearchDomainOption extends DhcpOption {
     @com.fasterxml.jackson.annotation.JsonProperty("searchDomainNames")
     java.util.List<String> searchDomainNames;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of("searchDomainNames");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -58,7 +58,8 @@ public class ExportImageViaObjectStorageTupleDetails extends ExportImageDetails
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public ExportImageViaObjectStorageTupleDetails build() {
             ExportImageViaObjectStorageTupleDetails __instance__ =
@@ -114,6 +115,11 @@ public class ExportImageViaObjectStorageTupleDetails extends ExportImageDetails
     @com.fasterxml.jackson.annotation.JsonProperty("objectName")
     String objectName;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "bucketName", "namespaceName", "objectName");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -40,7 +40,8 @@ public class ExportImageViaObjectStorageUriDetails extends ExportImageDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public ExportImageViaObjectStorageUriDetails build() {
             ExportImageViaObjectStorageUriDetails __instance__ =
@@ -79,6 +80,10 @@ public class ExportImageViaObjectStorageUriDetails extends ExportImageDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("destinationUri")
     String destinationUri;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of("destinationUri");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
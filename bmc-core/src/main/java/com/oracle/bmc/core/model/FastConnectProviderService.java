@@ -139,7 +139,8 @@ public class FastConnectProviderService {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public FastConnectProviderService build() {
             FastConnectProviderService __instance__ =
@@ -598,6 +599,22 @@ public class FastConnectProviderService {
     @com.fasterxml.jackson.annotation.JsonProperty("type")
     Type type;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "description",
+                    "id",
+                    "privatePeeringBgpManagement",
+                    "providerName",
+                    "providerServiceName",
+                    "publicPeeringBgpManagement",
+                    "supportedVirtualCircuitTypes",
+                    "customerAsnManagement",
+                    "providerServiceKeyManagement",
+                    "bandwithShapeManagement",
+                    "requiredTotalCrossConnects",
+                    "type");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -54,7 +54,8 @@ public class FastConnectProviderServiceKey {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public FastConnectProviderServiceKey build() {
             FastConnectProviderServiceKey __instance__ =
@@ -106,6 +107,11 @@ public class FastConnectProviderServiceKey {
     @com.fasterxml.jackson.annotation.JsonProperty("peeringLocation")
     String peeringLocation;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "name", "bandwidthShapeName", "peeringLocation");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -35,7 +35,8 @@ public class GetPublicIpByIpAddressDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public GetPublicIpByIpAddressDetails build() {
             GetPublicIpByIpAddressDetails __instance__ =
@@ -68,6 +69,10 @@ public class GetPublicIpByIpAddressDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("ipAddress")
     String ipAddress;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of("ipAddress");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -35,7 +35,8 @@ public class GetPublicIpByPrivateIpIdDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public GetPublicIpByPrivateIpIdDetails build() {
             GetPublicIpByPrivateIpIdDetails __instance__ =
@@ -67,6 +68,10 @@ public class GetPublicIpByPrivateIpIdDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("privateIpId")
     String privateIpId;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of("privateIpId");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -61,7 +61,8 @@ public class IPSecConnectionDeviceConfig {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public IPSecConnectionDeviceConfig build() {
             IPSecConnectionDeviceConfig __instance__ =
@@ -114,6 +115,11 @@ public class IPSecConnectionDeviceConfig {
     @com.fasterxml.jackson.annotation.JsonProperty("tunnels")
     java.util.List<TunnelConfig> tunnels;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "compartmentId", "id", "timeCreated", "tunnels");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -61,7 +61,8 @@ public class IPSecConnectionDeviceStatus {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public IPSecConnectionDeviceStatus build() {
             IPSecConnectionDeviceStatus __instance__ =
@@ -117,6 +118,11 @@ public class IPSecConnectionDeviceStatus {
     @com.fasterxml.jackson.annotation.JsonProperty("tunnels")
     java.util.List<TunnelStatus> tunnels;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "compartmentId", "id", "timeCreated", "tunnels");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -175,7 +175,8 @@ public class IScsiVolumeAttachment extends VolumeAttachment {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public IScsiVolumeAttachment build() {
             IScsiVolumeAttachment __instance__ =
@@ -315,6 +316,26 @@ public class IScsiVolumeAttachment extends VolumeAttachment {
     @com.fasterxml.jackson.annotation.JsonProperty("port")
     Integer port;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "availabilityDomain",
+                    "compartmentId",
+                    "device",
+                    "displayName",
+                    "id",
+                    "instanceId",
+                    "isReadOnly",
+                    "lifecycleState",
+                    "timeCreated",
+                    "volumeId",
+                    "isPvEncryptionInTransitEnabled",
+                    "chapSecret",
+                    "chapUsername",
+                    "ipv4",
+                    "iqn",
+                    "port");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -168,7 +168,8 @@ public class Image {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public Image build() {
             Image __instance__ =
@@ -440,6 +441,25 @@ public class Image {
     @com.fasterxml.jackson.annotation.JsonProperty("timeCreated")
     java.util.Date timeCreated;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "baseImageId",
+                    "compartmentId",
+                    "createImageAllowed",
+                    "definedTags",
+                    "displayName",
+                    "freeformTags",
+                    "id",
+                    "launchMode",
+                    "launchOptions",
+                    "lifecycleState",
+                    "operatingSystem",
+                    "operatingSystemVersion",
+                    "agentFeatures",
+                    "sizeInMBs",
+                    "timeCreated");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -67,7 +67,8 @@ public class ImageSourceViaObjectStorageTupleDetails extends ImageSourceDetails
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public ImageSourceViaObjectStorageTupleDetails build() {
             ImageSourceViaObjectStorageTupleDetails __instance__ =
@@ -127,6 +128,11 @@ public class ImageSourceViaObjectStorageTupleDetails extends ImageSourceDetails
     @com.fasterxml.jackson.annotation.JsonProperty("objectName")
     String objectName;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "sourceImageType", "bucketName", "namespaceName", "objectName");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -49,7 +49,8 @@ public class ImageSourceViaObjectStorageUriDetails extends ImageSourceDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public ImageSourceViaObjectStorageUriDetails build() {
             ImageSourceViaObjectStorageUriDetails __instance__ =
@@ -88,6 +89,10 @@ public class ImageSourceViaObjectStorageUriDetails extends ImageSourceDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("sourceUri")
     String sourceUri;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of("sourceImageType", "sourceUri");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -215,7 +215,8 @@ public class Instance {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public Instance build() {
             Instance __instance__ =
@@ -572,6 +573,30 @@ public class Instance {
     @com.fasterxml.jackson.annotation.JsonProperty("timeMaintenanceRebootDue")
     java.util.Date timeMaintenanceRebootDue;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "availabilityDomain",
+                    "compartmentId",
+                    "definedTags",
+                    "displayName",
+                    "extendedMetadata",
+                    "faultDomain",
+                    "freeformTags",
+                    "id",
+                    "imageId",
+                    "ipxeScript",
+                    "launchMode",
+                    "launchOptions",
+                    "lifecycleState",
+                    "metadata",
+                    "region",
+                    "shape",
+                    "sourceDetails",
+                    "timeCreated",
+                    "agentConfig",
+                    "timeMaintenanceRebootDue");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -34,7 +34,8 @@ public class InstanceAgentConfig {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public InstanceAgentConfig build() {
             InstanceAgentConfig __instance__ = new InstanceAgentConfig(isMonitoringDisabled);
@@ -65,6 +66,10 @@ public class InstanceAgentConfig {
     @com.fasterxml.jackson.annotation.JsonProperty("isMonitoringDisabled")
     Boolean isMonitoringDisabled;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of("isMonitoringDisabled");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
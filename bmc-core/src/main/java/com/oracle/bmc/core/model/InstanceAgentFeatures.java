@@ -34,7 +34,8 @@ public class InstanceAgentFeatures {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public InstanceAgentFeatures build() {
             InstanceAgentFeatures __instance__ = new InstanceAgentFeatures(isMonitoringSupported);
@@ -65,6 +66,10 @@ public class InstanceAgentFeatures {
     @com.fasterxml.jackson.annotation.JsonProperty("isMonitoringSupported")
     Boolean isMonitoringSupported;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of("isMonitoringSupported");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
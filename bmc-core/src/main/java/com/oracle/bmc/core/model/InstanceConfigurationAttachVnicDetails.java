@@ -52,7 +52,8 @@ public class InstanceConfigurationAttachVnicDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public InstanceConfigurationAttachVnicDetails build() {
             InstanceConfigurationAttachVnicDetails __instance__ =
@@ -106,6 +107,11 @@ public class InstanceConfigurationAttachVnicDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("nicIndex")
     Integer nicIndex;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "createVnicDetails", "displayName", "nicIndex");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
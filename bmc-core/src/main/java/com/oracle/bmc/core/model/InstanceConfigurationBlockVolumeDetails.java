@@ -53,7 +53,8 @@ public class InstanceConfigurationBlockVolumeDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public InstanceConfigurationBlockVolumeDetails build() {
             InstanceConfigurationBlockVolumeDetails __instance__ =
@@ -94,6 +95,11 @@ public class InstanceConfigurationBlockVolumeDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("volumeId")
     String volumeId;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "attachDetails", "createDetails", "volumeId");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -80,7 +80,8 @@ public class InstanceConfigurationCreateVnicDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public InstanceConfigurationCreateVnicDetails build() {
             InstanceConfigurationCreateVnicDetails __instance__ =
@@ -140,6 +141,16 @@ public class InstanceConfigurationCreateVnicDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("subnetId")
     String subnetId;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "assignPublicIp",
+                    "displayName",
+                    "hostnameLabel",
+                    "privateIp",
+                    "skipSourceDestCheck",
+                    "subnetId");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -99,7 +99,8 @@ public class InstanceConfigurationCreateVolumeDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public InstanceConfigurationCreateVolumeDetails build() {
             InstanceConfigurationCreateVolumeDetails __instance__ =
@@ -207,6 +208,18 @@ public class InstanceConfigurationCreateVolumeDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("sourceDetails")
     InstanceConfigurationVolumeSourceDetails sourceDetails;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "availabilityDomain",
+                    "backupPolicyId",
+                    "compartmentId",
+                    "definedTags",
+                    "displayName",
+                    "freeformTags",
+                    "sizeInGBs",
+                    "sourceDetails");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -41,7 +41,8 @@ public class InstanceConfigurationInstanceSourceViaBootVolumeDetails
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public InstanceConfigurationInstanceSourceViaBootVolumeDetails build() {
             InstanceConfigurationInstanceSourceViaBootVolumeDetails __instance__ =
@@ -78,6 +79,10 @@ public class InstanceConfigurationInstanceSourceViaBootVolumeDetails
     @com.fasterxml.jackson.annotation.JsonProperty("bootVolumeId")
     String bootVolumeId;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of("bootVolumeId");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
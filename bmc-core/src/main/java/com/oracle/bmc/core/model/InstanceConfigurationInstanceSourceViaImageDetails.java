@@ -41,7 +41,8 @@ public class InstanceConfigurationInstanceSourceViaImageDetails
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public InstanceConfigurationInstanceSourceViaImageDetails build() {
             InstanceConfigurationInstanceSourceViaImageDetails __instance__ =
@@ -78,6 +79,10 @@ public class InstanceConfigurationInstanceSourceViaImageDetails
     @com.fasterxml.jackson.annotation.JsonProperty("imageId")
     String imageId;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of("imageId");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
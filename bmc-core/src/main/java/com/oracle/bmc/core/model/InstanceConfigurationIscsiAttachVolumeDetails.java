@@ -59,7 +59,8 @@ public class InstanceConfigurationIscsiAttachVolumeDetails
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public InstanceConfigurationIscsiAttachVolumeDetails build() {
             InstanceConfigurationIscsiAttachVolumeDetails __instance__ =
@@ -101,6 +102,11 @@ public class InstanceConfigurationIscsiAttachVolumeDetails
     @com.fasterxml.jackson.annotation.JsonProperty("useChap")
     Boolean useChap;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "displayName", "isReadOnly", "useChap");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -126,7 +126,8 @@ public class InstanceConfigurationLaunchInstanceDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public InstanceConfigurationLaunchInstanceDetails build() {
             InstanceConfigurationLaunchInstanceDetails __instance__ =
@@ -348,6 +349,21 @@ public class InstanceConfigurationLaunchInstanceDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("sourceDetails")
     InstanceConfigurationInstanceSourceDetails sourceDetails;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "availabilityDomain",
+                    "compartmentId",
+                    "createVnicDetails",
+                    "definedTags",
+                    "displayName",
+                    "extendedMetadata",
+                    "freeformTags",
+                    "ipxeScript",
+                    "metadata",
+                    "shape",
+                    "sourceDetails");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -50,7 +50,8 @@ public class InstanceConfigurationParavirtualizedAttachVolumeDetails
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public InstanceConfigurationParavirtualizedAttachVolumeDetails build() {
             InstanceConfigurationParavirtualizedAttachVolumeDetails __instance__ =
@@ -82,6 +83,10 @@ public class InstanceConfigurationParavirtualizedAttachVolumeDetails
         super(displayName, isReadOnly);
     }
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of("displayName", "isReadOnly");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
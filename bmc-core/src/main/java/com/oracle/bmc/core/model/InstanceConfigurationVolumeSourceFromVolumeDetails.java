@@ -41,7 +41,8 @@ public class InstanceConfigurationVolumeSourceFromVolumeDetails
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public InstanceConfigurationVolumeSourceFromVolumeDetails build() {
             InstanceConfigurationVolumeSourceFromVolumeDetails __instance__ =
@@ -78,6 +79,10 @@ public class InstanceConfigurationVolumeSourceFromVolumeDetails
     @com.fasterxml.jackson.annotation.JsonProperty("id")
     String id;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of("id");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -112,7 +112,8 @@ public class InstanceConsoleConnection {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public InstanceConsoleConnection build() {
             InstanceConsoleConnection __instance__ =
@@ -268,6 +269,19 @@ public class InstanceConsoleConnection {
     @com.fasterxml.jackson.annotation.JsonProperty("vncConnectionString")
     String vncConnectionString;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "compartmentId",
+                    "connectionString",
+                    "definedTags",
+                    "fingerprint",
+                    "freeformTags",
+                    "id",
+                    "instanceId",
+                    "lifecycleState",
+                    "vncConnectionString");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -125,7 +125,8 @@ public class InstancePool {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public InstancePool build() {
             InstancePool __instance__ =
@@ -301,6 +302,21 @@ public class InstancePool {
     @com.fasterxml.jackson.annotation.JsonProperty("loadBalancers")
     java.util.List<InstancePoolLoadBalancerAttachment> loadBalancers;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "id",
+                    "compartmentId",
+                    "definedTags",
+                    "displayName",
+                    "freeformTags",
+                    "instanceConfigurationId",
+                    "lifecycleState",
+                    "placementConfigurations",
+                    "size",
+                    "timeCreated",
+                    "loadBalancers");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
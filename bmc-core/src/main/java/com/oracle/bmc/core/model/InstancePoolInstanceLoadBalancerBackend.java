@@ -61,7 +61,8 @@ public class InstancePoolInstanceLoadBalancerBackend {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public InstancePoolInstanceLoadBalancerBackend build() {
             InstancePoolInstanceLoadBalancerBackend __instance__ =
@@ -162,6 +163,11 @@ public class InstancePoolInstanceLoadBalancerBackend {
     @com.fasterxml.jackson.annotation.JsonProperty("backendHealthStatus")
     BackendHealthStatus backendHealthStatus;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "loadBalancerId", "backendSetName", "backendName", "backendHealthStatus");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
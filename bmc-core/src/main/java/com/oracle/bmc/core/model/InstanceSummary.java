@@ -123,7 +123,8 @@ public class InstanceSummary {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public InstanceSummary build() {
             InstanceSummary __instance__ =
@@ -243,6 +244,21 @@ public class InstanceSummary {
     @com.fasterxml.jackson.annotation.JsonProperty("loadBalancerBackends")
     java.util.List<InstancePoolInstanceLoadBalancerBackend> loadBalancerBackends;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "id",
+                    "availabilityDomain",
+                    "compartmentId",
+                    "displayName",
+                    "faultDomain",
+                    "instanceConfigurationId",
+                    "region",
+                    "shape",
+                    "state",
+                    "timeCreated",
+                    "loadBalancerBackends");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
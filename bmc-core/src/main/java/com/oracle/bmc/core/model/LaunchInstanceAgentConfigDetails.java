@@ -34,7 +34,8 @@ public class LaunchInstanceAgentConfigDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public LaunchInstanceAgentConfigDetails build() {
             LaunchInstanceAgentConfigDetails __instance__ =
@@ -67,6 +68,10 @@ public class LaunchInstanceAgentConfigDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("isMonitoringDisabled")
     Boolean isMonitoringDisabled;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of("isMonitoringDisabled");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -181,7 +181,8 @@ public class LaunchInstanceDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public LaunchInstanceDetails build() {
             LaunchInstanceDetails __instance__ =
@@ -470,6 +471,27 @@ public class LaunchInstanceDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("isPvEncryptionInTransitEnabled")
     Boolean isPvEncryptionInTransitEnabled;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "availabilityDomain",
+                    "compartmentId",
+                    "createVnicDetails",
+                    "definedTags",
+                    "displayName",
+                    "extendedMetadata",
+                    "faultDomain",
+                    "freeformTags",
+                    "hostnameLabel",
+                    "imageId",
+                    "ipxeScript",
+                    "metadata",
+                    "agentConfig",
+                    "shape",
+                    "sourceDetails",
+                    "subnetId",
+                    "isPvEncryptionInTransitEnabled");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
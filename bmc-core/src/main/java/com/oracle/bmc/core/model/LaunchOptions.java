@@ -78,7 +78,8 @@ public class LaunchOptions {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public LaunchOptions build() {
             LaunchOptions __instance__ =
@@ -390,6 +391,16 @@ public class LaunchOptions {
     @com.fasterxml.jackson.annotation.JsonProperty("isConsistentVolumeNamingEnabled")
     Boolean isConsistentVolumeNamingEnabled;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "bootVolumeType",
+                    "firmware",
+                    "networkType",
+                    "remoteDataVolumeType",
+                    "isPvEncryptionInTransitEnabled",
+                    "isConsistentVolumeNamingEnabled");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
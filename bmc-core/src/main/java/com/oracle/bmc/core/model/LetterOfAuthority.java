@@ -90,7 +90,8 @@ public class LetterOfAuthority {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public LetterOfAuthority build() {
             LetterOfAuthority __instance__ =
@@ -220,6 +221,17 @@ public class LetterOfAuthority {
     @com.fasterxml.jackson.annotation.JsonProperty("timeIssued")
     java.util.Date timeIssued;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "authorizedEntityName",
+                    "circuitType",
+                    "crossConnectId",
+                    "facilityLocation",
+                    "portName",
+                    "timeExpires",
+                    "timeIssued");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
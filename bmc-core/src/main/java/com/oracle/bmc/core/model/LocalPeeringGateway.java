@@ -164,7 +164,8 @@ public class LocalPeeringGateway {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public LocalPeeringGateway build() {
             LocalPeeringGateway __instance__ =
@@ -433,6 +434,24 @@ public class LocalPeeringGateway {
     @com.fasterxml.jackson.annotation.JsonProperty("vcnId")
     String vcnId;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "compartmentId",
+                    "definedTags",
+                    "displayName",
+                    "freeformTags",
+                    "id",
+                    "isCrossTenancyPeering",
+                    "lifecycleState",
+                    "peerAdvertisedCidr",
+                    "peerAdvertisedCidrDetails",
+                    "peeringStatus",
+                    "peeringStatusDetails",
+                    "routeTableId",
+                    "timeCreated",
+                    "vcnId");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -130,7 +130,8 @@ public class ParavirtualizedVolumeAttachment extends VolumeAttachment {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public ParavirtualizedVolumeAttachment build() {
             ParavirtualizedVolumeAttachment __instance__ =
@@ -204,6 +205,21 @@ public class ParavirtualizedVolumeAttachment extends VolumeAttachment {
                 isPvEncryptionInTransitEnabled);
     }
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "availabilityDomain",
+                    "compartmentId",
+                    "device",
+                    "displayName",
+                    "id",
+                    "instanceId",
+                    "isReadOnly",
+                    "lifecycleState",
+                    "timeCreated",
+                    "volumeId",
+                    "isPvEncryptionInTransitEnabled");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -34,7 +34,8 @@ public class PeerRegionForRemotePeering {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public PeerRegionForRemotePeering build() {
             PeerRegionForRemotePeering __instance__ = new PeerRegionForRemotePeering(name);
@@ -67,6 +68,10 @@ public class PeerRegionForRemotePeering {
     @com.fasterxml.jackson.annotation.JsonProperty("name")
     String name;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of("name");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
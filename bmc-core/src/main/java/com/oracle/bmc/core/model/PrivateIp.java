@@ -162,7 +162,8 @@ public class PrivateIp {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public PrivateIp build() {
             PrivateIp __instance__ =
@@ -321,6 +322,22 @@ public class PrivateIp {
     @com.fasterxml.jackson.annotation.JsonProperty("vnicId")
     String vnicId;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "availabilityDomain",
+                    "compartmentId",
+                    "definedTags",
+                    "displayName",
+                    "freeformTags",
+                    "hostnameLabel",
+                    "id",
+                    "ipAddress",
+                    "isPrimary",
+                    "subnetId",
+                    "timeCreated",
+                    "vnicId");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -136,7 +136,8 @@ public class RemotePeeringConnection {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public RemotePeeringConnection build() {
             RemotePeeringConnection __instance__ =
@@ -363,6 +364,21 @@ public class RemotePeeringConnection {
     @com.fasterxml.jackson.annotation.JsonProperty("timeCreated")
     java.util.Date timeCreated;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "compartmentId",
+                    "displayName",
+                    "drgId",
+                    "id",
+                    "isCrossTenancyPeering",
+                    "lifecycleState",
+                    "peerId",
+                    "peerRegionName",
+                    "peerTenancyId",
+                    "peeringStatus",
+                    "timeCreated");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -34,7 +34,8 @@ public class ServiceIdRequestDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public ServiceIdRequestDetails build() {
             ServiceIdRequestDetails __instance__ = new ServiceIdRequestDetails(serviceId);
@@ -65,6 +66,10 @@ public class ServiceIdRequestDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("serviceId")
     String serviceId;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of("serviceId");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
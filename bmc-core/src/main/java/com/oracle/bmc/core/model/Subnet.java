@@ -198,7 +198,8 @@ public class Subnet {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public Subnet build() {
             Subnet __instance__ =
@@ -475,6 +476,28 @@ public class Subnet {
     @com.fasterxml.jackson.annotation.JsonProperty("virtualRouterMac")
     String virtualRouterMac;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "availabilityDomain",
+                    "cidrBlock",
+                    "compartmentId",
+                    "definedTags",
+                    "dhcpOptionsId",
+                    "displayName",
+                    "dnsLabel",
+                    "freeformTags",
+                    "id",
+                    "lifecycleState",
+                    "prohibitPublicIpOnVnic",
+                    "routeTableId",
+                    "securityListIds",
+                    "subnetDomainName",
+                    "timeCreated",
+                    "vcnId",
+                    "virtualRouterIp",
+                    "virtualRouterMac");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -43,7 +43,8 @@ public class TcpOptions {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public TcpOptions build() {
             TcpOptions __instance__ = new TcpOptions(destinationPortRange, sourcePortRange);
@@ -85,6 +86,11 @@ public class TcpOptions {
     @com.fasterxml.jackson.annotation.JsonProperty("sourcePortRange")
     PortRange sourcePortRange;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "destinationPortRange", "sourcePortRange");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
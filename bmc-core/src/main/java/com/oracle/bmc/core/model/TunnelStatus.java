@@ -60,7 +60,8 @@ public class TunnelStatus {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public TunnelStatus build() {
             TunnelStatus __instance__ =
@@ -168,6 +169,11 @@ public class TunnelStatus {
     @com.fasterxml.jackson.annotation.JsonProperty("timeStateModified")
     java.util.Date timeStateModified;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "ipAddress", "lifecycleState", "timeCreated", "timeStateModified");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
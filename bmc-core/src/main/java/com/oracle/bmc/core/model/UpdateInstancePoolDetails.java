@@ -83,7 +83,8 @@ public class UpdateInstancePoolDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public UpdateInstancePoolDetails build() {
             UpdateInstancePoolDetails __instance__ =
@@ -167,6 +168,16 @@ public class UpdateInstancePoolDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("size")
     Integer size;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "definedTags",
+                    "displayName",
+                    "freeformTags",
+                    "instanceConfigurationId",
+                    "placementConfigurations",
+                    "size");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
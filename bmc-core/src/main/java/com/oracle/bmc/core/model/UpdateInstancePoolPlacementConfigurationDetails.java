@@ -53,7 +53,8 @@ public class UpdateInstancePoolPlacementConfigurationDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public UpdateInstancePoolPlacementConfigurationDetails build() {
             UpdateInstancePoolPlacementConfigurationDetails __instance__ =
@@ -102,6 +103,11 @@ public class UpdateInstancePoolPlacementConfigurationDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("secondaryVnicSubnets")
     java.util.List<InstancePoolPlacementSecondaryVnicSubnet> secondaryVnicSubnets;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "availabilityDomain", "primarySubnetId", "secondaryVnicSubnets");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -72,7 +72,8 @@ public class UpdateSecurityListDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public UpdateSecurityListDetails build() {
             UpdateSecurityListDetails __instance__ =
@@ -148,6 +149,15 @@ public class UpdateSecurityListDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("ingressSecurityRules")
     java.util.List<IngressSecurityRule> ingressSecurityRules;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "definedTags",
+                    "displayName",
+                    "egressSecurityRules",
+                    "freeformTags",
+                    "ingressSecurityRules");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
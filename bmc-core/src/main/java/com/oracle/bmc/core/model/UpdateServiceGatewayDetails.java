@@ -71,7 +71,8 @@ public class UpdateServiceGatewayDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public UpdateServiceGatewayDetails build() {
             UpdateServiceGatewayDetails __instance__ =
@@ -158,6 +159,11 @@ public class UpdateServiceGatewayDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("services")
     java.util.List<ServiceIdRequestDetails> services;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "blockTraffic", "definedTags", "displayName", "freeformTags", "services");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
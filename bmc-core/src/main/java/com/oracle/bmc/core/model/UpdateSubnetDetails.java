@@ -80,7 +80,8 @@ public class UpdateSubnetDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public UpdateSubnetDetails build() {
             UpdateSubnetDetails __instance__ =
@@ -170,6 +171,16 @@ public class UpdateSubnetDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("securityListIds")
     java.util.List<String> securityListIds;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "definedTags",
+                    "dhcpOptionsId",
+                    "displayName",
+                    "freeformTags",
+                    "routeTableId",
+                    "securityListIds");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -98,7 +98,8 @@ public class UpdateVirtualCircuitDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public UpdateVirtualCircuitDetails build() {
             UpdateVirtualCircuitDetails __instance__ =
@@ -268,6 +269,18 @@ public class UpdateVirtualCircuitDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("referenceComment")
     String referenceComment;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "bandwidthShapeName",
+                    "crossConnectMappings",
+                    "customerBgpAsn",
+                    "displayName",
+                    "gatewayId",
+                    "providerState",
+                    "providerServiceKeyName",
+                    "referenceComment");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
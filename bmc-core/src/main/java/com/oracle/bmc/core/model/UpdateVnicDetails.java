@@ -71,7 +71,8 @@ public class UpdateVnicDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public UpdateVnicDetails build() {
             UpdateVnicDetails __instance__ =
@@ -164,6 +165,15 @@ public class UpdateVnicDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("skipSourceDestCheck")
     Boolean skipSourceDestCheck;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "definedTags",
+                    "displayName",
+                    "freeformTags",
+                    "hostnameLabel",
+                    "skipSourceDestCheck");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
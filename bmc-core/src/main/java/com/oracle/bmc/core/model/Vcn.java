@@ -150,7 +150,8 @@ public class Vcn {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public Vcn build() {
             Vcn __instance__ =
@@ -364,6 +365,23 @@ public class Vcn {
     @com.fasterxml.jackson.annotation.JsonProperty("vcnDomainName")
     String vcnDomainName;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "cidrBlock",
+                    "compartmentId",
+                    "defaultDhcpOptionsId",
+                    "defaultRouteTableId",
+                    "defaultSecurityListId",
+                    "definedTags",
+                    "displayName",
+                    "dnsLabel",
+                    "freeformTags",
+                    "id",
+                    "lifecycleState",
+                    "timeCreated",
+                    "vcnDomainName");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
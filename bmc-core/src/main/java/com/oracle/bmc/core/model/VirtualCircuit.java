@@ -244,7 +244,8 @@ public class VirtualCircuit {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public VirtualCircuit build() {
             VirtualCircuit __instance__ =
@@ -779,6 +780,32 @@ public class VirtualCircuit {
     @com.fasterxml.jackson.annotation.JsonProperty("type")
     Type type;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "bandwidthShapeName",
+                    "bgpManagement",
+                    "bgpSessionState",
+                    "compartmentId",
+                    "crossConnectMappings",
+                    "customerBgpAsn",
+                    "displayName",
+                    "gatewayId",
+                    "id",
+                    "lifecycleState",
+                    "oracleBgpAsn",
+                    "providerName",
+                    "providerServiceId",
+                    "providerServiceKeyName",
+                    "providerServiceName",
+                    "providerState",
+                    "publicPrefixes",
+                    "referenceComment",
+                    "region",
+                    "serviceType",
+                    "timeCreated",
+                    "type");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
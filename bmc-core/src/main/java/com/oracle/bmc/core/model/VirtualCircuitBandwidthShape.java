@@ -44,7 +44,8 @@ public class VirtualCircuitBandwidthShape {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public VirtualCircuitBandwidthShape build() {
             VirtualCircuitBandwidthShape __instance__ =
@@ -87,6 +88,10 @@ public class VirtualCircuitBandwidthShape {
     @com.fasterxml.jackson.annotation.JsonProperty("name")
     String name;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of("bandwidthInMbps", "name");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
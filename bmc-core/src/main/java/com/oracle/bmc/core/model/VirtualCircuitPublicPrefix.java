@@ -46,7 +46,8 @@ public class VirtualCircuitPublicPrefix {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public VirtualCircuitPublicPrefix build() {
             VirtualCircuitPublicPrefix __instance__ =
@@ -140,6 +141,10 @@ public class VirtualCircuitPublicPrefix {
     @com.fasterxml.jackson.annotation.JsonProperty("verificationState")
     VerificationState verificationState;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of("cidrBlock", "verificationState");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
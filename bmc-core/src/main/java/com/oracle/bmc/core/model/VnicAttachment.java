@@ -127,7 +127,8 @@ public class VnicAttachment {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public VnicAttachment build() {
             VnicAttachment __instance__ =
@@ -306,6 +307,21 @@ public class VnicAttachment {
     @com.fasterxml.jackson.annotation.JsonProperty("vnicId")
     String vnicId;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "availabilityDomain",
+                    "compartmentId",
+                    "displayName",
+                    "id",
+                    "instanceId",
+                    "lifecycleState",
+                    "nicIndex",
+                    "subnetId",
+                    "timeCreated",
+                    "vlanTag",
+                    "vnicId");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
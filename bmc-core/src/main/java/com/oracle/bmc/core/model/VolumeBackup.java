@@ -187,7 +187,8 @@ public class VolumeBackup {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public VolumeBackup build() {
             VolumeBackup __instance__ =
@@ -513,6 +514,27 @@ public class VolumeBackup {
     @com.fasterxml.jackson.annotation.JsonProperty("volumeId")
     String volumeId;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "compartmentId",
+                    "definedTags",
+                    "displayName",
+                    "expirationTime",
+                    "freeformTags",
+                    "id",
+                    "lifecycleState",
+                    "sizeInGBs",
+                    "sizeInMBs",
+                    "sourceType",
+                    "sourceVolumeBackupId",
+                    "timeCreated",
+                    "timeRequestReceived",
+                    "type",
+                    "uniqueSizeInGBs",
+                    "uniqueSizeInMbs",
+                    "volumeId");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
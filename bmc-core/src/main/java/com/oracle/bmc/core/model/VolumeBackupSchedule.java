@@ -61,7 +61,8 @@ public class VolumeBackupSchedule {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public VolumeBackupSchedule build() {
             VolumeBackupSchedule __instance__ =
@@ -208,6 +209,11 @@ public class VolumeBackupSchedule {
     @com.fasterxml.jackson.annotation.JsonProperty("retentionSeconds")
     Integer retentionSeconds;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "backupType", "offsetSeconds", "period", "retentionSeconds");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -40,7 +40,8 @@ public class VolumeGroupSourceFromVolumeGroupBackupDetails extends VolumeGroupSo
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public VolumeGroupSourceFromVolumeGroupBackupDetails build() {
             VolumeGroupSourceFromVolumeGroupBackupDetails __instance__ =
@@ -77,6 +78,10 @@ public class VolumeGroupSourceFromVolumeGroupBackupDetails extends VolumeGroupSo
     @com.fasterxml.jackson.annotation.JsonProperty("volumeGroupBackupId")
     String volumeGroupBackupId;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of("volumeGroupBackupId");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
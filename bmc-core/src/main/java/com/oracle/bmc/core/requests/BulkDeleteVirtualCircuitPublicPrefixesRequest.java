@@ -25,6 +25,7 @@ public class BulkDeleteVirtualCircuitPublicPrefixesRequest
     public static class Builder {
         private com.oracle.bmc.util.internal.Consumer<javax.ws.rs.client.Invocation.Builder>
                 invocationCallback = null;
+        private com.oracle.bmc.retrier.RetryConfiguration retryConfiguration = null;
 
         /**
          * Set the invocation callback for the request to be built.
@@ -38,6 +39,17 @@ public class BulkDeleteVirtualCircuitPublicPrefixesRequest
             return this;
         }
 
+        /**
+         * Set the retry configuration for the request to be built.
+         * @param retryConfiguration the retry configuration to be used for the request
+         * @return this builder instance
+         */
+        public Builder retryConfiguration(
+                com.oracle.bmc.retrier.RetryConfiguration retryConfiguration) {
+            this.retryConfiguration = retryConfiguration;
+            return this;
+        }
+
         /**
          * Copy method to populate the builder with values from the given instance.
          * @return this builder instance
@@ -47,6 +59,7 @@ public class BulkDeleteVirtualCircuitPublicPrefixesRequest
             bulkDeleteVirtualCircuitPublicPrefixesDetails(
                     o.getBulkDeleteVirtualCircuitPublicPrefixesDetails());
             invocationCallback(o.getInvocationCallback());
+            retryConfiguration(o.getRetryConfiguration());
             return this;
         }
 
@@ -64,6 +77,7 @@ public class BulkDeleteVirtualCircuitPublicPrefixesRequest
             BulkDeleteVirtualCircuitPublicPrefixesRequest request =
                     buildWithoutInvocationCallback();
             request.setInvocationCallback(invocationCallback);
+            request.setRetryConfiguration(retryConfiguration);
             return request;
         }
     }
@@ -23,6 +23,7 @@ public class ConnectRemotePeeringConnectionsRequest extends com.oracle.bmc.reque
     public static class Builder {
         private com.oracle.bmc.util.internal.Consumer<javax.ws.rs.client.Invocation.Builder>
                 invocationCallback = null;
+        private com.oracle.bmc.retrier.RetryConfiguration retryConfiguration = null;
 
         /**
          * Set the invocation callback for the request to be built.
@@ -36,6 +37,17 @@ public class ConnectRemotePeeringConnectionsRequest extends com.oracle.bmc.reque
             return this;
         }
 
+        /**
+         * Set the retry configuration for the request to be built.
+         * @param retryConfiguration the retry configuration to be used for the request
+         * @return this builder instance
+         */
+        public Builder retryConfiguration(
+                com.oracle.bmc.retrier.RetryConfiguration retryConfiguration) {
+            this.retryConfiguration = retryConfiguration;
+            return this;
+        }
+
         /**
          * Copy method to populate the builder with values from the given instance.
          * @return this builder instance
@@ -44,6 +56,7 @@ public class ConnectRemotePeeringConnectionsRequest extends com.oracle.bmc.reque
             remotePeeringConnectionId(o.getRemotePeeringConnectionId());
             connectRemotePeeringConnectionsDetails(o.getConnectRemotePeeringConnectionsDetails());
             invocationCallback(o.getInvocationCallback());
+            retryConfiguration(o.getRetryConfiguration());
             return this;
         }
 
@@ -60,6 +73,7 @@ public class ConnectRemotePeeringConnectionsRequest extends com.oracle.bmc.reque
         public ConnectRemotePeeringConnectionsRequest build() {
             ConnectRemotePeeringConnectionsRequest request = buildWithoutInvocationCallback();
             request.setInvocationCallback(invocationCallback);
+            request.setRetryConfiguration(retryConfiguration);
             return request;
         }
     }
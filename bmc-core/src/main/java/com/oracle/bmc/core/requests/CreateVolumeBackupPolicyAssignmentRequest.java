@@ -18,6 +18,7 @@ public class CreateVolumeBackupPolicyAssignmentRequest extends com.oracle.bmc.re
     public static class Builder {
         private com.oracle.bmc.util.internal.Consumer<javax.ws.rs.client.Invocation.Builder>
                 invocationCallback = null;
+        private com.oracle.bmc.retrier.RetryConfiguration retryConfiguration = null;
 
         /**
          * Set the invocation callback for the request to be built.
@@ -31,6 +32,17 @@ public class CreateVolumeBackupPolicyAssignmentRequest extends com.oracle.bmc.re
             return this;
         }
 
+        /**
+         * Set the retry configuration for the request to be built.
+         * @param retryConfiguration the retry configuration to be used for the request
+         * @return this builder instance
+         */
+        public Builder retryConfiguration(
+                com.oracle.bmc.retrier.RetryConfiguration retryConfiguration) {
+            this.retryConfiguration = retryConfiguration;
+            return this;
+        }
+
         /**
          * Copy method to populate the builder with values from the given instance.
          * @return this builder instance
@@ -39,6 +51,7 @@ public class CreateVolumeBackupPolicyAssignmentRequest extends com.oracle.bmc.re
             createVolumeBackupPolicyAssignmentDetails(
                     o.getCreateVolumeBackupPolicyAssignmentDetails());
             invocationCallback(o.getInvocationCallback());
+            retryConfiguration(o.getRetryConfiguration());
             return this;
         }
 
@@ -55,6 +68,7 @@ public class CreateVolumeBackupPolicyAssignmentRequest extends com.oracle.bmc.re
         public CreateVolumeBackupPolicyAssignmentRequest build() {
             CreateVolumeBackupPolicyAssignmentRequest request = buildWithoutInvocationCallback();
             request.setInvocationCallback(invocationCallback);
+            request.setRetryConfiguration(retryConfiguration);
             return request;
         }
     }
@@ -26,6 +26,7 @@ public class DeleteConsoleHistoryRequest extends com.oracle.bmc.requests.BmcRequ
     public static class Builder {
         private com.oracle.bmc.util.internal.Consumer<javax.ws.rs.client.Invocation.Builder>
                 invocationCallback = null;
+        private com.oracle.bmc.retrier.RetryConfiguration retryConfiguration = null;
 
         /**
          * Set the invocation callback for the request to be built.
@@ -39,6 +40,17 @@ public class DeleteConsoleHistoryRequest extends com.oracle.bmc.requests.BmcRequ
             return this;
         }
 
+        /**
+         * Set the retry configuration for the request to be built.
+         * @param retryConfiguration the retry configuration to be used for the request
+         * @return this builder instance
+         */
+        public Builder retryConfiguration(
+                com.oracle.bmc.retrier.RetryConfiguration retryConfiguration) {
+            this.retryConfiguration = retryConfiguration;
+            return this;
+        }
+
         /**
          * Copy method to populate the builder with values from the given instance.
          * @return this builder instance
@@ -47,6 +59,7 @@ public class DeleteConsoleHistoryRequest extends com.oracle.bmc.requests.BmcRequ
             instanceConsoleHistoryId(o.getInstanceConsoleHistoryId());
             ifMatch(o.getIfMatch());
             invocationCallback(o.getInvocationCallback());
+            retryConfiguration(o.getRetryConfiguration());
             return this;
         }
 
@@ -63,6 +76,7 @@ public class DeleteConsoleHistoryRequest extends com.oracle.bmc.requests.BmcRequ
         public DeleteConsoleHistoryRequest build() {
             DeleteConsoleHistoryRequest request = buildWithoutInvocationCallback();
             request.setInvocationCallback(invocationCallback);
+            request.setRetryConfiguration(retryConfiguration);
             return request;
         }
     }
@@ -18,6 +18,7 @@ public class GetInstanceConsoleConnectionRequest extends com.oracle.bmc.requests
     public static class Builder {
         private com.oracle.bmc.util.internal.Consumer<javax.ws.rs.client.Invocation.Builder>
                 invocationCallback = null;
+        private com.oracle.bmc.retrier.RetryConfiguration retryConfiguration = null;
 
         /**
          * Set the invocation callback for the request to be built.
@@ -31,6 +32,17 @@ public class GetInstanceConsoleConnectionRequest extends com.oracle.bmc.requests
             return this;
         }
 
+        /**
+         * Set the retry configuration for the request to be built.
+         * @param retryConfiguration the retry configuration to be used for the request
+         * @return this builder instance
+         */
+        public Builder retryConfiguration(
+                com.oracle.bmc.retrier.RetryConfiguration retryConfiguration) {
+            this.retryConfiguration = retryConfiguration;
+            return this;
+        }
+
         /**
          * Copy method to populate the builder with values from the given instance.
          * @return this builder instance
@@ -38,6 +50,7 @@ public class GetInstanceConsoleConnectionRequest extends com.oracle.bmc.requests
         public Builder copy(GetInstanceConsoleConnectionRequest o) {
             instanceConsoleConnectionId(o.getInstanceConsoleConnectionId());
             invocationCallback(o.getInvocationCallback());
+            retryConfiguration(o.getRetryConfiguration());
             return this;
         }
 
@@ -54,6 +67,7 @@ public class GetInstanceConsoleConnectionRequest extends com.oracle.bmc.requests
         public GetInstanceConsoleConnectionRequest build() {
             GetInstanceConsoleConnectionRequest request = buildWithoutInvocationCallback();
             request.setInvocationCallback(invocationCallback);
+            request.setRetryConfiguration(retryConfiguration);
             return request;
         }
     }
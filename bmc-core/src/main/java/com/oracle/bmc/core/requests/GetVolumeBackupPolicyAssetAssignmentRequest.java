@@ -37,6 +37,7 @@ public class GetVolumeBackupPolicyAssetAssignmentRequest
     public static class Builder {
         private com.oracle.bmc.util.internal.Consumer<javax.ws.rs.client.Invocation.Builder>
                 invocationCallback = null;
+        private com.oracle.bmc.retrier.RetryConfiguration retryConfiguration = null;
 
         /**
          * Set the invocation callback for the request to be built.
@@ -50,6 +51,17 @@ public class GetVolumeBackupPolicyAssetAssignmentRequest
             return this;
         }
 
+        /**
+         * Set the retry configuration for the request to be built.
+         * @param retryConfiguration the retry configuration to be used for the request
+         * @return this builder instance
+         */
+        public Builder retryConfiguration(
+                com.oracle.bmc.retrier.RetryConfiguration retryConfiguration) {
+            this.retryConfiguration = retryConfiguration;
+            return this;
+        }
+
         /**
          * Copy method to populate the builder with values from the given instance.
          * @return this builder instance
@@ -59,6 +71,7 @@ public class GetVolumeBackupPolicyAssetAssignmentRequest
             limit(o.getLimit());
             page(o.getPage());
             invocationCallback(o.getInvocationCallback());
+            retryConfiguration(o.getRetryConfiguration());
             return this;
         }
 
@@ -75,6 +88,7 @@ public class GetVolumeBackupPolicyAssetAssignmentRequest
         public GetVolumeBackupPolicyAssetAssignmentRequest build() {
             GetVolumeBackupPolicyAssetAssignmentRequest request = buildWithoutInvocationCallback();
             request.setInvocationCallback(invocationCallback);
+            request.setRetryConfiguration(retryConfiguration);
             return request;
         }
     }
@@ -14,6 +14,7 @@ public class ListAllowedPeerRegionsForRemotePeeringRequest
     public static class Builder {
         private com.oracle.bmc.util.internal.Consumer<javax.ws.rs.client.Invocation.Builder>
                 invocationCallback = null;
+        private com.oracle.bmc.retrier.RetryConfiguration retryConfiguration = null;
 
         /**
          * Set the invocation callback for the request to be built.
@@ -27,6 +28,17 @@ public class ListAllowedPeerRegionsForRemotePeeringRequest
             return this;
         }
 
+        /**
+         * Set the retry configuration for the request to be built.
+         * @param retryConfiguration the retry configuration to be used for the request
+         * @return this builder instance
+         */
+        public Builder retryConfiguration(
+                com.oracle.bmc.retrier.RetryConfiguration retryConfiguration) {
+            this.retryConfiguration = retryConfiguration;
+            return this;
+        }
+
         /**
          * Copy method to populate the builder with values from the given instance.
          * @return this builder instance
@@ -34,6 +46,7 @@ public class ListAllowedPeerRegionsForRemotePeeringRequest
         public Builder copy(ListAllowedPeerRegionsForRemotePeeringRequest o) {
 
             invocationCallback(o.getInvocationCallback());
+            retryConfiguration(o.getRetryConfiguration());
             return this;
         }
 
@@ -51,6 +64,7 @@ public class ListAllowedPeerRegionsForRemotePeeringRequest
             ListAllowedPeerRegionsForRemotePeeringRequest request =
                     buildWithoutInvocationCallback();
             request.setInvocationCallback(invocationCallback);
+            request.setRetryConfiguration(retryConfiguration);
             return request;
         }
     }
@@ -82,6 +82,7 @@ public class ListAppCatalogListingResourceVersionsRequest
     public static class Builder {
         private com.oracle.bmc.util.internal.Consumer<javax.ws.rs.client.Invocation.Builder>
                 invocationCallback = null;
+        private com.oracle.bmc.retrier.RetryConfiguration retryConfiguration = null;
 
         /**
          * Set the invocation callback for the request to be built.
@@ -95,6 +96,17 @@ public class ListAppCatalogListingResourceVersionsRequest
             return this;
         }
 
+        /**
+         * Set the retry configuration for the request to be built.
+         * @param retryConfiguration the retry configuration to be used for the request
+         * @return this builder instance
+         */
+        public Builder retryConfiguration(
+                com.oracle.bmc.retrier.RetryConfiguration retryConfiguration) {
+            this.retryConfiguration = retryConfiguration;
+            return this;
+        }
+
         /**
          * Copy method to populate the builder with values from the given instance.
          * @return this builder instance
@@ -105,6 +117,7 @@ public class ListAppCatalogListingResourceVersionsRequest
             page(o.getPage());
             sortOrder(o.getSortOrder());
             invocationCallback(o.getInvocationCallback());
+            retryConfiguration(o.getRetryConfiguration());
             return this;
         }
 
@@ -121,6 +134,7 @@ public class ListAppCatalogListingResourceVersionsRequest
         public ListAppCatalogListingResourceVersionsRequest build() {
             ListAppCatalogListingResourceVersionsRequest request = buildWithoutInvocationCallback();
             request.setInvocationCallback(invocationCallback);
+            request.setRetryConfiguration(retryConfiguration);
             return request;
         }
     }
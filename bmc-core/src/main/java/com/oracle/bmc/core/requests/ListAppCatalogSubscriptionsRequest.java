@@ -144,6 +144,7 @@ public class ListAppCatalogSubscriptionsRequest extends com.oracle.bmc.requests.
     public static class Builder {
         private com.oracle.bmc.util.internal.Consumer<javax.ws.rs.client.Invocation.Builder>
                 invocationCallback = null;
+        private com.oracle.bmc.retrier.RetryConfiguration retryConfiguration = null;
 
         /**
          * Set the invocation callback for the request to be built.
@@ -157,6 +158,17 @@ public class ListAppCatalogSubscriptionsRequest extends com.oracle.bmc.requests.
             return this;
         }
 
+        /**
+         * Set the retry configuration for the request to be built.
+         * @param retryConfiguration the retry configuration to be used for the request
+         * @return this builder instance
+         */
+        public Builder retryConfiguration(
+                com.oracle.bmc.retrier.RetryConfiguration retryConfiguration) {
+            this.retryConfiguration = retryConfiguration;
+            return this;
+        }
+
         /**
          * Copy method to populate the builder with values from the given instance.
          * @return this builder instance
@@ -169,6 +181,7 @@ public class ListAppCatalogSubscriptionsRequest extends com.oracle.bmc.requests.
             sortOrder(o.getSortOrder());
             listingId(o.getListingId());
             invocationCallback(o.getInvocationCallback());
+            retryConfiguration(o.getRetryConfiguration());
             return this;
         }
 
@@ -185,6 +198,7 @@ public class ListAppCatalogSubscriptionsRequest extends com.oracle.bmc.requests.
         public ListAppCatalogSubscriptionsRequest build() {
             ListAppCatalogSubscriptionsRequest request = buildWithoutInvocationCallback();
             request.setInvocationCallback(invocationCallback);
+            request.setRetryConfiguration(retryConfiguration);
             return request;
         }
     }
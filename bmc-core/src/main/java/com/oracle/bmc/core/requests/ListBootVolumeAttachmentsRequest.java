@@ -54,6 +54,7 @@ public class ListBootVolumeAttachmentsRequest extends com.oracle.bmc.requests.Bm
     public static class Builder {
         private com.oracle.bmc.util.internal.Consumer<javax.ws.rs.client.Invocation.Builder>
                 invocationCallback = null;
+        private com.oracle.bmc.retrier.RetryConfiguration retryConfiguration = null;
 
         /**
          * Set the invocation callback for the request to be built.
@@ -67,6 +68,17 @@ public class ListBootVolumeAttachmentsRequest extends com.oracle.bmc.requests.Bm
             return this;
         }
 
+        /**
+         * Set the retry configuration for the request to be built.
+         * @param retryConfiguration the retry configuration to be used for the request
+         * @return this builder instance
+         */
+        public Builder retryConfiguration(
+                com.oracle.bmc.retrier.RetryConfiguration retryConfiguration) {
+            this.retryConfiguration = retryConfiguration;
+            return this;
+        }
+
         /**
          * Copy method to populate the builder with values from the given instance.
          * @return this builder instance
@@ -79,6 +91,7 @@ public class ListBootVolumeAttachmentsRequest extends com.oracle.bmc.requests.Bm
             instanceId(o.getInstanceId());
             bootVolumeId(o.getBootVolumeId());
             invocationCallback(o.getInvocationCallback());
+            retryConfiguration(o.getRetryConfiguration());
             return this;
         }
 
@@ -95,6 +108,7 @@ public class ListBootVolumeAttachmentsRequest extends com.oracle.bmc.requests.Bm
         public ListBootVolumeAttachmentsRequest build() {
             ListBootVolumeAttachmentsRequest request = buildWithoutInvocationCallback();
             request.setInvocationCallback(invocationCallback);
+            request.setRetryConfiguration(retryConfiguration);
             return request;
         }
     }
@@ -155,6 +155,7 @@ public class ListBootVolumeBackupsRequest extends com.oracle.bmc.requests.BmcReq
     public static class Builder {
         private com.oracle.bmc.util.internal.Consumer<javax.ws.rs.client.Invocation.Builder>
                 invocationCallback = null;
+        private com.oracle.bmc.retrier.RetryConfiguration retryConfiguration = null;
 
         /**
          * Set the invocation callback for the request to be built.
@@ -168,6 +169,17 @@ public class ListBootVolumeBackupsRequest extends com.oracle.bmc.requests.BmcReq
             return this;
         }
 
+        /**
+         * Set the retry configuration for the request to be built.
+         * @param retryConfiguration the retry configuration to be used for the request
+         * @return this builder instance
+         */
+        public Builder retryConfiguration(
+                com.oracle.bmc.retrier.RetryConfiguration retryConfiguration) {
+            this.retryConfiguration = retryConfiguration;
+            return this;
+        }
+
         /**
          * Copy method to populate the builder with values from the given instance.
          * @return this builder instance
@@ -182,6 +194,7 @@ public class ListBootVolumeBackupsRequest extends com.oracle.bmc.requests.BmcReq
             sortOrder(o.getSortOrder());
             lifecycleState(o.getLifecycleState());
             invocationCallback(o.getInvocationCallback());
+            retryConfiguration(o.getRetryConfiguration());
             return this;
         }
 
@@ -198,6 +211,7 @@ public class ListBootVolumeBackupsRequest extends com.oracle.bmc.requests.BmcReq
         public ListBootVolumeBackupsRequest build() {
             ListBootVolumeBackupsRequest request = buildWithoutInvocationCallback();
             request.setInvocationCallback(invocationCallback);
+            request.setRetryConfiguration(retryConfiguration);
             return request;
         }
     }
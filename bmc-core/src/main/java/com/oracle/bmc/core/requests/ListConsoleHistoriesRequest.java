@@ -157,6 +157,7 @@ public class ListConsoleHistoriesRequest extends com.oracle.bmc.requests.BmcRequ
     public static class Builder {
         private com.oracle.bmc.util.internal.Consumer<javax.ws.rs.client.Invocation.Builder>
                 invocationCallback = null;
+        private com.oracle.bmc.retrier.RetryConfiguration retryConfiguration = null;
 
         /**
          * Set the invocation callback for the request to be built.
@@ -170,6 +171,17 @@ public class ListConsoleHistoriesRequest extends com.oracle.bmc.requests.BmcRequ
             return this;
         }
 
+        /**
+         * Set the retry configuration for the request to be built.
+         * @param retryConfiguration the retry configuration to be used for the request
+         * @return this builder instance
+         */
+        public Builder retryConfiguration(
+                com.oracle.bmc.retrier.RetryConfiguration retryConfiguration) {
+            this.retryConfiguration = retryConfiguration;
+            return this;
+        }
+
         /**
          * Copy method to populate the builder with values from the given instance.
          * @return this builder instance
@@ -184,6 +196,7 @@ public class ListConsoleHistoriesRequest extends com.oracle.bmc.requests.BmcRequ
             sortOrder(o.getSortOrder());
             lifecycleState(o.getLifecycleState());
             invocationCallback(o.getInvocationCallback());
+            retryConfiguration(o.getRetryConfiguration());
             return this;
         }
 
@@ -200,6 +213,7 @@ public class ListConsoleHistoriesRequest extends com.oracle.bmc.requests.BmcRequ
         public ListConsoleHistoriesRequest build() {
             ListConsoleHistoriesRequest request = buildWithoutInvocationCallback();
             request.setInvocationCallback(invocationCallback);
+            request.setRetryConfiguration(retryConfiguration);
             return request;
         }
     }
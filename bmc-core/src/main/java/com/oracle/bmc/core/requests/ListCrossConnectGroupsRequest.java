@@ -150,6 +150,7 @@ public class ListCrossConnectGroupsRequest extends com.oracle.bmc.requests.BmcRe
     public static class Builder {
         private com.oracle.bmc.util.internal.Consumer<javax.ws.rs.client.Invocation.Builder>
                 invocationCallback = null;
+        private com.oracle.bmc.retrier.RetryConfiguration retryConfiguration = null;
 
         /**
          * Set the invocation callback for the request to be built.
@@ -163,6 +164,17 @@ public class ListCrossConnectGroupsRequest extends com.oracle.bmc.requests.BmcRe
             return this;
         }
 
+        /**
+         * Set the retry configuration for the request to be built.
+         * @param retryConfiguration the retry configuration to be used for the request
+         * @return this builder instance
+         */
+        public Builder retryConfiguration(
+                com.oracle.bmc.retrier.RetryConfiguration retryConfiguration) {
+            this.retryConfiguration = retryConfiguration;
+            return this;
+        }
+
         /**
          * Copy method to populate the builder with values from the given instance.
          * @return this builder instance
@@ -176,6 +188,7 @@ public class ListCrossConnectGroupsRequest extends com.oracle.bmc.requests.BmcRe
             sortOrder(o.getSortOrder());
             lifecycleState(o.getLifecycleState());
             invocationCallback(o.getInvocationCallback());
+            retryConfiguration(o.getRetryConfiguration());
             return this;
         }
 
@@ -192,6 +205,7 @@ public class ListCrossConnectGroupsRequest extends com.oracle.bmc.requests.BmcRe
         public ListCrossConnectGroupsRequest build() {
             ListCrossConnectGroupsRequest request = buildWithoutInvocationCallback();
             request.setInvocationCallback(invocationCallback);
+            request.setRetryConfiguration(retryConfiguration);
             return request;
         }
     }
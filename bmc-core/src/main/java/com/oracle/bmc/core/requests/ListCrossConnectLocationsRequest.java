@@ -36,6 +36,7 @@ public class ListCrossConnectLocationsRequest extends com.oracle.bmc.requests.Bm
     public static class Builder {
         private com.oracle.bmc.util.internal.Consumer<javax.ws.rs.client.Invocation.Builder>
                 invocationCallback = null;
+        private com.oracle.bmc.retrier.RetryConfiguration retryConfiguration = null;
 
         /**
          * Set the invocation callback for the request to be built.
@@ -49,6 +50,17 @@ public class ListCrossConnectLocationsRequest extends com.oracle.bmc.requests.Bm
             return this;
         }
 
+        /**
+         * Set the retry configuration for the request to be built.
+         * @param retryConfiguration the retry configuration to be used for the request
+         * @return this builder instance
+         */
+        public Builder retryConfiguration(
+                com.oracle.bmc.retrier.RetryConfiguration retryConfiguration) {
+            this.retryConfiguration = retryConfiguration;
+            return this;
+        }
+
         /**
          * Copy method to populate the builder with values from the given instance.
          * @return this builder instance
@@ -58,6 +70,7 @@ public class ListCrossConnectLocationsRequest extends com.oracle.bmc.requests.Bm
             limit(o.getLimit());
             page(o.getPage());
             invocationCallback(o.getInvocationCallback());
+            retryConfiguration(o.getRetryConfiguration());
             return this;
         }
 
@@ -74,6 +87,7 @@ public class ListCrossConnectLocationsRequest extends com.oracle.bmc.requests.Bm
         public ListCrossConnectLocationsRequest build() {
             ListCrossConnectLocationsRequest request = buildWithoutInvocationCallback();
             request.setInvocationCallback(invocationCallback);
+            request.setRetryConfiguration(retryConfiguration);
             return request;
         }
     }
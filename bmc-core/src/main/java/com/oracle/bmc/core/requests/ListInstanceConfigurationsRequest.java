@@ -138,6 +138,7 @@ public class ListInstanceConfigurationsRequest extends com.oracle.bmc.requests.B
     public static class Builder {
         private com.oracle.bmc.util.internal.Consumer<javax.ws.rs.client.Invocation.Builder>
                 invocationCallback = null;
+        private com.oracle.bmc.retrier.RetryConfiguration retryConfiguration = null;
 
         /**
          * Set the invocation callback for the request to be built.
@@ -151,6 +152,17 @@ public class ListInstanceConfigurationsRequest extends com.oracle.bmc.requests.B
             return this;
         }
 
+        /**
+         * Set the retry configuration for the request to be built.
+         * @param retryConfiguration the retry configuration to be used for the request
+         * @return this builder instance
+         */
+        public Builder retryConfiguration(
+                com.oracle.bmc.retrier.RetryConfiguration retryConfiguration) {
+            this.retryConfiguration = retryConfiguration;
+            return this;
+        }
+
         /**
          * Copy method to populate the builder with values from the given instance.
          * @return this builder instance
@@ -162,6 +174,7 @@ public class ListInstanceConfigurationsRequest extends com.oracle.bmc.requests.B
             sortBy(o.getSortBy());
             sortOrder(o.getSortOrder());
             invocationCallback(o.getInvocationCallback());
+            retryConfiguration(o.getRetryConfiguration());
             return this;
         }
 
@@ -178,6 +191,7 @@ public class ListInstanceConfigurationsRequest extends com.oracle.bmc.requests.B
         public ListInstanceConfigurationsRequest build() {
             ListInstanceConfigurationsRequest request = buildWithoutInvocationCallback();
             request.setInvocationCallback(invocationCallback);
+            request.setRetryConfiguration(retryConfiguration);
             return request;
         }
     }
@@ -25,6 +25,7 @@ public class ListVirtualCircuitPublicPrefixesRequest extends com.oracle.bmc.requ
     public static class Builder {
         private com.oracle.bmc.util.internal.Consumer<javax.ws.rs.client.Invocation.Builder>
                 invocationCallback = null;
+        private com.oracle.bmc.retrier.RetryConfiguration retryConfiguration = null;
 
         /**
          * Set the invocation callback for the request to be built.
@@ -38,6 +39,17 @@ public class ListVirtualCircuitPublicPrefixesRequest extends com.oracle.bmc.requ
             return this;
         }
 
+        /**
+         * Set the retry configuration for the request to be built.
+         * @param retryConfiguration the retry configuration to be used for the request
+         * @return this builder instance
+         */
+        public Builder retryConfiguration(
+                com.oracle.bmc.retrier.RetryConfiguration retryConfiguration) {
+            this.retryConfiguration = retryConfiguration;
+            return this;
+        }
+
         /**
          * Copy method to populate the builder with values from the given instance.
          * @return this builder instance
@@ -46,6 +58,7 @@ public class ListVirtualCircuitPublicPrefixesRequest extends com.oracle.bmc.requ
             virtualCircuitId(o.getVirtualCircuitId());
             verificationState(o.getVerificationState());
             invocationCallback(o.getInvocationCallback());
+            retryConfiguration(o.getRetryConfiguration());
             return this;
         }
 
@@ -62,6 +75,7 @@ public class ListVirtualCircuitPublicPrefixesRequest extends com.oracle.bmc.requ
         public ListVirtualCircuitPublicPrefixesRequest build() {
             ListVirtualCircuitPublicPrefixesRequest request = buildWithoutInvocationCallback();
             request.setInvocationCallback(invocationCallback);
+            request.setRetryConfiguration(retryConfiguration);
             return request;
         }
     }
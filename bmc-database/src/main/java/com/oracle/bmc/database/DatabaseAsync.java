@@ -55,6 +55,26 @@ public interface DatabaseAsync extends AutoCloseable {
                             CompleteExternalBackupJobRequest, CompleteExternalBackupJobResponse>
                     handler);
 
+    /**
+     * Changes the status of the standalone backup resource to `ACTIVE` after the backup is created from the on-premises database and placed in Oracle Cloud Infrastructure Object Storage.
+     * <p>
+     **Note:** This API is used by an Oracle Cloud Infrastructure Python script that is packaged with the Oracle Cloud Infrastructure CLI. Oracle recommends that you use the script instead using the API directly. See [Migrating an On-Premises Database to Oracle Cloud Infrastructure by Creating a Backup in the Cloud](https://docs.cloud.oracle.com/Content/Database/Tasks/mig-onprembackup.htm) for more information.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CompleteExternalBackupJobResponse>
+            completeExternalBackupJob(CompleteExternalBackupJobRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CompleteExternalBackupJobRequest, CompleteExternalBackupJobResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        completeExternalBackupJob(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Creates a new Autonomous Data Warehouse.
      *
@@ -74,6 +94,24 @@ public interface DatabaseAsync extends AutoCloseable {
                                     CreateAutonomousDataWarehouseResponse>
                             handler);
 
+    /**
+     * Creates a new Autonomous Data Warehouse.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreateAutonomousDataWarehouseResponse>
+            createAutonomousDataWarehouse(CreateAutonomousDataWarehouseRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreateAutonomousDataWarehouseRequest, CreateAutonomousDataWarehouseResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createAutonomousDataWarehouse(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Creates a new Autonomous Data Warehouse backup for the specified database based on the provided request parameters.
      *
@@ -93,6 +131,26 @@ public interface DatabaseAsync extends AutoCloseable {
                                     CreateAutonomousDataWarehouseBackupResponse>
                             handler);
 
+    /**
+     * Creates a new Autonomous Data Warehouse backup for the specified database based on the provided request parameters.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreateAutonomousDataWarehouseBackupResponse>
+            createAutonomousDataWarehouseBackup(
+                    CreateAutonomousDataWarehouseBackupRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreateAutonomousDataWarehouseBackupRequest,
+                        CreateAutonomousDataWarehouseBackupResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createAutonomousDataWarehouseBackup(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Creates a new Autonomous Database.
      *
@@ -110,6 +168,24 @@ public interface DatabaseAsync extends AutoCloseable {
                             CreateAutonomousDatabaseRequest, CreateAutonomousDatabaseResponse>
                     handler);
 
+    /**
+     * Creates a new Autonomous Database.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreateAutonomousDatabaseResponse>
+            createAutonomousDatabase(CreateAutonomousDatabaseRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreateAutonomousDatabaseRequest, CreateAutonomousDatabaseResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createAutonomousDatabase(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Creates a new Autonomous Database backup for the specified database based on the provided request parameters.
      *
@@ -129,6 +205,25 @@ public interface DatabaseAsync extends AutoCloseable {
                                     CreateAutonomousDatabaseBackupResponse>
                             handler);
 
+    /**
+     * Creates a new Autonomous Database backup for the specified database based on the provided request parameters.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreateAutonomousDatabaseBackupResponse>
+            createAutonomousDatabaseBackup(CreateAutonomousDatabaseBackupRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreateAutonomousDatabaseBackupRequest,
+                        CreateAutonomousDatabaseBackupResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createAutonomousDatabaseBackup(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Creates a new backup in the specified database based on the request parameters you provide. If you previously used RMAN or dbcli to configure backups and then you switch to using the Console or the API for backups, a new backup configuration is created and associated with your database. This means that you can no longer rely on your previously configured unmanaged backups to work.
      *
@@ -145,6 +240,24 @@ public interface DatabaseAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<CreateBackupRequest, CreateBackupResponse>
                     handler);
 
+    /**
+     * Creates a new backup in the specified database based on the request parameters you provide. If you previously used RMAN or dbcli to configure backups and then you switch to using the Console or the API for backups, a new backup configuration is created and associated with your database. This means that you can no longer rely on your previously configured unmanaged backups to work.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreateBackupResponse> createBackup(
+            CreateBackupRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreateBackupRequest, CreateBackupResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createBackup(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Creates a new Data Guard association.  A Data Guard association represents the replication relationship between the
      * specified database and a peer database. For more information, see [Using Oracle Data Guard](https://docs.cloud.oracle.com/Content/Database/Tasks/usingdataguard.htm).
@@ -169,6 +282,31 @@ public interface DatabaseAsync extends AutoCloseable {
                             CreateDataGuardAssociationRequest, CreateDataGuardAssociationResponse>
                     handler);
 
+    /**
+     * Creates a new Data Guard association.  A Data Guard association represents the replication relationship between the
+     * specified database and a peer database. For more information, see [Using Oracle Data Guard](https://docs.cloud.oracle.com/Content/Database/Tasks/usingdataguard.htm).
+     * <p>
+     * All Oracle Cloud Infrastructure resources, including Data Guard associations, get an Oracle-assigned, unique ID
+     * called an Oracle Cloud Identifier (OCID). When you create a resource, you can find its OCID in the response.
+     * You can also retrieve a resource's OCID by using a List API operation on that resource type, or by viewing the
+     * resource in the Console. For more information, see
+     * [Resource Identifiers](https://docs.cloud.oracle.com/Content/General/Concepts/identifiers.htm).
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreateDataGuardAssociationResponse>
+            createDataGuardAssociation(CreateDataGuardAssociationRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreateDataGuardAssociationRequest, CreateDataGuardAssociationResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createDataGuardAssociation(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Creates a new database home in the specified DB system based on the request parameters you provide.
      *
@@ -185,6 +323,24 @@ public interface DatabaseAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<CreateDbHomeRequest, CreateDbHomeResponse>
                     handler);
 
+    /**
+     * Creates a new database home in the specified DB system based on the request parameters you provide.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreateDbHomeResponse> createDbHome(
+            CreateDbHomeRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreateDbHomeRequest, CreateDbHomeResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createDbHome(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Creates a new backup resource and returns the information the caller needs to back up an on-premises Oracle Database to Oracle Cloud Infrastructure.
      * <p>
@@ -204,6 +360,26 @@ public interface DatabaseAsync extends AutoCloseable {
                             CreateExternalBackupJobRequest, CreateExternalBackupJobResponse>
                     handler);
 
+    /**
+     * Creates a new backup resource and returns the information the caller needs to back up an on-premises Oracle Database to Oracle Cloud Infrastructure.
+     * <p>
+     **Note:** This API is used by an Oracle Cloud Infrastructure Python script that is packaged with the Oracle Cloud Infrastructure CLI. Oracle recommends that you use the script instead using the API directly. See [Migrating an On-Premises Database to Oracle Cloud Infrastructure by Creating a Backup in the Cloud](https://docs.cloud.oracle.com/Content/Database/Tasks/mig-onprembackup.htm) for more information.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreateExternalBackupJobResponse>
+            createExternalBackupJob(CreateExternalBackupJobRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreateExternalBackupJobRequest, CreateExternalBackupJobResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createExternalBackupJob(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Performs one of the following power actions on the specified DB node:
      * - start - power on
@@ -232,6 +408,36 @@ public interface DatabaseAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<DbNodeActionRequest, DbNodeActionResponse>
                     handler);
 
+    /**
+     * Performs one of the following power actions on the specified DB node:
+     * - start - power on
+     * - stop - power off
+     * - softreset - ACPI shutdown and power on
+     * - reset - power off and power on
+     * <p>
+     **Note:** Stopping a node affects billing differently, depending on the type of DB system:
+     * *Bare metal and Exadata DB systems* - The _stop_ state has no effect on the resources you consume.
+     * Billing continues for DB nodes that you stop, and related resources continue
+     * to apply against any relevant quotas. You must terminate the DB system
+     * ({@link #terminateDbSystem(TerminateDbSystemRequest, Consumer, Consumer) terminateDbSystem})
+     * to remove its resources from billing and quotas.
+     * *Virtual machine DB systems* - Stopping a node stops billing for all OCPUs associated with that node, and billing resumes when you restart the node.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<DbNodeActionResponse> dbNodeAction(
+            DbNodeActionRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        DbNodeActionRequest, DbNodeActionResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        dbNodeAction(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Deletes the specified Autonomous Data Warehouse.
      *
@@ -251,6 +457,24 @@ public interface DatabaseAsync extends AutoCloseable {
                                     DeleteAutonomousDataWarehouseResponse>
                             handler);
 
+    /**
+     * Deletes the specified Autonomous Data Warehouse.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<DeleteAutonomousDataWarehouseResponse>
+            deleteAutonomousDataWarehouse(DeleteAutonomousDataWarehouseRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        DeleteAutonomousDataWarehouseRequest, DeleteAutonomousDataWarehouseResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        deleteAutonomousDataWarehouse(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Deletes the specified Autonomous Database.
      *
@@ -268,6 +492,24 @@ public interface DatabaseAsync extends AutoCloseable {
                             DeleteAutonomousDatabaseRequest, DeleteAutonomousDatabaseResponse>
                     handler);
 
+    /**
+     * Deletes the specified Autonomous Database.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<DeleteAutonomousDatabaseResponse>
+            deleteAutonomousDatabase(DeleteAutonomousDatabaseRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        DeleteAutonomousDatabaseRequest, DeleteAutonomousDatabaseResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        deleteAutonomousDatabase(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Deletes a full backup. You cannot delete automatic backups using this API.
      *
@@ -283,6 +525,23 @@ public interface DatabaseAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<DeleteBackupRequest, DeleteBackupResponse>
                     handler);
 
+    /**
+     * Deletes a full backup. You cannot delete automatic backups using this API.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<DeleteBackupResponse> deleteBackup(
+            DeleteBackupRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        DeleteBackupRequest, DeleteBackupResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        deleteBackup(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Deletes a DB Home. The DB Home and its database data are local to the DB system and will be lost when it is deleted. Oracle recommends that you back up any data in the DB system prior to deleting it.
      *
@@ -299,6 +558,24 @@ public interface DatabaseAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<DeleteDbHomeRequest, DeleteDbHomeResponse>
                     handler);
 
+    /**
+     * Deletes a DB Home. The DB Home and its database data are local to the DB system and will be lost when it is deleted. Oracle recommends that you back up any data in the DB system prior to deleting it.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<DeleteDbHomeResponse> deleteDbHome(
+            DeleteDbHomeRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        DeleteDbHomeRequest, DeleteDbHomeResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        deleteDbHome(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Performs a failover to transition the standby database identified by the `databaseId` parameter into the
      * specified Data Guard association's primary role after the existing primary database fails or becomes unreachable.
@@ -321,6 +598,28 @@ public interface DatabaseAsync extends AutoCloseable {
                             FailoverDataGuardAssociationResponse>
                     handler);
 
+    /**
+     * Performs a failover to transition the standby database identified by the `databaseId` parameter into the
+     * specified Data Guard association's primary role after the existing primary database fails or becomes unreachable.
+     * <p>
+     * A failover might result in data loss depending on the protection mode in effect at the time of the primary
+     * database failure.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<FailoverDataGuardAssociationResponse>
+            failoverDataGuardAssociation(FailoverDataGuardAssociationRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        FailoverDataGuardAssociationRequest, FailoverDataGuardAssociationResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        failoverDataGuardAssociation(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Creates and downloads a wallet for the specified Autonomous Data Warehouse.
      *
@@ -340,6 +639,26 @@ public interface DatabaseAsync extends AutoCloseable {
                                     GenerateAutonomousDataWarehouseWalletResponse>
                             handler);
 
+    /**
+     * Creates and downloads a wallet for the specified Autonomous Data Warehouse.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GenerateAutonomousDataWarehouseWalletResponse>
+            generateAutonomousDataWarehouseWallet(
+                    GenerateAutonomousDataWarehouseWalletRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GenerateAutonomousDataWarehouseWalletRequest,
+                        GenerateAutonomousDataWarehouseWalletResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        generateAutonomousDataWarehouseWallet(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Creates and downloads a wallet for the specified Autonomous Transaction Processing database.
      *
@@ -359,6 +678,25 @@ public interface DatabaseAsync extends AutoCloseable {
                                     GenerateAutonomousDatabaseWalletResponse>
                             handler);
 
+    /**
+     * Creates and downloads a wallet for the specified Autonomous Transaction Processing database.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GenerateAutonomousDatabaseWalletResponse>
+            generateAutonomousDatabaseWallet(GenerateAutonomousDatabaseWalletRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GenerateAutonomousDatabaseWalletRequest,
+                        GenerateAutonomousDatabaseWalletResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        generateAutonomousDatabaseWallet(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the details of the specified Autonomous Data Warehouse.
      *
@@ -376,6 +714,24 @@ public interface DatabaseAsync extends AutoCloseable {
                             GetAutonomousDataWarehouseRequest, GetAutonomousDataWarehouseResponse>
                     handler);
 
+    /**
+     * Gets the details of the specified Autonomous Data Warehouse.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetAutonomousDataWarehouseResponse>
+            getAutonomousDataWarehouse(GetAutonomousDataWarehouseRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetAutonomousDataWarehouseRequest, GetAutonomousDataWarehouseResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getAutonomousDataWarehouse(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets information about the specified Autonomous Data Warehouse backup.
      *
@@ -394,6 +750,24 @@ public interface DatabaseAsync extends AutoCloseable {
                                     GetAutonomousDataWarehouseBackupResponse>
                             handler);
 
+    /**
+     * Gets information about the specified Autonomous Data Warehouse backup.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetAutonomousDataWarehouseBackupResponse>
+            getAutonomousDataWarehouseBackup(GetAutonomousDataWarehouseBackupRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetAutonomousDataWarehouseBackupRequest,
+                        GetAutonomousDataWarehouseBackupResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getAutonomousDataWarehouseBackup(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the details of the specified Autonomous Database.
      *
@@ -411,6 +785,24 @@ public interface DatabaseAsync extends AutoCloseable {
                             GetAutonomousDatabaseRequest, GetAutonomousDatabaseResponse>
                     handler);
 
+    /**
+     * Gets the details of the specified Autonomous Database.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetAutonomousDatabaseResponse>
+            getAutonomousDatabase(GetAutonomousDatabaseRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetAutonomousDatabaseRequest, GetAutonomousDatabaseResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getAutonomousDatabase(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets information about the specified Autonomous Database backup.
      *
@@ -427,6 +819,23 @@ public interface DatabaseAsync extends AutoCloseable {
                             GetAutonomousDatabaseBackupRequest, GetAutonomousDatabaseBackupResponse>
                     handler);
 
+    /**
+     * Gets information about the specified Autonomous Database backup.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetAutonomousDatabaseBackupResponse>
+            getAutonomousDatabaseBackup(GetAutonomousDatabaseBackupRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetAutonomousDatabaseBackupRequest, GetAutonomousDatabaseBackupResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getAutonomousDatabaseBackup(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets information about the specified backup.
      *
@@ -441,6 +850,23 @@ public interface DatabaseAsync extends AutoCloseable {
             GetBackupRequest request,
             com.oracle.bmc.responses.AsyncHandler<GetBackupRequest, GetBackupResponse> handler);
 
+    /**
+     * Gets information about the specified backup.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetBackupResponse> getBackup(
+            GetBackupRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetBackupRequest, GetBackupResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getBackup(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the specified Data Guard association's configuration information.
      *
@@ -458,6 +884,24 @@ public interface DatabaseAsync extends AutoCloseable {
                             GetDataGuardAssociationRequest, GetDataGuardAssociationResponse>
                     handler);
 
+    /**
+     * Gets the specified Data Guard association's configuration information.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetDataGuardAssociationResponse>
+            getDataGuardAssociation(GetDataGuardAssociationRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetDataGuardAssociationRequest, GetDataGuardAssociationResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getDataGuardAssociation(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets information about a specific database.
      *
@@ -472,6 +916,23 @@ public interface DatabaseAsync extends AutoCloseable {
             GetDatabaseRequest request,
             com.oracle.bmc.responses.AsyncHandler<GetDatabaseRequest, GetDatabaseResponse> handler);
 
+    /**
+     * Gets information about a specific database.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetDatabaseResponse> getDatabase(
+            GetDatabaseRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetDatabaseRequest, GetDatabaseResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getDatabase(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets information about the specified database home.
      *
@@ -486,6 +947,23 @@ public interface DatabaseAsync extends AutoCloseable {
             GetDbHomeRequest request,
             com.oracle.bmc.responses.AsyncHandler<GetDbHomeRequest, GetDbHomeResponse> handler);
 
+    /**
+     * Gets information about the specified database home.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetDbHomeResponse> getDbHome(
+            GetDbHomeRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetDbHomeRequest, GetDbHomeResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getDbHome(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets information about a specified patch package.
      *
@@ -502,6 +980,24 @@ public interface DatabaseAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<GetDbHomePatchRequest, GetDbHomePatchResponse>
                     handler);
 
+    /**
+     * Gets information about a specified patch package.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetDbHomePatchResponse> getDbHomePatch(
+            GetDbHomePatchRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetDbHomePatchRequest, GetDbHomePatchResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getDbHomePatch(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the patch history details for the specified patchHistoryEntryId
      *
@@ -519,6 +1015,24 @@ public interface DatabaseAsync extends AutoCloseable {
                             GetDbHomePatchHistoryEntryRequest, GetDbHomePatchHistoryEntryResponse>
                     handler);
 
+    /**
+     * Gets the patch history details for the specified patchHistoryEntryId
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetDbHomePatchHistoryEntryResponse>
+            getDbHomePatchHistoryEntry(GetDbHomePatchHistoryEntryRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetDbHomePatchHistoryEntryRequest, GetDbHomePatchHistoryEntryResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getDbHomePatchHistoryEntry(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets information about the specified database node.
      *
@@ -533,6 +1047,23 @@ public interface DatabaseAsync extends AutoCloseable {
             GetDbNodeRequest request,
             com.oracle.bmc.responses.AsyncHandler<GetDbNodeRequest, GetDbNodeResponse> handler);
 
+    /**
+     * Gets information about the specified database node.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetDbNodeResponse> getDbNode(
+            GetDbNodeRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetDbNodeRequest, GetDbNodeResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getDbNode(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets information about the specified DB system.
      *
@@ -547,6 +1078,23 @@ public interface DatabaseAsync extends AutoCloseable {
             GetDbSystemRequest request,
             com.oracle.bmc.responses.AsyncHandler<GetDbSystemRequest, GetDbSystemResponse> handler);
 
+    /**
+     * Gets information about the specified DB system.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetDbSystemResponse> getDbSystem(
+            GetDbSystemRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetDbSystemRequest, GetDbSystemResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getDbSystem(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets information about a specified patch package.
      *
@@ -563,6 +1111,24 @@ public interface DatabaseAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<GetDbSystemPatchRequest, GetDbSystemPatchResponse>
                     handler);
 
+    /**
+     * Gets information about a specified patch package.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetDbSystemPatchResponse> getDbSystemPatch(
+            GetDbSystemPatchRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetDbSystemPatchRequest, GetDbSystemPatchResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getDbSystemPatch(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the patch history details for the specified patchHistoryEntryId.
      *
@@ -581,6 +1147,24 @@ public interface DatabaseAsync extends AutoCloseable {
                             GetDbSystemPatchHistoryEntryResponse>
                     handler);
 
+    /**
+     * Gets the patch history details for the specified patchHistoryEntryId.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetDbSystemPatchHistoryEntryResponse>
+            getDbSystemPatchHistoryEntry(GetDbSystemPatchHistoryEntryRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetDbSystemPatchHistoryEntryRequest, GetDbSystemPatchHistoryEntryResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getDbSystemPatchHistoryEntry(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets `IORM` Setting for the requested Exadata DB System.
      * The default IORM Settings is pre-created in all the Exadata DB System.
@@ -599,6 +1183,25 @@ public interface DatabaseAsync extends AutoCloseable {
                             GetExadataIormConfigRequest, GetExadataIormConfigResponse>
                     handler);
 
+    /**
+     * Gets `IORM` Setting for the requested Exadata DB System.
+     * The default IORM Settings is pre-created in all the Exadata DB System.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetExadataIormConfigResponse> getExadataIormConfig(
+            GetExadataIormConfigRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetExadataIormConfigRequest, GetExadataIormConfigResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getExadataIormConfig(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets information about the specified external backup job.
      * <p>
@@ -618,6 +1221,26 @@ public interface DatabaseAsync extends AutoCloseable {
                             GetExternalBackupJobRequest, GetExternalBackupJobResponse>
                     handler);
 
+    /**
+     * Gets information about the specified external backup job.
+     * <p>
+     **Note:** This API is used by an Oracle Cloud Infrastructure Python script that is packaged with the Oracle Cloud Infrastructure CLI. Oracle recommends that you use the script instead using the API directly. See [Migrating an On-Premises Database to Oracle Cloud Infrastructure by Creating a Backup in the Cloud](https://docs.cloud.oracle.com/Content/Database/Tasks/mig-onprembackup.htm) for more information.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetExternalBackupJobResponse> getExternalBackupJob(
+            GetExternalBackupJobRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetExternalBackupJobRequest, GetExternalBackupJobResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getExternalBackupJob(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Launches a new DB system in the specified compartment and availability domain. The Oracle
      * Database edition that you specify applies to all the databases on that DB system. The selected edition cannot be changed.
@@ -639,6 +1262,29 @@ public interface DatabaseAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<LaunchDbSystemRequest, LaunchDbSystemResponse>
                     handler);
 
+    /**
+     * Launches a new DB system in the specified compartment and availability domain. The Oracle
+     * Database edition that you specify applies to all the databases on that DB system. The selected edition cannot be changed.
+     * <p>
+     * An initial database is created on the DB system based on the request parameters you provide and some default
+     * options. For more information,
+     * see [Default Options for the Initial Database](https://docs.cloud.oracle.com/Content/Database/Tasks/launchingDB.htm#DefaultOptionsfortheInitialDatabase).
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<LaunchDbSystemResponse> launchDbSystem(
+            LaunchDbSystemRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        LaunchDbSystemRequest, LaunchDbSystemResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        launchDbSystem(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets a list of Autonomous Data Warehouse backups based on either the `autonomousDataWarehouseId` or `compartmentId` specified as a query parameter.
      *
@@ -658,6 +1304,25 @@ public interface DatabaseAsync extends AutoCloseable {
                                     ListAutonomousDataWarehouseBackupsResponse>
                             handler);
 
+    /**
+     * Gets a list of Autonomous Data Warehouse backups based on either the `autonomousDataWarehouseId` or `compartmentId` specified as a query parameter.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListAutonomousDataWarehouseBackupsResponse>
+            listAutonomousDataWarehouseBackups(ListAutonomousDataWarehouseBackupsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListAutonomousDataWarehouseBackupsRequest,
+                        ListAutonomousDataWarehouseBackupsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listAutonomousDataWarehouseBackups(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets a list of Autonomous Data Warehouses.
      *
@@ -676,6 +1341,24 @@ public interface DatabaseAsync extends AutoCloseable {
                             ListAutonomousDataWarehousesResponse>
                     handler);
 
+    /**
+     * Gets a list of Autonomous Data Warehouses.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListAutonomousDataWarehousesResponse>
+            listAutonomousDataWarehouses(ListAutonomousDataWarehousesRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListAutonomousDataWarehousesRequest, ListAutonomousDataWarehousesResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listAutonomousDataWarehouses(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets a list of Autonomous Database backups based on either the `autonomousDatabaseId` or `compartmentId` specified as a query parameter.
      *
@@ -695,6 +1378,24 @@ public interface DatabaseAsync extends AutoCloseable {
                                     ListAutonomousDatabaseBackupsResponse>
                             handler);
 
+    /**
+     * Gets a list of Autonomous Database backups based on either the `autonomousDatabaseId` or `compartmentId` specified as a query parameter.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListAutonomousDatabaseBackupsResponse>
+            listAutonomousDatabaseBackups(ListAutonomousDatabaseBackupsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListAutonomousDatabaseBackupsRequest, ListAutonomousDatabaseBackupsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listAutonomousDatabaseBackups(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets a list of Autonomous Databases.
      *
@@ -712,6 +1413,24 @@ public interface DatabaseAsync extends AutoCloseable {
                             ListAutonomousDatabasesRequest, ListAutonomousDatabasesResponse>
                     handler);
 
+    /**
+     * Gets a list of Autonomous Databases.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListAutonomousDatabasesResponse>
+            listAutonomousDatabases(ListAutonomousDatabasesRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListAutonomousDatabasesRequest, ListAutonomousDatabasesResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listAutonomousDatabases(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets a list of backups based on the databaseId or compartmentId specified. Either one of the query parameters must be provided.
      *
@@ -727,6 +1446,24 @@ public interface DatabaseAsync extends AutoCloseable {
             ListBackupsRequest request,
             com.oracle.bmc.responses.AsyncHandler<ListBackupsRequest, ListBackupsResponse> handler);
 
+    /**
+     * Gets a list of backups based on the databaseId or compartmentId specified. Either one of the query parameters must be provided.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListBackupsResponse> listBackups(
+            ListBackupsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListBackupsRequest, ListBackupsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listBackups(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists all Data Guard associations for the specified database.
      *
@@ -744,6 +1481,24 @@ public interface DatabaseAsync extends AutoCloseable {
                             ListDataGuardAssociationsRequest, ListDataGuardAssociationsResponse>
                     handler);
 
+    /**
+     * Lists all Data Guard associations for the specified database.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListDataGuardAssociationsResponse>
+            listDataGuardAssociations(ListDataGuardAssociationsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListDataGuardAssociationsRequest, ListDataGuardAssociationsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listDataGuardAssociations(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets a list of the databases in the specified database home.
      *
@@ -760,6 +1515,24 @@ public interface DatabaseAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<ListDatabasesRequest, ListDatabasesResponse>
                     handler);
 
+    /**
+     * Gets a list of the databases in the specified database home.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListDatabasesResponse> listDatabases(
+            ListDatabasesRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListDatabasesRequest, ListDatabasesResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listDatabases(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets history of the actions taken for patches for the specified database home.
      *
@@ -779,6 +1552,24 @@ public interface DatabaseAsync extends AutoCloseable {
                                     ListDbHomePatchHistoryEntriesResponse>
                             handler);
 
+    /**
+     * Gets history of the actions taken for patches for the specified database home.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListDbHomePatchHistoryEntriesResponse>
+            listDbHomePatchHistoryEntries(ListDbHomePatchHistoryEntriesRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListDbHomePatchHistoryEntriesRequest, ListDbHomePatchHistoryEntriesResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listDbHomePatchHistoryEntries(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists patches applicable to the requested database home.
      *
@@ -796,6 +1587,24 @@ public interface DatabaseAsync extends AutoCloseable {
                             ListDbHomePatchesRequest, ListDbHomePatchesResponse>
                     handler);
 
+    /**
+     * Lists patches applicable to the requested database home.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListDbHomePatchesResponse> listDbHomePatches(
+            ListDbHomePatchesRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListDbHomePatchesRequest, ListDbHomePatchesResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listDbHomePatches(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets a list of database homes in the specified DB system and compartment. A database home is a directory where Oracle Database software is installed.
      *
@@ -811,6 +1620,24 @@ public interface DatabaseAsync extends AutoCloseable {
             ListDbHomesRequest request,
             com.oracle.bmc.responses.AsyncHandler<ListDbHomesRequest, ListDbHomesResponse> handler);
 
+    /**
+     * Gets a list of database homes in the specified DB system and compartment. A database home is a directory where Oracle Database software is installed.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListDbHomesResponse> listDbHomes(
+            ListDbHomesRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListDbHomesRequest, ListDbHomesResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listDbHomes(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets a list of database nodes in the specified DB system and compartment. A database node is a server running database software.
      *
@@ -826,6 +1653,24 @@ public interface DatabaseAsync extends AutoCloseable {
             ListDbNodesRequest request,
             com.oracle.bmc.responses.AsyncHandler<ListDbNodesRequest, ListDbNodesResponse> handler);
 
+    /**
+     * Gets a list of database nodes in the specified DB system and compartment. A database node is a server running database software.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListDbNodesResponse> listDbNodes(
+            ListDbNodesRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListDbNodesRequest, ListDbNodesResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listDbNodes(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the history of the patch actions performed on the specified DB system.
      *
@@ -845,6 +1690,25 @@ public interface DatabaseAsync extends AutoCloseable {
                                     ListDbSystemPatchHistoryEntriesResponse>
                             handler);
 
+    /**
+     * Gets the history of the patch actions performed on the specified DB system.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListDbSystemPatchHistoryEntriesResponse>
+            listDbSystemPatchHistoryEntries(ListDbSystemPatchHistoryEntriesRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListDbSystemPatchHistoryEntriesRequest,
+                        ListDbSystemPatchHistoryEntriesResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listDbSystemPatchHistoryEntries(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists the patches applicable to the requested DB system.
      *
@@ -862,6 +1726,24 @@ public interface DatabaseAsync extends AutoCloseable {
                             ListDbSystemPatchesRequest, ListDbSystemPatchesResponse>
                     handler);
 
+    /**
+     * Lists the patches applicable to the requested DB system.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListDbSystemPatchesResponse> listDbSystemPatches(
+            ListDbSystemPatchesRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListDbSystemPatchesRequest, ListDbSystemPatchesResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listDbSystemPatches(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets a list of the shapes that can be used to launch a new DB system. The shape determines resources to allocate to the DB system - CPU cores and memory for VM shapes; CPU cores, memory and storage for non-VM (or bare metal) shapes.
      *
@@ -878,6 +1760,23 @@ public interface DatabaseAsync extends AutoCloseable {
                             ListDbSystemShapesRequest, ListDbSystemShapesResponse>
                     handler);
 
+    /**
+     * Gets a list of the shapes that can be used to launch a new DB system. The shape determines resources to allocate to the DB system - CPU cores and memory for VM shapes; CPU cores, memory and storage for non-VM (or bare metal) shapes.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListDbSystemShapesResponse> listDbSystemShapes(
+            ListDbSystemShapesRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListDbSystemShapesRequest, ListDbSystemShapesResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listDbSystemShapes(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets a list of the DB systems in the specified compartment. You can specify a backupId to list only the DB systems that support creating a database using this backup in this compartment.
      *
@@ -895,6 +1794,25 @@ public interface DatabaseAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<ListDbSystemsRequest, ListDbSystemsResponse>
                     handler);
 
+    /**
+     * Gets a list of the DB systems in the specified compartment. You can specify a backupId to list only the DB systems that support creating a database using this backup in this compartment.
+     *
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListDbSystemsResponse> listDbSystems(
+            ListDbSystemsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListDbSystemsRequest, ListDbSystemsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listDbSystems(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets a list of supported Oracle Database versions.
      *
@@ -910,6 +1828,23 @@ public interface DatabaseAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<ListDbVersionsRequest, ListDbVersionsResponse>
                     handler);
 
+    /**
+     * Gets a list of supported Oracle Database versions.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListDbVersionsResponse> listDbVersions(
+            ListDbVersionsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListDbVersionsRequest, ListDbVersionsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listDbVersions(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Reinstates the database identified by the `databaseId` parameter into the standby role in a Data Guard association.
      *
@@ -929,6 +1864,24 @@ public interface DatabaseAsync extends AutoCloseable {
                                     ReinstateDataGuardAssociationResponse>
                             handler);
 
+    /**
+     * Reinstates the database identified by the `databaseId` parameter into the standby role in a Data Guard association.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ReinstateDataGuardAssociationResponse>
+            reinstateDataGuardAssociation(ReinstateDataGuardAssociationRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ReinstateDataGuardAssociationRequest, ReinstateDataGuardAssociationResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        reinstateDataGuardAssociation(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Restores an Autonomous Data Warehouse based on the provided request parameters.
      *
@@ -948,6 +1901,25 @@ public interface DatabaseAsync extends AutoCloseable {
                                     RestoreAutonomousDataWarehouseResponse>
                             handler);
 
+    /**
+     * Restores an Autonomous Data Warehouse based on the provided request parameters.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<RestoreAutonomousDataWarehouseResponse>
+            restoreAutonomousDataWarehouse(RestoreAutonomousDataWarehouseRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        RestoreAutonomousDataWarehouseRequest,
+                        RestoreAutonomousDataWarehouseResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        restoreAutonomousDataWarehouse(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Restores an Autonomous Database based on the provided request parameters.
      *
@@ -965,6 +1937,24 @@ public interface DatabaseAsync extends AutoCloseable {
                             RestoreAutonomousDatabaseRequest, RestoreAutonomousDatabaseResponse>
                     handler);
 
+    /**
+     * Restores an Autonomous Database based on the provided request parameters.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<RestoreAutonomousDatabaseResponse>
+            restoreAutonomousDatabase(RestoreAutonomousDatabaseRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        RestoreAutonomousDatabaseRequest, RestoreAutonomousDatabaseResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        restoreAutonomousDatabase(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Restore a Database based on the request parameters you provide.
      *
@@ -981,6 +1971,24 @@ public interface DatabaseAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<RestoreDatabaseRequest, RestoreDatabaseResponse>
                     handler);
 
+    /**
+     * Restore a Database based on the request parameters you provide.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<RestoreDatabaseResponse> restoreDatabase(
+            RestoreDatabaseRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        RestoreDatabaseRequest, RestoreDatabaseResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        restoreDatabase(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Starts the specified autonomous Data Warehouse.
      *
@@ -999,6 +2007,24 @@ public interface DatabaseAsync extends AutoCloseable {
                             StartAutonomousDataWarehouseResponse>
                     handler);
 
+    /**
+     * Starts the specified autonomous Data Warehouse.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<StartAutonomousDataWarehouseResponse>
+            startAutonomousDataWarehouse(StartAutonomousDataWarehouseRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        StartAutonomousDataWarehouseRequest, StartAutonomousDataWarehouseResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        startAutonomousDataWarehouse(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Starts the specified Autonomous Database.
      *
@@ -1016,6 +2042,24 @@ public interface DatabaseAsync extends AutoCloseable {
                             StartAutonomousDatabaseRequest, StartAutonomousDatabaseResponse>
                     handler);
 
+    /**
+     * Starts the specified Autonomous Database.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<StartAutonomousDatabaseResponse>
+            startAutonomousDatabase(StartAutonomousDatabaseRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        StartAutonomousDatabaseRequest, StartAutonomousDatabaseResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        startAutonomousDatabase(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Stops the specified Autonomous Data Warehouse.
      *
@@ -1033,6 +2077,24 @@ public interface DatabaseAsync extends AutoCloseable {
                             StopAutonomousDataWarehouseRequest, StopAutonomousDataWarehouseResponse>
                     handler);
 
+    /**
+     * Stops the specified Autonomous Data Warehouse.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<StopAutonomousDataWarehouseResponse>
+            stopAutonomousDataWarehouse(StopAutonomousDataWarehouseRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        StopAutonomousDataWarehouseRequest, StopAutonomousDataWarehouseResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        stopAutonomousDataWarehouse(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Stops the specified Autonomous Database.
      *
@@ -1050,6 +2112,24 @@ public interface DatabaseAsync extends AutoCloseable {
                             StopAutonomousDatabaseRequest, StopAutonomousDatabaseResponse>
                     handler);
 
+    /**
+     * Stops the specified Autonomous Database.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<StopAutonomousDatabaseResponse>
+            stopAutonomousDatabase(StopAutonomousDatabaseRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        StopAutonomousDatabaseRequest, StopAutonomousDatabaseResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        stopAutonomousDatabase(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Performs a switchover to transition the primary database of a Data Guard association into a standby role. The
      * standby database associated with the `dataGuardAssociationId` assumes the primary database role.
@@ -1072,6 +2152,28 @@ public interface DatabaseAsync extends AutoCloseable {
                                     SwitchoverDataGuardAssociationResponse>
                             handler);
 
+    /**
+     * Performs a switchover to transition the primary database of a Data Guard association into a standby role. The
+     * standby database associated with the `dataGuardAssociationId` assumes the primary database role.
+     * <p>
+     * A switchover guarantees no data loss.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<SwitchoverDataGuardAssociationResponse>
+            switchoverDataGuardAssociation(SwitchoverDataGuardAssociationRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        SwitchoverDataGuardAssociationRequest,
+                        SwitchoverDataGuardAssociationResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        switchoverDataGuardAssociation(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Terminates a DB system and permanently deletes it and any databases running on it, and any storage volumes attached to it. The database data is local to the DB system and will be lost when the system is terminated. Oracle recommends that you back up any data in the DB system prior to terminating it.
      *
@@ -1088,6 +2190,23 @@ public interface DatabaseAsync extends AutoCloseable {
                             TerminateDbSystemRequest, TerminateDbSystemResponse>
                     handler);
 
+    /**
+     * Terminates a DB system and permanently deletes it and any databases running on it, and any storage volumes attached to it. The database data is local to the DB system and will be lost when the system is terminated. Oracle recommends that you back up any data in the DB system prior to terminating it.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<TerminateDbSystemResponse> terminateDbSystem(
+            TerminateDbSystemRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        TerminateDbSystemRequest, TerminateDbSystemResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        terminateDbSystem(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Updates the specified Autonomous Data Warehouse with a new CPU core count and size.
      *
@@ -1107,6 +2226,24 @@ public interface DatabaseAsync extends AutoCloseable {
                                     UpdateAutonomousDataWarehouseResponse>
                             handler);
 
+    /**
+     * Updates the specified Autonomous Data Warehouse with a new CPU core count and size.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateAutonomousDataWarehouseResponse>
+            updateAutonomousDataWarehouse(UpdateAutonomousDataWarehouseRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateAutonomousDataWarehouseRequest, UpdateAutonomousDataWarehouseResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateAutonomousDataWarehouse(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Updates the specified Autonomous Database with a new CPU core count and size.
      *
@@ -1124,6 +2261,24 @@ public interface DatabaseAsync extends AutoCloseable {
                             UpdateAutonomousDatabaseRequest, UpdateAutonomousDatabaseResponse>
                     handler);
 
+    /**
+     * Updates the specified Autonomous Database with a new CPU core count and size.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateAutonomousDatabaseResponse>
+            updateAutonomousDatabase(UpdateAutonomousDatabaseRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateAutonomousDatabaseRequest, UpdateAutonomousDatabaseResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateAutonomousDatabase(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Update a Database based on the request parameters you provide.
      *
@@ -1140,6 +2295,24 @@ public interface DatabaseAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<UpdateDatabaseRequest, UpdateDatabaseResponse>
                     handler);
 
+    /**
+     * Update a Database based on the request parameters you provide.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateDatabaseResponse> updateDatabase(
+            UpdateDatabaseRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateDatabaseRequest, UpdateDatabaseResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateDatabase(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Patches the specified dbHome.
      *
@@ -1155,6 +2328,23 @@ public interface DatabaseAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<UpdateDbHomeRequest, UpdateDbHomeResponse>
                     handler);
 
+    /**
+     * Patches the specified dbHome.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateDbHomeResponse> updateDbHome(
+            UpdateDbHomeRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateDbHomeRequest, UpdateDbHomeResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateDbHome(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Updates the properties of a DB system, such as the CPU core count.
      *
@@ -1170,6 +2360,23 @@ public interface DatabaseAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<UpdateDbSystemRequest, UpdateDbSystemResponse>
                     handler);
 
+    /**
+     * Updates the properties of a DB system, such as the CPU core count.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateDbSystemResponse> updateDbSystem(
+            UpdateDbSystemRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateDbSystemRequest, UpdateDbSystemResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateDbSystem(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Update `IORM` Settings for the requested Exadata DB System.
      *
@@ -1186,4 +2393,22 @@ public interface DatabaseAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<
                             UpdateExadataIormConfigRequest, UpdateExadataIormConfigResponse>
                     handler);
+
+    /**
+     * Update `IORM` Settings for the requested Exadata DB System.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateExadataIormConfigResponse>
+            updateExadataIormConfig(UpdateExadataIormConfigRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateExadataIormConfigRequest, UpdateExadataIormConfigResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateExadataIormConfig(request, handler);
+        return handler.getStage();
+    }
 }
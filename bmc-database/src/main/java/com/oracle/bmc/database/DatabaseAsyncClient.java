@@ -393,6 +393,34 @@ public class DatabaseAsyncClient implements DatabaseAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CompleteExternalBackupJobResponse>
+            completeExternalBackupJob(final CompleteExternalBackupJobRequest request) {
+        LOG.trace("Called async completeExternalBackupJob");
+        final CompleteExternalBackupJobRequest interceptedRequest =
+                CompleteExternalBackupJobConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CompleteExternalBackupJobConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, CompleteExternalBackupJobResponse>
+                transformer = CompleteExternalBackupJobConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCompleteExternalBackupJobDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateAutonomousDataWarehouseResponse>
             createAutonomousDataWarehouse(
@@ -487,6 +515,34 @@ public class DatabaseAsyncClient implements DatabaseAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateAutonomousDataWarehouseResponse>
+            createAutonomousDataWarehouse(final CreateAutonomousDataWarehouseRequest request) {
+        LOG.trace("Called async createAutonomousDataWarehouse");
+        final CreateAutonomousDataWarehouseRequest interceptedRequest =
+                CreateAutonomousDataWarehouseConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateAutonomousDataWarehouseConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, CreateAutonomousDataWarehouseResponse>
+                transformer = CreateAutonomousDataWarehouseConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreateAutonomousDataWarehouseDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateAutonomousDataWarehouseBackupResponse>
             createAutonomousDataWarehouseBackup(
@@ -585,6 +641,35 @@ public class DatabaseAsyncClient implements DatabaseAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateAutonomousDataWarehouseBackupResponse>
+            createAutonomousDataWarehouseBackup(final CreateAutonomousDataWarehouseBackupRequest request) {
+        LOG.trace("Called async createAutonomousDataWarehouseBackup");
+        final CreateAutonomousDataWarehouseBackupRequest interceptedRequest =
+                CreateAutonomousDataWarehouseBackupConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateAutonomousDataWarehouseBackupConverter.fromRequest(
+                        client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, CreateAutonomousDataWarehouseBackupResponse>
+                transformer = CreateAutonomousDataWarehouseBackupConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreateAutonomousDataWarehouseBackupDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateAutonomousDatabaseResponse> createAutonomousDatabase(
             final CreateAutonomousDatabaseRequest request,
@@ -676,6 +761,34 @@ public class DatabaseAsyncClient implements DatabaseAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateAutonomousDatabaseResponse>
+            createAutonomousDatabase(final CreateAutonomousDatabaseRequest request) {
+        LOG.trace("Called async createAutonomousDatabase");
+        final CreateAutonomousDatabaseRequest interceptedRequest =
+                CreateAutonomousDatabaseConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateAutonomousDatabaseConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, CreateAutonomousDatabaseResponse>
+                transformer = CreateAutonomousDatabaseConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreateAutonomousDatabaseDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateAutonomousDatabaseBackupResponse>
             createAutonomousDatabaseBackup(
@@ -771,6 +884,34 @@ public class DatabaseAsyncClient implements DatabaseAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateAutonomousDatabaseBackupResponse>
+            createAutonomousDatabaseBackup(final CreateAutonomousDatabaseBackupRequest request) {
+        LOG.trace("Called async createAutonomousDatabaseBackup");
+        final CreateAutonomousDatabaseBackupRequest interceptedRequest =
+                CreateAutonomousDatabaseBackupConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateAutonomousDatabaseBackupConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, CreateAutonomousDatabaseBackupResponse>
+                transformer = CreateAutonomousDatabaseBackupConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreateAutonomousDatabaseBackupDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateBackupResponse> createBackup(
             final CreateBackupRequest request,
@@ -859,6 +1000,33 @@ public class DatabaseAsyncClient implements DatabaseAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateBackupResponse> createBackup(
+            final CreateBackupRequest request) {
+        LOG.trace("Called async createBackup");
+        final CreateBackupRequest interceptedRequest =
+                CreateBackupConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateBackupConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, CreateBackupResponse>
+                transformer = CreateBackupConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreateBackupDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateDataGuardAssociationResponse>
             createDataGuardAssociation(
@@ -952,6 +1120,34 @@ public class DatabaseAsyncClient implements DatabaseAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateDataGuardAssociationResponse>
+            createDataGuardAssociation(final CreateDataGuardAssociationRequest request) {
+        LOG.trace("Called async createDataGuardAssociation");
+        final CreateDataGuardAssociationRequest interceptedRequest =
+                CreateDataGuardAssociationConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateDataGuardAssociationConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, CreateDataGuardAssociationResponse>
+                transformer = CreateDataGuardAssociationConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreateDataGuardAssociationDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateDbHomeResponse> createDbHome(
             final CreateDbHomeRequest request,
@@ -1040,6 +1236,33 @@ public class DatabaseAsyncClient implements DatabaseAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateDbHomeResponse> createDbHome(
+            final CreateDbHomeRequest request) {
+        LOG.trace("Called async createDbHome");
+        final CreateDbHomeRequest interceptedRequest =
+                CreateDbHomeConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateDbHomeConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, CreateDbHomeResponse>
+                transformer = CreateDbHomeConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreateDbHomeWithDbSystemIdDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateExternalBackupJobResponse> createExternalBackupJob(
             final CreateExternalBackupJobRequest request,
@@ -1131,6 +1354,34 @@ public class DatabaseAsyncClient implements DatabaseAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateExternalBackupJobResponse>
+            createExternalBackupJob(final CreateExternalBackupJobRequest request) {
+        LOG.trace("Called async createExternalBackupJob");
+        final CreateExternalBackupJobRequest interceptedRequest =
+                CreateExternalBackupJobConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateExternalBackupJobConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, CreateExternalBackupJobResponse>
+                transformer = CreateExternalBackupJobConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreateExternalBackupJobDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DbNodeActionResponse> dbNodeAction(
             final DbNodeActionRequest request,
@@ -1204,6 +1455,30 @@ public class DatabaseAsyncClient implements DatabaseAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DbNodeActionResponse> dbNodeAction(
+            final DbNodeActionRequest request) {
+        LOG.trace("Called async dbNodeAction");
+        final DbNodeActionRequest interceptedRequest =
+                DbNodeActionConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DbNodeActionConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, DbNodeActionResponse>
+                transformer = DbNodeActionConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteAutonomousDataWarehouseResponse>
             deleteAutonomousDataWarehouse(
@@ -1283,6 +1558,31 @@ public class DatabaseAsyncClient implements DatabaseAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteAutonomousDataWarehouseResponse>
+            deleteAutonomousDataWarehouse(final DeleteAutonomousDataWarehouseRequest request) {
+        LOG.trace("Called async deleteAutonomousDataWarehouse");
+        final DeleteAutonomousDataWarehouseRequest interceptedRequest =
+                DeleteAutonomousDataWarehouseConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteAutonomousDataWarehouseConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, DeleteAutonomousDataWarehouseResponse>
+                transformer = DeleteAutonomousDataWarehouseConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteAutonomousDatabaseResponse> deleteAutonomousDatabase(
             final DeleteAutonomousDatabaseRequest request,
@@ -1359,6 +1659,31 @@ public class DatabaseAsyncClient implements DatabaseAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteAutonomousDatabaseResponse>
+            deleteAutonomousDatabase(final DeleteAutonomousDatabaseRequest request) {
+        LOG.trace("Called async deleteAutonomousDatabase");
+        final DeleteAutonomousDatabaseRequest interceptedRequest =
+                DeleteAutonomousDatabaseConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteAutonomousDatabaseConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, DeleteAutonomousDatabaseResponse>
+                transformer = DeleteAutonomousDatabaseConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteBackupResponse> deleteBackup(
             final DeleteBackupRequest request,
@@ -1432,6 +1757,30 @@ public class DatabaseAsyncClient implements DatabaseAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteBackupResponse> deleteBackup(
+            final DeleteBackupRequest request) {
+        LOG.trace("Called async deleteBackup");
+        final DeleteBackupRequest interceptedRequest =
+                DeleteBackupConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteBackupConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, DeleteBackupResponse>
+                transformer = DeleteBackupConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteDbHomeResponse> deleteDbHome(
             final DeleteDbHomeRequest request,
@@ -1505,6 +1854,30 @@ public class DatabaseAsyncClient implements DatabaseAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteDbHomeResponse> deleteDbHome(
+            final DeleteDbHomeRequest request) {
+        LOG.trace("Called async deleteDbHome");
+        final DeleteDbHomeRequest interceptedRequest =
+                DeleteDbHomeConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteDbHomeConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, DeleteDbHomeResponse>
+                transformer = DeleteDbHomeConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<FailoverDataGuardAssociationResponse>
             failoverDataGuardAssociation(
@@ -1599,6 +1972,34 @@ public class DatabaseAsyncClient implements DatabaseAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<FailoverDataGuardAssociationResponse>
+            failoverDataGuardAssociation(final FailoverDataGuardAssociationRequest request) {
+        LOG.trace("Called async failoverDataGuardAssociation");
+        final FailoverDataGuardAssociationRequest interceptedRequest =
+                FailoverDataGuardAssociationConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                FailoverDataGuardAssociationConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, FailoverDataGuardAssociationResponse>
+                transformer = FailoverDataGuardAssociationConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getFailoverDataGuardAssociationDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GenerateAutonomousDataWarehouseWalletResponse>
             generateAutonomousDataWarehouseWallet(
@@ -1697,6 +2098,35 @@ public class DatabaseAsyncClient implements DatabaseAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GenerateAutonomousDataWarehouseWalletResponse>
+            generateAutonomousDataWarehouseWallet(final GenerateAutonomousDataWarehouseWalletRequest request) {
+        LOG.trace("Called async generateAutonomousDataWarehouseWallet");
+        final GenerateAutonomousDataWarehouseWalletRequest interceptedRequest =
+                GenerateAutonomousDataWarehouseWalletConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GenerateAutonomousDataWarehouseWalletConverter.fromRequest(
+                        client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, GenerateAutonomousDataWarehouseWalletResponse>
+                transformer = GenerateAutonomousDataWarehouseWalletConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getGenerateAutonomousDataWarehouseWalletDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GenerateAutonomousDatabaseWalletResponse>
             generateAutonomousDatabaseWallet(
@@ -1792,6 +2222,34 @@ public class DatabaseAsyncClient implements DatabaseAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GenerateAutonomousDatabaseWalletResponse>
+            generateAutonomousDatabaseWallet(final GenerateAutonomousDatabaseWalletRequest request) {
+        LOG.trace("Called async generateAutonomousDatabaseWallet");
+        final GenerateAutonomousDatabaseWalletRequest interceptedRequest =
+                GenerateAutonomousDatabaseWalletConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GenerateAutonomousDatabaseWalletConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, GenerateAutonomousDatabaseWalletResponse>
+                transformer = GenerateAutonomousDatabaseWalletConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getGenerateAutonomousDatabaseWalletDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetAutonomousDataWarehouseResponse>
             getAutonomousDataWarehouse(
@@ -1870,6 +2328,31 @@ public class DatabaseAsyncClient implements DatabaseAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetAutonomousDataWarehouseResponse>
+            getAutonomousDataWarehouse(final GetAutonomousDataWarehouseRequest request) {
+        LOG.trace("Called async getAutonomousDataWarehouse");
+        final GetAutonomousDataWarehouseRequest interceptedRequest =
+                GetAutonomousDataWarehouseConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetAutonomousDataWarehouseConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, GetAutonomousDataWarehouseResponse>
+                transformer = GetAutonomousDataWarehouseConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetAutonomousDataWarehouseBackupResponse>
             getAutonomousDataWarehouseBackup(
@@ -1950,6 +2433,31 @@ public class DatabaseAsyncClient implements DatabaseAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetAutonomousDataWarehouseBackupResponse>
+            getAutonomousDataWarehouseBackup(final GetAutonomousDataWarehouseBackupRequest request) {
+        LOG.trace("Called async getAutonomousDataWarehouseBackup");
+        final GetAutonomousDataWarehouseBackupRequest interceptedRequest =
+                GetAutonomousDataWarehouseBackupConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetAutonomousDataWarehouseBackupConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, GetAutonomousDataWarehouseBackupResponse>
+                transformer = GetAutonomousDataWarehouseBackupConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetAutonomousDatabaseResponse> getAutonomousDatabase(
             final GetAutonomousDatabaseRequest request,
@@ -2026,6 +2534,31 @@ public class DatabaseAsyncClient implements DatabaseAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetAutonomousDatabaseResponse>
+            getAutonomousDatabase(final GetAutonomousDatabaseRequest request) {
+        LOG.trace("Called async getAutonomousDatabase");
+        final GetAutonomousDatabaseRequest interceptedRequest =
+                GetAutonomousDatabaseConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetAutonomousDatabaseConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, GetAutonomousDatabaseResponse>
+                transformer = GetAutonomousDatabaseConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetAutonomousDatabaseBackupResponse>
             getAutonomousDatabaseBackup(
@@ -2105,6 +2638,31 @@ public class DatabaseAsyncClient implements DatabaseAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetAutonomousDatabaseBackupResponse>
+            getAutonomousDatabaseBackup(final GetAutonomousDatabaseBackupRequest request) {
+        LOG.trace("Called async getAutonomousDatabaseBackup");
+        final GetAutonomousDatabaseBackupRequest interceptedRequest =
+                GetAutonomousDatabaseBackupConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetAutonomousDatabaseBackupConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, GetAutonomousDatabaseBackupResponse>
+                transformer = GetAutonomousDatabaseBackupConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetBackupResponse> getBackup(
             final GetBackupRequest request,
@@ -2177,6 +2735,29 @@ public class DatabaseAsyncClient implements DatabaseAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetBackupResponse> getBackup(
+            final GetBackupRequest request) {
+        LOG.trace("Called async getBackup");
+        final GetBackupRequest interceptedRequest = GetBackupConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetBackupConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetBackupResponse>
+                transformer = GetBackupConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetDataGuardAssociationResponse> getDataGuardAssociation(
             final GetDataGuardAssociationRequest request,
@@ -2253,6 +2834,31 @@ public class DatabaseAsyncClient implements DatabaseAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetDataGuardAssociationResponse>
+            getDataGuardAssociation(final GetDataGuardAssociationRequest request) {
+        LOG.trace("Called async getDataGuardAssociation");
+        final GetDataGuardAssociationRequest interceptedRequest =
+                GetDataGuardAssociationConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetDataGuardAssociationConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, GetDataGuardAssociationResponse>
+                transformer = GetDataGuardAssociationConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetDatabaseResponse> getDatabase(
             final GetDatabaseRequest request,
@@ -2326,6 +2932,30 @@ public class DatabaseAsyncClient implements DatabaseAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetDatabaseResponse> getDatabase(
+            final GetDatabaseRequest request) {
+        LOG.trace("Called async getDatabase");
+        final GetDatabaseRequest interceptedRequest =
+                GetDatabaseConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetDatabaseConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetDatabaseResponse>
+                transformer = GetDatabaseConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetDbHomeResponse> getDbHome(
             final GetDbHomeRequest request,
@@ -2398,6 +3028,29 @@ public class DatabaseAsyncClient implements DatabaseAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetDbHomeResponse> getDbHome(
+            final GetDbHomeRequest request) {
+        LOG.trace("Called async getDbHome");
+        final GetDbHomeRequest interceptedRequest = GetDbHomeConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetDbHomeConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetDbHomeResponse>
+                transformer = GetDbHomeConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetDbHomePatchResponse> getDbHomePatch(
             final GetDbHomePatchRequest request,
@@ -2472,6 +3125,30 @@ public class DatabaseAsyncClient implements DatabaseAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetDbHomePatchResponse> getDbHomePatch(
+            final GetDbHomePatchRequest request) {
+        LOG.trace("Called async getDbHomePatch");
+        final GetDbHomePatchRequest interceptedRequest =
+                GetDbHomePatchConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetDbHomePatchConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetDbHomePatchResponse>
+                transformer = GetDbHomePatchConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetDbHomePatchHistoryEntryResponse>
             getDbHomePatchHistoryEntry(
@@ -2550,6 +3227,31 @@ public class DatabaseAsyncClient implements DatabaseAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetDbHomePatchHistoryEntryResponse>
+            getDbHomePatchHistoryEntry(final GetDbHomePatchHistoryEntryRequest request) {
+        LOG.trace("Called async getDbHomePatchHistoryEntry");
+        final GetDbHomePatchHistoryEntryRequest interceptedRequest =
+                GetDbHomePatchHistoryEntryConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetDbHomePatchHistoryEntryConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, GetDbHomePatchHistoryEntryResponse>
+                transformer = GetDbHomePatchHistoryEntryConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetDbNodeResponse> getDbNode(
             final GetDbNodeRequest request,
@@ -2622,6 +3324,29 @@ public class DatabaseAsyncClient implements DatabaseAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetDbNodeResponse> getDbNode(
+            final GetDbNodeRequest request) {
+        LOG.trace("Called async getDbNode");
+        final GetDbNodeRequest interceptedRequest = GetDbNodeConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetDbNodeConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetDbNodeResponse>
+                transformer = GetDbNodeConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetDbSystemResponse> getDbSystem(
             final GetDbSystemRequest request,
@@ -2695,6 +3420,30 @@ public class DatabaseAsyncClient implements DatabaseAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetDbSystemResponse> getDbSystem(
+            final GetDbSystemRequest request) {
+        LOG.trace("Called async getDbSystem");
+        final GetDbSystemRequest interceptedRequest =
+                GetDbSystemConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetDbSystemConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetDbSystemResponse>
+                transformer = GetDbSystemConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetDbSystemPatchResponse> getDbSystemPatch(
             final GetDbSystemPatchRequest request,
@@ -2769,6 +3518,30 @@ public class DatabaseAsyncClient implements DatabaseAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetDbSystemPatchResponse> getDbSystemPatch(
+            final GetDbSystemPatchRequest request) {
+        LOG.trace("Called async getDbSystemPatch");
+        final GetDbSystemPatchRequest interceptedRequest =
+                GetDbSystemPatchConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetDbSystemPatchConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetDbSystemPatchResponse>
+                transformer = GetDbSystemPatchConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetDbSystemPatchHistoryEntryResponse>
             getDbSystemPatchHistoryEntry(
@@ -2848,6 +3621,31 @@ public class DatabaseAsyncClient implements DatabaseAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetDbSystemPatchHistoryEntryResponse>
+            getDbSystemPatchHistoryEntry(final GetDbSystemPatchHistoryEntryRequest request) {
+        LOG.trace("Called async getDbSystemPatchHistoryEntry");
+        final GetDbSystemPatchHistoryEntryRequest interceptedRequest =
+                GetDbSystemPatchHistoryEntryConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetDbSystemPatchHistoryEntryConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, GetDbSystemPatchHistoryEntryResponse>
+                transformer = GetDbSystemPatchHistoryEntryConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetExadataIormConfigResponse> getExadataIormConfig(
             final GetExadataIormConfigRequest request,
@@ -2924,6 +3722,31 @@ public class DatabaseAsyncClient implements DatabaseAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetExadataIormConfigResponse> getExadataIormConfig(
+            final GetExadataIormConfigRequest request) {
+        LOG.trace("Called async getExadataIormConfig");
+        final GetExadataIormConfigRequest interceptedRequest =
+                GetExadataIormConfigConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetExadataIormConfigConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, GetExadataIormConfigResponse>
+                transformer = GetExadataIormConfigConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetExternalBackupJobResponse> getExternalBackupJob(
             final GetExternalBackupJobRequest request,
@@ -3000,6 +3823,31 @@ public class DatabaseAsyncClient implements DatabaseAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetExternalBackupJobResponse> getExternalBackupJob(
+            final GetExternalBackupJobRequest request) {
+        LOG.trace("Called async getExternalBackupJob");
+        final GetExternalBackupJobRequest interceptedRequest =
+                GetExternalBackupJobConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetExternalBackupJobConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, GetExternalBackupJobResponse>
+                transformer = GetExternalBackupJobConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<LaunchDbSystemResponse> launchDbSystem(
             final LaunchDbSystemRequest request,
@@ -3089,6 +3937,33 @@ public class DatabaseAsyncClient implements DatabaseAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<LaunchDbSystemResponse> launchDbSystem(
+            final LaunchDbSystemRequest request) {
+        LOG.trace("Called async launchDbSystem");
+        final LaunchDbSystemRequest interceptedRequest =
+                LaunchDbSystemConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                LaunchDbSystemConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, LaunchDbSystemResponse>
+                transformer = LaunchDbSystemConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getLaunchDbSystemDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListAutonomousDataWarehouseBackupsResponse>
             listAutonomousDataWarehouseBackups(
@@ -3169,6 +4044,31 @@ public class DatabaseAsyncClient implements DatabaseAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListAutonomousDataWarehouseBackupsResponse>
+            listAutonomousDataWarehouseBackups(final ListAutonomousDataWarehouseBackupsRequest request) {
+        LOG.trace("Called async listAutonomousDataWarehouseBackups");
+        final ListAutonomousDataWarehouseBackupsRequest interceptedRequest =
+                ListAutonomousDataWarehouseBackupsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListAutonomousDataWarehouseBackupsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, ListAutonomousDataWarehouseBackupsResponse>
+                transformer = ListAutonomousDataWarehouseBackupsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListAutonomousDataWarehousesResponse>
             listAutonomousDataWarehouses(
@@ -3248,6 +4148,31 @@ public class DatabaseAsyncClient implements DatabaseAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListAutonomousDataWarehousesResponse>
+            listAutonomousDataWarehouses(final ListAutonomousDataWarehousesRequest request) {
+        LOG.trace("Called async listAutonomousDataWarehouses");
+        final ListAutonomousDataWarehousesRequest interceptedRequest =
+                ListAutonomousDataWarehousesConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListAutonomousDataWarehousesConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, ListAutonomousDataWarehousesResponse>
+                transformer = ListAutonomousDataWarehousesConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListAutonomousDatabaseBackupsResponse>
             listAutonomousDatabaseBackups(
@@ -3327,6 +4252,31 @@ public class DatabaseAsyncClient implements DatabaseAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListAutonomousDatabaseBackupsResponse>
+            listAutonomousDatabaseBackups(final ListAutonomousDatabaseBackupsRequest request) {
+        LOG.trace("Called async listAutonomousDatabaseBackups");
+        final ListAutonomousDatabaseBackupsRequest interceptedRequest =
+                ListAutonomousDatabaseBackupsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListAutonomousDatabaseBackupsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, ListAutonomousDatabaseBackupsResponse>
+                transformer = ListAutonomousDatabaseBackupsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListAutonomousDatabasesResponse> listAutonomousDatabases(
             final ListAutonomousDatabasesRequest request,
@@ -3403,6 +4353,31 @@ public class DatabaseAsyncClient implements DatabaseAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListAutonomousDatabasesResponse>
+            listAutonomousDatabases(final ListAutonomousDatabasesRequest request) {
+        LOG.trace("Called async listAutonomousDatabases");
+        final ListAutonomousDatabasesRequest interceptedRequest =
+                ListAutonomousDatabasesConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListAutonomousDatabasesConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, ListAutonomousDatabasesResponse>
+                transformer = ListAutonomousDatabasesConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListBackupsResponse> listBackups(
             final ListBackupsRequest request,
@@ -3476,6 +4451,30 @@ public class DatabaseAsyncClient implements DatabaseAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListBackupsResponse> listBackups(
+            final ListBackupsRequest request) {
+        LOG.trace("Called async listBackups");
+        final ListBackupsRequest interceptedRequest =
+                ListBackupsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListBackupsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListBackupsResponse>
+                transformer = ListBackupsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListDataGuardAssociationsResponse> listDataGuardAssociations(
             final ListDataGuardAssociationsRequest request,
@@ -3552,6 +4551,31 @@ public class DatabaseAsyncClient implements DatabaseAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListDataGuardAssociationsResponse>
+            listDataGuardAssociations(final ListDataGuardAssociationsRequest request) {
+        LOG.trace("Called async listDataGuardAssociations");
+        final ListDataGuardAssociationsRequest interceptedRequest =
+                ListDataGuardAssociationsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListDataGuardAssociationsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, ListDataGuardAssociationsResponse>
+                transformer = ListDataGuardAssociationsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListDatabasesResponse> listDatabases(
             final ListDatabasesRequest request,
@@ -3625,6 +4649,30 @@ public class DatabaseAsyncClient implements DatabaseAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListDatabasesResponse> listDatabases(
+            final ListDatabasesRequest request) {
+        LOG.trace("Called async listDatabases");
+        final ListDatabasesRequest interceptedRequest =
+                ListDatabasesConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListDatabasesConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListDatabasesResponse>
+                transformer = ListDatabasesConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListDbHomePatchHistoryEntriesResponse>
             listDbHomePatchHistoryEntries(
@@ -3704,6 +4752,31 @@ public class DatabaseAsyncClient implements DatabaseAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListDbHomePatchHistoryEntriesResponse>
+            listDbHomePatchHistoryEntries(final ListDbHomePatchHistoryEntriesRequest request) {
+        LOG.trace("Called async listDbHomePatchHistoryEntries");
+        final ListDbHomePatchHistoryEntriesRequest interceptedRequest =
+                ListDbHomePatchHistoryEntriesConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListDbHomePatchHistoryEntriesConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, ListDbHomePatchHistoryEntriesResponse>
+                transformer = ListDbHomePatchHistoryEntriesConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListDbHomePatchesResponse> listDbHomePatches(
             final ListDbHomePatchesRequest request,
@@ -3778,6 +4851,30 @@ public class DatabaseAsyncClient implements DatabaseAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListDbHomePatchesResponse> listDbHomePatches(
+            final ListDbHomePatchesRequest request) {
+        LOG.trace("Called async listDbHomePatches");
+        final ListDbHomePatchesRequest interceptedRequest =
+                ListDbHomePatchesConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListDbHomePatchesConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListDbHomePatchesResponse>
+                transformer = ListDbHomePatchesConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListDbHomesResponse> listDbHomes(
             final ListDbHomesRequest request,
@@ -3851,6 +4948,30 @@ public class DatabaseAsyncClient implements DatabaseAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListDbHomesResponse> listDbHomes(
+            final ListDbHomesRequest request) {
+        LOG.trace("Called async listDbHomes");
+        final ListDbHomesRequest interceptedRequest =
+                ListDbHomesConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListDbHomesConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListDbHomesResponse>
+                transformer = ListDbHomesConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListDbNodesResponse> listDbNodes(
             final ListDbNodesRequest request,
@@ -3924,6 +5045,30 @@ public class DatabaseAsyncClient implements DatabaseAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListDbNodesResponse> listDbNodes(
+            final ListDbNodesRequest request) {
+        LOG.trace("Called async listDbNodes");
+        final ListDbNodesRequest interceptedRequest =
+                ListDbNodesConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListDbNodesConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListDbNodesResponse>
+                transformer = ListDbNodesConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListDbSystemPatchHistoryEntriesResponse>
             listDbSystemPatchHistoryEntries(
@@ -4004,6 +5149,31 @@ public class DatabaseAsyncClient implements DatabaseAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListDbSystemPatchHistoryEntriesResponse>
+            listDbSystemPatchHistoryEntries(final ListDbSystemPatchHistoryEntriesRequest request) {
+        LOG.trace("Called async listDbSystemPatchHistoryEntries");
+        final ListDbSystemPatchHistoryEntriesRequest interceptedRequest =
+                ListDbSystemPatchHistoryEntriesConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListDbSystemPatchHistoryEntriesConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, ListDbSystemPatchHistoryEntriesResponse>
+                transformer = ListDbSystemPatchHistoryEntriesConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListDbSystemPatchesResponse> listDbSystemPatches(
             final ListDbSystemPatchesRequest request,
@@ -4080,6 +5250,31 @@ public class DatabaseAsyncClient implements DatabaseAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListDbSystemPatchesResponse> listDbSystemPatches(
+            final ListDbSystemPatchesRequest request) {
+        LOG.trace("Called async listDbSystemPatches");
+        final ListDbSystemPatchesRequest interceptedRequest =
+                ListDbSystemPatchesConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListDbSystemPatchesConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, ListDbSystemPatchesResponse>
+                transformer = ListDbSystemPatchesConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListDbSystemShapesResponse> listDbSystemShapes(
             final ListDbSystemShapesRequest request,
@@ -4154,6 +5349,30 @@ public class DatabaseAsyncClient implements DatabaseAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListDbSystemShapesResponse> listDbSystemShapes(
+            final ListDbSystemShapesRequest request) {
+        LOG.trace("Called async listDbSystemShapes");
+        final ListDbSystemShapesRequest interceptedRequest =
+                ListDbSystemShapesConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListDbSystemShapesConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListDbSystemShapesResponse>
+                transformer = ListDbSystemShapesConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListDbSystemsResponse> listDbSystems(
             final ListDbSystemsRequest request,
@@ -4227,6 +5446,30 @@ public class DatabaseAsyncClient implements DatabaseAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListDbSystemsResponse> listDbSystems(
+            final ListDbSystemsRequest request) {
+        LOG.trace("Called async listDbSystems");
+        final ListDbSystemsRequest interceptedRequest =
+                ListDbSystemsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListDbSystemsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListDbSystemsResponse>
+                transformer = ListDbSystemsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListDbVersionsResponse> listDbVersions(
             final ListDbVersionsRequest request,
@@ -4301,6 +5544,30 @@ public class DatabaseAsyncClient implements DatabaseAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListDbVersionsResponse> listDbVersions(
+            final ListDbVersionsRequest request) {
+        LOG.trace("Called async listDbVersions");
+        final ListDbVersionsRequest interceptedRequest =
+                ListDbVersionsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListDbVersionsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListDbVersionsResponse>
+                transformer = ListDbVersionsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ReinstateDataGuardAssociationResponse>
             reinstateDataGuardAssociation(
@@ -4395,6 +5662,34 @@ public class DatabaseAsyncClient implements DatabaseAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ReinstateDataGuardAssociationResponse>
+            reinstateDataGuardAssociation(final ReinstateDataGuardAssociationRequest request) {
+        LOG.trace("Called async reinstateDataGuardAssociation");
+        final ReinstateDataGuardAssociationRequest interceptedRequest =
+                ReinstateDataGuardAssociationConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ReinstateDataGuardAssociationConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, ReinstateDataGuardAssociationResponse>
+                transformer = ReinstateDataGuardAssociationConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getReinstateDataGuardAssociationDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<RestoreAutonomousDataWarehouseResponse>
             restoreAutonomousDataWarehouse(
@@ -4490,6 +5785,34 @@ public class DatabaseAsyncClient implements DatabaseAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<RestoreAutonomousDataWarehouseResponse>
+            restoreAutonomousDataWarehouse(final RestoreAutonomousDataWarehouseRequest request) {
+        LOG.trace("Called async restoreAutonomousDataWarehouse");
+        final RestoreAutonomousDataWarehouseRequest interceptedRequest =
+                RestoreAutonomousDataWarehouseConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                RestoreAutonomousDataWarehouseConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, RestoreAutonomousDataWarehouseResponse>
+                transformer = RestoreAutonomousDataWarehouseConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getRestoreAutonomousDataWarehouseDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<RestoreAutonomousDatabaseResponse> restoreAutonomousDatabase(
             final RestoreAutonomousDatabaseRequest request,
@@ -4581,6 +5904,34 @@ public class DatabaseAsyncClient implements DatabaseAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<RestoreAutonomousDatabaseResponse>
+            restoreAutonomousDatabase(final RestoreAutonomousDatabaseRequest request) {
+        LOG.trace("Called async restoreAutonomousDatabase");
+        final RestoreAutonomousDatabaseRequest interceptedRequest =
+                RestoreAutonomousDatabaseConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                RestoreAutonomousDatabaseConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, RestoreAutonomousDatabaseResponse>
+                transformer = RestoreAutonomousDatabaseConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getRestoreAutonomousDatabaseDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<RestoreDatabaseResponse> restoreDatabase(
             final RestoreDatabaseRequest request,
@@ -4670,6 +6021,33 @@ public class DatabaseAsyncClient implements DatabaseAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<RestoreDatabaseResponse> restoreDatabase(
+            final RestoreDatabaseRequest request) {
+        LOG.trace("Called async restoreDatabase");
+        final RestoreDatabaseRequest interceptedRequest =
+                RestoreDatabaseConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                RestoreDatabaseConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, RestoreDatabaseResponse>
+                transformer = RestoreDatabaseConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getRestoreDatabaseDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<StartAutonomousDataWarehouseResponse>
             startAutonomousDataWarehouse(
@@ -4749,6 +6127,31 @@ public class DatabaseAsyncClient implements DatabaseAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<StartAutonomousDataWarehouseResponse>
+            startAutonomousDataWarehouse(final StartAutonomousDataWarehouseRequest request) {
+        LOG.trace("Called async startAutonomousDataWarehouse");
+        final StartAutonomousDataWarehouseRequest interceptedRequest =
+                StartAutonomousDataWarehouseConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                StartAutonomousDataWarehouseConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, StartAutonomousDataWarehouseResponse>
+                transformer = StartAutonomousDataWarehouseConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<StartAutonomousDatabaseResponse> startAutonomousDatabase(
             final StartAutonomousDatabaseRequest request,
@@ -4825,6 +6228,31 @@ public class DatabaseAsyncClient implements DatabaseAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<StartAutonomousDatabaseResponse>
+            startAutonomousDatabase(final StartAutonomousDatabaseRequest request) {
+        LOG.trace("Called async startAutonomousDatabase");
+        final StartAutonomousDatabaseRequest interceptedRequest =
+                StartAutonomousDatabaseConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                StartAutonomousDatabaseConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, StartAutonomousDatabaseResponse>
+                transformer = StartAutonomousDatabaseConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<StopAutonomousDataWarehouseResponse>
             stopAutonomousDataWarehouse(
@@ -4904,6 +6332,31 @@ public class DatabaseAsyncClient implements DatabaseAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<StopAutonomousDataWarehouseResponse>
+            stopAutonomousDataWarehouse(final StopAutonomousDataWarehouseRequest request) {
+        LOG.trace("Called async stopAutonomousDataWarehouse");
+        final StopAutonomousDataWarehouseRequest interceptedRequest =
+                StopAutonomousDataWarehouseConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                StopAutonomousDataWarehouseConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, StopAutonomousDataWarehouseResponse>
+                transformer = StopAutonomousDataWarehouseConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<StopAutonomousDatabaseResponse> stopAutonomousDatabase(
             final StopAutonomousDatabaseRequest request,
@@ -4980,6 +6433,31 @@ public class DatabaseAsyncClient implements DatabaseAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<StopAutonomousDatabaseResponse>
+            stopAutonomousDatabase(final StopAutonomousDatabaseRequest request) {
+        LOG.trace("Called async stopAutonomousDatabase");
+        final StopAutonomousDatabaseRequest interceptedRequest =
+                StopAutonomousDatabaseConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                StopAutonomousDatabaseConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, StopAutonomousDatabaseResponse>
+                transformer = StopAutonomousDatabaseConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<SwitchoverDataGuardAssociationResponse>
             switchoverDataGuardAssociation(
@@ -5075,6 +6553,34 @@ public class DatabaseAsyncClient implements DatabaseAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<SwitchoverDataGuardAssociationResponse>
+            switchoverDataGuardAssociation(final SwitchoverDataGuardAssociationRequest request) {
+        LOG.trace("Called async switchoverDataGuardAssociation");
+        final SwitchoverDataGuardAssociationRequest interceptedRequest =
+                SwitchoverDataGuardAssociationConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                SwitchoverDataGuardAssociationConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, SwitchoverDataGuardAssociationResponse>
+                transformer = SwitchoverDataGuardAssociationConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getSwitchoverDataGuardAssociationDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<TerminateDbSystemResponse> terminateDbSystem(
             final TerminateDbSystemRequest request,
@@ -5149,6 +6655,30 @@ public class DatabaseAsyncClient implements DatabaseAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<TerminateDbSystemResponse> terminateDbSystem(
+            final TerminateDbSystemRequest request) {
+        LOG.trace("Called async terminateDbSystem");
+        final TerminateDbSystemRequest interceptedRequest =
+                TerminateDbSystemConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                TerminateDbSystemConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, TerminateDbSystemResponse>
+                transformer = TerminateDbSystemConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateAutonomousDataWarehouseResponse>
             updateAutonomousDataWarehouse(
@@ -5243,6 +6773,34 @@ public class DatabaseAsyncClient implements DatabaseAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateAutonomousDataWarehouseResponse>
+            updateAutonomousDataWarehouse(final UpdateAutonomousDataWarehouseRequest request) {
+        LOG.trace("Called async updateAutonomousDataWarehouse");
+        final UpdateAutonomousDataWarehouseRequest interceptedRequest =
+                UpdateAutonomousDataWarehouseConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateAutonomousDataWarehouseConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, UpdateAutonomousDataWarehouseResponse>
+                transformer = UpdateAutonomousDataWarehouseConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdateAutonomousDataWarehouseDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateAutonomousDatabaseResponse> updateAutonomousDatabase(
             final UpdateAutonomousDatabaseRequest request,
@@ -5334,6 +6892,34 @@ public class DatabaseAsyncClient implements DatabaseAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateAutonomousDatabaseResponse>
+            updateAutonomousDatabase(final UpdateAutonomousDatabaseRequest request) {
+        LOG.trace("Called async updateAutonomousDatabase");
+        final UpdateAutonomousDatabaseRequest interceptedRequest =
+                UpdateAutonomousDatabaseConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateAutonomousDatabaseConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, UpdateAutonomousDatabaseResponse>
+                transformer = UpdateAutonomousDatabaseConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdateAutonomousDatabaseDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateDatabaseResponse> updateDatabase(
             final UpdateDatabaseRequest request,
@@ -5423,6 +7009,33 @@ public class DatabaseAsyncClient implements DatabaseAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateDatabaseResponse> updateDatabase(
+            final UpdateDatabaseRequest request) {
+        LOG.trace("Called async updateDatabase");
+        final UpdateDatabaseRequest interceptedRequest =
+                UpdateDatabaseConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateDatabaseConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, UpdateDatabaseResponse>
+                transformer = UpdateDatabaseConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdateDatabaseDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateDbHomeResponse> updateDbHome(
             final UpdateDbHomeRequest request,
@@ -5511,6 +7124,33 @@ public class DatabaseAsyncClient implements DatabaseAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateDbHomeResponse> updateDbHome(
+            final UpdateDbHomeRequest request) {
+        LOG.trace("Called async updateDbHome");
+        final UpdateDbHomeRequest interceptedRequest =
+                UpdateDbHomeConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateDbHomeConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, UpdateDbHomeResponse>
+                transformer = UpdateDbHomeConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdateDbHomeDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateDbSystemResponse> updateDbSystem(
             final UpdateDbSystemRequest request,
@@ -5600,6 +7240,33 @@ public class DatabaseAsyncClient implements DatabaseAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateDbSystemResponse> updateDbSystem(
+            final UpdateDbSystemRequest request) {
+        LOG.trace("Called async updateDbSystem");
+        final UpdateDbSystemRequest interceptedRequest =
+                UpdateDbSystemConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateDbSystemConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, UpdateDbSystemResponse>
+                transformer = UpdateDbSystemConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdateDbSystemDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateExadataIormConfigResponse> updateExadataIormConfig(
             final UpdateExadataIormConfigRequest request,
@@ -5690,4 +7357,32 @@ public class DatabaseAsyncClient implements DatabaseAsync {
                     responseFuture, transformer);
         }
     }
+
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateExadataIormConfigResponse>
+            updateExadataIormConfig(final UpdateExadataIormConfigRequest request) {
+        LOG.trace("Called async updateExadataIormConfig");
+        final UpdateExadataIormConfigRequest interceptedRequest =
+                UpdateExadataIormConfigConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateExadataIormConfigConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, UpdateExadataIormConfigResponse>
+                transformer = UpdateExadataIormConfigConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getExadataIormConfigUpdateDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
 }
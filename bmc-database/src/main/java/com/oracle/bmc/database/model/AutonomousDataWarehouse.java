@@ -163,7 +163,8 @@ public class AutonomousDataWarehouse {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public AutonomousDataWarehouse build() {
             AutonomousDataWarehouse __instance__ =
@@ -418,6 +419,25 @@ public class AutonomousDataWarehouse {
     @com.fasterxml.jackson.annotation.JsonProperty("dbVersion")
     String dbVersion;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "id",
+                    "compartmentId",
+                    "lifecycleState",
+                    "lifecycleDetails",
+                    "dbName",
+                    "cpuCoreCount",
+                    "dataStorageSizeInTBs",
+                    "timeCreated",
+                    "displayName",
+                    "serviceConsoleUrl",
+                    "connectionStrings",
+                    "licenseModel",
+                    "freeformTags",
+                    "definedTags",
+                    "dbVersion");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
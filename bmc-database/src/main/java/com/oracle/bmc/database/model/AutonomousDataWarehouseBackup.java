@@ -116,7 +116,8 @@ public class AutonomousDataWarehouseBackup {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public AutonomousDataWarehouseBackup build() {
             AutonomousDataWarehouseBackup __instance__ =
@@ -313,6 +314,20 @@ public class AutonomousDataWarehouseBackup {
     @com.fasterxml.jackson.annotation.JsonProperty("lifecycleState")
     LifecycleState lifecycleState;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "id",
+                    "compartmentId",
+                    "autonomousDataWarehouseId",
+                    "displayName",
+                    "type",
+                    "isAutomatic",
+                    "timeStarted",
+                    "timeEnded",
+                    "lifecycleDetails",
+                    "lifecycleState");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
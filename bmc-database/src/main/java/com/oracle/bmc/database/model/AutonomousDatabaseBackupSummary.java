@@ -119,7 +119,8 @@ public class AutonomousDatabaseBackupSummary {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public AutonomousDatabaseBackupSummary build() {
             AutonomousDatabaseBackupSummary __instance__ =
@@ -316,6 +317,20 @@ public class AutonomousDatabaseBackupSummary {
     @com.fasterxml.jackson.annotation.JsonProperty("lifecycleState")
     LifecycleState lifecycleState;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "id",
+                    "compartmentId",
+                    "autonomousDatabaseId",
+                    "displayName",
+                    "type",
+                    "isAutomatic",
+                    "timeStarted",
+                    "timeEnded",
+                    "lifecycleDetails",
+                    "lifecycleState");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -62,7 +62,8 @@ public class AutonomousDatabaseConnectionStrings {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public AutonomousDatabaseConnectionStrings build() {
             AutonomousDatabaseConnectionStrings __instance__ =
@@ -118,6 +119,11 @@ public class AutonomousDatabaseConnectionStrings {
     @com.fasterxml.jackson.annotation.JsonProperty("allConnectionStrings")
     java.util.Map<String, String> allConnectionStrings;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "high", "medium", "low", "allConnectionStrings");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -182,7 +182,8 @@ public class AutonomousDatabaseSummary {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public AutonomousDatabaseSummary build() {
             AutonomousDatabaseSummary __instance__ =
@@ -499,6 +500,27 @@ public class AutonomousDatabaseSummary {
     @com.fasterxml.jackson.annotation.JsonProperty("dbWorkload")
     DbWorkload dbWorkload;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "id",
+                    "compartmentId",
+                    "lifecycleState",
+                    "lifecycleDetails",
+                    "dbName",
+                    "cpuCoreCount",
+                    "dataStorageSizeInTBs",
+                    "timeCreated",
+                    "displayName",
+                    "serviceConsoleUrl",
+                    "connectionStrings",
+                    "licenseModel",
+                    "usedDataStorageSizeInTBs",
+                    "freeformTags",
+                    "definedTags",
+                    "dbVersion",
+                    "dbWorkload");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -131,7 +131,8 @@ public class Backup {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public Backup build() {
             Backup __instance__ =
@@ -395,6 +396,22 @@ public class Backup {
     @com.fasterxml.jackson.annotation.JsonProperty("databaseSizeInGBs")
     Double databaseSizeInGBs;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "id",
+                    "compartmentId",
+                    "databaseId",
+                    "displayName",
+                    "type",
+                    "timeStarted",
+                    "timeEnded",
+                    "lifecycleDetails",
+                    "availabilityDomain",
+                    "lifecycleState",
+                    "databaseEdition",
+                    "databaseSizeInGBs");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
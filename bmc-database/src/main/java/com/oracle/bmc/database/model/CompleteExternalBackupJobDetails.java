@@ -79,7 +79,8 @@ public class CompleteExternalBackupJobDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public CompleteExternalBackupJobDetails build() {
             CompleteExternalBackupJobDetails __instance__ =
@@ -152,6 +153,16 @@ public class CompleteExternalBackupJobDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("redoSize")
     Long redoSize;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "tdeWalletPath",
+                    "cfBackupHandle",
+                    "spfBackupHandle",
+                    "sqlPatches",
+                    "dataSize",
+                    "redoSize");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
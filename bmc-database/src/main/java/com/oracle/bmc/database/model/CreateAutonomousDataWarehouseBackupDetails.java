@@ -46,7 +46,8 @@ public class CreateAutonomousDataWarehouseBackupDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public CreateAutonomousDataWarehouseBackupDetails build() {
             CreateAutonomousDataWarehouseBackupDetails __instance__ =
@@ -86,6 +87,11 @@ public class CreateAutonomousDataWarehouseBackupDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("autonomousDataWarehouseId")
     String autonomousDataWarehouseId;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "displayName", "autonomousDataWarehouseId");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -46,7 +46,8 @@ public class CreateAutonomousDatabaseBackupDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public CreateAutonomousDatabaseBackupDetails build() {
             CreateAutonomousDatabaseBackupDetails __instance__ =
@@ -85,6 +86,11 @@ public class CreateAutonomousDatabaseBackupDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("autonomousDatabaseId")
     String autonomousDatabaseId;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "displayName", "autonomousDatabaseId");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
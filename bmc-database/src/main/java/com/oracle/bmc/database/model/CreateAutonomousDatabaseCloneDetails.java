@@ -141,7 +141,8 @@ public class CreateAutonomousDatabaseCloneDetails extends CreateAutonomousDataba
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public CreateAutonomousDatabaseCloneDetails build() {
             CreateAutonomousDatabaseCloneDetails __instance__ =
@@ -265,6 +266,22 @@ public class CreateAutonomousDatabaseCloneDetails extends CreateAutonomousDataba
     @com.fasterxml.jackson.annotation.JsonProperty("cloneType")
     CloneType cloneType;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "compartmentId",
+                    "dbName",
+                    "cpuCoreCount",
+                    "dbWorkload",
+                    "dataStorageSizeInTBs",
+                    "adminPassword",
+                    "displayName",
+                    "licenseModel",
+                    "freeformTags",
+                    "definedTags",
+                    "sourceId",
+                    "cloneType");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
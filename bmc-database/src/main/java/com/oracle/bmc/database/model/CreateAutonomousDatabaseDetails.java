@@ -123,7 +123,8 @@ public class CreateAutonomousDatabaseDetails extends CreateAutonomousDatabaseBas
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public CreateAutonomousDatabaseDetails build() {
             CreateAutonomousDatabaseDetails __instance__ =
@@ -193,6 +194,20 @@ public class CreateAutonomousDatabaseDetails extends CreateAutonomousDatabaseBas
                 definedTags);
     }
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "compartmentId",
+                    "dbName",
+                    "cpuCoreCount",
+                    "dbWorkload",
+                    "dataStorageSizeInTBs",
+                    "adminPassword",
+                    "displayName",
+                    "licenseModel",
+                    "freeformTags",
+                    "definedTags");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
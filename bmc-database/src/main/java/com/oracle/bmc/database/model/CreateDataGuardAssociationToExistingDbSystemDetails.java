@@ -71,7 +71,8 @@ public class CreateDataGuardAssociationToExistingDbSystemDetails
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public CreateDataGuardAssociationToExistingDbSystemDetails build() {
             CreateDataGuardAssociationToExistingDbSystemDetails __instance__ =
@@ -119,6 +120,11 @@ public class CreateDataGuardAssociationToExistingDbSystemDetails
     @com.fasterxml.jackson.annotation.JsonProperty("peerDbSystemId")
     String peerDbSystemId;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "databaseAdminPassword", "protectionMode", "transportType", "peerDbSystemId");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -98,7 +98,8 @@ public class CreateDataGuardAssociationWithNewDbSystemDetails
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public CreateDataGuardAssociationWithNewDbSystemDetails build() {
             CreateDataGuardAssociationWithNewDbSystemDetails __instance__ =
@@ -184,6 +185,17 @@ public class CreateDataGuardAssociationWithNewDbSystemDetails
     @com.fasterxml.jackson.annotation.JsonProperty("hostname")
     String hostname;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "databaseAdminPassword",
+                    "protectionMode",
+                    "transportType",
+                    "displayName",
+                    "availabilityDomain",
+                    "subnetId",
+                    "hostname");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -46,7 +46,8 @@ public class CreateDbHomeFromBackupDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public CreateDbHomeFromBackupDetails build() {
             CreateDbHomeFromBackupDetails __instance__ =
@@ -80,6 +81,10 @@ public class CreateDbHomeFromBackupDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("database")
     CreateDatabaseFromBackupDetails database;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of("displayName", "database");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -67,7 +67,8 @@ public class CreateDbHomeWithDbSystemIdDetails extends CreateDbHomeWithDbSystemI
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public CreateDbHomeWithDbSystemIdDetails build() {
             CreateDbHomeWithDbSystemIdDetails __instance__ =
@@ -117,6 +118,11 @@ public class CreateDbHomeWithDbSystemIdDetails extends CreateDbHomeWithDbSystemI
     @com.fasterxml.jackson.annotation.JsonProperty("database")
     CreateDatabaseDetails database;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "dbSystemId", "displayName", "dbVersion", "database");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -58,7 +58,8 @@ public class CreateDbHomeWithDbSystemIdFromBackupDetails extends CreateDbHomeWit
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public CreateDbHomeWithDbSystemIdFromBackupDetails build() {
             CreateDbHomeWithDbSystemIdFromBackupDetails __instance__ =
@@ -97,6 +98,11 @@ public class CreateDbHomeWithDbSystemIdFromBackupDetails extends CreateDbHomeWit
     @com.fasterxml.jackson.annotation.JsonProperty("database")
     CreateDatabaseFromBackupDetails database;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "dbSystemId", "displayName", "database");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -133,7 +133,8 @@ public class CreateExternalBackupJobDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public CreateExternalBackupJobDetails build() {
             CreateExternalBackupJobDetails __instance__ =
@@ -328,6 +329,22 @@ public class CreateExternalBackupJobDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("databaseEdition")
     DatabaseEdition databaseEdition;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "availabilityDomain",
+                    "compartmentId",
+                    "displayName",
+                    "dbVersion",
+                    "dbName",
+                    "dbUniqueName",
+                    "pdbName",
+                    "externalDatabaseIdentifier",
+                    "characterSet",
+                    "ncharacterSet",
+                    "databaseMode",
+                    "databaseEdition");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -160,7 +160,8 @@ public class DataGuardAssociation {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public DataGuardAssociation build() {
             DataGuardAssociation __instance__ =
@@ -560,6 +561,25 @@ public class DataGuardAssociation {
     @com.fasterxml.jackson.annotation.JsonProperty("timeCreated")
     java.util.Date timeCreated;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "id",
+                    "databaseId",
+                    "role",
+                    "lifecycleState",
+                    "lifecycleDetails",
+                    "peerDbSystemId",
+                    "peerDbHomeId",
+                    "peerDatabaseId",
+                    "peerDataGuardAssociationId",
+                    "peerRole",
+                    "applyLag",
+                    "applyRate",
+                    "protectionMode",
+                    "transportType",
+                    "timeCreated");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
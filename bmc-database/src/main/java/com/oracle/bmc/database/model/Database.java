@@ -168,7 +168,8 @@ public class Database {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public Database build() {
             Database __instance__ =
@@ -378,6 +379,26 @@ public class Database {
     @com.fasterxml.jackson.annotation.JsonProperty("connectionStrings")
     DatabaseConnectionStrings connectionStrings;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "id",
+                    "compartmentId",
+                    "characterSet",
+                    "ncharacterSet",
+                    "dbHomeId",
+                    "dbName",
+                    "pdbName",
+                    "dbWorkload",
+                    "dbUniqueName",
+                    "lifecycleDetails",
+                    "lifecycleState",
+                    "timeCreated",
+                    "dbBackupConfig",
+                    "freeformTags",
+                    "definedTags",
+                    "connectionStrings");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -173,7 +173,8 @@ public class DatabaseSummary {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public DatabaseSummary build() {
             DatabaseSummary __instance__ =
@@ -383,6 +384,26 @@ public class DatabaseSummary {
     @com.fasterxml.jackson.annotation.JsonProperty("connectionStrings")
     DatabaseConnectionStrings connectionStrings;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "id",
+                    "compartmentId",
+                    "characterSet",
+                    "ncharacterSet",
+                    "dbHomeId",
+                    "dbName",
+                    "pdbName",
+                    "dbWorkload",
+                    "dbUniqueName",
+                    "lifecycleDetails",
+                    "lifecycleState",
+                    "timeCreated",
+                    "dbBackupConfig",
+                    "freeformTags",
+                    "definedTags",
+                    "connectionStrings");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -51,7 +51,8 @@ public class DbIormConfig {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public DbIormConfig build() {
             DbIormConfig __instance__ = new DbIormConfig(dbName, share, flashCacheLimit);
@@ -99,6 +100,11 @@ public class DbIormConfig {
     @com.fasterxml.jackson.annotation.JsonProperty("flashCacheLimit")
     String flashCacheLimit;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "dbName", "share", "flashCacheLimit");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
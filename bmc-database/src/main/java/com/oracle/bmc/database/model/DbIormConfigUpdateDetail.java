@@ -44,7 +44,8 @@ public class DbIormConfigUpdateDetail {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public DbIormConfigUpdateDetail build() {
             DbIormConfigUpdateDetail __instance__ = new DbIormConfigUpdateDetail(dbName, share);
@@ -82,6 +83,10 @@ public class DbIormConfigUpdateDetail {
     @com.fasterxml.jackson.annotation.JsonProperty("share")
     Integer share;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of("dbName", "share");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
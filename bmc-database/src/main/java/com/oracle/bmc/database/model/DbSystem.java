@@ -330,7 +330,8 @@ public class DbSystem {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public DbSystem build() {
             DbSystem __instance__ =
@@ -861,6 +862,44 @@ public class DbSystem {
     @com.fasterxml.jackson.annotation.JsonProperty("definedTags")
     java.util.Map<String, java.util.Map<String, Object>> definedTags;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "iormConfigCache",
+                    "id",
+                    "compartmentId",
+                    "displayName",
+                    "availabilityDomain",
+                    "faultDomains",
+                    "subnetId",
+                    "backupSubnetId",
+                    "shape",
+                    "sshPublicKeys",
+                    "timeZone",
+                    "hostname",
+                    "domain",
+                    "version",
+                    "cpuCoreCount",
+                    "clusterName",
+                    "dataStoragePercentage",
+                    "databaseEdition",
+                    "lastPatchHistoryEntryId",
+                    "listenerPort",
+                    "lifecycleState",
+                    "timeCreated",
+                    "lifecycleDetails",
+                    "diskRedundancy",
+                    "sparseDiskgroup",
+                    "scanIpIds",
+                    "vipIds",
+                    "scanDnsRecordId",
+                    "dataStorageSizeInGBs",
+                    "recoStorageSizeInGB",
+                    "nodeCount",
+                    "licenseModel",
+                    "freeformTags",
+                    "definedTags");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -93,7 +93,8 @@ public class DbSystemShapeSummary {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public DbSystemShapeSummary build() {
             DbSystemShapeSummary __instance__ =
@@ -174,6 +175,17 @@ public class DbSystemShapeSummary {
     @com.fasterxml.jackson.annotation.JsonProperty("maximumNodeCount")
     Integer maximumNodeCount;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "name",
+                    "shape",
+                    "availableCoreCount",
+                    "minimumCoreCount",
+                    "coreCountIncrement",
+                    "minimumNodeCount",
+                    "maximumNodeCount");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -338,7 +338,8 @@ public class DbSystemSummary {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public DbSystemSummary build() {
             DbSystemSummary __instance__ =
@@ -864,6 +865,43 @@ public class DbSystemSummary {
     @com.fasterxml.jackson.annotation.JsonProperty("definedTags")
     java.util.Map<String, java.util.Map<String, Object>> definedTags;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "id",
+                    "compartmentId",
+                    "displayName",
+                    "availabilityDomain",
+                    "faultDomains",
+                    "subnetId",
+                    "backupSubnetId",
+                    "shape",
+                    "sshPublicKeys",
+                    "timeZone",
+                    "hostname",
+                    "domain",
+                    "version",
+                    "cpuCoreCount",
+                    "clusterName",
+                    "dataStoragePercentage",
+                    "databaseEdition",
+                    "lastPatchHistoryEntryId",
+                    "listenerPort",
+                    "lifecycleState",
+                    "timeCreated",
+                    "lifecycleDetails",
+                    "diskRedundancy",
+                    "sparseDiskgroup",
+                    "scanIpIds",
+                    "vipIds",
+                    "scanDnsRecordId",
+                    "dataStorageSizeInGBs",
+                    "recoStorageSizeInGB",
+                    "nodeCount",
+                    "licenseModel",
+                    "freeformTags",
+                    "definedTags");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
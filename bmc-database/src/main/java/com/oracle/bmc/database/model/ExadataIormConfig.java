@@ -62,7 +62,8 @@ public class ExadataIormConfig {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public ExadataIormConfig build() {
             ExadataIormConfig __instance__ =
@@ -221,6 +222,11 @@ public class ExadataIormConfig {
     @com.fasterxml.jackson.annotation.JsonProperty("dbPlans")
     java.util.List<DbIormConfig> dbPlans;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "lifecycleState", "lifecycleDetails", "objective", "dbPlans");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
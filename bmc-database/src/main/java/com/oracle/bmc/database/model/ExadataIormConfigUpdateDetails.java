@@ -44,7 +44,8 @@ public class ExadataIormConfigUpdateDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public ExadataIormConfigUpdateDetails build() {
             ExadataIormConfigUpdateDetails __instance__ =
@@ -125,6 +126,10 @@ public class ExadataIormConfigUpdateDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("dbPlans")
     java.util.List<DbIormConfigUpdateDetail> dbPlans;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of("objective", "dbPlans");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -89,7 +89,8 @@ public class ExternalBackupJob {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public ExternalBackupJob build() {
             ExternalBackupJob __instance__ =
@@ -172,6 +173,17 @@ public class ExternalBackupJob {
     @com.fasterxml.jackson.annotation.JsonProperty("swiftPassword")
     String swiftPassword;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "backupId",
+                    "provisioning",
+                    "swiftPath",
+                    "bucketName",
+                    "tag",
+                    "userName",
+                    "swiftPassword");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -35,7 +35,8 @@ public class FailoverDataGuardAssociationDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public FailoverDataGuardAssociationDetails build() {
             FailoverDataGuardAssociationDetails __instance__ =
@@ -66,6 +67,10 @@ public class FailoverDataGuardAssociationDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("databaseAdminPassword")
     String databaseAdminPassword;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of("databaseAdminPassword");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
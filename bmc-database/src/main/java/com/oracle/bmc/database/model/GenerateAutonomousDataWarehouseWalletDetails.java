@@ -35,7 +35,8 @@ public class GenerateAutonomousDataWarehouseWalletDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public GenerateAutonomousDataWarehouseWalletDetails build() {
             GenerateAutonomousDataWarehouseWalletDetails __instance__ =
@@ -66,6 +67,10 @@ public class GenerateAutonomousDataWarehouseWalletDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("password")
     String password;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of("password");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -239,7 +239,8 @@ public class LaunchDbSystemFromBackupDetails extends LaunchDbSystemBase {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public LaunchDbSystemFromBackupDetails build() {
             LaunchDbSystemFromBackupDetails __instance__ =
@@ -498,6 +499,33 @@ public class LaunchDbSystemFromBackupDetails extends LaunchDbSystemBase {
     @com.fasterxml.jackson.annotation.JsonProperty("licenseModel")
     LicenseModel licenseModel;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "compartmentId",
+                    "faultDomains",
+                    "displayName",
+                    "availabilityDomain",
+                    "subnetId",
+                    "backupSubnetId",
+                    "shape",
+                    "timeZone",
+                    "sparseDiskgroup",
+                    "sshPublicKeys",
+                    "hostname",
+                    "domain",
+                    "cpuCoreCount",
+                    "clusterName",
+                    "dataStoragePercentage",
+                    "initialDataStorageSizeInGB",
+                    "nodeCount",
+                    "freeformTags",
+                    "definedTags",
+                    "dbHome",
+                    "databaseEdition",
+                    "diskRedundancy",
+                    "licenseModel");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
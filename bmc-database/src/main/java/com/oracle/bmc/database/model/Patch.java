@@ -95,7 +95,8 @@ public class Patch {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public Patch build() {
             Patch __instance__ =
@@ -322,6 +323,18 @@ public class Patch {
     @com.fasterxml.jackson.annotation.JsonProperty("version")
     String version;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "id",
+                    "description",
+                    "lastAction",
+                    "availableActions",
+                    "lifecycleDetails",
+                    "lifecycleState",
+                    "timeReleased",
+                    "version");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -100,7 +100,8 @@ public class PatchSummary {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public PatchSummary build() {
             PatchSummary __instance__ =
@@ -327,6 +328,18 @@ public class PatchSummary {
     @com.fasterxml.jackson.annotation.JsonProperty("version")
     String version;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "id",
+                    "description",
+                    "lastAction",
+                    "availableActions",
+                    "lifecycleDetails",
+                    "lifecycleState",
+                    "timeReleased",
+                    "version");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
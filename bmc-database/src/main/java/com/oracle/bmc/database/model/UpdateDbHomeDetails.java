@@ -35,7 +35,8 @@ public class UpdateDbHomeDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public UpdateDbHomeDetails build() {
             UpdateDbHomeDetails __instance__ = new UpdateDbHomeDetails(dbVersion);
@@ -62,6 +63,10 @@ public class UpdateDbHomeDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("dbVersion")
     PatchDetails dbVersion;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of("dbVersion");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -39,6 +39,7 @@ public class GenerateAutonomousDatabaseWalletRequest extends com.oracle.bmc.requ
     public static class Builder {
         private com.oracle.bmc.util.internal.Consumer<javax.ws.rs.client.Invocation.Builder>
                 invocationCallback = null;
+        private com.oracle.bmc.retrier.RetryConfiguration retryConfiguration = null;
 
         /**
          * Set the invocation callback for the request to be built.
@@ -52,6 +53,17 @@ public class GenerateAutonomousDatabaseWalletRequest extends com.oracle.bmc.requ
             return this;
         }
 
+        /**
+         * Set the retry configuration for the request to be built.
+         * @param retryConfiguration the retry configuration to be used for the request
+         * @return this builder instance
+         */
+        public Builder retryConfiguration(
+                com.oracle.bmc.retrier.RetryConfiguration retryConfiguration) {
+            this.retryConfiguration = retryConfiguration;
+            return this;
+        }
+
         /**
          * Copy method to populate the builder with values from the given instance.
          * @return this builder instance
@@ -62,6 +74,7 @@ public class GenerateAutonomousDatabaseWalletRequest extends com.oracle.bmc.requ
             opcRequestId(o.getOpcRequestId());
             opcRetryToken(o.getOpcRetryToken());
             invocationCallback(o.getInvocationCallback());
+            retryConfiguration(o.getRetryConfiguration());
             return this;
         }
 
@@ -78,6 +91,7 @@ public class GenerateAutonomousDatabaseWalletRequest extends com.oracle.bmc.requ
         public GenerateAutonomousDatabaseWalletRequest build() {
             GenerateAutonomousDatabaseWalletRequest request = buildWithoutInvocationCallback();
             request.setInvocationCallback(invocationCallback);
+            request.setRetryConfiguration(retryConfiguration);
             return request;
         }
     }
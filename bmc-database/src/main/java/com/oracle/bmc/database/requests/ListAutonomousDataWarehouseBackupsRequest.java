@@ -131,6 +131,7 @@ public class ListAutonomousDataWarehouseBackupsRequest extends com.oracle.bmc.re
     public static class Builder {
         private com.oracle.bmc.util.internal.Consumer<javax.ws.rs.client.Invocation.Builder>
                 invocationCallback = null;
+        private com.oracle.bmc.retrier.RetryConfiguration retryConfiguration = null;
 
         /**
          * Set the invocation callback for the request to be built.
@@ -144,6 +145,17 @@ public class ListAutonomousDataWarehouseBackupsRequest extends com.oracle.bmc.re
             return this;
         }
 
+        /**
+         * Set the retry configuration for the request to be built.
+         * @param retryConfiguration the retry configuration to be used for the request
+         * @return this builder instance
+         */
+        public Builder retryConfiguration(
+                com.oracle.bmc.retrier.RetryConfiguration retryConfiguration) {
+            this.retryConfiguration = retryConfiguration;
+            return this;
+        }
+
         /**
          * Copy method to populate the builder with values from the given instance.
          * @return this builder instance
@@ -158,6 +170,7 @@ public class ListAutonomousDataWarehouseBackupsRequest extends com.oracle.bmc.re
             lifecycleState(o.getLifecycleState());
             displayName(o.getDisplayName());
             invocationCallback(o.getInvocationCallback());
+            retryConfiguration(o.getRetryConfiguration());
             return this;
         }
 
@@ -174,6 +187,7 @@ public class ListAutonomousDataWarehouseBackupsRequest extends com.oracle.bmc.re
         public ListAutonomousDataWarehouseBackupsRequest build() {
             ListAutonomousDataWarehouseBackupsRequest request = buildWithoutInvocationCallback();
             request.setInvocationCallback(invocationCallback);
+            request.setRetryConfiguration(retryConfiguration);
             return request;
         }
     }
@@ -126,6 +126,7 @@ public class ListAutonomousDataWarehousesRequest extends com.oracle.bmc.requests
     public static class Builder {
         private com.oracle.bmc.util.internal.Consumer<javax.ws.rs.client.Invocation.Builder>
                 invocationCallback = null;
+        private com.oracle.bmc.retrier.RetryConfiguration retryConfiguration = null;
 
         /**
          * Set the invocation callback for the request to be built.
@@ -139,6 +140,17 @@ public class ListAutonomousDataWarehousesRequest extends com.oracle.bmc.requests
             return this;
         }
 
+        /**
+         * Set the retry configuration for the request to be built.
+         * @param retryConfiguration the retry configuration to be used for the request
+         * @return this builder instance
+         */
+        public Builder retryConfiguration(
+                com.oracle.bmc.retrier.RetryConfiguration retryConfiguration) {
+            this.retryConfiguration = retryConfiguration;
+            return this;
+        }
+
         /**
          * Copy method to populate the builder with values from the given instance.
          * @return this builder instance
@@ -152,6 +164,7 @@ public class ListAutonomousDataWarehousesRequest extends com.oracle.bmc.requests
             lifecycleState(o.getLifecycleState());
             displayName(o.getDisplayName());
             invocationCallback(o.getInvocationCallback());
+            retryConfiguration(o.getRetryConfiguration());
             return this;
         }
 
@@ -168,6 +181,7 @@ public class ListAutonomousDataWarehousesRequest extends com.oracle.bmc.requests
         public ListAutonomousDataWarehousesRequest build() {
             ListAutonomousDataWarehousesRequest request = buildWithoutInvocationCallback();
             request.setInvocationCallback(invocationCallback);
+            request.setRetryConfiguration(retryConfiguration);
             return request;
         }
     }
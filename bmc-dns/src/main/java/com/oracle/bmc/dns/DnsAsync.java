@@ -54,6 +54,25 @@ public interface DnsAsync extends AutoCloseable {
                             CreateSteeringPolicyRequest, CreateSteeringPolicyResponse>
                     handler);
 
+    /**
+     * Creates a new steering policy in the specified compartment. For more information on
+     * creating policies with templates, see [Traffic Management API Guide](https://docs.cloud.oracle.com/iaas/Content/TrafficManagement/Concepts/trafficmanagementapi.htm).
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreateSteeringPolicyResponse> createSteeringPolicy(
+            CreateSteeringPolicyRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreateSteeringPolicyRequest, CreateSteeringPolicyResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createSteeringPolicy(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Creates a new attachment between a steering policy and a domain, giving the
      * policy permission to answer queries for the specified domain. A steering policy must
@@ -78,6 +97,30 @@ public interface DnsAsync extends AutoCloseable {
                                     CreateSteeringPolicyAttachmentResponse>
                             handler);
 
+    /**
+     * Creates a new attachment between a steering policy and a domain, giving the
+     * policy permission to answer queries for the specified domain. A steering policy must
+     * be attached to a domain for the policy to answer DNS queries for that domain.
+     * <p>
+     * For the purposes of access control, the attachment is automatically placed
+     * into the same compartment as the domain's zone.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreateSteeringPolicyAttachmentResponse>
+            createSteeringPolicyAttachment(CreateSteeringPolicyAttachmentRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreateSteeringPolicyAttachmentRequest,
+                        CreateSteeringPolicyAttachmentResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createSteeringPolicyAttachment(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Creates a new zone in the specified compartment. The `compartmentId`
      * query parameter is required if the `Content-Type` header for the
@@ -95,6 +138,26 @@ public interface DnsAsync extends AutoCloseable {
             CreateZoneRequest request,
             com.oracle.bmc.responses.AsyncHandler<CreateZoneRequest, CreateZoneResponse> handler);
 
+    /**
+     * Creates a new zone in the specified compartment. The `compartmentId`
+     * query parameter is required if the `Content-Type` header for the
+     * request is `text/dns`.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreateZoneResponse> createZone(
+            CreateZoneRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreateZoneRequest, CreateZoneResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createZone(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Deletes all records at the specified zone and domain.
      *
@@ -111,6 +174,23 @@ public interface DnsAsync extends AutoCloseable {
                             DeleteDomainRecordsRequest, DeleteDomainRecordsResponse>
                     handler);
 
+    /**
+     * Deletes all records at the specified zone and domain.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<DeleteDomainRecordsResponse> deleteDomainRecords(
+            DeleteDomainRecordsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        DeleteDomainRecordsRequest, DeleteDomainRecordsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        deleteDomainRecords(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Deletes all records in the specified RRSet.
      *
@@ -126,6 +206,24 @@ public interface DnsAsync extends AutoCloseable {
             DeleteRRSetRequest request,
             com.oracle.bmc.responses.AsyncHandler<DeleteRRSetRequest, DeleteRRSetResponse> handler);
 
+    /**
+     * Deletes all records in the specified RRSet.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<DeleteRRSetResponse> deleteRRSet(
+            DeleteRRSetRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        DeleteRRSetRequest, DeleteRRSetResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        deleteRRSet(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Deletes the specified steering policy.
      * A `204` response indicates that the delete has been successful.
@@ -146,6 +244,27 @@ public interface DnsAsync extends AutoCloseable {
                             DeleteSteeringPolicyRequest, DeleteSteeringPolicyResponse>
                     handler);
 
+    /**
+     * Deletes the specified steering policy.
+     * A `204` response indicates that the delete has been successful.
+     * Deletion will fail if the policy is attached to any zones. To detach a
+     * policy from a zone, see `DeleteSteeringPolicyAttachment`.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<DeleteSteeringPolicyResponse> deleteSteeringPolicy(
+            DeleteSteeringPolicyRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        DeleteSteeringPolicyRequest, DeleteSteeringPolicyResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        deleteSteeringPolicy(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Deletes the specified steering policy attachment.
      * A `204` response indicates that the delete has been successful.
@@ -166,6 +285,26 @@ public interface DnsAsync extends AutoCloseable {
                                     DeleteSteeringPolicyAttachmentResponse>
                             handler);
 
+    /**
+     * Deletes the specified steering policy attachment.
+     * A `204` response indicates that the delete has been successful.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<DeleteSteeringPolicyAttachmentResponse>
+            deleteSteeringPolicyAttachment(DeleteSteeringPolicyAttachmentRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        DeleteSteeringPolicyAttachmentRequest,
+                        DeleteSteeringPolicyAttachmentResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        deleteSteeringPolicyAttachment(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Deletes the specified zone and all its steering policy attachments.
      * A `204` response indicates that zone has been successfully deleted.
@@ -182,6 +321,25 @@ public interface DnsAsync extends AutoCloseable {
             DeleteZoneRequest request,
             com.oracle.bmc.responses.AsyncHandler<DeleteZoneRequest, DeleteZoneResponse> handler);
 
+    /**
+     * Deletes the specified zone and all its steering policy attachments.
+     * A `204` response indicates that zone has been successfully deleted.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<DeleteZoneResponse> deleteZone(
+            DeleteZoneRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        DeleteZoneRequest, DeleteZoneResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        deleteZone(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets a list of all records at the specified zone and domain.
      * The results are sorted by `rtype` in alphabetical order by default. You
@@ -200,6 +358,26 @@ public interface DnsAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<GetDomainRecordsRequest, GetDomainRecordsResponse>
                     handler);
 
+    /**
+     * Gets a list of all records at the specified zone and domain.
+     * The results are sorted by `rtype` in alphabetical order by default. You
+     * can optionally filter and/or sort the results using the listed parameters.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetDomainRecordsResponse> getDomainRecords(
+            GetDomainRecordsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetDomainRecordsRequest, GetDomainRecordsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getDomainRecords(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets a list of all records in the specified RRSet. The results are
      * sorted by `recordHash` by default.
@@ -216,6 +394,25 @@ public interface DnsAsync extends AutoCloseable {
             GetRRSetRequest request,
             com.oracle.bmc.responses.AsyncHandler<GetRRSetRequest, GetRRSetResponse> handler);
 
+    /**
+     * Gets a list of all records in the specified RRSet. The results are
+     * sorted by `recordHash` by default.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetRRSetResponse> getRRSet(
+            GetRRSetRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetRRSetRequest, GetRRSetResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getRRSet(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets information about the specified steering policy.
      *
@@ -233,6 +430,24 @@ public interface DnsAsync extends AutoCloseable {
                             GetSteeringPolicyRequest, GetSteeringPolicyResponse>
                     handler);
 
+    /**
+     * Gets information about the specified steering policy.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetSteeringPolicyResponse> getSteeringPolicy(
+            GetSteeringPolicyRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetSteeringPolicyRequest, GetSteeringPolicyResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getSteeringPolicy(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets information about the specified steering policy attachment.
      *
@@ -250,6 +465,24 @@ public interface DnsAsync extends AutoCloseable {
                             GetSteeringPolicyAttachmentRequest, GetSteeringPolicyAttachmentResponse>
                     handler);
 
+    /**
+     * Gets information about the specified steering policy attachment.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetSteeringPolicyAttachmentResponse>
+            getSteeringPolicyAttachment(GetSteeringPolicyAttachmentRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetSteeringPolicyAttachmentRequest, GetSteeringPolicyAttachmentResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getSteeringPolicyAttachment(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets information about the specified zone, including its creation date,
      * zone type, and serial.
@@ -266,6 +499,24 @@ public interface DnsAsync extends AutoCloseable {
             GetZoneRequest request,
             com.oracle.bmc.responses.AsyncHandler<GetZoneRequest, GetZoneResponse> handler);
 
+    /**
+     * Gets information about the specified zone, including its creation date,
+     * zone type, and serial.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetZoneResponse> getZone(GetZoneRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetZoneRequest, GetZoneResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getZone(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets all records in the specified zone. The results are
      * sorted by `domain` in alphabetical order by default. For more
@@ -284,6 +535,26 @@ public interface DnsAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<GetZoneRecordsRequest, GetZoneRecordsResponse>
                     handler);
 
+    /**
+     * Gets all records in the specified zone. The results are
+     * sorted by `domain` in alphabetical order by default. For more
+     * information about records, see [Resource Record (RR) TYPEs](https://www.iana.org/assignments/dns-parameters/dns-parameters.xhtml#dns-parameters-4).
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetZoneRecordsResponse> getZoneRecords(
+            GetZoneRecordsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetZoneRecordsRequest, GetZoneRecordsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getZoneRecords(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets a list of all steering policies in the specified compartment.
      *
@@ -301,6 +572,24 @@ public interface DnsAsync extends AutoCloseable {
                             ListSteeringPoliciesRequest, ListSteeringPoliciesResponse>
                     handler);
 
+    /**
+     * Gets a list of all steering policies in the specified compartment.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListSteeringPoliciesResponse> listSteeringPolicies(
+            ListSteeringPoliciesRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListSteeringPoliciesRequest, ListSteeringPoliciesResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listSteeringPolicies(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists the steering policy attachments in the specified compartment.
      *
@@ -320,6 +609,24 @@ public interface DnsAsync extends AutoCloseable {
                                     ListSteeringPolicyAttachmentsResponse>
                             handler);
 
+    /**
+     * Lists the steering policy attachments in the specified compartment.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListSteeringPolicyAttachmentsResponse>
+            listSteeringPolicyAttachments(ListSteeringPolicyAttachmentsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListSteeringPolicyAttachmentsRequest, ListSteeringPolicyAttachmentsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listSteeringPolicyAttachments(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets a list of all zones in the specified compartment. The collection
      * can be filtered by name, time created, and zone type.
@@ -336,6 +643,25 @@ public interface DnsAsync extends AutoCloseable {
             ListZonesRequest request,
             com.oracle.bmc.responses.AsyncHandler<ListZonesRequest, ListZonesResponse> handler);
 
+    /**
+     * Gets a list of all zones in the specified compartment. The collection
+     * can be filtered by name, time created, and zone type.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListZonesResponse> listZones(
+            ListZonesRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListZonesRequest, ListZonesResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listZones(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Updates records in the specified zone at a domain. You can update
      * one record or all records for the specified zone depending on the changes
@@ -356,6 +682,27 @@ public interface DnsAsync extends AutoCloseable {
                             PatchDomainRecordsRequest, PatchDomainRecordsResponse>
                     handler);
 
+    /**
+     * Updates records in the specified zone at a domain. You can update
+     * one record or all records for the specified zone depending on the changes
+     * provided in the request body. You can also add or remove records using this
+     * function.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<PatchDomainRecordsResponse> patchDomainRecords(
+            PatchDomainRecordsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        PatchDomainRecordsRequest, PatchDomainRecordsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        patchDomainRecords(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Updates records in the specified RRSet.
      *
@@ -370,6 +717,23 @@ public interface DnsAsync extends AutoCloseable {
             PatchRRSetRequest request,
             com.oracle.bmc.responses.AsyncHandler<PatchRRSetRequest, PatchRRSetResponse> handler);
 
+    /**
+     * Updates records in the specified RRSet.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<PatchRRSetResponse> patchRRSet(
+            PatchRRSetRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        PatchRRSetRequest, PatchRRSetResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        patchRRSet(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Updates a collection of records in the specified zone. You can update
      * one record or all records for the specified zone depending on the
@@ -389,6 +753,27 @@ public interface DnsAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<PatchZoneRecordsRequest, PatchZoneRecordsResponse>
                     handler);
 
+    /**
+     * Updates a collection of records in the specified zone. You can update
+     * one record or all records for the specified zone depending on the
+     * changes provided in the request body. You can also add or remove records
+     * using this function.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<PatchZoneRecordsResponse> patchZoneRecords(
+            PatchZoneRecordsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        PatchZoneRecordsRequest, PatchZoneRecordsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        patchZoneRecords(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Replaces records in the specified zone at a domain with the records
      * specified in the request body. If a specified record does not exist,
@@ -411,6 +796,29 @@ public interface DnsAsync extends AutoCloseable {
                             UpdateDomainRecordsRequest, UpdateDomainRecordsResponse>
                     handler);
 
+    /**
+     * Replaces records in the specified zone at a domain with the records
+     * specified in the request body. If a specified record does not exist,
+     * it will be created. If the record exists, then it will be updated to
+     * represent the record in the body of the request. If a record in the zone
+     * does not exist in the request body, the record will be removed from the
+     * zone.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateDomainRecordsResponse> updateDomainRecords(
+            UpdateDomainRecordsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateDomainRecordsRequest, UpdateDomainRecordsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateDomainRecords(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Replaces records in the specified RRSet.
      *
@@ -425,6 +833,23 @@ public interface DnsAsync extends AutoCloseable {
             UpdateRRSetRequest request,
             com.oracle.bmc.responses.AsyncHandler<UpdateRRSetRequest, UpdateRRSetResponse> handler);
 
+    /**
+     * Replaces records in the specified RRSet.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateRRSetResponse> updateRRSet(
+            UpdateRRSetRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateRRSetRequest, UpdateRRSetResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateRRSet(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Updates the configuration of the specified steering policy.
      *
@@ -442,6 +867,24 @@ public interface DnsAsync extends AutoCloseable {
                             UpdateSteeringPolicyRequest, UpdateSteeringPolicyResponse>
                     handler);
 
+    /**
+     * Updates the configuration of the specified steering policy.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateSteeringPolicyResponse> updateSteeringPolicy(
+            UpdateSteeringPolicyRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateSteeringPolicyRequest, UpdateSteeringPolicyResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateSteeringPolicy(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Updates the specified steering policy attachment with your new information.
      *
@@ -461,6 +904,25 @@ public interface DnsAsync extends AutoCloseable {
                                     UpdateSteeringPolicyAttachmentResponse>
                             handler);
 
+    /**
+     * Updates the specified steering policy attachment with your new information.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateSteeringPolicyAttachmentResponse>
+            updateSteeringPolicyAttachment(UpdateSteeringPolicyAttachmentRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateSteeringPolicyAttachmentRequest,
+                        UpdateSteeringPolicyAttachmentResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateSteeringPolicyAttachment(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Updates the specified secondary zone with your new external master
      * server information. For more information about secondary zone, see
@@ -478,6 +940,26 @@ public interface DnsAsync extends AutoCloseable {
             UpdateZoneRequest request,
             com.oracle.bmc.responses.AsyncHandler<UpdateZoneRequest, UpdateZoneResponse> handler);
 
+    /**
+     * Updates the specified secondary zone with your new external master
+     * server information. For more information about secondary zone, see
+     * [Manage DNS Service Zone](https://docs.cloud.oracle.com/iaas/Content/DNS/Tasks/managingdnszones.htm).
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateZoneResponse> updateZone(
+            UpdateZoneRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateZoneRequest, UpdateZoneResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateZone(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Replaces records in the specified zone with the records specified in the
      * request body. If a specified record does not exist, it will be created.
@@ -498,4 +980,26 @@ public interface DnsAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<
                             UpdateZoneRecordsRequest, UpdateZoneRecordsResponse>
                     handler);
+
+    /**
+     * Replaces records in the specified zone with the records specified in the
+     * request body. If a specified record does not exist, it will be created.
+     * If the record exists, then it will be updated to represent the record in
+     * the body of the request. If a record in the zone does not exist in the
+     * request body, the record will be removed from the zone.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateZoneRecordsResponse> updateZoneRecords(
+            UpdateZoneRecordsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateZoneRecordsRequest, UpdateZoneRecordsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateZoneRecords(request, handler);
+        return handler.getStage();
+    }
 }
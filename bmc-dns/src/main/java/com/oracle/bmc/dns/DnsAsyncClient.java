@@ -392,6 +392,34 @@ public class DnsAsyncClient implements DnsAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateSteeringPolicyResponse> createSteeringPolicy(
+            final CreateSteeringPolicyRequest request) {
+        LOG.trace("Called async createSteeringPolicy");
+        final CreateSteeringPolicyRequest interceptedRequest =
+                CreateSteeringPolicyConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateSteeringPolicyConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, CreateSteeringPolicyResponse>
+                transformer = CreateSteeringPolicyConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreateSteeringPolicyDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateSteeringPolicyAttachmentResponse>
             createSteeringPolicyAttachment(
@@ -487,6 +515,34 @@ public class DnsAsyncClient implements DnsAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateSteeringPolicyAttachmentResponse>
+            createSteeringPolicyAttachment(final CreateSteeringPolicyAttachmentRequest request) {
+        LOG.trace("Called async createSteeringPolicyAttachment");
+        final CreateSteeringPolicyAttachmentRequest interceptedRequest =
+                CreateSteeringPolicyAttachmentConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateSteeringPolicyAttachmentConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, CreateSteeringPolicyAttachmentResponse>
+                transformer = CreateSteeringPolicyAttachmentConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreateSteeringPolicyAttachmentDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateZoneResponse> createZone(
             final CreateZoneRequest request,
@@ -574,6 +630,30 @@ public class DnsAsyncClient implements DnsAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateZoneResponse> createZone(
+            final CreateZoneRequest request) {
+        LOG.trace("Called async createZone");
+        final CreateZoneRequest interceptedRequest = CreateZoneConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateZoneConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, CreateZoneResponse>
+                transformer = CreateZoneConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib, interceptedRequest.getCreateZoneDetails(), interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteDomainRecordsResponse> deleteDomainRecords(
             final DeleteDomainRecordsRequest request,
@@ -650,6 +730,31 @@ public class DnsAsyncClient implements DnsAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteDomainRecordsResponse> deleteDomainRecords(
+            final DeleteDomainRecordsRequest request) {
+        LOG.trace("Called async deleteDomainRecords");
+        final DeleteDomainRecordsRequest interceptedRequest =
+                DeleteDomainRecordsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteDomainRecordsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, DeleteDomainRecordsResponse>
+                transformer = DeleteDomainRecordsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteRRSetResponse> deleteRRSet(
             final DeleteRRSetRequest request,
@@ -723,6 +828,30 @@ public class DnsAsyncClient implements DnsAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteRRSetResponse> deleteRRSet(
+            final DeleteRRSetRequest request) {
+        LOG.trace("Called async deleteRRSet");
+        final DeleteRRSetRequest interceptedRequest =
+                DeleteRRSetConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteRRSetConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, DeleteRRSetResponse>
+                transformer = DeleteRRSetConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteSteeringPolicyResponse> deleteSteeringPolicy(
             final DeleteSteeringPolicyRequest request,
@@ -799,6 +928,31 @@ public class DnsAsyncClient implements DnsAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteSteeringPolicyResponse> deleteSteeringPolicy(
+            final DeleteSteeringPolicyRequest request) {
+        LOG.trace("Called async deleteSteeringPolicy");
+        final DeleteSteeringPolicyRequest interceptedRequest =
+                DeleteSteeringPolicyConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteSteeringPolicyConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, DeleteSteeringPolicyResponse>
+                transformer = DeleteSteeringPolicyConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteSteeringPolicyAttachmentResponse>
             deleteSteeringPolicyAttachment(
@@ -879,6 +1033,31 @@ public class DnsAsyncClient implements DnsAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteSteeringPolicyAttachmentResponse>
+            deleteSteeringPolicyAttachment(final DeleteSteeringPolicyAttachmentRequest request) {
+        LOG.trace("Called async deleteSteeringPolicyAttachment");
+        final DeleteSteeringPolicyAttachmentRequest interceptedRequest =
+                DeleteSteeringPolicyAttachmentConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteSteeringPolicyAttachmentConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, DeleteSteeringPolicyAttachmentResponse>
+                transformer = DeleteSteeringPolicyAttachmentConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteZoneResponse> deleteZone(
             final DeleteZoneRequest request,
@@ -951,6 +1130,29 @@ public class DnsAsyncClient implements DnsAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteZoneResponse> deleteZone(
+            final DeleteZoneRequest request) {
+        LOG.trace("Called async deleteZone");
+        final DeleteZoneRequest interceptedRequest = DeleteZoneConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteZoneConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, DeleteZoneResponse>
+                transformer = DeleteZoneConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetDomainRecordsResponse> getDomainRecords(
             final GetDomainRecordsRequest request,
@@ -1025,6 +1227,30 @@ public class DnsAsyncClient implements DnsAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetDomainRecordsResponse> getDomainRecords(
+            final GetDomainRecordsRequest request) {
+        LOG.trace("Called async getDomainRecords");
+        final GetDomainRecordsRequest interceptedRequest =
+                GetDomainRecordsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetDomainRecordsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetDomainRecordsResponse>
+                transformer = GetDomainRecordsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetRRSetResponse> getRRSet(
             final GetRRSetRequest request,
@@ -1097,6 +1323,29 @@ public class DnsAsyncClient implements DnsAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetRRSetResponse> getRRSet(
+            final GetRRSetRequest request) {
+        LOG.trace("Called async getRRSet");
+        final GetRRSetRequest interceptedRequest = GetRRSetConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetRRSetConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetRRSetResponse>
+                transformer = GetRRSetConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetSteeringPolicyResponse> getSteeringPolicy(
             final GetSteeringPolicyRequest request,
@@ -1171,6 +1420,30 @@ public class DnsAsyncClient implements DnsAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetSteeringPolicyResponse> getSteeringPolicy(
+            final GetSteeringPolicyRequest request) {
+        LOG.trace("Called async getSteeringPolicy");
+        final GetSteeringPolicyRequest interceptedRequest =
+                GetSteeringPolicyConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetSteeringPolicyConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetSteeringPolicyResponse>
+                transformer = GetSteeringPolicyConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetSteeringPolicyAttachmentResponse>
             getSteeringPolicyAttachment(
@@ -1250,6 +1523,31 @@ public class DnsAsyncClient implements DnsAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetSteeringPolicyAttachmentResponse>
+            getSteeringPolicyAttachment(final GetSteeringPolicyAttachmentRequest request) {
+        LOG.trace("Called async getSteeringPolicyAttachment");
+        final GetSteeringPolicyAttachmentRequest interceptedRequest =
+                GetSteeringPolicyAttachmentConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetSteeringPolicyAttachmentConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, GetSteeringPolicyAttachmentResponse>
+                transformer = GetSteeringPolicyAttachmentConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetZoneResponse> getZone(
             final GetZoneRequest request,
@@ -1321,6 +1619,29 @@ public class DnsAsyncClient implements DnsAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetZoneResponse> getZone(
+            final GetZoneRequest request) {
+        LOG.trace("Called async getZone");
+        final GetZoneRequest interceptedRequest = GetZoneConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetZoneConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetZoneResponse>
+                transformer = GetZoneConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetZoneRecordsResponse> getZoneRecords(
             final GetZoneRecordsRequest request,
@@ -1395,6 +1716,30 @@ public class DnsAsyncClient implements DnsAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetZoneRecordsResponse> getZoneRecords(
+            final GetZoneRecordsRequest request) {
+        LOG.trace("Called async getZoneRecords");
+        final GetZoneRecordsRequest interceptedRequest =
+                GetZoneRecordsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetZoneRecordsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetZoneRecordsResponse>
+                transformer = GetZoneRecordsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListSteeringPoliciesResponse> listSteeringPolicies(
             final ListSteeringPoliciesRequest request,
@@ -1471,6 +1816,31 @@ public class DnsAsyncClient implements DnsAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListSteeringPoliciesResponse> listSteeringPolicies(
+            final ListSteeringPoliciesRequest request) {
+        LOG.trace("Called async listSteeringPolicies");
+        final ListSteeringPoliciesRequest interceptedRequest =
+                ListSteeringPoliciesConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListSteeringPoliciesConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, ListSteeringPoliciesResponse>
+                transformer = ListSteeringPoliciesConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListSteeringPolicyAttachmentsResponse>
             listSteeringPolicyAttachments(
@@ -1550,6 +1920,31 @@ public class DnsAsyncClient implements DnsAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListSteeringPolicyAttachmentsResponse>
+            listSteeringPolicyAttachments(final ListSteeringPolicyAttachmentsRequest request) {
+        LOG.trace("Called async listSteeringPolicyAttachments");
+        final ListSteeringPolicyAttachmentsRequest interceptedRequest =
+                ListSteeringPolicyAttachmentsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListSteeringPolicyAttachmentsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, ListSteeringPolicyAttachmentsResponse>
+                transformer = ListSteeringPolicyAttachmentsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListZonesResponse> listZones(
             final ListZonesRequest request,
@@ -1622,6 +2017,29 @@ public class DnsAsyncClient implements DnsAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListZonesResponse> listZones(
+            final ListZonesRequest request) {
+        LOG.trace("Called async listZones");
+        final ListZonesRequest interceptedRequest = ListZonesConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListZonesConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListZonesResponse>
+                transformer = ListZonesConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<PatchDomainRecordsResponse> patchDomainRecords(
             final PatchDomainRecordsRequest request,
@@ -1711,6 +2129,33 @@ public class DnsAsyncClient implements DnsAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<PatchDomainRecordsResponse> patchDomainRecords(
+            final PatchDomainRecordsRequest request) {
+        LOG.trace("Called async patchDomainRecords");
+        final PatchDomainRecordsRequest interceptedRequest =
+                PatchDomainRecordsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                PatchDomainRecordsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, PatchDomainRecordsResponse>
+                transformer = PatchDomainRecordsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPatch(
+                                ib,
+                                interceptedRequest.getPatchDomainRecordsDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<PatchRRSetResponse> patchRRSet(
             final PatchRRSetRequest request,
@@ -1798,6 +2243,30 @@ public class DnsAsyncClient implements DnsAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<PatchRRSetResponse> patchRRSet(
+            final PatchRRSetRequest request) {
+        LOG.trace("Called async patchRRSet");
+        final PatchRRSetRequest interceptedRequest = PatchRRSetConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                PatchRRSetConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, PatchRRSetResponse>
+                transformer = PatchRRSetConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPatch(
+                                ib, interceptedRequest.getPatchRRSetDetails(), interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<PatchZoneRecordsResponse> patchZoneRecords(
             final PatchZoneRecordsRequest request,
@@ -1887,6 +2356,33 @@ public class DnsAsyncClient implements DnsAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<PatchZoneRecordsResponse> patchZoneRecords(
+            final PatchZoneRecordsRequest request) {
+        LOG.trace("Called async patchZoneRecords");
+        final PatchZoneRecordsRequest interceptedRequest =
+                PatchZoneRecordsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                PatchZoneRecordsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, PatchZoneRecordsResponse>
+                transformer = PatchZoneRecordsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPatch(
+                                ib,
+                                interceptedRequest.getPatchZoneRecordsDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateDomainRecordsResponse> updateDomainRecords(
             final UpdateDomainRecordsRequest request,
@@ -1978,6 +2474,34 @@ public class DnsAsyncClient implements DnsAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateDomainRecordsResponse> updateDomainRecords(
+            final UpdateDomainRecordsRequest request) {
+        LOG.trace("Called async updateDomainRecords");
+        final UpdateDomainRecordsRequest interceptedRequest =
+                UpdateDomainRecordsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateDomainRecordsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, UpdateDomainRecordsResponse>
+                transformer = UpdateDomainRecordsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdateDomainRecordsDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateRRSetResponse> updateRRSet(
             final UpdateRRSetRequest request,
@@ -2066,6 +2590,31 @@ public class DnsAsyncClient implements DnsAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateRRSetResponse> updateRRSet(
+            final UpdateRRSetRequest request) {
+        LOG.trace("Called async updateRRSet");
+        final UpdateRRSetRequest interceptedRequest =
+                UpdateRRSetConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateRRSetConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, UpdateRRSetResponse>
+                transformer = UpdateRRSetConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib, interceptedRequest.getUpdateRRSetDetails(), interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateSteeringPolicyResponse> updateSteeringPolicy(
             final UpdateSteeringPolicyRequest request,
@@ -2157,6 +2706,34 @@ public class DnsAsyncClient implements DnsAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateSteeringPolicyResponse> updateSteeringPolicy(
+            final UpdateSteeringPolicyRequest request) {
+        LOG.trace("Called async updateSteeringPolicy");
+        final UpdateSteeringPolicyRequest interceptedRequest =
+                UpdateSteeringPolicyConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateSteeringPolicyConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, UpdateSteeringPolicyResponse>
+                transformer = UpdateSteeringPolicyConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdateSteeringPolicyDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateSteeringPolicyAttachmentResponse>
             updateSteeringPolicyAttachment(
@@ -2252,6 +2829,34 @@ public class DnsAsyncClient implements DnsAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateSteeringPolicyAttachmentResponse>
+            updateSteeringPolicyAttachment(final UpdateSteeringPolicyAttachmentRequest request) {
+        LOG.trace("Called async updateSteeringPolicyAttachment");
+        final UpdateSteeringPolicyAttachmentRequest interceptedRequest =
+                UpdateSteeringPolicyAttachmentConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateSteeringPolicyAttachmentConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, UpdateSteeringPolicyAttachmentResponse>
+                transformer = UpdateSteeringPolicyAttachmentConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdateSteeringPolicyAttachmentDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateZoneResponse> updateZone(
             final UpdateZoneRequest request,
@@ -2339,6 +2944,30 @@ public class DnsAsyncClient implements DnsAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateZoneResponse> updateZone(
+            final UpdateZoneRequest request) {
+        LOG.trace("Called async updateZone");
+        final UpdateZoneRequest interceptedRequest = UpdateZoneConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateZoneConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, UpdateZoneResponse>
+                transformer = UpdateZoneConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib, interceptedRequest.getUpdateZoneDetails(), interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateZoneRecordsResponse> updateZoneRecords(
             final UpdateZoneRecordsRequest request,
@@ -2427,4 +3056,31 @@ public class DnsAsyncClient implements DnsAsync {
                     responseFuture, transformer);
         }
     }
+
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateZoneRecordsResponse> updateZoneRecords(
+            final UpdateZoneRecordsRequest request) {
+        LOG.trace("Called async updateZoneRecords");
+        final UpdateZoneRecordsRequest interceptedRequest =
+                UpdateZoneRecordsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateZoneRecordsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, UpdateZoneRecordsResponse>
+                transformer = UpdateZoneRecordsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdateZoneRecordsDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
 }
@@ -110,7 +110,8 @@ public class CreateSteeringPolicyDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public CreateSteeringPolicyDetails build() {
             CreateSteeringPolicyDetails __instance__ =
@@ -358,6 +359,19 @@ public class CreateSteeringPolicyDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("rules")
     java.util.List<SteeringPolicyRule> rules;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "compartmentId",
+                    "displayName",
+                    "ttl",
+                    "healthCheckMonitorId",
+                    "template",
+                    "freeformTags",
+                    "definedTags",
+                    "answers",
+                    "rules");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -83,7 +83,8 @@ public class CreateZoneDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public CreateZoneDetails build() {
             CreateZoneDetails __instance__ =
@@ -204,6 +205,16 @@ public class CreateZoneDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("externalMasters")
     java.util.List<ExternalMaster> externalMasters;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "name",
+                    "zoneType",
+                    "compartmentId",
+                    "freeformTags",
+                    "definedTags",
+                    "externalMasters");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -98,7 +98,8 @@ public class RecordOperation {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public RecordOperation build() {
             RecordOperation __instance__ =
@@ -275,6 +276,18 @@ public class RecordOperation {
     @com.fasterxml.jackson.annotation.JsonProperty("operation")
     Operation operation;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "domain",
+                    "recordHash",
+                    "isProtected",
+                    "rdata",
+                    "rrsetVersion",
+                    "rtype",
+                    "ttl",
+                    "operation");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
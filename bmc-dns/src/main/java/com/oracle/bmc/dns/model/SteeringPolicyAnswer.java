@@ -74,7 +74,8 @@ public class SteeringPolicyAnswer {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public SteeringPolicyAnswer build() {
             SteeringPolicyAnswer __instance__ =
@@ -189,6 +190,11 @@ public class SteeringPolicyAnswer {
     @com.fasterxml.jackson.annotation.JsonProperty("isDisabled")
     Boolean isDisabled;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "name", "rtype", "rdata", "pool", "isDisabled");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
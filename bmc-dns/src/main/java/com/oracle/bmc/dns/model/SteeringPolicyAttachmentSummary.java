@@ -115,7 +115,8 @@ public class SteeringPolicyAttachmentSummary {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public SteeringPolicyAttachmentSummary build() {
             SteeringPolicyAttachmentSummary __instance__ =
@@ -275,6 +276,20 @@ public class SteeringPolicyAttachmentSummary {
     @com.fasterxml.jackson.annotation.JsonProperty("lifecycleState")
     LifecycleState lifecycleState;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "steeringPolicyId",
+                    "zoneId",
+                    "domainName",
+                    "displayName",
+                    "rtypes",
+                    "compartmentId",
+                    "self",
+                    "id",
+                    "timeCreated",
+                    "lifecycleState");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
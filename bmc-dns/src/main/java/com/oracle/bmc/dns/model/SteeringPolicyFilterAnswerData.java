@@ -43,7 +43,8 @@ public class SteeringPolicyFilterAnswerData {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public SteeringPolicyFilterAnswerData build() {
             SteeringPolicyFilterAnswerData __instance__ =
@@ -82,6 +83,10 @@ public class SteeringPolicyFilterAnswerData {
     @com.fasterxml.jackson.annotation.JsonProperty("shouldKeep")
     Boolean shouldKeep;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of("answerCondition", "shouldKeep");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
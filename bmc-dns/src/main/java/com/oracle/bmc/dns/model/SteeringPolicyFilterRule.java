@@ -59,7 +59,8 @@ public class SteeringPolicyFilterRule extends SteeringPolicyRule {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public SteeringPolicyFilterRule build() {
             SteeringPolicyFilterRule __instance__ =
@@ -121,6 +122,11 @@ public class SteeringPolicyFilterRule extends SteeringPolicyRule {
     @com.fasterxml.jackson.annotation.JsonProperty("defaultAnswerData")
     java.util.List<SteeringPolicyFilterAnswerData> defaultAnswerData;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "description", "cases", "defaultAnswerData");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
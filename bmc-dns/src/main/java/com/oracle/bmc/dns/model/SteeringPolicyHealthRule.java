@@ -49,7 +49,8 @@ public class SteeringPolicyHealthRule extends SteeringPolicyRule {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public SteeringPolicyHealthRule build() {
             SteeringPolicyHealthRule __instance__ =
@@ -95,6 +96,10 @@ public class SteeringPolicyHealthRule extends SteeringPolicyRule {
     @com.fasterxml.jackson.annotation.JsonProperty("cases")
     java.util.List<SteeringPolicyHealthRuleCase> cases;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of("description", "cases");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -58,7 +58,8 @@ public class SteeringPolicyLimitRule extends SteeringPolicyRule {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public SteeringPolicyLimitRule build() {
             SteeringPolicyLimitRule __instance__ =
@@ -120,6 +121,11 @@ public class SteeringPolicyLimitRule extends SteeringPolicyRule {
     @com.fasterxml.jackson.annotation.JsonProperty("defaultCount")
     Integer defaultCount;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "description", "cases", "defaultCount");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
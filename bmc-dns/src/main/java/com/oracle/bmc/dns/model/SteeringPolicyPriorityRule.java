@@ -59,7 +59,8 @@ public class SteeringPolicyPriorityRule extends SteeringPolicyRule {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public SteeringPolicyPriorityRule build() {
             SteeringPolicyPriorityRule __instance__ =
@@ -121,6 +122,11 @@ public class SteeringPolicyPriorityRule extends SteeringPolicyRule {
     @com.fasterxml.jackson.annotation.JsonProperty("defaultAnswerData")
     java.util.List<SteeringPolicyPriorityAnswerData> defaultAnswerData;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "description", "cases", "defaultAnswerData");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
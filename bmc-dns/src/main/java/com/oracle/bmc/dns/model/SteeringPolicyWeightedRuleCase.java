@@ -43,7 +43,8 @@ public class SteeringPolicyWeightedRuleCase {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public SteeringPolicyWeightedRuleCase build() {
             SteeringPolicyWeightedRuleCase __instance__ =
@@ -87,6 +88,10 @@ public class SteeringPolicyWeightedRuleCase {
     @com.fasterxml.jackson.annotation.JsonProperty("answerData")
     java.util.List<SteeringPolicyWeightedAnswerData> answerData;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of("caseCondition", "answerData");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -34,7 +34,8 @@ public class UpdateDomainRecordsDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public UpdateDomainRecordsDetails build() {
             UpdateDomainRecordsDetails __instance__ = new UpdateDomainRecordsDetails(items);
@@ -61,6 +62,10 @@ public class UpdateDomainRecordsDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("items")
     java.util.List<RecordDetails> items;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of("items");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -103,7 +103,8 @@ public class UpdateSteeringPolicyDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public UpdateSteeringPolicyDetails build() {
             UpdateSteeringPolicyDetails __instance__ =
@@ -343,6 +344,18 @@ public class UpdateSteeringPolicyDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("rules")
     java.util.List<SteeringPolicyRule> rules;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "displayName",
+                    "ttl",
+                    "healthCheckMonitorId",
+                    "template",
+                    "freeformTags",
+                    "definedTags",
+                    "answers",
+                    "rules");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -144,7 +144,8 @@ public class Zone {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public Zone build() {
             Zone __instance__ =
@@ -388,6 +389,23 @@ public class Zone {
     @com.fasterxml.jackson.annotation.JsonProperty("nameservers")
     java.util.List<Nameserver> nameservers;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "name",
+                    "zoneType",
+                    "compartmentId",
+                    "freeformTags",
+                    "definedTags",
+                    "externalMasters",
+                    "self",
+                    "id",
+                    "timeCreated",
+                    "version",
+                    "serial",
+                    "lifecycleState",
+                    "nameservers");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -48,6 +48,7 @@ public class DeleteDomainRecordsRequest extends com.oracle.bmc.requests.BmcReque
     public static class Builder {
         private com.oracle.bmc.util.internal.Consumer<javax.ws.rs.client.Invocation.Builder>
                 invocationCallback = null;
+        private com.oracle.bmc.retrier.RetryConfiguration retryConfiguration = null;
 
         /**
          * Set the invocation callback for the request to be built.
@@ -61,6 +62,17 @@ public class DeleteDomainRecordsRequest extends com.oracle.bmc.requests.BmcReque
             return this;
         }
 
+        /**
+         * Set the retry configuration for the request to be built.
+         * @param retryConfiguration the retry configuration to be used for the request
+         * @return this builder instance
+         */
+        public Builder retryConfiguration(
+                com.oracle.bmc.retrier.RetryConfiguration retryConfiguration) {
+            this.retryConfiguration = retryConfiguration;
+            return this;
+        }
+
         /**
          * Copy method to populate the builder with values from the given instance.
          * @return this builder instance
@@ -72,6 +84,7 @@ public class DeleteDomainRecordsRequest extends com.oracle.bmc.requests.BmcReque
             ifUnmodifiedSince(o.getIfUnmodifiedSince());
             compartmentId(o.getCompartmentId());
             invocationCallback(o.getInvocationCallback());
+            retryConfiguration(o.getRetryConfiguration());
             return this;
         }
 
@@ -88,6 +101,7 @@ public class DeleteDomainRecordsRequest extends com.oracle.bmc.requests.BmcReque
         public DeleteDomainRecordsRequest build() {
             DeleteDomainRecordsRequest request = buildWithoutInvocationCallback();
             request.setInvocationCallback(invocationCallback);
+            request.setRetryConfiguration(retryConfiguration);
             return request;
         }
     }
@@ -51,6 +51,23 @@ public interface EmailAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<CreateSenderRequest, CreateSenderResponse>
                     handler);
 
+    /**
+     * Creates a sender for a tenancy in a given compartment.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreateSenderResponse> createSender(
+            CreateSenderRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreateSenderRequest, CreateSenderResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createSender(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Adds recipient email addresses to the suppression list for a tenancy.
      * Addresses added to the suppression list via the API are denoted as
@@ -71,6 +88,27 @@ public interface EmailAsync extends AutoCloseable {
                             CreateSuppressionRequest, CreateSuppressionResponse>
                     handler);
 
+    /**
+     * Adds recipient email addresses to the suppression list for a tenancy.
+     * Addresses added to the suppression list via the API are denoted as
+     * \"MANUAL\" in the `reason` field. *Note:* All email addresses added to the
+     * suppression list are normalized to include only lowercase letters.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreateSuppressionResponse> createSuppression(
+            CreateSuppressionRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreateSuppressionRequest, CreateSuppressionResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createSuppression(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Deletes an approved sender for a tenancy in a given compartment for a
      * provided `senderId`.
@@ -88,6 +126,25 @@ public interface EmailAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<DeleteSenderRequest, DeleteSenderResponse>
                     handler);
 
+    /**
+     * Deletes an approved sender for a tenancy in a given compartment for a
+     * provided `senderId`.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<DeleteSenderResponse> deleteSender(
+            DeleteSenderRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        DeleteSenderRequest, DeleteSenderResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        deleteSender(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Removes a suppressed recipient email address from the suppression list
      * for a tenancy in a given compartment for a provided `suppressionId`.
@@ -106,6 +163,25 @@ public interface EmailAsync extends AutoCloseable {
                             DeleteSuppressionRequest, DeleteSuppressionResponse>
                     handler);
 
+    /**
+     * Removes a suppressed recipient email address from the suppression list
+     * for a tenancy in a given compartment for a provided `suppressionId`.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<DeleteSuppressionResponse> deleteSuppression(
+            DeleteSuppressionRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        DeleteSuppressionRequest, DeleteSuppressionResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        deleteSuppression(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets an approved sender for a given `senderId`.
      *
@@ -120,6 +196,23 @@ public interface EmailAsync extends AutoCloseable {
             GetSenderRequest request,
             com.oracle.bmc.responses.AsyncHandler<GetSenderRequest, GetSenderResponse> handler);
 
+    /**
+     * Gets an approved sender for a given `senderId`.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetSenderResponse> getSender(
+            GetSenderRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetSenderRequest, GetSenderResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getSender(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the details of a suppressed recipient email address for a given
      * `suppressionId`. Each suppression is given a unique OCID.
@@ -137,6 +230,25 @@ public interface EmailAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<GetSuppressionRequest, GetSuppressionResponse>
                     handler);
 
+    /**
+     * Gets the details of a suppressed recipient email address for a given
+     * `suppressionId`. Each suppression is given a unique OCID.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetSuppressionResponse> getSuppression(
+            GetSuppressionRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetSuppressionRequest, GetSuppressionResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getSuppression(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets a collection of approved sender email addresses and sender IDs.
      *
@@ -152,6 +264,24 @@ public interface EmailAsync extends AutoCloseable {
             ListSendersRequest request,
             com.oracle.bmc.responses.AsyncHandler<ListSendersRequest, ListSendersResponse> handler);
 
+    /**
+     * Gets a collection of approved sender email addresses and sender IDs.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListSendersResponse> listSenders(
+            ListSendersRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListSendersRequest, ListSendersResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listSenders(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets a list of suppressed recipient email addresses for a user. The
      * `compartmentId` for suppressions must be a tenancy OCID. The returned list
@@ -170,6 +300,26 @@ public interface EmailAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<ListSuppressionsRequest, ListSuppressionsResponse>
                     handler);
 
+    /**
+     * Gets a list of suppressed recipient email addresses for a user. The
+     * `compartmentId` for suppressions must be a tenancy OCID. The returned list
+     * is sorted by creation time in descending order.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListSuppressionsResponse> listSuppressions(
+            ListSuppressionsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListSuppressionsRequest, ListSuppressionsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listSuppressions(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Replaces the set of tags for a sender with the tags provided. If either freeform
      * or defined tags are omitted, the tags for that set remain the same. Each set must
@@ -188,4 +338,25 @@ public interface EmailAsync extends AutoCloseable {
             UpdateSenderRequest request,
             com.oracle.bmc.responses.AsyncHandler<UpdateSenderRequest, UpdateSenderResponse>
                     handler);
+
+    /**
+     * Replaces the set of tags for a sender with the tags provided. If either freeform
+     * or defined tags are omitted, the tags for that set remain the same. Each set must
+     * include the full set of tags for the sender, partial updates are not permitted.
+     * For more information about tagging, see [Resource Tags](https://docs.cloud.oracle.com/Content/General/Concepts/resourcetags.htm).
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateSenderResponse> updateSender(
+            UpdateSenderRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateSenderRequest, UpdateSenderResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateSender(request, handler);
+        return handler.getStage();
+    }
 }
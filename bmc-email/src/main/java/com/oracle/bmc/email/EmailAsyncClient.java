@@ -390,6 +390,33 @@ public class EmailAsyncClient implements EmailAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateSenderResponse> createSender(
+            final CreateSenderRequest request) {
+        LOG.trace("Called async createSender");
+        final CreateSenderRequest interceptedRequest =
+                CreateSenderConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateSenderConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, CreateSenderResponse>
+                transformer = CreateSenderConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreateSenderDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateSuppressionResponse> createSuppression(
             final CreateSuppressionRequest request,
@@ -479,6 +506,33 @@ public class EmailAsyncClient implements EmailAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateSuppressionResponse> createSuppression(
+            final CreateSuppressionRequest request) {
+        LOG.trace("Called async createSuppression");
+        final CreateSuppressionRequest interceptedRequest =
+                CreateSuppressionConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateSuppressionConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, CreateSuppressionResponse>
+                transformer = CreateSuppressionConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreateSuppressionDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteSenderResponse> deleteSender(
             final DeleteSenderRequest request,
@@ -552,6 +606,30 @@ public class EmailAsyncClient implements EmailAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteSenderResponse> deleteSender(
+            final DeleteSenderRequest request) {
+        LOG.trace("Called async deleteSender");
+        final DeleteSenderRequest interceptedRequest =
+                DeleteSenderConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteSenderConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, DeleteSenderResponse>
+                transformer = DeleteSenderConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteSuppressionResponse> deleteSuppression(
             final DeleteSuppressionRequest request,
@@ -626,6 +704,30 @@ public class EmailAsyncClient implements EmailAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteSuppressionResponse> deleteSuppression(
+            final DeleteSuppressionRequest request) {
+        LOG.trace("Called async deleteSuppression");
+        final DeleteSuppressionRequest interceptedRequest =
+                DeleteSuppressionConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteSuppressionConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, DeleteSuppressionResponse>
+                transformer = DeleteSuppressionConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetSenderResponse> getSender(
             final GetSenderRequest request,
@@ -698,6 +800,29 @@ public class EmailAsyncClient implements EmailAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetSenderResponse> getSender(
+            final GetSenderRequest request) {
+        LOG.trace("Called async getSender");
+        final GetSenderRequest interceptedRequest = GetSenderConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetSenderConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetSenderResponse>
+                transformer = GetSenderConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetSuppressionResponse> getSuppression(
             final GetSuppressionRequest request,
@@ -772,6 +897,30 @@ public class EmailAsyncClient implements EmailAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetSuppressionResponse> getSuppression(
+            final GetSuppressionRequest request) {
+        LOG.trace("Called async getSuppression");
+        final GetSuppressionRequest interceptedRequest =
+                GetSuppressionConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetSuppressionConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetSuppressionResponse>
+                transformer = GetSuppressionConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListSendersResponse> listSenders(
             final ListSendersRequest request,
@@ -845,6 +994,30 @@ public class EmailAsyncClient implements EmailAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListSendersResponse> listSenders(
+            final ListSendersRequest request) {
+        LOG.trace("Called async listSenders");
+        final ListSendersRequest interceptedRequest =
+                ListSendersConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListSendersConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListSendersResponse>
+                transformer = ListSendersConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListSuppressionsResponse> listSuppressions(
             final ListSuppressionsRequest request,
@@ -919,6 +1092,30 @@ public class EmailAsyncClient implements EmailAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListSuppressionsResponse> listSuppressions(
+            final ListSuppressionsRequest request) {
+        LOG.trace("Called async listSuppressions");
+        final ListSuppressionsRequest interceptedRequest =
+                ListSuppressionsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListSuppressionsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListSuppressionsResponse>
+                transformer = ListSuppressionsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateSenderResponse> updateSender(
             final UpdateSenderRequest request,
@@ -1006,4 +1203,31 @@ public class EmailAsyncClient implements EmailAsync {
                     responseFuture, transformer);
         }
     }
+
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateSenderResponse> updateSender(
+            final UpdateSenderRequest request) {
+        LOG.trace("Called async updateSender");
+        final UpdateSenderRequest interceptedRequest =
+                UpdateSenderConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateSenderConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, UpdateSenderResponse>
+                transformer = UpdateSenderConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdateSenderDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
 }
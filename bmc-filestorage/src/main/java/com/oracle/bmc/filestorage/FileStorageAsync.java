@@ -53,6 +53,25 @@ public interface FileStorageAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<CreateExportRequest, CreateExportResponse>
                     handler);
 
+    /**
+     * Creates a new export in the specified export set, path, and
+     * file system.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreateExportResponse> createExport(
+            CreateExportRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreateExportRequest, CreateExportResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createExport(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Creates a new file system in the specified compartment and
      * availability domain. Instances can mount file systems in
@@ -94,6 +113,49 @@ public interface FileStorageAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<CreateFileSystemRequest, CreateFileSystemResponse>
                     handler);
 
+    /**
+     * Creates a new file system in the specified compartment and
+     * availability domain. Instances can mount file systems in
+     * another availability domain, but doing so might increase
+     * latency when compared to mounting instances in the same
+     * availability domain.
+     * <p>
+     * After you create a file system, you can associate it with a mount
+     * target. Instances can then mount the file system by connecting to the
+     * mount target's IP address. You can associate a file system with
+     * more than one mount target at a time.
+     * <p>
+     * For information about access control and compartments, see
+     * [Overview of the IAM Service](https://docs.cloud.oracle.com/Content/Identity/Concepts/overview.htm).
+     * <p>
+     * For information about availability domains, see [Regions and
+     * Availability Domains](https://docs.cloud.oracle.com/Content/General/Concepts/regions.htm).
+     * To get a list of availability domains, use the
+     * `ListAvailabilityDomains` operation in the Identity and Access
+     * Management Service API.
+     * <p>
+     * All Oracle Cloud Infrastructure resources, including
+     * file systems, get an Oracle-assigned, unique ID called an Oracle
+     * Cloud Identifier (OCID).  When you create a resource, you can
+     * find its OCID in the response. You can also retrieve a
+     * resource's OCID by using a List API operation on that resource
+     * type or by viewing the resource in the Console.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreateFileSystemResponse> createFileSystem(
+            CreateFileSystemRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreateFileSystemRequest, CreateFileSystemResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createFileSystem(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Creates a new mount target in the specified compartment and
      * subnet. You can associate a file system with a mount
@@ -142,6 +204,55 @@ public interface FileStorageAsync extends AutoCloseable {
                             CreateMountTargetRequest, CreateMountTargetResponse>
                     handler);
 
+    /**
+     * Creates a new mount target in the specified compartment and
+     * subnet. You can associate a file system with a mount
+     * target only when they exist in the same availability domain. Instances
+     * can connect to mount targets in another availablity domain, but
+     * you might see higher latency than with instances in the same
+     * availability domain as the mount target.
+     * <p>
+     * Mount targets have one or more private IP addresses that you can
+     * provide as the host portion of remote target parameters in
+     * client mount commands. These private IP addresses are listed
+     * in the privateIpIds property of the mount target and are highly available. Mount
+     * targets also consume additional IP addresses in their subnet.
+     * Do not use /30 or smaller subnets for mount target creation because they
+     * do not have sufficient available IP addresses.
+     * Allow at least three IP addresses for each mount target.
+     * <p>
+     * For information about access control and compartments, see
+     * [Overview of the IAM
+     * Service](https://docs.cloud.oracle.com/Content/Identity/Concepts/overview.htm).
+     * <p>
+     * For information about availability domains, see [Regions and
+     * Availability Domains](https://docs.cloud.oracle.com/Content/General/Concepts/regions.htm).
+     * To get a list of availability domains, use the
+     * `ListAvailabilityDomains` operation in the Identity and Access
+     * Management Service API.
+     * <p>
+     * All Oracle Cloud Infrastructure Services resources, including
+     * mount targets, get an Oracle-assigned, unique ID called an
+     * Oracle Cloud Identifier (OCID).  When you create a resource,
+     * you can find its OCID in the response. You can also retrieve a
+     * resource's OCID by using a List API operation on that resource
+     * type, or by viewing the resource in the Console.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreateMountTargetResponse> createMountTarget(
+            CreateMountTargetRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreateMountTargetRequest, CreateMountTargetResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createMountTarget(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Creates a new snapshot of the specified file system. You
      * can access the snapshot at `.snapshot/<name>`.
@@ -159,6 +270,25 @@ public interface FileStorageAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<CreateSnapshotRequest, CreateSnapshotResponse>
                     handler);
 
+    /**
+     * Creates a new snapshot of the specified file system. You
+     * can access the snapshot at `.snapshot/<name>`.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreateSnapshotResponse> createSnapshot(
+            CreateSnapshotRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreateSnapshotRequest, CreateSnapshotResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createSnapshot(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Deletes the specified export.
      *
@@ -175,6 +305,24 @@ public interface FileStorageAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<DeleteExportRequest, DeleteExportResponse>
                     handler);
 
+    /**
+     * Deletes the specified export.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<DeleteExportResponse> deleteExport(
+            DeleteExportRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        DeleteExportRequest, DeleteExportResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        deleteExport(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Deletes the specified file system. Before you delete the file system,
      * verify that no remaining export resources still reference it. Deleting a
@@ -193,6 +341,26 @@ public interface FileStorageAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<DeleteFileSystemRequest, DeleteFileSystemResponse>
                     handler);
 
+    /**
+     * Deletes the specified file system. Before you delete the file system,
+     * verify that no remaining export resources still reference it. Deleting a
+     * file system also deletes all of its snapshots.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<DeleteFileSystemResponse> deleteFileSystem(
+            DeleteFileSystemRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        DeleteFileSystemRequest, DeleteFileSystemResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        deleteFileSystem(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Deletes the specified mount target. This operation also deletes the
      * mount target's VNICs.
@@ -211,6 +379,25 @@ public interface FileStorageAsync extends AutoCloseable {
                             DeleteMountTargetRequest, DeleteMountTargetResponse>
                     handler);
 
+    /**
+     * Deletes the specified mount target. This operation also deletes the
+     * mount target's VNICs.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<DeleteMountTargetResponse> deleteMountTarget(
+            DeleteMountTargetRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        DeleteMountTargetRequest, DeleteMountTargetResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        deleteMountTarget(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Deletes the specified snapshot.
      *
@@ -227,6 +414,24 @@ public interface FileStorageAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<DeleteSnapshotRequest, DeleteSnapshotResponse>
                     handler);
 
+    /**
+     * Deletes the specified snapshot.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<DeleteSnapshotResponse> deleteSnapshot(
+            DeleteSnapshotRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        DeleteSnapshotRequest, DeleteSnapshotResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        deleteSnapshot(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the specified export's information.
      *
@@ -241,6 +446,23 @@ public interface FileStorageAsync extends AutoCloseable {
             GetExportRequest request,
             com.oracle.bmc.responses.AsyncHandler<GetExportRequest, GetExportResponse> handler);
 
+    /**
+     * Gets the specified export's information.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetExportResponse> getExport(
+            GetExportRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetExportRequest, GetExportResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getExport(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the specified export set's information.
      *
@@ -256,6 +478,23 @@ public interface FileStorageAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<GetExportSetRequest, GetExportSetResponse>
                     handler);
 
+    /**
+     * Gets the specified export set's information.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetExportSetResponse> getExportSet(
+            GetExportSetRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetExportSetRequest, GetExportSetResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getExportSet(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the specified file system's information.
      *
@@ -271,6 +510,23 @@ public interface FileStorageAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<GetFileSystemRequest, GetFileSystemResponse>
                     handler);
 
+    /**
+     * Gets the specified file system's information.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetFileSystemResponse> getFileSystem(
+            GetFileSystemRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetFileSystemRequest, GetFileSystemResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getFileSystem(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the specified mount target's information.
      *
@@ -286,6 +542,23 @@ public interface FileStorageAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<GetMountTargetRequest, GetMountTargetResponse>
                     handler);
 
+    /**
+     * Gets the specified mount target's information.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetMountTargetResponse> getMountTarget(
+            GetMountTargetRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetMountTargetRequest, GetMountTargetResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getMountTarget(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the specified snapshot's information.
      *
@@ -300,6 +573,23 @@ public interface FileStorageAsync extends AutoCloseable {
             GetSnapshotRequest request,
             com.oracle.bmc.responses.AsyncHandler<GetSnapshotRequest, GetSnapshotResponse> handler);
 
+    /**
+     * Gets the specified snapshot's information.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetSnapshotResponse> getSnapshot(
+            GetSnapshotRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetSnapshotRequest, GetSnapshotResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getSnapshot(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists the export set resources in the specified compartment.
      *
@@ -316,6 +606,24 @@ public interface FileStorageAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<ListExportSetsRequest, ListExportSetsResponse>
                     handler);
 
+    /**
+     * Lists the export set resources in the specified compartment.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListExportSetsResponse> listExportSets(
+            ListExportSetsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListExportSetsRequest, ListExportSetsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listExportSets(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists export resources by compartment, file system, or export
      * set. You must specify an export set ID, a file system ID, and
@@ -333,6 +641,26 @@ public interface FileStorageAsync extends AutoCloseable {
             ListExportsRequest request,
             com.oracle.bmc.responses.AsyncHandler<ListExportsRequest, ListExportsResponse> handler);
 
+    /**
+     * Lists export resources by compartment, file system, or export
+     * set. You must specify an export set ID, a file system ID, and
+     * / or a compartment ID.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListExportsResponse> listExports(
+            ListExportsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListExportsRequest, ListExportsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listExports(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists the file system resources in the specified compartment.
      *
@@ -349,6 +677,24 @@ public interface FileStorageAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<ListFileSystemsRequest, ListFileSystemsResponse>
                     handler);
 
+    /**
+     * Lists the file system resources in the specified compartment.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListFileSystemsResponse> listFileSystems(
+            ListFileSystemsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListFileSystemsRequest, ListFileSystemsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listFileSystems(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists the mount target resources in the specified compartment.
      *
@@ -365,6 +711,24 @@ public interface FileStorageAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<ListMountTargetsRequest, ListMountTargetsResponse>
                     handler);
 
+    /**
+     * Lists the mount target resources in the specified compartment.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListMountTargetsResponse> listMountTargets(
+            ListMountTargetsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListMountTargetsRequest, ListMountTargetsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listMountTargets(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists snapshots of the specified file system.
      *
@@ -381,6 +745,24 @@ public interface FileStorageAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<ListSnapshotsRequest, ListSnapshotsResponse>
                     handler);
 
+    /**
+     * Lists snapshots of the specified file system.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListSnapshotsResponse> listSnapshots(
+            ListSnapshotsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListSnapshotsRequest, ListSnapshotsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listSnapshots(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Updates the specified export's information.
      *
@@ -396,6 +778,23 @@ public interface FileStorageAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<UpdateExportRequest, UpdateExportResponse>
                     handler);
 
+    /**
+     * Updates the specified export's information.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateExportResponse> updateExport(
+            UpdateExportRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateExportRequest, UpdateExportResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateExport(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Updates the specified export set's information.
      *
@@ -411,6 +810,23 @@ public interface FileStorageAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<UpdateExportSetRequest, UpdateExportSetResponse>
                     handler);
 
+    /**
+     * Updates the specified export set's information.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateExportSetResponse> updateExportSet(
+            UpdateExportSetRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateExportSetRequest, UpdateExportSetResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateExportSet(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Updates the specified file system's information.
      * You can use this operation to rename a file system.
@@ -428,6 +844,25 @@ public interface FileStorageAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<UpdateFileSystemRequest, UpdateFileSystemResponse>
                     handler);
 
+    /**
+     * Updates the specified file system's information.
+     * You can use this operation to rename a file system.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateFileSystemResponse> updateFileSystem(
+            UpdateFileSystemRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateFileSystemRequest, UpdateFileSystemResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateFileSystem(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Updates the specified mount target's information.
      *
@@ -444,6 +879,23 @@ public interface FileStorageAsync extends AutoCloseable {
                             UpdateMountTargetRequest, UpdateMountTargetResponse>
                     handler);
 
+    /**
+     * Updates the specified mount target's information.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateMountTargetResponse> updateMountTarget(
+            UpdateMountTargetRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateMountTargetRequest, UpdateMountTargetResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateMountTarget(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Updates the specified snapshot's information.
      *
@@ -458,4 +910,21 @@ public interface FileStorageAsync extends AutoCloseable {
             UpdateSnapshotRequest request,
             com.oracle.bmc.responses.AsyncHandler<UpdateSnapshotRequest, UpdateSnapshotResponse>
                     handler);
+
+    /**
+     * Updates the specified snapshot's information.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateSnapshotResponse> updateSnapshot(
+            UpdateSnapshotRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateSnapshotRequest, UpdateSnapshotResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateSnapshot(request, handler);
+        return handler.getStage();
+    }
 }
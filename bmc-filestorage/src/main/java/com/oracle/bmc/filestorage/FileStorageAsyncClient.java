@@ -389,6 +389,33 @@ public class FileStorageAsyncClient implements FileStorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateExportResponse> createExport(
+            final CreateExportRequest request) {
+        LOG.trace("Called async createExport");
+        final CreateExportRequest interceptedRequest =
+                CreateExportConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateExportConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, CreateExportResponse>
+                transformer = CreateExportConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreateExportDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateFileSystemResponse> createFileSystem(
             final CreateFileSystemRequest request,
@@ -478,6 +505,33 @@ public class FileStorageAsyncClient implements FileStorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateFileSystemResponse> createFileSystem(
+            final CreateFileSystemRequest request) {
+        LOG.trace("Called async createFileSystem");
+        final CreateFileSystemRequest interceptedRequest =
+                CreateFileSystemConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateFileSystemConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, CreateFileSystemResponse>
+                transformer = CreateFileSystemConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreateFileSystemDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateMountTargetResponse> createMountTarget(
             final CreateMountTargetRequest request,
@@ -567,6 +621,33 @@ public class FileStorageAsyncClient implements FileStorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateMountTargetResponse> createMountTarget(
+            final CreateMountTargetRequest request) {
+        LOG.trace("Called async createMountTarget");
+        final CreateMountTargetRequest interceptedRequest =
+                CreateMountTargetConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateMountTargetConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, CreateMountTargetResponse>
+                transformer = CreateMountTargetConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreateMountTargetDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateSnapshotResponse> createSnapshot(
             final CreateSnapshotRequest request,
@@ -656,6 +737,33 @@ public class FileStorageAsyncClient implements FileStorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateSnapshotResponse> createSnapshot(
+            final CreateSnapshotRequest request) {
+        LOG.trace("Called async createSnapshot");
+        final CreateSnapshotRequest interceptedRequest =
+                CreateSnapshotConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateSnapshotConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, CreateSnapshotResponse>
+                transformer = CreateSnapshotConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreateSnapshotDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteExportResponse> deleteExport(
             final DeleteExportRequest request,
@@ -729,6 +837,30 @@ public class FileStorageAsyncClient implements FileStorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteExportResponse> deleteExport(
+            final DeleteExportRequest request) {
+        LOG.trace("Called async deleteExport");
+        final DeleteExportRequest interceptedRequest =
+                DeleteExportConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteExportConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, DeleteExportResponse>
+                transformer = DeleteExportConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteFileSystemResponse> deleteFileSystem(
             final DeleteFileSystemRequest request,
@@ -803,6 +935,30 @@ public class FileStorageAsyncClient implements FileStorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteFileSystemResponse> deleteFileSystem(
+            final DeleteFileSystemRequest request) {
+        LOG.trace("Called async deleteFileSystem");
+        final DeleteFileSystemRequest interceptedRequest =
+                DeleteFileSystemConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteFileSystemConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, DeleteFileSystemResponse>
+                transformer = DeleteFileSystemConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteMountTargetResponse> deleteMountTarget(
             final DeleteMountTargetRequest request,
@@ -877,6 +1033,30 @@ public class FileStorageAsyncClient implements FileStorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteMountTargetResponse> deleteMountTarget(
+            final DeleteMountTargetRequest request) {
+        LOG.trace("Called async deleteMountTarget");
+        final DeleteMountTargetRequest interceptedRequest =
+                DeleteMountTargetConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteMountTargetConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, DeleteMountTargetResponse>
+                transformer = DeleteMountTargetConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteSnapshotResponse> deleteSnapshot(
             final DeleteSnapshotRequest request,
@@ -951,6 +1131,30 @@ public class FileStorageAsyncClient implements FileStorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteSnapshotResponse> deleteSnapshot(
+            final DeleteSnapshotRequest request) {
+        LOG.trace("Called async deleteSnapshot");
+        final DeleteSnapshotRequest interceptedRequest =
+                DeleteSnapshotConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteSnapshotConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, DeleteSnapshotResponse>
+                transformer = DeleteSnapshotConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetExportResponse> getExport(
             final GetExportRequest request,
@@ -1023,6 +1227,29 @@ public class FileStorageAsyncClient implements FileStorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetExportResponse> getExport(
+            final GetExportRequest request) {
+        LOG.trace("Called async getExport");
+        final GetExportRequest interceptedRequest = GetExportConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetExportConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetExportResponse>
+                transformer = GetExportConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetExportSetResponse> getExportSet(
             final GetExportSetRequest request,
@@ -1096,6 +1323,30 @@ public class FileStorageAsyncClient implements FileStorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetExportSetResponse> getExportSet(
+            final GetExportSetRequest request) {
+        LOG.trace("Called async getExportSet");
+        final GetExportSetRequest interceptedRequest =
+                GetExportSetConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetExportSetConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetExportSetResponse>
+                transformer = GetExportSetConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetFileSystemResponse> getFileSystem(
             final GetFileSystemRequest request,
@@ -1169,6 +1420,30 @@ public class FileStorageAsyncClient implements FileStorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetFileSystemResponse> getFileSystem(
+            final GetFileSystemRequest request) {
+        LOG.trace("Called async getFileSystem");
+        final GetFileSystemRequest interceptedRequest =
+                GetFileSystemConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetFileSystemConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetFileSystemResponse>
+                transformer = GetFileSystemConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetMountTargetResponse> getMountTarget(
             final GetMountTargetRequest request,
@@ -1243,6 +1518,30 @@ public class FileStorageAsyncClient implements FileStorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetMountTargetResponse> getMountTarget(
+            final GetMountTargetRequest request) {
+        LOG.trace("Called async getMountTarget");
+        final GetMountTargetRequest interceptedRequest =
+                GetMountTargetConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetMountTargetConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetMountTargetResponse>
+                transformer = GetMountTargetConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetSnapshotResponse> getSnapshot(
             final GetSnapshotRequest request,
@@ -1316,6 +1615,30 @@ public class FileStorageAsyncClient implements FileStorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetSnapshotResponse> getSnapshot(
+            final GetSnapshotRequest request) {
+        LOG.trace("Called async getSnapshot");
+        final GetSnapshotRequest interceptedRequest =
+                GetSnapshotConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetSnapshotConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetSnapshotResponse>
+                transformer = GetSnapshotConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListExportSetsResponse> listExportSets(
             final ListExportSetsRequest request,
@@ -1390,6 +1713,30 @@ public class FileStorageAsyncClient implements FileStorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListExportSetsResponse> listExportSets(
+            final ListExportSetsRequest request) {
+        LOG.trace("Called async listExportSets");
+        final ListExportSetsRequest interceptedRequest =
+                ListExportSetsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListExportSetsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListExportSetsResponse>
+                transformer = ListExportSetsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListExportsResponse> listExports(
             final ListExportsRequest request,
@@ -1463,6 +1810,30 @@ public class FileStorageAsyncClient implements FileStorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListExportsResponse> listExports(
+            final ListExportsRequest request) {
+        LOG.trace("Called async listExports");
+        final ListExportsRequest interceptedRequest =
+                ListExportsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListExportsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListExportsResponse>
+                transformer = ListExportsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListFileSystemsResponse> listFileSystems(
             final ListFileSystemsRequest request,
@@ -1537,6 +1908,30 @@ public class FileStorageAsyncClient implements FileStorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListFileSystemsResponse> listFileSystems(
+            final ListFileSystemsRequest request) {
+        LOG.trace("Called async listFileSystems");
+        final ListFileSystemsRequest interceptedRequest =
+                ListFileSystemsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListFileSystemsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListFileSystemsResponse>
+                transformer = ListFileSystemsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListMountTargetsResponse> listMountTargets(
             final ListMountTargetsRequest request,
@@ -1611,6 +2006,30 @@ public class FileStorageAsyncClient implements FileStorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListMountTargetsResponse> listMountTargets(
+            final ListMountTargetsRequest request) {
+        LOG.trace("Called async listMountTargets");
+        final ListMountTargetsRequest interceptedRequest =
+                ListMountTargetsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListMountTargetsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListMountTargetsResponse>
+                transformer = ListMountTargetsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListSnapshotsResponse> listSnapshots(
             final ListSnapshotsRequest request,
@@ -1684,6 +2103,30 @@ public class FileStorageAsyncClient implements FileStorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListSnapshotsResponse> listSnapshots(
+            final ListSnapshotsRequest request) {
+        LOG.trace("Called async listSnapshots");
+        final ListSnapshotsRequest interceptedRequest =
+                ListSnapshotsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListSnapshotsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListSnapshotsResponse>
+                transformer = ListSnapshotsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateExportResponse> updateExport(
             final UpdateExportRequest request,
@@ -1772,6 +2215,33 @@ public class FileStorageAsyncClient implements FileStorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateExportResponse> updateExport(
+            final UpdateExportRequest request) {
+        LOG.trace("Called async updateExport");
+        final UpdateExportRequest interceptedRequest =
+                UpdateExportConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateExportConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, UpdateExportResponse>
+                transformer = UpdateExportConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdateExportDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateExportSetResponse> updateExportSet(
             final UpdateExportSetRequest request,
@@ -1861,6 +2331,33 @@ public class FileStorageAsyncClient implements FileStorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateExportSetResponse> updateExportSet(
+            final UpdateExportSetRequest request) {
+        LOG.trace("Called async updateExportSet");
+        final UpdateExportSetRequest interceptedRequest =
+                UpdateExportSetConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateExportSetConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, UpdateExportSetResponse>
+                transformer = UpdateExportSetConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdateExportSetDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateFileSystemResponse> updateFileSystem(
             final UpdateFileSystemRequest request,
@@ -1950,6 +2447,33 @@ public class FileStorageAsyncClient implements FileStorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateFileSystemResponse> updateFileSystem(
+            final UpdateFileSystemRequest request) {
+        LOG.trace("Called async updateFileSystem");
+        final UpdateFileSystemRequest interceptedRequest =
+                UpdateFileSystemConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateFileSystemConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, UpdateFileSystemResponse>
+                transformer = UpdateFileSystemConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdateFileSystemDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateMountTargetResponse> updateMountTarget(
             final UpdateMountTargetRequest request,
@@ -2039,6 +2563,33 @@ public class FileStorageAsyncClient implements FileStorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateMountTargetResponse> updateMountTarget(
+            final UpdateMountTargetRequest request) {
+        LOG.trace("Called async updateMountTarget");
+        final UpdateMountTargetRequest interceptedRequest =
+                UpdateMountTargetConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateMountTargetConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, UpdateMountTargetResponse>
+                transformer = UpdateMountTargetConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdateMountTargetDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateSnapshotResponse> updateSnapshot(
             final UpdateSnapshotRequest request,
@@ -2127,4 +2678,31 @@ public class FileStorageAsyncClient implements FileStorageAsync {
                     responseFuture, transformer);
         }
     }
+
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateSnapshotResponse> updateSnapshot(
+            final UpdateSnapshotRequest request) {
+        LOG.trace("Called async updateSnapshot");
+        final UpdateSnapshotRequest interceptedRequest =
+                UpdateSnapshotConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateSnapshotConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, UpdateSnapshotResponse>
+                transformer = UpdateSnapshotConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdateSnapshotDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
 }
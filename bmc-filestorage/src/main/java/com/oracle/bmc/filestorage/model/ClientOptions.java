@@ -82,7 +82,8 @@ public class ClientOptions {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public ClientOptions build() {
             ClientOptions __instance__ =
@@ -277,6 +278,16 @@ public class ClientOptions {
     @com.fasterxml.jackson.annotation.JsonProperty("anonymousGid")
     Long anonymousGid;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "source",
+                    "requirePrivilegedSourcePort",
+                    "access",
+                    "identitySquash",
+                    "anonymousUid",
+                    "anonymousGid");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
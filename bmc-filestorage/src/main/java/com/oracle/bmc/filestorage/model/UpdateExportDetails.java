@@ -34,7 +34,8 @@ public class UpdateExportDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public UpdateExportDetails build() {
             UpdateExportDetails __instance__ = new UpdateExportDetails(exportOptions);
@@ -69,6 +70,10 @@ public class UpdateExportDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("exportOptions")
     java.util.List<ClientOptions> exportOptions;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of("exportOptions");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -55,6 +55,26 @@ public interface HealthChecksAsync extends AutoCloseable {
                             CreateHttpMonitorRequest, CreateHttpMonitorResponse>
                     handler);
 
+    /**
+     * Creates an HTTP monitor. Vantage points will be automatically selected if not specified,
+     * and probes will be initiated from each vantage point to each of the targets at the frequency
+     * specified by `intervalInSeconds`.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreateHttpMonitorResponse> createHttpMonitor(
+            CreateHttpMonitorRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreateHttpMonitorRequest, CreateHttpMonitorResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createHttpMonitor(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Creates an on-demand HTTP probe. The location response header contains the URL for
      * fetching the probe results.
@@ -75,6 +95,27 @@ public interface HealthChecksAsync extends AutoCloseable {
                             CreateOnDemandHttpProbeRequest, CreateOnDemandHttpProbeResponse>
                     handler);
 
+    /**
+     * Creates an on-demand HTTP probe. The location response header contains the URL for
+     * fetching the probe results.
+     * <p>
+     *Note:* On-demand probe configurations are not saved.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreateOnDemandHttpProbeResponse>
+            createOnDemandHttpProbe(CreateOnDemandHttpProbeRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreateOnDemandHttpProbeRequest, CreateOnDemandHttpProbeResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createOnDemandHttpProbe(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Creates an on-demand ping probe. The location response header contains the URL for
      * fetching probe results.
@@ -95,6 +136,27 @@ public interface HealthChecksAsync extends AutoCloseable {
                             CreateOnDemandPingProbeRequest, CreateOnDemandPingProbeResponse>
                     handler);
 
+    /**
+     * Creates an on-demand ping probe. The location response header contains the URL for
+     * fetching probe results.
+     * <p>
+     *Note:* The on-demand probe configuration is not saved.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreateOnDemandPingProbeResponse>
+            createOnDemandPingProbe(CreateOnDemandPingProbeRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreateOnDemandPingProbeRequest, CreateOnDemandPingProbeResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createOnDemandPingProbe(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Creates a ping monitor. Vantage points will be automatically selected if not specified,
      * and probes will be initiated from each vantage point to each of the targets at the frequency
@@ -114,6 +176,26 @@ public interface HealthChecksAsync extends AutoCloseable {
                             CreatePingMonitorRequest, CreatePingMonitorResponse>
                     handler);
 
+    /**
+     * Creates a ping monitor. Vantage points will be automatically selected if not specified,
+     * and probes will be initiated from each vantage point to each of the targets at the frequency
+     * specified by `intervalInSeconds`.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreatePingMonitorResponse> createPingMonitor(
+            CreatePingMonitorRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreatePingMonitorRequest, CreatePingMonitorResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createPingMonitor(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Deletes the HTTP monitor and its configuration. All future probes of this
      * monitor are stopped. Results associated with the monitor are not deleted.
@@ -132,6 +214,25 @@ public interface HealthChecksAsync extends AutoCloseable {
                             DeleteHttpMonitorRequest, DeleteHttpMonitorResponse>
                     handler);
 
+    /**
+     * Deletes the HTTP monitor and its configuration. All future probes of this
+     * monitor are stopped. Results associated with the monitor are not deleted.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<DeleteHttpMonitorResponse> deleteHttpMonitor(
+            DeleteHttpMonitorRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        DeleteHttpMonitorRequest, DeleteHttpMonitorResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        deleteHttpMonitor(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Deletes the ping monitor and its configuration. All future probes of this
      * monitor are stopped. Results associated with the monitor are not deleted.
@@ -150,6 +251,25 @@ public interface HealthChecksAsync extends AutoCloseable {
                             DeletePingMonitorRequest, DeletePingMonitorResponse>
                     handler);
 
+    /**
+     * Deletes the ping monitor and its configuration. All future probes of this
+     * monitor are stopped. Results associated with the monitor are not deleted.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<DeletePingMonitorResponse> deletePingMonitor(
+            DeletePingMonitorRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        DeletePingMonitorRequest, DeletePingMonitorResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        deletePingMonitor(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the configuration for the specified monitor.
      *
@@ -166,6 +286,24 @@ public interface HealthChecksAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<GetHttpMonitorRequest, GetHttpMonitorResponse>
                     handler);
 
+    /**
+     * Gets the configuration for the specified monitor.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetHttpMonitorResponse> getHttpMonitor(
+            GetHttpMonitorRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetHttpMonitorRequest, GetHttpMonitorResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getHttpMonitor(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the configuration for the specified ping monitor.
      *
@@ -182,6 +320,24 @@ public interface HealthChecksAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<GetPingMonitorRequest, GetPingMonitorResponse>
                     handler);
 
+    /**
+     * Gets the configuration for the specified ping monitor.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetPingMonitorResponse> getPingMonitor(
+            GetPingMonitorRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetPingMonitorRequest, GetPingMonitorResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getPingMonitor(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets information about all vantage points available to the user.
      *
@@ -201,6 +357,24 @@ public interface HealthChecksAsync extends AutoCloseable {
                                     ListHealthChecksVantagePointsResponse>
                             handler);
 
+    /**
+     * Gets information about all vantage points available to the user.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListHealthChecksVantagePointsResponse>
+            listHealthChecksVantagePoints(ListHealthChecksVantagePointsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListHealthChecksVantagePointsRequest, ListHealthChecksVantagePointsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listHealthChecksVantagePoints(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets a list of HTTP monitors.
      *
@@ -217,6 +391,24 @@ public interface HealthChecksAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<ListHttpMonitorsRequest, ListHttpMonitorsResponse>
                     handler);
 
+    /**
+     * Gets a list of HTTP monitors.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListHttpMonitorsResponse> listHttpMonitors(
+            ListHttpMonitorsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListHttpMonitorsRequest, ListHttpMonitorsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listHttpMonitors(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the HTTP probe results for the specified probe or monitor, where
      * the `probeConfigurationId` is the OCID of either a monitor or an
@@ -236,6 +428,26 @@ public interface HealthChecksAsync extends AutoCloseable {
                             ListHttpProbeResultsRequest, ListHttpProbeResultsResponse>
                     handler);
 
+    /**
+     * Gets the HTTP probe results for the specified probe or monitor, where
+     * the `probeConfigurationId` is the OCID of either a monitor or an
+     * on-demand probe.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListHttpProbeResultsResponse> listHttpProbeResults(
+            ListHttpProbeResultsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListHttpProbeResultsRequest, ListHttpProbeResultsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listHttpProbeResults(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets a list of configured ping monitors.
      * <p>
@@ -255,6 +467,27 @@ public interface HealthChecksAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<ListPingMonitorsRequest, ListPingMonitorsResponse>
                     handler);
 
+    /**
+     * Gets a list of configured ping monitors.
+     * <p>
+     * Results are paginated based on `page` and `limit`.  The `opc-next-page` header provides
+     * a URL for fetching the next page.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListPingMonitorsResponse> listPingMonitors(
+            ListPingMonitorsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListPingMonitorsRequest, ListPingMonitorsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listPingMonitors(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Returns the results for the specified probe, where the `probeConfigurationId`
      * is the OCID of either a monitor or an on-demand probe.
@@ -278,6 +511,30 @@ public interface HealthChecksAsync extends AutoCloseable {
                             ListPingProbeResultsRequest, ListPingProbeResultsResponse>
                     handler);
 
+    /**
+     * Returns the results for the specified probe, where the `probeConfigurationId`
+     * is the OCID of either a monitor or an on-demand probe.
+     * <p>
+     * Results are paginated based on `page` and `limit`.  The `opc-next-page` header provides
+     * a URL for fetching the next page.  Use `sortOrder` to set the order of the
+     * results.  If `sortOrder` is unspecified, results are sorted in ascending order by
+     * `startTime`.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListPingProbeResultsResponse> listPingProbeResults(
+            ListPingProbeResultsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListPingProbeResultsRequest, ListPingProbeResultsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listPingProbeResults(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Updates the configuration of the specified HTTP monitor. Only the fields
      * specified in the request body will be updated; all other configuration
@@ -297,6 +554,26 @@ public interface HealthChecksAsync extends AutoCloseable {
                             UpdateHttpMonitorRequest, UpdateHttpMonitorResponse>
                     handler);
 
+    /**
+     * Updates the configuration of the specified HTTP monitor. Only the fields
+     * specified in the request body will be updated; all other configuration
+     * properties will remain unchanged.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateHttpMonitorResponse> updateHttpMonitor(
+            UpdateHttpMonitorRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateHttpMonitorRequest, UpdateHttpMonitorResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateHttpMonitor(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Updates the configuration of the specified ping monitor. Only the fields
      * specified in the request body will be updated; all other configuration properties
@@ -315,4 +592,24 @@ public interface HealthChecksAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<
                             UpdatePingMonitorRequest, UpdatePingMonitorResponse>
                     handler);
+
+    /**
+     * Updates the configuration of the specified ping monitor. Only the fields
+     * specified in the request body will be updated; all other configuration properties
+     * will remain unchanged.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdatePingMonitorResponse> updatePingMonitor(
+            UpdatePingMonitorRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdatePingMonitorRequest, UpdatePingMonitorResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updatePingMonitor(request, handler);
+        return handler.getStage();
+    }
 }
@@ -390,6 +390,33 @@ public class HealthChecksAsyncClient implements HealthChecksAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateHttpMonitorResponse> createHttpMonitor(
+            final CreateHttpMonitorRequest request) {
+        LOG.trace("Called async createHttpMonitor");
+        final CreateHttpMonitorRequest interceptedRequest =
+                CreateHttpMonitorConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateHttpMonitorConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, CreateHttpMonitorResponse>
+                transformer = CreateHttpMonitorConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreateHttpMonitorDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateOnDemandHttpProbeResponse> createOnDemandHttpProbe(
             final CreateOnDemandHttpProbeRequest request,
@@ -481,6 +508,34 @@ public class HealthChecksAsyncClient implements HealthChecksAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateOnDemandHttpProbeResponse>
+            createOnDemandHttpProbe(final CreateOnDemandHttpProbeRequest request) {
+        LOG.trace("Called async createOnDemandHttpProbe");
+        final CreateOnDemandHttpProbeRequest interceptedRequest =
+                CreateOnDemandHttpProbeConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateOnDemandHttpProbeConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, CreateOnDemandHttpProbeResponse>
+                transformer = CreateOnDemandHttpProbeConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreateOnDemandHttpProbeDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateOnDemandPingProbeResponse> createOnDemandPingProbe(
             final CreateOnDemandPingProbeRequest request,
@@ -572,6 +627,34 @@ public class HealthChecksAsyncClient implements HealthChecksAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateOnDemandPingProbeResponse>
+            createOnDemandPingProbe(final CreateOnDemandPingProbeRequest request) {
+        LOG.trace("Called async createOnDemandPingProbe");
+        final CreateOnDemandPingProbeRequest interceptedRequest =
+                CreateOnDemandPingProbeConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateOnDemandPingProbeConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, CreateOnDemandPingProbeResponse>
+                transformer = CreateOnDemandPingProbeConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreateOnDemandPingProbeDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreatePingMonitorResponse> createPingMonitor(
             final CreatePingMonitorRequest request,
@@ -661,6 +744,33 @@ public class HealthChecksAsyncClient implements HealthChecksAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreatePingMonitorResponse> createPingMonitor(
+            final CreatePingMonitorRequest request) {
+        LOG.trace("Called async createPingMonitor");
+        final CreatePingMonitorRequest interceptedRequest =
+                CreatePingMonitorConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreatePingMonitorConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, CreatePingMonitorResponse>
+                transformer = CreatePingMonitorConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreatePingMonitorDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteHttpMonitorResponse> deleteHttpMonitor(
             final DeleteHttpMonitorRequest request,
@@ -735,6 +845,30 @@ public class HealthChecksAsyncClient implements HealthChecksAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteHttpMonitorResponse> deleteHttpMonitor(
+            final DeleteHttpMonitorRequest request) {
+        LOG.trace("Called async deleteHttpMonitor");
+        final DeleteHttpMonitorRequest interceptedRequest =
+                DeleteHttpMonitorConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteHttpMonitorConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, DeleteHttpMonitorResponse>
+                transformer = DeleteHttpMonitorConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeletePingMonitorResponse> deletePingMonitor(
             final DeletePingMonitorRequest request,
@@ -809,6 +943,30 @@ public class HealthChecksAsyncClient implements HealthChecksAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeletePingMonitorResponse> deletePingMonitor(
+            final DeletePingMonitorRequest request) {
+        LOG.trace("Called async deletePingMonitor");
+        final DeletePingMonitorRequest interceptedRequest =
+                DeletePingMonitorConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeletePingMonitorConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, DeletePingMonitorResponse>
+                transformer = DeletePingMonitorConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetHttpMonitorResponse> getHttpMonitor(
             final GetHttpMonitorRequest request,
@@ -883,6 +1041,30 @@ public class HealthChecksAsyncClient implements HealthChecksAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetHttpMonitorResponse> getHttpMonitor(
+            final GetHttpMonitorRequest request) {
+        LOG.trace("Called async getHttpMonitor");
+        final GetHttpMonitorRequest interceptedRequest =
+                GetHttpMonitorConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetHttpMonitorConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetHttpMonitorResponse>
+                transformer = GetHttpMonitorConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetPingMonitorResponse> getPingMonitor(
             final GetPingMonitorRequest request,
@@ -957,6 +1139,30 @@ public class HealthChecksAsyncClient implements HealthChecksAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetPingMonitorResponse> getPingMonitor(
+            final GetPingMonitorRequest request) {
+        LOG.trace("Called async getPingMonitor");
+        final GetPingMonitorRequest interceptedRequest =
+                GetPingMonitorConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetPingMonitorConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetPingMonitorResponse>
+                transformer = GetPingMonitorConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListHealthChecksVantagePointsResponse>
             listHealthChecksVantagePoints(
@@ -1036,6 +1242,31 @@ public class HealthChecksAsyncClient implements HealthChecksAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListHealthChecksVantagePointsResponse>
+            listHealthChecksVantagePoints(final ListHealthChecksVantagePointsRequest request) {
+        LOG.trace("Called async listHealthChecksVantagePoints");
+        final ListHealthChecksVantagePointsRequest interceptedRequest =
+                ListHealthChecksVantagePointsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListHealthChecksVantagePointsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, ListHealthChecksVantagePointsResponse>
+                transformer = ListHealthChecksVantagePointsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListHttpMonitorsResponse> listHttpMonitors(
             final ListHttpMonitorsRequest request,
@@ -1110,6 +1341,30 @@ public class HealthChecksAsyncClient implements HealthChecksAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListHttpMonitorsResponse> listHttpMonitors(
+            final ListHttpMonitorsRequest request) {
+        LOG.trace("Called async listHttpMonitors");
+        final ListHttpMonitorsRequest interceptedRequest =
+                ListHttpMonitorsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListHttpMonitorsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListHttpMonitorsResponse>
+                transformer = ListHttpMonitorsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListHttpProbeResultsResponse> listHttpProbeResults(
             final ListHttpProbeResultsRequest request,
@@ -1186,6 +1441,31 @@ public class HealthChecksAsyncClient implements HealthChecksAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListHttpProbeResultsResponse> listHttpProbeResults(
+            final ListHttpProbeResultsRequest request) {
+        LOG.trace("Called async listHttpProbeResults");
+        final ListHttpProbeResultsRequest interceptedRequest =
+                ListHttpProbeResultsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListHttpProbeResultsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, ListHttpProbeResultsResponse>
+                transformer = ListHttpProbeResultsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListPingMonitorsResponse> listPingMonitors(
             final ListPingMonitorsRequest request,
@@ -1260,6 +1540,30 @@ public class HealthChecksAsyncClient implements HealthChecksAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListPingMonitorsResponse> listPingMonitors(
+            final ListPingMonitorsRequest request) {
+        LOG.trace("Called async listPingMonitors");
+        final ListPingMonitorsRequest interceptedRequest =
+                ListPingMonitorsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListPingMonitorsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListPingMonitorsResponse>
+                transformer = ListPingMonitorsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListPingProbeResultsResponse> listPingProbeResults(
             final ListPingProbeResultsRequest request,
@@ -1336,6 +1640,31 @@ public class HealthChecksAsyncClient implements HealthChecksAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListPingProbeResultsResponse> listPingProbeResults(
+            final ListPingProbeResultsRequest request) {
+        LOG.trace("Called async listPingProbeResults");
+        final ListPingProbeResultsRequest interceptedRequest =
+                ListPingProbeResultsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListPingProbeResultsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, ListPingProbeResultsResponse>
+                transformer = ListPingProbeResultsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateHttpMonitorResponse> updateHttpMonitor(
             final UpdateHttpMonitorRequest request,
@@ -1425,6 +1754,33 @@ public class HealthChecksAsyncClient implements HealthChecksAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateHttpMonitorResponse> updateHttpMonitor(
+            final UpdateHttpMonitorRequest request) {
+        LOG.trace("Called async updateHttpMonitor");
+        final UpdateHttpMonitorRequest interceptedRequest =
+                UpdateHttpMonitorConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateHttpMonitorConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, UpdateHttpMonitorResponse>
+                transformer = UpdateHttpMonitorConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdateHttpMonitorDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdatePingMonitorResponse> updatePingMonitor(
             final UpdatePingMonitorRequest request,
@@ -1513,4 +1869,31 @@ public class HealthChecksAsyncClient implements HealthChecksAsync {
                     responseFuture, transformer);
         }
     }
+
+    @Override
+    public java.util.concurrent.CompletionStage<UpdatePingMonitorResponse> updatePingMonitor(
+            final UpdatePingMonitorRequest request) {
+        LOG.trace("Called async updatePingMonitor");
+        final UpdatePingMonitorRequest interceptedRequest =
+                UpdatePingMonitorConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdatePingMonitorConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, UpdatePingMonitorResponse>
+                transformer = UpdatePingMonitorConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdatePingMonitorDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
 }
@@ -106,7 +106,8 @@ public class CreateOnDemandHttpProbeDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public CreateOnDemandHttpProbeDetails build() {
             CreateOnDemandHttpProbeDetails __instance__ =
@@ -198,6 +199,19 @@ public class CreateOnDemandHttpProbeDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("headers")
     java.util.Map<String, String> headers;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "compartmentId",
+                    "targets",
+                    "vantagePointNames",
+                    "port",
+                    "timeoutInSeconds",
+                    "protocol",
+                    "method",
+                    "path",
+                    "headers");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
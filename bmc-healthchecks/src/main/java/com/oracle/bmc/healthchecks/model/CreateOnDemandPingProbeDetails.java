@@ -79,7 +79,8 @@ public class CreateOnDemandPingProbeDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public CreateOnDemandPingProbeDetails build() {
             CreateOnDemandPingProbeDetails __instance__ =
@@ -147,6 +148,16 @@ public class CreateOnDemandPingProbeDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("protocol")
     PingProbeProtocol protocol;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "compartmentId",
+                    "targets",
+                    "vantagePointNames",
+                    "port",
+                    "timeoutInSeconds",
+                    "protocol");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -86,7 +86,8 @@ public class Geolocation {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public Geolocation build() {
             Geolocation __instance__ =
@@ -177,6 +178,17 @@ public class Geolocation {
     @com.fasterxml.jackson.annotation.JsonProperty("longitude")
     Float longitude;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "geoKey",
+                    "adminDivCode",
+                    "cityName",
+                    "countryCode",
+                    "countryName",
+                    "latitude",
+                    "longitude");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -70,7 +70,8 @@ public class HealthChecksVantagePointSummary {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public HealthChecksVantagePointSummary build() {
             HealthChecksVantagePointSummary __instance__ =
@@ -143,6 +144,11 @@ public class HealthChecksVantagePointSummary {
     @com.fasterxml.jackson.annotation.JsonProperty("routing")
     java.util.List<Routing> routing;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "displayName", "providerName", "name", "geo", "routing");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
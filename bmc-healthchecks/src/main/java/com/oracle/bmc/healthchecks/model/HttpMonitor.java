@@ -169,7 +169,8 @@ public class HttpMonitor {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public HttpMonitor build() {
             HttpMonitor __instance__ =
@@ -326,6 +327,26 @@ public class HttpMonitor {
     @com.fasterxml.jackson.annotation.JsonProperty("definedTags")
     java.util.Map<String, java.util.Map<String, Object>> definedTags;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "id",
+                    "resultsUrl",
+                    "compartmentId",
+                    "targets",
+                    "vantagePointNames",
+                    "port",
+                    "timeoutInSeconds",
+                    "protocol",
+                    "method",
+                    "path",
+                    "headers",
+                    "displayName",
+                    "intervalInSeconds",
+                    "isEnabled",
+                    "freeformTags",
+                    "definedTags");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
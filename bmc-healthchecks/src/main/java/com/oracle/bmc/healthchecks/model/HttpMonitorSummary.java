@@ -108,7 +108,8 @@ public class HttpMonitorSummary {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public HttpMonitorSummary build() {
             HttpMonitorSummary __instance__ =
@@ -211,6 +212,19 @@ public class HttpMonitorSummary {
     @com.fasterxml.jackson.annotation.JsonProperty("protocol")
     HttpProbeProtocol protocol;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "id",
+                    "resultsUrl",
+                    "compartmentId",
+                    "displayName",
+                    "intervalInSeconds",
+                    "isEnabled",
+                    "freeformTags",
+                    "definedTags",
+                    "protocol");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
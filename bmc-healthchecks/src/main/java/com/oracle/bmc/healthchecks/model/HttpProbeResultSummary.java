@@ -247,7 +247,8 @@ public class HttpProbeResultSummary {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public HttpProbeResultSummary build() {
             HttpProbeResultSummary __instance__ =
@@ -550,6 +551,34 @@ public class HttpProbeResultSummary {
     @com.fasterxml.jackson.annotation.JsonProperty("encodedBodySize")
     Integer encodedBodySize;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "key",
+                    "probeConfigurationId",
+                    "startTime",
+                    "target",
+                    "vantagePointName",
+                    "isTimedOut",
+                    "isHealthy",
+                    "errorCategory",
+                    "errorMessage",
+                    "protocol",
+                    "connection",
+                    "dns",
+                    "statusCode",
+                    "domainLookupStart",
+                    "domainLookupEnd",
+                    "connectStart",
+                    "secureConnectionStart",
+                    "connectEnd",
+                    "fetchStart",
+                    "requestStart",
+                    "responseStart",
+                    "responseEnd",
+                    "duration",
+                    "encodedBodySize");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -172,7 +172,8 @@ public class PingProbeResultSummary {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public PingProbeResultSummary build() {
             PingProbeResultSummary __instance__ =
@@ -398,6 +399,26 @@ public class PingProbeResultSummary {
     @com.fasterxml.jackson.annotation.JsonProperty("icmpCode")
     Integer icmpCode;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "key",
+                    "probeConfigurationId",
+                    "startTime",
+                    "target",
+                    "vantagePointName",
+                    "isTimedOut",
+                    "isHealthy",
+                    "errorCategory",
+                    "errorMessage",
+                    "protocol",
+                    "connection",
+                    "dns",
+                    "domainLookupStart",
+                    "domainLookupEnd",
+                    "latencyInMs",
+                    "icmpCode");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -53,6 +53,24 @@ public interface IdentityAsync extends AutoCloseable {
                             ActivateMfaTotpDeviceRequest, ActivateMfaTotpDeviceResponse>
                     handler);
 
+    /**
+     * Activates the specified MFA TOTP device for the user. Activation requires manual interaction with the Console.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ActivateMfaTotpDeviceResponse>
+            activateMfaTotpDevice(ActivateMfaTotpDeviceRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ActivateMfaTotpDeviceRequest, ActivateMfaTotpDeviceResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        activateMfaTotpDevice(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Adds the specified user to the specified group and returns a `UserGroupMembership` object with its own OCID.
      * <p>
@@ -72,6 +90,27 @@ public interface IdentityAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<AddUserToGroupRequest, AddUserToGroupResponse>
                     handler);
 
+    /**
+     * Adds the specified user to the specified group and returns a `UserGroupMembership` object with its own OCID.
+     * <p>
+     * After you send your request, the new object's `lifecycleState` will temporarily be CREATING. Before using the
+     * object, first make sure its `lifecycleState` has changed to ACTIVE.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<AddUserToGroupResponse> addUserToGroup(
+            AddUserToGroupRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        AddUserToGroupRequest, AddUserToGroupResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        addUserToGroup(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Moves the specified tag namespace to the specified compartment within the same tenancy.
      * <p>
@@ -96,6 +135,29 @@ public interface IdentityAsync extends AutoCloseable {
                                     ChangeTagNamespaceCompartmentResponse>
                             handler);
 
+    /**
+     * Moves the specified tag namespace to the specified compartment within the same tenancy.
+     * <p>
+     * To move the tag namespace, you must have the manage tag-namespaces permission on both compartments.
+     * For more information about IAM policies, see [Details for IAM](https://docs.cloud.oracle.com/Content/Identity/Reference/iampolicyreference.htm).
+     * <p>
+     * Moving a tag namespace moves all the tag key definitions contained in the tag namespace.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ChangeTagNamespaceCompartmentResponse>
+            changeTagNamespaceCompartment(ChangeTagNamespaceCompartmentRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ChangeTagNamespaceCompartmentRequest, ChangeTagNamespaceCompartmentResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        changeTagNamespaceCompartment(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Creates a new auth token for the specified user. For information about what auth tokens are for, see
      * [Managing User Credentials](https://docs.cloud.oracle.com/Content/Identity/Tasks/managingcredentials.htm).
@@ -121,6 +183,33 @@ public interface IdentityAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<CreateAuthTokenRequest, CreateAuthTokenResponse>
                     handler);
 
+    /**
+     * Creates a new auth token for the specified user. For information about what auth tokens are for, see
+     * [Managing User Credentials](https://docs.cloud.oracle.com/Content/Identity/Tasks/managingcredentials.htm).
+     * <p>
+     * You must specify a *description* for the auth token (although it can be an empty string). It does not
+     * have to be unique, and you can change it anytime with
+     * {@link #updateAuthToken(UpdateAuthTokenRequest, Consumer, Consumer) updateAuthToken}.
+     * <p>
+     * Every user has permission to create an auth token for *their own user ID*. An administrator in your organization
+     * does not need to write a policy to give users this ability. To compare, administrators who have permission to the
+     * tenancy can use this operation to create an auth token for any user, including themselves.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreateAuthTokenResponse> createAuthToken(
+            CreateAuthTokenRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreateAuthTokenRequest, CreateAuthTokenResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createAuthToken(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Creates a new compartment in the specified compartment.
      * <p>
@@ -156,6 +245,42 @@ public interface IdentityAsync extends AutoCloseable {
                             CreateCompartmentRequest, CreateCompartmentResponse>
                     handler);
 
+    /**
+     * Creates a new compartment in the specified compartment.
+     * <p>
+     **Important:** Compartments cannot be deleted.
+     * <p>
+     * Specify the parent compartment's OCID as the compartment ID in the request object. Remember that the tenancy
+     * is simply the root compartment. For information about OCIDs, see
+     * [Resource Identifiers](https://docs.cloud.oracle.com/Content/General/Concepts/identifiers.htm).
+     * <p>
+     * You must also specify a *name* for the compartment, which must be unique across all compartments in
+     * your tenancy. You can use this name or the OCID when writing policies that apply
+     * to the compartment. For more information about policies, see
+     * [How Policies Work](https://docs.cloud.oracle.com/Content/Identity/Concepts/policies.htm).
+     * <p>
+     * You must also specify a *description* for the compartment (although it can be an empty string). It does
+     * not have to be unique, and you can change it anytime with
+     * {@link #updateCompartment(UpdateCompartmentRequest, Consumer, Consumer) updateCompartment}.
+     * <p>
+     * After you send your request, the new object's `lifecycleState` will temporarily be CREATING. Before using the
+     * object, first make sure its `lifecycleState` has changed to ACTIVE.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreateCompartmentResponse> createCompartment(
+            CreateCompartmentRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreateCompartmentRequest, CreateCompartmentResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createCompartment(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Creates a new secret key for the specified user. Secret keys are used for authentication with the Object Storage Service's Amazon S3
      * compatible API. For information, see
@@ -183,6 +308,34 @@ public interface IdentityAsync extends AutoCloseable {
                             CreateCustomerSecretKeyRequest, CreateCustomerSecretKeyResponse>
                     handler);
 
+    /**
+     * Creates a new secret key for the specified user. Secret keys are used for authentication with the Object Storage Service's Amazon S3
+     * compatible API. For information, see
+     * [Managing User Credentials](https://docs.cloud.oracle.com/Content/Identity/Tasks/managingcredentials.htm).
+     * <p>
+     * You must specify a *description* for the secret key (although it can be an empty string). It does not
+     * have to be unique, and you can change it anytime with
+     * {@link #updateCustomerSecretKey(UpdateCustomerSecretKeyRequest, Consumer, Consumer) updateCustomerSecretKey}.
+     * <p>
+     * Every user has permission to create a secret key for *their own user ID*. An administrator in your organization
+     * does not need to write a policy to give users this ability. To compare, administrators who have permission to the
+     * tenancy can use this operation to create a secret key for any user, including themselves.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreateCustomerSecretKeyResponse>
+            createCustomerSecretKey(CreateCustomerSecretKeyRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreateCustomerSecretKeyRequest, CreateCustomerSecretKeyResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createCustomerSecretKey(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Creates a new dynamic group in your tenancy.
      * <p>
@@ -217,6 +370,41 @@ public interface IdentityAsync extends AutoCloseable {
                             CreateDynamicGroupRequest, CreateDynamicGroupResponse>
                     handler);
 
+    /**
+     * Creates a new dynamic group in your tenancy.
+     * <p>
+     * You must specify your tenancy's OCID as the compartment ID in the request object (remember that the tenancy
+     * is simply the root compartment). Notice that IAM resources (users, groups, compartments, and some policies)
+     * reside within the tenancy itself, unlike cloud resources such as compute instances, which typically
+     * reside within compartments inside the tenancy. For information about OCIDs, see
+     * [Resource Identifiers](https://docs.cloud.oracle.com/Content/General/Concepts/identifiers.htm).
+     * <p>
+     * You must also specify a *name* for the dynamic group, which must be unique across all dynamic groups in your
+     * tenancy, and cannot be changed. Note that this name has to be also unique accross all groups in your tenancy.
+     * You can use this name or the OCID when writing policies that apply to the dynamic group. For more information
+     * about policies, see [How Policies Work](https://docs.cloud.oracle.com/Content/Identity/Concepts/policies.htm).
+     * <p>
+     * You must also specify a *description* for the dynamic group (although it can be an empty string). It does not
+     * have to be unique, and you can change it anytime with {@link #updateDynamicGroup(UpdateDynamicGroupRequest, Consumer, Consumer) updateDynamicGroup}.
+     * <p>
+     * After you send your request, the new object's `lifecycleState` will temporarily be CREATING. Before using the
+     * object, first make sure its `lifecycleState` has changed to ACTIVE.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreateDynamicGroupResponse> createDynamicGroup(
+            CreateDynamicGroupRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreateDynamicGroupRequest, CreateDynamicGroupResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createDynamicGroup(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Creates a new group in your tenancy.
      * <p>
@@ -252,6 +440,44 @@ public interface IdentityAsync extends AutoCloseable {
             CreateGroupRequest request,
             com.oracle.bmc.responses.AsyncHandler<CreateGroupRequest, CreateGroupResponse> handler);
 
+    /**
+     * Creates a new group in your tenancy.
+     * <p>
+     * You must specify your tenancy's OCID as the compartment ID in the request object (remember that the tenancy
+     * is simply the root compartment). Notice that IAM resources (users, groups, compartments, and some policies)
+     * reside within the tenancy itself, unlike cloud resources such as compute instances, which typically
+     * reside within compartments inside the tenancy. For information about OCIDs, see
+     * [Resource Identifiers](https://docs.cloud.oracle.com/Content/General/Concepts/identifiers.htm).
+     * <p>
+     * You must also specify a *name* for the group, which must be unique across all groups in your tenancy and
+     * cannot be changed. You can use this name or the OCID when writing policies that apply to the group. For more
+     * information about policies, see [How Policies Work](https://docs.cloud.oracle.com/Content/Identity/Concepts/policies.htm).
+     * <p>
+     * You must also specify a *description* for the group (although it can be an empty string). It does not
+     * have to be unique, and you can change it anytime with {@link #updateGroup(UpdateGroupRequest, Consumer, Consumer) updateGroup}.
+     * <p>
+     * After you send your request, the new object's `lifecycleState` will temporarily be CREATING. Before using the
+     * object, first make sure its `lifecycleState` has changed to ACTIVE.
+     * <p>
+     * After creating the group, you need to put users in it and write policies for it.
+     * See {@link #addUserToGroup(AddUserToGroupRequest, Consumer, Consumer) addUserToGroup} and
+     * {@link #createPolicy(CreatePolicyRequest, Consumer, Consumer) createPolicy}.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreateGroupResponse> createGroup(
+            CreateGroupRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreateGroupRequest, CreateGroupResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createGroup(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Creates a new identity provider in your tenancy. For more information, see
      * [Identity Providers and Federation](https://docs.cloud.oracle.com/Content/Identity/Concepts/federation.htm).
@@ -286,6 +512,41 @@ public interface IdentityAsync extends AutoCloseable {
                             CreateIdentityProviderRequest, CreateIdentityProviderResponse>
                     handler);
 
+    /**
+     * Creates a new identity provider in your tenancy. For more information, see
+     * [Identity Providers and Federation](https://docs.cloud.oracle.com/Content/Identity/Concepts/federation.htm).
+     * <p>
+     * You must specify your tenancy's OCID as the compartment ID in the request object.
+     * Remember that the tenancy is simply the root compartment. For information about
+     * OCIDs, see [Resource Identifiers](https://docs.cloud.oracle.com/Content/General/Concepts/identifiers.htm).
+     * <p>
+     * You must also specify a *name* for the `IdentityProvider`, which must be unique
+     * across all `IdentityProvider` objects in your tenancy and cannot be changed.
+     * <p>
+     * You must also specify a *description* for the `IdentityProvider` (although
+     * it can be an empty string). It does not have to be unique, and you can change
+     * it anytime with
+     * {@link #updateIdentityProvider(UpdateIdentityProviderRequest, Consumer, Consumer) updateIdentityProvider}.
+     * <p>
+     * After you send your request, the new object's `lifecycleState` will temporarily
+     * be CREATING. Before using the object, first make sure its `lifecycleState` has
+     * changed to ACTIVE.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreateIdentityProviderResponse>
+            createIdentityProvider(CreateIdentityProviderRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreateIdentityProviderRequest, CreateIdentityProviderResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createIdentityProvider(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Creates a single mapping between an IdP group and an IAM Service
      * {@link Group}.
@@ -304,6 +565,25 @@ public interface IdentityAsync extends AutoCloseable {
                             CreateIdpGroupMappingRequest, CreateIdpGroupMappingResponse>
                     handler);
 
+    /**
+     * Creates a single mapping between an IdP group and an IAM Service
+     * {@link Group}.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreateIdpGroupMappingResponse>
+            createIdpGroupMapping(CreateIdpGroupMappingRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreateIdpGroupMappingRequest, CreateIdpGroupMappingResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createIdpGroupMapping(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Creates a new MFA TOTP device for the user. A user can have one MFA TOTP device.
      *
@@ -321,6 +601,24 @@ public interface IdentityAsync extends AutoCloseable {
                             CreateMfaTotpDeviceRequest, CreateMfaTotpDeviceResponse>
                     handler);
 
+    /**
+     * Creates a new MFA TOTP device for the user. A user can have one MFA TOTP device.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreateMfaTotpDeviceResponse> createMfaTotpDevice(
+            CreateMfaTotpDeviceRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreateMfaTotpDeviceRequest, CreateMfaTotpDeviceResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createMfaTotpDevice(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Creates a new Console one-time password for the specified user. For more information about user
      * credentials, see [User Credentials](https://docs.cloud.oracle.com/Content/Identity/Concepts/usercredentials.htm).
@@ -348,6 +646,34 @@ public interface IdentityAsync extends AutoCloseable {
                             CreateOrResetUIPasswordRequest, CreateOrResetUIPasswordResponse>
                     handler);
 
+    /**
+     * Creates a new Console one-time password for the specified user. For more information about user
+     * credentials, see [User Credentials](https://docs.cloud.oracle.com/Content/Identity/Concepts/usercredentials.htm).
+     * <p>
+     * Use this operation after creating a new user, or if a user forgets their password. The new one-time
+     * password is returned to you in the response, and you must securely deliver it to the user. They'll
+     * be prompted to change this password the next time they sign in to the Console. If they don't change
+     * it within 7 days, the password will expire and you'll need to create a new one-time password for the
+     * user.
+     * <p>
+     **Note:** The user's Console login is the unique name you specified when you created the user
+     * (see {@link #createUser(CreateUserRequest, Consumer, Consumer) createUser}).
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreateOrResetUIPasswordResponse>
+            createOrResetUIPassword(CreateOrResetUIPasswordRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreateOrResetUIPasswordRequest, CreateOrResetUIPasswordResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createOrResetUIPassword(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Creates a new policy in the specified compartment (either the tenancy or another of your compartments).
      * If you're new to policies, see [Getting Started with Policies](https://docs.cloud.oracle.com/Content/Identity/Concepts/policygetstarted.htm).
@@ -380,6 +706,40 @@ public interface IdentityAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<CreatePolicyRequest, CreatePolicyResponse>
                     handler);
 
+    /**
+     * Creates a new policy in the specified compartment (either the tenancy or another of your compartments).
+     * If you're new to policies, see [Getting Started with Policies](https://docs.cloud.oracle.com/Content/Identity/Concepts/policygetstarted.htm).
+     * <p>
+     * You must specify a *name* for the policy, which must be unique across all policies in your tenancy
+     * and cannot be changed.
+     * <p>
+     * You must also specify a *description* for the policy (although it can be an empty string). It does not
+     * have to be unique, and you can change it anytime with {@link #updatePolicy(UpdatePolicyRequest, Consumer, Consumer) updatePolicy}.
+     * <p>
+     * You must specify one or more policy statements in the statements array. For information about writing
+     * policies, see [How Policies Work](https://docs.cloud.oracle.com/Content/Identity/Concepts/policies.htm) and
+     * [Common Policies](https://docs.cloud.oracle.com/Content/Identity/Concepts/commonpolicies.htm).
+     * <p>
+     * After you send your request, the new object's `lifecycleState` will temporarily be CREATING. Before using the
+     * object, first make sure its `lifecycleState` has changed to ACTIVE.
+     * <p>
+     * New policies take effect typically within 10 seconds.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreatePolicyResponse> createPolicy(
+            CreatePolicyRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreatePolicyRequest, CreatePolicyResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createPolicy(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Creates a subscription to a region for a tenancy.
      *
@@ -397,6 +757,24 @@ public interface IdentityAsync extends AutoCloseable {
                             CreateRegionSubscriptionRequest, CreateRegionSubscriptionResponse>
                     handler);
 
+    /**
+     * Creates a subscription to a region for a tenancy.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreateRegionSubscriptionResponse>
+            createRegionSubscription(CreateRegionSubscriptionRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreateRegionSubscriptionRequest, CreateRegionSubscriptionResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createRegionSubscription(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Creates a new SMTP credential for the specified user. An SMTP credential has an SMTP user name and an SMTP password.
      * You must specify a *description* for the SMTP credential (although it can be an empty string). It does not
@@ -417,6 +795,27 @@ public interface IdentityAsync extends AutoCloseable {
                             CreateSmtpCredentialRequest, CreateSmtpCredentialResponse>
                     handler);
 
+    /**
+     * Creates a new SMTP credential for the specified user. An SMTP credential has an SMTP user name and an SMTP password.
+     * You must specify a *description* for the SMTP credential (although it can be an empty string). It does not
+     * have to be unique, and you can change it anytime with
+     * {@link #updateSmtpCredential(UpdateSmtpCredentialRequest, Consumer, Consumer) updateSmtpCredential}.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreateSmtpCredentialResponse> createSmtpCredential(
+            CreateSmtpCredentialRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreateSmtpCredentialRequest, CreateSmtpCredentialResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createSmtpCredential(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * **Deprecated. Use {@link #createAuthToken(CreateAuthTokenRequest, Consumer, Consumer) createAuthToken} instead.**
      * <p>
@@ -445,6 +844,35 @@ public interface IdentityAsync extends AutoCloseable {
                             CreateSwiftPasswordRequest, CreateSwiftPasswordResponse>
                     handler);
 
+    /**
+     * **Deprecated. Use {@link #createAuthToken(CreateAuthTokenRequest, Consumer, Consumer) createAuthToken} instead.**
+     * <p>
+     * Creates a new Swift password for the specified user. For information about what Swift passwords are for, see
+     * [Managing User Credentials](https://docs.cloud.oracle.com/Content/Identity/Tasks/managingcredentials.htm).
+     * <p>
+     * You must specify a *description* for the Swift password (although it can be an empty string). It does not
+     * have to be unique, and you can change it anytime with
+     * {@link #updateSwiftPassword(UpdateSwiftPasswordRequest, Consumer, Consumer) updateSwiftPassword}.
+     * <p>
+     * Every user has permission to create a Swift password for *their own user ID*. An administrator in your organization
+     * does not need to write a policy to give users this ability. To compare, administrators who have permission to the
+     * tenancy can use this operation to create a Swift password for any user, including themselves.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreateSwiftPasswordResponse> createSwiftPassword(
+            CreateSwiftPasswordRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreateSwiftPasswordRequest, CreateSwiftPasswordResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createSwiftPassword(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Creates a new tag in the specified tag namespace.
      * <p>
@@ -471,6 +899,35 @@ public interface IdentityAsync extends AutoCloseable {
             CreateTagRequest request,
             com.oracle.bmc.responses.AsyncHandler<CreateTagRequest, CreateTagResponse> handler);
 
+    /**
+     * Creates a new tag in the specified tag namespace.
+     * <p>
+     * You must specify either the OCID or the name of the tag namespace that will contain this tag definition.
+     * <p>
+     * You must also specify a *name* for the tag, which must be unique across all tags in the tag namespace
+     * and cannot be changed. The name can contain any ASCII character except the space (_) or period (.) characters.
+     * Names are case insensitive. That means, for example, \"myTag\" and \"mytag\" are not allowed in the same namespace.
+     * If you specify a name that's already in use in the tag namespace, a 409 error is returned.
+     * <p>
+     * You must also specify a *description* for the tag.
+     * It does not have to be unique, and you can change it with
+     * {@link #updateTag(UpdateTagRequest, Consumer, Consumer) updateTag}.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreateTagResponse> createTag(
+            CreateTagRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreateTagRequest, CreateTagResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createTag(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Creates a new Tag Default in the specified Compartment for the specified Tag Definition.
      *
@@ -487,6 +944,24 @@ public interface IdentityAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<CreateTagDefaultRequest, CreateTagDefaultResponse>
                     handler);
 
+    /**
+     * Creates a new Tag Default in the specified Compartment for the specified Tag Definition.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreateTagDefaultResponse> createTagDefault(
+            CreateTagDefaultRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreateTagDefaultRequest, CreateTagDefaultResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createTagDefault(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Creates a new tag namespace in the specified compartment.
      * <p>
@@ -520,6 +995,40 @@ public interface IdentityAsync extends AutoCloseable {
                             CreateTagNamespaceRequest, CreateTagNamespaceResponse>
                     handler);
 
+    /**
+     * Creates a new tag namespace in the specified compartment.
+     * <p>
+     * You must specify the compartment ID in the request object (remember that the tenancy is simply the root
+     * compartment).
+     * <p>
+     * You must also specify a *name* for the namespace, which must be unique across all namespaces in your tenancy
+     * and cannot be changed. The name can contain any ASCII character except the space (_) or period (.).
+     * Names are case insensitive. That means, for example, \"myNamespace\" and \"mynamespace\" are not allowed
+     * in the same tenancy. Once you created a namespace, you cannot change the name.
+     * If you specify a name that's already in use in the tenancy, a 409 error is returned.
+     * <p>
+     * You must also specify a *description* for the namespace.
+     * It does not have to be unique, and you can change it with
+     * {@link #updateTagNamespace(UpdateTagNamespaceRequest, Consumer, Consumer) updateTagNamespace}.
+     * <p>
+     * Tag namespaces cannot be deleted, but they can be retired.
+     * See [Retiring Key Definitions and Namespace Definitions](https://docs.cloud.oracle.com/Content/Identity/Concepts/taggingoverview.htm#Retiring) for more information.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreateTagNamespaceResponse> createTagNamespace(
+            CreateTagNamespaceRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreateTagNamespaceRequest, CreateTagNamespaceResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createTagNamespace(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Creates a new user in your tenancy. For conceptual information about users, your tenancy, and other
      * IAM Service components, see [Overview of the IAM Service](https://docs.cloud.oracle.com/Content/Identity/Concepts/overview.htm).
@@ -569,6 +1078,58 @@ public interface IdentityAsync extends AutoCloseable {
             CreateUserRequest request,
             com.oracle.bmc.responses.AsyncHandler<CreateUserRequest, CreateUserResponse> handler);
 
+    /**
+     * Creates a new user in your tenancy. For conceptual information about users, your tenancy, and other
+     * IAM Service components, see [Overview of the IAM Service](https://docs.cloud.oracle.com/Content/Identity/Concepts/overview.htm).
+     * <p>
+     * You must specify your tenancy's OCID as the compartment ID in the request object (remember that the
+     * tenancy is simply the root compartment). Notice that IAM resources (users, groups, compartments, and
+     * some policies) reside within the tenancy itself, unlike cloud resources such as compute instances,
+     * which typically reside within compartments inside the tenancy. For information about OCIDs, see
+     * [Resource Identifiers](https://docs.cloud.oracle.com/Content/General/Concepts/identifiers.htm).
+     * <p>
+     * You must also specify a *name* for the user, which must be unique across all users in your tenancy
+     * and cannot be changed. Allowed characters: No spaces. Only letters, numerals, hyphens, periods,
+     * underscores, +, and @. If you specify a name that's already in use, you'll get a 409 error.
+     * This name will be the user's login to the Console. You might want to pick a
+     * name that your company's own identity system (e.g., Active Directory, LDAP, etc.) already uses.
+     * If you delete a user and then create a new user with the same name, they'll be considered different
+     * users because they have different OCIDs.
+     * <p>
+     * You must also specify a *description* for the user (although it can be an empty string).
+     * It does not have to be unique, and you can change it anytime with
+     * {@link #updateUser(UpdateUserRequest, Consumer, Consumer) updateUser}. You can use the field to provide the user's
+     * full name, a description, a nickname, or other information to generally identify the user.
+     * <p>
+     * After you send your request, the new object's `lifecycleState` will temporarily be CREATING. Before
+     * using the object, first make sure its `lifecycleState` has changed to ACTIVE.
+     * <p>
+     * A new user has no permissions until you place the user in one or more groups (see
+     * {@link #addUserToGroup(AddUserToGroupRequest, Consumer, Consumer) addUserToGroup}). If the user needs to
+     * access the Console, you need to provide the user a password (see
+     * {@link #createOrResetUIPassword(CreateOrResetUIPasswordRequest, Consumer, Consumer) createOrResetUIPassword}).
+     * If the user needs to access the Oracle Cloud Infrastructure REST API, you need to upload a
+     * public API signing key for that user (see
+     * [Required Keys and OCIDs](https://docs.cloud.oracle.com/Content/API/Concepts/apisigningkey.htm) and also
+     * {@link #uploadApiKey(UploadApiKeyRequest, Consumer, Consumer) uploadApiKey}).
+     * <p>
+     **Important:** Make sure to inform the new user which compartment(s) they have access to.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreateUserResponse> createUser(
+            CreateUserRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreateUserRequest, CreateUserResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createUser(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Deletes the specified API signing key for the specified user.
      * <p>
@@ -590,6 +1151,29 @@ public interface IdentityAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<DeleteApiKeyRequest, DeleteApiKeyResponse>
                     handler);
 
+    /**
+     * Deletes the specified API signing key for the specified user.
+     * <p>
+     * Every user has permission to use this operation to delete a key for *their own user ID*. An
+     * administrator in your organization does not need to write a policy to give users this ability.
+     * To compare, administrators who have permission to the tenancy can use this operation to delete
+     * a key for any user, including themselves.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<DeleteApiKeyResponse> deleteApiKey(
+            DeleteApiKeyRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        DeleteApiKeyRequest, DeleteApiKeyResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        deleteApiKey(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Deletes the specified auth token for the specified user.
      *
@@ -606,6 +1190,24 @@ public interface IdentityAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<DeleteAuthTokenRequest, DeleteAuthTokenResponse>
                     handler);
 
+    /**
+     * Deletes the specified auth token for the specified user.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<DeleteAuthTokenResponse> deleteAuthToken(
+            DeleteAuthTokenRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        DeleteAuthTokenRequest, DeleteAuthTokenResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        deleteAuthToken(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Deletes the specified compartment. The compartment must be empty.
      *
@@ -623,6 +1225,24 @@ public interface IdentityAsync extends AutoCloseable {
                             DeleteCompartmentRequest, DeleteCompartmentResponse>
                     handler);
 
+    /**
+     * Deletes the specified compartment. The compartment must be empty.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<DeleteCompartmentResponse> deleteCompartment(
+            DeleteCompartmentRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        DeleteCompartmentRequest, DeleteCompartmentResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        deleteCompartment(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Deletes the specified secret key for the specified user.
      *
@@ -640,6 +1260,24 @@ public interface IdentityAsync extends AutoCloseable {
                             DeleteCustomerSecretKeyRequest, DeleteCustomerSecretKeyResponse>
                     handler);
 
+    /**
+     * Deletes the specified secret key for the specified user.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<DeleteCustomerSecretKeyResponse>
+            deleteCustomerSecretKey(DeleteCustomerSecretKeyRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        DeleteCustomerSecretKeyRequest, DeleteCustomerSecretKeyResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        deleteCustomerSecretKey(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Deletes the specified dynamic group.
      *
@@ -657,6 +1295,24 @@ public interface IdentityAsync extends AutoCloseable {
                             DeleteDynamicGroupRequest, DeleteDynamicGroupResponse>
                     handler);
 
+    /**
+     * Deletes the specified dynamic group.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<DeleteDynamicGroupResponse> deleteDynamicGroup(
+            DeleteDynamicGroupRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        DeleteDynamicGroupRequest, DeleteDynamicGroupResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        deleteDynamicGroup(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Deletes the specified group. The group must be empty.
      *
@@ -672,6 +1328,24 @@ public interface IdentityAsync extends AutoCloseable {
             DeleteGroupRequest request,
             com.oracle.bmc.responses.AsyncHandler<DeleteGroupRequest, DeleteGroupResponse> handler);
 
+    /**
+     * Deletes the specified group. The group must be empty.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<DeleteGroupResponse> deleteGroup(
+            DeleteGroupRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        DeleteGroupRequest, DeleteGroupResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        deleteGroup(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Deletes the specified identity provider. The identity provider must not have
      * any group mappings (see {@link IdpGroupMapping}).
@@ -690,6 +1364,25 @@ public interface IdentityAsync extends AutoCloseable {
                             DeleteIdentityProviderRequest, DeleteIdentityProviderResponse>
                     handler);
 
+    /**
+     * Deletes the specified identity provider. The identity provider must not have
+     * any group mappings (see {@link IdpGroupMapping}).
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<DeleteIdentityProviderResponse>
+            deleteIdentityProvider(DeleteIdentityProviderRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        DeleteIdentityProviderRequest, DeleteIdentityProviderResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        deleteIdentityProvider(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Deletes the specified group mapping.
      *
@@ -706,6 +1399,23 @@ public interface IdentityAsync extends AutoCloseable {
                             DeleteIdpGroupMappingRequest, DeleteIdpGroupMappingResponse>
                     handler);
 
+    /**
+     * Deletes the specified group mapping.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<DeleteIdpGroupMappingResponse>
+            deleteIdpGroupMapping(DeleteIdpGroupMappingRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        DeleteIdpGroupMappingRequest, DeleteIdpGroupMappingResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        deleteIdpGroupMapping(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Deletes the specified MFA TOTP device for the specified user.
      *
@@ -723,6 +1433,24 @@ public interface IdentityAsync extends AutoCloseable {
                             DeleteMfaTotpDeviceRequest, DeleteMfaTotpDeviceResponse>
                     handler);
 
+    /**
+     * Deletes the specified MFA TOTP device for the specified user.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<DeleteMfaTotpDeviceResponse> deleteMfaTotpDevice(
+            DeleteMfaTotpDeviceRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        DeleteMfaTotpDeviceRequest, DeleteMfaTotpDeviceResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        deleteMfaTotpDevice(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Deletes the specified policy. The deletion takes effect typically within 10 seconds.
      *
@@ -738,6 +1466,23 @@ public interface IdentityAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<DeletePolicyRequest, DeletePolicyResponse>
                     handler);
 
+    /**
+     * Deletes the specified policy. The deletion takes effect typically within 10 seconds.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<DeletePolicyResponse> deletePolicy(
+            DeletePolicyRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        DeletePolicyRequest, DeletePolicyResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        deletePolicy(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Deletes the specified SMTP credential for the specified user.
      *
@@ -755,6 +1500,24 @@ public interface IdentityAsync extends AutoCloseable {
                             DeleteSmtpCredentialRequest, DeleteSmtpCredentialResponse>
                     handler);
 
+    /**
+     * Deletes the specified SMTP credential for the specified user.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<DeleteSmtpCredentialResponse> deleteSmtpCredential(
+            DeleteSmtpCredentialRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        DeleteSmtpCredentialRequest, DeleteSmtpCredentialResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        deleteSmtpCredential(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * **Deprecated. Use {@link #deleteAuthToken(DeleteAuthTokenRequest, Consumer, Consumer) deleteAuthToken} instead.**
      * <p>
@@ -774,6 +1537,26 @@ public interface IdentityAsync extends AutoCloseable {
                             DeleteSwiftPasswordRequest, DeleteSwiftPasswordResponse>
                     handler);
 
+    /**
+     * **Deprecated. Use {@link #deleteAuthToken(DeleteAuthTokenRequest, Consumer, Consumer) deleteAuthToken} instead.**
+     * <p>
+     * Deletes the specified Swift password for the specified user.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<DeleteSwiftPasswordResponse> deleteSwiftPassword(
+            DeleteSwiftPasswordRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        DeleteSwiftPasswordRequest, DeleteSwiftPasswordResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        deleteSwiftPassword(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Deletes the the specified Tag Default.
      *
@@ -790,6 +1573,24 @@ public interface IdentityAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<DeleteTagDefaultRequest, DeleteTagDefaultResponse>
                     handler);
 
+    /**
+     * Deletes the the specified Tag Default.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<DeleteTagDefaultResponse> deleteTagDefault(
+            DeleteTagDefaultRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        DeleteTagDefaultRequest, DeleteTagDefaultResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        deleteTagDefault(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Deletes the specified user. The user must not be in any groups.
      *
@@ -804,6 +1605,23 @@ public interface IdentityAsync extends AutoCloseable {
             DeleteUserRequest request,
             com.oracle.bmc.responses.AsyncHandler<DeleteUserRequest, DeleteUserResponse> handler);
 
+    /**
+     * Deletes the specified user. The user must not be in any groups.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<DeleteUserResponse> deleteUser(
+            DeleteUserRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        DeleteUserRequest, DeleteUserResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        deleteUser(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Generate seed for the MFA TOTP device.
      *
@@ -820,6 +1638,24 @@ public interface IdentityAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<GenerateTotpSeedRequest, GenerateTotpSeedResponse>
                     handler);
 
+    /**
+     * Generate seed for the MFA TOTP device.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GenerateTotpSeedResponse> generateTotpSeed(
+            GenerateTotpSeedRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GenerateTotpSeedRequest, GenerateTotpSeedResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        generateTotpSeed(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the authentication policy for the given tenancy. You must specify your tenant\u2019s OCID as the value for
      * the compartment ID (remember that the tenancy is simply the root compartment).
@@ -838,6 +1674,25 @@ public interface IdentityAsync extends AutoCloseable {
                             GetAuthenticationPolicyRequest, GetAuthenticationPolicyResponse>
                     handler);
 
+    /**
+     * Gets the authentication policy for the given tenancy. You must specify your tenant\u2019s OCID as the value for
+     * the compartment ID (remember that the tenancy is simply the root compartment).
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetAuthenticationPolicyResponse>
+            getAuthenticationPolicy(GetAuthenticationPolicyRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetAuthenticationPolicyRequest, GetAuthenticationPolicyResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getAuthenticationPolicy(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the specified compartment's information.
      * <p>
@@ -861,6 +1716,31 @@ public interface IdentityAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<GetCompartmentRequest, GetCompartmentResponse>
                     handler);
 
+    /**
+     * Gets the specified compartment's information.
+     * <p>
+     * This operation does not return a list of all the resources inside the compartment. There is no single
+     * API operation that does that. Compartments can contain multiple types of resources (instances, block
+     * storage volumes, etc.). To find out what's in a compartment, you must call the \"List\" operation for
+     * each resource type and specify the compartment's OCID as a query parameter in the request. For example,
+     * call the {@link #listInstances(ListInstancesRequest, Consumer, Consumer) listInstances} operation in the Cloud Compute
+     * Service or the {@link #listVolumes(ListVolumesRequest, Consumer, Consumer) listVolumes} operation in Cloud Block Storage.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetCompartmentResponse> getCompartment(
+            GetCompartmentRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetCompartmentRequest, GetCompartmentResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getCompartment(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the specified dynamic group's information.
      *
@@ -877,6 +1757,24 @@ public interface IdentityAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<GetDynamicGroupRequest, GetDynamicGroupResponse>
                     handler);
 
+    /**
+     * Gets the specified dynamic group's information.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetDynamicGroupResponse> getDynamicGroup(
+            GetDynamicGroupRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetDynamicGroupRequest, GetDynamicGroupResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getDynamicGroup(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the specified group's information.
      * <p>
@@ -896,6 +1794,28 @@ public interface IdentityAsync extends AutoCloseable {
             GetGroupRequest request,
             com.oracle.bmc.responses.AsyncHandler<GetGroupRequest, GetGroupResponse> handler);
 
+    /**
+     * Gets the specified group's information.
+     * <p>
+     * This operation does not return a list of all the users in the group. To do that, use
+     * {@link #listUserGroupMemberships(ListUserGroupMembershipsRequest, Consumer, Consumer) listUserGroupMemberships} and
+     * provide the group's OCID as a query parameter in the request.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetGroupResponse> getGroup(
+            GetGroupRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetGroupRequest, GetGroupResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getGroup(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the specified identity provider's information.
      *
@@ -912,6 +1832,23 @@ public interface IdentityAsync extends AutoCloseable {
                             GetIdentityProviderRequest, GetIdentityProviderResponse>
                     handler);
 
+    /**
+     * Gets the specified identity provider's information.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetIdentityProviderResponse> getIdentityProvider(
+            GetIdentityProviderRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetIdentityProviderRequest, GetIdentityProviderResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getIdentityProvider(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the specified group mapping.
      *
@@ -928,6 +1865,23 @@ public interface IdentityAsync extends AutoCloseable {
                             GetIdpGroupMappingRequest, GetIdpGroupMappingResponse>
                     handler);
 
+    /**
+     * Gets the specified group mapping.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetIdpGroupMappingResponse> getIdpGroupMapping(
+            GetIdpGroupMappingRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetIdpGroupMappingRequest, GetIdpGroupMappingResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getIdpGroupMapping(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Get the specified MFA TOTP device for the specified user.
      *
@@ -944,6 +1898,24 @@ public interface IdentityAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<GetMfaTotpDeviceRequest, GetMfaTotpDeviceResponse>
                     handler);
 
+    /**
+     * Get the specified MFA TOTP device for the specified user.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetMfaTotpDeviceResponse> getMfaTotpDevice(
+            GetMfaTotpDeviceRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetMfaTotpDeviceRequest, GetMfaTotpDeviceResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getMfaTotpDevice(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the specified policy's information.
      *
@@ -958,6 +1930,23 @@ public interface IdentityAsync extends AutoCloseable {
             GetPolicyRequest request,
             com.oracle.bmc.responses.AsyncHandler<GetPolicyRequest, GetPolicyResponse> handler);
 
+    /**
+     * Gets the specified policy's information.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetPolicyResponse> getPolicy(
+            GetPolicyRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetPolicyRequest, GetPolicyResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getPolicy(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the specified tag's information.
      *
@@ -972,6 +1961,22 @@ public interface IdentityAsync extends AutoCloseable {
             GetTagRequest request,
             com.oracle.bmc.responses.AsyncHandler<GetTagRequest, GetTagResponse> handler);
 
+    /**
+     * Gets the specified tag's information.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetTagResponse> getTag(GetTagRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetTagRequest, GetTagResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getTag(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Retrieves the specified Tag Default.
      *
@@ -988,6 +1993,24 @@ public interface IdentityAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<GetTagDefaultRequest, GetTagDefaultResponse>
                     handler);
 
+    /**
+     * Retrieves the specified Tag Default.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetTagDefaultResponse> getTagDefault(
+            GetTagDefaultRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetTagDefaultRequest, GetTagDefaultResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getTagDefault(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the specified tag namespace's information.
      *
@@ -1004,6 +2027,24 @@ public interface IdentityAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<GetTagNamespaceRequest, GetTagNamespaceResponse>
                     handler);
 
+    /**
+     * Gets the specified tag namespace's information.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetTagNamespaceResponse> getTagNamespace(
+            GetTagNamespaceRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetTagNamespaceRequest, GetTagNamespaceResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getTagNamespace(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Get the specified tenancy's information.
      *
@@ -1018,6 +2059,23 @@ public interface IdentityAsync extends AutoCloseable {
             GetTenancyRequest request,
             com.oracle.bmc.responses.AsyncHandler<GetTenancyRequest, GetTenancyResponse> handler);
 
+    /**
+     * Get the specified tenancy's information.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetTenancyResponse> getTenancy(
+            GetTenancyRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetTenancyRequest, GetTenancyResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getTenancy(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the specified user's information.
      *
@@ -1032,6 +2090,22 @@ public interface IdentityAsync extends AutoCloseable {
             GetUserRequest request,
             com.oracle.bmc.responses.AsyncHandler<GetUserRequest, GetUserResponse> handler);
 
+    /**
+     * Gets the specified user's information.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetUserResponse> getUser(GetUserRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetUserRequest, GetUserResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getUser(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the specified UserGroupMembership's information.
      *
@@ -1048,6 +2122,23 @@ public interface IdentityAsync extends AutoCloseable {
                             GetUserGroupMembershipRequest, GetUserGroupMembershipResponse>
                     handler);
 
+    /**
+     * Gets the specified UserGroupMembership's information.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetUserGroupMembershipResponse>
+            getUserGroupMembership(GetUserGroupMembershipRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetUserGroupMembershipRequest, GetUserGroupMembershipResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getUserGroupMembership(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets details on a specified work request. The workRequestID is returned in the opc-workrequest-id header
      * for any asynchronous operation in the Identity and Access Management service.
@@ -1065,6 +2156,25 @@ public interface IdentityAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<GetWorkRequestRequest, GetWorkRequestResponse>
                     handler);
 
+    /**
+     * Gets details on a specified work request. The workRequestID is returned in the opc-workrequest-id header
+     * for any asynchronous operation in the Identity and Access Management service.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetWorkRequestResponse> getWorkRequest(
+            GetWorkRequestRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetWorkRequestRequest, GetWorkRequestResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getWorkRequest(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists the API signing keys for the specified user. A user can have a maximum of three keys.
      * <p>
@@ -1083,6 +2193,27 @@ public interface IdentityAsync extends AutoCloseable {
             ListApiKeysRequest request,
             com.oracle.bmc.responses.AsyncHandler<ListApiKeysRequest, ListApiKeysResponse> handler);
 
+    /**
+     * Lists the API signing keys for the specified user. A user can have a maximum of three keys.
+     * <p>
+     * Every user has permission to use this API call for *their own user ID*.  An administrator in your
+     * organization does not need to write a policy to give users this ability.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListApiKeysResponse> listApiKeys(
+            ListApiKeysRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListApiKeysRequest, ListApiKeysResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listApiKeys(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists the auth tokens for the specified user. The returned object contains the token's OCID, but not
      * the token itself. The actual token is returned only upon creation.
@@ -1100,6 +2231,25 @@ public interface IdentityAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<ListAuthTokensRequest, ListAuthTokensResponse>
                     handler);
 
+    /**
+     * Lists the auth tokens for the specified user. The returned object contains the token's OCID, but not
+     * the token itself. The actual token is returned only upon creation.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListAuthTokensResponse> listAuthTokens(
+            ListAuthTokensRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListAuthTokensRequest, ListAuthTokensResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listAuthTokens(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists the availability domains in your tenancy. Specify the OCID of either the tenancy or another
      * of your compartments as the value for the compartment ID (remember that the tenancy is simply the root compartment).
@@ -1121,6 +2271,28 @@ public interface IdentityAsync extends AutoCloseable {
                             ListAvailabilityDomainsRequest, ListAvailabilityDomainsResponse>
                     handler);
 
+    /**
+     * Lists the availability domains in your tenancy. Specify the OCID of either the tenancy or another
+     * of your compartments as the value for the compartment ID (remember that the tenancy is simply the root compartment).
+     * See [Where to Get the Tenancy's OCID and User's OCID](https://docs.cloud.oracle.com/Content/API/Concepts/apisigningkey.htm#five).
+     * Note that the order of the results returned can change if availability domains are added or removed; therefore, do not
+     * create a dependency on the list order.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListAvailabilityDomainsResponse>
+            listAvailabilityDomains(ListAvailabilityDomainsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListAvailabilityDomainsRequest, ListAvailabilityDomainsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listAvailabilityDomains(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists the compartments in a specified compartment. The members of the list
      * returned depends on the values set for several parameters.
@@ -1154,6 +2326,41 @@ public interface IdentityAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<ListCompartmentsRequest, ListCompartmentsResponse>
                     handler);
 
+    /**
+     * Lists the compartments in a specified compartment. The members of the list
+     * returned depends on the values set for several parameters.
+     * <p>
+     * With the exception of the tenancy (root compartment), the ListCompartments operation
+     * returns only the first-level child compartments in the parent compartment specified in
+     * `compartmentId`. The list does not include any subcompartments of the child
+     * compartments (grandchildren).
+     * <p>
+     * The parameter `accessLevel` specifies whether to return only those compartments for which the
+     * requestor has INSPECT permissions on at least one resource directly
+     * or indirectly (the resource can be in a subcompartment).
+     * <p>
+     * The parameter `compartmentIdInSubtree` applies only when you perform ListCompartments on the
+     * tenancy (root compartment). When set to true, the entire hierarchy of compartments can be returned.
+     * To get a full list of all compartments and subcompartments in the tenancy (root compartment),
+     * set the parameter `compartmentIdInSubtree` to true and `accessLevel` to ANY.
+     * <p>
+     * See [Where to Get the Tenancy's OCID and User's OCID](https://docs.cloud.oracle.com/Content/API/Concepts/apisigningkey.htm#five).
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListCompartmentsResponse> listCompartments(
+            ListCompartmentsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListCompartmentsRequest, ListCompartmentsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listCompartments(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists all the tags enabled for cost-tracking in the specified tenancy. For information about
      * cost-tracking tags, see [Using Cost-tracking Tags](https://docs.cloud.oracle.com/Content/Identity/Concepts/taggingoverview.htm#costs).
@@ -1172,6 +2379,25 @@ public interface IdentityAsync extends AutoCloseable {
                             ListCostTrackingTagsRequest, ListCostTrackingTagsResponse>
                     handler);
 
+    /**
+     * Lists all the tags enabled for cost-tracking in the specified tenancy. For information about
+     * cost-tracking tags, see [Using Cost-tracking Tags](https://docs.cloud.oracle.com/Content/Identity/Concepts/taggingoverview.htm#costs).
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListCostTrackingTagsResponse> listCostTrackingTags(
+            ListCostTrackingTagsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListCostTrackingTagsRequest, ListCostTrackingTagsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listCostTrackingTags(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists the secret keys for the specified user. The returned object contains the secret key's OCID, but not
      * the secret key itself. The actual secret key is returned only upon creation.
@@ -1190,6 +2416,25 @@ public interface IdentityAsync extends AutoCloseable {
                             ListCustomerSecretKeysRequest, ListCustomerSecretKeysResponse>
                     handler);
 
+    /**
+     * Lists the secret keys for the specified user. The returned object contains the secret key's OCID, but not
+     * the secret key itself. The actual secret key is returned only upon creation.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListCustomerSecretKeysResponse>
+            listCustomerSecretKeys(ListCustomerSecretKeysRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListCustomerSecretKeysRequest, ListCustomerSecretKeysResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listCustomerSecretKeys(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists the dynamic groups in your tenancy. You must specify your tenancy's OCID as the value for
      * the compartment ID (remember that the tenancy is simply the root compartment).
@@ -1209,6 +2454,26 @@ public interface IdentityAsync extends AutoCloseable {
                             ListDynamicGroupsRequest, ListDynamicGroupsResponse>
                     handler);
 
+    /**
+     * Lists the dynamic groups in your tenancy. You must specify your tenancy's OCID as the value for
+     * the compartment ID (remember that the tenancy is simply the root compartment).
+     * See [Where to Get the Tenancy's OCID and User's OCID](https://docs.cloud.oracle.com/Content/API/Concepts/apisigningkey.htm#five).
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListDynamicGroupsResponse> listDynamicGroups(
+            ListDynamicGroupsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListDynamicGroupsRequest, ListDynamicGroupsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listDynamicGroups(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists the Fault Domains in your tenancy. Specify the OCID of either the tenancy or another
      * of your compartments as the value for the compartment ID (remember that the tenancy is simply the root compartment).
@@ -1227,6 +2492,26 @@ public interface IdentityAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<ListFaultDomainsRequest, ListFaultDomainsResponse>
                     handler);
 
+    /**
+     * Lists the Fault Domains in your tenancy. Specify the OCID of either the tenancy or another
+     * of your compartments as the value for the compartment ID (remember that the tenancy is simply the root compartment).
+     * See [Where to Get the Tenancy's OCID and User's OCID](https://docs.cloud.oracle.com/Content/API/Concepts/apisigningkey.htm#five).
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListFaultDomainsResponse> listFaultDomains(
+            ListFaultDomainsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListFaultDomainsRequest, ListFaultDomainsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listFaultDomains(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists the groups in your tenancy. You must specify your tenancy's OCID as the value for
      * the compartment ID (remember that the tenancy is simply the root compartment).
@@ -1244,6 +2529,26 @@ public interface IdentityAsync extends AutoCloseable {
             ListGroupsRequest request,
             com.oracle.bmc.responses.AsyncHandler<ListGroupsRequest, ListGroupsResponse> handler);
 
+    /**
+     * Lists the groups in your tenancy. You must specify your tenancy's OCID as the value for
+     * the compartment ID (remember that the tenancy is simply the root compartment).
+     * See [Where to Get the Tenancy's OCID and User's OCID](https://docs.cloud.oracle.com/Content/API/Concepts/apisigningkey.htm#five).
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListGroupsResponse> listGroups(
+            ListGroupsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListGroupsRequest, ListGroupsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listGroups(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists the identity provider groups.
      *
@@ -1260,6 +2565,23 @@ public interface IdentityAsync extends AutoCloseable {
                             ListIdentityProviderGroupsRequest, ListIdentityProviderGroupsResponse>
                     handler);
 
+    /**
+     * Lists the identity provider groups.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListIdentityProviderGroupsResponse>
+            listIdentityProviderGroups(ListIdentityProviderGroupsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListIdentityProviderGroupsRequest, ListIdentityProviderGroupsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listIdentityProviderGroups(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists all the identity providers in your tenancy. You must specify the identity provider type (e.g., `SAML2` for
      * identity providers using the SAML2.0 protocol). You must specify your tenancy's OCID as the value for the
@@ -1280,6 +2602,27 @@ public interface IdentityAsync extends AutoCloseable {
                             ListIdentityProvidersRequest, ListIdentityProvidersResponse>
                     handler);
 
+    /**
+     * Lists all the identity providers in your tenancy. You must specify the identity provider type (e.g., `SAML2` for
+     * identity providers using the SAML2.0 protocol). You must specify your tenancy's OCID as the value for the
+     * compartment ID (remember that the tenancy is simply the root compartment).
+     * See [Where to Get the Tenancy's OCID and User's OCID](https://docs.cloud.oracle.com/Content/API/Concepts/apisigningkey.htm#five).
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListIdentityProvidersResponse>
+            listIdentityProviders(ListIdentityProvidersRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListIdentityProvidersRequest, ListIdentityProvidersResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listIdentityProviders(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists the group mappings for the specified identity provider.
      *
@@ -1297,6 +2640,24 @@ public interface IdentityAsync extends AutoCloseable {
                             ListIdpGroupMappingsRequest, ListIdpGroupMappingsResponse>
                     handler);
 
+    /**
+     * Lists the group mappings for the specified identity provider.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListIdpGroupMappingsResponse> listIdpGroupMappings(
+            ListIdpGroupMappingsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListIdpGroupMappingsRequest, ListIdpGroupMappingsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listIdpGroupMappings(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists the MFA TOTP devices for the specified user. The returned object contains the device's OCID, but not
      * the seed. The seed is returned only upon creation or when the IAM service regenerates the MFA seed for the device.
@@ -1315,6 +2676,25 @@ public interface IdentityAsync extends AutoCloseable {
                             ListMfaTotpDevicesRequest, ListMfaTotpDevicesResponse>
                     handler);
 
+    /**
+     * Lists the MFA TOTP devices for the specified user. The returned object contains the device's OCID, but not
+     * the seed. The seed is returned only upon creation or when the IAM service regenerates the MFA seed for the device.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListMfaTotpDevicesResponse> listMfaTotpDevices(
+            ListMfaTotpDevicesRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListMfaTotpDevicesRequest, ListMfaTotpDevicesResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listMfaTotpDevices(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists the policies in the specified compartment (either the tenancy or another of your compartments).
      * See [Where to Get the Tenancy's OCID and User's OCID](https://docs.cloud.oracle.com/Content/API/Concepts/apisigningkey.htm#five).
@@ -1335,6 +2715,28 @@ public interface IdentityAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<ListPoliciesRequest, ListPoliciesResponse>
                     handler);
 
+    /**
+     * Lists the policies in the specified compartment (either the tenancy or another of your compartments).
+     * See [Where to Get the Tenancy's OCID and User's OCID](https://docs.cloud.oracle.com/Content/API/Concepts/apisigningkey.htm#five).
+     * <p>
+     * To determine which policies apply to a particular group or compartment, you must view the individual
+     * statements inside all your policies. There isn't a way to automatically obtain that information via the API.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListPoliciesResponse> listPolicies(
+            ListPoliciesRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListPoliciesRequest, ListPoliciesResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listPolicies(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists the region subscriptions for the specified tenancy.
      *
@@ -1351,6 +2753,23 @@ public interface IdentityAsync extends AutoCloseable {
                             ListRegionSubscriptionsRequest, ListRegionSubscriptionsResponse>
                     handler);
 
+    /**
+     * Lists the region subscriptions for the specified tenancy.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListRegionSubscriptionsResponse>
+            listRegionSubscriptions(ListRegionSubscriptionsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListRegionSubscriptionsRequest, ListRegionSubscriptionsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listRegionSubscriptions(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists all the regions offered by Oracle Cloud Infrastructure.
      *
@@ -1365,6 +2784,23 @@ public interface IdentityAsync extends AutoCloseable {
             ListRegionsRequest request,
             com.oracle.bmc.responses.AsyncHandler<ListRegionsRequest, ListRegionsResponse> handler);
 
+    /**
+     * Lists all the regions offered by Oracle Cloud Infrastructure.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListRegionsResponse> listRegions(
+            ListRegionsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListRegionsRequest, ListRegionsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listRegions(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists the SMTP credentials for the specified user. The returned object contains the credential's OCID,
      * the SMTP user name but not the SMTP password. The SMTP password is returned only upon creation.
@@ -1383,6 +2819,25 @@ public interface IdentityAsync extends AutoCloseable {
                             ListSmtpCredentialsRequest, ListSmtpCredentialsResponse>
                     handler);
 
+    /**
+     * Lists the SMTP credentials for the specified user. The returned object contains the credential's OCID,
+     * the SMTP user name but not the SMTP password. The SMTP password is returned only upon creation.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListSmtpCredentialsResponse> listSmtpCredentials(
+            ListSmtpCredentialsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListSmtpCredentialsRequest, ListSmtpCredentialsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listSmtpCredentials(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * **Deprecated. Use {@link #listAuthTokens(ListAuthTokensRequest, Consumer, Consumer) listAuthTokens} instead.**
      * <p>
@@ -1403,6 +2858,27 @@ public interface IdentityAsync extends AutoCloseable {
                             ListSwiftPasswordsRequest, ListSwiftPasswordsResponse>
                     handler);
 
+    /**
+     * **Deprecated. Use {@link #listAuthTokens(ListAuthTokensRequest, Consumer, Consumer) listAuthTokens} instead.**
+     * <p>
+     * Lists the Swift passwords for the specified user. The returned object contains the password's OCID, but not
+     * the password itself. The actual password is returned only upon creation.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListSwiftPasswordsResponse> listSwiftPasswords(
+            ListSwiftPasswordsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListSwiftPasswordsRequest, ListSwiftPasswordsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listSwiftPasswords(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists the Tag Defaults for Tag Definitions in the specified Compartment.
      *
@@ -1419,6 +2895,24 @@ public interface IdentityAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<ListTagDefaultsRequest, ListTagDefaultsResponse>
                     handler);
 
+    /**
+     * Lists the Tag Defaults for Tag Definitions in the specified Compartment.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListTagDefaultsResponse> listTagDefaults(
+            ListTagDefaultsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListTagDefaultsRequest, ListTagDefaultsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listTagDefaults(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists the tag namespaces in the specified compartment.
      *
@@ -1436,6 +2930,24 @@ public interface IdentityAsync extends AutoCloseable {
                             ListTagNamespacesRequest, ListTagNamespacesResponse>
                     handler);
 
+    /**
+     * Lists the tag namespaces in the specified compartment.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListTagNamespacesResponse> listTagNamespaces(
+            ListTagNamespacesRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListTagNamespacesRequest, ListTagNamespacesResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listTagNamespaces(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists the tag definitions in the specified tag namespace.
      *
@@ -1451,6 +2963,24 @@ public interface IdentityAsync extends AutoCloseable {
             ListTagsRequest request,
             com.oracle.bmc.responses.AsyncHandler<ListTagsRequest, ListTagsResponse> handler);
 
+    /**
+     * Lists the tag definitions in the specified tag namespace.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListTagsResponse> listTags(
+            ListTagsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListTagsRequest, ListTagsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listTags(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists the `UserGroupMembership` objects in your tenancy. You must specify your tenancy's OCID
      * as the value for the compartment ID
@@ -1477,6 +3007,33 @@ public interface IdentityAsync extends AutoCloseable {
                             ListUserGroupMembershipsRequest, ListUserGroupMembershipsResponse>
                     handler);
 
+    /**
+     * Lists the `UserGroupMembership` objects in your tenancy. You must specify your tenancy's OCID
+     * as the value for the compartment ID
+     * (see [Where to Get the Tenancy's OCID and User's OCID](https://docs.cloud.oracle.com/Content/API/Concepts/apisigningkey.htm#five)).
+     * You must also then filter the list in one of these ways:
+     * <p>
+     * - You can limit the results to just the memberships for a given user by specifying a `userId`.
+     * - Similarly, you can limit the results to just the memberships for a given group by specifying a `groupId`.
+     * - You can set both the `userId` and `groupId` to determine if the specified user is in the specified group.
+     * If the answer is no, the response is an empty list.
+     * - Although`userId` and `groupId` are not indvidually required, you must set one of them.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListUserGroupMembershipsResponse>
+            listUserGroupMemberships(ListUserGroupMembershipsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListUserGroupMembershipsRequest, ListUserGroupMembershipsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listUserGroupMemberships(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists the users in your tenancy. You must specify your tenancy's OCID as the value for the
      * compartment ID (remember that the tenancy is simply the root compartment).
@@ -1494,6 +3051,26 @@ public interface IdentityAsync extends AutoCloseable {
             ListUsersRequest request,
             com.oracle.bmc.responses.AsyncHandler<ListUsersRequest, ListUsersResponse> handler);
 
+    /**
+     * Lists the users in your tenancy. You must specify your tenancy's OCID as the value for the
+     * compartment ID (remember that the tenancy is simply the root compartment).
+     * See [Where to Get the Tenancy's OCID and User's OCID](https://docs.cloud.oracle.com/Content/API/Concepts/apisigningkey.htm#five).
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListUsersResponse> listUsers(
+            ListUsersRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListUsersRequest, ListUsersResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listUsers(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists the work requests in compartment.
      *
@@ -1510,6 +3087,24 @@ public interface IdentityAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<ListWorkRequestsRequest, ListWorkRequestsResponse>
                     handler);
 
+    /**
+     * Lists the work requests in compartment.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListWorkRequestsResponse> listWorkRequests(
+            ListWorkRequestsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListWorkRequestsRequest, ListWorkRequestsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listWorkRequests(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Removes a user from a group by deleting the corresponding `UserGroupMembership`.
      *
@@ -1526,6 +3121,23 @@ public interface IdentityAsync extends AutoCloseable {
                             RemoveUserFromGroupRequest, RemoveUserFromGroupResponse>
                     handler);
 
+    /**
+     * Removes a user from a group by deleting the corresponding `UserGroupMembership`.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<RemoveUserFromGroupResponse> removeUserFromGroup(
+            RemoveUserFromGroupRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        RemoveUserFromGroupRequest, RemoveUserFromGroupResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        removeUserFromGroup(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Resets the OAuth2 client credentials for the SCIM client associated with this identity provider.
      *
@@ -1543,6 +3155,24 @@ public interface IdentityAsync extends AutoCloseable {
                             ResetIdpScimClientRequest, ResetIdpScimClientResponse>
                     handler);
 
+    /**
+     * Resets the OAuth2 client credentials for the SCIM client associated with this identity provider.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ResetIdpScimClientResponse> resetIdpScimClient(
+            ResetIdpScimClientRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ResetIdpScimClientRequest, ResetIdpScimClientResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        resetIdpScimClient(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Updates the specified auth token's description.
      *
@@ -1559,6 +3189,24 @@ public interface IdentityAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<UpdateAuthTokenRequest, UpdateAuthTokenResponse>
                     handler);
 
+    /**
+     * Updates the specified auth token's description.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateAuthTokenResponse> updateAuthToken(
+            UpdateAuthTokenRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateAuthTokenRequest, UpdateAuthTokenResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateAuthToken(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Updates authentication policy for the specified tenancy
      *
@@ -1576,6 +3224,24 @@ public interface IdentityAsync extends AutoCloseable {
                             UpdateAuthenticationPolicyRequest, UpdateAuthenticationPolicyResponse>
                     handler);
 
+    /**
+     * Updates authentication policy for the specified tenancy
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateAuthenticationPolicyResponse>
+            updateAuthenticationPolicy(UpdateAuthenticationPolicyRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateAuthenticationPolicyRequest, UpdateAuthenticationPolicyResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateAuthenticationPolicy(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Updates the specified compartment's description or name. You can't update the root compartment.
      *
@@ -1592,6 +3258,23 @@ public interface IdentityAsync extends AutoCloseable {
                             UpdateCompartmentRequest, UpdateCompartmentResponse>
                     handler);
 
+    /**
+     * Updates the specified compartment's description or name. You can't update the root compartment.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateCompartmentResponse> updateCompartment(
+            UpdateCompartmentRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateCompartmentRequest, UpdateCompartmentResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateCompartment(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Updates the specified secret key's description.
      *
@@ -1609,6 +3292,24 @@ public interface IdentityAsync extends AutoCloseable {
                             UpdateCustomerSecretKeyRequest, UpdateCustomerSecretKeyResponse>
                     handler);
 
+    /**
+     * Updates the specified secret key's description.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateCustomerSecretKeyResponse>
+            updateCustomerSecretKey(UpdateCustomerSecretKeyRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateCustomerSecretKeyRequest, UpdateCustomerSecretKeyResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateCustomerSecretKey(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Updates the specified dynamic group.
      *
@@ -1625,6 +3326,23 @@ public interface IdentityAsync extends AutoCloseable {
                             UpdateDynamicGroupRequest, UpdateDynamicGroupResponse>
                     handler);
 
+    /**
+     * Updates the specified dynamic group.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateDynamicGroupResponse> updateDynamicGroup(
+            UpdateDynamicGroupRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateDynamicGroupRequest, UpdateDynamicGroupResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateDynamicGroup(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Updates the specified group.
      *
@@ -1639,6 +3357,23 @@ public interface IdentityAsync extends AutoCloseable {
             UpdateGroupRequest request,
             com.oracle.bmc.responses.AsyncHandler<UpdateGroupRequest, UpdateGroupResponse> handler);
 
+    /**
+     * Updates the specified group.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateGroupResponse> updateGroup(
+            UpdateGroupRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateGroupRequest, UpdateGroupResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateGroup(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Updates the specified identity provider.
      *
@@ -1655,6 +3390,23 @@ public interface IdentityAsync extends AutoCloseable {
                             UpdateIdentityProviderRequest, UpdateIdentityProviderResponse>
                     handler);
 
+    /**
+     * Updates the specified identity provider.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateIdentityProviderResponse>
+            updateIdentityProvider(UpdateIdentityProviderRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateIdentityProviderRequest, UpdateIdentityProviderResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateIdentityProvider(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Updates the specified group mapping.
      *
@@ -1671,6 +3423,23 @@ public interface IdentityAsync extends AutoCloseable {
                             UpdateIdpGroupMappingRequest, UpdateIdpGroupMappingResponse>
                     handler);
 
+    /**
+     * Updates the specified group mapping.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateIdpGroupMappingResponse>
+            updateIdpGroupMapping(UpdateIdpGroupMappingRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateIdpGroupMappingRequest, UpdateIdpGroupMappingResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateIdpGroupMapping(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Updates the specified policy. You can update the description or the policy statements themselves.
      * <p>
@@ -1689,6 +3458,26 @@ public interface IdentityAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<UpdatePolicyRequest, UpdatePolicyResponse>
                     handler);
 
+    /**
+     * Updates the specified policy. You can update the description or the policy statements themselves.
+     * <p>
+     * Policy changes take effect typically within 10 seconds.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdatePolicyResponse> updatePolicy(
+            UpdatePolicyRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdatePolicyRequest, UpdatePolicyResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updatePolicy(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Updates the specified SMTP credential's description.
      *
@@ -1706,6 +3495,24 @@ public interface IdentityAsync extends AutoCloseable {
                             UpdateSmtpCredentialRequest, UpdateSmtpCredentialResponse>
                     handler);
 
+    /**
+     * Updates the specified SMTP credential's description.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateSmtpCredentialResponse> updateSmtpCredential(
+            UpdateSmtpCredentialRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateSmtpCredentialRequest, UpdateSmtpCredentialResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateSmtpCredential(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * **Deprecated. Use {@link #updateAuthToken(UpdateAuthTokenRequest, Consumer, Consumer) updateAuthToken} instead.**
      * <p>
@@ -1725,6 +3532,26 @@ public interface IdentityAsync extends AutoCloseable {
                             UpdateSwiftPasswordRequest, UpdateSwiftPasswordResponse>
                     handler);
 
+    /**
+     * **Deprecated. Use {@link #updateAuthToken(UpdateAuthTokenRequest, Consumer, Consumer) updateAuthToken} instead.**
+     * <p>
+     * Updates the specified Swift password's description.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateSwiftPasswordResponse> updateSwiftPassword(
+            UpdateSwiftPasswordRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateSwiftPasswordRequest, UpdateSwiftPasswordResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateSwiftPassword(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Updates the the specified tag definition. You can update `description`, and `isRetired`.
      *
@@ -1740,6 +3567,24 @@ public interface IdentityAsync extends AutoCloseable {
             UpdateTagRequest request,
             com.oracle.bmc.responses.AsyncHandler<UpdateTagRequest, UpdateTagResponse> handler);
 
+    /**
+     * Updates the the specified tag definition. You can update `description`, and `isRetired`.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateTagResponse> updateTag(
+            UpdateTagRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateTagRequest, UpdateTagResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateTag(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Updates the the specified Tag Default. You can presently update the following fields: `value`.
      *
@@ -1756,6 +3601,24 @@ public interface IdentityAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<UpdateTagDefaultRequest, UpdateTagDefaultResponse>
                     handler);
 
+    /**
+     * Updates the the specified Tag Default. You can presently update the following fields: `value`.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateTagDefaultResponse> updateTagDefault(
+            UpdateTagDefaultRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateTagDefaultRequest, UpdateTagDefaultResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateTagDefault(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Updates the the specified tag namespace. You can't update the namespace name.
      * <p>
@@ -1781,6 +3644,32 @@ public interface IdentityAsync extends AutoCloseable {
                             UpdateTagNamespaceRequest, UpdateTagNamespaceResponse>
                     handler);
 
+    /**
+     * Updates the the specified tag namespace. You can't update the namespace name.
+     * <p>
+     * Updating `isRetired` to 'true' retires the namespace and all the tag definitions in the namespace. Reactivating a
+     * namespace (changing `isRetired` from 'true' to 'false') does not reactivate tag definitions.
+     * To reactivate the tag definitions, you must reactivate each one indvidually *after* you reactivate the namespace,
+     * using {@link #updateTag(UpdateTagRequest, Consumer, Consumer) updateTag}. For more information about retiring tag namespaces, see
+     * [Retiring Key Definitions and Namespace Definitions](https://docs.cloud.oracle.com/Content/Identity/Concepts/taggingoverview.htm#Retiring).
+     * <p>
+     * You can't add a namespace with the same name as a retired namespace in the same tenancy.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateTagNamespaceResponse> updateTagNamespace(
+            UpdateTagNamespaceRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateTagNamespaceRequest, UpdateTagNamespaceResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateTagNamespace(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Updates the description of the specified user.
      *
@@ -1795,6 +3684,23 @@ public interface IdentityAsync extends AutoCloseable {
             UpdateUserRequest request,
             com.oracle.bmc.responses.AsyncHandler<UpdateUserRequest, UpdateUserResponse> handler);
 
+    /**
+     * Updates the description of the specified user.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateUserResponse> updateUser(
+            UpdateUserRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateUserRequest, UpdateUserResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateUser(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Updates the capabilities of the specified user.
      *
@@ -1812,6 +3718,24 @@ public interface IdentityAsync extends AutoCloseable {
                             UpdateUserCapabilitiesRequest, UpdateUserCapabilitiesResponse>
                     handler);
 
+    /**
+     * Updates the capabilities of the specified user.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateUserCapabilitiesResponse>
+            updateUserCapabilities(UpdateUserCapabilitiesRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateUserCapabilitiesRequest, UpdateUserCapabilitiesResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateUserCapabilities(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Updates the state of the specified user.
      *
@@ -1828,6 +3752,24 @@ public interface IdentityAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<UpdateUserStateRequest, UpdateUserStateResponse>
                     handler);
 
+    /**
+     * Updates the state of the specified user.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateUserStateResponse> updateUserState(
+            UpdateUserStateRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateUserStateRequest, UpdateUserStateResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateUserState(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Uploads an API signing key for the specified user.
      * <p>
@@ -1857,4 +3799,36 @@ public interface IdentityAsync extends AutoCloseable {
             UploadApiKeyRequest request,
             com.oracle.bmc.responses.AsyncHandler<UploadApiKeyRequest, UploadApiKeyResponse>
                     handler);
+
+    /**
+     * Uploads an API signing key for the specified user.
+     * <p>
+     * Every user has permission to use this operation to upload a key for *their own user ID*. An
+     * administrator in your organization does not need to write a policy to give users this ability.
+     * To compare, administrators who have permission to the tenancy can use this operation to upload a
+     * key for any user, including themselves.
+     * <p>
+     **Important:** Even though you have permission to upload an API key, you might not yet
+     * have permission to do much else. If you try calling an operation unrelated to your own credential
+     * management (e.g., `ListUsers`, `LaunchInstance`) and receive an \"unauthorized\" error,
+     * check with an administrator to confirm which IAM Service group(s) you're in and what access
+     * you have. Also confirm you're working in the correct compartment.
+     * <p>
+     * After you send your request, the new object's `lifecycleState` will temporarily be CREATING. Before using
+     * the object, first make sure its `lifecycleState` has changed to ACTIVE.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UploadApiKeyResponse> uploadApiKey(
+            UploadApiKeyRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UploadApiKeyRequest, UploadApiKeyResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        uploadApiKey(request, handler);
+        return handler.getStage();
+    }
 }
@@ -392,6 +392,32 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ActivateMfaTotpDeviceResponse>
+            activateMfaTotpDevice(final ActivateMfaTotpDeviceRequest request) {
+        LOG.trace("Called async activateMfaTotpDevice");
+        final ActivateMfaTotpDeviceRequest interceptedRequest =
+                ActivateMfaTotpDeviceConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ActivateMfaTotpDeviceConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, ActivateMfaTotpDeviceResponse>
+                transformer = ActivateMfaTotpDeviceConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib, interceptedRequest.getMfaTotpToken(), interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<AddUserToGroupResponse> addUserToGroup(
             final AddUserToGroupRequest request,
@@ -481,6 +507,33 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<AddUserToGroupResponse> addUserToGroup(
+            final AddUserToGroupRequest request) {
+        LOG.trace("Called async addUserToGroup");
+        final AddUserToGroupRequest interceptedRequest =
+                AddUserToGroupConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                AddUserToGroupConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, AddUserToGroupResponse>
+                transformer = AddUserToGroupConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getAddUserToGroupDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ChangeTagNamespaceCompartmentResponse>
             changeTagNamespaceCompartment(
@@ -575,6 +628,34 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ChangeTagNamespaceCompartmentResponse>
+            changeTagNamespaceCompartment(final ChangeTagNamespaceCompartmentRequest request) {
+        LOG.trace("Called async changeTagNamespaceCompartment");
+        final ChangeTagNamespaceCompartmentRequest interceptedRequest =
+                ChangeTagNamespaceCompartmentConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ChangeTagNamespaceCompartmentConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, ChangeTagNamespaceCompartmentResponse>
+                transformer = ChangeTagNamespaceCompartmentConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getChangeTagNamespaceCompartmentDetail(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateAuthTokenResponse> createAuthToken(
             final CreateAuthTokenRequest request,
@@ -664,6 +745,33 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateAuthTokenResponse> createAuthToken(
+            final CreateAuthTokenRequest request) {
+        LOG.trace("Called async createAuthToken");
+        final CreateAuthTokenRequest interceptedRequest =
+                CreateAuthTokenConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateAuthTokenConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, CreateAuthTokenResponse>
+                transformer = CreateAuthTokenConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreateAuthTokenDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateCompartmentResponse> createCompartment(
             final CreateCompartmentRequest request,
@@ -753,6 +861,33 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateCompartmentResponse> createCompartment(
+            final CreateCompartmentRequest request) {
+        LOG.trace("Called async createCompartment");
+        final CreateCompartmentRequest interceptedRequest =
+                CreateCompartmentConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateCompartmentConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, CreateCompartmentResponse>
+                transformer = CreateCompartmentConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreateCompartmentDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateCustomerSecretKeyResponse> createCustomerSecretKey(
             final CreateCustomerSecretKeyRequest request,
@@ -844,6 +979,34 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateCustomerSecretKeyResponse>
+            createCustomerSecretKey(final CreateCustomerSecretKeyRequest request) {
+        LOG.trace("Called async createCustomerSecretKey");
+        final CreateCustomerSecretKeyRequest interceptedRequest =
+                CreateCustomerSecretKeyConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateCustomerSecretKeyConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, CreateCustomerSecretKeyResponse>
+                transformer = CreateCustomerSecretKeyConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreateCustomerSecretKeyDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateDynamicGroupResponse> createDynamicGroup(
             final CreateDynamicGroupRequest request,
@@ -933,6 +1096,33 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateDynamicGroupResponse> createDynamicGroup(
+            final CreateDynamicGroupRequest request) {
+        LOG.trace("Called async createDynamicGroup");
+        final CreateDynamicGroupRequest interceptedRequest =
+                CreateDynamicGroupConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateDynamicGroupConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, CreateDynamicGroupResponse>
+                transformer = CreateDynamicGroupConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreateDynamicGroupDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateGroupResponse> createGroup(
             final CreateGroupRequest request,
@@ -1021,6 +1211,31 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateGroupResponse> createGroup(
+            final CreateGroupRequest request) {
+        LOG.trace("Called async createGroup");
+        final CreateGroupRequest interceptedRequest =
+                CreateGroupConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateGroupConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, CreateGroupResponse>
+                transformer = CreateGroupConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib, interceptedRequest.getCreateGroupDetails(), interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateIdentityProviderResponse> createIdentityProvider(
             final CreateIdentityProviderRequest request,
@@ -1112,6 +1327,34 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateIdentityProviderResponse>
+            createIdentityProvider(final CreateIdentityProviderRequest request) {
+        LOG.trace("Called async createIdentityProvider");
+        final CreateIdentityProviderRequest interceptedRequest =
+                CreateIdentityProviderConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateIdentityProviderConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, CreateIdentityProviderResponse>
+                transformer = CreateIdentityProviderConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreateIdentityProviderDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateIdpGroupMappingResponse> createIdpGroupMapping(
             final CreateIdpGroupMappingRequest request,
@@ -1203,6 +1446,34 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateIdpGroupMappingResponse>
+            createIdpGroupMapping(final CreateIdpGroupMappingRequest request) {
+        LOG.trace("Called async createIdpGroupMapping");
+        final CreateIdpGroupMappingRequest interceptedRequest =
+                CreateIdpGroupMappingConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateIdpGroupMappingConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, CreateIdpGroupMappingResponse>
+                transformer = CreateIdpGroupMappingConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreateIdpGroupMappingDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateMfaTotpDeviceResponse> createMfaTotpDevice(
             final CreateMfaTotpDeviceRequest request,
@@ -1279,6 +1550,31 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateMfaTotpDeviceResponse> createMfaTotpDevice(
+            final CreateMfaTotpDeviceRequest request) {
+        LOG.trace("Called async createMfaTotpDevice");
+        final CreateMfaTotpDeviceRequest interceptedRequest =
+                CreateMfaTotpDeviceConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateMfaTotpDeviceConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, CreateMfaTotpDeviceResponse>
+                transformer = CreateMfaTotpDeviceConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateOrResetUIPasswordResponse> createOrResetUIPassword(
             final CreateOrResetUIPasswordRequest request,
@@ -1355,6 +1651,31 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateOrResetUIPasswordResponse>
+            createOrResetUIPassword(final CreateOrResetUIPasswordRequest request) {
+        LOG.trace("Called async createOrResetUIPassword");
+        final CreateOrResetUIPasswordRequest interceptedRequest =
+                CreateOrResetUIPasswordConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateOrResetUIPasswordConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, CreateOrResetUIPasswordResponse>
+                transformer = CreateOrResetUIPasswordConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreatePolicyResponse> createPolicy(
             final CreatePolicyRequest request,
@@ -1443,6 +1764,33 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreatePolicyResponse> createPolicy(
+            final CreatePolicyRequest request) {
+        LOG.trace("Called async createPolicy");
+        final CreatePolicyRequest interceptedRequest =
+                CreatePolicyConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreatePolicyConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, CreatePolicyResponse>
+                transformer = CreatePolicyConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreatePolicyDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateRegionSubscriptionResponse> createRegionSubscription(
             final CreateRegionSubscriptionRequest request,
@@ -1534,6 +1882,34 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateRegionSubscriptionResponse>
+            createRegionSubscription(final CreateRegionSubscriptionRequest request) {
+        LOG.trace("Called async createRegionSubscription");
+        final CreateRegionSubscriptionRequest interceptedRequest =
+                CreateRegionSubscriptionConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateRegionSubscriptionConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, CreateRegionSubscriptionResponse>
+                transformer = CreateRegionSubscriptionConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreateRegionSubscriptionDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateSmtpCredentialResponse> createSmtpCredential(
             final CreateSmtpCredentialRequest request,
@@ -1625,6 +2001,34 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateSmtpCredentialResponse> createSmtpCredential(
+            final CreateSmtpCredentialRequest request) {
+        LOG.trace("Called async createSmtpCredential");
+        final CreateSmtpCredentialRequest interceptedRequest =
+                CreateSmtpCredentialConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateSmtpCredentialConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, CreateSmtpCredentialResponse>
+                transformer = CreateSmtpCredentialConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreateSmtpCredentialDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateSwiftPasswordResponse> createSwiftPassword(
             final CreateSwiftPasswordRequest request,
@@ -1716,6 +2120,34 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateSwiftPasswordResponse> createSwiftPassword(
+            final CreateSwiftPasswordRequest request) {
+        LOG.trace("Called async createSwiftPassword");
+        final CreateSwiftPasswordRequest interceptedRequest =
+                CreateSwiftPasswordConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateSwiftPasswordConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, CreateSwiftPasswordResponse>
+                transformer = CreateSwiftPasswordConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreateSwiftPasswordDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateTagResponse> createTag(
             final CreateTagRequest request,
@@ -1803,6 +2235,30 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateTagResponse> createTag(
+            final CreateTagRequest request) {
+        LOG.trace("Called async createTag");
+        final CreateTagRequest interceptedRequest = CreateTagConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateTagConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, CreateTagResponse>
+                transformer = CreateTagConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib, interceptedRequest.getCreateTagDetails(), interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateTagDefaultResponse> createTagDefault(
             final CreateTagDefaultRequest request,
@@ -1892,6 +2348,33 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateTagDefaultResponse> createTagDefault(
+            final CreateTagDefaultRequest request) {
+        LOG.trace("Called async createTagDefault");
+        final CreateTagDefaultRequest interceptedRequest =
+                CreateTagDefaultConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateTagDefaultConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, CreateTagDefaultResponse>
+                transformer = CreateTagDefaultConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreateTagDefaultDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateTagNamespaceResponse> createTagNamespace(
             final CreateTagNamespaceRequest request,
@@ -1981,6 +2464,33 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateTagNamespaceResponse> createTagNamespace(
+            final CreateTagNamespaceRequest request) {
+        LOG.trace("Called async createTagNamespace");
+        final CreateTagNamespaceRequest interceptedRequest =
+                CreateTagNamespaceConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateTagNamespaceConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, CreateTagNamespaceResponse>
+                transformer = CreateTagNamespaceConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreateTagNamespaceDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateUserResponse> createUser(
             final CreateUserRequest request,
@@ -2068,6 +2578,30 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateUserResponse> createUser(
+            final CreateUserRequest request) {
+        LOG.trace("Called async createUser");
+        final CreateUserRequest interceptedRequest = CreateUserConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateUserConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, CreateUserResponse>
+                transformer = CreateUserConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib, interceptedRequest.getCreateUserDetails(), interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteApiKeyResponse> deleteApiKey(
             final DeleteApiKeyRequest request,
@@ -2141,6 +2675,30 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteApiKeyResponse> deleteApiKey(
+            final DeleteApiKeyRequest request) {
+        LOG.trace("Called async deleteApiKey");
+        final DeleteApiKeyRequest interceptedRequest =
+                DeleteApiKeyConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteApiKeyConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, DeleteApiKeyResponse>
+                transformer = DeleteApiKeyConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteAuthTokenResponse> deleteAuthToken(
             final DeleteAuthTokenRequest request,
@@ -2215,6 +2773,30 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteAuthTokenResponse> deleteAuthToken(
+            final DeleteAuthTokenRequest request) {
+        LOG.trace("Called async deleteAuthToken");
+        final DeleteAuthTokenRequest interceptedRequest =
+                DeleteAuthTokenConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteAuthTokenConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, DeleteAuthTokenResponse>
+                transformer = DeleteAuthTokenConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteCompartmentResponse> deleteCompartment(
             final DeleteCompartmentRequest request,
@@ -2290,12 +2872,36 @@ public class IdentityAsyncClient implements IdentityAsync {
     }
 
     @Override
-    public java.util.concurrent.Future<DeleteCustomerSecretKeyResponse> deleteCustomerSecretKey(
-            final DeleteCustomerSecretKeyRequest request,
-            final com.oracle.bmc.responses.AsyncHandler<
-                            DeleteCustomerSecretKeyRequest, DeleteCustomerSecretKeyResponse>
-                    handler) {
-        LOG.trace("Called async deleteCustomerSecretKey");
+    public java.util.concurrent.CompletionStage<DeleteCompartmentResponse> deleteCompartment(
+            final DeleteCompartmentRequest request) {
+        LOG.trace("Called async deleteCompartment");
+        final DeleteCompartmentRequest interceptedRequest =
+                DeleteCompartmentConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteCompartmentConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, DeleteCompartmentResponse>
+                transformer = DeleteCompartmentConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
+    @Override
+    public java.util.concurrent.Future<DeleteCustomerSecretKeyResponse> deleteCustomerSecretKey(
+            final DeleteCustomerSecretKeyRequest request,
+            final com.oracle.bmc.responses.AsyncHandler<
+                            DeleteCustomerSecretKeyRequest, DeleteCustomerSecretKeyResponse>
+                    handler) {
+        LOG.trace("Called async deleteCustomerSecretKey");
         final DeleteCustomerSecretKeyRequest interceptedRequest =
                 DeleteCustomerSecretKeyConverter.interceptRequest(request);
         final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
@@ -2365,6 +2971,31 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteCustomerSecretKeyResponse>
+            deleteCustomerSecretKey(final DeleteCustomerSecretKeyRequest request) {
+        LOG.trace("Called async deleteCustomerSecretKey");
+        final DeleteCustomerSecretKeyRequest interceptedRequest =
+                DeleteCustomerSecretKeyConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteCustomerSecretKeyConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, DeleteCustomerSecretKeyResponse>
+                transformer = DeleteCustomerSecretKeyConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteDynamicGroupResponse> deleteDynamicGroup(
             final DeleteDynamicGroupRequest request,
@@ -2439,6 +3070,30 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteDynamicGroupResponse> deleteDynamicGroup(
+            final DeleteDynamicGroupRequest request) {
+        LOG.trace("Called async deleteDynamicGroup");
+        final DeleteDynamicGroupRequest interceptedRequest =
+                DeleteDynamicGroupConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteDynamicGroupConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, DeleteDynamicGroupResponse>
+                transformer = DeleteDynamicGroupConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteGroupResponse> deleteGroup(
             final DeleteGroupRequest request,
@@ -2512,6 +3167,30 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteGroupResponse> deleteGroup(
+            final DeleteGroupRequest request) {
+        LOG.trace("Called async deleteGroup");
+        final DeleteGroupRequest interceptedRequest =
+                DeleteGroupConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteGroupConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, DeleteGroupResponse>
+                transformer = DeleteGroupConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteIdentityProviderResponse> deleteIdentityProvider(
             final DeleteIdentityProviderRequest request,
@@ -2588,6 +3267,31 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteIdentityProviderResponse>
+            deleteIdentityProvider(final DeleteIdentityProviderRequest request) {
+        LOG.trace("Called async deleteIdentityProvider");
+        final DeleteIdentityProviderRequest interceptedRequest =
+                DeleteIdentityProviderConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteIdentityProviderConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, DeleteIdentityProviderResponse>
+                transformer = DeleteIdentityProviderConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteIdpGroupMappingResponse> deleteIdpGroupMapping(
             final DeleteIdpGroupMappingRequest request,
@@ -2664,6 +3368,31 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteIdpGroupMappingResponse>
+            deleteIdpGroupMapping(final DeleteIdpGroupMappingRequest request) {
+        LOG.trace("Called async deleteIdpGroupMapping");
+        final DeleteIdpGroupMappingRequest interceptedRequest =
+                DeleteIdpGroupMappingConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteIdpGroupMappingConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, DeleteIdpGroupMappingResponse>
+                transformer = DeleteIdpGroupMappingConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteMfaTotpDeviceResponse> deleteMfaTotpDevice(
             final DeleteMfaTotpDeviceRequest request,
@@ -2740,6 +3469,31 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteMfaTotpDeviceResponse> deleteMfaTotpDevice(
+            final DeleteMfaTotpDeviceRequest request) {
+        LOG.trace("Called async deleteMfaTotpDevice");
+        final DeleteMfaTotpDeviceRequest interceptedRequest =
+                DeleteMfaTotpDeviceConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteMfaTotpDeviceConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, DeleteMfaTotpDeviceResponse>
+                transformer = DeleteMfaTotpDeviceConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeletePolicyResponse> deletePolicy(
             final DeletePolicyRequest request,
@@ -2813,6 +3567,30 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeletePolicyResponse> deletePolicy(
+            final DeletePolicyRequest request) {
+        LOG.trace("Called async deletePolicy");
+        final DeletePolicyRequest interceptedRequest =
+                DeletePolicyConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeletePolicyConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, DeletePolicyResponse>
+                transformer = DeletePolicyConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteSmtpCredentialResponse> deleteSmtpCredential(
             final DeleteSmtpCredentialRequest request,
@@ -2889,6 +3667,31 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteSmtpCredentialResponse> deleteSmtpCredential(
+            final DeleteSmtpCredentialRequest request) {
+        LOG.trace("Called async deleteSmtpCredential");
+        final DeleteSmtpCredentialRequest interceptedRequest =
+                DeleteSmtpCredentialConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteSmtpCredentialConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, DeleteSmtpCredentialResponse>
+                transformer = DeleteSmtpCredentialConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteSwiftPasswordResponse> deleteSwiftPassword(
             final DeleteSwiftPasswordRequest request,
@@ -2965,6 +3768,31 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteSwiftPasswordResponse> deleteSwiftPassword(
+            final DeleteSwiftPasswordRequest request) {
+        LOG.trace("Called async deleteSwiftPassword");
+        final DeleteSwiftPasswordRequest interceptedRequest =
+                DeleteSwiftPasswordConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteSwiftPasswordConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, DeleteSwiftPasswordResponse>
+                transformer = DeleteSwiftPasswordConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteTagDefaultResponse> deleteTagDefault(
             final DeleteTagDefaultRequest request,
@@ -3039,6 +3867,30 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteTagDefaultResponse> deleteTagDefault(
+            final DeleteTagDefaultRequest request) {
+        LOG.trace("Called async deleteTagDefault");
+        final DeleteTagDefaultRequest interceptedRequest =
+                DeleteTagDefaultConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteTagDefaultConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, DeleteTagDefaultResponse>
+                transformer = DeleteTagDefaultConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteUserResponse> deleteUser(
             final DeleteUserRequest request,
@@ -3111,6 +3963,29 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteUserResponse> deleteUser(
+            final DeleteUserRequest request) {
+        LOG.trace("Called async deleteUser");
+        final DeleteUserRequest interceptedRequest = DeleteUserConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteUserConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, DeleteUserResponse>
+                transformer = DeleteUserConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GenerateTotpSeedResponse> generateTotpSeed(
             final GenerateTotpSeedRequest request,
@@ -3185,6 +4060,30 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GenerateTotpSeedResponse> generateTotpSeed(
+            final GenerateTotpSeedRequest request) {
+        LOG.trace("Called async generateTotpSeed");
+        final GenerateTotpSeedRequest interceptedRequest =
+                GenerateTotpSeedConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GenerateTotpSeedConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GenerateTotpSeedResponse>
+                transformer = GenerateTotpSeedConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetAuthenticationPolicyResponse> getAuthenticationPolicy(
             final GetAuthenticationPolicyRequest request,
@@ -3261,6 +4160,31 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetAuthenticationPolicyResponse>
+            getAuthenticationPolicy(final GetAuthenticationPolicyRequest request) {
+        LOG.trace("Called async getAuthenticationPolicy");
+        final GetAuthenticationPolicyRequest interceptedRequest =
+                GetAuthenticationPolicyConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetAuthenticationPolicyConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, GetAuthenticationPolicyResponse>
+                transformer = GetAuthenticationPolicyConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetCompartmentResponse> getCompartment(
             final GetCompartmentRequest request,
@@ -3335,6 +4259,30 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetCompartmentResponse> getCompartment(
+            final GetCompartmentRequest request) {
+        LOG.trace("Called async getCompartment");
+        final GetCompartmentRequest interceptedRequest =
+                GetCompartmentConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetCompartmentConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetCompartmentResponse>
+                transformer = GetCompartmentConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetDynamicGroupResponse> getDynamicGroup(
             final GetDynamicGroupRequest request,
@@ -3409,6 +4357,30 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetDynamicGroupResponse> getDynamicGroup(
+            final GetDynamicGroupRequest request) {
+        LOG.trace("Called async getDynamicGroup");
+        final GetDynamicGroupRequest interceptedRequest =
+                GetDynamicGroupConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetDynamicGroupConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetDynamicGroupResponse>
+                transformer = GetDynamicGroupConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetGroupResponse> getGroup(
             final GetGroupRequest request,
@@ -3481,6 +4453,29 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetGroupResponse> getGroup(
+            final GetGroupRequest request) {
+        LOG.trace("Called async getGroup");
+        final GetGroupRequest interceptedRequest = GetGroupConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetGroupConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetGroupResponse>
+                transformer = GetGroupConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetIdentityProviderResponse> getIdentityProvider(
             final GetIdentityProviderRequest request,
@@ -3557,6 +4552,31 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetIdentityProviderResponse> getIdentityProvider(
+            final GetIdentityProviderRequest request) {
+        LOG.trace("Called async getIdentityProvider");
+        final GetIdentityProviderRequest interceptedRequest =
+                GetIdentityProviderConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetIdentityProviderConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, GetIdentityProviderResponse>
+                transformer = GetIdentityProviderConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetIdpGroupMappingResponse> getIdpGroupMapping(
             final GetIdpGroupMappingRequest request,
@@ -3631,6 +4651,30 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetIdpGroupMappingResponse> getIdpGroupMapping(
+            final GetIdpGroupMappingRequest request) {
+        LOG.trace("Called async getIdpGroupMapping");
+        final GetIdpGroupMappingRequest interceptedRequest =
+                GetIdpGroupMappingConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetIdpGroupMappingConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetIdpGroupMappingResponse>
+                transformer = GetIdpGroupMappingConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetMfaTotpDeviceResponse> getMfaTotpDevice(
             final GetMfaTotpDeviceRequest request,
@@ -3705,6 +4749,30 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetMfaTotpDeviceResponse> getMfaTotpDevice(
+            final GetMfaTotpDeviceRequest request) {
+        LOG.trace("Called async getMfaTotpDevice");
+        final GetMfaTotpDeviceRequest interceptedRequest =
+                GetMfaTotpDeviceConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetMfaTotpDeviceConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetMfaTotpDeviceResponse>
+                transformer = GetMfaTotpDeviceConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetPolicyResponse> getPolicy(
             final GetPolicyRequest request,
@@ -3777,6 +4845,29 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetPolicyResponse> getPolicy(
+            final GetPolicyRequest request) {
+        LOG.trace("Called async getPolicy");
+        final GetPolicyRequest interceptedRequest = GetPolicyConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetPolicyConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetPolicyResponse>
+                transformer = GetPolicyConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetTagResponse> getTag(
             final GetTagRequest request,
@@ -3847,6 +4938,29 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetTagResponse> getTag(
+            final GetTagRequest request) {
+        LOG.trace("Called async getTag");
+        final GetTagRequest interceptedRequest = GetTagConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetTagConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetTagResponse>
+                transformer = GetTagConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetTagDefaultResponse> getTagDefault(
             final GetTagDefaultRequest request,
@@ -3920,6 +5034,30 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetTagDefaultResponse> getTagDefault(
+            final GetTagDefaultRequest request) {
+        LOG.trace("Called async getTagDefault");
+        final GetTagDefaultRequest interceptedRequest =
+                GetTagDefaultConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetTagDefaultConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetTagDefaultResponse>
+                transformer = GetTagDefaultConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetTagNamespaceResponse> getTagNamespace(
             final GetTagNamespaceRequest request,
@@ -3994,6 +5132,30 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetTagNamespaceResponse> getTagNamespace(
+            final GetTagNamespaceRequest request) {
+        LOG.trace("Called async getTagNamespace");
+        final GetTagNamespaceRequest interceptedRequest =
+                GetTagNamespaceConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetTagNamespaceConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetTagNamespaceResponse>
+                transformer = GetTagNamespaceConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetTenancyResponse> getTenancy(
             final GetTenancyRequest request,
@@ -4066,6 +5228,29 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetTenancyResponse> getTenancy(
+            final GetTenancyRequest request) {
+        LOG.trace("Called async getTenancy");
+        final GetTenancyRequest interceptedRequest = GetTenancyConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetTenancyConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetTenancyResponse>
+                transformer = GetTenancyConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetUserResponse> getUser(
             final GetUserRequest request,
@@ -4137,6 +5322,29 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetUserResponse> getUser(
+            final GetUserRequest request) {
+        LOG.trace("Called async getUser");
+        final GetUserRequest interceptedRequest = GetUserConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetUserConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetUserResponse>
+                transformer = GetUserConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetUserGroupMembershipResponse> getUserGroupMembership(
             final GetUserGroupMembershipRequest request,
@@ -4213,6 +5421,31 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetUserGroupMembershipResponse>
+            getUserGroupMembership(final GetUserGroupMembershipRequest request) {
+        LOG.trace("Called async getUserGroupMembership");
+        final GetUserGroupMembershipRequest interceptedRequest =
+                GetUserGroupMembershipConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetUserGroupMembershipConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, GetUserGroupMembershipResponse>
+                transformer = GetUserGroupMembershipConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetWorkRequestResponse> getWorkRequest(
             final GetWorkRequestRequest request,
@@ -4287,6 +5520,30 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetWorkRequestResponse> getWorkRequest(
+            final GetWorkRequestRequest request) {
+        LOG.trace("Called async getWorkRequest");
+        final GetWorkRequestRequest interceptedRequest =
+                GetWorkRequestConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetWorkRequestConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetWorkRequestResponse>
+                transformer = GetWorkRequestConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListApiKeysResponse> listApiKeys(
             final ListApiKeysRequest request,
@@ -4360,6 +5617,30 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListApiKeysResponse> listApiKeys(
+            final ListApiKeysRequest request) {
+        LOG.trace("Called async listApiKeys");
+        final ListApiKeysRequest interceptedRequest =
+                ListApiKeysConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListApiKeysConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListApiKeysResponse>
+                transformer = ListApiKeysConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListAuthTokensResponse> listAuthTokens(
             final ListAuthTokensRequest request,
@@ -4434,6 +5715,30 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListAuthTokensResponse> listAuthTokens(
+            final ListAuthTokensRequest request) {
+        LOG.trace("Called async listAuthTokens");
+        final ListAuthTokensRequest interceptedRequest =
+                ListAuthTokensConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListAuthTokensConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListAuthTokensResponse>
+                transformer = ListAuthTokensConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListAvailabilityDomainsResponse> listAvailabilityDomains(
             final ListAvailabilityDomainsRequest request,
@@ -4510,6 +5815,31 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListAvailabilityDomainsResponse>
+            listAvailabilityDomains(final ListAvailabilityDomainsRequest request) {
+        LOG.trace("Called async listAvailabilityDomains");
+        final ListAvailabilityDomainsRequest interceptedRequest =
+                ListAvailabilityDomainsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListAvailabilityDomainsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, ListAvailabilityDomainsResponse>
+                transformer = ListAvailabilityDomainsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListCompartmentsResponse> listCompartments(
             final ListCompartmentsRequest request,
@@ -4584,6 +5914,30 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListCompartmentsResponse> listCompartments(
+            final ListCompartmentsRequest request) {
+        LOG.trace("Called async listCompartments");
+        final ListCompartmentsRequest interceptedRequest =
+                ListCompartmentsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListCompartmentsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListCompartmentsResponse>
+                transformer = ListCompartmentsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListCostTrackingTagsResponse> listCostTrackingTags(
             final ListCostTrackingTagsRequest request,
@@ -4660,6 +6014,31 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListCostTrackingTagsResponse> listCostTrackingTags(
+            final ListCostTrackingTagsRequest request) {
+        LOG.trace("Called async listCostTrackingTags");
+        final ListCostTrackingTagsRequest interceptedRequest =
+                ListCostTrackingTagsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListCostTrackingTagsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, ListCostTrackingTagsResponse>
+                transformer = ListCostTrackingTagsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListCustomerSecretKeysResponse> listCustomerSecretKeys(
             final ListCustomerSecretKeysRequest request,
@@ -4736,6 +6115,31 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListCustomerSecretKeysResponse>
+            listCustomerSecretKeys(final ListCustomerSecretKeysRequest request) {
+        LOG.trace("Called async listCustomerSecretKeys");
+        final ListCustomerSecretKeysRequest interceptedRequest =
+                ListCustomerSecretKeysConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListCustomerSecretKeysConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, ListCustomerSecretKeysResponse>
+                transformer = ListCustomerSecretKeysConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListDynamicGroupsResponse> listDynamicGroups(
             final ListDynamicGroupsRequest request,
@@ -4810,6 +6214,30 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListDynamicGroupsResponse> listDynamicGroups(
+            final ListDynamicGroupsRequest request) {
+        LOG.trace("Called async listDynamicGroups");
+        final ListDynamicGroupsRequest interceptedRequest =
+                ListDynamicGroupsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListDynamicGroupsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListDynamicGroupsResponse>
+                transformer = ListDynamicGroupsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListFaultDomainsResponse> listFaultDomains(
             final ListFaultDomainsRequest request,
@@ -4884,6 +6312,30 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListFaultDomainsResponse> listFaultDomains(
+            final ListFaultDomainsRequest request) {
+        LOG.trace("Called async listFaultDomains");
+        final ListFaultDomainsRequest interceptedRequest =
+                ListFaultDomainsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListFaultDomainsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListFaultDomainsResponse>
+                transformer = ListFaultDomainsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListGroupsResponse> listGroups(
             final ListGroupsRequest request,
@@ -4956,6 +6408,29 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListGroupsResponse> listGroups(
+            final ListGroupsRequest request) {
+        LOG.trace("Called async listGroups");
+        final ListGroupsRequest interceptedRequest = ListGroupsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListGroupsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListGroupsResponse>
+                transformer = ListGroupsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListIdentityProviderGroupsResponse>
             listIdentityProviderGroups(
@@ -5034,6 +6509,31 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListIdentityProviderGroupsResponse>
+            listIdentityProviderGroups(final ListIdentityProviderGroupsRequest request) {
+        LOG.trace("Called async listIdentityProviderGroups");
+        final ListIdentityProviderGroupsRequest interceptedRequest =
+                ListIdentityProviderGroupsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListIdentityProviderGroupsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, ListIdentityProviderGroupsResponse>
+                transformer = ListIdentityProviderGroupsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListIdentityProvidersResponse> listIdentityProviders(
             final ListIdentityProvidersRequest request,
@@ -5110,6 +6610,31 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListIdentityProvidersResponse>
+            listIdentityProviders(final ListIdentityProvidersRequest request) {
+        LOG.trace("Called async listIdentityProviders");
+        final ListIdentityProvidersRequest interceptedRequest =
+                ListIdentityProvidersConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListIdentityProvidersConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, ListIdentityProvidersResponse>
+                transformer = ListIdentityProvidersConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListIdpGroupMappingsResponse> listIdpGroupMappings(
             final ListIdpGroupMappingsRequest request,
@@ -5186,6 +6711,31 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListIdpGroupMappingsResponse> listIdpGroupMappings(
+            final ListIdpGroupMappingsRequest request) {
+        LOG.trace("Called async listIdpGroupMappings");
+        final ListIdpGroupMappingsRequest interceptedRequest =
+                ListIdpGroupMappingsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListIdpGroupMappingsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, ListIdpGroupMappingsResponse>
+                transformer = ListIdpGroupMappingsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListMfaTotpDevicesResponse> listMfaTotpDevices(
             final ListMfaTotpDevicesRequest request,
@@ -5260,6 +6810,30 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListMfaTotpDevicesResponse> listMfaTotpDevices(
+            final ListMfaTotpDevicesRequest request) {
+        LOG.trace("Called async listMfaTotpDevices");
+        final ListMfaTotpDevicesRequest interceptedRequest =
+                ListMfaTotpDevicesConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListMfaTotpDevicesConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListMfaTotpDevicesResponse>
+                transformer = ListMfaTotpDevicesConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListPoliciesResponse> listPolicies(
             final ListPoliciesRequest request,
@@ -5333,6 +6907,30 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListPoliciesResponse> listPolicies(
+            final ListPoliciesRequest request) {
+        LOG.trace("Called async listPolicies");
+        final ListPoliciesRequest interceptedRequest =
+                ListPoliciesConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListPoliciesConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListPoliciesResponse>
+                transformer = ListPoliciesConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListRegionSubscriptionsResponse> listRegionSubscriptions(
             final ListRegionSubscriptionsRequest request,
@@ -5409,6 +7007,31 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListRegionSubscriptionsResponse>
+            listRegionSubscriptions(final ListRegionSubscriptionsRequest request) {
+        LOG.trace("Called async listRegionSubscriptions");
+        final ListRegionSubscriptionsRequest interceptedRequest =
+                ListRegionSubscriptionsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListRegionSubscriptionsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, ListRegionSubscriptionsResponse>
+                transformer = ListRegionSubscriptionsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListRegionsResponse> listRegions(
             final ListRegionsRequest request,
@@ -5482,6 +7105,30 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListRegionsResponse> listRegions(
+            final ListRegionsRequest request) {
+        LOG.trace("Called async listRegions");
+        final ListRegionsRequest interceptedRequest =
+                ListRegionsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListRegionsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListRegionsResponse>
+                transformer = ListRegionsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListSmtpCredentialsResponse> listSmtpCredentials(
             final ListSmtpCredentialsRequest request,
@@ -5558,6 +7205,31 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListSmtpCredentialsResponse> listSmtpCredentials(
+            final ListSmtpCredentialsRequest request) {
+        LOG.trace("Called async listSmtpCredentials");
+        final ListSmtpCredentialsRequest interceptedRequest =
+                ListSmtpCredentialsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListSmtpCredentialsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, ListSmtpCredentialsResponse>
+                transformer = ListSmtpCredentialsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListSwiftPasswordsResponse> listSwiftPasswords(
             final ListSwiftPasswordsRequest request,
@@ -5632,6 +7304,30 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListSwiftPasswordsResponse> listSwiftPasswords(
+            final ListSwiftPasswordsRequest request) {
+        LOG.trace("Called async listSwiftPasswords");
+        final ListSwiftPasswordsRequest interceptedRequest =
+                ListSwiftPasswordsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListSwiftPasswordsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListSwiftPasswordsResponse>
+                transformer = ListSwiftPasswordsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListTagDefaultsResponse> listTagDefaults(
             final ListTagDefaultsRequest request,
@@ -5706,6 +7402,30 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListTagDefaultsResponse> listTagDefaults(
+            final ListTagDefaultsRequest request) {
+        LOG.trace("Called async listTagDefaults");
+        final ListTagDefaultsRequest interceptedRequest =
+                ListTagDefaultsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListTagDefaultsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListTagDefaultsResponse>
+                transformer = ListTagDefaultsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListTagNamespacesResponse> listTagNamespaces(
             final ListTagNamespacesRequest request,
@@ -5780,6 +7500,30 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListTagNamespacesResponse> listTagNamespaces(
+            final ListTagNamespacesRequest request) {
+        LOG.trace("Called async listTagNamespaces");
+        final ListTagNamespacesRequest interceptedRequest =
+                ListTagNamespacesConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListTagNamespacesConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListTagNamespacesResponse>
+                transformer = ListTagNamespacesConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListTagsResponse> listTags(
             final ListTagsRequest request,
@@ -5852,6 +7596,29 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListTagsResponse> listTags(
+            final ListTagsRequest request) {
+        LOG.trace("Called async listTags");
+        final ListTagsRequest interceptedRequest = ListTagsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListTagsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListTagsResponse>
+                transformer = ListTagsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListUserGroupMembershipsResponse> listUserGroupMemberships(
             final ListUserGroupMembershipsRequest request,
@@ -5928,6 +7695,31 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListUserGroupMembershipsResponse>
+            listUserGroupMemberships(final ListUserGroupMembershipsRequest request) {
+        LOG.trace("Called async listUserGroupMemberships");
+        final ListUserGroupMembershipsRequest interceptedRequest =
+                ListUserGroupMembershipsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListUserGroupMembershipsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, ListUserGroupMembershipsResponse>
+                transformer = ListUserGroupMembershipsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListUsersResponse> listUsers(
             final ListUsersRequest request,
@@ -6000,6 +7792,29 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListUsersResponse> listUsers(
+            final ListUsersRequest request) {
+        LOG.trace("Called async listUsers");
+        final ListUsersRequest interceptedRequest = ListUsersConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListUsersConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListUsersResponse>
+                transformer = ListUsersConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListWorkRequestsResponse> listWorkRequests(
             final ListWorkRequestsRequest request,
@@ -6074,6 +7889,30 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListWorkRequestsResponse> listWorkRequests(
+            final ListWorkRequestsRequest request) {
+        LOG.trace("Called async listWorkRequests");
+        final ListWorkRequestsRequest interceptedRequest =
+                ListWorkRequestsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListWorkRequestsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListWorkRequestsResponse>
+                transformer = ListWorkRequestsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<RemoveUserFromGroupResponse> removeUserFromGroup(
             final RemoveUserFromGroupRequest request,
@@ -6150,6 +7989,31 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<RemoveUserFromGroupResponse> removeUserFromGroup(
+            final RemoveUserFromGroupRequest request) {
+        LOG.trace("Called async removeUserFromGroup");
+        final RemoveUserFromGroupRequest interceptedRequest =
+                RemoveUserFromGroupConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                RemoveUserFromGroupConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, RemoveUserFromGroupResponse>
+                transformer = RemoveUserFromGroupConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ResetIdpScimClientResponse> resetIdpScimClient(
             final ResetIdpScimClientRequest request,
@@ -6224,6 +8088,30 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ResetIdpScimClientResponse> resetIdpScimClient(
+            final ResetIdpScimClientRequest request) {
+        LOG.trace("Called async resetIdpScimClient");
+        final ResetIdpScimClientRequest interceptedRequest =
+                ResetIdpScimClientConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ResetIdpScimClientConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ResetIdpScimClientResponse>
+                transformer = ResetIdpScimClientConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateAuthTokenResponse> updateAuthToken(
             final UpdateAuthTokenRequest request,
@@ -6313,6 +8201,33 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateAuthTokenResponse> updateAuthToken(
+            final UpdateAuthTokenRequest request) {
+        LOG.trace("Called async updateAuthToken");
+        final UpdateAuthTokenRequest interceptedRequest =
+                UpdateAuthTokenConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateAuthTokenConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, UpdateAuthTokenResponse>
+                transformer = UpdateAuthTokenConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdateAuthTokenDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateAuthenticationPolicyResponse>
             updateAuthenticationPolicy(
@@ -6406,6 +8321,34 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateAuthenticationPolicyResponse>
+            updateAuthenticationPolicy(final UpdateAuthenticationPolicyRequest request) {
+        LOG.trace("Called async updateAuthenticationPolicy");
+        final UpdateAuthenticationPolicyRequest interceptedRequest =
+                UpdateAuthenticationPolicyConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateAuthenticationPolicyConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, UpdateAuthenticationPolicyResponse>
+                transformer = UpdateAuthenticationPolicyConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdateAuthenticationPolicyDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateCompartmentResponse> updateCompartment(
             final UpdateCompartmentRequest request,
@@ -6495,6 +8438,33 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateCompartmentResponse> updateCompartment(
+            final UpdateCompartmentRequest request) {
+        LOG.trace("Called async updateCompartment");
+        final UpdateCompartmentRequest interceptedRequest =
+                UpdateCompartmentConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateCompartmentConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, UpdateCompartmentResponse>
+                transformer = UpdateCompartmentConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdateCompartmentDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateCustomerSecretKeyResponse> updateCustomerSecretKey(
             final UpdateCustomerSecretKeyRequest request,
@@ -6586,6 +8556,34 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateCustomerSecretKeyResponse>
+            updateCustomerSecretKey(final UpdateCustomerSecretKeyRequest request) {
+        LOG.trace("Called async updateCustomerSecretKey");
+        final UpdateCustomerSecretKeyRequest interceptedRequest =
+                UpdateCustomerSecretKeyConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateCustomerSecretKeyConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, UpdateCustomerSecretKeyResponse>
+                transformer = UpdateCustomerSecretKeyConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdateCustomerSecretKeyDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateDynamicGroupResponse> updateDynamicGroup(
             final UpdateDynamicGroupRequest request,
@@ -6675,6 +8673,33 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateDynamicGroupResponse> updateDynamicGroup(
+            final UpdateDynamicGroupRequest request) {
+        LOG.trace("Called async updateDynamicGroup");
+        final UpdateDynamicGroupRequest interceptedRequest =
+                UpdateDynamicGroupConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateDynamicGroupConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, UpdateDynamicGroupResponse>
+                transformer = UpdateDynamicGroupConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdateDynamicGroupDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateGroupResponse> updateGroup(
             final UpdateGroupRequest request,
@@ -6763,6 +8788,31 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateGroupResponse> updateGroup(
+            final UpdateGroupRequest request) {
+        LOG.trace("Called async updateGroup");
+        final UpdateGroupRequest interceptedRequest =
+                UpdateGroupConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateGroupConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, UpdateGroupResponse>
+                transformer = UpdateGroupConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib, interceptedRequest.getUpdateGroupDetails(), interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateIdentityProviderResponse> updateIdentityProvider(
             final UpdateIdentityProviderRequest request,
@@ -6854,6 +8904,34 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateIdentityProviderResponse>
+            updateIdentityProvider(final UpdateIdentityProviderRequest request) {
+        LOG.trace("Called async updateIdentityProvider");
+        final UpdateIdentityProviderRequest interceptedRequest =
+                UpdateIdentityProviderConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateIdentityProviderConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, UpdateIdentityProviderResponse>
+                transformer = UpdateIdentityProviderConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdateIdentityProviderDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateIdpGroupMappingResponse> updateIdpGroupMapping(
             final UpdateIdpGroupMappingRequest request,
@@ -6945,6 +9023,34 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateIdpGroupMappingResponse>
+            updateIdpGroupMapping(final UpdateIdpGroupMappingRequest request) {
+        LOG.trace("Called async updateIdpGroupMapping");
+        final UpdateIdpGroupMappingRequest interceptedRequest =
+                UpdateIdpGroupMappingConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateIdpGroupMappingConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, UpdateIdpGroupMappingResponse>
+                transformer = UpdateIdpGroupMappingConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdateIdpGroupMappingDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdatePolicyResponse> updatePolicy(
             final UpdatePolicyRequest request,
@@ -7033,6 +9139,33 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdatePolicyResponse> updatePolicy(
+            final UpdatePolicyRequest request) {
+        LOG.trace("Called async updatePolicy");
+        final UpdatePolicyRequest interceptedRequest =
+                UpdatePolicyConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdatePolicyConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, UpdatePolicyResponse>
+                transformer = UpdatePolicyConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdatePolicyDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateSmtpCredentialResponse> updateSmtpCredential(
             final UpdateSmtpCredentialRequest request,
@@ -7124,6 +9257,34 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateSmtpCredentialResponse> updateSmtpCredential(
+            final UpdateSmtpCredentialRequest request) {
+        LOG.trace("Called async updateSmtpCredential");
+        final UpdateSmtpCredentialRequest interceptedRequest =
+                UpdateSmtpCredentialConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateSmtpCredentialConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, UpdateSmtpCredentialResponse>
+                transformer = UpdateSmtpCredentialConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdateSmtpCredentialDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateSwiftPasswordResponse> updateSwiftPassword(
             final UpdateSwiftPasswordRequest request,
@@ -7215,6 +9376,34 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateSwiftPasswordResponse> updateSwiftPassword(
+            final UpdateSwiftPasswordRequest request) {
+        LOG.trace("Called async updateSwiftPassword");
+        final UpdateSwiftPasswordRequest interceptedRequest =
+                UpdateSwiftPasswordConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateSwiftPasswordConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, UpdateSwiftPasswordResponse>
+                transformer = UpdateSwiftPasswordConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdateSwiftPasswordDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateTagResponse> updateTag(
             final UpdateTagRequest request,
@@ -7302,6 +9491,30 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateTagResponse> updateTag(
+            final UpdateTagRequest request) {
+        LOG.trace("Called async updateTag");
+        final UpdateTagRequest interceptedRequest = UpdateTagConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateTagConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, UpdateTagResponse>
+                transformer = UpdateTagConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib, interceptedRequest.getUpdateTagDetails(), interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateTagDefaultResponse> updateTagDefault(
             final UpdateTagDefaultRequest request,
@@ -7391,6 +9604,33 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateTagDefaultResponse> updateTagDefault(
+            final UpdateTagDefaultRequest request) {
+        LOG.trace("Called async updateTagDefault");
+        final UpdateTagDefaultRequest interceptedRequest =
+                UpdateTagDefaultConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateTagDefaultConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, UpdateTagDefaultResponse>
+                transformer = UpdateTagDefaultConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdateTagDefaultDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateTagNamespaceResponse> updateTagNamespace(
             final UpdateTagNamespaceRequest request,
@@ -7480,6 +9720,33 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateTagNamespaceResponse> updateTagNamespace(
+            final UpdateTagNamespaceRequest request) {
+        LOG.trace("Called async updateTagNamespace");
+        final UpdateTagNamespaceRequest interceptedRequest =
+                UpdateTagNamespaceConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateTagNamespaceConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, UpdateTagNamespaceResponse>
+                transformer = UpdateTagNamespaceConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdateTagNamespaceDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateUserResponse> updateUser(
             final UpdateUserRequest request,
@@ -7567,6 +9834,30 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateUserResponse> updateUser(
+            final UpdateUserRequest request) {
+        LOG.trace("Called async updateUser");
+        final UpdateUserRequest interceptedRequest = UpdateUserConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateUserConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, UpdateUserResponse>
+                transformer = UpdateUserConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib, interceptedRequest.getUpdateUserDetails(), interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateUserCapabilitiesResponse> updateUserCapabilities(
             final UpdateUserCapabilitiesRequest request,
@@ -7658,6 +9949,34 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateUserCapabilitiesResponse>
+            updateUserCapabilities(final UpdateUserCapabilitiesRequest request) {
+        LOG.trace("Called async updateUserCapabilities");
+        final UpdateUserCapabilitiesRequest interceptedRequest =
+                UpdateUserCapabilitiesConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateUserCapabilitiesConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, UpdateUserCapabilitiesResponse>
+                transformer = UpdateUserCapabilitiesConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdateUserCapabilitiesDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateUserStateResponse> updateUserState(
             final UpdateUserStateRequest request,
@@ -7747,6 +10066,31 @@ public class IdentityAsyncClient implements IdentityAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateUserStateResponse> updateUserState(
+            final UpdateUserStateRequest request) {
+        LOG.trace("Called async updateUserState");
+        final UpdateUserStateRequest interceptedRequest =
+                UpdateUserStateConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateUserStateConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, UpdateUserStateResponse>
+                transformer = UpdateUserStateConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib, interceptedRequest.getUpdateStateDetails(), interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UploadApiKeyResponse> uploadApiKey(
             final UploadApiKeyRequest request,
@@ -7834,4 +10178,31 @@ public class IdentityAsyncClient implements IdentityAsync {
                     responseFuture, transformer);
         }
     }
+
+    @Override
+    public java.util.concurrent.CompletionStage<UploadApiKeyResponse> uploadApiKey(
+            final UploadApiKeyRequest request) {
+        LOG.trace("Called async uploadApiKey");
+        final UploadApiKeyRequest interceptedRequest =
+                UploadApiKeyConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UploadApiKeyConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, UploadApiKeyResponse>
+                transformer = UploadApiKeyConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreateApiKeyDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
 }
@@ -113,7 +113,8 @@ public class CreateSaml2IdentityProviderDetails extends CreateIdentityProviderDe
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public CreateSaml2IdentityProviderDetails build() {
             CreateSaml2IdentityProviderDetails __instance__ =
@@ -196,6 +197,19 @@ public class CreateSaml2IdentityProviderDetails extends CreateIdentityProviderDe
     @com.fasterxml.jackson.annotation.JsonProperty("freeformAttributes")
     java.util.Map<String, String> freeformAttributes;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "compartmentId",
+                    "name",
+                    "description",
+                    "productType",
+                    "freeformTags",
+                    "definedTags",
+                    "metadataUrl",
+                    "metadata",
+                    "freeformAttributes");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -80,7 +80,8 @@ public class IdentityProviderGroupSummary {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public IdentityProviderGroupSummary build() {
             IdentityProviderGroupSummary __instance__ =
@@ -159,6 +160,16 @@ public class IdentityProviderGroupSummary {
     @com.fasterxml.jackson.annotation.JsonProperty("timeModified")
     java.util.Date timeModified;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "id",
+                    "identityProviderId",
+                    "displayName",
+                    "externalIdentifier",
+                    "timeCreated",
+                    "timeModified");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -101,7 +101,8 @@ public class MfaTotpDevice {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public MfaTotpDevice build() {
             MfaTotpDevice __instance__ =
@@ -256,6 +257,18 @@ public class MfaTotpDevice {
     @com.fasterxml.jackson.annotation.JsonProperty("isActivated")
     Boolean isActivated;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "id",
+                    "seed",
+                    "userId",
+                    "timeCreated",
+                    "timeExpires",
+                    "lifecycleState",
+                    "inactiveStatus",
+                    "isActivated");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -89,7 +89,8 @@ public class MfaTotpDeviceSummary {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public MfaTotpDeviceSummary build() {
             MfaTotpDeviceSummary __instance__ =
@@ -233,6 +234,17 @@ public class MfaTotpDeviceSummary {
     @com.fasterxml.jackson.annotation.JsonProperty("isActivated")
     Boolean isActivated;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "id",
+                    "userId",
+                    "timeCreated",
+                    "timeExpires",
+                    "lifecycleState",
+                    "inactiveStatus",
+                    "isActivated");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -78,7 +78,8 @@ public class PasswordPolicy {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public PasswordPolicy build() {
             PasswordPolicy __instance__ =
@@ -151,6 +152,16 @@ public class PasswordPolicy {
     @com.fasterxml.jackson.annotation.JsonProperty("isUsernameContainmentAllowed")
     Boolean isUsernameContainmentAllowed;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "minimumPasswordLength",
+                    "isUppercaseCharactersRequired",
+                    "isLowercaseCharactersRequired",
+                    "isNumericCharactersRequired",
+                    "isSpecialCharactersRequired",
+                    "isUsernameContainmentAllowed");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
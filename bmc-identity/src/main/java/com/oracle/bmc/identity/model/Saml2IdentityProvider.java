@@ -161,7 +161,8 @@ public class Saml2IdentityProvider extends IdentityProvider {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public Saml2IdentityProvider build() {
             Saml2IdentityProvider __instance__ =
@@ -279,6 +280,24 @@ public class Saml2IdentityProvider extends IdentityProvider {
     @com.fasterxml.jackson.annotation.JsonProperty("freeformAttributes")
     java.util.Map<String, String> freeformAttributes;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "id",
+                    "compartmentId",
+                    "name",
+                    "description",
+                    "productType",
+                    "timeCreated",
+                    "lifecycleState",
+                    "inactiveStatus",
+                    "freeformTags",
+                    "definedTags",
+                    "metadataUrl",
+                    "signingCertificate",
+                    "redirectUrl",
+                    "freeformAttributes");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -44,7 +44,8 @@ public class ScimClientCredentials {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public ScimClientCredentials build() {
             ScimClientCredentials __instance__ = new ScimClientCredentials(clientId, clientSecret);
@@ -80,6 +81,10 @@ public class ScimClientCredentials {
     @com.fasterxml.jackson.annotation.JsonProperty("clientSecret")
     String clientSecret;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of("clientId", "clientSecret");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -86,7 +86,8 @@ public class UpdateSaml2IdentityProviderDetails extends UpdateIdentityProviderDe
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public UpdateSaml2IdentityProviderDetails build() {
             UpdateSaml2IdentityProviderDetails __instance__ =
@@ -160,6 +161,16 @@ public class UpdateSaml2IdentityProviderDetails extends UpdateIdentityProviderDe
     @com.fasterxml.jackson.annotation.JsonProperty("freeformAttributes")
     java.util.Map<String, String> freeformAttributes;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "description",
+                    "freeformTags",
+                    "definedTags",
+                    "metadataUrl",
+                    "metadata",
+                    "freeformAttributes");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -167,7 +167,8 @@ public class User {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public User build() {
             User __instance__ =
@@ -375,6 +376,24 @@ public class User {
     @com.fasterxml.jackson.annotation.JsonProperty("isMfaActivated")
     Boolean isMfaActivated;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "id",
+                    "compartmentId",
+                    "name",
+                    "description",
+                    "email",
+                    "identityProviderId",
+                    "externalIdentifier",
+                    "timeCreated",
+                    "lifecycleState",
+                    "inactiveStatus",
+                    "freeformTags",
+                    "definedTags",
+                    "capabilities",
+                    "isMfaActivated");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
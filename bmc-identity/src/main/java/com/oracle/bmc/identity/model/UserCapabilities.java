@@ -68,7 +68,8 @@ public class UserCapabilities {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public UserCapabilities build() {
             UserCapabilities __instance__ =
@@ -133,6 +134,15 @@ public class UserCapabilities {
     @com.fasterxml.jackson.annotation.JsonProperty("canUseCustomerSecretKeys")
     Boolean canUseCustomerSecretKeys;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "canUseConsolePassword",
+                    "canUseApiKeys",
+                    "canUseAuthTokens",
+                    "canUseSmtpCredentials",
+                    "canUseCustomerSecretKeys");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
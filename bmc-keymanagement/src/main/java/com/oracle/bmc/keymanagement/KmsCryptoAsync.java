@@ -30,6 +30,23 @@ public interface KmsCryptoAsync extends AutoCloseable {
             DecryptRequest request,
             com.oracle.bmc.responses.AsyncHandler<DecryptRequest, DecryptResponse> handler);
 
+    /**
+     * Decrypts data using the given DecryptDataDetails resource.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<DecryptResponse> decrypt(DecryptRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        DecryptRequest, DecryptResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        decrypt(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Encrypts data using the given EncryptDataDetails resource.
      * Plaintext included in the example request is a base64-encoded value
@@ -47,6 +64,25 @@ public interface KmsCryptoAsync extends AutoCloseable {
             EncryptRequest request,
             com.oracle.bmc.responses.AsyncHandler<EncryptRequest, EncryptResponse> handler);
 
+    /**
+     * Encrypts data using the given EncryptDataDetails resource.
+     * Plaintext included in the example request is a base64-encoded value
+     * of a UTF-8 string.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<EncryptResponse> encrypt(EncryptRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        EncryptRequest, EncryptResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        encrypt(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Generates a key that you can use to encrypt or decrypt data.
      *
@@ -63,4 +99,22 @@ public interface KmsCryptoAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<
                             GenerateDataEncryptionKeyRequest, GenerateDataEncryptionKeyResponse>
                     handler);
+
+    /**
+     * Generates a key that you can use to encrypt or decrypt data.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GenerateDataEncryptionKeyResponse>
+            generateDataEncryptionKey(GenerateDataEncryptionKeyRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GenerateDataEncryptionKeyRequest, GenerateDataEncryptionKeyResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        generateDataEncryptionKey(request, handler);
+        return handler.getStage();
+    }
 }
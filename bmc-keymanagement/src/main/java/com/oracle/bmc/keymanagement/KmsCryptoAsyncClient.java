@@ -317,6 +317,30 @@ public class KmsCryptoAsyncClient implements KmsCryptoAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DecryptResponse> decrypt(
+            final DecryptRequest request) {
+        LOG.trace("Called async decrypt");
+        final DecryptRequest interceptedRequest = DecryptConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DecryptConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, DecryptResponse>
+                transformer = DecryptConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib, interceptedRequest.getDecryptDataDetails(), interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<EncryptResponse> encrypt(
             final EncryptRequest request,
@@ -403,6 +427,30 @@ public class KmsCryptoAsyncClient implements KmsCryptoAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<EncryptResponse> encrypt(
+            final EncryptRequest request) {
+        LOG.trace("Called async encrypt");
+        final EncryptRequest interceptedRequest = EncryptConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                EncryptConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, EncryptResponse>
+                transformer = EncryptConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib, interceptedRequest.getEncryptDataDetails(), interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GenerateDataEncryptionKeyResponse> generateDataEncryptionKey(
             final GenerateDataEncryptionKeyRequest request,
@@ -493,4 +541,30 @@ public class KmsCryptoAsyncClient implements KmsCryptoAsync {
                     responseFuture, transformer);
         }
     }
+
+    @Override
+    public java.util.concurrent.CompletionStage<GenerateDataEncryptionKeyResponse>
+            generateDataEncryptionKey(final GenerateDataEncryptionKeyRequest request) {
+        LOG.trace("Called async generateDataEncryptionKey");
+        final GenerateDataEncryptionKeyRequest interceptedRequest =
+                GenerateDataEncryptionKeyConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GenerateDataEncryptionKeyConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, GenerateDataEncryptionKeyResponse>
+                transformer = GenerateDataEncryptionKeyConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib, interceptedRequest.getGenerateKeyDetails(), interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
 }
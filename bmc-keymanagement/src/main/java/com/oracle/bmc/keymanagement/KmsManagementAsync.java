@@ -29,6 +29,23 @@ public interface KmsManagementAsync extends AutoCloseable {
             CreateKeyRequest request,
             com.oracle.bmc.responses.AsyncHandler<CreateKeyRequest, CreateKeyResponse> handler);
 
+    /**
+     * Creates a new key.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreateKeyResponse> createKey(
+            CreateKeyRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreateKeyRequest, CreateKeyResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createKey(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Generates new cryptographic material for a key. The key must be in an `ENABLED` state to be
      * rotated.
@@ -46,6 +63,25 @@ public interface KmsManagementAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<CreateKeyVersionRequest, CreateKeyVersionResponse>
                     handler);
 
+    /**
+     * Generates new cryptographic material for a key. The key must be in an `ENABLED` state to be
+     * rotated.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreateKeyVersionResponse> createKeyVersion(
+            CreateKeyVersionRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreateKeyVersionRequest, CreateKeyVersionResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createKeyVersion(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Disables a key to make it unavailable for encryption
      * or decryption.
@@ -62,6 +98,25 @@ public interface KmsManagementAsync extends AutoCloseable {
             DisableKeyRequest request,
             com.oracle.bmc.responses.AsyncHandler<DisableKeyRequest, DisableKeyResponse> handler);
 
+    /**
+     * Disables a key to make it unavailable for encryption
+     * or decryption.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<DisableKeyResponse> disableKey(
+            DisableKeyRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        DisableKeyRequest, DisableKeyResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        disableKey(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Enables a key to make it available for encryption or
      * decryption.
@@ -78,6 +133,25 @@ public interface KmsManagementAsync extends AutoCloseable {
             EnableKeyRequest request,
             com.oracle.bmc.responses.AsyncHandler<EnableKeyRequest, EnableKeyResponse> handler);
 
+    /**
+     * Enables a key to make it available for encryption or
+     * decryption.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<EnableKeyResponse> enableKey(
+            EnableKeyRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        EnableKeyRequest, EnableKeyResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        enableKey(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets information about the specified key.
      *
@@ -93,6 +167,23 @@ public interface KmsManagementAsync extends AutoCloseable {
             GetKeyRequest request,
             com.oracle.bmc.responses.AsyncHandler<GetKeyRequest, GetKeyResponse> handler);
 
+    /**
+     * Gets information about the specified key.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetKeyResponse> getKey(GetKeyRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetKeyRequest, GetKeyResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getKey(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets information about the specified key version.
      *
@@ -109,6 +200,24 @@ public interface KmsManagementAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<GetKeyVersionRequest, GetKeyVersionResponse>
                     handler);
 
+    /**
+     * Gets information about the specified key version.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetKeyVersionResponse> getKeyVersion(
+            GetKeyVersionRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetKeyVersionRequest, GetKeyVersionResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getKeyVersion(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists all key versions for the specified key.
      *
@@ -125,6 +234,24 @@ public interface KmsManagementAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<ListKeyVersionsRequest, ListKeyVersionsResponse>
                     handler);
 
+    /**
+     * Lists all key versions for the specified key.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListKeyVersionsResponse> listKeyVersions(
+            ListKeyVersionsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListKeyVersionsRequest, ListKeyVersionsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listKeyVersions(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists the keys in the specified vault and compartment.
      *
@@ -140,6 +267,24 @@ public interface KmsManagementAsync extends AutoCloseable {
             ListKeysRequest request,
             com.oracle.bmc.responses.AsyncHandler<ListKeysRequest, ListKeysResponse> handler);
 
+    /**
+     * Lists the keys in the specified vault and compartment.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListKeysResponse> listKeys(
+            ListKeysRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListKeysRequest, ListKeysResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listKeys(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Updates the properties of a key. Specifically, you can update the
      * `displayName`, `freeformTags`, and `definedTags` properties. Furthermore,
@@ -156,4 +301,24 @@ public interface KmsManagementAsync extends AutoCloseable {
     java.util.concurrent.Future<UpdateKeyResponse> updateKey(
             UpdateKeyRequest request,
             com.oracle.bmc.responses.AsyncHandler<UpdateKeyRequest, UpdateKeyResponse> handler);
+
+    /**
+     * Updates the properties of a key. Specifically, you can update the
+     * `displayName`, `freeformTags`, and `definedTags` properties. Furthermore,
+     * the key must in an `ACTIVE` or `CREATING` state to be updated.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateKeyResponse> updateKey(
+            UpdateKeyRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateKeyRequest, UpdateKeyResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateKey(request, handler);
+        return handler.getStage();
+    }
 }
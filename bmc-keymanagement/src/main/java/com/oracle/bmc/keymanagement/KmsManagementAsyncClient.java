@@ -318,6 +318,30 @@ public class KmsManagementAsyncClient implements KmsManagementAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateKeyResponse> createKey(
+            final CreateKeyRequest request) {
+        LOG.trace("Called async createKey");
+        final CreateKeyRequest interceptedRequest = CreateKeyConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateKeyConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, CreateKeyResponse>
+                transformer = CreateKeyConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib, interceptedRequest.getCreateKeyDetails(), interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateKeyVersionResponse> createKeyVersion(
             final CreateKeyVersionRequest request,
@@ -392,6 +416,30 @@ public class KmsManagementAsyncClient implements KmsManagementAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateKeyVersionResponse> createKeyVersion(
+            final CreateKeyVersionRequest request) {
+        LOG.trace("Called async createKeyVersion");
+        final CreateKeyVersionRequest interceptedRequest =
+                CreateKeyVersionConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateKeyVersionConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, CreateKeyVersionResponse>
+                transformer = CreateKeyVersionConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DisableKeyResponse> disableKey(
             final DisableKeyRequest request,
@@ -464,6 +512,29 @@ public class KmsManagementAsyncClient implements KmsManagementAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DisableKeyResponse> disableKey(
+            final DisableKeyRequest request) {
+        LOG.trace("Called async disableKey");
+        final DisableKeyRequest interceptedRequest = DisableKeyConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DisableKeyConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, DisableKeyResponse>
+                transformer = DisableKeyConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<EnableKeyResponse> enableKey(
             final EnableKeyRequest request,
@@ -536,6 +607,29 @@ public class KmsManagementAsyncClient implements KmsManagementAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<EnableKeyResponse> enableKey(
+            final EnableKeyRequest request) {
+        LOG.trace("Called async enableKey");
+        final EnableKeyRequest interceptedRequest = EnableKeyConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                EnableKeyConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, EnableKeyResponse>
+                transformer = EnableKeyConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetKeyResponse> getKey(
             final GetKeyRequest request,
@@ -606,6 +700,29 @@ public class KmsManagementAsyncClient implements KmsManagementAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetKeyResponse> getKey(
+            final GetKeyRequest request) {
+        LOG.trace("Called async getKey");
+        final GetKeyRequest interceptedRequest = GetKeyConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetKeyConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetKeyResponse>
+                transformer = GetKeyConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetKeyVersionResponse> getKeyVersion(
             final GetKeyVersionRequest request,
@@ -679,6 +796,30 @@ public class KmsManagementAsyncClient implements KmsManagementAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetKeyVersionResponse> getKeyVersion(
+            final GetKeyVersionRequest request) {
+        LOG.trace("Called async getKeyVersion");
+        final GetKeyVersionRequest interceptedRequest =
+                GetKeyVersionConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetKeyVersionConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetKeyVersionResponse>
+                transformer = GetKeyVersionConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListKeyVersionsResponse> listKeyVersions(
             final ListKeyVersionsRequest request,
@@ -753,6 +894,30 @@ public class KmsManagementAsyncClient implements KmsManagementAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListKeyVersionsResponse> listKeyVersions(
+            final ListKeyVersionsRequest request) {
+        LOG.trace("Called async listKeyVersions");
+        final ListKeyVersionsRequest interceptedRequest =
+                ListKeyVersionsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListKeyVersionsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListKeyVersionsResponse>
+                transformer = ListKeyVersionsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListKeysResponse> listKeys(
             final ListKeysRequest request,
@@ -825,6 +990,29 @@ public class KmsManagementAsyncClient implements KmsManagementAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListKeysResponse> listKeys(
+            final ListKeysRequest request) {
+        LOG.trace("Called async listKeys");
+        final ListKeysRequest interceptedRequest = ListKeysConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListKeysConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListKeysResponse>
+                transformer = ListKeysConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateKeyResponse> updateKey(
             final UpdateKeyRequest request,
@@ -911,4 +1099,28 @@ public class KmsManagementAsyncClient implements KmsManagementAsync {
                     responseFuture, transformer);
         }
     }
+
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateKeyResponse> updateKey(
+            final UpdateKeyRequest request) {
+        LOG.trace("Called async updateKey");
+        final UpdateKeyRequest interceptedRequest = UpdateKeyConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateKeyConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, UpdateKeyResponse>
+                transformer = UpdateKeyConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib, interceptedRequest.getUpdateKeyDetails(), interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
 }
@@ -55,6 +55,26 @@ public interface KmsVaultAsync extends AutoCloseable {
                             CancelVaultDeletionRequest, CancelVaultDeletionResponse>
                     handler);
 
+    /**
+     * Cancels the scheduled deletion of the specified vault. Canceling a scheduled deletion
+     * restores the vault and all keys in it to the respective states they were in before
+     * the deletion was scheduled.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CancelVaultDeletionResponse> cancelVaultDeletion(
+            CancelVaultDeletionRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CancelVaultDeletionRequest, CancelVaultDeletionResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        cancelVaultDeletion(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Creates a new vault. The type of vault you create determines key
      * placement, pricing, and available options. Options include storage
@@ -73,6 +93,27 @@ public interface KmsVaultAsync extends AutoCloseable {
             CreateVaultRequest request,
             com.oracle.bmc.responses.AsyncHandler<CreateVaultRequest, CreateVaultResponse> handler);
 
+    /**
+     * Creates a new vault. The type of vault you create determines key
+     * placement, pricing, and available options. Options include storage
+     * isolation, a dedicated service endpoint instead of a shared service
+     * endpoint for API calls, and a dedicated hardware security module (HSM) or a multitenant HSM.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreateVaultResponse> createVault(
+            CreateVaultRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreateVaultRequest, CreateVaultResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createVault(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the specified vault's configuration information.
      *
@@ -88,6 +129,24 @@ public interface KmsVaultAsync extends AutoCloseable {
             GetVaultRequest request,
             com.oracle.bmc.responses.AsyncHandler<GetVaultRequest, GetVaultResponse> handler);
 
+    /**
+     * Gets the specified vault's configuration information.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetVaultResponse> getVault(
+            GetVaultRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetVaultRequest, GetVaultResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getVault(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists the vaults in the specified compartment.
      *
@@ -103,6 +162,24 @@ public interface KmsVaultAsync extends AutoCloseable {
             ListVaultsRequest request,
             com.oracle.bmc.responses.AsyncHandler<ListVaultsRequest, ListVaultsResponse> handler);
 
+    /**
+     * Lists the vaults in the specified compartment.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListVaultsResponse> listVaults(
+            ListVaultsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListVaultsRequest, ListVaultsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listVaults(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Schedules the deletion of the specified vault. This sets the state of the vault and all keys in it
      * to `PENDING_DELETION` and then deletes them after the retention period ends.
@@ -121,6 +198,25 @@ public interface KmsVaultAsync extends AutoCloseable {
                             ScheduleVaultDeletionRequest, ScheduleVaultDeletionResponse>
                     handler);
 
+    /**
+     * Schedules the deletion of the specified vault. This sets the state of the vault and all keys in it
+     * to `PENDING_DELETION` and then deletes them after the retention period ends.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ScheduleVaultDeletionResponse>
+            scheduleVaultDeletion(ScheduleVaultDeletionRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ScheduleVaultDeletionRequest, ScheduleVaultDeletionResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        scheduleVaultDeletion(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Updates the properties of a vault. Specifically, you can update the
      * `displayName`, `freeformTags`, and `definedTags` properties. Furthermore,
@@ -137,4 +233,24 @@ public interface KmsVaultAsync extends AutoCloseable {
     java.util.concurrent.Future<UpdateVaultResponse> updateVault(
             UpdateVaultRequest request,
             com.oracle.bmc.responses.AsyncHandler<UpdateVaultRequest, UpdateVaultResponse> handler);
+
+    /**
+     * Updates the properties of a vault. Specifically, you can update the
+     * `displayName`, `freeformTags`, and `definedTags` properties. Furthermore,
+     * the vault must be in an `ACTIVE` or `CREATING` state to be updated.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateVaultResponse> updateVault(
+            UpdateVaultRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateVaultRequest, UpdateVaultResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateVault(request, handler);
+        return handler.getStage();
+    }
 }
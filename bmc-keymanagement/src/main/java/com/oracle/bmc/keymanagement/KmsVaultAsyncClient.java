@@ -377,6 +377,31 @@ public class KmsVaultAsyncClient implements KmsVaultAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CancelVaultDeletionResponse> cancelVaultDeletion(
+            final CancelVaultDeletionRequest request) {
+        LOG.trace("Called async cancelVaultDeletion");
+        final CancelVaultDeletionRequest interceptedRequest =
+                CancelVaultDeletionConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CancelVaultDeletionConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, CancelVaultDeletionResponse>
+                transformer = CancelVaultDeletionConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateVaultResponse> createVault(
             final CreateVaultRequest request,
@@ -465,6 +490,31 @@ public class KmsVaultAsyncClient implements KmsVaultAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateVaultResponse> createVault(
+            final CreateVaultRequest request) {
+        LOG.trace("Called async createVault");
+        final CreateVaultRequest interceptedRequest =
+                CreateVaultConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateVaultConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, CreateVaultResponse>
+                transformer = CreateVaultConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib, interceptedRequest.getCreateVaultDetails(), interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetVaultResponse> getVault(
             final GetVaultRequest request,
@@ -537,6 +587,29 @@ public class KmsVaultAsyncClient implements KmsVaultAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetVaultResponse> getVault(
+            final GetVaultRequest request) {
+        LOG.trace("Called async getVault");
+        final GetVaultRequest interceptedRequest = GetVaultConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetVaultConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetVaultResponse>
+                transformer = GetVaultConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListVaultsResponse> listVaults(
             final ListVaultsRequest request,
@@ -609,6 +682,29 @@ public class KmsVaultAsyncClient implements KmsVaultAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListVaultsResponse> listVaults(
+            final ListVaultsRequest request) {
+        LOG.trace("Called async listVaults");
+        final ListVaultsRequest interceptedRequest = ListVaultsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListVaultsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListVaultsResponse>
+                transformer = ListVaultsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ScheduleVaultDeletionResponse> scheduleVaultDeletion(
             final ScheduleVaultDeletionRequest request,
@@ -700,6 +796,34 @@ public class KmsVaultAsyncClient implements KmsVaultAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ScheduleVaultDeletionResponse>
+            scheduleVaultDeletion(final ScheduleVaultDeletionRequest request) {
+        LOG.trace("Called async scheduleVaultDeletion");
+        final ScheduleVaultDeletionRequest interceptedRequest =
+                ScheduleVaultDeletionConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ScheduleVaultDeletionConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, ScheduleVaultDeletionResponse>
+                transformer = ScheduleVaultDeletionConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getScheduleVaultDeletionDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateVaultResponse> updateVault(
             final UpdateVaultRequest request,
@@ -787,4 +911,29 @@ public class KmsVaultAsyncClient implements KmsVaultAsync {
                     responseFuture, transformer);
         }
     }
+
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateVaultResponse> updateVault(
+            final UpdateVaultRequest request) {
+        LOG.trace("Called async updateVault");
+        final UpdateVaultRequest interceptedRequest =
+                UpdateVaultConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateVaultConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, UpdateVaultResponse>
+                transformer = UpdateVaultConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib, interceptedRequest.getUpdateVaultDetails(), interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
 }
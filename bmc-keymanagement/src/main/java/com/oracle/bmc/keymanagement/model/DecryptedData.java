@@ -41,7 +41,8 @@ public class DecryptedData {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public DecryptedData build() {
             DecryptedData __instance__ = new DecryptedData(plaintext, plaintextChecksum);
@@ -78,6 +79,10 @@ public class DecryptedData {
     @com.fasterxml.jackson.annotation.JsonProperty("plaintextChecksum")
     String plaintextChecksum;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of("plaintext", "plaintextChecksum");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
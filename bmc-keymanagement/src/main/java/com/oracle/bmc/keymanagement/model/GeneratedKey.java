@@ -50,7 +50,8 @@ public class GeneratedKey {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public GeneratedKey build() {
             GeneratedKey __instance__ = new GeneratedKey(ciphertext, plaintext, plaintextChecksum);
@@ -102,6 +103,11 @@ public class GeneratedKey {
     @com.fasterxml.jackson.annotation.JsonProperty("plaintextChecksum")
     String plaintextChecksum;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "ciphertext", "plaintext", "plaintextChecksum");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -114,7 +114,8 @@ public class Key {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public Key build() {
             Key __instance__ =
@@ -288,6 +289,20 @@ public class Key {
     @com.fasterxml.jackson.annotation.JsonProperty("vaultId")
     String vaultId;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "compartmentId",
+                    "currentKeyVersion",
+                    "definedTags",
+                    "displayName",
+                    "freeformTags",
+                    "id",
+                    "keyShape",
+                    "lifecycleState",
+                    "timeCreated",
+                    "vaultId");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
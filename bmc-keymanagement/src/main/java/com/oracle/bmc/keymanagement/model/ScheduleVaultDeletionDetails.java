@@ -34,7 +34,8 @@ public class ScheduleVaultDeletionDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public ScheduleVaultDeletionDetails build() {
             ScheduleVaultDeletionDetails __instance__ =
@@ -68,6 +69,10 @@ public class ScheduleVaultDeletionDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("timeOfDeletion")
     java.util.Date timeOfDeletion;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of("timeOfDeletion");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -51,6 +51,23 @@ public interface LoadBalancerAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<CreateBackendRequest, CreateBackendResponse>
                     handler);
 
+    /**
+     * Adds a backend server to a backend set.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreateBackendResponse> createBackend(
+            CreateBackendRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreateBackendRequest, CreateBackendResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createBackend(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Adds a backend set to a load balancer.
      *
@@ -66,6 +83,23 @@ public interface LoadBalancerAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<CreateBackendSetRequest, CreateBackendSetResponse>
                     handler);
 
+    /**
+     * Adds a backend set to a load balancer.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreateBackendSetResponse> createBackendSet(
+            CreateBackendSetRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreateBackendSetRequest, CreateBackendSetResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createBackendSet(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Creates an asynchronous request to add an SSL certificate bundle.
      *
@@ -82,6 +116,23 @@ public interface LoadBalancerAsync extends AutoCloseable {
                             CreateCertificateRequest, CreateCertificateResponse>
                     handler);
 
+    /**
+     * Creates an asynchronous request to add an SSL certificate bundle.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreateCertificateResponse> createCertificate(
+            CreateCertificateRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreateCertificateRequest, CreateCertificateResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createCertificate(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Adds a hostname resource to the specified load balancer. For more information, see
      * [Managing Request Routing](https://docs.cloud.oracle.com/Content/Balance/Tasks/managingrequest.htm).
@@ -99,6 +150,25 @@ public interface LoadBalancerAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<CreateHostnameRequest, CreateHostnameResponse>
                     handler);
 
+    /**
+     * Adds a hostname resource to the specified load balancer. For more information, see
+     * [Managing Request Routing](https://docs.cloud.oracle.com/Content/Balance/Tasks/managingrequest.htm).
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreateHostnameResponse> createHostname(
+            CreateHostnameRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreateHostnameRequest, CreateHostnameResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createHostname(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Adds a listener to a load balancer.
      *
@@ -114,6 +184,23 @@ public interface LoadBalancerAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<CreateListenerRequest, CreateListenerResponse>
                     handler);
 
+    /**
+     * Adds a listener to a load balancer.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreateListenerResponse> createListener(
+            CreateListenerRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreateListenerRequest, CreateListenerResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createListener(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Creates a new load balancer in the specified compartment. For general information about load balancers,
      * see [Overview of the Load Balancing Service](https://docs.cloud.oracle.com/Content/Balance/Concepts/balanceoverview.htm).
@@ -157,6 +244,50 @@ public interface LoadBalancerAsync extends AutoCloseable {
                             CreateLoadBalancerRequest, CreateLoadBalancerResponse>
                     handler);
 
+    /**
+     * Creates a new load balancer in the specified compartment. For general information about load balancers,
+     * see [Overview of the Load Balancing Service](https://docs.cloud.oracle.com/Content/Balance/Concepts/balanceoverview.htm).
+     * <p>
+     * For the purposes of access control, you must provide the OCID of the compartment where you want
+     * the load balancer to reside. Notice that the load balancer doesn't have to be in the same compartment as the VCN
+     * or backend set. If you're not sure which compartment to use, put the load balancer in the same compartment as the VCN.
+     * For information about access control and compartments, see
+     * [Overview of the IAM Service](https://docs.cloud.oracle.com/Content/Identity/Concepts/overview.htm).
+     * <p>
+     * You must specify a display name for the load balancer. It does not have to be unique, and you can change it.
+     * <p>
+     * For information about Availability Domains, see
+     * [Regions and Availability Domains](https://docs.cloud.oracle.com/Content/General/Concepts/regions.htm).
+     * To get a list of Availability Domains, use the `ListAvailabilityDomains` operation
+     * in the Identity and Access Management Service API.
+     * <p>
+     * All Oracle Cloud Infrastructure resources, including load balancers, get an Oracle-assigned,
+     * unique ID called an Oracle Cloud Identifier (OCID). When you create a resource, you can find its OCID
+     * in the response. You can also retrieve a resource's OCID by using a List API operation on that resource type,
+     * or by viewing the resource in the Console. Fore more information, see
+     * [Resource Identifiers](https://docs.cloud.oracle.com/Content/General/Concepts/identifiers.htm).
+     * <p>
+     * After you send your request, the new object's state will temporarily be PROVISIONING. Before using the
+     * object, first make sure its state has changed to RUNNING.
+     * <p>
+     * When you create a load balancer, the system assigns an IP address.
+     * To get the IP address, use the {@link #getLoadBalancer(GetLoadBalancerRequest, Consumer, Consumer) getLoadBalancer} operation.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreateLoadBalancerResponse> createLoadBalancer(
+            CreateLoadBalancerRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreateLoadBalancerRequest, CreateLoadBalancerResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createLoadBalancer(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Adds a path route set to a load balancer. For more information, see
      * [Managing Request Routing](https://docs.cloud.oracle.com/Content/Balance/Tasks/managingrequest.htm).
@@ -175,6 +306,25 @@ public interface LoadBalancerAsync extends AutoCloseable {
                             CreatePathRouteSetRequest, CreatePathRouteSetResponse>
                     handler);
 
+    /**
+     * Adds a path route set to a load balancer. For more information, see
+     * [Managing Request Routing](https://docs.cloud.oracle.com/Content/Balance/Tasks/managingrequest.htm).
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreatePathRouteSetResponse> createPathRouteSet(
+            CreatePathRouteSetRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreatePathRouteSetRequest, CreatePathRouteSetResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createPathRouteSet(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Creates a new rule set associated with the specified load balancer.
      *
@@ -191,6 +341,24 @@ public interface LoadBalancerAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<CreateRuleSetRequest, CreateRuleSetResponse>
                     handler);
 
+    /**
+     * Creates a new rule set associated with the specified load balancer.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreateRuleSetResponse> createRuleSet(
+            CreateRuleSetRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreateRuleSetRequest, CreateRuleSetResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createRuleSet(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Removes a backend server from a given load balancer and backend set.
      *
@@ -206,6 +374,23 @@ public interface LoadBalancerAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<DeleteBackendRequest, DeleteBackendResponse>
                     handler);
 
+    /**
+     * Removes a backend server from a given load balancer and backend set.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<DeleteBackendResponse> deleteBackend(
+            DeleteBackendRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        DeleteBackendRequest, DeleteBackendResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        deleteBackend(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Deletes the specified backend set. Note that deleting a backend set removes its backend servers from the load balancer.
      * <p>
@@ -224,6 +409,26 @@ public interface LoadBalancerAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<DeleteBackendSetRequest, DeleteBackendSetResponse>
                     handler);
 
+    /**
+     * Deletes the specified backend set. Note that deleting a backend set removes its backend servers from the load balancer.
+     * <p>
+     * Before you can delete a backend set, you must remove it from any active listeners.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<DeleteBackendSetResponse> deleteBackendSet(
+            DeleteBackendSetRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        DeleteBackendSetRequest, DeleteBackendSetResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        deleteBackendSet(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Deletes an SSL certificate bundle from a load balancer.
      *
@@ -240,6 +445,23 @@ public interface LoadBalancerAsync extends AutoCloseable {
                             DeleteCertificateRequest, DeleteCertificateResponse>
                     handler);
 
+    /**
+     * Deletes an SSL certificate bundle from a load balancer.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<DeleteCertificateResponse> deleteCertificate(
+            DeleteCertificateRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        DeleteCertificateRequest, DeleteCertificateResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        deleteCertificate(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Deletes a hostname resource from the specified load balancer.
      *
@@ -256,6 +478,24 @@ public interface LoadBalancerAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<DeleteHostnameRequest, DeleteHostnameResponse>
                     handler);
 
+    /**
+     * Deletes a hostname resource from the specified load balancer.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<DeleteHostnameResponse> deleteHostname(
+            DeleteHostnameRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        DeleteHostnameRequest, DeleteHostnameResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        deleteHostname(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Deletes a listener from a load balancer.
      *
@@ -271,6 +511,23 @@ public interface LoadBalancerAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<DeleteListenerRequest, DeleteListenerResponse>
                     handler);
 
+    /**
+     * Deletes a listener from a load balancer.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<DeleteListenerResponse> deleteListener(
+            DeleteListenerRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        DeleteListenerRequest, DeleteListenerResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        deleteListener(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Stops a load balancer and removes it from service.
      *
@@ -287,6 +544,23 @@ public interface LoadBalancerAsync extends AutoCloseable {
                             DeleteLoadBalancerRequest, DeleteLoadBalancerResponse>
                     handler);
 
+    /**
+     * Stops a load balancer and removes it from service.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<DeleteLoadBalancerResponse> deleteLoadBalancer(
+            DeleteLoadBalancerRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        DeleteLoadBalancerRequest, DeleteLoadBalancerResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        deleteLoadBalancer(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Deletes a path route set from the specified load balancer.
      * <p>
@@ -307,6 +581,27 @@ public interface LoadBalancerAsync extends AutoCloseable {
                             DeletePathRouteSetRequest, DeletePathRouteSetResponse>
                     handler);
 
+    /**
+     * Deletes a path route set from the specified load balancer.
+     * <p>
+     * To delete a path route rule from a path route set, use the
+     * {@link #updatePathRouteSet(UpdatePathRouteSetRequest, Consumer, Consumer) updatePathRouteSet} operation.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<DeletePathRouteSetResponse> deletePathRouteSet(
+            DeletePathRouteSetRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        DeletePathRouteSetRequest, DeletePathRouteSetResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        deletePathRouteSet(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Deletes a rule set from the specified load balancer.
      * <p>
@@ -326,6 +621,27 @@ public interface LoadBalancerAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<DeleteRuleSetRequest, DeleteRuleSetResponse>
                     handler);
 
+    /**
+     * Deletes a rule set from the specified load balancer.
+     * <p>
+     * To delete a rule from a rule set, use the
+     * {@link #updateRuleSet(UpdateRuleSetRequest, Consumer, Consumer) updateRuleSet} operation.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<DeleteRuleSetResponse> deleteRuleSet(
+            DeleteRuleSetRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        DeleteRuleSetRequest, DeleteRuleSetResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        deleteRuleSet(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the specified backend server's configuration information.
      *
@@ -340,6 +656,23 @@ public interface LoadBalancerAsync extends AutoCloseable {
             GetBackendRequest request,
             com.oracle.bmc.responses.AsyncHandler<GetBackendRequest, GetBackendResponse> handler);
 
+    /**
+     * Gets the specified backend server's configuration information.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetBackendResponse> getBackend(
+            GetBackendRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetBackendRequest, GetBackendResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getBackend(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the current health status of the specified backend server.
      *
@@ -355,6 +688,23 @@ public interface LoadBalancerAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<GetBackendHealthRequest, GetBackendHealthResponse>
                     handler);
 
+    /**
+     * Gets the current health status of the specified backend server.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetBackendHealthResponse> getBackendHealth(
+            GetBackendHealthRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetBackendHealthRequest, GetBackendHealthResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getBackendHealth(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the specified backend set's configuration information.
      *
@@ -370,6 +720,23 @@ public interface LoadBalancerAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<GetBackendSetRequest, GetBackendSetResponse>
                     handler);
 
+    /**
+     * Gets the specified backend set's configuration information.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetBackendSetResponse> getBackendSet(
+            GetBackendSetRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetBackendSetRequest, GetBackendSetResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getBackendSet(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the health status for the specified backend set.
      *
@@ -386,6 +753,23 @@ public interface LoadBalancerAsync extends AutoCloseable {
                             GetBackendSetHealthRequest, GetBackendSetHealthResponse>
                     handler);
 
+    /**
+     * Gets the health status for the specified backend set.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetBackendSetHealthResponse> getBackendSetHealth(
+            GetBackendSetHealthRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetBackendSetHealthRequest, GetBackendSetHealthResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getBackendSetHealth(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the health check policy information for a given load balancer and backend set.
      *
@@ -401,6 +785,23 @@ public interface LoadBalancerAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<GetHealthCheckerRequest, GetHealthCheckerResponse>
                     handler);
 
+    /**
+     * Gets the health check policy information for a given load balancer and backend set.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetHealthCheckerResponse> getHealthChecker(
+            GetHealthCheckerRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetHealthCheckerRequest, GetHealthCheckerResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getHealthChecker(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the specified hostname resource's configuration information.
      *
@@ -415,6 +816,23 @@ public interface LoadBalancerAsync extends AutoCloseable {
             GetHostnameRequest request,
             com.oracle.bmc.responses.AsyncHandler<GetHostnameRequest, GetHostnameResponse> handler);
 
+    /**
+     * Gets the specified hostname resource's configuration information.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetHostnameResponse> getHostname(
+            GetHostnameRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetHostnameRequest, GetHostnameResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getHostname(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the specified load balancer's configuration information.
      *
@@ -430,6 +848,23 @@ public interface LoadBalancerAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<GetLoadBalancerRequest, GetLoadBalancerResponse>
                     handler);
 
+    /**
+     * Gets the specified load balancer's configuration information.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetLoadBalancerResponse> getLoadBalancer(
+            GetLoadBalancerRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetLoadBalancerRequest, GetLoadBalancerResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getLoadBalancer(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the health status for the specified load balancer.
      *
@@ -446,6 +881,23 @@ public interface LoadBalancerAsync extends AutoCloseable {
                             GetLoadBalancerHealthRequest, GetLoadBalancerHealthResponse>
                     handler);
 
+    /**
+     * Gets the health status for the specified load balancer.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetLoadBalancerHealthResponse>
+            getLoadBalancerHealth(GetLoadBalancerHealthRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetLoadBalancerHealthRequest, GetLoadBalancerHealthResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getLoadBalancerHealth(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the specified path route set's configuration information.
      *
@@ -461,6 +913,23 @@ public interface LoadBalancerAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<GetPathRouteSetRequest, GetPathRouteSetResponse>
                     handler);
 
+    /**
+     * Gets the specified path route set's configuration information.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetPathRouteSetResponse> getPathRouteSet(
+            GetPathRouteSetRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetPathRouteSetRequest, GetPathRouteSetResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getPathRouteSet(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the specified set of rules.
      *
@@ -475,6 +944,23 @@ public interface LoadBalancerAsync extends AutoCloseable {
             GetRuleSetRequest request,
             com.oracle.bmc.responses.AsyncHandler<GetRuleSetRequest, GetRuleSetResponse> handler);
 
+    /**
+     * Gets the specified set of rules.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetRuleSetResponse> getRuleSet(
+            GetRuleSetRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetRuleSetRequest, GetRuleSetResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getRuleSet(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the details of a work request.
      *
@@ -490,6 +976,23 @@ public interface LoadBalancerAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<GetWorkRequestRequest, GetWorkRequestResponse>
                     handler);
 
+    /**
+     * Gets the details of a work request.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetWorkRequestResponse> getWorkRequest(
+            GetWorkRequestRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetWorkRequestRequest, GetWorkRequestResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getWorkRequest(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists all backend sets associated with a given load balancer.
      *
@@ -505,6 +1008,23 @@ public interface LoadBalancerAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<ListBackendSetsRequest, ListBackendSetsResponse>
                     handler);
 
+    /**
+     * Lists all backend sets associated with a given load balancer.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListBackendSetsResponse> listBackendSets(
+            ListBackendSetsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListBackendSetsRequest, ListBackendSetsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listBackendSets(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists the backend servers for a given load balancer and backend set.
      *
@@ -520,6 +1040,23 @@ public interface LoadBalancerAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<ListBackendsRequest, ListBackendsResponse>
                     handler);
 
+    /**
+     * Lists the backend servers for a given load balancer and backend set.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListBackendsResponse> listBackends(
+            ListBackendsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListBackendsRequest, ListBackendsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listBackends(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists all SSL certificates bundles associated with a given load balancer.
      *
@@ -535,6 +1072,23 @@ public interface LoadBalancerAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<ListCertificatesRequest, ListCertificatesResponse>
                     handler);
 
+    /**
+     * Lists all SSL certificates bundles associated with a given load balancer.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListCertificatesResponse> listCertificates(
+            ListCertificatesRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListCertificatesRequest, ListCertificatesResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listCertificates(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists all hostname resources associated with the specified load balancer.
      *
@@ -550,6 +1104,23 @@ public interface LoadBalancerAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<ListHostnamesRequest, ListHostnamesResponse>
                     handler);
 
+    /**
+     * Lists all hostname resources associated with the specified load balancer.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListHostnamesResponse> listHostnames(
+            ListHostnamesRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListHostnamesRequest, ListHostnamesResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listHostnames(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists the summary health statuses for all load balancers in the specified compartment.
      *
@@ -566,6 +1137,23 @@ public interface LoadBalancerAsync extends AutoCloseable {
                             ListLoadBalancerHealthsRequest, ListLoadBalancerHealthsResponse>
                     handler);
 
+    /**
+     * Lists the summary health statuses for all load balancers in the specified compartment.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListLoadBalancerHealthsResponse>
+            listLoadBalancerHealths(ListLoadBalancerHealthsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListLoadBalancerHealthsRequest, ListLoadBalancerHealthsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listLoadBalancerHealths(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists all load balancers in the specified compartment.
      *
@@ -582,6 +1170,23 @@ public interface LoadBalancerAsync extends AutoCloseable {
                             ListLoadBalancersRequest, ListLoadBalancersResponse>
                     handler);
 
+    /**
+     * Lists all load balancers in the specified compartment.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListLoadBalancersResponse> listLoadBalancers(
+            ListLoadBalancersRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListLoadBalancersRequest, ListLoadBalancersResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listLoadBalancers(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists all path route sets associated with the specified load balancer.
      *
@@ -598,6 +1203,23 @@ public interface LoadBalancerAsync extends AutoCloseable {
                             ListPathRouteSetsRequest, ListPathRouteSetsResponse>
                     handler);
 
+    /**
+     * Lists all path route sets associated with the specified load balancer.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListPathRouteSetsResponse> listPathRouteSets(
+            ListPathRouteSetsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListPathRouteSetsRequest, ListPathRouteSetsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listPathRouteSets(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists the available load balancer policies.
      *
@@ -613,6 +1235,23 @@ public interface LoadBalancerAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<ListPoliciesRequest, ListPoliciesResponse>
                     handler);
 
+    /**
+     * Lists the available load balancer policies.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListPoliciesResponse> listPolicies(
+            ListPoliciesRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListPoliciesRequest, ListPoliciesResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listPolicies(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists all supported traffic protocols.
      *
@@ -628,6 +1267,23 @@ public interface LoadBalancerAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<ListProtocolsRequest, ListProtocolsResponse>
                     handler);
 
+    /**
+     * Lists all supported traffic protocols.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListProtocolsResponse> listProtocols(
+            ListProtocolsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListProtocolsRequest, ListProtocolsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listProtocols(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists all rule sets associated with the specified load balancer.
      *
@@ -643,6 +1299,23 @@ public interface LoadBalancerAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<ListRuleSetsRequest, ListRuleSetsResponse>
                     handler);
 
+    /**
+     * Lists all rule sets associated with the specified load balancer.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListRuleSetsResponse> listRuleSets(
+            ListRuleSetsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListRuleSetsRequest, ListRuleSetsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listRuleSets(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists the valid load balancer shapes.
      *
@@ -657,6 +1330,23 @@ public interface LoadBalancerAsync extends AutoCloseable {
             ListShapesRequest request,
             com.oracle.bmc.responses.AsyncHandler<ListShapesRequest, ListShapesResponse> handler);
 
+    /**
+     * Lists the valid load balancer shapes.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListShapesResponse> listShapes(
+            ListShapesRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListShapesRequest, ListShapesResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listShapes(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists the work requests for a given load balancer.
      *
@@ -672,6 +1362,23 @@ public interface LoadBalancerAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<ListWorkRequestsRequest, ListWorkRequestsResponse>
                     handler);
 
+    /**
+     * Lists the work requests for a given load balancer.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListWorkRequestsResponse> listWorkRequests(
+            ListWorkRequestsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListWorkRequestsRequest, ListWorkRequestsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listWorkRequests(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Updates the configuration of a backend server within the specified backend set.
      *
@@ -687,6 +1394,23 @@ public interface LoadBalancerAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<UpdateBackendRequest, UpdateBackendResponse>
                     handler);
 
+    /**
+     * Updates the configuration of a backend server within the specified backend set.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateBackendResponse> updateBackend(
+            UpdateBackendRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateBackendRequest, UpdateBackendResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateBackend(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Updates a backend set.
      *
@@ -702,6 +1426,23 @@ public interface LoadBalancerAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<UpdateBackendSetRequest, UpdateBackendSetResponse>
                     handler);
 
+    /**
+     * Updates a backend set.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateBackendSetResponse> updateBackendSet(
+            UpdateBackendSetRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateBackendSetRequest, UpdateBackendSetResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateBackendSet(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Updates the health check policy for a given load balancer and backend set.
      *
@@ -718,6 +1459,23 @@ public interface LoadBalancerAsync extends AutoCloseable {
                             UpdateHealthCheckerRequest, UpdateHealthCheckerResponse>
                     handler);
 
+    /**
+     * Updates the health check policy for a given load balancer and backend set.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateHealthCheckerResponse> updateHealthChecker(
+            UpdateHealthCheckerRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateHealthCheckerRequest, UpdateHealthCheckerResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateHealthChecker(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Overwrites an existing hostname resource on the specified load balancer. Use this operation to change a
      * virtual hostname.
@@ -735,6 +1493,25 @@ public interface LoadBalancerAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<UpdateHostnameRequest, UpdateHostnameResponse>
                     handler);
 
+    /**
+     * Overwrites an existing hostname resource on the specified load balancer. Use this operation to change a
+     * virtual hostname.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateHostnameResponse> updateHostname(
+            UpdateHostnameRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateHostnameRequest, UpdateHostnameResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateHostname(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Updates a listener for a given load balancer.
      *
@@ -750,6 +1527,23 @@ public interface LoadBalancerAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<UpdateListenerRequest, UpdateListenerResponse>
                     handler);
 
+    /**
+     * Updates a listener for a given load balancer.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateListenerResponse> updateListener(
+            UpdateListenerRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateListenerRequest, UpdateListenerResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateListener(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Updates a load balancer's configuration.
      *
@@ -766,6 +1560,23 @@ public interface LoadBalancerAsync extends AutoCloseable {
                             UpdateLoadBalancerRequest, UpdateLoadBalancerResponse>
                     handler);
 
+    /**
+     * Updates a load balancer's configuration.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateLoadBalancerResponse> updateLoadBalancer(
+            UpdateLoadBalancerRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateLoadBalancerRequest, UpdateLoadBalancerResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateLoadBalancer(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Overwrites an existing path route set on the specified load balancer. Use this operation to add, delete, or alter
      * path route rules in a path route set.
@@ -788,6 +1599,29 @@ public interface LoadBalancerAsync extends AutoCloseable {
                             UpdatePathRouteSetRequest, UpdatePathRouteSetResponse>
                     handler);
 
+    /**
+     * Overwrites an existing path route set on the specified load balancer. Use this operation to add, delete, or alter
+     * path route rules in a path route set.
+     * <p>
+     * To add a new path route rule to a path route set, the `pathRoutes` in the
+     * {@link #updatePathRouteSetDetails(UpdatePathRouteSetDetailsRequest, Consumer, Consumer) updatePathRouteSetDetails} object must include
+     * both the new path route rule to add and the existing path route rules to retain.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdatePathRouteSetResponse> updatePathRouteSet(
+            UpdatePathRouteSetRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdatePathRouteSetRequest, UpdatePathRouteSetResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updatePathRouteSet(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Overwrites an existing set of rules on the specified load balancer. Use this operation to add or alter
      * the rules in a rule set.
@@ -806,4 +1640,25 @@ public interface LoadBalancerAsync extends AutoCloseable {
             UpdateRuleSetRequest request,
             com.oracle.bmc.responses.AsyncHandler<UpdateRuleSetRequest, UpdateRuleSetResponse>
                     handler);
+
+    /**
+     * Overwrites an existing set of rules on the specified load balancer. Use this operation to add or alter
+     * the rules in a rule set.
+     * <p>
+     * To add a new rule to a set, the body must include both the new rule to add and the existing rules to retain.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateRuleSetResponse> updateRuleSet(
+            UpdateRuleSetRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateRuleSetRequest, UpdateRuleSetResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateRuleSet(request, handler);
+        return handler.getStage();
+    }
 }
@@ -390,6 +390,33 @@ public class LoadBalancerAsyncClient implements LoadBalancerAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateBackendResponse> createBackend(
+            final CreateBackendRequest request) {
+        LOG.trace("Called async createBackend");
+        final CreateBackendRequest interceptedRequest =
+                CreateBackendConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateBackendConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, CreateBackendResponse>
+                transformer = CreateBackendConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreateBackendDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateBackendSetResponse> createBackendSet(
             final CreateBackendSetRequest request,
@@ -479,6 +506,33 @@ public class LoadBalancerAsyncClient implements LoadBalancerAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateBackendSetResponse> createBackendSet(
+            final CreateBackendSetRequest request) {
+        LOG.trace("Called async createBackendSet");
+        final CreateBackendSetRequest interceptedRequest =
+                CreateBackendSetConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateBackendSetConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, CreateBackendSetResponse>
+                transformer = CreateBackendSetConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreateBackendSetDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateCertificateResponse> createCertificate(
             final CreateCertificateRequest request,
@@ -568,6 +622,33 @@ public class LoadBalancerAsyncClient implements LoadBalancerAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateCertificateResponse> createCertificate(
+            final CreateCertificateRequest request) {
+        LOG.trace("Called async createCertificate");
+        final CreateCertificateRequest interceptedRequest =
+                CreateCertificateConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateCertificateConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, CreateCertificateResponse>
+                transformer = CreateCertificateConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreateCertificateDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateHostnameResponse> createHostname(
             final CreateHostnameRequest request,
@@ -657,6 +738,33 @@ public class LoadBalancerAsyncClient implements LoadBalancerAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateHostnameResponse> createHostname(
+            final CreateHostnameRequest request) {
+        LOG.trace("Called async createHostname");
+        final CreateHostnameRequest interceptedRequest =
+                CreateHostnameConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateHostnameConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, CreateHostnameResponse>
+                transformer = CreateHostnameConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreateHostnameDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateListenerResponse> createListener(
             final CreateListenerRequest request,
@@ -746,6 +854,33 @@ public class LoadBalancerAsyncClient implements LoadBalancerAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateListenerResponse> createListener(
+            final CreateListenerRequest request) {
+        LOG.trace("Called async createListener");
+        final CreateListenerRequest interceptedRequest =
+                CreateListenerConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateListenerConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, CreateListenerResponse>
+                transformer = CreateListenerConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreateListenerDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateLoadBalancerResponse> createLoadBalancer(
             final CreateLoadBalancerRequest request,
@@ -835,6 +970,33 @@ public class LoadBalancerAsyncClient implements LoadBalancerAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateLoadBalancerResponse> createLoadBalancer(
+            final CreateLoadBalancerRequest request) {
+        LOG.trace("Called async createLoadBalancer");
+        final CreateLoadBalancerRequest interceptedRequest =
+                CreateLoadBalancerConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateLoadBalancerConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, CreateLoadBalancerResponse>
+                transformer = CreateLoadBalancerConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreateLoadBalancerDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreatePathRouteSetResponse> createPathRouteSet(
             final CreatePathRouteSetRequest request,
@@ -924,6 +1086,33 @@ public class LoadBalancerAsyncClient implements LoadBalancerAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreatePathRouteSetResponse> createPathRouteSet(
+            final CreatePathRouteSetRequest request) {
+        LOG.trace("Called async createPathRouteSet");
+        final CreatePathRouteSetRequest interceptedRequest =
+                CreatePathRouteSetConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreatePathRouteSetConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, CreatePathRouteSetResponse>
+                transformer = CreatePathRouteSetConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreatePathRouteSetDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateRuleSetResponse> createRuleSet(
             final CreateRuleSetRequest request,
@@ -1012,6 +1201,33 @@ public class LoadBalancerAsyncClient implements LoadBalancerAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateRuleSetResponse> createRuleSet(
+            final CreateRuleSetRequest request) {
+        LOG.trace("Called async createRuleSet");
+        final CreateRuleSetRequest interceptedRequest =
+                CreateRuleSetConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateRuleSetConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, CreateRuleSetResponse>
+                transformer = CreateRuleSetConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreateRuleSetDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteBackendResponse> deleteBackend(
             final DeleteBackendRequest request,
@@ -1085,6 +1301,30 @@ public class LoadBalancerAsyncClient implements LoadBalancerAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteBackendResponse> deleteBackend(
+            final DeleteBackendRequest request) {
+        LOG.trace("Called async deleteBackend");
+        final DeleteBackendRequest interceptedRequest =
+                DeleteBackendConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteBackendConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, DeleteBackendResponse>
+                transformer = DeleteBackendConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteBackendSetResponse> deleteBackendSet(
             final DeleteBackendSetRequest request,
@@ -1159,6 +1399,30 @@ public class LoadBalancerAsyncClient implements LoadBalancerAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteBackendSetResponse> deleteBackendSet(
+            final DeleteBackendSetRequest request) {
+        LOG.trace("Called async deleteBackendSet");
+        final DeleteBackendSetRequest interceptedRequest =
+                DeleteBackendSetConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteBackendSetConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, DeleteBackendSetResponse>
+                transformer = DeleteBackendSetConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteCertificateResponse> deleteCertificate(
             final DeleteCertificateRequest request,
@@ -1233,6 +1497,30 @@ public class LoadBalancerAsyncClient implements LoadBalancerAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteCertificateResponse> deleteCertificate(
+            final DeleteCertificateRequest request) {
+        LOG.trace("Called async deleteCertificate");
+        final DeleteCertificateRequest interceptedRequest =
+                DeleteCertificateConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteCertificateConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, DeleteCertificateResponse>
+                transformer = DeleteCertificateConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteHostnameResponse> deleteHostname(
             final DeleteHostnameRequest request,
@@ -1307,6 +1595,30 @@ public class LoadBalancerAsyncClient implements LoadBalancerAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteHostnameResponse> deleteHostname(
+            final DeleteHostnameRequest request) {
+        LOG.trace("Called async deleteHostname");
+        final DeleteHostnameRequest interceptedRequest =
+                DeleteHostnameConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteHostnameConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, DeleteHostnameResponse>
+                transformer = DeleteHostnameConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteListenerResponse> deleteListener(
             final DeleteListenerRequest request,
@@ -1381,6 +1693,30 @@ public class LoadBalancerAsyncClient implements LoadBalancerAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteListenerResponse> deleteListener(
+            final DeleteListenerRequest request) {
+        LOG.trace("Called async deleteListener");
+        final DeleteListenerRequest interceptedRequest =
+                DeleteListenerConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteListenerConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, DeleteListenerResponse>
+                transformer = DeleteListenerConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteLoadBalancerResponse> deleteLoadBalancer(
             final DeleteLoadBalancerRequest request,
@@ -1455,6 +1791,30 @@ public class LoadBalancerAsyncClient implements LoadBalancerAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteLoadBalancerResponse> deleteLoadBalancer(
+            final DeleteLoadBalancerRequest request) {
+        LOG.trace("Called async deleteLoadBalancer");
+        final DeleteLoadBalancerRequest interceptedRequest =
+                DeleteLoadBalancerConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteLoadBalancerConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, DeleteLoadBalancerResponse>
+                transformer = DeleteLoadBalancerConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeletePathRouteSetResponse> deletePathRouteSet(
             final DeletePathRouteSetRequest request,
@@ -1529,6 +1889,30 @@ public class LoadBalancerAsyncClient implements LoadBalancerAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeletePathRouteSetResponse> deletePathRouteSet(
+            final DeletePathRouteSetRequest request) {
+        LOG.trace("Called async deletePathRouteSet");
+        final DeletePathRouteSetRequest interceptedRequest =
+                DeletePathRouteSetConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeletePathRouteSetConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, DeletePathRouteSetResponse>
+                transformer = DeletePathRouteSetConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteRuleSetResponse> deleteRuleSet(
             final DeleteRuleSetRequest request,
@@ -1602,6 +1986,30 @@ public class LoadBalancerAsyncClient implements LoadBalancerAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteRuleSetResponse> deleteRuleSet(
+            final DeleteRuleSetRequest request) {
+        LOG.trace("Called async deleteRuleSet");
+        final DeleteRuleSetRequest interceptedRequest =
+                DeleteRuleSetConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteRuleSetConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, DeleteRuleSetResponse>
+                transformer = DeleteRuleSetConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetBackendResponse> getBackend(
             final GetBackendRequest request,
@@ -1674,6 +2082,29 @@ public class LoadBalancerAsyncClient implements LoadBalancerAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetBackendResponse> getBackend(
+            final GetBackendRequest request) {
+        LOG.trace("Called async getBackend");
+        final GetBackendRequest interceptedRequest = GetBackendConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetBackendConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetBackendResponse>
+                transformer = GetBackendConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetBackendHealthResponse> getBackendHealth(
             final GetBackendHealthRequest request,
@@ -1748,6 +2179,30 @@ public class LoadBalancerAsyncClient implements LoadBalancerAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetBackendHealthResponse> getBackendHealth(
+            final GetBackendHealthRequest request) {
+        LOG.trace("Called async getBackendHealth");
+        final GetBackendHealthRequest interceptedRequest =
+                GetBackendHealthConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetBackendHealthConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetBackendHealthResponse>
+                transformer = GetBackendHealthConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetBackendSetResponse> getBackendSet(
             final GetBackendSetRequest request,
@@ -1821,6 +2276,30 @@ public class LoadBalancerAsyncClient implements LoadBalancerAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetBackendSetResponse> getBackendSet(
+            final GetBackendSetRequest request) {
+        LOG.trace("Called async getBackendSet");
+        final GetBackendSetRequest interceptedRequest =
+                GetBackendSetConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetBackendSetConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetBackendSetResponse>
+                transformer = GetBackendSetConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetBackendSetHealthResponse> getBackendSetHealth(
             final GetBackendSetHealthRequest request,
@@ -1897,6 +2376,31 @@ public class LoadBalancerAsyncClient implements LoadBalancerAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetBackendSetHealthResponse> getBackendSetHealth(
+            final GetBackendSetHealthRequest request) {
+        LOG.trace("Called async getBackendSetHealth");
+        final GetBackendSetHealthRequest interceptedRequest =
+                GetBackendSetHealthConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetBackendSetHealthConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, GetBackendSetHealthResponse>
+                transformer = GetBackendSetHealthConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetHealthCheckerResponse> getHealthChecker(
             final GetHealthCheckerRequest request,
@@ -1971,6 +2475,30 @@ public class LoadBalancerAsyncClient implements LoadBalancerAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetHealthCheckerResponse> getHealthChecker(
+            final GetHealthCheckerRequest request) {
+        LOG.trace("Called async getHealthChecker");
+        final GetHealthCheckerRequest interceptedRequest =
+                GetHealthCheckerConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetHealthCheckerConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetHealthCheckerResponse>
+                transformer = GetHealthCheckerConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetHostnameResponse> getHostname(
             final GetHostnameRequest request,
@@ -2044,6 +2572,30 @@ public class LoadBalancerAsyncClient implements LoadBalancerAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetHostnameResponse> getHostname(
+            final GetHostnameRequest request) {
+        LOG.trace("Called async getHostname");
+        final GetHostnameRequest interceptedRequest =
+                GetHostnameConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetHostnameConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetHostnameResponse>
+                transformer = GetHostnameConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetLoadBalancerResponse> getLoadBalancer(
             final GetLoadBalancerRequest request,
@@ -2118,6 +2670,30 @@ public class LoadBalancerAsyncClient implements LoadBalancerAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetLoadBalancerResponse> getLoadBalancer(
+            final GetLoadBalancerRequest request) {
+        LOG.trace("Called async getLoadBalancer");
+        final GetLoadBalancerRequest interceptedRequest =
+                GetLoadBalancerConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetLoadBalancerConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetLoadBalancerResponse>
+                transformer = GetLoadBalancerConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetLoadBalancerHealthResponse> getLoadBalancerHealth(
             final GetLoadBalancerHealthRequest request,
@@ -2194,6 +2770,31 @@ public class LoadBalancerAsyncClient implements LoadBalancerAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetLoadBalancerHealthResponse>
+            getLoadBalancerHealth(final GetLoadBalancerHealthRequest request) {
+        LOG.trace("Called async getLoadBalancerHealth");
+        final GetLoadBalancerHealthRequest interceptedRequest =
+                GetLoadBalancerHealthConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetLoadBalancerHealthConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, GetLoadBalancerHealthResponse>
+                transformer = GetLoadBalancerHealthConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetPathRouteSetResponse> getPathRouteSet(
             final GetPathRouteSetRequest request,
@@ -2268,6 +2869,30 @@ public class LoadBalancerAsyncClient implements LoadBalancerAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetPathRouteSetResponse> getPathRouteSet(
+            final GetPathRouteSetRequest request) {
+        LOG.trace("Called async getPathRouteSet");
+        final GetPathRouteSetRequest interceptedRequest =
+                GetPathRouteSetConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetPathRouteSetConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetPathRouteSetResponse>
+                transformer = GetPathRouteSetConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetRuleSetResponse> getRuleSet(
             final GetRuleSetRequest request,
@@ -2340,6 +2965,29 @@ public class LoadBalancerAsyncClient implements LoadBalancerAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetRuleSetResponse> getRuleSet(
+            final GetRuleSetRequest request) {
+        LOG.trace("Called async getRuleSet");
+        final GetRuleSetRequest interceptedRequest = GetRuleSetConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetRuleSetConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetRuleSetResponse>
+                transformer = GetRuleSetConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetWorkRequestResponse> getWorkRequest(
             final GetWorkRequestRequest request,
@@ -2414,6 +3062,30 @@ public class LoadBalancerAsyncClient implements LoadBalancerAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetWorkRequestResponse> getWorkRequest(
+            final GetWorkRequestRequest request) {
+        LOG.trace("Called async getWorkRequest");
+        final GetWorkRequestRequest interceptedRequest =
+                GetWorkRequestConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetWorkRequestConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetWorkRequestResponse>
+                transformer = GetWorkRequestConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListBackendSetsResponse> listBackendSets(
             final ListBackendSetsRequest request,
@@ -2488,6 +3160,30 @@ public class LoadBalancerAsyncClient implements LoadBalancerAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListBackendSetsResponse> listBackendSets(
+            final ListBackendSetsRequest request) {
+        LOG.trace("Called async listBackendSets");
+        final ListBackendSetsRequest interceptedRequest =
+                ListBackendSetsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListBackendSetsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListBackendSetsResponse>
+                transformer = ListBackendSetsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListBackendsResponse> listBackends(
             final ListBackendsRequest request,
@@ -2561,6 +3257,30 @@ public class LoadBalancerAsyncClient implements LoadBalancerAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListBackendsResponse> listBackends(
+            final ListBackendsRequest request) {
+        LOG.trace("Called async listBackends");
+        final ListBackendsRequest interceptedRequest =
+                ListBackendsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListBackendsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListBackendsResponse>
+                transformer = ListBackendsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListCertificatesResponse> listCertificates(
             final ListCertificatesRequest request,
@@ -2635,6 +3355,30 @@ public class LoadBalancerAsyncClient implements LoadBalancerAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListCertificatesResponse> listCertificates(
+            final ListCertificatesRequest request) {
+        LOG.trace("Called async listCertificates");
+        final ListCertificatesRequest interceptedRequest =
+                ListCertificatesConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListCertificatesConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListCertificatesResponse>
+                transformer = ListCertificatesConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListHostnamesResponse> listHostnames(
             final ListHostnamesRequest request,
@@ -2708,6 +3452,30 @@ public class LoadBalancerAsyncClient implements LoadBalancerAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListHostnamesResponse> listHostnames(
+            final ListHostnamesRequest request) {
+        LOG.trace("Called async listHostnames");
+        final ListHostnamesRequest interceptedRequest =
+                ListHostnamesConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListHostnamesConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListHostnamesResponse>
+                transformer = ListHostnamesConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListLoadBalancerHealthsResponse> listLoadBalancerHealths(
             final ListLoadBalancerHealthsRequest request,
@@ -2784,6 +3552,31 @@ public class LoadBalancerAsyncClient implements LoadBalancerAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListLoadBalancerHealthsResponse>
+            listLoadBalancerHealths(final ListLoadBalancerHealthsRequest request) {
+        LOG.trace("Called async listLoadBalancerHealths");
+        final ListLoadBalancerHealthsRequest interceptedRequest =
+                ListLoadBalancerHealthsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListLoadBalancerHealthsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, ListLoadBalancerHealthsResponse>
+                transformer = ListLoadBalancerHealthsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListLoadBalancersResponse> listLoadBalancers(
             final ListLoadBalancersRequest request,
@@ -2858,6 +3651,30 @@ public class LoadBalancerAsyncClient implements LoadBalancerAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListLoadBalancersResponse> listLoadBalancers(
+            final ListLoadBalancersRequest request) {
+        LOG.trace("Called async listLoadBalancers");
+        final ListLoadBalancersRequest interceptedRequest =
+                ListLoadBalancersConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListLoadBalancersConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListLoadBalancersResponse>
+                transformer = ListLoadBalancersConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListPathRouteSetsResponse> listPathRouteSets(
             final ListPathRouteSetsRequest request,
@@ -2932,6 +3749,30 @@ public class LoadBalancerAsyncClient implements LoadBalancerAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListPathRouteSetsResponse> listPathRouteSets(
+            final ListPathRouteSetsRequest request) {
+        LOG.trace("Called async listPathRouteSets");
+        final ListPathRouteSetsRequest interceptedRequest =
+                ListPathRouteSetsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListPathRouteSetsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListPathRouteSetsResponse>
+                transformer = ListPathRouteSetsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListPoliciesResponse> listPolicies(
             final ListPoliciesRequest request,
@@ -3005,6 +3846,30 @@ public class LoadBalancerAsyncClient implements LoadBalancerAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListPoliciesResponse> listPolicies(
+            final ListPoliciesRequest request) {
+        LOG.trace("Called async listPolicies");
+        final ListPoliciesRequest interceptedRequest =
+                ListPoliciesConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListPoliciesConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListPoliciesResponse>
+                transformer = ListPoliciesConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListProtocolsResponse> listProtocols(
             final ListProtocolsRequest request,
@@ -3078,6 +3943,30 @@ public class LoadBalancerAsyncClient implements LoadBalancerAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListProtocolsResponse> listProtocols(
+            final ListProtocolsRequest request) {
+        LOG.trace("Called async listProtocols");
+        final ListProtocolsRequest interceptedRequest =
+                ListProtocolsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListProtocolsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListProtocolsResponse>
+                transformer = ListProtocolsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListRuleSetsResponse> listRuleSets(
             final ListRuleSetsRequest request,
@@ -3151,6 +4040,30 @@ public class LoadBalancerAsyncClient implements LoadBalancerAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListRuleSetsResponse> listRuleSets(
+            final ListRuleSetsRequest request) {
+        LOG.trace("Called async listRuleSets");
+        final ListRuleSetsRequest interceptedRequest =
+                ListRuleSetsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListRuleSetsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListRuleSetsResponse>
+                transformer = ListRuleSetsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListShapesResponse> listShapes(
             final ListShapesRequest request,
@@ -3223,6 +4136,29 @@ public class LoadBalancerAsyncClient implements LoadBalancerAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListShapesResponse> listShapes(
+            final ListShapesRequest request) {
+        LOG.trace("Called async listShapes");
+        final ListShapesRequest interceptedRequest = ListShapesConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListShapesConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListShapesResponse>
+                transformer = ListShapesConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListWorkRequestsResponse> listWorkRequests(
             final ListWorkRequestsRequest request,
@@ -3297,6 +4233,30 @@ public class LoadBalancerAsyncClient implements LoadBalancerAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListWorkRequestsResponse> listWorkRequests(
+            final ListWorkRequestsRequest request) {
+        LOG.trace("Called async listWorkRequests");
+        final ListWorkRequestsRequest interceptedRequest =
+                ListWorkRequestsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListWorkRequestsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListWorkRequestsResponse>
+                transformer = ListWorkRequestsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateBackendResponse> updateBackend(
             final UpdateBackendRequest request,
@@ -3385,6 +4345,33 @@ public class LoadBalancerAsyncClient implements LoadBalancerAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateBackendResponse> updateBackend(
+            final UpdateBackendRequest request) {
+        LOG.trace("Called async updateBackend");
+        final UpdateBackendRequest interceptedRequest =
+                UpdateBackendConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateBackendConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, UpdateBackendResponse>
+                transformer = UpdateBackendConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdateBackendDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateBackendSetResponse> updateBackendSet(
             final UpdateBackendSetRequest request,
@@ -3474,6 +4461,33 @@ public class LoadBalancerAsyncClient implements LoadBalancerAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateBackendSetResponse> updateBackendSet(
+            final UpdateBackendSetRequest request) {
+        LOG.trace("Called async updateBackendSet");
+        final UpdateBackendSetRequest interceptedRequest =
+                UpdateBackendSetConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateBackendSetConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, UpdateBackendSetResponse>
+                transformer = UpdateBackendSetConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdateBackendSetDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateHealthCheckerResponse> updateHealthChecker(
             final UpdateHealthCheckerRequest request,
@@ -3565,6 +4579,32 @@ public class LoadBalancerAsyncClient implements LoadBalancerAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateHealthCheckerResponse> updateHealthChecker(
+            final UpdateHealthCheckerRequest request) {
+        LOG.trace("Called async updateHealthChecker");
+        final UpdateHealthCheckerRequest interceptedRequest =
+                UpdateHealthCheckerConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateHealthCheckerConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, UpdateHealthCheckerResponse>
+                transformer = UpdateHealthCheckerConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib, interceptedRequest.getHealthChecker(), interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateHostnameResponse> updateHostname(
             final UpdateHostnameRequest request,
@@ -3654,6 +4694,33 @@ public class LoadBalancerAsyncClient implements LoadBalancerAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateHostnameResponse> updateHostname(
+            final UpdateHostnameRequest request) {
+        LOG.trace("Called async updateHostname");
+        final UpdateHostnameRequest interceptedRequest =
+                UpdateHostnameConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateHostnameConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, UpdateHostnameResponse>
+                transformer = UpdateHostnameConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdateHostnameDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateListenerResponse> updateListener(
             final UpdateListenerRequest request,
@@ -3743,6 +4810,33 @@ public class LoadBalancerAsyncClient implements LoadBalancerAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateListenerResponse> updateListener(
+            final UpdateListenerRequest request) {
+        LOG.trace("Called async updateListener");
+        final UpdateListenerRequest interceptedRequest =
+                UpdateListenerConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateListenerConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, UpdateListenerResponse>
+                transformer = UpdateListenerConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdateListenerDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateLoadBalancerResponse> updateLoadBalancer(
             final UpdateLoadBalancerRequest request,
@@ -3832,6 +4926,33 @@ public class LoadBalancerAsyncClient implements LoadBalancerAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateLoadBalancerResponse> updateLoadBalancer(
+            final UpdateLoadBalancerRequest request) {
+        LOG.trace("Called async updateLoadBalancer");
+        final UpdateLoadBalancerRequest interceptedRequest =
+                UpdateLoadBalancerConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateLoadBalancerConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, UpdateLoadBalancerResponse>
+                transformer = UpdateLoadBalancerConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdateLoadBalancerDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdatePathRouteSetResponse> updatePathRouteSet(
             final UpdatePathRouteSetRequest request,
@@ -3921,6 +5042,33 @@ public class LoadBalancerAsyncClient implements LoadBalancerAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdatePathRouteSetResponse> updatePathRouteSet(
+            final UpdatePathRouteSetRequest request) {
+        LOG.trace("Called async updatePathRouteSet");
+        final UpdatePathRouteSetRequest interceptedRequest =
+                UpdatePathRouteSetConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdatePathRouteSetConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, UpdatePathRouteSetResponse>
+                transformer = UpdatePathRouteSetConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdatePathRouteSetDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateRuleSetResponse> updateRuleSet(
             final UpdateRuleSetRequest request,
@@ -4008,4 +5156,31 @@ public class LoadBalancerAsyncClient implements LoadBalancerAsync {
                     responseFuture, transformer);
         }
     }
+
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateRuleSetResponse> updateRuleSet(
+            final UpdateRuleSetRequest request) {
+        LOG.trace("Called async updateRuleSet");
+        final UpdateRuleSetRequest interceptedRequest =
+                UpdateRuleSetConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateRuleSetConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, UpdateRuleSetResponse>
+                transformer = UpdateRuleSetConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdateRuleSetDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
 }
@@ -60,7 +60,8 @@ public class AddHttpRequestHeaderRule extends Rule {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public AddHttpRequestHeaderRule build() {
             AddHttpRequestHeaderRule __instance__ = new AddHttpRequestHeaderRule(header, value);
@@ -109,6 +110,10 @@ public class AddHttpRequestHeaderRule extends Rule {
     @com.fasterxml.jackson.annotation.JsonProperty("value")
     String value;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of("header", "value");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -42,7 +42,8 @@ public class BackendHealth {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public BackendHealth build() {
             BackendHealth __instance__ = new BackendHealth(status, healthCheckResults);
@@ -146,6 +147,10 @@ public class BackendHealth {
     @com.fasterxml.jackson.annotation.JsonProperty("healthCheckResults")
     java.util.List<HealthCheckResult> healthCheckResults;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of("status", "healthCheckResults");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -83,7 +83,8 @@ public class BackendSet {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public BackendSet build() {
             BackendSet __instance__ =
@@ -155,6 +156,16 @@ public class BackendSet {
     @com.fasterxml.jackson.annotation.JsonProperty("sessionPersistenceConfiguration")
     SessionPersistenceConfigurationDetails sessionPersistenceConfiguration;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "name",
+                    "policy",
+                    "backends",
+                    "healthChecker",
+                    "sslConfiguration",
+                    "sessionPersistenceConfiguration");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
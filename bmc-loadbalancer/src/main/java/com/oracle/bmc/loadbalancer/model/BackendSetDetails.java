@@ -74,7 +74,8 @@ public class BackendSetDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public BackendSetDetails build() {
             BackendSetDetails __instance__ =
@@ -132,6 +133,15 @@ public class BackendSetDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("sessionPersistenceConfiguration")
     SessionPersistenceConfigurationDetails sessionPersistenceConfiguration;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "policy",
+                    "backends",
+                    "healthChecker",
+                    "sslConfiguration",
+                    "sessionPersistenceConfiguration");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
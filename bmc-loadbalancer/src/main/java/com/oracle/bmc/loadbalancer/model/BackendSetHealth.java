@@ -72,7 +72,8 @@ public class BackendSetHealth {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public BackendSetHealth build() {
             BackendSetHealth __instance__ =
@@ -222,6 +223,15 @@ public class BackendSetHealth {
     @com.fasterxml.jackson.annotation.JsonProperty("totalBackendCount")
     Integer totalBackendCount;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "status",
+                    "warningStateBackendNames",
+                    "criticalStateBackendNames",
+                    "unknownStateBackendNames",
+                    "totalBackendCount");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
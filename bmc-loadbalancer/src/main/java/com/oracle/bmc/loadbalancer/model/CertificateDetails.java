@@ -75,7 +75,8 @@ public class CertificateDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public CertificateDetails build() {
             CertificateDetails __instance__ =
@@ -179,6 +180,15 @@ public class CertificateDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("certificateName")
     String certificateName;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "passphrase",
+                    "privateKey",
+                    "publicCertificate",
+                    "caCertificate",
+                    "certificateName");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -35,7 +35,8 @@ public class ConnectionConfiguration {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public ConnectionConfiguration build() {
             ConnectionConfiguration __instance__ = new ConnectionConfiguration(idleTimeout);
@@ -72,6 +73,10 @@ public class ConnectionConfiguration {
     @com.fasterxml.jackson.annotation.JsonProperty("idleTimeout")
     Long idleTimeout;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of("idleTimeout");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
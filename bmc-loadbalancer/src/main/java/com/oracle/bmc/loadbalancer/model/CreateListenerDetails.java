@@ -111,7 +111,8 @@ public class CreateListenerDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public CreateListenerDetails build() {
             CreateListenerDetails __instance__ =
@@ -224,6 +225,19 @@ public class CreateListenerDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("ruleSetNames")
     java.util.List<String> ruleSetNames;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "defaultBackendSetName",
+                    "port",
+                    "protocol",
+                    "hostnameNames",
+                    "pathRouteSetName",
+                    "sslConfiguration",
+                    "connectionConfiguration",
+                    "name",
+                    "ruleSetNames");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -146,7 +146,8 @@ public class CreateLoadBalancerDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public CreateLoadBalancerDetails build() {
             CreateLoadBalancerDetails __instance__ =
@@ -285,6 +286,23 @@ public class CreateLoadBalancerDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("ruleSets")
     java.util.Map<String, RuleSetDetails> ruleSets;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "compartmentId",
+                    "displayName",
+                    "shapeName",
+                    "isPrivate",
+                    "listeners",
+                    "hostnames",
+                    "backendSets",
+                    "subnetIds",
+                    "certificates",
+                    "pathRouteSets",
+                    "freeformTags",
+                    "definedTags",
+                    "ruleSets");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
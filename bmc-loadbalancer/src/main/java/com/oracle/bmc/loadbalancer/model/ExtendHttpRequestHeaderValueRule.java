@@ -72,7 +72,8 @@ public class ExtendHttpRequestHeaderValueRule extends Rule {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public ExtendHttpRequestHeaderValueRule build() {
             ExtendHttpRequestHeaderValueRule __instance__ =
@@ -133,6 +134,10 @@ public class ExtendHttpRequestHeaderValueRule extends Rule {
     @com.fasterxml.jackson.annotation.JsonProperty("suffix")
     String suffix;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of("header", "prefix", "suffix");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -62,7 +62,8 @@ public class HealthCheckResult {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public HealthCheckResult build() {
             HealthCheckResult __instance__ =
@@ -176,6 +177,11 @@ public class HealthCheckResult {
     @com.fasterxml.jackson.annotation.JsonProperty("healthCheckStatus")
     HealthCheckStatus healthCheckStatus;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "subnetId", "sourceIpAddress", "timestamp", "healthCheckStatus");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -97,7 +97,8 @@ public class HealthCheckerDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public HealthCheckerDetails build() {
             HealthCheckerDetails __instance__ =
@@ -212,6 +213,18 @@ public class HealthCheckerDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("responseBodyRegex")
     String responseBodyRegex;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "protocol",
+                    "urlPath",
+                    "port",
+                    "returnCode",
+                    "retries",
+                    "timeoutInMillis",
+                    "intervalInMillis",
+                    "responseBodyRegex");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -107,7 +107,8 @@ public class Listener {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public Listener build() {
             Listener __instance__ =
@@ -219,6 +220,19 @@ public class Listener {
     @com.fasterxml.jackson.annotation.JsonProperty("ruleSetNames")
     java.util.List<String> ruleSetNames;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "name",
+                    "defaultBackendSetName",
+                    "port",
+                    "protocol",
+                    "hostnameNames",
+                    "pathRouteSetName",
+                    "sslConfiguration",
+                    "connectionConfiguration",
+                    "ruleSetNames");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -95,7 +95,8 @@ public class ListenerDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public ListenerDetails build() {
             ListenerDetails __instance__ =
@@ -196,6 +197,18 @@ public class ListenerDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("ruleSetNames")
     java.util.List<String> ruleSetNames;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "defaultBackendSetName",
+                    "port",
+                    "protocol",
+                    "hostnameNames",
+                    "pathRouteSetName",
+                    "sslConfiguration",
+                    "connectionConfiguration",
+                    "ruleSetNames");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
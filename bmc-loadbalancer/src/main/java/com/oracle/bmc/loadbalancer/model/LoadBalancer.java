@@ -187,7 +187,8 @@ public class LoadBalancer {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public LoadBalancer build() {
             LoadBalancer __instance__ =
@@ -411,6 +412,27 @@ public class LoadBalancer {
     @com.fasterxml.jackson.annotation.JsonProperty("ruleSets")
     java.util.Map<String, RuleSet> ruleSets;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "id",
+                    "compartmentId",
+                    "displayName",
+                    "lifecycleState",
+                    "timeCreated",
+                    "ipAddresses",
+                    "shapeName",
+                    "isPrivate",
+                    "subnetIds",
+                    "listeners",
+                    "hostnames",
+                    "certificates",
+                    "backendSets",
+                    "pathRouteSets",
+                    "freeformTags",
+                    "definedTags",
+                    "ruleSets");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -77,7 +77,8 @@ public class LoadBalancerHealth {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public LoadBalancerHealth build() {
             LoadBalancerHealth __instance__ =
@@ -243,6 +244,15 @@ public class LoadBalancerHealth {
     @com.fasterxml.jackson.annotation.JsonProperty("totalBackendSetCount")
     Integer totalBackendSetCount;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "status",
+                    "warningStateBackendSetNames",
+                    "criticalStateBackendSetNames",
+                    "unknownStateBackendSetNames",
+                    "totalBackendSetCount");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
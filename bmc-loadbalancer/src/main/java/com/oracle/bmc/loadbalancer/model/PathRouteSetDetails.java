@@ -34,7 +34,8 @@ public class PathRouteSetDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public PathRouteSetDetails build() {
             PathRouteSetDetails __instance__ = new PathRouteSetDetails(pathRoutes);
@@ -64,6 +65,10 @@ public class PathRouteSetDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("pathRoutes")
     java.util.List<PathRoute> pathRoutes;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of("pathRoutes");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -47,7 +47,8 @@ public class RemoveHttpRequestHeaderRule extends Rule {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public RemoveHttpRequestHeaderRule build() {
             RemoveHttpRequestHeaderRule __instance__ = new RemoveHttpRequestHeaderRule(header);
@@ -86,6 +87,10 @@ public class RemoveHttpRequestHeaderRule extends Rule {
     @com.fasterxml.jackson.annotation.JsonProperty("header")
     String header;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of("header");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -52,7 +52,8 @@ public class SessionPersistenceConfigurationDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public SessionPersistenceConfigurationDetails build() {
             SessionPersistenceConfigurationDetails __instance__ =
@@ -98,6 +99,10 @@ public class SessionPersistenceConfigurationDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("disableFallback")
     Boolean disableFallback;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of("cookieName", "disableFallback");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -99,7 +99,8 @@ public class WorkRequest {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public WorkRequest build() {
             WorkRequest __instance__ =
@@ -253,6 +254,18 @@ public class WorkRequest {
     @com.fasterxml.jackson.annotation.JsonProperty("errorDetails")
     java.util.List<WorkRequestError> errorDetails;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "id",
+                    "loadBalancerId",
+                    "type",
+                    "lifecycleState",
+                    "message",
+                    "timeAccepted",
+                    "timeFinished",
+                    "errorDetails");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -51,6 +51,24 @@ public interface MonitoringAsync extends AutoCloseable {
             CreateAlarmRequest request,
             com.oracle.bmc.responses.AsyncHandler<CreateAlarmRequest, CreateAlarmResponse> handler);
 
+    /**
+     * Creates a new alarm in the specified compartment.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreateAlarmResponse> createAlarm(
+            CreateAlarmRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreateAlarmRequest, CreateAlarmResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createAlarm(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Deletes the specified alarm.
      *
@@ -66,6 +84,24 @@ public interface MonitoringAsync extends AutoCloseable {
             DeleteAlarmRequest request,
             com.oracle.bmc.responses.AsyncHandler<DeleteAlarmRequest, DeleteAlarmResponse> handler);
 
+    /**
+     * Deletes the specified alarm.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<DeleteAlarmResponse> deleteAlarm(
+            DeleteAlarmRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        DeleteAlarmRequest, DeleteAlarmResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        deleteAlarm(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the specified alarm.
      *
@@ -81,6 +117,24 @@ public interface MonitoringAsync extends AutoCloseable {
             GetAlarmRequest request,
             com.oracle.bmc.responses.AsyncHandler<GetAlarmRequest, GetAlarmResponse> handler);
 
+    /**
+     * Gets the specified alarm.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetAlarmResponse> getAlarm(
+            GetAlarmRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetAlarmRequest, GetAlarmResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getAlarm(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Get the history of the specified alarm.
      *
@@ -97,6 +151,24 @@ public interface MonitoringAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<GetAlarmHistoryRequest, GetAlarmHistoryResponse>
                     handler);
 
+    /**
+     * Get the history of the specified alarm.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetAlarmHistoryResponse> getAlarmHistory(
+            GetAlarmHistoryRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetAlarmHistoryRequest, GetAlarmHistoryResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getAlarmHistory(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists the alarms for the specified compartment.
      *
@@ -112,6 +184,24 @@ public interface MonitoringAsync extends AutoCloseable {
             ListAlarmsRequest request,
             com.oracle.bmc.responses.AsyncHandler<ListAlarmsRequest, ListAlarmsResponse> handler);
 
+    /**
+     * Lists the alarms for the specified compartment.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListAlarmsResponse> listAlarms(
+            ListAlarmsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListAlarmsRequest, ListAlarmsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listAlarms(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * List the status of each alarm in the specified compartment.
      *
@@ -128,6 +218,24 @@ public interface MonitoringAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<ListAlarmsStatusRequest, ListAlarmsStatusResponse>
                     handler);
 
+    /**
+     * List the status of each alarm in the specified compartment.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListAlarmsStatusResponse> listAlarmsStatus(
+            ListAlarmsStatusRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListAlarmsStatusRequest, ListAlarmsStatusResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listAlarmsStatus(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Returns metric definitions that match the criteria specified in the request. Compartment OCID required.
      * For information about metrics, see [Metrics Overview](https://docs.cloud.oracle.com/iaas/Content/Monitoring/Concepts/monitoringoverview.htm#MetricsOverview).
@@ -144,6 +252,25 @@ public interface MonitoringAsync extends AutoCloseable {
             ListMetricsRequest request,
             com.oracle.bmc.responses.AsyncHandler<ListMetricsRequest, ListMetricsResponse> handler);
 
+    /**
+     * Returns metric definitions that match the criteria specified in the request. Compartment OCID required.
+     * For information about metrics, see [Metrics Overview](https://docs.cloud.oracle.com/iaas/Content/Monitoring/Concepts/monitoringoverview.htm#MetricsOverview).
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListMetricsResponse> listMetrics(
+            ListMetricsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListMetricsRequest, ListMetricsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listMetrics(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Publishes raw metric data points to the Monitoring service.
      * For more information about publishing metrics, see [Publishing Custom Metrics](https://docs.cloud.oracle.com/iaas/Content/Monitoring/Tasks/publishingcustommetrics.htm).
@@ -165,6 +292,29 @@ public interface MonitoringAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<PostMetricDataRequest, PostMetricDataResponse>
                     handler);
 
+    /**
+     * Publishes raw metric data points to the Monitoring service.
+     * For more information about publishing metrics, see [Publishing Custom Metrics](https://docs.cloud.oracle.com/iaas/Content/Monitoring/Tasks/publishingcustommetrics.htm).
+     * <p>
+     * The endpoints for this operation differ from other Monitoring operations. Replace the string `telemetry` with `telemetry-ingestion` in the endpoint, as in the following example:
+     * <p>
+     * https://telemetry-ingestion.eu-frankfurt-1.oraclecloud.com
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<PostMetricDataResponse> postMetricData(
+            PostMetricDataRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        PostMetricDataRequest, PostMetricDataResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        postMetricData(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Removes any existing suppression for the specified alarm.
      *
@@ -182,6 +332,24 @@ public interface MonitoringAsync extends AutoCloseable {
                             RemoveAlarmSuppressionRequest, RemoveAlarmSuppressionResponse>
                     handler);
 
+    /**
+     * Removes any existing suppression for the specified alarm.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<RemoveAlarmSuppressionResponse>
+            removeAlarmSuppression(RemoveAlarmSuppressionRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        RemoveAlarmSuppressionRequest, RemoveAlarmSuppressionResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        removeAlarmSuppression(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Returns aggregated data that match the criteria specified in the request. Compartment OCID required.
      * For information on metric queries, see [Building Metric Queries](https://docs.cloud.oracle.com/iaas/Content/Monitoring/Tasks/buildingqueries.htm).
@@ -200,6 +368,25 @@ public interface MonitoringAsync extends AutoCloseable {
                             SummarizeMetricsDataRequest, SummarizeMetricsDataResponse>
                     handler);
 
+    /**
+     * Returns aggregated data that match the criteria specified in the request. Compartment OCID required.
+     * For information on metric queries, see [Building Metric Queries](https://docs.cloud.oracle.com/iaas/Content/Monitoring/Tasks/buildingqueries.htm).
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<SummarizeMetricsDataResponse> summarizeMetricsData(
+            SummarizeMetricsDataRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        SummarizeMetricsDataRequest, SummarizeMetricsDataResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        summarizeMetricsData(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Updates the specified alarm.
      *
@@ -214,4 +401,22 @@ public interface MonitoringAsync extends AutoCloseable {
     java.util.concurrent.Future<UpdateAlarmResponse> updateAlarm(
             UpdateAlarmRequest request,
             com.oracle.bmc.responses.AsyncHandler<UpdateAlarmRequest, UpdateAlarmResponse> handler);
+
+    /**
+     * Updates the specified alarm.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateAlarmResponse> updateAlarm(
+            UpdateAlarmRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateAlarmRequest, UpdateAlarmResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateAlarm(request, handler);
+        return handler.getStage();
+    }
 }
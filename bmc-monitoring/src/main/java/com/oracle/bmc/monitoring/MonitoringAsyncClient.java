@@ -389,6 +389,31 @@ public class MonitoringAsyncClient implements MonitoringAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateAlarmResponse> createAlarm(
+            final CreateAlarmRequest request) {
+        LOG.trace("Called async createAlarm");
+        final CreateAlarmRequest interceptedRequest =
+                CreateAlarmConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateAlarmConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, CreateAlarmResponse>
+                transformer = CreateAlarmConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib, interceptedRequest.getCreateAlarmDetails(), interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteAlarmResponse> deleteAlarm(
             final DeleteAlarmRequest request,
@@ -462,6 +487,30 @@ public class MonitoringAsyncClient implements MonitoringAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteAlarmResponse> deleteAlarm(
+            final DeleteAlarmRequest request) {
+        LOG.trace("Called async deleteAlarm");
+        final DeleteAlarmRequest interceptedRequest =
+                DeleteAlarmConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteAlarmConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, DeleteAlarmResponse>
+                transformer = DeleteAlarmConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetAlarmResponse> getAlarm(
             final GetAlarmRequest request,
@@ -534,6 +583,29 @@ public class MonitoringAsyncClient implements MonitoringAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetAlarmResponse> getAlarm(
+            final GetAlarmRequest request) {
+        LOG.trace("Called async getAlarm");
+        final GetAlarmRequest interceptedRequest = GetAlarmConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetAlarmConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetAlarmResponse>
+                transformer = GetAlarmConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetAlarmHistoryResponse> getAlarmHistory(
             final GetAlarmHistoryRequest request,
@@ -608,6 +680,30 @@ public class MonitoringAsyncClient implements MonitoringAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetAlarmHistoryResponse> getAlarmHistory(
+            final GetAlarmHistoryRequest request) {
+        LOG.trace("Called async getAlarmHistory");
+        final GetAlarmHistoryRequest interceptedRequest =
+                GetAlarmHistoryConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetAlarmHistoryConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetAlarmHistoryResponse>
+                transformer = GetAlarmHistoryConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListAlarmsResponse> listAlarms(
             final ListAlarmsRequest request,
@@ -680,6 +776,29 @@ public class MonitoringAsyncClient implements MonitoringAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListAlarmsResponse> listAlarms(
+            final ListAlarmsRequest request) {
+        LOG.trace("Called async listAlarms");
+        final ListAlarmsRequest interceptedRequest = ListAlarmsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListAlarmsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListAlarmsResponse>
+                transformer = ListAlarmsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListAlarmsStatusResponse> listAlarmsStatus(
             final ListAlarmsStatusRequest request,
@@ -754,6 +873,30 @@ public class MonitoringAsyncClient implements MonitoringAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListAlarmsStatusResponse> listAlarmsStatus(
+            final ListAlarmsStatusRequest request) {
+        LOG.trace("Called async listAlarmsStatus");
+        final ListAlarmsStatusRequest interceptedRequest =
+                ListAlarmsStatusConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListAlarmsStatusConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListAlarmsStatusResponse>
+                transformer = ListAlarmsStatusConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListMetricsResponse> listMetrics(
             final ListMetricsRequest request,
@@ -842,6 +985,31 @@ public class MonitoringAsyncClient implements MonitoringAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListMetricsResponse> listMetrics(
+            final ListMetricsRequest request) {
+        LOG.trace("Called async listMetrics");
+        final ListMetricsRequest interceptedRequest =
+                ListMetricsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListMetricsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListMetricsResponse>
+                transformer = ListMetricsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib, interceptedRequest.getListMetricsDetails(), interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<PostMetricDataResponse> postMetricData(
             final PostMetricDataRequest request,
@@ -931,6 +1099,33 @@ public class MonitoringAsyncClient implements MonitoringAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<PostMetricDataResponse> postMetricData(
+            final PostMetricDataRequest request) {
+        LOG.trace("Called async postMetricData");
+        final PostMetricDataRequest interceptedRequest =
+                PostMetricDataConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                PostMetricDataConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, PostMetricDataResponse>
+                transformer = PostMetricDataConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getPostMetricDataDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<RemoveAlarmSuppressionResponse> removeAlarmSuppression(
             final RemoveAlarmSuppressionRequest request,
@@ -1007,6 +1202,31 @@ public class MonitoringAsyncClient implements MonitoringAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<RemoveAlarmSuppressionResponse>
+            removeAlarmSuppression(final RemoveAlarmSuppressionRequest request) {
+        LOG.trace("Called async removeAlarmSuppression");
+        final RemoveAlarmSuppressionRequest interceptedRequest =
+                RemoveAlarmSuppressionConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                RemoveAlarmSuppressionConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, RemoveAlarmSuppressionResponse>
+                transformer = RemoveAlarmSuppressionConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<SummarizeMetricsDataResponse> summarizeMetricsData(
             final SummarizeMetricsDataRequest request,
@@ -1098,6 +1318,34 @@ public class MonitoringAsyncClient implements MonitoringAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<SummarizeMetricsDataResponse> summarizeMetricsData(
+            final SummarizeMetricsDataRequest request) {
+        LOG.trace("Called async summarizeMetricsData");
+        final SummarizeMetricsDataRequest interceptedRequest =
+                SummarizeMetricsDataConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                SummarizeMetricsDataConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, SummarizeMetricsDataResponse>
+                transformer = SummarizeMetricsDataConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getSummarizeMetricsDataDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateAlarmResponse> updateAlarm(
             final UpdateAlarmRequest request,
@@ -1185,4 +1433,29 @@ public class MonitoringAsyncClient implements MonitoringAsync {
                     responseFuture, transformer);
         }
     }
+
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateAlarmResponse> updateAlarm(
+            final UpdateAlarmRequest request) {
+        LOG.trace("Called async updateAlarm");
+        final UpdateAlarmRequest interceptedRequest =
+                UpdateAlarmConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateAlarmConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, UpdateAlarmResponse>
+                transformer = UpdateAlarmConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib, interceptedRequest.getUpdateAlarmDetails(), interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
 }
@@ -214,7 +214,8 @@ public class Alarm {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public Alarm build() {
             Alarm __instance__ =
@@ -593,6 +594,30 @@ public class Alarm {
     @com.fasterxml.jackson.annotation.JsonProperty("timeUpdated")
     java.util.Date timeUpdated;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "id",
+                    "displayName",
+                    "compartmentId",
+                    "metricCompartmentId",
+                    "metricCompartmentIdInSubtree",
+                    "namespace",
+                    "query",
+                    "resolution",
+                    "pendingDuration",
+                    "severity",
+                    "body",
+                    "destinations",
+                    "repeatNotificationDuration",
+                    "suppression",
+                    "isEnabled",
+                    "freeformTags",
+                    "definedTags",
+                    "lifecycleState",
+                    "timeCreated",
+                    "timeUpdated");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
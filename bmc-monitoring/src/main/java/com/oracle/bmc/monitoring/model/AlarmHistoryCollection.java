@@ -53,7 +53,8 @@ public class AlarmHistoryCollection {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public AlarmHistoryCollection build() {
             AlarmHistoryCollection __instance__ =
@@ -102,6 +103,10 @@ public class AlarmHistoryCollection {
     @com.fasterxml.jackson.annotation.JsonProperty("entries")
     java.util.List<AlarmHistoryEntry> entries;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of("alarmId", "isEnabled", "entries");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -54,7 +54,8 @@ public class AlarmHistoryEntry {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public AlarmHistoryEntry build() {
             AlarmHistoryEntry __instance__ =
@@ -112,6 +113,11 @@ public class AlarmHistoryEntry {
     @com.fasterxml.jackson.annotation.JsonProperty("timestampTriggered")
     java.util.Date timestampTriggered;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "summary", "timestamp", "timestampTriggered");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
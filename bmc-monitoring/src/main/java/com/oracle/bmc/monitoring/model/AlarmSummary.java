@@ -151,7 +151,8 @@ public class AlarmSummary {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public AlarmSummary build() {
             AlarmSummary __instance__ =
@@ -385,6 +386,23 @@ public class AlarmSummary {
     @com.fasterxml.jackson.annotation.JsonProperty("lifecycleState")
     Alarm.LifecycleState lifecycleState;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "id",
+                    "displayName",
+                    "compartmentId",
+                    "metricCompartmentId",
+                    "namespace",
+                    "query",
+                    "severity",
+                    "destinations",
+                    "suppression",
+                    "isEnabled",
+                    "freeformTags",
+                    "definedTags",
+                    "lifecycleState");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
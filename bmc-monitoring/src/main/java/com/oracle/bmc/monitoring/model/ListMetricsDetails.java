@@ -83,7 +83,8 @@ public class ListMetricsDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public ListMetricsDetails build() {
             ListMetricsDetails __instance__ =
@@ -248,6 +249,11 @@ public class ListMetricsDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("sortOrder")
     SortOrder sortOrder;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "name", "namespace", "dimensionFilters", "groupBy", "sortBy", "sortOrder");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
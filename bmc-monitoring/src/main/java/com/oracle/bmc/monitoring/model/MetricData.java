@@ -89,7 +89,8 @@ public class MetricData {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public MetricData build() {
             MetricData __instance__ =
@@ -194,6 +195,17 @@ public class MetricData {
     @com.fasterxml.jackson.annotation.JsonProperty("aggregatedDatapoints")
     java.util.List<AggregatedDatapoint> aggregatedDatapoints;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "namespace",
+                    "compartmentId",
+                    "name",
+                    "dimensions",
+                    "metadata",
+                    "resolution",
+                    "aggregatedDatapoints");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -80,7 +80,8 @@ public class MetricDataDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public MetricDataDetails build() {
             MetricDataDetails __instance__ =
@@ -171,6 +172,11 @@ public class MetricDataDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("datapoints")
     java.util.List<Datapoint> datapoints;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "namespace", "compartmentId", "name", "dimensions", "metadata", "datapoints");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -44,7 +44,8 @@ public class PostMetricDataResponseDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public PostMetricDataResponseDetails build() {
             PostMetricDataResponseDetails __instance__ =
@@ -85,6 +86,11 @@ public class PostMetricDataResponseDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("failedMetrics")
     java.util.List<FailedMetricRecord> failedMetrics;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "failedMetricsCount", "failedMetrics");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -72,7 +72,8 @@ public class SummarizeMetricsDataDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public SummarizeMetricsDataDetails build() {
             SummarizeMetricsDataDetails __instance__ =
@@ -163,6 +164,11 @@ public class SummarizeMetricsDataDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("resolution")
     String resolution;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "namespace", "query", "startTime", "endTime", "resolution");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
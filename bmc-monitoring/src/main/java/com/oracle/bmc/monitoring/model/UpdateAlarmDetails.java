@@ -173,7 +173,8 @@ public class UpdateAlarmDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public UpdateAlarmDetails build() {
             UpdateAlarmDetails __instance__ =
@@ -411,6 +412,26 @@ public class UpdateAlarmDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("definedTags")
     java.util.Map<String, java.util.Map<String, Object>> definedTags;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "displayName",
+                    "compartmentId",
+                    "metricCompartmentId",
+                    "metricCompartmentIdInSubtree",
+                    "namespace",
+                    "query",
+                    "resolution",
+                    "pendingDuration",
+                    "severity",
+                    "body",
+                    "destinations",
+                    "repeatNotificationDuration",
+                    "suppression",
+                    "isEnabled",
+                    "freeformTags",
+                    "definedTags");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
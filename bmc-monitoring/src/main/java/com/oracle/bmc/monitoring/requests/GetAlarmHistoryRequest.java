@@ -110,6 +110,7 @@ public class GetAlarmHistoryRequest extends com.oracle.bmc.requests.BmcRequest {
     public static class Builder {
         private com.oracle.bmc.util.internal.Consumer<javax.ws.rs.client.Invocation.Builder>
                 invocationCallback = null;
+        private com.oracle.bmc.retrier.RetryConfiguration retryConfiguration = null;
 
         /**
          * Set the invocation callback for the request to be built.
@@ -123,6 +124,17 @@ public class GetAlarmHistoryRequest extends com.oracle.bmc.requests.BmcRequest {
             return this;
         }
 
+        /**
+         * Set the retry configuration for the request to be built.
+         * @param retryConfiguration the retry configuration to be used for the request
+         * @return this builder instance
+         */
+        public Builder retryConfiguration(
+                com.oracle.bmc.retrier.RetryConfiguration retryConfiguration) {
+            this.retryConfiguration = retryConfiguration;
+            return this;
+        }
+
         /**
          * Copy method to populate the builder with values from the given instance.
          * @return this builder instance
@@ -136,6 +148,7 @@ public class GetAlarmHistoryRequest extends com.oracle.bmc.requests.BmcRequest {
             timestampGreaterThanOrEqualTo(o.getTimestampGreaterThanOrEqualTo());
             timestampLessThan(o.getTimestampLessThan());
             invocationCallback(o.getInvocationCallback());
+            retryConfiguration(o.getRetryConfiguration());
             return this;
         }
 
@@ -152,6 +165,7 @@ public class GetAlarmHistoryRequest extends com.oracle.bmc.requests.BmcRequest {
         public GetAlarmHistoryRequest build() {
             GetAlarmHistoryRequest request = buildWithoutInvocationCallback();
             request.setInvocationCallback(invocationCallback);
+            request.setRetryConfiguration(retryConfiguration);
             return request;
         }
     }
@@ -0,0 +1,72 @@
+/**
+ * Copyright (c) 2016, 2019, Oracle and/or its affiliates. All rights reserved.
+ */
+package com.oracle.bmc.objectstorage.transfer;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * The configuration for the {@code DownloadManager}.
+ */
+@Getter
+@ToString
+public class DownloadConfiguration {
+    public static final long MINIMUM_ALLOWED_LENGTH_PER_PART_MB = 1L; // 1 MiB
+    public static final long MAXIMUM_ALLOWED_LENGTH_PER_PART_MB = 50L * 1024L; // 50 GiB
+
+    private static final int DEFAULT_LENGTH_PER_DOWNLOAD_PART = 32;
+    private static final int DEFAULT_MAX_ATTEMPTS_PER_PART = 3;
+
+    /**
+     * Length in MiB of each byte range requested with a separate GetObject call (except the last),
+     * default 32.  Objects no larger than this are downloaded with a single GetObject call.
+     * <p>
+     * Accepted values: 1 - 51200.
+     */
+    private final long lengthPerDownloadPart;
+    /**
+     * Flag to allow the byte ranges to be downloaded in parallel, default true.  If false, the
+     * ranges are downloaded one after the other by the calling thread.
+     */
+    private final boolean allowParallelDownloads;
+    /**
+     * Maximum number of attempts to download a byte range, default 3.  A failed range is retried
+     * on its own, from the first byte that was not written yet.
+     * <p>
+     * Accepted values: 1 or more.
+     */
+    private final int maxAttemptsPerPart;
+
+    // Explicit @Builder on constructor so we can enforce default values.
+    @Builder
+    private DownloadConfiguration(
+            Integer lengthPerDownloadPart,
+            Boolean allowParallelDownloads,
+            Integer maxAttemptsPerPart) {
+        this.lengthPerDownloadPart =
+                getOrDefault(lengthPerDownloadPart, DEFAULT_LENGTH_PER_DOWNLOAD_PART);
+        this.allowParallelDownloads = getOrDefault(allowParallelDownloads, true);
+        this.maxAttemptsPerPart = getOrDefault(maxAttemptsPerPart, DEFAULT_MAX_ATTEMPTS_PER_PART);
+
+        Validate.inclusiveBetween(
+                MINIMUM_ALLOWED_LENGTH_PER_PART_MB,
+                MAXIMUM_ALLOWED_LENGTH_PER_PART_MB,
+                this.lengthPerDownloadPart,
+                String.format(
+                        "lengthPerDownloadPart [%s] must be between %s-%s (inclusive)",
+                        this.lengthPerDownloadPart,
+                        MINIMUM_ALLOWED_LENGTH_PER_PART_MB,
+                        MAXIMUM_ALLOWED_LENGTH_PER_PART_MB));
+        Validate.isTrue(
+                this.maxAttemptsPerPart >= 1,
+                String.format(
+                        "maxAttemptsPerPart [%s] must be at least 1", this.maxAttemptsPerPart));
+    }
+
+    private static <T> T getOrDefault(T value, T defaultValue) {
+        return (value == null) ? defaultValue : value;
+    }
+}
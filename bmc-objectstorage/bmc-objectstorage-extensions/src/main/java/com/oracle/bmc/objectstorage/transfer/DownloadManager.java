@@ -0,0 +1,508 @@
+/**
+ * Copyright (c) 2016, 2019, Oracle and/or its affiliates. All rights reserved.
+ */
+package com.oracle.bmc.objectstorage.transfer;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.oracle.bmc.model.BmcException;
+import com.oracle.bmc.model.Range;
+import com.oracle.bmc.objectstorage.ObjectStorage;
+import com.oracle.bmc.objectstorage.requests.GetObjectRequest;
+import com.oracle.bmc.objectstorage.responses.GetObjectResponse;
+import com.oracle.bmc.objectstorage.transfer.internal.MultipartUtils;
+import com.oracle.bmc.util.StreamUtils;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * DownloadManager simplifies downloading large objects to a file, by requesting byte ranges of the
+ * object in parallel instead of reading it through a single connection.
+ * <p>
+ * The first range also returns the length and the ETag of the object.  Every other range is
+ * requested with an if-match on that ETag, so a download never mixes two versions of an object:
+ * if the object is overwritten during the download, the download fails with a 412.  Ranges are
+ * written to the file at their position as they arrive, and a range that fails is retried on its
+ * own, from the first byte that was not written yet.
+ * <p>
+ * Callers control the size of the ranges and the parallelism with {@link DownloadConfiguration}.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class DownloadManager {
+    private static final int DEFAULT_NUM_MULTIPART_THREADS_PER_REQUEST = 3;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int RANGE_NOT_SATISFIABLE = 416;
+
+    private final ObjectStorage objectStorage;
+    private final DownloadConfiguration downloadConfiguration;
+
+    /**
+     * Downloads an object to a file.  The file is created if it does not exist, and overwritten if
+     * it does.  If the download fails, the file is deleted.
+     *
+     * @param downloadRequest The download request.
+     * @return The response.
+     * @throws BmcException if the download fails for any reason.
+     */
+    public DownloadResponse download(DownloadRequest downloadRequest) {
+        GetObjectRequest request = downloadRequest.getObjectRequest;
+        Validate.isTrue(
+                request.getRange() == null, "DownloadManager always downloads the whole object");
+        long partSize = downloadConfiguration.getLengthPerDownloadPart() * MultipartUtils.MiB;
+
+        FileChannel channel = null;
+        ExecutorService executorServiceToUse = null;
+        boolean shutdownExecutor = false;
+        boolean succeeded = false;
+        // set once the download failed, so the other ranges stop retrying
+        AtomicBoolean aborted = new AtomicBoolean();
+        try {
+            channel = openChannel(downloadRequest.file);
+
+            // the first range also tells the length and the version of the object
+            GetObjectResponse firstResponse = getFirstRange(request, partSize);
+            Long contentLength =
+                    (firstResponse.getContentRange() != null)
+                            ? firstResponse.getContentRange().getContentLength()
+                            : firstResponse.getContentLength();
+            if (contentLength == null) {
+                StreamUtils.closeQuietly(firstResponse.getInputStream());
+                throw new BmcException(false, "The length of the object is unknown", null, null);
+            }
+            long firstRangeEnd =
+                    (firstResponse.getContentRange() != null)
+                            ? firstResponse.getContentRange().getEndByte()
+                            : contentLength - 1;
+            String eTag = firstResponse.getETag();
+
+            ProgressTrackerFactory progressTrackerFactory =
+                    ProgressTrackerFactory.createMultiPartUploadProgressTrackerFactory(
+                            downloadRequest.progressReporter, contentLength);
+            RangeDownload firstRange =
+                    new RangeDownload(
+                            request,
+                            channel,
+                            eTag,
+                            0,
+                            firstRangeEnd,
+                            progressTrackerFactory.getProgressTracker(),
+                            firstResponse,
+                            aborted);
+            List<RangeDownload> otherRanges = new ArrayList<>();
+            for (long start = firstRangeEnd + 1; start < contentLength; start += partSize) {
+                otherRanges.add(
+                        new RangeDownload(
+                                request,
+                                channel,
+                                eTag,
+                                start,
+                                Math.min(start + partSize, contentLength) - 1,
+                                progressTrackerFactory.getProgressTracker(),
+                                null,
+                                aborted));
+            }
+
+            if (downloadConfiguration.isAllowParallelDownloads() && !otherRanges.isEmpty()) {
+                if (downloadRequest.parallelDownloadExecutorService != null) {
+                    executorServiceToUse = downloadRequest.parallelDownloadExecutorService;
+                } else {
+                    executorServiceToUse = buildDefaultParallelExecutor();
+                    shutdownExecutor = true;
+                }
+                List<Future<Void>> futures = new ArrayList<>();
+                try {
+                    for (RangeDownload range : otherRanges) {
+                        futures.add(executorServiceToUse.submit(range));
+                    }
+                    // the response of the first range is already open, read it while the others
+                    // are being downloaded
+                    firstRange.call();
+                    for (Future<Void> future : futures) {
+                        waitFor(future);
+                    }
+                } finally {
+                    aborted.set(true);
+                    for (Future<Void> future : futures) {
+                        future.cancel(true);
+                    }
+                }
+            } else {
+                firstRange.call();
+                for (RangeDownload range : otherRanges) {
+                    range.call();
+                }
+            }
+
+            succeeded = true;
+            return new DownloadResponse(
+                    eTag,
+                    contentLength,
+                    firstRangeEnd == contentLength - 1 ? firstResponse.getContentMd5() : null,
+                    firstResponse.getOpcMultipartMd5(),
+                    firstResponse.getContentType(),
+                    firstResponse.getLastModified(),
+                    firstResponse.getOpcRequestId(),
+                    firstResponse.getOpcClientRequestId());
+        } catch (IOException e) {
+            throw new BmcException(
+                    false, "Failed to write to " + downloadRequest.file.getPath(), e, null);
+        } catch (FileWriteException e) {
+            throw new BmcException(
+                    false,
+                    "Failed to write to " + downloadRequest.file.getPath(),
+                    e.getCause(),
+                    null);
+        } finally {
+            closeQuietly(channel);
+            if (shutdownExecutor) {
+                executorServiceToUse.shutdownNow();
+            }
+            if (!succeeded && !downloadRequest.file.delete()) {
+                LOG.warn(
+                        "Failed to delete {} after failure to download object",
+                        downloadRequest.file.getPath());
+            }
+        }
+    }
+
+    /**
+     * Opens the file the object is downloaded to.  Visible for testing.
+     */
+    FileChannel openChannel(File file) throws IOException {
+        return FileChannel.open(
+                file.toPath(),
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    private GetObjectResponse getFirstRange(GetObjectRequest request, long partSize) {
+        GetObjectRequest rangeRequest =
+                GetObjectRequest.builder()
+                        .copy(request)
+                        .range(new Range(0L, partSize - 1))
+                        .build();
+        try {
+            return getObject(rangeRequest);
+        } catch (BmcException e) {
+            if (e.getStatusCode() != RANGE_NOT_SATISFIABLE) {
+                throw e;
+            }
+            // an empty object has no byte range to request
+            return getObject(request);
+        }
+    }
+
+    private GetObjectResponse getObject(GetObjectRequest request) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return objectStorage.getObject(request);
+            } catch (BmcException e) {
+                if (attempt >= downloadConfiguration.getMaxAttemptsPerPart() || !isRetryable(e)) {
+                    throw e;
+                }
+                LOG.warn("GetObject failed on attempt {}, retrying", attempt, e);
+            }
+        }
+    }
+
+    private static void waitFor(Future<Void> future) {
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BmcException(false, "Interrupted while downloading object", e, null);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof BmcException) {
+                throw (BmcException) e.getCause();
+            }
+            if (e.getCause() instanceof FileWriteException) {
+                throw (FileWriteException) e.getCause();
+            }
+            throw new BmcException(false, "Failed to download object", e.getCause(), null);
+        }
+    }
+
+    private static void closeQuietly(FileChannel channel) {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                LOG.debug("Failed to close file", e);
+            }
+        }
+    }
+
+    private static boolean isRetryable(BmcException e) {
+        // same conditions as the uploads: client timeout, client unknown exception (-1) and
+        // server errors
+        return e.isTimeout() || e.getStatusCode() == -1 || e.getStatusCode() >= 500;
+    }
+
+    private static ExecutorService buildDefaultParallelExecutor() {
+        return Executors.newFixedThreadPool(
+                DEFAULT_NUM_MULTIPART_THREADS_PER_REQUEST,
+                new ThreadFactoryBuilder()
+                        .setNameFormat("multipart-download-" + System.currentTimeMillis() + "-%d")
+                        .setDaemon(true)
+                        .build());
+    }
+
+    /**
+     * Downloads one byte range of the object into the file, retrying from the first byte that was
+     * not written yet if the request or the response fails.
+     */
+    @RequiredArgsConstructor
+    private class RangeDownload implements Callable<Void> {
+        private final GetObjectRequest request;
+        private final FileChannel channel;
+        private final String eTag;
+        private final long start;
+        private final long end;
+        private final ProgressTracker progressTracker;
+        private final GetObjectResponse initialResponse;
+        private final AtomicBoolean aborted;
+        // the first byte not written yet, a retry resumes from there
+        private long position;
+
+        @Override
+        public Void call() {
+            try {
+                return download();
+            } catch (RuntimeException e) {
+                aborted.set(true);
+                throw e;
+            }
+        }
+
+        private Void download() {
+            position = start;
+            GetObjectResponse response = initialResponse;
+            for (int attempt = 1; position <= end; attempt++) {
+                try {
+                    if (response == null) {
+                        response =
+                                objectStorage.getObject(
+                                        GetObjectRequest.builder()
+                                                .copy(request)
+                                                .range(new Range(position, end))
+                                                .ifMatch(eTag)
+                                                .ifNoneMatch(null)
+                                                .build());
+                    }
+                    transfer(response.getInputStream());
+                    if (position <= end) {
+                        throw new IOException(
+                                "Response ended at byte " + position + " instead of " + end);
+                    }
+                } catch (BmcException e) {
+                    if (!shouldRetry(attempt) || !isRetryable(e)) {
+                        throw e;
+                    }
+                    LOG.warn(
+                            "GetObject for range {}-{} failed on attempt {}, retrying",
+                            position,
+                            end,
+                            attempt,
+                            e);
+                } catch (IOException e) {
+                    if (!shouldRetry(attempt)) {
+                        throw new BmcException(
+                                false,
+                                "Failed to read range " + position + "-" + end + " of object",
+                                e,
+                                null);
+                    }
+                    LOG.warn(
+                            "Reading range {}-{} failed on attempt {}, retrying",
+                            position,
+                            end,
+                            attempt,
+                            e);
+                }
+                response = null;
+            }
+            if (response != null) {
+                // nothing to read, for an empty object
+                StreamUtils.closeQuietly(response.getInputStream());
+            }
+            return null;
+        }
+
+        private boolean shouldRetry(int attempt) {
+            // no point in retrying once another range failed or the download was cancelled
+            return attempt < downloadConfiguration.getMaxAttemptsPerPart()
+                    && !aborted.get()
+                    && !Thread.currentThread().isInterrupted();
+        }
+
+        /**
+         * Writes a response to the file from the current position, and advances the position past
+         * every byte written, even if the response cannot be read to the end.
+         *
+         * @throws IOException if the response cannot be read
+         */
+        private void transfer(InputStream stream) throws IOException {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            try (InputStream is = stream) {
+                while (position <= end) {
+                    int length = (int) Math.min(buffer.length, end - position + 1);
+                    int read = is.read(buffer, 0, length);
+                    if (read == -1) {
+                        break;
+                    }
+                    write(ByteBuffer.wrap(buffer, 0, read), position);
+                    position += read;
+                    if (progressTracker != null) {
+                        progressTracker.onBytesRead(read);
+                    }
+                }
+            }
+        }
+
+        private void write(ByteBuffer buffer, long position) {
+            try {
+                while (buffer.hasRemaining()) {
+                    position += channel.write(buffer, position);
+                }
+            } catch (IOException e) {
+                // not worth retrying, unlike a failure to read the response
+                throw new FileWriteException(e);
+            }
+        }
+    }
+
+    /**
+     * A failure to write to the file.  Kept apart from the failures of the requests, which are
+     * retried, and turned into a {@link BmcException} once the download is given up.
+     */
+    private static class FileWriteException extends RuntimeException {
+        private FileWriteException(IOException cause) {
+            super(cause);
+        }
+    }
+
+    @RequiredArgsConstructor
+    public static class DownloadRequest {
+        private final GetObjectRequest getObjectRequest;
+        private final File file;
+        private final ExecutorService parallelDownloadExecutorService;
+        private final ProgressReporter progressReporter;
+
+        /**
+         * Creates a new {@link DownloadRequestBuilder} that downloads to the given file.
+         *
+         * @param file The file to write the object to.
+         * @return a new DownloadRequestBuilder instance.
+         */
+        public static DownloadRequestBuilder builder(File file) {
+            return new DownloadRequestBuilder(file);
+        }
+
+        @RequiredArgsConstructor
+        public static class DownloadRequestBuilder {
+            private final File file;
+
+            private ExecutorService parallelDownloadExecutorService;
+            private ProgressReporter progressReporter;
+
+            /**
+             * Sets the executor service that should be used to download byte ranges in parallel.
+             * If none is provided, the DownloadManager will create a new Executor <i>per download
+             * request</i>.
+             *
+             * @param parallelDownloadExecutorService The executor to use.
+             * @return This builder instance
+             */
+            public DownloadRequestBuilder parallelDownloadExecutorService(
+                    ExecutorService parallelDownloadExecutorService) {
+                this.parallelDownloadExecutorService = parallelDownloadExecutorService;
+                return this;
+            }
+
+            /**
+             * Sets the progress reporter that is used to notify of updates during the download.
+             * If none is provided, then no progress updates shall be reported.
+             *
+             * @param progressReporter The progress reporter to use.
+             * @return This builder instance
+             */
+            public DownloadRequestBuilder progressReporter(ProgressReporter progressReporter) {
+                this.progressReporter = progressReporter;
+                return this;
+            }
+
+            /**
+             * Builds a new DownloadRequest instance.
+             *
+             * @param request The request for the object, without a range.
+             * @return A new request instance.
+             */
+            public DownloadRequest build(GetObjectRequest request) {
+                return new DownloadRequest(
+                        request, file, parallelDownloadExecutorService, progressReporter);
+            }
+        }
+    }
+
+    /**
+     * The result referencing the downloaded object.
+     */
+    @RequiredArgsConstructor
+    @Getter
+    @ToString
+    public static class DownloadResponse {
+        /**
+         * The etag of the object downloaded.
+         */
+        private final String eTag;
+        /**
+         * The length of the object, in bytes.
+         */
+        private final long contentLength;
+        /**
+         * The MD5 of the object, if it was not uploaded with multi-part uploads and it was
+         * downloaded with a single request.
+         */
+        private final String contentMd5;
+        /**
+         * The multi-part MD5 of the object, if it was uploaded with multi-part uploads.
+         */
+        private final String multipartMd5;
+        /**
+         * The content type of the object.
+         */
+        private final String contentType;
+        /**
+         * The time the object was last modified.
+         */
+        private final java.util.Date lastModified;
+        /**
+         * The opc-request-id of the request of the first range.
+         */
+        private final String opcRequestId;
+        /**
+         * The opc-client-request-id of the request of the first range.
+         */
+        private final String opcClientRequestId;
+    }
+}
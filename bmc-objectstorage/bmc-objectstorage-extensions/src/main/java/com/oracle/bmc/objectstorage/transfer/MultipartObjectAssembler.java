@@ -247,8 +247,29 @@ public class MultipartObjectAssembler {
      * @return The part number assigned to this part
      */
     public int addPart(InputStream stream, long contentLength, String md5) {
+        return addPart(stream, contentLength, md5, null);
+    }
+
+    /**
+     * Add the next part to the upload.  Parts will be committed in the order
+     * submitted.
+     * <p>
+     * Calling this will set the ifNoneMatch value and will not allow overwriting existing parts.
+     * <p>
+     * The callback is run once the part completed upload, successfully or not, after
+     * which the stream is no longer read.  This is useful to reuse the memory backing
+     * the stream.
+     *
+     * @param stream The stream to upload as the next part
+     * @param contentLength The content length of the part
+     * @param md5 The MD5 checksum, optional
+     * @param onCompletion The callback to run when the part completed, optional
+     * @return The part number assigned to this part
+     */
+    public int addPart(
+            InputStream stream, long contentLength, String md5, Runnable onCompletion) {
         int nextPartNumber = manifest.nextPartNumber();
-        return doUploadPart(stream, contentLength, md5, nextPartNumber, false);
+        return doUploadPart(stream, contentLength, md5, nextPartNumber, false, onCompletion);
     }
 
     /**
@@ -284,7 +305,7 @@ public class MultipartObjectAssembler {
      * @param partNum The part number to to assign to the part
      */
     public void setPart(InputStream stream, long contentLength, String md5, int partNum) {
-        doUploadPart(stream, contentLength, md5, partNum, true);
+        doUploadPart(stream, contentLength, md5, partNum, true, null);
     }
 
     private int doUploadPart(
@@ -292,7 +313,8 @@ public class MultipartObjectAssembler {
             long contentLength,
             String md5,
             int partNumber,
-            boolean allowPartOverwrite) {
+            boolean allowPartOverwrite,
+            Runnable onCompletion) {
         validateState();
         String ifNoneMatch = ObjectStorageUtils.getIfNoneMatchHeader(allowPartOverwrite);
         UploadPartRequest request =
@@ -309,7 +331,7 @@ public class MultipartObjectAssembler {
                         .uploadPartBody(stream)
                         .opcClientRequestId(createClientRequestId("-" + partNumber))
                         .build();
-        transferManager.startTransfer(request);
+        transferManager.startTransfer(request, onCompletion);
         return partNumber;
     }
 
@@ -5,10 +5,11 @@ package com.oracle.bmc.objectstorage.transfer;
 
 public interface ProgressReporter {
     /**
-     * Notification to indicate that progress was made during an upload operation.
+     * Notification to indicate that progress was made during an upload or download operation.
      *
-     * @param completed The number of bytes that have been already been uploaded for this operation.
-     * @param total The total number of bytes to upload for this operation.
+     * @param completed The number of bytes that have been already been transferred for this operation.
+     * @param total The total number of bytes to transfer for this operation, -1 if not known (an
+     *              upload of a stream without a content length).
      */
     void onProgress(final long completed, final long total);
 }
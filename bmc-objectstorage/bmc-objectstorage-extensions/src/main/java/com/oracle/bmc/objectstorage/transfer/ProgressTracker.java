@@ -14,6 +14,7 @@ import javax.annotation.concurrent.NotThreadSafe;
 @RequiredArgsConstructor(access = AccessLevel.PACKAGE)
 class ProgressTracker {
     @NonNull private final ProgressReporter progressReporter;
+    // -1 if not known
     private final long totalBytes;
 
     @Getter(value = AccessLevel.PROTECTED)
@@ -21,7 +22,7 @@ class ProgressTracker {
 
     void onBytesRead(final long bytesRead) {
         totalBytesRead += bytesRead;
-        if (totalBytesRead < 0 || totalBytesRead > totalBytes) {
+        if (totalBytesRead < 0 || (totalBytes >= 0 && totalBytesRead > totalBytes)) {
             throw new IllegalStateException(
                     String.format(
                             "IllegalState - bytes read %d causes total bytes read(%d)/total bytes(%d)",
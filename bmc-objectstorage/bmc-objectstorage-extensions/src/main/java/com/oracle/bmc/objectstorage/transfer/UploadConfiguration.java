@@ -79,6 +79,27 @@ public class UploadConfiguration {
      * failed uploads themselves).  Default is false.
      */
     private final boolean disableAutoAbort;
+    /**
+     * Maximum memory in MiB used to read ahead parts of a multi-part upload, default 0 (disabled).
+     * <p>
+     * Parts of a stream that cannot be duplicated can only be read in order, so they are normally uploaded one at a
+     * time.  When this allows at least 2 part buffers ({@link #lengthPerUploadPart} each, or larger if the object
+     * needs it), parts are read into the buffers and uploaded in parallel instead (if {@link #allowParallelUploads}),
+     * and each buffer is reused once its part completed.
+     * <p>
+     * With {@link #enforceMd5BeforeMultipartUpload}, parts of any stream are read into the buffers, and the MD5 is
+     * calculated while reading them, so the source is read only once.
+     * <p>
+     * Parts of a stream without content length are always read into buffers, at least one at a time.
+     * <p>
+     * Accepted values: 0 or more.
+     */
+    private final long readAheadMemoryLimit;
+    /**
+     * Flag to indicate that the read ahead buffers should be allocated outside of the heap, see
+     * {@link java.nio.ByteBuffer#allocateDirect(int)}.  Default is false.
+     */
+    private final boolean useDirectReadAheadBuffers;
 
     @Deprecated
     public long getMinimumLengthPerUploadPart() {
@@ -94,7 +115,9 @@ public class UploadConfiguration {
             Boolean enforceMd5BeforeMultipartUpload,
             Boolean allowMultipartUploads,
             Boolean allowParallelUploads,
-            Boolean disableAutoAbort) {
+            Boolean disableAutoAbort,
+            Integer readAheadMemoryLimit,
+            Boolean useDirectReadAheadBuffers) {
         this.minimumLengthForMultipartUpload =
                 getOrDefault(
                         minimumLengthForMultipartUpload, DEFAULT_MIN_LENGTH_FOR_MULTI_PART_UPLOAD);
@@ -106,6 +129,8 @@ public class UploadConfiguration {
         this.allowMultipartUploads = getOrDefault(allowMultipartUploads, true);
         this.allowParallelUploads = getOrDefault(allowParallelUploads, true);
         this.disableAutoAbort = getOrDefault(disableAutoAbort, false);
+        this.readAheadMemoryLimit = getOrDefault(readAheadMemoryLimit, 0);
+        this.useDirectReadAheadBuffers = getOrDefault(useDirectReadAheadBuffers, false);
 
         Validate.isTrue(
                 this.minimumLengthForMultipartUpload >= 0L,
@@ -122,6 +147,12 @@ public class UploadConfiguration {
                         this.lengthPerUploadPart,
                         MINIMUM_ALLOWED_LENGTH_PER_PART_MB,
                         MAXIMUM_ALLOWED_LENGTH_PER_PART_MB));
+        Validate.isTrue(
+                this.readAheadMemoryLimit >= 0L,
+                String.format(
+                        "readAheadMemoryLimit [%s] must be greater than or equal to %s",
+                        this.readAheadMemoryLimit,
+                        0L));
     }
 
     public static class UploadConfigurationBuilder {
@@ -3,16 +3,16 @@
  */
 package com.oracle.bmc.objectstorage.transfer;
 
-import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
-import java.security.DigestOutputStream;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Supplier;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.oracle.bmc.io.DuplicatableInputStream;
 import com.oracle.bmc.model.BmcException;
@@ -21,7 +21,9 @@ import com.oracle.bmc.objectstorage.internal.ObjectStorageUtils;
 import com.oracle.bmc.objectstorage.requests.PutObjectRequest;
 import com.oracle.bmc.objectstorage.responses.CommitMultipartUploadResponse;
 import com.oracle.bmc.objectstorage.responses.PutObjectResponse;
+import com.oracle.bmc.objectstorage.transfer.internal.ByteBufferInputStream;
 import com.oracle.bmc.objectstorage.transfer.internal.MultipartUtils;
+import com.oracle.bmc.objectstorage.transfer.internal.PartBufferPool;
 import com.oracle.bmc.objectstorage.transfer.internal.SimpleRetry;
 import com.oracle.bmc.objectstorage.transfer.internal.StreamChunkCreator;
 import com.oracle.bmc.objectstorage.transfer.internal.StreamHelper;
@@ -51,6 +53,8 @@ import javax.ws.rs.client.Invocation;
 @Slf4j
 public class UploadManager {
     private static final int DEFAULT_NUM_MULTIPART_THREADS_PER_REQUEST = 3;
+    // some VMs reserve header words in arrays
+    private static final int MAX_BUFFER_LENGTH = Integer.MAX_VALUE - 8;
 
     private final ObjectStorage objectStorage;
     private final UploadConfiguration uploadConfiguration;
@@ -69,19 +73,18 @@ public class UploadManager {
      * @throws BmcException if the upload fails for any reason.
      */
     public UploadResponse upload(UploadRequest uploadDetails) {
+        if (uploadDetails.putObjectRequest.getContentLength() == null) {
+            return uploadUnknownLength(uploadDetails);
+        }
         if (MultipartUtils.shouldUseMultipart(
                 uploadConfiguration, uploadDetails.putObjectRequest.getContentLength())) {
             return multipartUpload(uploadDetails);
         }
 
-        return singleUpload(
-                uploadDetails,
-                uploadDetails.putObjectRequest.getPutObjectBody(),
-                uploadDetails.putObjectRequest.getContentLength());
+        return singleUpload(uploadDetails, uploadDetails.putObjectRequest.getContentLength());
     }
 
-    private UploadResponse singleUpload(
-            UploadRequest uploadDetails, InputStream stream, long contentLength) {
+    private UploadResponse singleUpload(UploadRequest uploadDetails, long contentLength) {
         final ProgressTrackerFactory progressTrackerFactory =
                 ProgressTrackerFactory.createSingleUploadProgressTrackerFactory(
                         uploadDetails.progressReporter, contentLength);
@@ -133,91 +136,253 @@ public class UploadManager {
                 new StreamChunkCreator(
                         request.getPutObjectBody(), request.getContentLength(), sizePerPart);
 
-        final ExecutorService executorServiceToUse;
-        final boolean shutdownExecutor;
-        if (uploadConfiguration.isAllowParallelUploads() && chunkCreator.supportsParallelReads()) {
-            if (uploadDetails.parallelUploadExecutorService != null) {
-                executorServiceToUse = uploadDetails.parallelUploadExecutorService;
-                shutdownExecutor = false;
-            } else {
-                executorServiceToUse = buildDefaultParallelExecutor();
-                shutdownExecutor = true;
-            }
-        } else {
-            // chunks must be processed in order, use a
-            // new single thread executor per upload request
-            executorServiceToUse = Executors.newSingleThreadExecutor();
-            shutdownExecutor = true;
-        }
+        // streams that cannot be read in parallel can still be uploaded in parallel if the
+        // parts are read ahead into buffers, and buffered parts only need to be read once to
+        // calculate the MD5 as well
+        final PartBufferPool readAheadBufferPool =
+                (!chunkCreator.supportsParallelReads()
+                                || uploadConfiguration.isEnforceMd5BeforeMultipartUpload())
+                        ? createReadAheadBufferPool(sizePerPart)
+                        : null;
+
+        final ExecutorService executorServiceToUse =
+                createExecutor(
+                        uploadDetails,
+                        chunkCreator.supportsParallelReads() || readAheadBufferPool != null);
+        final boolean shutdownExecutor =
+                executorServiceToUse != uploadDetails.parallelUploadExecutorService;
 
         MultipartObjectAssembler assembler =
                 createAssembler(request, uploadDetails, executorServiceToUse);
         MultipartManifest manifest = null;
         try {
-            manifest =
-                    assembler.newRequest(
-                            request.getContentType(),
-                            request.getContentLanguage(),
-                            request.getContentEncoding(),
-                            request.getOpcMeta());
+            manifest = newMultipartRequest(assembler, request);
+            Supplier<Boolean> uploadFailed = createUploadFailedCheck(manifest, executorServiceToUse);
 
             while (chunkCreator.hasMore()) {
-                StreamChunkCreator.SubRangeInputStream chunk = chunkCreator.next();
-                if (uploadConfiguration.isEnforceMd5BeforeMultipartUpload()) {
-                    MD5Calculation md5Calculation = calculateMd5(chunk, chunk.length());
-                    assembler.addPart(
-                            ProgressTrackingInputStreamFactory.create(
-                                    md5Calculation.streamToUse,
-                                    progressTrackerFactory.getProgressTracker()),
-                            chunk.length(),
-                            md5Calculation.md5);
+                StreamChunkCreator.ChunkInputStream chunk = chunkCreator.next();
+                InputStream partStream = chunk;
+                Runnable onCompletion = null;
+                String md5 = null;
+                if (readAheadBufferPool != null) {
+                    MessageDigest messageDigest =
+                            uploadConfiguration.isEnforceMd5BeforeMultipartUpload()
+                                    ? StreamHelper.createMd5MessageDigest()
+                                    : null;
+                    // waits for a buffer to be released if all are in use
+                    final ByteBuffer buffer = readAheadBufferPool.acquire(uploadFailed);
+                    try {
+                        PartBufferPool.fill(chunk, buffer, (int) chunk.length(), messageDigest);
+                    } finally {
+                        StreamUtils.closeQuietly(chunk);
+                    }
+                    partStream = new ByteBufferInputStream(buffer);
+                    onCompletion =
+                            new Runnable() {
+                                @Override
+                                public void run() {
+                                    readAheadBufferPool.release(buffer);
+                                }
+                            };
+                    if (messageDigest != null) {
+                        md5 = StreamHelper.base64Encode(messageDigest);
+                    }
+                } else if (uploadConfiguration.isEnforceMd5BeforeMultipartUpload()) {
+                    MD5Calculation md5Calculation = calculateMd5(partStream, chunk.length());
+                    partStream = md5Calculation.streamToUse;
+                    md5 = md5Calculation.md5;
+                }
+                InputStream partBody =
+                        ProgressTrackingInputStreamFactory.create(
+                                partStream, progressTrackerFactory.getProgressTracker());
+                if (onCompletion != null) {
+                    assembler.addPart(partBody, chunk.length(), md5, onCompletion);
                 } else {
-                    assembler.addPart(
-                            ProgressTrackingInputStreamFactory.create(
-                                    chunk, progressTrackerFactory.getProgressTracker()),
-                            chunk.length(),
-                            null);
+                    assembler.addPart(partBody, chunk.length(), md5);
                 }
             }
-            CommitMultipartUploadResponse response = assembler.commit();
-            return new UploadResponse(
-                    response.getETag(),
-                    null,
-                    response.getOpcMultipartMd5(),
-                    response.getOpcRequestId(),
-                    response.getOpcClientRequestId());
+            return commitMultipartRequest(assembler);
         } catch (Exception e) {
-            if (manifest != null) {
-                LOG.error(
-                        "Failed to upload object using multi-part uploads.  Failed part numbers = '{}'.  Successful parts = '{}'",
-                        manifest.listFailedParts(),
-                        manifest.listCompletedParts());
-
-                // try to abort uploads that failed to avoid creating lots of lingering uploads and parts.
-                if (uploadConfiguration.isDisableAutoAbort()) {
-                    LOG.info(
-                            "Not aborting failed multipart upload {} per configuration, client must manually abort it",
-                            manifest.getUploadId());
+            throw handleMultipartFailure(e, assembler, manifest);
+        } finally {
+            // always close the source stream at this point
+            StreamUtils.closeQuietly(uploadDetails.putObjectRequest.getPutObjectBody());
+
+            if (shutdownExecutor) {
+                executorServiceToUse.shutdownNow();
+            }
+        }
+    }
+
+    private UploadResponse uploadUnknownLength(UploadRequest uploadDetails) {
+        PutObjectRequest request = uploadDetails.putObjectRequest;
+        InputStream source = request.getPutObjectBody();
+
+        // read the stream into memory until it ends, or until it is known to be long enough for
+        // multi-part uploads (an empty stream is always uploaded with a single PutObject)
+        long multipartThreshold =
+                Math.max(
+                        1L,
+                        uploadConfiguration.getMinimumLengthForMultipartUpload()
+                                * MultipartUtils.MiB);
+        final int maxFirstBytes =
+                uploadConfiguration.isAllowMultipartUploads()
+                        ? (int) Math.min(multipartThreshold, MAX_BUFFER_LENGTH)
+                        : MAX_BUFFER_LENGTH;
+        ByteBuffer firstBytes;
+        boolean endOfStream;
+        try {
+            firstBytes = StreamHelper.readUpTo(source, maxFirstBytes);
+            endOfStream =
+                    firstBytes.remaining() < maxFirstBytes
+                            || (!uploadConfiguration.isAllowMultipartUploads()
+                                    && source.read() == -1);
+        } catch (IOException e) {
+            StreamUtils.closeQuietly(source);
+            throw new BmcException(false, "Failed to read the stream to upload", e, null);
+        }
+
+        if (endOfStream) {
+            StreamUtils.closeQuietly(source);
+            InputStream body = new ByteBufferInputStream(firstBytes);
+            UploadRequest singleUploadDetails =
+                    new UploadRequest(
+                            PutObjectRequest.builder()
+                                    .copy(request)
+                                    .putObjectBody(body)
+                                    .contentLength((long) firstBytes.remaining())
+                                    .build(),
+                            uploadDetails.parallelUploadExecutorService,
+                            uploadDetails.allowOverwrite,
+                            uploadDetails.progressReporter);
+            return singleUpload(singleUploadDetails, firstBytes.remaining());
+        }
+        if (!uploadConfiguration.isAllowMultipartUploads()) {
+            StreamUtils.closeQuietly(source);
+            throw new BmcException(
+                    false,
+                    "Stream without content length is larger than max buffer.  Allow multi-part uploads or provide the content length to avoid this problem",
+                    null,
+                    null);
+        }
+        return multipartUploadUnknownLength(uploadDetails, firstBytes);
+    }
+
+    private UploadResponse multipartUploadUnknownLength(
+            UploadRequest uploadDetails, ByteBuffer firstBytes) {
+        PutObjectRequest request = uploadDetails.putObjectRequest;
+        InputStream source = request.getPutObjectBody();
+        ProgressTrackerFactory progressTrackerFactory =
+                ProgressTrackerFactory.createMultiPartUploadProgressTrackerFactory(
+                        uploadDetails.progressReporter, -1L);
+
+        // every part is read into memory before it is uploaded, so the parts can always be
+        // uploaded in parallel
+        final ExecutorService executorServiceToUse = createExecutor(uploadDetails, true);
+        final boolean shutdownExecutor =
+                executorServiceToUse != uploadDetails.parallelUploadExecutorService;
+
+        MultipartObjectAssembler assembler =
+                createAssembler(request, uploadDetails, executorServiceToUse);
+        MultipartManifest manifest = null;
+        PartBufferPool bufferPool = null;
+        int bufferPoolPartSize = 0;
+        try {
+            manifest = newMultipartRequest(assembler, request);
+            Supplier<Boolean> uploadFailed = createUploadFailedCheck(manifest, executorServiceToUse);
+
+            boolean endOfStream = false;
+            for (int partNumber = 1; !endOfStream; partNumber++) {
+                if (partNumber > UploadConfiguration.MAXIMUM_NUM_ALLOWED_PARTS) {
+                    if (source.read() != -1) {
+                        throw new BmcException(
+                                false,
+                                "Stream is longer than what can be uploaded in "
+                                        + UploadConfiguration.MAXIMUM_NUM_ALLOWED_PARTS
+                                        + " parts",
+                                null,
+                                null);
+                    }
+                    break;
+                }
+                int partSize =
+                        MultipartUtils.calculatePartSizeForUnknownLength(
+                                uploadConfiguration, partNumber);
+                MessageDigest messageDigest =
+                        uploadConfiguration.isEnforceMd5BeforeMultipartUpload()
+                                ? StreamHelper.createMd5MessageDigest()
+                                : null;
+                final ByteBuffer partBuffer;
+                Runnable onCompletion = null;
+                if (firstBytes.remaining() >= partSize) {
+                    // the whole part was read before starting the upload
+                    partBuffer = firstBytes.slice();
+                    partBuffer.limit(partSize);
+                    firstBytes.position(firstBytes.position() + partSize);
+                    if (messageDigest != null) {
+                        messageDigest.update(partBuffer.duplicate());
+                    }
                 } else {
-                    try {
-                        assembler.abort();
-                    } catch (Exception e2) {
-                        LOG.warn(
-                                "Failed to abort multipart upload {} after failure to upload object",
-                                manifest.getUploadId(),
-                                e2);
+                    if (partSize != bufferPoolPartSize) {
+                        // the buffers of the smaller parts still in flight count against the
+                        // read ahead memory limit as well, so wait for them before allocating
+                        // the larger ones
+                        if (bufferPool != null) {
+                            bufferPool.drain(uploadFailed);
+                        }
+                        bufferPool = createUnknownLengthBufferPool(partSize);
+                        bufferPoolPartSize = partSize;
+                    }
+                    final PartBufferPool partBufferPool = bufferPool;
+                    // waits for a buffer to be released if all are in use
+                    partBuffer = partBufferPool.acquire(uploadFailed);
+                    if (firstBytes.hasRemaining()) {
+                        // the part starts with the rest of the bytes read before starting the
+                        // upload, which can be garbage collected once their parts are uploaded
+                        if (messageDigest != null) {
+                            messageDigest.update(firstBytes.duplicate());
+                        }
+                        partBuffer.put(firstBytes);
+                        firstBytes = ByteBuffer.allocate(0);
+                    }
+                    PartBufferPool.read(
+                            source, partBuffer, partSize - partBuffer.position(), messageDigest);
+                    onCompletion =
+                            new Runnable() {
+                                @Override
+                                public void run() {
+                                    partBufferPool.release(partBuffer);
+                                }
+                            };
+                    if (partBuffer.remaining() < partSize) {
+                        endOfStream = true;
+                        if (!partBuffer.hasRemaining()) {
+                            // the stream ended with the previous part
+                            onCompletion.run();
+                            break;
+                        }
                     }
                 }
-            }
 
-            if (e instanceof BmcException) {
-                throw e;
+                String md5 =
+                        (messageDigest != null) ? StreamHelper.base64Encode(messageDigest) : null;
+                long partLength = partBuffer.remaining();
+                InputStream partBody =
+                        ProgressTrackingInputStreamFactory.create(
+                                new ByteBufferInputStream(partBuffer),
+                                progressTrackerFactory.getProgressTracker());
+                if (onCompletion != null) {
+                    assembler.addPart(partBody, partLength, md5, onCompletion);
+                } else {
+                    assembler.addPart(partBody, partLength, md5);
+                }
             }
-            throw new BmcException(
-                    false, "Failed to upload object using multi-part uploads", e, null);
+            return commitMultipartRequest(assembler);
+        } catch (Exception e) {
+            throw handleMultipartFailure(e, assembler, manifest);
         } finally {
             // always close the source stream at this point
-            StreamUtils.closeQuietly(uploadDetails.putObjectRequest.getPutObjectBody());
+            StreamUtils.closeQuietly(source);
 
             if (shutdownExecutor) {
                 executorServiceToUse.shutdownNow();
@@ -225,6 +390,87 @@ public class UploadManager {
         }
     }
 
+    private ExecutorService createExecutor(UploadRequest uploadDetails, boolean parallelParts) {
+        if (uploadConfiguration.isAllowParallelUploads() && parallelParts) {
+            if (uploadDetails.parallelUploadExecutorService != null) {
+                return uploadDetails.parallelUploadExecutorService;
+            }
+            return buildDefaultParallelExecutor();
+        }
+        // chunks must be processed in order, use a
+        // new single thread executor per upload request
+        return Executors.newSingleThreadExecutor();
+    }
+
+    /**
+     * Creates the check that tells the thread reading the source stream to stop waiting for a part
+     * buffer, because the upload failed or the parts holding the buffers will never run.
+     */
+    private static Supplier<Boolean> createUploadFailedCheck(
+            final MultipartManifest manifest, final ExecutorService executorService) {
+        return new Supplier<Boolean>() {
+            @Override
+            public Boolean get() {
+                return manifest.isUploadAborted()
+                        || !manifest.listFailedParts().isEmpty()
+                        || executorService.isTerminated();
+            }
+        };
+    }
+
+    private static MultipartManifest newMultipartRequest(
+            MultipartObjectAssembler assembler, PutObjectRequest request) {
+        return assembler.newRequest(
+                request.getContentType(),
+                request.getContentLanguage(),
+                request.getContentEncoding(),
+                request.getOpcMeta());
+    }
+
+    private static UploadResponse commitMultipartRequest(MultipartObjectAssembler assembler) {
+        CommitMultipartUploadResponse response = assembler.commit();
+        return new UploadResponse(
+                response.getETag(),
+                null,
+                response.getOpcMultipartMd5(),
+                response.getOpcRequestId(),
+                response.getOpcClientRequestId());
+    }
+
+    private BmcException handleMultipartFailure(
+            Exception e, MultipartObjectAssembler assembler, MultipartManifest manifest) {
+        if (e instanceof InterruptedException) {
+            Thread.currentThread().interrupt();
+        }
+        if (manifest != null) {
+            LOG.error(
+                    "Failed to upload object using multi-part uploads.  Failed part numbers = '{}'.  Successful parts = '{}'",
+                    manifest.listFailedParts(),
+                    manifest.listCompletedParts());
+
+            // try to abort uploads that failed to avoid creating lots of lingering uploads and parts.
+            if (uploadConfiguration.isDisableAutoAbort()) {
+                LOG.info(
+                        "Not aborting failed multipart upload {} per configuration, client must manually abort it",
+                        manifest.getUploadId());
+            } else {
+                try {
+                    assembler.abort();
+                } catch (Exception e2) {
+                    LOG.warn(
+                            "Failed to abort multipart upload {} after failure to upload object",
+                            manifest.getUploadId(),
+                            e2);
+                }
+            }
+        }
+
+        if (e instanceof BmcException) {
+            return (BmcException) e;
+        }
+        return new BmcException(false, "Failed to upload object using multi-part uploads", e, null);
+    }
+
     @VisibleForTesting
     protected MultipartObjectAssembler createAssembler(
             PutObjectRequest request,
@@ -242,6 +488,36 @@ public class UploadManager {
                 .build();
     }
 
+    private PartBufferPool createReadAheadBufferPool(long sizePerPart) {
+        int bufferCount =
+                PartBufferPool.calculateBufferCount(
+                        uploadConfiguration.getReadAheadMemoryLimit() * MultipartUtils.MiB,
+                        sizePerPart);
+        if (bufferCount < 2) {
+            if (uploadConfiguration.getReadAheadMemoryLimit() > 0) {
+                LOG.info(
+                        "Read ahead memory limit of {} MiB does not allow 2 parts of {} bytes, uploading parts one at a time",
+                        uploadConfiguration.getReadAheadMemoryLimit(),
+                        sizePerPart);
+            }
+            return null;
+        }
+        return new PartBufferPool(
+                bufferCount, (int) sizePerPart, uploadConfiguration.isUseDirectReadAheadBuffers());
+    }
+
+    private PartBufferPool createUnknownLengthBufferPool(int partSize) {
+        // parts must be buffered to know their length, so there is always at least one buffer
+        int bufferCount =
+                Math.max(
+                        1,
+                        PartBufferPool.calculateBufferCount(
+                                uploadConfiguration.getReadAheadMemoryLimit() * MultipartUtils.MiB,
+                                partSize));
+        return new PartBufferPool(
+                bufferCount, partSize, uploadConfiguration.isUseDirectReadAheadBuffers());
+    }
+
     private static ExecutorService buildDefaultParallelExecutor() {
         return Executors.newFixedThreadPool(
                 DEFAULT_NUM_MULTIPART_THREADS_PER_REQUEST,
@@ -258,9 +534,7 @@ public class UploadManager {
         if (stream instanceof DuplicatableInputStream) {
             md5 =
                     performMd5Calculation(
-                            ((DuplicatableInputStream) stream).duplicate(),
-                            new StreamHelper.NullOutputStream(),
-                            contentLength);
+                            ((DuplicatableInputStream) stream).duplicate(), null, contentLength);
             streamToReturn = stream;
         } else {
             LOG.info(
@@ -275,9 +549,10 @@ public class UploadManager {
                         null);
             }
             try {
-                ByteArrayOutputStream baos = new ByteArrayOutputStream(contentLength.intValue());
-                md5 = performMd5Calculation(stream, baos, contentLength);
-                streamToReturn = StreamUtils.createByteArrayInputStream(baos.toByteArray());
+                // the MD5 is calculated while copying, the stream is only read once
+                byte[] content = new byte[contentLength.intValue()];
+                md5 = performMd5Calculation(stream, content, contentLength);
+                streamToReturn = StreamUtils.createByteArrayInputStream(content);
             } catch (OutOfMemoryError oom) {
                 OutOfMemoryError newOom =
                         new OutOfMemoryError(
@@ -290,12 +565,11 @@ public class UploadManager {
     }
 
     private static String performMd5Calculation(
-            InputStream stream, OutputStream outputStream, long contentLength) {
-        DigestOutputStream digestOutputStream =
-                StreamHelper.createMd5MessageOutputStream(outputStream);
+            InputStream stream, byte[] content, long contentLength) {
+        MessageDigest messageDigest = StreamHelper.createMd5MessageDigest();
         long bytesCopied;
         try {
-            bytesCopied = StreamHelper.copy(stream, digestOutputStream);
+            bytesCopied = StreamHelper.digest(stream, messageDigest, content);
         } catch (IOException e) {
             throw new BmcException(false, "Unable to calculate MD5", e, null);
         }
@@ -309,7 +583,7 @@ public class UploadManager {
                     null,
                     null);
         }
-        return StreamHelper.base64Encode(digestOutputStream.getMessageDigest());
+        return StreamHelper.base64Encode(messageDigest);
     }
 
     @RequiredArgsConstructor
@@ -334,6 +608,22 @@ public class UploadManager {
             return new UploadRequestBuilder(stream, contentLength);
         }
 
+        /**
+         * Creates a new {@link UploadRequestBuilder} using the given stream, for a stream whose content length is not
+         * known in advance.  The stream will be used to create the final put object request.
+         * <p>
+         * The stream is read into memory until it ends, or until it is long enough for multi-part uploads (see
+         * {@link UploadConfiguration#getMinimumLengthForMultipartUpload()}).  A shorter stream is uploaded with a
+         * single PutObject call.  Otherwise, every part is read into memory before it is uploaded, and the part size
+         * grows with the number of parts so that the maximum number of parts is not exceeded.
+         *
+         * @param stream The stream that should be uploaded.
+         * @return a new UploadRequestBuilder instance.
+         */
+        public static UploadRequestBuilder builder(InputStream stream) {
+            return new UploadRequestBuilder(stream, null);
+        }
+
         /**
          * Creates a new {@link UploadRequestBuilder} using the given file.  The file and length (derived from {@link File#length()})
          * will be used to create the final put object request.
@@ -354,7 +644,8 @@ public class UploadManager {
         @RequiredArgsConstructor
         public static class UploadRequestBuilder {
             private final InputStream inputStream;
-            private final long contentLength;
+            // null if not known
+            private final Long contentLength;
 
             // always allow objects to be overwritten unless explicitly disabled
             private boolean allowOverwrite = true;
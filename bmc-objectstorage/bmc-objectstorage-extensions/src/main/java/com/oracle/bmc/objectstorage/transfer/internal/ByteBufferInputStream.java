@@ -0,0 +1,87 @@
+/**
+ * Copyright (c) 2016, 2019, Oracle and/or its affiliates. All rights reserved.
+ */
+package com.oracle.bmc.objectstorage.transfer.internal;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+import com.oracle.bmc.io.DuplicatableInputStream;
+
+/**
+ * InputStream over the remaining bytes of a ByteBuffer, heap or direct.  The buffer itself is not
+ * modified, so the stream can be duplicated (ex, for retries) as long as the buffer content is
+ * not replaced.
+ * <p>
+ * This version also support mark/reset.
+ */
+public class ByteBufferInputStream extends InputStream implements DuplicatableInputStream {
+    private final ByteBuffer source;
+    private final ByteBuffer buffer;
+
+    private int markPosition;
+
+    /**
+     * Creates a new stream.
+     *
+     * @param source The buffer to read from, from its position to its limit.
+     */
+    public ByteBufferInputStream(ByteBuffer source) {
+        this.source = source;
+        this.buffer = source.duplicate();
+        this.markPosition = buffer.position();
+    }
+
+    @Override
+    public int read() {
+        if (!buffer.hasRemaining()) {
+            return -1;
+        }
+        return buffer.get() & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) {
+        if (len == 0) {
+            return 0;
+        }
+        if (!buffer.hasRemaining()) {
+            return -1;
+        }
+        int bytesRead = Math.min(len, buffer.remaining());
+        buffer.get(b, off, bytesRead);
+        return bytesRead;
+    }
+
+    @Override
+    public long skip(long n) {
+        int bytesSkipped = (int) Math.max(0, Math.min(n, buffer.remaining()));
+        buffer.position(buffer.position() + bytesSkipped);
+        return bytesSkipped;
+    }
+
+    @Override
+    public int available() {
+        return buffer.remaining();
+    }
+
+    @Override
+    public boolean markSupported() {
+        return true;
+    }
+
+    @Override
+    public synchronized void mark(int readlimit) {
+        markPosition = buffer.position();
+    }
+
+    @Override
+    public synchronized void reset() {
+        buffer.position(markPosition);
+    }
+
+    @Override
+    public InputStream duplicate() {
+        return new ByteBufferInputStream(source);
+    }
+}
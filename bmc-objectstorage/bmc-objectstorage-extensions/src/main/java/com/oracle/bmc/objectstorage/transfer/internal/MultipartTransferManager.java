@@ -11,6 +11,8 @@ import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import com.oracle.bmc.objectstorage.requests.UploadPartRequest;
 import com.oracle.bmc.objectstorage.responses.UploadPartResponse;
@@ -31,44 +33,79 @@ public class MultipartTransferManager {
     private final MultipartManifestImpl manifest;
     private final SimpleRetry simpleRetry;
 
-    private final List<Future<Void>> responses = new ArrayList<>();
+    private final List<Transfer> responses = new ArrayList<>();
 
-    public synchronized void startTransfer(final UploadPartRequest request) {
+    public void startTransfer(UploadPartRequest request) {
+        startTransfer(request, null);
+    }
+
+    /**
+     * Starts the transfer of a part.
+     *
+     * @param request The request to upload the part
+     * @param onCompletion Callback to run once the transfer completed, successfully or not,
+     *                     optional.  It is also run if the executor rejects the transfer, or if the
+     *                     transfer is cancelled by {@link #abortAll()} before it started.
+     */
+    public synchronized void startTransfer(
+            final UploadPartRequest request, final Runnable onCompletion) {
         if (executor.isShutdown()) {
+            runQuietly(onCompletion);
             throw new CancellationException("Executor used for transfers has been shutdown");
         }
         manifest.registerTransfer(request.getUploadPartNum());
 
-        Future<Void> futureResponse =
-                executor.submit(
-                        new Callable<Void>() {
-                            @Override
-                            public Void call() throws Exception {
-                                try {
-                                    // Use a random sleep before each part begins upload.  Too many concurrent requests
-                                    // starting around the same time leads to 409 conflicts.
-                                    Thread.sleep(
-                                            random.nextInt(
-                                                    MAX_RANDOM_SLEEP_BEFORE_UPLOAD_START_MS));
-                                    UploadPartResponse response =
-                                            simpleRetry.createUploadPartFunction().apply(request);
-                                    manifest.registerSuccess(request.getUploadPartNum(), response);
-                                } catch (Exception e) {
-                                    LOG.error(
-                                            "Failed to upload part " + request.getUploadPartNum(),
-                                            e);
-                                    manifest.registerFailure(request.getUploadPartNum());
+        // claimed by either the transfer when it starts, or abortAll if it cancels the transfer
+        // first, so the callback runs exactly once
+        final AtomicBoolean claimed = new AtomicBoolean();
+        Future<Void> futureResponse;
+        try {
+            futureResponse =
+                    executor.submit(
+                            new Callable<Void>() {
+                                @Override
+                                public Void call() throws Exception {
+                                    if (!claimed.compareAndSet(false, true)) {
+                                        return null;
+                                    }
+                                    try {
+                                        // Use a random sleep before each part begins upload.  Too many concurrent requests
+                                        // starting around the same time leads to 409 conflicts.
+                                        Thread.sleep(
+                                                random.nextInt(
+                                                        MAX_RANDOM_SLEEP_BEFORE_UPLOAD_START_MS));
+                                        UploadPartResponse response =
+                                                simpleRetry
+                                                        .createUploadPartFunction()
+                                                        .apply(request);
+                                        manifest.registerSuccess(
+                                                request.getUploadPartNum(), response);
+                                    } catch (Exception e) {
+                                        LOG.error(
+                                                "Failed to upload part "
+                                                        + request.getUploadPartNum(),
+                                                e);
+                                        manifest.registerFailure(request.getUploadPartNum());
+                                    } finally {
+                                        if (onCompletion != null) {
+                                            onCompletion.run();
+                                        }
+                                    }
+                                    return null;
                                 }
-                                return null;
-                            }
-                        });
-        responses.add(futureResponse);
+                            });
+        } catch (RejectedExecutionException e) {
+            manifest.registerFailure(request.getUploadPartNum());
+            runQuietly(onCompletion);
+            throw e;
+        }
+        responses.add(new Transfer(futureResponse, claimed, onCompletion));
     }
 
     public void awaitCompletion() {
-        for (Future<Void> f : responses) {
+        for (Transfer transfer : responses) {
             try {
-                f.get();
+                transfer.future.get();
             } catch (InterruptedException e) {
                 LOG.info("Thread interrupted while waiting for transfer completion", e);
                 Thread.currentThread().interrupt();
@@ -80,8 +117,29 @@ public class MultipartTransferManager {
     }
 
     public void abortAll() {
-        for (Future<Void> f : responses) {
-            f.cancel(true);
+        for (Transfer transfer : responses) {
+            transfer.future.cancel(true);
+            if (transfer.claimed.compareAndSet(false, true)) {
+                // the transfer never started and will not run, run its callback instead
+                runQuietly(transfer.onCompletion);
+            }
         }
     }
+
+    private static void runQuietly(Runnable onCompletion) {
+        if (onCompletion != null) {
+            try {
+                onCompletion.run();
+            } catch (RuntimeException e) {
+                LOG.warn("Failed to run the completion callback of a transfer", e);
+            }
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class Transfer {
+        private final Future<Void> future;
+        private final AtomicBoolean claimed;
+        private final Runnable onCompletion;
+    }
 }
@@ -22,6 +22,14 @@ public final class MultipartUtils {
      * https://docs.cloud.oracle.com/iaas/Content/Object/Tasks/usingmultipartuploads.htm
      */
     static final long MAX_SUPPORTED_CONTENT_LENGTH = 10L * MiB * MiB; // 10 TiB
+    /*
+     * When the content length is not known, every part is read into memory before it is uploaded,
+     * so a part cannot be larger than the largest buffer.  The part size doubles every 400 parts,
+     * which is enough to reach the max supported content length within the max number of parts,
+     * even when starting from the smallest allowed part size.
+     */
+    static final long MAX_UNKNOWN_LENGTH_PART_SIZE = 2047L * MiB;
+    static final int PARTS_PER_UNKNOWN_LENGTH_PART_SIZE = 400;
 
     /**
      * Test whether an object of a given size is large enough to warrant using multi-part uploads.
@@ -56,6 +64,32 @@ public final class MultipartUtils {
                 : fetchSizePerPartBasedOnMaxAllowed(contentLength, configuredSizePerPart);
     }
 
+    /**
+     * Calculate the part size, in bytes, of a part of an object whose length is not known in advance.
+     * The part size starts at the configured part size and grows with the part number, so that
+     * {@link UploadConfiguration#MAXIMUM_NUM_ALLOWED_PARTS} parts are enough for any object up to the
+     * max supported content length.
+     *
+     * @param config The configuration to use.
+     * @param partNumber The part number, starting at 1.
+     * @return The part size to use.
+     */
+    public static int calculatePartSizeForUnknownLength(
+            @NonNull UploadConfiguration config, int partNumber) {
+        Validate.inclusiveBetween(
+                1,
+                UploadConfiguration.MAXIMUM_NUM_ALLOWED_PARTS,
+                partNumber,
+                String.format(
+                        "Part number [%s] must be between 1-%s (inclusive)",
+                        partNumber,
+                        UploadConfiguration.MAXIMUM_NUM_ALLOWED_PARTS));
+
+        final long configuredSizePerPart = config.getLengthPerUploadPart() * MiB;
+        final int doublings = (partNumber - 1) / PARTS_PER_UNKNOWN_LENGTH_PART_SIZE;
+        return (int) Math.min(configuredSizePerPart << doublings, MAX_UNKNOWN_LENGTH_PART_SIZE);
+    }
+
     /**
      * Test whether or not the MD5 value should be calculated for the given request when issuing a single
      * upload (non-multipart) request.
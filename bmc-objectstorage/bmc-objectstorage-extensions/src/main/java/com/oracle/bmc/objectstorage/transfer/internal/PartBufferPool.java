@@ -0,0 +1,249 @@
+/**
+ * Copyright (c) 2016, 2019, Oracle and/or its affiliates. All rights reserved.
+ */
+package com.oracle.bmc.objectstorage.transfer.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.security.MessageDigest;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.Validate;
+
+import com.google.common.base.Supplier;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * PartBufferPool holds a bounded number of buffers used to read parts of a stream ahead of
+ * their upload.  Buffers are allocated as they are first needed, and then reused.
+ * <p>
+ * Buffers must be acquired by a single thread (the one reading the source stream), but can be
+ * released by any thread.
+ */
+@Slf4j
+public class PartBufferPool {
+    private static final long FAILURE_CHECK_INTERVAL_MS = 500;
+
+    private final int bufferCount;
+    private final int bufferLength;
+    private final boolean direct;
+    private final BlockingQueue<ByteBuffer> freeBuffers;
+
+    private int allocatedBuffers = 0;
+
+    /**
+     * Creates a new pool.
+     *
+     * @param bufferCount The maximum number of buffers.
+     * @param bufferLength The length of each buffer in bytes.
+     * @param direct true to allocate direct buffers, false for heap buffers.
+     */
+    public PartBufferPool(int bufferCount, int bufferLength, boolean direct) {
+        Validate.isTrue(bufferCount > 0, "bufferCount must be greater than 0");
+        Validate.isTrue(bufferLength > 0, "bufferLength must be greater than 0");
+        this.bufferCount = bufferCount;
+        this.bufferLength = bufferLength;
+        this.direct = direct;
+        this.freeBuffers = new ArrayBlockingQueue<>(bufferCount);
+    }
+
+    /**
+     * Calculates how many buffers of the given length fit in the memory limit.
+     *
+     * @param memoryLimit The memory limit in bytes.
+     * @param bufferLength The length of each buffer in bytes.
+     * @return The number of buffers, 0 if a buffer cannot be larger than 2 GiB.
+     */
+    public static int calculateBufferCount(long memoryLimit, long bufferLength) {
+        if (bufferLength > Integer.MAX_VALUE) {
+            return 0;
+        }
+        return (int) Math.min(Integer.MAX_VALUE, memoryLimit / bufferLength);
+    }
+
+    /**
+     * Acquires a buffer, waiting for one to be released if all buffers are in use.
+     *
+     * @return An empty buffer.
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    public ByteBuffer acquire() throws InterruptedException {
+        return acquire(null);
+    }
+
+    /**
+     * Acquires a buffer, waiting for one to be released if all buffers are in use.  While waiting,
+     * the failure check is polled, so waiting is given up once the buffers in use may never be
+     * released.
+     *
+     * @param failed Returns true if waiting should be given up, optional.
+     * @return An empty buffer.
+     * @throws InterruptedException if interrupted while waiting.
+     * @throws CancellationException if waiting was given up.
+     */
+    public ByteBuffer acquire(Supplier<Boolean> failed) throws InterruptedException {
+        ByteBuffer buffer = freeBuffers.poll();
+        if (buffer == null) {
+            if (allocatedBuffers < bufferCount) {
+                allocatedBuffers++;
+                LOG.debug("Allocating part buffer {} of {}", allocatedBuffers, bufferCount);
+                buffer =
+                        direct
+                                ? ByteBuffer.allocateDirect(bufferLength)
+                                : ByteBuffer.allocate(bufferLength);
+            } else {
+                buffer = takeFreeBuffer(failed);
+            }
+        }
+        buffer.clear();
+        return buffer;
+    }
+
+    /**
+     * Releases a buffer acquired from this pool, so it can be acquired again.
+     *
+     * @param buffer The buffer to release.
+     */
+    public void release(ByteBuffer buffer) {
+        if (!freeBuffers.offer(buffer)) {
+            throw new IllegalStateException("Buffer released more than once");
+        }
+    }
+
+    /**
+     * Waits until all buffers acquired from this pool were released, and drops them, so their
+     * memory can be reclaimed before the buffers of another pool are allocated.  The pool can
+     * still be used afterwards, and allocates buffers again as they are needed.
+     * <p>
+     * Must be called by the thread that acquires the buffers.
+     *
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    public void drain() throws InterruptedException {
+        drain(null);
+    }
+
+    /**
+     * Like {@link #drain()}, but polls the failure check while waiting, so waiting is given up
+     * once the buffers in use may never be released.
+     *
+     * @param failed Returns true if waiting should be given up, optional.
+     * @throws InterruptedException if interrupted while waiting.
+     * @throws CancellationException if waiting was given up.
+     */
+    public void drain(Supplier<Boolean> failed) throws InterruptedException {
+        while (allocatedBuffers > 0) {
+            takeFreeBuffer(failed);
+            allocatedBuffers--;
+        }
+    }
+
+    private ByteBuffer takeFreeBuffer(Supplier<Boolean> failed) throws InterruptedException {
+        if (failed == null) {
+            return freeBuffers.take();
+        }
+        while (true) {
+            ByteBuffer buffer = freeBuffers.poll(FAILURE_CHECK_INTERVAL_MS, TimeUnit.MILLISECONDS);
+            if (buffer != null) {
+                return buffer;
+            }
+            if (failed.get()) {
+                throw new CancellationException(
+                        "Gave up waiting for a part buffer, the upload failed");
+            }
+        }
+    }
+
+    /**
+     * Reads the next part of a stream into a buffer, and flips the buffer so it can be read.
+     *
+     * @param stream The stream to read from.
+     * @param buffer The buffer to fill.
+     * @param length The length of the part, at most the buffer capacity.
+     * @throws IOException if the stream cannot be read, or ends before the part is complete.
+     */
+    public static void fill(InputStream stream, ByteBuffer buffer, int length) throws IOException {
+        fill(stream, buffer, length, null);
+    }
+
+    /**
+     * Reads the next part of a stream into a buffer, and flips the buffer so it can be read.
+     * The digest is updated with the bytes as they are read, so the part does not need to be
+     * read again to calculate it.
+     *
+     * @param stream The stream to read from.
+     * @param buffer The buffer to fill.
+     * @param length The length of the part, at most the buffer capacity.
+     * @param digest The digest to update, optional.
+     * @throws IOException if the stream cannot be read, or ends before the part is complete.
+     */
+    public static void fill(InputStream stream, ByteBuffer buffer, int length, MessageDigest digest)
+            throws IOException {
+        int bytesRead = read(stream, buffer, length, digest);
+        if (bytesRead < length) {
+            throw new IOException(
+                    "Stream ended after "
+                            + bytesRead
+                            + " bytes of a part of "
+                            + length
+                            + " bytes");
+        }
+    }
+
+    /**
+     * Reads the next part of a stream into a buffer, until the part is complete or the stream
+     * ends, and flips the buffer so it can be read.  Bytes already in the buffer are kept before
+     * the bytes read.
+     *
+     * @param stream The stream to read from.
+     * @param buffer The buffer to fill.
+     * @param length The maximum number of bytes to read, at most the remaining buffer capacity.
+     * @param digest The digest to update with the bytes read, optional.
+     * @return The number of bytes read, less than the length only if the stream ended.
+     * @throws IOException if the stream cannot be read.
+     */
+    public static int read(InputStream stream, ByteBuffer buffer, int length, MessageDigest digest)
+            throws IOException {
+        int start = buffer.position();
+        buffer.limit(start + length);
+        if (buffer.hasArray()) {
+            // read straight into the heap buffer
+            while (buffer.hasRemaining()) {
+                int offset = buffer.arrayOffset() + buffer.position();
+                int bytesRead = stream.read(buffer.array(), offset, buffer.remaining());
+                if (bytesRead == -1) {
+                    break;
+                }
+                if (digest != null) {
+                    digest.update(buffer.array(), offset, bytesRead);
+                }
+                buffer.position(buffer.position() + bytesRead);
+            }
+        } else {
+            // the channel is not closed, that would close the stream as well
+            ReadableByteChannel channel = Channels.newChannel(stream);
+            while (buffer.hasRemaining()) {
+                int position = buffer.position();
+                if (channel.read(buffer) == -1) {
+                    break;
+                }
+                if (digest != null) {
+                    ByteBuffer bytesRead = buffer.duplicate();
+                    bytesRead.flip();
+                    bytesRead.position(position);
+                    digest.update(bytesRead);
+                }
+            }
+        }
+        int bytesRead = buffer.position() - start;
+        buffer.flip();
+        return bytesRead;
+    }
+}
@@ -4,16 +4,24 @@
 package com.oracle.bmc.objectstorage.transfer.internal;
 
 import com.oracle.bmc.io.DuplicatableInputStream;
+import com.oracle.bmc.io.internal.WrappedFileInputStream;
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
 
 @Slf4j
 public class StreamChunkCreator {
     private final InputStream source;
     private final long chunkLength;
     private final long sourceLength;
+    // set when the source is a file opened by the SDK, chunks then read from it at their position
+    private final File sourceFile;
+    private final long sourceFileOffset;
 
     private long startPosition = 0;
     private long endPosition = 0;
@@ -22,6 +30,22 @@ public class StreamChunkCreator {
         this.source = stream;
         this.sourceLength = contentLength;
         this.chunkLength = chunkLength;
+
+        // only the stream class itself is known to read the file as is, subclasses may override
+        // how the file is read
+        File file = null;
+        long fileOffset = 0;
+        if (stream != null && stream.getClass() == WrappedFileInputStream.class) {
+            try {
+                // the content starts wherever the stream is now
+                fileOffset = ((WrappedFileInputStream) stream).getChannel().position();
+                file = ((WrappedFileInputStream) stream).getSourceFile();
+            } catch (IOException e) {
+                LOG.warn("Could not get the position of the file, reading it as a stream", e);
+            }
+        }
+        this.sourceFile = file;
+        this.sourceFileOffset = fileOffset;
     }
 
     /**
@@ -32,7 +56,7 @@ public class StreamChunkCreator {
      * @return true if parallel reads could be enabled, false if they could not.
      */
     public boolean supportsParallelReads() {
-        return isSrcStreamDuplicable();
+        return sourceFile != null || isSrcStreamDuplicable();
     }
 
     private boolean isSrcStreamDuplicable() {
@@ -56,7 +80,7 @@ public class StreamChunkCreator {
      *
      * @return The next chunk.
      */
-    public SubRangeInputStream next() {
+    public ChunkInputStream next() {
         if (!hasMore()) {
             throw new IllegalStateException("No more chunks can be created");
         }
@@ -68,10 +92,17 @@ public class StreamChunkCreator {
             endPosition = sourceLength;
         }
 
-        SubRangeInputStream rangeInputStream = null;
+        ChunkInputStream rangeInputStream = null;
 
-        // always use duplicated stream when possible, even if parallel reads not enabled
-        if (isSrcStreamDuplicable()) {
+        // files are read at the position of the chunk, each chunk with its own channel
+        if (sourceFile != null) {
+            rangeInputStream =
+                    new FileChannelSubRangeInputStream(
+                            sourceFile,
+                            sourceFileOffset + startPosition,
+                            sourceFileOffset + endPosition);
+        } else if (isSrcStreamDuplicable()) {
+            // always use duplicated stream when possible, even if parallel reads not enabled
             rangeInputStream =
                     new DuplicatedSubRangeInputStream(
                             (DuplicatableInputStream) source, startPosition, endPosition);
@@ -134,11 +165,130 @@ public class StreamChunkCreator {
         }
     }
 
+    /**
+     * A chunk returned by {@link #next()}: a stream of a sub range of the source, and its length.
+     */
+    public abstract static class ChunkInputStream extends InputStream {
+        /**
+         * Returns the length of this stream.
+         * @return The length in bytes.
+         */
+        public abstract long length();
+    }
+
+    /**
+     * A chunk that reads a sub range of a file with positional reads on its own FileChannel,
+     * opened on the first read, so it does not have to skip to the start of the range.  Chunks
+     * can be read in parallel, and duplicated (ex, for retries).
+     * <p>
+     * A thread interrupted while reading closes the channel, and the read fails with a
+     * {@link java.nio.channels.ClosedByInterruptException}.  Only this chunk is affected, a
+     * duplicate opens the file again.  Closing this stream closes its channel.
+     */
+    public static class FileChannelSubRangeInputStream extends ChunkInputStream
+            implements DuplicatableInputStream {
+        private final File file;
+        private final long startPosition;
+        private final long endPosition;
+
+        private FileChannel channel;
+        private long position;
+        private long markPosition;
+
+        public FileChannelSubRangeInputStream(File file, long startPosition, long endPosition) {
+            this.file = file;
+            this.startPosition = startPosition;
+            this.endPosition = endPosition;
+            this.position = startPosition;
+            this.markPosition = startPosition;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] bytes = new byte[1];
+            int bytesRead = read(bytes, 0, 1);
+
+            if (bytesRead == -1) {
+                return bytesRead;
+            }
+            return bytes[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            long bytesRemaining = endPosition - position;
+            if (bytesRemaining <= 0) {
+                return -1;
+            }
+            if (len == 0) {
+                return 0;
+            }
+
+            if (bytesRemaining < len) {
+                len = (int) bytesRemaining;
+            }
+            if (channel == null) {
+                channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+            }
+            int bytesRead = channel.read(ByteBuffer.wrap(b, off, len), position);
+            if (bytesRead > 0) {
+                position += bytesRead;
+            }
+            return bytesRead;
+        }
+
+        @Override
+        public long length() {
+            return endPosition - startPosition;
+        }
+
+        @Override
+        public long skip(long n) {
+            long bytesSkipped = Math.max(0, Math.min(n, endPosition - position));
+            position += bytesSkipped;
+            return bytesSkipped;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return true;
+        }
+
+        @Override
+        public synchronized void mark(int readlimit) {
+            markPosition = position;
+        }
+
+        @Override
+        public synchronized void reset() {
+            position = markPosition;
+        }
+
+        @Override
+        public int available() {
+            return (int) Math.min(Integer.MAX_VALUE, Math.max(0, endPosition - position));
+        }
+
+        @Override
+        public void close() throws IOException {
+            LOG.debug("Total bytes read {}, expected bytes {}", position - startPosition, length());
+            if (channel != null) {
+                channel.close();
+                channel = null;
+            }
+        }
+
+        @Override
+        public InputStream duplicate() {
+            return new FileChannelSubRangeInputStream(file, startPosition, endPosition);
+        }
+    }
+
     /**
      * Creates a new SubRangeInputStream that represents a sub-range of bytes from another InputStream.
      * It's assumed the sub range stream can only be read once, and a sub range of bytes from another input stream.
      */
-    public static class SubRangeInputStream extends InputStream {
+    public static class SubRangeInputStream extends ChunkInputStream {
         // used to advance the start offset to the desired offset.
         private static final int MAX_SKIP_ATTEMPTS = 50;
 
@@ -210,10 +360,7 @@ public class StreamChunkCreator {
             return bytesRead;
         }
 
-        /**
-         * Returns the length of this stream.
-         * @return The length in bytes.
-         */
+        @Override
         public long length() {
             return desiredEndPositionInSource - desiredStartPositionInSource;
         }
@@ -6,8 +6,10 @@ package com.oracle.bmc.objectstorage.transfer.internal;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.security.DigestOutputStream;
 import java.security.MessageDigest;
+import java.util.Arrays;
 
 import org.apache.commons.codec.binary.Base64;
 import org.apache.commons.codec.digest.DigestUtils;
@@ -49,6 +51,84 @@ public class StreamHelper {
         }
     }
 
+    /**
+     * Reads the input stream into memory, until the stream ends or the
+     * maximum length is reached. The buffer grows as bytes are read, so a
+     * short stream does not need a buffer of the maximum length. The input
+     * stream is not closed.
+     *
+     * @param in
+     *            The stream to read.
+     * @param maxLength
+     *            The maximum number of bytes to read.
+     * @return a buffer with the bytes read, ready to be read.
+     * @throws IOException
+     *             if there were any issues
+     */
+    public static ByteBuffer readUpTo(InputStream in, int maxLength) throws IOException {
+        byte[] content = new byte[Math.min(maxLength, BUFFER_SIZE)];
+        int offset = 0;
+        while (offset < maxLength) {
+            if (offset == content.length) {
+                content = Arrays.copyOf(content, (int) Math.min(maxLength, 2L * content.length));
+            }
+            int bytesRead = in.read(content, offset, content.length - offset);
+            if (bytesRead == -1) {
+                break;
+            }
+            offset += bytesRead;
+        }
+        return ByteBuffer.wrap(content, 0, offset);
+    }
+
+    /**
+     * Reads the input stream into the digest, and copies it into the content
+     * buffer at the same time if one is given, so the stream is only read once.
+     * The input stream will be closed in both successful or failure cases.
+     *
+     * @param in
+     *            The stream to read.
+     * @param digest
+     *            The digest to update.
+     * @param content
+     *            The buffer to copy the stream into, optional. The stream
+     *            is expected to fill it exactly.
+     * @return the number of bytes read. If a content buffer is given and the
+     *         stream does not fit into it, the buffer length + 1.
+     * @throws IOException
+     *             if there were any issues
+     */
+    public static long digest(InputStream in, MessageDigest digest, byte[] content)
+            throws IOException {
+        try {
+            if (content == null) {
+                byte[] buffer = new byte[BUFFER_SIZE];
+                long bytesDigested = 0;
+                int bytesRead = 0;
+                while (-1 != (bytesRead = in.read(buffer))) {
+                    digest.update(buffer, 0, bytesRead);
+                    bytesDigested += bytesRead;
+                }
+                return bytesDigested;
+            }
+
+            int offset = 0;
+            int bytesRead = 0;
+            while (offset < content.length
+                    && -1 != (bytesRead = in.read(content, offset, content.length - offset))) {
+                digest.update(content, offset, bytesRead);
+                offset += bytesRead;
+            }
+            if (offset == content.length && in.read() != -1) {
+                // more bytes than expected
+                return offset + 1L;
+            }
+            return offset;
+        } finally {
+            StreamUtils.closeQuietly(in);
+        }
+    }
+
     /**
      * Base64 encodes the given byte array after computing its MD5 digest.
      * @param buffer The buffer to encode
@@ -67,6 +147,14 @@ public class StreamHelper {
         return new DigestOutputStream(stream, DigestUtils.getDigest(MessageDigestAlgorithms.MD5));
     }
 
+    /**
+     * Creates a MessageDigest for MD5.
+     * @return A new MessageDigest
+     */
+    public static MessageDigest createMd5MessageDigest() {
+        return DigestUtils.getDigest(MessageDigestAlgorithms.MD5);
+    }
+
     /**
      * Base64 encodes the digest (resets the digest).
      *
@@ -0,0 +1,329 @@
+/**
+ * Copyright (c) 2016, 2019, Oracle and/or its affiliates. All rights reserved.
+ */
+package com.oracle.bmc.objectstorage.transfer;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
+
+import com.oracle.bmc.model.BmcException;
+import com.oracle.bmc.model.Range;
+import com.oracle.bmc.objectstorage.ObjectStorage;
+import com.oracle.bmc.objectstorage.requests.GetObjectRequest;
+import com.oracle.bmc.objectstorage.responses.GetObjectResponse;
+import com.oracle.bmc.objectstorage.transfer.DownloadManager.DownloadRequest;
+import com.oracle.bmc.objectstorage.transfer.DownloadManager.DownloadResponse;
+import com.oracle.bmc.objectstorage.transfer.internal.MultipartUtils;
+
+@RunWith(MockitoJUnitRunner.class)
+public class DownloadManagerTest {
+    private static final String ETAG = "etag";
+    private static final String REQ_ID = "reqId";
+
+    @Mock private ObjectStorage objectStorage;
+
+    private byte[] content;
+    private File file;
+    private final List<GetObjectRequest> requests = new CopyOnWriteArrayList<>();
+
+    @Before
+    public void setUp() throws IOException {
+        // 5 ranges of 1 MiB and a last one of 3 bytes
+        content = new byte[(int) (5 * MultipartUtils.MiB + 3)];
+        new Random(42).nextBytes(content);
+        file = File.createTempFile("download-manager-test", ".bin");
+    }
+
+    @After
+    public void tearDown() {
+        file.delete();
+    }
+
+    @Test
+    public void download_parallelRanges() throws IOException {
+        when(objectStorage.getObject(any(GetObjectRequest.class)))
+                .thenAnswer(new ObjectAnswer(null));
+        final AtomicLong progress = new AtomicLong();
+
+        DownloadResponse response =
+                createDownloadManager()
+                        .download(
+                                DownloadRequest.builder(file)
+                                        .progressReporter(
+                                                new ProgressReporter() {
+                                                    @Override
+                                                    public void onProgress(
+                                                            long completed, long total) {
+                                                        assertEquals(content.length, total);
+                                                        progress.set(completed);
+                                                    }
+                                                })
+                                        .build(createGetObjectRequest()));
+
+        assertArrayEquals(content, Files.readAllBytes(file.toPath()));
+        assertEquals(ETAG, response.getETag());
+        assertEquals(content.length, response.getContentLength());
+        assertEquals(REQ_ID, response.getOpcRequestId());
+        assertEquals(content.length, progress.get());
+        assertEquals(6, requests.size());
+        for (GetObjectRequest request : requests) {
+            if (request.getRange().getStartByte() == 0) {
+                assertNull(request.getIfMatch());
+            } else {
+                assertEquals(ETAG, request.getIfMatch());
+            }
+        }
+    }
+
+    @Test
+    public void download_singleRange() throws IOException {
+        content = new byte[10];
+        when(objectStorage.getObject(any(GetObjectRequest.class)))
+                .thenAnswer(new ObjectAnswer(null));
+
+        createDownloadManager()
+                .download(DownloadRequest.builder(file).build(createGetObjectRequest()));
+
+        assertArrayEquals(content, Files.readAllBytes(file.toPath()));
+        assertEquals(1, requests.size());
+    }
+
+    @Test
+    public void download_emptyObject() throws IOException {
+        content = new byte[0];
+        when(objectStorage.getObject(any(GetObjectRequest.class)))
+                .thenAnswer(new ObjectAnswer(null));
+
+        DownloadResponse response =
+                createDownloadManager()
+                        .download(DownloadRequest.builder(file).build(createGetObjectRequest()));
+
+        assertEquals(0, response.getContentLength());
+        assertEquals(0, file.length());
+        // the ranged request is not satisfiable, the second one has no range
+        assertEquals(2, requests.size());
+        assertNull(requests.get(1).getRange());
+    }
+
+    @Test
+    public void download_retriesRangeFromLastWrittenByte() throws IOException {
+        final long failingStart = 2 * MultipartUtils.MiB;
+        final AtomicBoolean failed = new AtomicBoolean();
+        when(objectStorage.getObject(any(GetObjectRequest.class)))
+                .thenAnswer(
+                        new ObjectAnswer(
+                                new Answer<InputStream>() {
+                                    @Override
+                                    public InputStream answer(InvocationOnMock invocation) {
+                                        GetObjectRequest request =
+                                                (GetObjectRequest) invocation.getArguments()[0];
+                                        if (request.getRange().getStartByte() == failingStart
+                                                && failed.compareAndSet(false, true)) {
+                                            // the connection breaks after 100 bytes
+                                            return new FailingInputStream(
+                                                    content, (int) failingStart, 100);
+                                        }
+                                        return null;
+                                    }
+                                }));
+
+        createDownloadManager()
+                .download(DownloadRequest.builder(file).build(createGetObjectRequest()));
+
+        assertArrayEquals(content, Files.readAllBytes(file.toPath()));
+        assertEquals(7, requests.size());
+        boolean resumed = false;
+        for (GetObjectRequest request : requests) {
+            resumed |= request.getRange().getStartByte() == failingStart + 100;
+        }
+        assertTrue(resumed);
+    }
+
+    @Test
+    public void download_objectChanged() {
+        when(objectStorage.getObject(any(GetObjectRequest.class)))
+                .thenAnswer(
+                        new ObjectAnswer(
+                                new Answer<InputStream>() {
+                                    @Override
+                                    public InputStream answer(InvocationOnMock invocation) {
+                                        GetObjectRequest request =
+                                                (GetObjectRequest) invocation.getArguments()[0];
+                                        if (request.getIfMatch() != null) {
+                                            throw new BmcException(
+                                                    412, "IfMatchFailed", "changed", REQ_ID);
+                                        }
+                                        return null;
+                                    }
+                                }));
+
+        try {
+            createDownloadManager()
+                    .download(DownloadRequest.builder(file).build(createGetObjectRequest()));
+            fail("Expected the download to fail");
+        } catch (BmcException e) {
+            assertEquals(412, e.getStatusCode());
+        }
+        assertFalse(file.exists());
+    }
+
+    @Test
+    public void download_writeFailureNotRetried() {
+        when(objectStorage.getObject(any(GetObjectRequest.class)))
+                .thenAnswer(new ObjectAnswer(null));
+        DownloadManager downloadManager =
+                new DownloadManager(
+                        objectStorage,
+                        DownloadConfiguration.builder().lengthPerDownloadPart(1).build()) {
+                    @Override
+                    FileChannel openChannel(File file) throws IOException {
+                        // every write fails, like a full disk
+                        FileChannel channel = super.openChannel(file);
+                        channel.close();
+                        return channel;
+                    }
+                };
+
+        try {
+            downloadManager.download(
+                    DownloadRequest.builder(file).build(createGetObjectRequest()));
+            fail("Expected the download to fail");
+        } catch (BmcException e) {
+            assertTrue(e.getCause() instanceof ClosedChannelException);
+        }
+        Set<Long> starts = new HashSet<>();
+        for (GetObjectRequest request : requests) {
+            assertTrue(
+                    "Range requested twice: " + request.getRange(),
+                    starts.add(request.getRange().getStartByte()));
+        }
+        assertFalse(file.exists());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void download_rangeNotAllowed() {
+        createDownloadManager()
+                .download(
+                        DownloadRequest.builder(file)
+                                .build(
+                                        GetObjectRequest.builder()
+                                                .copy(createGetObjectRequest())
+                                                .range(new Range(0L, 10L))
+                                                .build()));
+    }
+
+    private DownloadManager createDownloadManager() {
+        return new DownloadManager(
+                objectStorage, DownloadConfiguration.builder().lengthPerDownloadPart(1).build());
+    }
+
+    private static GetObjectRequest createGetObjectRequest() {
+        return GetObjectRequest.builder()
+                .namespaceName("namespace")
+                .bucketName("bucket")
+                .objectName("object")
+                .build();
+    }
+
+    /**
+     * Answers GetObject with the requested range of the content.  An optional answer may throw, or
+     * return a stream to use instead.
+     */
+    private class ObjectAnswer implements Answer<GetObjectResponse> {
+        private final Answer<InputStream> override;
+
+        private ObjectAnswer(Answer<InputStream> override) {
+            this.override = override;
+        }
+
+        @Override
+        public GetObjectResponse answer(InvocationOnMock invocation) throws Throwable {
+            GetObjectRequest request = (GetObjectRequest) invocation.getArguments()[0];
+            requests.add(request);
+            InputStream stream = (override != null) ? override.answer(invocation) : null;
+
+            GetObjectResponse.Builder response =
+                    GetObjectResponse.builder().eTag(ETAG).opcRequestId(REQ_ID);
+            Range range = request.getRange();
+            if (range == null) {
+                return response.contentLength((long) content.length)
+                        .inputStream(
+                                (stream != null) ? stream : new ByteArrayInputStream(content))
+                        .build();
+            }
+            if (range.getStartByte() >= content.length) {
+                throw new BmcException(416, "InvalidRange", "not satisfiable", REQ_ID);
+            }
+            int start = range.getStartByte().intValue();
+            int end = (int) Math.min(range.getEndByte(), content.length - 1);
+            return response.contentLength((long) (end - start + 1))
+                    .contentRange(Range.parse("bytes " + start + "-" + end + "/" + content.length))
+                    .inputStream(
+                            (stream != null)
+                                    ? stream
+                                    : new ByteArrayInputStream(content, start, end - start + 1))
+                    .build();
+        }
+    }
+
+    /**
+     * Returns some bytes of the content, then fails like a broken connection.
+     */
+    private static class FailingInputStream extends InputStream {
+        private final InputStream delegate;
+        private int remaining;
+
+        private FailingInputStream(byte[] content, int offset, int length) {
+            this.delegate = new ByteArrayInputStream(content, offset, length);
+            this.remaining = length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining-- <= 0) {
+                throw new IOException("Connection reset");
+            }
+            return delegate.read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (remaining <= 0) {
+                throw new IOException("Connection reset");
+            }
+            int read = delegate.read(b, off, Math.min(len, remaining));
+            remaining -= read;
+            return read;
+        }
+    }
+}
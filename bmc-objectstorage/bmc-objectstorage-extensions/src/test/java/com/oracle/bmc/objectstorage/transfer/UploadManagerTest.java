@@ -20,6 +20,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.HashMap;
@@ -37,6 +38,7 @@ import com.oracle.bmc.objectstorage.requests.UploadPartRequest;
 import com.oracle.bmc.objectstorage.responses.CreateMultipartUploadResponse;
 import com.oracle.bmc.objectstorage.responses.UploadPartResponse;
 import com.oracle.bmc.objectstorage.transfer.internal.MultipartUtils;
+import com.oracle.bmc.objectstorage.transfer.internal.StreamHelper;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -266,6 +268,113 @@ public class UploadManagerTest {
                 .addPart(any(InputStream.class), eq(CONTENT_LENGTH / 2), eq((String) null));
     }
 
+    @Test
+    public void upload_multipartUpload_nonDuplicatableStream_readAhead() {
+        // results in 4 parts, read ahead into 2 buffers
+        UploadConfiguration uploadConfiguration =
+                UploadConfiguration.builder()
+                        .minimumLengthForMultipartUpload(10)
+                        .lengthPerUploadPart(5)
+                        .readAheadMemoryLimit(10)
+                        .build();
+        final ConcurrentMap<Integer, String> partContents = new ConcurrentHashMap<>();
+        final AtomicInteger partNumber = new AtomicInteger();
+        UploadManager uploadManager =
+                new UploadManager(objectStorage, uploadConfiguration) {
+                    @Override
+                    protected MultipartObjectAssembler createAssembler(
+                            PutObjectRequest request,
+                            UploadRequest uploadRequest,
+                            ExecutorService executorService) {
+                        return assembler;
+                    }
+                };
+
+        body = new ByteArrayInputStream(CONTENT.getBytes());
+        UploadRequest request = createUploadRequest();
+        when(assembler.addPart(
+                        any(InputStream.class), anyLong(), anyString(), any(Runnable.class)))
+                .thenAnswer(
+                        new Answer<Integer>() {
+                            @Override
+                            public Integer answer(InvocationOnMock invocation) throws Throwable {
+                                // the part is read, then its buffer released for the next parts
+                                InputStream stream = (InputStream) invocation.getArguments()[0];
+                                int part = partNumber.incrementAndGet();
+                                partContents.put(part, new String(readAll(stream)));
+                                ((Runnable) invocation.getArguments()[3]).run();
+                                return part;
+                            }
+                        });
+        when(assembler.commit())
+                .thenReturn(
+                        CommitMultipartUploadResponse.builder()
+                                .eTag("finalEtag")
+                                .opcRequestId(REQ_ID)
+                                .opcClientRequestId(CLIENT_REQ_ID)
+                                .opcMultipartMd5("multipartMd5")
+                                .build());
+
+        UploadResponse uploadResponse = uploadManager.upload(request);
+        validateUploadResponseForMultipart(uploadResponse);
+
+        verify(assembler, times(4))
+                .addPart(
+                        any(InputStream.class),
+                        eq(CONTENT_LENGTH / 4),
+                        eq((String) null),
+                        any(Runnable.class));
+        assertEquals(4, partContents.size());
+        for (String partContent : partContents.values()) {
+            assertEquals(CONTENT.substring(0, (int) (CONTENT_LENGTH / 4)), partContent);
+        }
+    }
+
+    @Test
+    public void upload_multipartUpload_enforceMd5_readAhead() {
+        // results in 4 parts, read once into the buffers to calculate the MD5
+        UploadConfiguration uploadConfiguration =
+                UploadConfiguration.builder()
+                        .minimumLengthForMultipartUpload(10)
+                        .lengthPerUploadPart(5)
+                        .readAheadMemoryLimit(20)
+                        .enforceMd5(true)
+                        .build();
+        UploadManager uploadManager =
+                new UploadManager(objectStorage, uploadConfiguration) {
+                    @Override
+                    protected MultipartObjectAssembler createAssembler(
+                            PutObjectRequest request,
+                            UploadRequest uploadRequest,
+                            ExecutorService executorService) {
+                        return assembler;
+                    }
+                };
+
+        UploadRequest request = createUploadRequest();
+        when(assembler.commit())
+                .thenReturn(
+                        CommitMultipartUploadResponse.builder()
+                                .eTag("finalEtag")
+                                .opcRequestId(REQ_ID)
+                                .opcClientRequestId(CLIENT_REQ_ID)
+                                .opcMultipartMd5("multipartMd5")
+                                .build());
+
+        UploadResponse uploadResponse = uploadManager.upload(request);
+        validateUploadResponseForMultipart(uploadResponse);
+
+        String partMd5 =
+                StreamHelper.base64EncodeMd5Digest(
+                        CONTENT.substring(0, (int) (CONTENT_LENGTH / 4)).getBytes());
+        verify(assembler, times(4))
+                .addPart(
+                        any(InputStream.class),
+                        eq(CONTENT_LENGTH / 4),
+                        eq(partMd5),
+                        any(Runnable.class));
+    }
+
     @Test(expected = BmcException.class)
     public void upload_multipartUpload_exception() {
         // results in 2 parts
@@ -500,6 +609,137 @@ public class UploadManagerTest {
                 .addPart(any(InputStream.class), eq(CONTENT_LENGTH / 20), eq((String) null));
     }
 
+    @Test
+    public void upload_unknownLength_singleUpload() throws IOException {
+        // the stream ends before the default minimum length for multi-part uploads
+        UploadManager uploadManager =
+                new UploadManager(objectStorage, UploadConfiguration.builder().build());
+
+        UploadRequest request =
+                UploadRequest.builder(new ByteArrayInputStream(CONTENT.getBytes()))
+                        .build(PutObjectRequest.builder().build());
+
+        ArgumentCaptor<PutObjectRequest> putRequestCaptor =
+                ArgumentCaptor.forClass(PutObjectRequest.class);
+        when(objectStorage.putObject(putRequestCaptor.capture()))
+                .thenReturn(PutObjectResponse.builder().eTag("etag").build());
+
+        UploadResponse uploadResponse = uploadManager.upload(request);
+
+        assertEquals("etag", uploadResponse.getETag());
+        assertEquals(CONTENT_LENGTH, putRequestCaptor.getValue().getContentLength().longValue());
+        assertEquals(
+                CONTENT, new String(readAll(putRequestCaptor.getValue().getPutObjectBody())));
+    }
+
+    @Test
+    public void upload_unknownLength_emptyStream() throws IOException {
+        UploadManager uploadManager =
+                new UploadManager(objectStorage, UploadConfiguration.builder().build());
+
+        UploadRequest request =
+                UploadRequest.builder(new ByteArrayInputStream(new byte[0]))
+                        .build(PutObjectRequest.builder().build());
+
+        ArgumentCaptor<PutObjectRequest> putRequestCaptor =
+                ArgumentCaptor.forClass(PutObjectRequest.class);
+        when(objectStorage.putObject(putRequestCaptor.capture()))
+                .thenReturn(PutObjectResponse.builder().build());
+
+        uploadManager.upload(request);
+
+        assertEquals(0L, putRequestCaptor.getValue().getContentLength().longValue());
+    }
+
+    @Test
+    public void upload_unknownLength_multipartUpload() {
+        // the first 10 MiB are read before starting the upload, results in 6 parts of 3 MiB
+        // and a last part of 2 MiB
+        UploadConfiguration uploadConfiguration =
+                UploadConfiguration.builder()
+                        .minimumLengthForMultipartUpload(10)
+                        .lengthPerUploadPart(3)
+                        .build();
+        final ConcurrentMap<Integer, String> partContents = new ConcurrentHashMap<>();
+        final AtomicInteger partNumber = new AtomicInteger();
+        UploadManager uploadManager =
+                new UploadManager(objectStorage, uploadConfiguration) {
+                    @Override
+                    protected MultipartObjectAssembler createAssembler(
+                            PutObjectRequest request,
+                            UploadRequest uploadRequest,
+                            ExecutorService executorService) {
+                        return assembler;
+                    }
+                };
+
+        body = new ByteArrayInputStream(CONTENT.getBytes());
+        UploadRequest request =
+                UploadRequest.builder(body)
+                        .build(
+                                PutObjectRequest.builder()
+                                        .opcMeta(METADATA)
+                                        .opcClientRequestId(CLIENT_REQ_ID)
+                                        .contentLanguage(CONTENT_LANG)
+                                        .contentType(CONTENT_TYPE)
+                                        .contentEncoding(CONTENT_ENCODING)
+                                        .build());
+        Answer<Integer> readPart =
+                new Answer<Integer>() {
+                    @Override
+                    public Integer answer(InvocationOnMock invocation) throws Throwable {
+                        InputStream stream = (InputStream) invocation.getArguments()[0];
+                        int part = partNumber.incrementAndGet();
+                        String content = new String(readAll(stream));
+                        assertEquals(
+                                content.length(),
+                                ((Long) invocation.getArguments()[1]).longValue());
+                        partContents.put(part, content);
+                        if (invocation.getArguments().length > 3) {
+                            // release the buffer for the next parts
+                            ((Runnable) invocation.getArguments()[3]).run();
+                        }
+                        return part;
+                    }
+                };
+        when(assembler.addPart(any(InputStream.class), anyLong(), anyString()))
+                .thenAnswer(readPart);
+        when(assembler.addPart(
+                        any(InputStream.class), anyLong(), anyString(), any(Runnable.class)))
+                .thenAnswer(readPart);
+        when(assembler.commit())
+                .thenReturn(
+                        CommitMultipartUploadResponse.builder()
+                                .eTag("finalEtag")
+                                .opcRequestId(REQ_ID)
+                                .opcClientRequestId(CLIENT_REQ_ID)
+                                .opcMultipartMd5("multipartMd5")
+                                .build());
+
+        UploadResponse uploadResponse = uploadManager.upload(request);
+        validateUploadResponseForMultipart(uploadResponse);
+
+        verify(assembler).newRequest(CONTENT_TYPE, CONTENT_LANG, CONTENT_ENCODING, METADATA);
+        assertEquals(7, partContents.size());
+        StringBuilder uploaded = new StringBuilder();
+        for (int part = 1; part <= 7; part++) {
+            int expectedLength = (int) (((part < 7) ? 3 : 2) * MultipartUtils.MiB);
+            assertEquals(expectedLength, partContents.get(part).length());
+            uploaded.append(partContents.get(part));
+        }
+        assertEquals(CONTENT, uploaded.toString());
+    }
+
+    private static byte[] readAll(InputStream stream) throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        byte[] buffer = new byte[READ_BLOCK_SIZE];
+        int bytesRead;
+        while ((bytesRead = stream.read(buffer)) != -1) {
+            baos.write(buffer, 0, bytesRead);
+        }
+        return baos.toByteArray();
+    }
+
     private static UploadConfiguration getMultipartUploadConfiguration() {
         return UploadConfiguration.builder()
                 .minimumLengthForMultipartUpload(10)
@@ -0,0 +1,75 @@
+/**
+ * Copyright (c) 2016, 2019, Oracle and/or its affiliates. All rights reserved.
+ */
+package com.oracle.bmc.objectstorage.transfer.internal;
+
+import static org.junit.Assert.*;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+import org.junit.Test;
+
+public class ByteBufferInputStreamTest {
+    private static final byte[] CONTENT = new byte[] {1, 2, (byte) 0xFF, 4, 5};
+
+    @Test
+    public void read_heapBuffer() throws Exception {
+        read(ByteBuffer.wrap(CONTENT));
+    }
+
+    @Test
+    public void read_directBuffer() throws Exception {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(CONTENT.length);
+        buffer.put(CONTENT);
+        buffer.flip();
+        read(buffer);
+    }
+
+    private static void read(ByteBuffer buffer) throws Exception {
+        ByteBufferInputStream stream = new ByteBufferInputStream(buffer);
+        assertEquals(CONTENT.length, stream.available());
+        assertEquals(1, stream.read());
+
+        byte[] bytes = new byte[10];
+        assertEquals(4, stream.read(bytes, 0, 10));
+        assertEquals(0xFF, bytes[1] & 0xFF);
+        assertEquals(-1, stream.read(bytes, 0, 10));
+        assertEquals(-1, stream.read());
+        assertEquals(0, stream.available());
+
+        // the buffer itself was not consumed
+        assertEquals(CONTENT.length, buffer.remaining());
+    }
+
+    @Test
+    public void read_unsignedByte() throws Exception {
+        ByteBufferInputStream stream = new ByteBufferInputStream(ByteBuffer.wrap(CONTENT));
+        assertEquals(2, stream.skip(2));
+        assertEquals(0xFF, stream.read());
+    }
+
+    @Test
+    public void duplicate_readsFromStart() throws Exception {
+        ByteBufferInputStream stream = new ByteBufferInputStream(ByteBuffer.wrap(CONTENT));
+        assertEquals(3, stream.skip(3));
+
+        InputStream duplicate = stream.duplicate();
+        assertEquals(CONTENT.length, duplicate.available());
+        assertEquals(1, duplicate.read());
+        assertEquals(4, stream.read());
+    }
+
+    @Test
+    public void markReset() throws Exception {
+        ByteBufferInputStream stream = new ByteBufferInputStream(ByteBuffer.wrap(CONTENT));
+        assertTrue(stream.markSupported());
+        assertEquals(1, stream.read());
+        stream.mark(Integer.MAX_VALUE);
+        assertEquals(4, stream.skip(10));
+
+        stream.reset();
+        assertEquals(CONTENT.length - 1, stream.available());
+        assertEquals(2, stream.read());
+    }
+}
@@ -4,7 +4,15 @@
 package com.oracle.bmc.objectstorage.transfer.internal;
 
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -79,6 +87,29 @@ public class MultipartTransferManagerTest {
         assertTrue(manifest.listInProgressParts().isEmpty());
     }
 
+    @Test
+    public void startTransfer_onCompletion() {
+        UploadPartRequest request1 = UploadPartRequest.builder().uploadPartNum(1).build();
+        UploadPartRequest request2 = UploadPartRequest.builder().uploadPartNum(2).build();
+        when(service.uploadPart(request1)).thenReturn(UploadPartResponse.builder().build());
+        when(service.uploadPart(request2)).thenThrow(new RuntimeException());
+
+        final AtomicInteger completions = new AtomicInteger();
+        Runnable onCompletion =
+                new Runnable() {
+                    @Override
+                    public void run() {
+                        completions.incrementAndGet();
+                    }
+                };
+        manager.startTransfer(request1, onCompletion);
+        manager.startTransfer(request2, onCompletion);
+        manager.awaitCompletion();
+
+        // called for both the successful and the failed part
+        assertEquals(2, completions.get());
+    }
+
     @Test
     public void abortAll() throws Exception {
         UploadPartRequest request1 = UploadPartRequest.builder().uploadPartNum(1).build();
@@ -104,4 +135,77 @@ public class MultipartTransferManagerTest {
         assertEquals(1, inProgressParts.size());
         assertEquals(1, inProgressParts.get(0).intValue());
     }
+
+    @Test
+    public void abortAll_runsOnCompletionOfTransfersNotStarted() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        manager = new MultipartTransferManager(executor, manifest, new SimpleRetry(service));
+        final CountDownLatch blocked = new CountDownLatch(1);
+        final CountDownLatch unblock = new CountDownLatch(1);
+        // keeps the only thread busy, so the transfer stays queued
+        executor.submit(
+                new Callable<Void>() {
+                    @Override
+                    public Void call() throws Exception {
+                        blocked.countDown();
+                        unblock.await();
+                        return null;
+                    }
+                });
+        assertTrue(blocked.await(5, TimeUnit.SECONDS));
+
+        final AtomicInteger completions = new AtomicInteger();
+        manager.startTransfer(
+                UploadPartRequest.builder().uploadPartNum(1).build(),
+                new Runnable() {
+                    @Override
+                    public void run() {
+                        completions.incrementAndGet();
+                    }
+                });
+        manager.abortAll();
+        assertEquals(1, completions.get());
+
+        unblock.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(1, completions.get());
+        verify(service, never()).uploadPart(any(UploadPartRequest.class));
+    }
+
+    @Test
+    public void startTransfer_runsOnCompletionIfRejected() {
+        manager =
+                new MultipartTransferManager(
+                        new ThreadPoolExecutor(
+                                0,
+                                1,
+                                0,
+                                TimeUnit.MILLISECONDS,
+                                new SynchronousQueue<Runnable>()) {
+                            @Override
+                            public void execute(Runnable command) {
+                                throw new RejectedExecutionException("queue full");
+                            }
+                        },
+                        manifest,
+                        new SimpleRetry(service));
+
+        final AtomicInteger completions = new AtomicInteger();
+        try {
+            manager.startTransfer(
+                    UploadPartRequest.builder().uploadPartNum(1).build(),
+                    new Runnable() {
+                        @Override
+                        public void run() {
+                            completions.incrementAndGet();
+                        }
+                    });
+            fail("Expected RejectedExecutionException");
+        } catch (RejectedExecutionException e) {
+            // expected
+        }
+        assertEquals(1, completions.get());
+        assertEquals(1, manifest.listFailedParts().size());
+    }
 }
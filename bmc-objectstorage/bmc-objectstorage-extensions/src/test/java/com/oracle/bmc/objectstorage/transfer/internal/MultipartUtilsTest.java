@@ -166,6 +166,55 @@ public class MultipartUtilsTest {
         assertEquals("PartSize should be equal", expected, actual);
     }
 
+    @Test
+    public void calculatePartSizeForUnknownLength_partSizeGrows() {
+        UploadConfiguration configuration =
+                UploadConfiguration.builder().lengthPerUploadPart(10).build();
+
+        assertEquals(
+                10L * MultipartUtils.MiB,
+                MultipartUtils.calculatePartSizeForUnknownLength(configuration, 1));
+        assertEquals(
+                10L * MultipartUtils.MiB,
+                MultipartUtils.calculatePartSizeForUnknownLength(configuration, 400));
+        assertEquals(
+                20L * MultipartUtils.MiB,
+                MultipartUtils.calculatePartSizeForUnknownLength(configuration, 401));
+        assertEquals(
+                MultipartUtils.MAX_UNKNOWN_LENGTH_PART_SIZE,
+                MultipartUtils.calculatePartSizeForUnknownLength(
+                        configuration, UploadConfiguration.MAXIMUM_NUM_ALLOWED_PARTS));
+    }
+
+    @Test
+    public void calculatePartSizeForUnknownLength_maxPartsEnoughForMaxSupportedContentLength() {
+        for (int lengthPerPartMiB : new int[] {1, 2, 10, 37, 64, 128, 1000, 2047, 51200}) {
+            UploadConfiguration configuration =
+                    UploadConfiguration.builder().lengthPerUploadPart(lengthPerPartMiB).build();
+
+            long totalLength = 0;
+            for (int partNumber = 1;
+                    partNumber <= UploadConfiguration.MAXIMUM_NUM_ALLOWED_PARTS;
+                    partNumber++) {
+                totalLength +=
+                        MultipartUtils.calculatePartSizeForUnknownLength(configuration, partNumber);
+            }
+            assertTrue(
+                    "Not enough for " + lengthPerPartMiB + " MiB parts",
+                    totalLength >= MultipartUtils.MAX_SUPPORTED_CONTENT_LENGTH);
+        }
+    }
+
+    @Test
+    public void calculatePartSizeForUnknownLength_tooManyParts() {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("Part number");
+
+        MultipartUtils.calculatePartSizeForUnknownLength(
+                UploadConfiguration.builder().build(),
+                UploadConfiguration.MAXIMUM_NUM_ALLOWED_PARTS + 1);
+    }
+
     @Test
     public void shouldCalculateMd5_disabled() {
         assertFalse(
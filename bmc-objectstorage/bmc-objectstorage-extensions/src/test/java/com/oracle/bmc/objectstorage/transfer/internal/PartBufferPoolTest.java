@@ -0,0 +1,239 @@
+/**
+ * Copyright (c) 2016, 2019, Oracle and/or its affiliates. All rights reserved.
+ */
+package com.oracle.bmc.objectstorage.transfer.internal;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+import com.google.common.base.Supplier;
+
+public class PartBufferPoolTest {
+    private static final byte[] CONTENT = "aaaaabbbbbc".getBytes();
+
+    @Test
+    public void calculateBufferCount() {
+        assertEquals(
+                4, PartBufferPool.calculateBufferCount(4 * MultipartUtils.MiB, MultipartUtils.MiB));
+        assertEquals(1, PartBufferPool.calculateBufferCount(3, 2));
+        assertEquals(0, PartBufferPool.calculateBufferCount(0, 2));
+        // buffers are limited to 2 GiB
+        assertEquals(
+                0, PartBufferPool.calculateBufferCount(Long.MAX_VALUE, Integer.MAX_VALUE + 1L));
+    }
+
+    @Test
+    public void fill_heapBuffers() throws Exception {
+        fill(new PartBufferPool(2, 5, false));
+    }
+
+    @Test
+    public void fill_directBuffers() throws Exception {
+        fill(new PartBufferPool(2, 5, true));
+    }
+
+    private static void fill(PartBufferPool pool) throws Exception {
+        ByteArrayInputStream stream = new ByteArrayInputStream(CONTENT);
+
+        ByteBuffer first = pool.acquire();
+        PartBufferPool.fill(stream, first, 5);
+        ByteBuffer second = pool.acquire();
+        PartBufferPool.fill(stream, second, 5);
+        assertEquals("aaaaa", toString(first));
+        assertEquals("bbbbb", toString(second));
+
+        pool.release(first);
+        ByteBuffer third = pool.acquire();
+        assertSame(first, third);
+        PartBufferPool.fill(stream, third, 1);
+        assertEquals("c", toString(third));
+    }
+
+    @Test
+    public void fill_digest_heapBuffers() throws Exception {
+        fillDigest(new PartBufferPool(1, CONTENT.length, false));
+    }
+
+    @Test
+    public void fill_digest_directBuffers() throws Exception {
+        fillDigest(new PartBufferPool(1, CONTENT.length, true));
+    }
+
+    private static void fillDigest(PartBufferPool pool) throws Exception {
+        MessageDigest digest = StreamHelper.createMd5MessageDigest();
+        ByteBuffer buffer = pool.acquire();
+        // a stream returning a few bytes at a time
+        PartBufferPool.fill(
+                new ByteArrayInputStream(CONTENT) {
+                    @Override
+                    public synchronized int read(byte[] b, int off, int len) {
+                        return super.read(b, off, Math.min(len, 3));
+                    }
+                },
+                buffer,
+                CONTENT.length,
+                digest);
+
+        assertEquals(new String(CONTENT), toString(buffer));
+        assertEquals(
+                StreamHelper.base64EncodeMd5Digest(CONTENT), StreamHelper.base64Encode(digest));
+    }
+
+    @Test(expected = IOException.class)
+    public void fill_streamTooShort() throws Exception {
+        PartBufferPool pool = new PartBufferPool(1, 20, false);
+        PartBufferPool.fill(new ByteArrayInputStream(CONTENT), pool.acquire(), 20);
+    }
+
+    @Test
+    public void read_streamEnds_heapBuffers() throws Exception {
+        read(new PartBufferPool(1, 20, false));
+    }
+
+    @Test
+    public void read_streamEnds_directBuffers() throws Exception {
+        read(new PartBufferPool(1, 20, true));
+    }
+
+    private static void read(PartBufferPool pool) throws Exception {
+        MessageDigest digest = StreamHelper.createMd5MessageDigest();
+        ByteBuffer buffer = pool.acquire();
+        // bytes already in the buffer come first
+        buffer.put("xy".getBytes());
+
+        assertEquals(
+                CONTENT.length,
+                PartBufferPool.read(new ByteArrayInputStream(CONTENT), buffer, 18, digest));
+        assertEquals("xy" + new String(CONTENT), toString(buffer));
+        assertEquals(
+                StreamHelper.base64EncodeMd5Digest(CONTENT), StreamHelper.base64Encode(digest));
+    }
+
+    @Test
+    public void acquire_waitsForRelease() throws Exception {
+        final PartBufferPool pool = new PartBufferPool(1, 5, false);
+        ByteBuffer buffer = pool.acquire();
+
+        final AtomicReference<ByteBuffer> acquired = new AtomicReference<>();
+        final CountDownLatch latch = new CountDownLatch(1);
+        Thread thread =
+                new Thread(
+                        new Runnable() {
+                            @Override
+                            public void run() {
+                                try {
+                                    acquired.set(pool.acquire());
+                                    latch.countDown();
+                                } catch (InterruptedException e) {
+                                    Thread.currentThread().interrupt();
+                                }
+                            }
+                        });
+        thread.start();
+
+        assertFalse(latch.await(100, TimeUnit.MILLISECONDS));
+        pool.release(buffer);
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertSame(buffer, acquired.get());
+    }
+
+    @Test
+    public void acquire_givesUpOnceFailed() throws Exception {
+        PartBufferPool pool = new PartBufferPool(1, 5, false);
+        pool.acquire();
+
+        final AtomicInteger checks = new AtomicInteger();
+        try {
+            // the buffer in use is never released
+            pool.acquire(
+                    new Supplier<Boolean>() {
+                        @Override
+                        public Boolean get() {
+                            return checks.incrementAndGet() > 1;
+                        }
+                    });
+            fail("Expected CancellationException");
+        } catch (CancellationException e) {
+            assertEquals(2, checks.get());
+        }
+    }
+
+    @Test
+    public void drain_waitsForRelease() throws Exception {
+        final PartBufferPool pool = new PartBufferPool(2, 5, false);
+        ByteBuffer first = pool.acquire();
+        ByteBuffer second = pool.acquire();
+        pool.release(first);
+
+        final CountDownLatch latch = new CountDownLatch(1);
+        Thread thread =
+                new Thread(
+                        new Runnable() {
+                            @Override
+                            public void run() {
+                                try {
+                                    pool.drain();
+                                    latch.countDown();
+                                } catch (InterruptedException e) {
+                                    Thread.currentThread().interrupt();
+                                }
+                            }
+                        });
+        thread.start();
+
+        assertFalse(latch.await(100, TimeUnit.MILLISECONDS));
+        pool.release(second);
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        thread.join();
+
+        // the drained buffers are dropped, new ones are allocated
+        ByteBuffer third = pool.acquire();
+        ByteBuffer fourth = pool.acquire();
+        assertNotSame(first, third);
+        assertNotSame(second, third);
+        assertNotSame(first, fourth);
+        assertNotSame(second, fourth);
+    }
+
+    @Test(expected = CancellationException.class)
+    public void drain_givesUpOnceFailed() throws Exception {
+        PartBufferPool pool = new PartBufferPool(2, 5, false);
+        ByteBuffer first = pool.acquire();
+        // the second buffer is never released
+        pool.acquire();
+        pool.release(first);
+
+        pool.drain(
+                new Supplier<Boolean>() {
+                    @Override
+                    public Boolean get() {
+                        return true;
+                    }
+                });
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void release_twice() throws Exception {
+        PartBufferPool pool = new PartBufferPool(1, 5, false);
+        ByteBuffer buffer = pool.acquire();
+        pool.release(buffer);
+        pool.release(buffer);
+    }
+
+    private static String toString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return new String(bytes);
+    }
+}
@@ -6,15 +6,21 @@ package com.oracle.bmc.objectstorage.transfer.internal;
 import static org.junit.Assert.*;
 
 import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.ClosedByInterruptException;
 import java.util.ArrayList;
 
 import org.apache.commons.lang3.StringUtils;
 import org.junit.Before;
 import org.junit.Test;
 
-import com.oracle.bmc.objectstorage.transfer.internal.StreamChunkCreator.SubRangeInputStream;
+import com.oracle.bmc.io.DuplicatableInputStream;
+import com.oracle.bmc.objectstorage.transfer.internal.StreamChunkCreator.ChunkInputStream;
+import com.oracle.bmc.objectstorage.transfer.internal.StreamChunkCreator.FileChannelSubRangeInputStream;
 import com.oracle.bmc.util.StreamUtils;
 
 public class StreamChunkCreatorTest {
@@ -38,7 +44,7 @@ public class StreamChunkCreatorTest {
 
         int chunkCount = 0;
         while (creator.hasMore()) {
-            SubRangeInputStream chunk = creator.next();
+            ChunkInputStream chunk = creator.next();
             if (creator.hasMore()) {
                 assertEquals(CHUNK_SIZE, chunk.length());
             } else {
@@ -63,9 +69,9 @@ public class StreamChunkCreatorTest {
                 new StreamChunkCreator(stream, COMPLETE_STRING.length(), CHUNK_SIZE);
         assertFalse(creator.supportsParallelReads());
 
-        ArrayList<SubRangeInputStream> chunks = new ArrayList<>();
+        ArrayList<ChunkInputStream> chunks = new ArrayList<>();
         while (creator.hasMore()) {
-            SubRangeInputStream chunk = creator.next();
+            ChunkInputStream chunk = creator.next();
             chunks.add(chunk);
         }
         assertEquals(CHUNKS.length, chunks.size());
@@ -86,9 +92,9 @@ public class StreamChunkCreatorTest {
                 new StreamChunkCreator(stream, COMPLETE_STRING.length(), CHUNK_SIZE);
         assertTrue(creator.supportsParallelReads());
 
-        ArrayList<SubRangeInputStream> chunks = new ArrayList<>();
+        ArrayList<ChunkInputStream> chunks = new ArrayList<>();
         while (creator.hasMore()) {
-            SubRangeInputStream chunk = creator.next();
+            ChunkInputStream chunk = creator.next();
             chunks.add(chunk);
         }
         assertEquals(CHUNKS.length, chunks.size());
@@ -113,7 +119,7 @@ public class StreamChunkCreatorTest {
 
         int chunkCount = 0;
         while (creator.hasMore()) {
-            SubRangeInputStream chunk = creator.next();
+            ChunkInputStream chunk = creator.next();
             if (creator.hasMore()) {
                 assertEquals(CHUNK_SIZE, chunk.length());
             } else {
@@ -135,9 +141,9 @@ public class StreamChunkCreatorTest {
                 new StreamChunkCreator(stream, COMPLETE_STRING.length(), CHUNK_SIZE);
         assertTrue(creator.supportsParallelReads());
 
-        ArrayList<SubRangeInputStream> chunks = new ArrayList<>();
+        ArrayList<ChunkInputStream> chunks = new ArrayList<>();
         while (creator.hasMore()) {
-            SubRangeInputStream chunk = creator.next();
+            ChunkInputStream chunk = creator.next();
             chunks.add(chunk);
         }
         assertEquals(CHUNKS.length, chunks.size());
@@ -160,7 +166,7 @@ public class StreamChunkCreatorTest {
         StreamChunkCreator creator =
                 new StreamChunkCreator(stream, COMPLETE_STRING.length(), COMPLETE_STRING.length());
         assertTrue(creator.hasMore());
-        SubRangeInputStream chunk = creator.next();
+        ChunkInputStream chunk = creator.next();
         assertEquals(COMPLETE_STRING, toString(chunk));
         assertFalse(creator.hasMore());
     }
@@ -171,7 +177,7 @@ public class StreamChunkCreatorTest {
                 new StreamChunkCreator(
                         stream, COMPLETE_STRING.length(), COMPLETE_STRING.length() + 1);
         assertTrue(creator.hasMore());
-        SubRangeInputStream chunk = creator.next();
+        ChunkInputStream chunk = creator.next();
         assertEquals(COMPLETE_STRING, toString(chunk));
         assertFalse(creator.hasMore());
     }
@@ -181,7 +187,7 @@ public class StreamChunkCreatorTest {
         StreamChunkCreator creator =
                 new StreamChunkCreator(stream, COMPLETE_STRING.length(), CHUNK_SIZE);
         assertTrue(creator.hasMore());
-        SubRangeInputStream chunk = creator.next();
+        ChunkInputStream chunk = creator.next();
 
         assertTrue(chunk.markSupported());
         chunk.mark(Integer.MAX_VALUE);
@@ -202,11 +208,145 @@ public class StreamChunkCreatorTest {
         assertEquals(CHUNKS[0], new String(buffer));
     }
 
-    private static String toString(SubRangeInputStream chunk) throws IOException {
+    @Test
+    public void fileChunks_readOutOfOrder() throws Exception {
+        File file = createFile(COMPLETE_STRING);
+        try (InputStream fileStream = StreamUtils.toInputStream(file)) {
+            StreamChunkCreator creator =
+                    new StreamChunkCreator(fileStream, COMPLETE_STRING.length(), CHUNK_SIZE);
+            assertTrue(creator.supportsParallelReads());
+
+            ArrayList<ChunkInputStream> chunks = new ArrayList<>();
+            while (creator.hasMore()) {
+                ChunkInputStream chunk = creator.next();
+                assertTrue(chunk instanceof FileChannelSubRangeInputStream);
+                chunks.add(chunk);
+            }
+            assertEquals(CHUNKS.length, chunks.size());
+
+            for (int i = 0; i < CHUNKS.length; i++) {
+                int index = RANDOM_ORDER[i];
+                assertEquals(CHUNKS[index], toString(chunks.get(index)));
+            }
+        }
+    }
+
+    @Test
+    public void fileChunks_duplicate() throws Exception {
+        File file = createFile(COMPLETE_STRING);
+        try (InputStream fileStream = StreamUtils.toInputStream(file)) {
+            StreamChunkCreator creator =
+                    new StreamChunkCreator(fileStream, COMPLETE_STRING.length(), CHUNK_SIZE);
+            creator.next();
+            ChunkInputStream chunk = creator.next();
+            assertEquals(CHUNKS[1], toString(chunk));
+
+            // a duplicate reads the whole range again, even after the original was closed
+            ChunkInputStream duplicate =
+                    (ChunkInputStream) ((DuplicatableInputStream) chunk).duplicate();
+            assertEquals(CHUNKS[1], toString(duplicate));
+        }
+    }
+
+    @Test
+    public void fileChunks_startAtStreamPosition() throws Exception {
+        File file = createFile("xx" + COMPLETE_STRING);
+        try (InputStream fileStream = StreamUtils.toInputStream(file)) {
+            assertEquals(2, fileStream.skip(2));
+            StreamChunkCreator creator =
+                    new StreamChunkCreator(fileStream, COMPLETE_STRING.length(), CHUNK_SIZE);
+            assertTrue(creator.supportsParallelReads());
+
+            StringBuilder sb = new StringBuilder();
+            while (creator.hasMore()) {
+                sb.append(toString(creator.next()));
+            }
+            assertEquals(COMPLETE_STRING, sb.toString());
+        }
+    }
+
+    @Test
+    public void fileChunks_interruptOnlyFailsOneChunk() throws Exception {
+        File file = createFile(COMPLETE_STRING);
+        try (InputStream fileStream = StreamUtils.toInputStream(file)) {
+            StreamChunkCreator creator =
+                    new StreamChunkCreator(fileStream, COMPLETE_STRING.length(), CHUNK_SIZE);
+            ChunkInputStream interrupted = creator.next();
+            ChunkInputStream other = creator.next();
+            assertEquals('b', other.read());
+
+            Thread.currentThread().interrupt();
+            try {
+                interrupted.read();
+                fail("Expected ClosedByInterruptException");
+            } catch (ClosedByInterruptException e) {
+                // expected
+            } finally {
+                Thread.interrupted();
+            }
+
+            // other chunks and duplicates (ex, for retries) read from their own channels
+            assertEquals('b', other.read());
+            ChunkInputStream duplicate =
+                    (ChunkInputStream) ((DuplicatableInputStream) interrupted).duplicate();
+            assertEquals(CHUNKS[0], toString(duplicate));
+        }
+    }
+
+    @Test
+    public void plainFileStream_readAsStream() throws Exception {
+        File file = createFile(COMPLETE_STRING);
+        try (FileInputStream fileStream = new FileInputStream(file)) {
+            StreamChunkCreator creator =
+                    new StreamChunkCreator(fileStream, COMPLETE_STRING.length(), CHUNK_SIZE);
+            assertFalse(creator.supportsParallelReads());
+
+            StringBuilder sb = new StringBuilder();
+            while (creator.hasMore()) {
+                ChunkInputStream chunk = creator.next();
+                assertFalse(chunk instanceof FileChannelSubRangeInputStream);
+                sb.append(toString(chunk));
+            }
+            assertEquals(COMPLETE_STRING, sb.toString());
+        }
+    }
+
+    @Test
+    public void fileChunks_markReset() throws Exception {
+        File file = createFile(COMPLETE_STRING);
+        try (InputStream fileStream = StreamUtils.toInputStream(file)) {
+            StreamChunkCreator creator =
+                    new StreamChunkCreator(fileStream, COMPLETE_STRING.length(), CHUNK_SIZE);
+            ChunkInputStream chunk = creator.next();
+
+            assertTrue(chunk.markSupported());
+            assertEquals('a', chunk.read());
+            chunk.mark(Integer.MAX_VALUE);
+            assertEquals(chunk.length() - 1, chunk.available());
+            assertEquals(2, chunk.skip(2));
+
+            chunk.reset();
+            byte[] buffer = new byte[(int) chunk.length()];
+            assertEquals(chunk.length() - 1, chunk.read(buffer));
+            assertEquals(-1, chunk.read(buffer));
+            assertEquals(0, chunk.available());
+        }
+    }
+
+    private static File createFile(String content) throws IOException {
+        File file = File.createTempFile("unitTest", ".txt");
+        file.deleteOnExit();
+        try (FileOutputStream fos = new FileOutputStream(file)) {
+            fos.write(content.getBytes());
+        }
+        return file;
+    }
+
+    private static String toString(ChunkInputStream chunk) throws IOException {
         return toString(chunk, true);
     }
 
-    private static String toString(SubRangeInputStream chunk, boolean close) throws IOException {
+    private static String toString(ChunkInputStream chunk, boolean close) throws IOException {
         byte[] buffer = new byte[(int) chunk.length()];
         int bytesRead = chunk.read(buffer);
         String chunkContent = new String(buffer, 0, bytesRead);
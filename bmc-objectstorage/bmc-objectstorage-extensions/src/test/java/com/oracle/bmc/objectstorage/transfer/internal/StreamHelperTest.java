@@ -3,12 +3,15 @@
  */
 package com.oracle.bmc.objectstorage.transfer.internal;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.security.DigestOutputStream;
+import java.security.MessageDigest;
 
 import org.junit.Test;
 
@@ -42,10 +45,76 @@ public class StreamHelperTest {
                 StreamHelper.base64Encode(digestOutputStream.getMessageDigest()));
     }
 
+    @Test
+    public void digest() throws IOException {
+        MessageDigest digest = StreamHelper.createMd5MessageDigest();
+        assertEquals(
+                TEST_STR.length(),
+                StreamHelper.digest(new ByteArrayInputStream(TEST_STR.getBytes()), digest, null));
+        assertEquals("w/zT12GS5AB9+0lsymfhOw==", StreamHelper.base64Encode(digest));
+    }
+
+    @Test
+    public void digest_copy() throws IOException {
+        MessageDigest digest = StreamHelper.createMd5MessageDigest();
+        byte[] content = new byte[TEST_STR.length()];
+        assertEquals(
+                TEST_STR.length(),
+                StreamHelper.digest(
+                        new ByteArrayInputStream(TEST_STR.getBytes()), digest, content));
+        assertArrayEquals(TEST_STR.getBytes(), content);
+        assertEquals("w/zT12GS5AB9+0lsymfhOw==", StreamHelper.base64Encode(digest));
+    }
+
+    @Test
+    public void digest_copy_streamTooLong() throws IOException {
+        byte[] content = new byte[TEST_STR.length() - 1];
+        assertEquals(
+                TEST_STR.length(),
+                StreamHelper.digest(
+                        new ByteArrayInputStream(TEST_STR.getBytes()),
+                        StreamHelper.createMd5MessageDigest(),
+                        content));
+    }
+
+    @Test
+    public void digest_copy_streamTooShort() throws IOException {
+        byte[] content = new byte[TEST_STR.length() + 1];
+        assertEquals(
+                TEST_STR.length(),
+                StreamHelper.digest(
+                        new ByteArrayInputStream(TEST_STR.getBytes()),
+                        StreamHelper.createMd5MessageDigest(),
+                        content));
+    }
+
+    @Test
+    public void readUpTo_streamEnds() throws IOException {
+        String testString = Strings.repeat(TEST_STR, 10000);
+        ByteBuffer buffer =
+                StreamHelper.readUpTo(new ByteArrayInputStream(testString.getBytes()), 1000000);
+        assertEquals(testString, toString(buffer));
+    }
+
+    @Test
+    public void readUpTo_maxLength() throws IOException {
+        ByteArrayInputStream stream = new ByteArrayInputStream(TEST_STR.getBytes());
+        ByteBuffer buffer = StreamHelper.readUpTo(stream, 10);
+        assertEquals(TEST_STR.substring(0, 10), toString(buffer));
+        // the rest of the stream is not read
+        assertEquals(TEST_STR.length() - 10, stream.available());
+    }
+
     @Test
     public void base64EncodeMd5Digest() {
         assertEquals(
                 "w/zT12GS5AB9+0lsymfhOw==",
                 StreamHelper.base64EncodeMd5Digest(TEST_STR.getBytes()));
     }
+
+    private static String toString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return new String(bytes);
+    }
 }
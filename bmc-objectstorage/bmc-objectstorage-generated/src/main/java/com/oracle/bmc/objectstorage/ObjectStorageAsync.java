@@ -53,6 +53,24 @@ public interface ObjectStorageAsync extends AutoCloseable {
                             AbortMultipartUploadRequest, AbortMultipartUploadResponse>
                     handler);
 
+    /**
+     * Aborts an in-progress multipart upload and deletes all parts that have been uploaded.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<AbortMultipartUploadResponse> abortMultipartUpload(
+            AbortMultipartUploadRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        AbortMultipartUploadRequest, AbortMultipartUploadResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        abortMultipartUpload(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Cancels a work request.
      *
@@ -70,6 +88,24 @@ public interface ObjectStorageAsync extends AutoCloseable {
                             CancelWorkRequestRequest, CancelWorkRequestResponse>
                     handler);
 
+    /**
+     * Cancels a work request.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CancelWorkRequestResponse> cancelWorkRequest(
+            CancelWorkRequestRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CancelWorkRequestRequest, CancelWorkRequestResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        cancelWorkRequest(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Commits a multipart upload, which involves checking part numbers and entity tags (ETags) of the parts, to create an aggregate object.
      *
@@ -87,6 +123,24 @@ public interface ObjectStorageAsync extends AutoCloseable {
                             CommitMultipartUploadRequest, CommitMultipartUploadResponse>
                     handler);
 
+    /**
+     * Commits a multipart upload, which involves checking part numbers and entity tags (ETags) of the parts, to create an aggregate object.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CommitMultipartUploadResponse>
+            commitMultipartUpload(CommitMultipartUploadRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CommitMultipartUploadRequest, CommitMultipartUploadResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        commitMultipartUpload(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Creates a request to copy an object within a region or to another region.
      *
@@ -102,6 +156,24 @@ public interface ObjectStorageAsync extends AutoCloseable {
             CopyObjectRequest request,
             com.oracle.bmc.responses.AsyncHandler<CopyObjectRequest, CopyObjectResponse> handler);
 
+    /**
+     * Creates a request to copy an object within a region or to another region.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CopyObjectResponse> copyObject(
+            CopyObjectRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CopyObjectRequest, CopyObjectResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        copyObject(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Creates a bucket in the given namespace with a bucket name and optional user-defined metadata. Avoid entering
      * confidential information in bucket names.
@@ -119,6 +191,25 @@ public interface ObjectStorageAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<CreateBucketRequest, CreateBucketResponse>
                     handler);
 
+    /**
+     * Creates a bucket in the given namespace with a bucket name and optional user-defined metadata. Avoid entering
+     * confidential information in bucket names.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreateBucketResponse> createBucket(
+            CreateBucketRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreateBucketRequest, CreateBucketResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createBucket(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Starts a new multipart upload to a specific object in the given bucket in the given namespace.
      *
@@ -136,6 +227,24 @@ public interface ObjectStorageAsync extends AutoCloseable {
                             CreateMultipartUploadRequest, CreateMultipartUploadResponse>
                     handler);
 
+    /**
+     * Starts a new multipart upload to a specific object in the given bucket in the given namespace.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreateMultipartUploadResponse>
+            createMultipartUpload(CreateMultipartUploadRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreateMultipartUploadRequest, CreateMultipartUploadResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createMultipartUpload(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Creates a pre-authenticated request specific to the bucket.
      *
@@ -155,6 +264,24 @@ public interface ObjectStorageAsync extends AutoCloseable {
                                     CreatePreauthenticatedRequestResponse>
                             handler);
 
+    /**
+     * Creates a pre-authenticated request specific to the bucket.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreatePreauthenticatedRequestResponse>
+            createPreauthenticatedRequest(CreatePreauthenticatedRequestRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreatePreauthenticatedRequestRequest, CreatePreauthenticatedRequestResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createPreauthenticatedRequest(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Deletes a bucket if the bucket is already empty. If the bucket is not empty, use
      * {@link #deleteObject(DeleteObjectRequest, Consumer, Consumer) deleteObject} first. You also cannot
@@ -173,6 +300,26 @@ public interface ObjectStorageAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<DeleteBucketRequest, DeleteBucketResponse>
                     handler);
 
+    /**
+     * Deletes a bucket if the bucket is already empty. If the bucket is not empty, use
+     * {@link #deleteObject(DeleteObjectRequest, Consumer, Consumer) deleteObject} first. You also cannot
+     * delete a bucket that has a pre-authenticated request associated with that bucket.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<DeleteBucketResponse> deleteBucket(
+            DeleteBucketRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        DeleteBucketRequest, DeleteBucketResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        deleteBucket(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Deletes an object.
      *
@@ -189,6 +336,24 @@ public interface ObjectStorageAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<DeleteObjectRequest, DeleteObjectResponse>
                     handler);
 
+    /**
+     * Deletes an object.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<DeleteObjectResponse> deleteObject(
+            DeleteObjectRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        DeleteObjectRequest, DeleteObjectResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        deleteObject(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Deletes the object lifecycle policy for the bucket.
      *
@@ -206,6 +371,24 @@ public interface ObjectStorageAsync extends AutoCloseable {
                             DeleteObjectLifecyclePolicyRequest, DeleteObjectLifecyclePolicyResponse>
                     handler);
 
+    /**
+     * Deletes the object lifecycle policy for the bucket.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<DeleteObjectLifecyclePolicyResponse>
+            deleteObjectLifecyclePolicy(DeleteObjectLifecyclePolicyRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        DeleteObjectLifecyclePolicyRequest, DeleteObjectLifecyclePolicyResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        deleteObjectLifecyclePolicy(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Deletes the pre-authenticated request for the bucket.
      *
@@ -224,6 +407,23 @@ public interface ObjectStorageAsync extends AutoCloseable {
                                     DeletePreauthenticatedRequestResponse>
                             handler);
 
+    /**
+     * Deletes the pre-authenticated request for the bucket.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<DeletePreauthenticatedRequestResponse>
+            deletePreauthenticatedRequest(DeletePreauthenticatedRequestRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        DeletePreauthenticatedRequestRequest, DeletePreauthenticatedRequestResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        deletePreauthenticatedRequest(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the current representation of the given bucket in the given Object Storage namespace.
      *
@@ -239,6 +439,24 @@ public interface ObjectStorageAsync extends AutoCloseable {
             GetBucketRequest request,
             com.oracle.bmc.responses.AsyncHandler<GetBucketRequest, GetBucketResponse> handler);
 
+    /**
+     * Gets the current representation of the given bucket in the given Object Storage namespace.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetBucketResponse> getBucket(
+            GetBucketRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetBucketRequest, GetBucketResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getBucket(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Each Oracle Cloud Infrastructure tenant is assigned one unique and uneditable Object Storage namespace. The namespace
      * is a system-generated string assigned during account creation. For some older tenancies, the namespace string may be
@@ -259,6 +477,28 @@ public interface ObjectStorageAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<GetNamespaceRequest, GetNamespaceResponse>
                     handler);
 
+    /**
+     * Each Oracle Cloud Infrastructure tenant is assigned one unique and uneditable Object Storage namespace. The namespace
+     * is a system-generated string assigned during account creation. For some older tenancies, the namespace string may be
+     * the tenancy name in all lower-case letters. You cannot edit a namespace.
+     * <p>
+     * GetNamespace returns the name of the Object Storage namespace for the user making the request.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetNamespaceResponse> getNamespace(
+            GetNamespaceRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetNamespaceRequest, GetNamespaceResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getNamespace(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the metadata for the Object Storage namespace, which contains defaultS3CompartmentId and
      * defaultSwiftCompartmentId.
@@ -282,6 +522,30 @@ public interface ObjectStorageAsync extends AutoCloseable {
                             GetNamespaceMetadataRequest, GetNamespaceMetadataResponse>
                     handler);
 
+    /**
+     * Gets the metadata for the Object Storage namespace, which contains defaultS3CompartmentId and
+     * defaultSwiftCompartmentId.
+     * <p>
+     * Any user with the NAMESPACE_READ permission will be able to see the current metadata. If you are
+     * not authorized, talk to an administrator. If you are an administrator who needs to write policies
+     * to give users access, see
+     * [Getting Started with Policies](https://docs.cloud.oracle.com/Content/Identity/Concepts/policygetstarted.htm).
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetNamespaceMetadataResponse> getNamespaceMetadata(
+            GetNamespaceMetadataRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetNamespaceMetadataRequest, GetNamespaceMetadataResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getNamespaceMetadata(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the metadata and body of an object.
      *
@@ -297,6 +561,24 @@ public interface ObjectStorageAsync extends AutoCloseable {
             GetObjectRequest request,
             com.oracle.bmc.responses.AsyncHandler<GetObjectRequest, GetObjectResponse> handler);
 
+    /**
+     * Gets the metadata and body of an object.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetObjectResponse> getObject(
+            GetObjectRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetObjectRequest, GetObjectResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getObject(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the object lifecycle policy for the bucket.
      *
@@ -314,6 +596,24 @@ public interface ObjectStorageAsync extends AutoCloseable {
                             GetObjectLifecyclePolicyRequest, GetObjectLifecyclePolicyResponse>
                     handler);
 
+    /**
+     * Gets the object lifecycle policy for the bucket.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetObjectLifecyclePolicyResponse>
+            getObjectLifecyclePolicy(GetObjectLifecyclePolicyRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetObjectLifecyclePolicyRequest, GetObjectLifecyclePolicyResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getObjectLifecyclePolicy(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the pre-authenticated request for the bucket.
      *
@@ -330,6 +630,23 @@ public interface ObjectStorageAsync extends AutoCloseable {
                             GetPreauthenticatedRequestRequest, GetPreauthenticatedRequestResponse>
                     handler);
 
+    /**
+     * Gets the pre-authenticated request for the bucket.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetPreauthenticatedRequestResponse>
+            getPreauthenticatedRequest(GetPreauthenticatedRequestRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetPreauthenticatedRequestRequest, GetPreauthenticatedRequestResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getPreauthenticatedRequest(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the status of the work request for the given ID.
      *
@@ -345,6 +662,23 @@ public interface ObjectStorageAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<GetWorkRequestRequest, GetWorkRequestResponse>
                     handler);
 
+    /**
+     * Gets the status of the work request for the given ID.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetWorkRequestResponse> getWorkRequest(
+            GetWorkRequestRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetWorkRequestRequest, GetWorkRequestResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getWorkRequest(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Efficiently checks to see if a bucket exists and gets the current entity tag (ETag) for the bucket.
      *
@@ -360,6 +694,24 @@ public interface ObjectStorageAsync extends AutoCloseable {
             HeadBucketRequest request,
             com.oracle.bmc.responses.AsyncHandler<HeadBucketRequest, HeadBucketResponse> handler);
 
+    /**
+     * Efficiently checks to see if a bucket exists and gets the current entity tag (ETag) for the bucket.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<HeadBucketResponse> headBucket(
+            HeadBucketRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        HeadBucketRequest, HeadBucketResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        headBucket(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the user-defined metadata and entity tag (ETag) for an object.
      *
@@ -375,6 +727,24 @@ public interface ObjectStorageAsync extends AutoCloseable {
             HeadObjectRequest request,
             com.oracle.bmc.responses.AsyncHandler<HeadObjectRequest, HeadObjectResponse> handler);
 
+    /**
+     * Gets the user-defined metadata and entity tag (ETag) for an object.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<HeadObjectResponse> headObject(
+            HeadObjectRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        HeadObjectRequest, HeadObjectResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        headObject(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets a list of all BucketSummary items in a compartment. A BucketSummary contains only summary fields for the bucket
      * and does not contain fields like the user-defined metadata.
@@ -395,6 +765,29 @@ public interface ObjectStorageAsync extends AutoCloseable {
             ListBucketsRequest request,
             com.oracle.bmc.responses.AsyncHandler<ListBucketsRequest, ListBucketsResponse> handler);
 
+    /**
+     * Gets a list of all BucketSummary items in a compartment. A BucketSummary contains only summary fields for the bucket
+     * and does not contain fields like the user-defined metadata.
+     * <p>
+     * To use this and other API operations, you must be authorized in an IAM policy. If you are not authorized,
+     * talk to an administrator. If you are an administrator who needs to write policies to give users access, see
+     * [Getting Started with Policies](https://docs.cloud.oracle.com/Content/Identity/Concepts/policygetstarted.htm).
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListBucketsResponse> listBuckets(
+            ListBucketsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListBucketsRequest, ListBucketsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listBuckets(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists the parts of an in-progress multipart upload.
      *
@@ -412,6 +805,24 @@ public interface ObjectStorageAsync extends AutoCloseable {
                             ListMultipartUploadPartsRequest, ListMultipartUploadPartsResponse>
                     handler);
 
+    /**
+     * Lists the parts of an in-progress multipart upload.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListMultipartUploadPartsResponse>
+            listMultipartUploadParts(ListMultipartUploadPartsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListMultipartUploadPartsRequest, ListMultipartUploadPartsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listMultipartUploadParts(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists all of the in-progress multipart uploads for the given bucket in the given Object Storage namespace.
      *
@@ -429,6 +840,24 @@ public interface ObjectStorageAsync extends AutoCloseable {
                             ListMultipartUploadsRequest, ListMultipartUploadsResponse>
                     handler);
 
+    /**
+     * Lists all of the in-progress multipart uploads for the given bucket in the given Object Storage namespace.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListMultipartUploadsResponse> listMultipartUploads(
+            ListMultipartUploadsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListMultipartUploadsRequest, ListMultipartUploadsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listMultipartUploads(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists the objects in a bucket.
      * <p>
@@ -448,6 +877,28 @@ public interface ObjectStorageAsync extends AutoCloseable {
             ListObjectsRequest request,
             com.oracle.bmc.responses.AsyncHandler<ListObjectsRequest, ListObjectsResponse> handler);
 
+    /**
+     * Lists the objects in a bucket.
+     * <p>
+     * To use this and other API operations, you must be authorized in an IAM policy. If you are not authorized,
+     * talk to an administrator. If you are an administrator who needs to write policies to give users access, see
+     * [Getting Started with Policies](https://docs.cloud.oracle.com/Content/Identity/Concepts/policygetstarted.htm).
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListObjectsResponse> listObjects(
+            ListObjectsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListObjectsRequest, ListObjectsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listObjects(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists pre-authenticated requests for the bucket.
      *
@@ -466,6 +917,24 @@ public interface ObjectStorageAsync extends AutoCloseable {
                             ListPreauthenticatedRequestsResponse>
                     handler);
 
+    /**
+     * Lists pre-authenticated requests for the bucket.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListPreauthenticatedRequestsResponse>
+            listPreauthenticatedRequests(ListPreauthenticatedRequestsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListPreauthenticatedRequestsRequest, ListPreauthenticatedRequestsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listPreauthenticatedRequests(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists the errors of the work request with the given ID.
      *
@@ -482,6 +951,23 @@ public interface ObjectStorageAsync extends AutoCloseable {
                             ListWorkRequestErrorsRequest, ListWorkRequestErrorsResponse>
                     handler);
 
+    /**
+     * Lists the errors of the work request with the given ID.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListWorkRequestErrorsResponse>
+            listWorkRequestErrors(ListWorkRequestErrorsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListWorkRequestErrorsRequest, ListWorkRequestErrorsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listWorkRequestErrors(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists the logs of the work request with the given ID.
      *
@@ -498,6 +984,23 @@ public interface ObjectStorageAsync extends AutoCloseable {
                             ListWorkRequestLogsRequest, ListWorkRequestLogsResponse>
                     handler);
 
+    /**
+     * Lists the logs of the work request with the given ID.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListWorkRequestLogsResponse> listWorkRequestLogs(
+            ListWorkRequestLogsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListWorkRequestLogsRequest, ListWorkRequestLogsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listWorkRequestLogs(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists the work requests in a compartment.
      *
@@ -514,6 +1017,24 @@ public interface ObjectStorageAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<ListWorkRequestsRequest, ListWorkRequestsResponse>
                     handler);
 
+    /**
+     * Lists the work requests in a compartment.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListWorkRequestsResponse> listWorkRequests(
+            ListWorkRequestsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListWorkRequestsRequest, ListWorkRequestsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listWorkRequests(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Creates a new object or overwrites an existing one. See [Special Instructions for Object Storage
      * PUT](https://docs.cloud.oracle.com/Content/API/Concepts/signingrequests.htm#ObjectStoragePut) for request signature requirements.
@@ -530,6 +1051,25 @@ public interface ObjectStorageAsync extends AutoCloseable {
             PutObjectRequest request,
             com.oracle.bmc.responses.AsyncHandler<PutObjectRequest, PutObjectResponse> handler);
 
+    /**
+     * Creates a new object or overwrites an existing one. See [Special Instructions for Object Storage
+     * PUT](https://docs.cloud.oracle.com/Content/API/Concepts/signingrequests.htm#ObjectStoragePut) for request signature requirements.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<PutObjectResponse> putObject(
+            PutObjectRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        PutObjectRequest, PutObjectResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        putObject(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Creates or replaces the object lifecycle policy for the bucket.
      *
@@ -547,6 +1087,24 @@ public interface ObjectStorageAsync extends AutoCloseable {
                             PutObjectLifecyclePolicyRequest, PutObjectLifecyclePolicyResponse>
                     handler);
 
+    /**
+     * Creates or replaces the object lifecycle policy for the bucket.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<PutObjectLifecyclePolicyResponse>
+            putObjectLifecyclePolicy(PutObjectLifecyclePolicyRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        PutObjectLifecyclePolicyRequest, PutObjectLifecyclePolicyResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        putObjectLifecyclePolicy(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Rename an object in the given Object Storage namespace.
      *
@@ -563,6 +1121,24 @@ public interface ObjectStorageAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<RenameObjectRequest, RenameObjectResponse>
                     handler);
 
+    /**
+     * Rename an object in the given Object Storage namespace.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<RenameObjectResponse> renameObject(
+            RenameObjectRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        RenameObjectRequest, RenameObjectResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        renameObject(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Restores one or more objects specified by the objectName parameter.
      * By default objects will be restored for 24 hours. Duration can be configured using the hours parameter.
@@ -580,6 +1156,25 @@ public interface ObjectStorageAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<RestoreObjectsRequest, RestoreObjectsResponse>
                     handler);
 
+    /**
+     * Restores one or more objects specified by the objectName parameter.
+     * By default objects will be restored for 24 hours. Duration can be configured using the hours parameter.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<RestoreObjectsResponse> restoreObjects(
+            RestoreObjectsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        RestoreObjectsRequest, RestoreObjectsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        restoreObjects(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Performs a partial or full update of a bucket's user-defined metadata.
      *
@@ -596,6 +1191,24 @@ public interface ObjectStorageAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<UpdateBucketRequest, UpdateBucketResponse>
                     handler);
 
+    /**
+     * Performs a partial or full update of a bucket's user-defined metadata.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateBucketResponse> updateBucket(
+            UpdateBucketRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateBucketRequest, UpdateBucketResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateBucket(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * By default, buckets created using the Amazon S3 Compatibility API or the Swift API are created in the root
      * compartment of the Oracle Cloud Infrastructure tenancy.
@@ -619,6 +1232,30 @@ public interface ObjectStorageAsync extends AutoCloseable {
                             UpdateNamespaceMetadataRequest, UpdateNamespaceMetadataResponse>
                     handler);
 
+    /**
+     * By default, buckets created using the Amazon S3 Compatibility API or the Swift API are created in the root
+     * compartment of the Oracle Cloud Infrastructure tenancy.
+     * <p>
+     * You can change the default Swift/Amazon S3 compartmentId designation to a different compartmentId. All
+     * subsequent bucket creations will use the new default compartment, but no previously created
+     * buckets will be modified. A user must have NAMESPACE_UPDATE permission to make changes to the default
+     * compartments for Amazon S3 and Swift.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateNamespaceMetadataResponse>
+            updateNamespaceMetadata(UpdateNamespaceMetadataRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateNamespaceMetadataRequest, UpdateNamespaceMetadataResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateNamespaceMetadata(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Uploads a single part of a multipart upload.
      *
@@ -633,4 +1270,22 @@ public interface ObjectStorageAsync extends AutoCloseable {
     java.util.concurrent.Future<UploadPartResponse> uploadPart(
             UploadPartRequest request,
             com.oracle.bmc.responses.AsyncHandler<UploadPartRequest, UploadPartResponse> handler);
+
+    /**
+     * Uploads a single part of a multipart upload.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UploadPartResponse> uploadPart(
+            UploadPartRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UploadPartRequest, UploadPartResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        uploadPart(request, handler);
+        return handler.getStage();
+    }
 }
@@ -379,6 +379,31 @@ public class ObjectStorageAsyncClient implements ObjectStorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<AbortMultipartUploadResponse> abortMultipartUpload(
+            final AbortMultipartUploadRequest request) {
+        LOG.trace("Called async abortMultipartUpload");
+        final AbortMultipartUploadRequest interceptedRequest =
+                AbortMultipartUploadConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                AbortMultipartUploadConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, AbortMultipartUploadResponse>
+                transformer = AbortMultipartUploadConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CancelWorkRequestResponse> cancelWorkRequest(
             final CancelWorkRequestRequest request,
@@ -453,6 +478,30 @@ public class ObjectStorageAsyncClient implements ObjectStorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CancelWorkRequestResponse> cancelWorkRequest(
+            final CancelWorkRequestRequest request) {
+        LOG.trace("Called async cancelWorkRequest");
+        final CancelWorkRequestRequest interceptedRequest =
+                CancelWorkRequestConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CancelWorkRequestConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, CancelWorkRequestResponse>
+                transformer = CancelWorkRequestConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CommitMultipartUploadResponse> commitMultipartUpload(
             final CommitMultipartUploadRequest request,
@@ -544,6 +593,34 @@ public class ObjectStorageAsyncClient implements ObjectStorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CommitMultipartUploadResponse>
+            commitMultipartUpload(final CommitMultipartUploadRequest request) {
+        LOG.trace("Called async commitMultipartUpload");
+        final CommitMultipartUploadRequest interceptedRequest =
+                CommitMultipartUploadConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CommitMultipartUploadConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, CommitMultipartUploadResponse>
+                transformer = CommitMultipartUploadConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCommitMultipartUploadDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CopyObjectResponse> copyObject(
             final CopyObjectRequest request,
@@ -631,6 +708,30 @@ public class ObjectStorageAsyncClient implements ObjectStorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CopyObjectResponse> copyObject(
+            final CopyObjectRequest request) {
+        LOG.trace("Called async copyObject");
+        final CopyObjectRequest interceptedRequest = CopyObjectConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CopyObjectConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, CopyObjectResponse>
+                transformer = CopyObjectConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib, interceptedRequest.getCopyObjectDetails(), interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateBucketResponse> createBucket(
             final CreateBucketRequest request,
@@ -719,6 +820,33 @@ public class ObjectStorageAsyncClient implements ObjectStorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateBucketResponse> createBucket(
+            final CreateBucketRequest request) {
+        LOG.trace("Called async createBucket");
+        final CreateBucketRequest interceptedRequest =
+                CreateBucketConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateBucketConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, CreateBucketResponse>
+                transformer = CreateBucketConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreateBucketDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateMultipartUploadResponse> createMultipartUpload(
             final CreateMultipartUploadRequest request,
@@ -810,6 +938,34 @@ public class ObjectStorageAsyncClient implements ObjectStorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateMultipartUploadResponse>
+            createMultipartUpload(final CreateMultipartUploadRequest request) {
+        LOG.trace("Called async createMultipartUpload");
+        final CreateMultipartUploadRequest interceptedRequest =
+                CreateMultipartUploadConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateMultipartUploadConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, CreateMultipartUploadResponse>
+                transformer = CreateMultipartUploadConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreateMultipartUploadDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreatePreauthenticatedRequestResponse>
             createPreauthenticatedRequest(
@@ -904,6 +1060,34 @@ public class ObjectStorageAsyncClient implements ObjectStorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreatePreauthenticatedRequestResponse>
+            createPreauthenticatedRequest(final CreatePreauthenticatedRequestRequest request) {
+        LOG.trace("Called async createPreauthenticatedRequest");
+        final CreatePreauthenticatedRequestRequest interceptedRequest =
+                CreatePreauthenticatedRequestConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreatePreauthenticatedRequestConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, CreatePreauthenticatedRequestResponse>
+                transformer = CreatePreauthenticatedRequestConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreatePreauthenticatedRequestDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteBucketResponse> deleteBucket(
             final DeleteBucketRequest request,
@@ -977,6 +1161,30 @@ public class ObjectStorageAsyncClient implements ObjectStorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteBucketResponse> deleteBucket(
+            final DeleteBucketRequest request) {
+        LOG.trace("Called async deleteBucket");
+        final DeleteBucketRequest interceptedRequest =
+                DeleteBucketConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteBucketConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, DeleteBucketResponse>
+                transformer = DeleteBucketConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteObjectResponse> deleteObject(
             final DeleteObjectRequest request,
@@ -1050,6 +1258,30 @@ public class ObjectStorageAsyncClient implements ObjectStorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteObjectResponse> deleteObject(
+            final DeleteObjectRequest request) {
+        LOG.trace("Called async deleteObject");
+        final DeleteObjectRequest interceptedRequest =
+                DeleteObjectConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteObjectConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, DeleteObjectResponse>
+                transformer = DeleteObjectConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteObjectLifecyclePolicyResponse>
             deleteObjectLifecyclePolicy(
@@ -1129,6 +1361,31 @@ public class ObjectStorageAsyncClient implements ObjectStorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteObjectLifecyclePolicyResponse>
+            deleteObjectLifecyclePolicy(final DeleteObjectLifecyclePolicyRequest request) {
+        LOG.trace("Called async deleteObjectLifecyclePolicy");
+        final DeleteObjectLifecyclePolicyRequest interceptedRequest =
+                DeleteObjectLifecyclePolicyConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteObjectLifecyclePolicyConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, DeleteObjectLifecyclePolicyResponse>
+                transformer = DeleteObjectLifecyclePolicyConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeletePreauthenticatedRequestResponse>
             deletePreauthenticatedRequest(
@@ -1208,6 +1465,31 @@ public class ObjectStorageAsyncClient implements ObjectStorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeletePreauthenticatedRequestResponse>
+            deletePreauthenticatedRequest(final DeletePreauthenticatedRequestRequest request) {
+        LOG.trace("Called async deletePreauthenticatedRequest");
+        final DeletePreauthenticatedRequestRequest interceptedRequest =
+                DeletePreauthenticatedRequestConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeletePreauthenticatedRequestConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, DeletePreauthenticatedRequestResponse>
+                transformer = DeletePreauthenticatedRequestConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetBucketResponse> getBucket(
             final GetBucketRequest request,
@@ -1280,6 +1562,29 @@ public class ObjectStorageAsyncClient implements ObjectStorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetBucketResponse> getBucket(
+            final GetBucketRequest request) {
+        LOG.trace("Called async getBucket");
+        final GetBucketRequest interceptedRequest = GetBucketConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetBucketConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetBucketResponse>
+                transformer = GetBucketConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetNamespaceResponse> getNamespace(
             final GetNamespaceRequest request,
@@ -1353,6 +1658,30 @@ public class ObjectStorageAsyncClient implements ObjectStorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetNamespaceResponse> getNamespace(
+            final GetNamespaceRequest request) {
+        LOG.trace("Called async getNamespace");
+        final GetNamespaceRequest interceptedRequest =
+                GetNamespaceConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetNamespaceConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetNamespaceResponse>
+                transformer = GetNamespaceConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetNamespaceMetadataResponse> getNamespaceMetadata(
             final GetNamespaceMetadataRequest request,
@@ -1429,6 +1758,31 @@ public class ObjectStorageAsyncClient implements ObjectStorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetNamespaceMetadataResponse> getNamespaceMetadata(
+            final GetNamespaceMetadataRequest request) {
+        LOG.trace("Called async getNamespaceMetadata");
+        final GetNamespaceMetadataRequest interceptedRequest =
+                GetNamespaceMetadataConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetNamespaceMetadataConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, GetNamespaceMetadataResponse>
+                transformer = GetNamespaceMetadataConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetObjectResponse> getObject(
             final GetObjectRequest request,
@@ -1501,6 +1855,29 @@ public class ObjectStorageAsyncClient implements ObjectStorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetObjectResponse> getObject(
+            final GetObjectRequest request) {
+        LOG.trace("Called async getObject");
+        final GetObjectRequest interceptedRequest = GetObjectConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetObjectConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetObjectResponse>
+                transformer = GetObjectConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetObjectLifecyclePolicyResponse> getObjectLifecyclePolicy(
             final GetObjectLifecyclePolicyRequest request,
@@ -1577,6 +1954,31 @@ public class ObjectStorageAsyncClient implements ObjectStorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetObjectLifecyclePolicyResponse>
+            getObjectLifecyclePolicy(final GetObjectLifecyclePolicyRequest request) {
+        LOG.trace("Called async getObjectLifecyclePolicy");
+        final GetObjectLifecyclePolicyRequest interceptedRequest =
+                GetObjectLifecyclePolicyConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetObjectLifecyclePolicyConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, GetObjectLifecyclePolicyResponse>
+                transformer = GetObjectLifecyclePolicyConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetPreauthenticatedRequestResponse>
             getPreauthenticatedRequest(
@@ -1655,6 +2057,31 @@ public class ObjectStorageAsyncClient implements ObjectStorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetPreauthenticatedRequestResponse>
+            getPreauthenticatedRequest(final GetPreauthenticatedRequestRequest request) {
+        LOG.trace("Called async getPreauthenticatedRequest");
+        final GetPreauthenticatedRequestRequest interceptedRequest =
+                GetPreauthenticatedRequestConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetPreauthenticatedRequestConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, GetPreauthenticatedRequestResponse>
+                transformer = GetPreauthenticatedRequestConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetWorkRequestResponse> getWorkRequest(
             final GetWorkRequestRequest request,
@@ -1729,6 +2156,30 @@ public class ObjectStorageAsyncClient implements ObjectStorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetWorkRequestResponse> getWorkRequest(
+            final GetWorkRequestRequest request) {
+        LOG.trace("Called async getWorkRequest");
+        final GetWorkRequestRequest interceptedRequest =
+                GetWorkRequestConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetWorkRequestConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetWorkRequestResponse>
+                transformer = GetWorkRequestConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<HeadBucketResponse> headBucket(
             final HeadBucketRequest request,
@@ -1801,6 +2252,29 @@ public class ObjectStorageAsyncClient implements ObjectStorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<HeadBucketResponse> headBucket(
+            final HeadBucketRequest request) {
+        LOG.trace("Called async headBucket");
+        final HeadBucketRequest interceptedRequest = HeadBucketConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                HeadBucketConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, HeadBucketResponse>
+                transformer = HeadBucketConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxHead(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<HeadObjectResponse> headObject(
             final HeadObjectRequest request,
@@ -1873,6 +2347,29 @@ public class ObjectStorageAsyncClient implements ObjectStorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<HeadObjectResponse> headObject(
+            final HeadObjectRequest request) {
+        LOG.trace("Called async headObject");
+        final HeadObjectRequest interceptedRequest = HeadObjectConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                HeadObjectConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, HeadObjectResponse>
+                transformer = HeadObjectConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxHead(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListBucketsResponse> listBuckets(
             final ListBucketsRequest request,
@@ -1946,6 +2443,30 @@ public class ObjectStorageAsyncClient implements ObjectStorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListBucketsResponse> listBuckets(
+            final ListBucketsRequest request) {
+        LOG.trace("Called async listBuckets");
+        final ListBucketsRequest interceptedRequest =
+                ListBucketsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListBucketsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListBucketsResponse>
+                transformer = ListBucketsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListMultipartUploadPartsResponse> listMultipartUploadParts(
             final ListMultipartUploadPartsRequest request,
@@ -2022,6 +2543,31 @@ public class ObjectStorageAsyncClient implements ObjectStorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListMultipartUploadPartsResponse>
+            listMultipartUploadParts(final ListMultipartUploadPartsRequest request) {
+        LOG.trace("Called async listMultipartUploadParts");
+        final ListMultipartUploadPartsRequest interceptedRequest =
+                ListMultipartUploadPartsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListMultipartUploadPartsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, ListMultipartUploadPartsResponse>
+                transformer = ListMultipartUploadPartsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListMultipartUploadsResponse> listMultipartUploads(
             final ListMultipartUploadsRequest request,
@@ -2098,6 +2644,31 @@ public class ObjectStorageAsyncClient implements ObjectStorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListMultipartUploadsResponse> listMultipartUploads(
+            final ListMultipartUploadsRequest request) {
+        LOG.trace("Called async listMultipartUploads");
+        final ListMultipartUploadsRequest interceptedRequest =
+                ListMultipartUploadsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListMultipartUploadsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, ListMultipartUploadsResponse>
+                transformer = ListMultipartUploadsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListObjectsResponse> listObjects(
             final ListObjectsRequest request,
@@ -2171,6 +2742,30 @@ public class ObjectStorageAsyncClient implements ObjectStorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListObjectsResponse> listObjects(
+            final ListObjectsRequest request) {
+        LOG.trace("Called async listObjects");
+        final ListObjectsRequest interceptedRequest =
+                ListObjectsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListObjectsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListObjectsResponse>
+                transformer = ListObjectsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListPreauthenticatedRequestsResponse>
             listPreauthenticatedRequests(
@@ -2250,6 +2845,31 @@ public class ObjectStorageAsyncClient implements ObjectStorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListPreauthenticatedRequestsResponse>
+            listPreauthenticatedRequests(final ListPreauthenticatedRequestsRequest request) {
+        LOG.trace("Called async listPreauthenticatedRequests");
+        final ListPreauthenticatedRequestsRequest interceptedRequest =
+                ListPreauthenticatedRequestsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListPreauthenticatedRequestsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, ListPreauthenticatedRequestsResponse>
+                transformer = ListPreauthenticatedRequestsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListWorkRequestErrorsResponse> listWorkRequestErrors(
             final ListWorkRequestErrorsRequest request,
@@ -2326,6 +2946,31 @@ public class ObjectStorageAsyncClient implements ObjectStorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListWorkRequestErrorsResponse>
+            listWorkRequestErrors(final ListWorkRequestErrorsRequest request) {
+        LOG.trace("Called async listWorkRequestErrors");
+        final ListWorkRequestErrorsRequest interceptedRequest =
+                ListWorkRequestErrorsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListWorkRequestErrorsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, ListWorkRequestErrorsResponse>
+                transformer = ListWorkRequestErrorsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListWorkRequestLogsResponse> listWorkRequestLogs(
             final ListWorkRequestLogsRequest request,
@@ -2402,6 +3047,31 @@ public class ObjectStorageAsyncClient implements ObjectStorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListWorkRequestLogsResponse> listWorkRequestLogs(
+            final ListWorkRequestLogsRequest request) {
+        LOG.trace("Called async listWorkRequestLogs");
+        final ListWorkRequestLogsRequest interceptedRequest =
+                ListWorkRequestLogsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListWorkRequestLogsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, ListWorkRequestLogsResponse>
+                transformer = ListWorkRequestLogsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListWorkRequestsResponse> listWorkRequests(
             final ListWorkRequestsRequest request,
@@ -2476,6 +3146,30 @@ public class ObjectStorageAsyncClient implements ObjectStorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListWorkRequestsResponse> listWorkRequests(
+            final ListWorkRequestsRequest request) {
+        LOG.trace("Called async listWorkRequests");
+        final ListWorkRequestsRequest interceptedRequest =
+                ListWorkRequestsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListWorkRequestsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListWorkRequestsResponse>
+                transformer = ListWorkRequestsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<PutObjectResponse> putObject(
             final PutObjectRequest request,
@@ -2567,6 +3261,30 @@ public class ObjectStorageAsyncClient implements ObjectStorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<PutObjectResponse> putObject(
+            final PutObjectRequest request) {
+        LOG.trace("Called async putObject");
+        final PutObjectRequest interceptedRequest = PutObjectConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                PutObjectConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, PutObjectResponse>
+                transformer = PutObjectConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib, interceptedRequest.getPutObjectBody(), interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<PutObjectLifecyclePolicyResponse> putObjectLifecyclePolicy(
             final PutObjectLifecyclePolicyRequest request,
@@ -2658,6 +3376,34 @@ public class ObjectStorageAsyncClient implements ObjectStorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<PutObjectLifecyclePolicyResponse>
+            putObjectLifecyclePolicy(final PutObjectLifecyclePolicyRequest request) {
+        LOG.trace("Called async putObjectLifecyclePolicy");
+        final PutObjectLifecyclePolicyRequest interceptedRequest =
+                PutObjectLifecyclePolicyConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                PutObjectLifecyclePolicyConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, PutObjectLifecyclePolicyResponse>
+                transformer = PutObjectLifecyclePolicyConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getPutObjectLifecyclePolicyDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<RenameObjectResponse> renameObject(
             final RenameObjectRequest request,
@@ -2746,6 +3492,33 @@ public class ObjectStorageAsyncClient implements ObjectStorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<RenameObjectResponse> renameObject(
+            final RenameObjectRequest request) {
+        LOG.trace("Called async renameObject");
+        final RenameObjectRequest interceptedRequest =
+                RenameObjectConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                RenameObjectConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, RenameObjectResponse>
+                transformer = RenameObjectConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getRenameObjectDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<RestoreObjectsResponse> restoreObjects(
             final RestoreObjectsRequest request,
@@ -2835,6 +3608,33 @@ public class ObjectStorageAsyncClient implements ObjectStorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<RestoreObjectsResponse> restoreObjects(
+            final RestoreObjectsRequest request) {
+        LOG.trace("Called async restoreObjects");
+        final RestoreObjectsRequest interceptedRequest =
+                RestoreObjectsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                RestoreObjectsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, RestoreObjectsResponse>
+                transformer = RestoreObjectsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getRestoreObjectsDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateBucketResponse> updateBucket(
             final UpdateBucketRequest request,
@@ -2923,6 +3723,33 @@ public class ObjectStorageAsyncClient implements ObjectStorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateBucketResponse> updateBucket(
+            final UpdateBucketRequest request) {
+        LOG.trace("Called async updateBucket");
+        final UpdateBucketRequest interceptedRequest =
+                UpdateBucketConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateBucketConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, UpdateBucketResponse>
+                transformer = UpdateBucketConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getUpdateBucketDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateNamespaceMetadataResponse> updateNamespaceMetadata(
             final UpdateNamespaceMetadataRequest request,
@@ -3014,6 +3841,34 @@ public class ObjectStorageAsyncClient implements ObjectStorageAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateNamespaceMetadataResponse>
+            updateNamespaceMetadata(final UpdateNamespaceMetadataRequest request) {
+        LOG.trace("Called async updateNamespaceMetadata");
+        final UpdateNamespaceMetadataRequest interceptedRequest =
+                UpdateNamespaceMetadataConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateNamespaceMetadataConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, UpdateNamespaceMetadataResponse>
+                transformer = UpdateNamespaceMetadataConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdateNamespaceMetadataDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UploadPartResponse> uploadPart(
             final UploadPartRequest request,
@@ -3104,4 +3959,28 @@ public class ObjectStorageAsyncClient implements ObjectStorageAsync {
                     responseFuture, transformer);
         }
     }
+
+    @Override
+    public java.util.concurrent.CompletionStage<UploadPartResponse> uploadPart(
+            final UploadPartRequest request) {
+        LOG.trace("Called async uploadPart");
+        final UploadPartRequest interceptedRequest = UploadPartConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UploadPartConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, UploadPartResponse>
+                transformer = UploadPartConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib, interceptedRequest.getUploadPartBody(), interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
 }
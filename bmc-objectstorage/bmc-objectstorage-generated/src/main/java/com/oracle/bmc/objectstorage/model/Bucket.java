@@ -166,7 +166,8 @@ public class Bucket {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public Bucket build() {
             Bucket __instance__ =
@@ -433,6 +434,25 @@ public class Bucket {
     @com.fasterxml.jackson.annotation.JsonProperty("approximateSize")
     Long approximateSize;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "namespace",
+                    "name",
+                    "compartmentId",
+                    "metadata",
+                    "createdBy",
+                    "timeCreated",
+                    "etag",
+                    "publicAccessType",
+                    "storageTier",
+                    "freeformTags",
+                    "definedTags",
+                    "kmsKeyId",
+                    "objectLifecyclePolicyEtag",
+                    "approximateCount",
+                    "approximateSize");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -47,7 +47,8 @@ public class CommitMultipartUploadDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public CommitMultipartUploadDetails build() {
             CommitMultipartUploadDetails __instance__ =
@@ -87,6 +88,10 @@ public class CommitMultipartUploadDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("partsToExclude")
     java.util.List<Integer> partsToExclude;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of("partsToCommit", "partsToExclude");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -112,7 +112,8 @@ public class CopyObjectDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public CopyObjectDetails build() {
             CopyObjectDetails __instance__ =
@@ -221,6 +222,19 @@ public class CopyObjectDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("destinationObjectMetadata")
     java.util.Map<String, String> destinationObjectMetadata;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "sourceObjectName",
+                    "sourceObjectIfMatchETag",
+                    "destinationRegion",
+                    "destinationNamespace",
+                    "destinationBucket",
+                    "destinationObjectName",
+                    "destinationObjectIfMatchETag",
+                    "destinationObjectIfNoneMatchETag",
+                    "destinationObjectMetadata");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -73,7 +73,8 @@ public class CreateMultipartUploadDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public CreateMultipartUploadDetails build() {
             CreateMultipartUploadDetails __instance__ =
@@ -138,6 +139,11 @@ public class CreateMultipartUploadDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("metadata")
     java.util.Map<String, String> metadata;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "object", "contentType", "contentLanguage", "contentEncoding", "metadata");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -53,7 +53,8 @@ public class NamespaceMetadata {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public NamespaceMetadata build() {
             NamespaceMetadata __instance__ =
@@ -100,6 +101,11 @@ public class NamespaceMetadata {
     @com.fasterxml.jackson.annotation.JsonProperty("defaultSwiftCompartmentId")
     String defaultSwiftCompartmentId;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "namespace", "defaultS3CompartmentId", "defaultSwiftCompartmentId");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
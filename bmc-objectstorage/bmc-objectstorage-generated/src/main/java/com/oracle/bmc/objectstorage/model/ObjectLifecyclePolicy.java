@@ -44,7 +44,8 @@ public class ObjectLifecyclePolicy {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public ObjectLifecyclePolicy build() {
             ObjectLifecyclePolicy __instance__ = new ObjectLifecyclePolicy(timeCreated, items);
@@ -86,6 +87,10 @@ public class ObjectLifecyclePolicy {
     @com.fasterxml.jackson.annotation.JsonProperty("items")
     java.util.List<ObjectLifecycleRule> items;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of("timeCreated", "items");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -82,7 +82,8 @@ public class ObjectLifecycleRule {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public ObjectLifecycleRule build() {
             ObjectLifecycleRule __instance__ =
@@ -205,6 +206,11 @@ public class ObjectLifecycleRule {
     @com.fasterxml.jackson.annotation.JsonProperty("objectNameFilter")
     ObjectNameFilter objectNameFilter;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "name", "action", "timeAmount", "timeUnit", "isEnabled", "objectNameFilter");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
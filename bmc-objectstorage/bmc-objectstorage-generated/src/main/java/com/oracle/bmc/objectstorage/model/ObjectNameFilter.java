@@ -54,7 +54,8 @@ public class ObjectNameFilter {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public ObjectNameFilter build() {
             ObjectNameFilter __instance__ =
@@ -141,6 +142,11 @@ public class ObjectNameFilter {
     @com.fasterxml.jackson.annotation.JsonProperty("exclusionPatterns")
     java.util.List<String> exclusionPatterns;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "inclusionPrefixes", "inclusionPatterns", "exclusionPatterns");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -42,7 +42,8 @@ public class PatternDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public PatternDetails build() {
             PatternDetails __instance__ = new PatternDetails(inclusionPatterns, exclusionPatterns);
@@ -120,6 +121,11 @@ public class PatternDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("exclusionPatterns")
     java.util.List<String> exclusionPatterns;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "inclusionPatterns", "exclusionPatterns");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -73,7 +73,8 @@ public class RenameObjectDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public RenameObjectDetails build() {
             RenameObjectDetails __instance__ =
@@ -138,6 +139,15 @@ public class RenameObjectDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("newObjIfNoneMatchETag")
     String newObjIfNoneMatchETag;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "sourceName",
+                    "newName",
+                    "srcObjIfMatchETag",
+                    "newObjIfMatchETag",
+                    "newObjIfNoneMatchETag");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -45,7 +45,8 @@ public class UpdateNamespaceMetadataDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public UpdateNamespaceMetadataDetails build() {
             UpdateNamespaceMetadataDetails __instance__ =
@@ -85,6 +86,11 @@ public class UpdateNamespaceMetadataDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("defaultSwiftCompartmentId")
     String defaultSwiftCompartmentId;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "defaultS3CompartmentId", "defaultSwiftCompartmentId");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -50,6 +50,7 @@ public class PutObjectLifecyclePolicyRequest extends com.oracle.bmc.requests.Bmc
     public static class Builder {
         private com.oracle.bmc.util.internal.Consumer<javax.ws.rs.client.Invocation.Builder>
                 invocationCallback = null;
+        private com.oracle.bmc.retrier.RetryConfiguration retryConfiguration = null;
 
         /**
          * Set the invocation callback for the request to be built.
@@ -63,6 +64,17 @@ public class PutObjectLifecyclePolicyRequest extends com.oracle.bmc.requests.Bmc
             return this;
         }
 
+        /**
+         * Set the retry configuration for the request to be built.
+         * @param retryConfiguration the retry configuration to be used for the request
+         * @return this builder instance
+         */
+        public Builder retryConfiguration(
+                com.oracle.bmc.retrier.RetryConfiguration retryConfiguration) {
+            this.retryConfiguration = retryConfiguration;
+            return this;
+        }
+
         /**
          * Copy method to populate the builder with values from the given instance.
          * @return this builder instance
@@ -75,6 +87,7 @@ public class PutObjectLifecyclePolicyRequest extends com.oracle.bmc.requests.Bmc
             ifMatch(o.getIfMatch());
             ifNoneMatch(o.getIfNoneMatch());
             invocationCallback(o.getInvocationCallback());
+            retryConfiguration(o.getRetryConfiguration());
             return this;
         }
 
@@ -91,6 +104,7 @@ public class PutObjectLifecyclePolicyRequest extends com.oracle.bmc.requests.Bmc
         public PutObjectLifecyclePolicyRequest build() {
             PutObjectLifecyclePolicyRequest request = buildWithoutInvocationCallback();
             request.setInvocationCallback(invocationCallback);
+            request.setRetryConfiguration(retryConfiguration);
             return request;
         }
     }
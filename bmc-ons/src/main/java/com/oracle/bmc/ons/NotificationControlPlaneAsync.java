@@ -62,6 +62,35 @@ public interface NotificationControlPlaneAsync extends AutoCloseable {
             CreateTopicRequest request,
             com.oracle.bmc.responses.AsyncHandler<CreateTopicRequest, CreateTopicResponse> handler);
 
+    /**
+     * Creates a topic in the specified compartment. For general information about topics, see
+     * [Managing Topics and Subscriptions](https://docs.cloud.oracle.com/iaas/Content/Notification/Tasks/managingtopicsandsubscriptions.htm).
+     * <p>
+     * For the purposes of access control, you must provide the OCID of the compartment where you want the topic to reside.
+     * For information about access control and compartments, see [Overview of the IAM Service](https://docs.cloud.oracle.com/Content/Identity/Concepts/overview.htm).
+     * <p>
+     * You must specify a display name for the topic.
+     * <p>
+     * All Oracle Cloud Infrastructure resources, including topics, get an Oracle-assigned, unique ID called an
+     * Oracle Cloud Identifier (OCID). When you create a resource, you can find its OCID in the response. You can also
+     * retrieve a resource's OCID by using a List API operation on that resource type, or by viewing the resource in the
+     * Console. Fore more information, see [Resource Identifiers](https://docs.cloud.oracle.com/Content/General/Concepts/identifiers.htm).
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreateTopicResponse> createTopic(
+            CreateTopicRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreateTopicRequest, CreateTopicResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createTopic(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Deletes the specified topic.
      *
@@ -77,6 +106,24 @@ public interface NotificationControlPlaneAsync extends AutoCloseable {
             DeleteTopicRequest request,
             com.oracle.bmc.responses.AsyncHandler<DeleteTopicRequest, DeleteTopicResponse> handler);
 
+    /**
+     * Deletes the specified topic.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<DeleteTopicResponse> deleteTopic(
+            DeleteTopicRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        DeleteTopicRequest, DeleteTopicResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        deleteTopic(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the specified topic's configuration information.
      *
@@ -92,6 +139,24 @@ public interface NotificationControlPlaneAsync extends AutoCloseable {
             GetTopicRequest request,
             com.oracle.bmc.responses.AsyncHandler<GetTopicRequest, GetTopicResponse> handler);
 
+    /**
+     * Gets the specified topic's configuration information.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetTopicResponse> getTopic(
+            GetTopicRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetTopicRequest, GetTopicResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getTopic(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists topics in the specified compartment.
      *
@@ -107,6 +172,24 @@ public interface NotificationControlPlaneAsync extends AutoCloseable {
             ListTopicsRequest request,
             com.oracle.bmc.responses.AsyncHandler<ListTopicsRequest, ListTopicsResponse> handler);
 
+    /**
+     * Lists topics in the specified compartment.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListTopicsResponse> listTopics(
+            ListTopicsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListTopicsRequest, ListTopicsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listTopics(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Updates the specified topic's configuration.
      *
@@ -121,4 +204,22 @@ public interface NotificationControlPlaneAsync extends AutoCloseable {
     java.util.concurrent.Future<UpdateTopicResponse> updateTopic(
             UpdateTopicRequest request,
             com.oracle.bmc.responses.AsyncHandler<UpdateTopicRequest, UpdateTopicResponse> handler);
+
+    /**
+     * Updates the specified topic's configuration.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateTopicResponse> updateTopic(
+            UpdateTopicRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateTopicRequest, UpdateTopicResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateTopic(request, handler);
+        return handler.getStage();
+    }
 }
@@ -390,6 +390,31 @@ public class NotificationControlPlaneAsyncClient implements NotificationControlP
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateTopicResponse> createTopic(
+            final CreateTopicRequest request) {
+        LOG.trace("Called async createTopic");
+        final CreateTopicRequest interceptedRequest =
+                CreateTopicConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateTopicConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, CreateTopicResponse>
+                transformer = CreateTopicConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib, interceptedRequest.getCreateTopicDetails(), interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteTopicResponse> deleteTopic(
             final DeleteTopicRequest request,
@@ -463,6 +488,30 @@ public class NotificationControlPlaneAsyncClient implements NotificationControlP
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteTopicResponse> deleteTopic(
+            final DeleteTopicRequest request) {
+        LOG.trace("Called async deleteTopic");
+        final DeleteTopicRequest interceptedRequest =
+                DeleteTopicConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteTopicConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, DeleteTopicResponse>
+                transformer = DeleteTopicConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetTopicResponse> getTopic(
             final GetTopicRequest request,
@@ -535,6 +584,29 @@ public class NotificationControlPlaneAsyncClient implements NotificationControlP
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetTopicResponse> getTopic(
+            final GetTopicRequest request) {
+        LOG.trace("Called async getTopic");
+        final GetTopicRequest interceptedRequest = GetTopicConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetTopicConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetTopicResponse>
+                transformer = GetTopicConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListTopicsResponse> listTopics(
             final ListTopicsRequest request,
@@ -607,6 +679,29 @@ public class NotificationControlPlaneAsyncClient implements NotificationControlP
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListTopicsResponse> listTopics(
+            final ListTopicsRequest request) {
+        LOG.trace("Called async listTopics");
+        final ListTopicsRequest interceptedRequest = ListTopicsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListTopicsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListTopicsResponse>
+                transformer = ListTopicsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateTopicResponse> updateTopic(
             final UpdateTopicRequest request,
@@ -694,4 +789,31 @@ public class NotificationControlPlaneAsyncClient implements NotificationControlP
                     responseFuture, transformer);
         }
     }
+
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateTopicResponse> updateTopic(
+            final UpdateTopicRequest request) {
+        LOG.trace("Called async updateTopic");
+        final UpdateTopicRequest interceptedRequest =
+                UpdateTopicConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateTopicConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, UpdateTopicResponse>
+                transformer = UpdateTopicConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getTopicAttributesDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
 }
@@ -53,6 +53,24 @@ public interface NotificationDataPlaneAsync extends AutoCloseable {
                             CreateSubscriptionRequest, CreateSubscriptionResponse>
                     handler);
 
+    /**
+     * Creates a subscription for the specified topic.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreateSubscriptionResponse> createSubscription(
+            CreateSubscriptionRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreateSubscriptionRequest, CreateSubscriptionResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createSubscription(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Deletes the specified subscription.
      *
@@ -70,6 +88,24 @@ public interface NotificationDataPlaneAsync extends AutoCloseable {
                             DeleteSubscriptionRequest, DeleteSubscriptionResponse>
                     handler);
 
+    /**
+     * Deletes the specified subscription.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<DeleteSubscriptionResponse> deleteSubscription(
+            DeleteSubscriptionRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        DeleteSubscriptionRequest, DeleteSubscriptionResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        deleteSubscription(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the confirmation details for the specified subscription.
      *
@@ -87,6 +123,24 @@ public interface NotificationDataPlaneAsync extends AutoCloseable {
                             GetConfirmSubscriptionRequest, GetConfirmSubscriptionResponse>
                     handler);
 
+    /**
+     * Gets the confirmation details for the specified subscription.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetConfirmSubscriptionResponse>
+            getConfirmSubscription(GetConfirmSubscriptionRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetConfirmSubscriptionRequest, GetConfirmSubscriptionResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getConfirmSubscription(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the specified subscription's configuration information.
      *
@@ -103,6 +157,24 @@ public interface NotificationDataPlaneAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<GetSubscriptionRequest, GetSubscriptionResponse>
                     handler);
 
+    /**
+     * Gets the specified subscription's configuration information.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetSubscriptionResponse> getSubscription(
+            GetSubscriptionRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetSubscriptionRequest, GetSubscriptionResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getSubscription(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the unsubscription details for the specified subscription.
      *
@@ -120,6 +192,24 @@ public interface NotificationDataPlaneAsync extends AutoCloseable {
                             GetUnsubscriptionRequest, GetUnsubscriptionResponse>
                     handler);
 
+    /**
+     * Gets the unsubscription details for the specified subscription.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetUnsubscriptionResponse> getUnsubscription(
+            GetUnsubscriptionRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetUnsubscriptionRequest, GetUnsubscriptionResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getUnsubscription(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists the subscriptions in the specified compartment or topic.
      *
@@ -137,6 +227,24 @@ public interface NotificationDataPlaneAsync extends AutoCloseable {
                             ListSubscriptionsRequest, ListSubscriptionsResponse>
                     handler);
 
+    /**
+     * Lists the subscriptions in the specified compartment or topic.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListSubscriptionsResponse> listSubscriptions(
+            ListSubscriptionsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListSubscriptionsRequest, ListSubscriptionsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listSubscriptions(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Publishes a message to the specified topic. For more information about publishing messages, see [Publishing Messages](https://docs.cloud.oracle.com/iaas/Content/Notification/Tasks/publishingmessages.htm).
      *
@@ -153,6 +261,24 @@ public interface NotificationDataPlaneAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<PublishMessageRequest, PublishMessageResponse>
                     handler);
 
+    /**
+     * Publishes a message to the specified topic. For more information about publishing messages, see [Publishing Messages](https://docs.cloud.oracle.com/iaas/Content/Notification/Tasks/publishingmessages.htm).
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<PublishMessageResponse> publishMessage(
+            PublishMessageRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        PublishMessageRequest, PublishMessageResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        publishMessage(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Resends the confirmation details for the specified subscription.
      *
@@ -172,6 +298,25 @@ public interface NotificationDataPlaneAsync extends AutoCloseable {
                                     ResendSubscriptionConfirmationResponse>
                             handler);
 
+    /**
+     * Resends the confirmation details for the specified subscription.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ResendSubscriptionConfirmationResponse>
+            resendSubscriptionConfirmation(ResendSubscriptionConfirmationRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ResendSubscriptionConfirmationRequest,
+                        ResendSubscriptionConfirmationResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        resendSubscriptionConfirmation(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Updates the specified subscription's configuration.
      *
@@ -188,4 +333,22 @@ public interface NotificationDataPlaneAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<
                             UpdateSubscriptionRequest, UpdateSubscriptionResponse>
                     handler);
+
+    /**
+     * Updates the specified subscription's configuration.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateSubscriptionResponse> updateSubscription(
+            UpdateSubscriptionRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateSubscriptionRequest, UpdateSubscriptionResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateSubscription(request, handler);
+        return handler.getStage();
+    }
 }
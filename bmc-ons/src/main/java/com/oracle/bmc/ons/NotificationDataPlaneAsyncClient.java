@@ -391,6 +391,33 @@ public class NotificationDataPlaneAsyncClient implements NotificationDataPlaneAs
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateSubscriptionResponse> createSubscription(
+            final CreateSubscriptionRequest request) {
+        LOG.trace("Called async createSubscription");
+        final CreateSubscriptionRequest interceptedRequest =
+                CreateSubscriptionConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateSubscriptionConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, CreateSubscriptionResponse>
+                transformer = CreateSubscriptionConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreateSubscriptionDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteSubscriptionResponse> deleteSubscription(
             final DeleteSubscriptionRequest request,
@@ -465,6 +492,30 @@ public class NotificationDataPlaneAsyncClient implements NotificationDataPlaneAs
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteSubscriptionResponse> deleteSubscription(
+            final DeleteSubscriptionRequest request) {
+        LOG.trace("Called async deleteSubscription");
+        final DeleteSubscriptionRequest interceptedRequest =
+                DeleteSubscriptionConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteSubscriptionConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, DeleteSubscriptionResponse>
+                transformer = DeleteSubscriptionConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetConfirmSubscriptionResponse> getConfirmSubscription(
             final GetConfirmSubscriptionRequest request,
@@ -541,6 +592,31 @@ public class NotificationDataPlaneAsyncClient implements NotificationDataPlaneAs
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetConfirmSubscriptionResponse>
+            getConfirmSubscription(final GetConfirmSubscriptionRequest request) {
+        LOG.trace("Called async getConfirmSubscription");
+        final GetConfirmSubscriptionRequest interceptedRequest =
+                GetConfirmSubscriptionConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetConfirmSubscriptionConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, GetConfirmSubscriptionResponse>
+                transformer = GetConfirmSubscriptionConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetSubscriptionResponse> getSubscription(
             final GetSubscriptionRequest request,
@@ -615,6 +691,30 @@ public class NotificationDataPlaneAsyncClient implements NotificationDataPlaneAs
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetSubscriptionResponse> getSubscription(
+            final GetSubscriptionRequest request) {
+        LOG.trace("Called async getSubscription");
+        final GetSubscriptionRequest interceptedRequest =
+                GetSubscriptionConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetSubscriptionConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetSubscriptionResponse>
+                transformer = GetSubscriptionConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetUnsubscriptionResponse> getUnsubscription(
             final GetUnsubscriptionRequest request,
@@ -689,6 +789,30 @@ public class NotificationDataPlaneAsyncClient implements NotificationDataPlaneAs
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetUnsubscriptionResponse> getUnsubscription(
+            final GetUnsubscriptionRequest request) {
+        LOG.trace("Called async getUnsubscription");
+        final GetUnsubscriptionRequest interceptedRequest =
+                GetUnsubscriptionConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetUnsubscriptionConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetUnsubscriptionResponse>
+                transformer = GetUnsubscriptionConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListSubscriptionsResponse> listSubscriptions(
             final ListSubscriptionsRequest request,
@@ -763,6 +887,30 @@ public class NotificationDataPlaneAsyncClient implements NotificationDataPlaneAs
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListSubscriptionsResponse> listSubscriptions(
+            final ListSubscriptionsRequest request) {
+        LOG.trace("Called async listSubscriptions");
+        final ListSubscriptionsRequest interceptedRequest =
+                ListSubscriptionsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListSubscriptionsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListSubscriptionsResponse>
+                transformer = ListSubscriptionsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<PublishMessageResponse> publishMessage(
             final PublishMessageRequest request,
@@ -852,6 +1000,31 @@ public class NotificationDataPlaneAsyncClient implements NotificationDataPlaneAs
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<PublishMessageResponse> publishMessage(
+            final PublishMessageRequest request) {
+        LOG.trace("Called async publishMessage");
+        final PublishMessageRequest interceptedRequest =
+                PublishMessageConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                PublishMessageConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, PublishMessageResponse>
+                transformer = PublishMessageConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib, interceptedRequest.getMessageDetails(), interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ResendSubscriptionConfirmationResponse>
             resendSubscriptionConfirmation(
@@ -932,6 +1105,31 @@ public class NotificationDataPlaneAsyncClient implements NotificationDataPlaneAs
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ResendSubscriptionConfirmationResponse>
+            resendSubscriptionConfirmation(final ResendSubscriptionConfirmationRequest request) {
+        LOG.trace("Called async resendSubscriptionConfirmation");
+        final ResendSubscriptionConfirmationRequest interceptedRequest =
+                ResendSubscriptionConfirmationConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ResendSubscriptionConfirmationConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, ResendSubscriptionConfirmationResponse>
+                transformer = ResendSubscriptionConfirmationConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateSubscriptionResponse> updateSubscription(
             final UpdateSubscriptionRequest request,
@@ -1020,4 +1218,31 @@ public class NotificationDataPlaneAsyncClient implements NotificationDataPlaneAs
                     responseFuture, transformer);
         }
     }
+
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateSubscriptionResponse> updateSubscription(
+            final UpdateSubscriptionRequest request) {
+        LOG.trace("Called async updateSubscription");
+        final UpdateSubscriptionRequest interceptedRequest =
+                UpdateSubscriptionConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateSubscriptionConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, UpdateSubscriptionResponse>
+                transformer = UpdateSubscriptionConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdateSubscriptionDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
 }
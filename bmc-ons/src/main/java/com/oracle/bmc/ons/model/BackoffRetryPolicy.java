@@ -44,7 +44,8 @@ public class BackoffRetryPolicy {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public BackoffRetryPolicy build() {
             BackoffRetryPolicy __instance__ = new BackoffRetryPolicy(maxRetryDuration, policyType);
@@ -127,6 +128,10 @@ public class BackoffRetryPolicy {
     @com.fasterxml.jackson.annotation.JsonProperty("policyType")
     PolicyType policyType;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of("maxRetryDuration", "policyType");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
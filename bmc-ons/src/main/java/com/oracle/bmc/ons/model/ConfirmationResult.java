@@ -80,7 +80,8 @@ public class ConfirmationResult {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public ConfirmationResult build() {
             ConfirmationResult __instance__ =
@@ -153,6 +154,16 @@ public class ConfirmationResult {
     @com.fasterxml.jackson.annotation.JsonProperty("subscriptionId")
     String subscriptionId;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "topicName",
+                    "topicId",
+                    "endpoint",
+                    "unsubscribeUrl",
+                    "message",
+                    "subscriptionId");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
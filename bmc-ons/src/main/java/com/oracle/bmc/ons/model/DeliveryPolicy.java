@@ -33,7 +33,8 @@ public class DeliveryPolicy {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public DeliveryPolicy build() {
             DeliveryPolicy __instance__ = new DeliveryPolicy(backoffRetryPolicy);
@@ -60,6 +61,10 @@ public class DeliveryPolicy {
     @com.fasterxml.jackson.annotation.JsonProperty("backoffRetryPolicy")
     BackoffRetryPolicy backoffRetryPolicy;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of("backoffRetryPolicy");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
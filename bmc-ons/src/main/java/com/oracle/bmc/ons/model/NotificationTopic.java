@@ -117,7 +117,8 @@ public class NotificationTopic {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public NotificationTopic build() {
             NotificationTopic __instance__ =
@@ -280,6 +281,20 @@ public class NotificationTopic {
     @com.fasterxml.jackson.annotation.JsonProperty("apiEndpoint")
     String apiEndpoint;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "name",
+                    "topicId",
+                    "compartmentId",
+                    "lifecycleState",
+                    "description",
+                    "timeCreated",
+                    "etag",
+                    "freeformTags",
+                    "definedTags",
+                    "apiEndpoint");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
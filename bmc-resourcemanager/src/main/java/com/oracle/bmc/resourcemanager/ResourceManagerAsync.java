@@ -53,6 +53,26 @@ public interface ResourceManagerAsync extends AutoCloseable {
             CancelJobRequest request,
             com.oracle.bmc.responses.AsyncHandler<CancelJobRequest, CancelJobResponse> handler);
 
+    /**
+     * Indicates the intention to cancel the specified job.
+     * Cancellation of the job is not immediate, and may be delayed,
+     * or may not happen at all.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CancelJobResponse> cancelJob(
+            CancelJobRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CancelJobRequest, CancelJobResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        cancelJob(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Creates a job.
      *
@@ -67,6 +87,23 @@ public interface ResourceManagerAsync extends AutoCloseable {
             CreateJobRequest request,
             com.oracle.bmc.responses.AsyncHandler<CreateJobRequest, CreateJobResponse> handler);
 
+    /**
+     * Creates a job.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreateJobResponse> createJob(
+            CreateJobRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreateJobRequest, CreateJobResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createJob(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Creates a stack in the specified comparment.
      * Specify the compartment using the compartment ID.
@@ -83,6 +120,25 @@ public interface ResourceManagerAsync extends AutoCloseable {
             CreateStackRequest request,
             com.oracle.bmc.responses.AsyncHandler<CreateStackRequest, CreateStackResponse> handler);
 
+    /**
+     * Creates a stack in the specified comparment.
+     * Specify the compartment using the compartment ID.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreateStackResponse> createStack(
+            CreateStackRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreateStackRequest, CreateStackResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createStack(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Deletes the specified stack object.
      *
@@ -97,6 +153,23 @@ public interface ResourceManagerAsync extends AutoCloseable {
             DeleteStackRequest request,
             com.oracle.bmc.responses.AsyncHandler<DeleteStackRequest, DeleteStackResponse> handler);
 
+    /**
+     * Deletes the specified stack object.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<DeleteStackResponse> deleteStack(
+            DeleteStackRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        DeleteStackRequest, DeleteStackResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        deleteStack(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Returns the specified job along with the job details.
      *
@@ -111,6 +184,22 @@ public interface ResourceManagerAsync extends AutoCloseable {
             GetJobRequest request,
             com.oracle.bmc.responses.AsyncHandler<GetJobRequest, GetJobResponse> handler);
 
+    /**
+     * Returns the specified job along with the job details.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetJobResponse> getJob(GetJobRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetJobRequest, GetJobResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getJob(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Returns log entries for the specified job in JSON format.
      *
@@ -126,6 +215,24 @@ public interface ResourceManagerAsync extends AutoCloseable {
             GetJobLogsRequest request,
             com.oracle.bmc.responses.AsyncHandler<GetJobLogsRequest, GetJobLogsResponse> handler);
 
+    /**
+     * Returns log entries for the specified job in JSON format.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetJobLogsResponse> getJobLogs(
+            GetJobLogsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetJobLogsRequest, GetJobLogsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getJobLogs(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Returns raw log file for the specified job in text format.
      * Returns a maximum of 100,000 log entries.
@@ -144,6 +251,25 @@ public interface ResourceManagerAsync extends AutoCloseable {
                             GetJobLogsContentRequest, GetJobLogsContentResponse>
                     handler);
 
+    /**
+     * Returns raw log file for the specified job in text format.
+     * Returns a maximum of 100,000 log entries.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetJobLogsContentResponse> getJobLogsContent(
+            GetJobLogsContentRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetJobLogsContentRequest, GetJobLogsContentResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getJobLogsContent(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Returns the Terraform configuration file for the specified job in .zip format.
      * Returns an error if no zip file is found.
@@ -161,6 +287,25 @@ public interface ResourceManagerAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<GetJobTfConfigRequest, GetJobTfConfigResponse>
                     handler);
 
+    /**
+     * Returns the Terraform configuration file for the specified job in .zip format.
+     * Returns an error if no zip file is found.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetJobTfConfigResponse> getJobTfConfig(
+            GetJobTfConfigRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetJobTfConfigRequest, GetJobTfConfigResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getJobTfConfig(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Returns the Terraform state for the specified job.
      *
@@ -176,6 +321,23 @@ public interface ResourceManagerAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<GetJobTfStateRequest, GetJobTfStateResponse>
                     handler);
 
+    /**
+     * Returns the Terraform state for the specified job.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetJobTfStateResponse> getJobTfState(
+            GetJobTfStateRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetJobTfStateRequest, GetJobTfStateResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getJobTfState(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets a stack using the stack ID.
      *
@@ -190,6 +352,23 @@ public interface ResourceManagerAsync extends AutoCloseable {
             GetStackRequest request,
             com.oracle.bmc.responses.AsyncHandler<GetStackRequest, GetStackResponse> handler);
 
+    /**
+     * Gets a stack using the stack ID.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetStackResponse> getStack(
+            GetStackRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetStackRequest, GetStackResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getStack(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Returns the Terraform configuration file in .zip format for the specified stack.
      * Returns an error if no zip file is found.
@@ -207,6 +386,25 @@ public interface ResourceManagerAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<GetStackTfConfigRequest, GetStackTfConfigResponse>
                     handler);
 
+    /**
+     * Returns the Terraform configuration file in .zip format for the specified stack.
+     * Returns an error if no zip file is found.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetStackTfConfigResponse> getStackTfConfig(
+            GetStackTfConfigRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetStackTfConfigRequest, GetStackTfConfigResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getStackTfConfig(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Returns a list of jobs in a stack or compartment, ordered by time created.
      * <p>
@@ -226,6 +424,28 @@ public interface ResourceManagerAsync extends AutoCloseable {
             ListJobsRequest request,
             com.oracle.bmc.responses.AsyncHandler<ListJobsRequest, ListJobsResponse> handler);
 
+    /**
+     * Returns a list of jobs in a stack or compartment, ordered by time created.
+     * <p>
+     * - To list all jobs in a stack, provide the stack OCID.
+     * - To list all jobs in a compartment, provide the compartment OCID.
+     * - To return a specific job, provide the job OCID.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListJobsResponse> listJobs(
+            ListJobsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListJobsRequest, ListJobsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listJobs(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Returns a list of stacks.
      * - If called using the compartment ID, returns all stacks in the specified compartment.
@@ -243,6 +463,26 @@ public interface ResourceManagerAsync extends AutoCloseable {
             ListStacksRequest request,
             com.oracle.bmc.responses.AsyncHandler<ListStacksRequest, ListStacksResponse> handler);
 
+    /**
+     * Returns a list of stacks.
+     * - If called using the compartment ID, returns all stacks in the specified compartment.
+     * - If called using the stack ID, returns the specified stack.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListStacksResponse> listStacks(
+            ListStacksRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListStacksRequest, ListStacksResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listStacks(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Updates the specified job.
      *
@@ -257,6 +497,23 @@ public interface ResourceManagerAsync extends AutoCloseable {
             UpdateJobRequest request,
             com.oracle.bmc.responses.AsyncHandler<UpdateJobRequest, UpdateJobResponse> handler);
 
+    /**
+     * Updates the specified job.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateJobResponse> updateJob(
+            UpdateJobRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateJobRequest, UpdateJobResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateJob(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Updates the specified stack object.
      * Use `UpdateStack` when you update your Terraform configuration
@@ -273,4 +530,24 @@ public interface ResourceManagerAsync extends AutoCloseable {
     java.util.concurrent.Future<UpdateStackResponse> updateStack(
             UpdateStackRequest request,
             com.oracle.bmc.responses.AsyncHandler<UpdateStackRequest, UpdateStackResponse> handler);
+
+    /**
+     * Updates the specified stack object.
+     * Use `UpdateStack` when you update your Terraform configuration
+     * and want your changes to be reflected in the execution plan.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateStackResponse> updateStack(
+            UpdateStackRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateStackRequest, UpdateStackResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateStack(request, handler);
+        return handler.getStage();
+    }
 }
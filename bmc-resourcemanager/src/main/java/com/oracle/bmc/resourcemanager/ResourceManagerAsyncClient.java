@@ -375,6 +375,29 @@ public class ResourceManagerAsyncClient implements ResourceManagerAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CancelJobResponse> cancelJob(
+            final CancelJobRequest request) {
+        LOG.trace("Called async cancelJob");
+        final CancelJobRequest interceptedRequest = CancelJobConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CancelJobConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, CancelJobResponse>
+                transformer = CancelJobConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateJobResponse> createJob(
             final CreateJobRequest request,
@@ -462,6 +485,30 @@ public class ResourceManagerAsyncClient implements ResourceManagerAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateJobResponse> createJob(
+            final CreateJobRequest request) {
+        LOG.trace("Called async createJob");
+        final CreateJobRequest interceptedRequest = CreateJobConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateJobConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, CreateJobResponse>
+                transformer = CreateJobConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib, interceptedRequest.getCreateJobDetails(), interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateStackResponse> createStack(
             final CreateStackRequest request,
@@ -550,6 +597,31 @@ public class ResourceManagerAsyncClient implements ResourceManagerAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateStackResponse> createStack(
+            final CreateStackRequest request) {
+        LOG.trace("Called async createStack");
+        final CreateStackRequest interceptedRequest =
+                CreateStackConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateStackConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, CreateStackResponse>
+                transformer = CreateStackConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib, interceptedRequest.getCreateStackDetails(), interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteStackResponse> deleteStack(
             final DeleteStackRequest request,
@@ -623,6 +695,30 @@ public class ResourceManagerAsyncClient implements ResourceManagerAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteStackResponse> deleteStack(
+            final DeleteStackRequest request) {
+        LOG.trace("Called async deleteStack");
+        final DeleteStackRequest interceptedRequest =
+                DeleteStackConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteStackConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, DeleteStackResponse>
+                transformer = DeleteStackConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetJobResponse> getJob(
             final GetJobRequest request,
@@ -693,6 +789,29 @@ public class ResourceManagerAsyncClient implements ResourceManagerAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetJobResponse> getJob(
+            final GetJobRequest request) {
+        LOG.trace("Called async getJob");
+        final GetJobRequest interceptedRequest = GetJobConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetJobConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetJobResponse>
+                transformer = GetJobConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetJobLogsResponse> getJobLogs(
             final GetJobLogsRequest request,
@@ -765,6 +884,29 @@ public class ResourceManagerAsyncClient implements ResourceManagerAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetJobLogsResponse> getJobLogs(
+            final GetJobLogsRequest request) {
+        LOG.trace("Called async getJobLogs");
+        final GetJobLogsRequest interceptedRequest = GetJobLogsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetJobLogsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetJobLogsResponse>
+                transformer = GetJobLogsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetJobLogsContentResponse> getJobLogsContent(
             final GetJobLogsContentRequest request,
@@ -839,6 +981,30 @@ public class ResourceManagerAsyncClient implements ResourceManagerAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetJobLogsContentResponse> getJobLogsContent(
+            final GetJobLogsContentRequest request) {
+        LOG.trace("Called async getJobLogsContent");
+        final GetJobLogsContentRequest interceptedRequest =
+                GetJobLogsContentConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetJobLogsContentConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetJobLogsContentResponse>
+                transformer = GetJobLogsContentConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetJobTfConfigResponse> getJobTfConfig(
             final GetJobTfConfigRequest request,
@@ -913,6 +1079,30 @@ public class ResourceManagerAsyncClient implements ResourceManagerAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetJobTfConfigResponse> getJobTfConfig(
+            final GetJobTfConfigRequest request) {
+        LOG.trace("Called async getJobTfConfig");
+        final GetJobTfConfigRequest interceptedRequest =
+                GetJobTfConfigConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetJobTfConfigConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetJobTfConfigResponse>
+                transformer = GetJobTfConfigConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetJobTfStateResponse> getJobTfState(
             final GetJobTfStateRequest request,
@@ -986,6 +1176,30 @@ public class ResourceManagerAsyncClient implements ResourceManagerAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetJobTfStateResponse> getJobTfState(
+            final GetJobTfStateRequest request) {
+        LOG.trace("Called async getJobTfState");
+        final GetJobTfStateRequest interceptedRequest =
+                GetJobTfStateConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetJobTfStateConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetJobTfStateResponse>
+                transformer = GetJobTfStateConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetStackResponse> getStack(
             final GetStackRequest request,
@@ -1058,6 +1272,29 @@ public class ResourceManagerAsyncClient implements ResourceManagerAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetStackResponse> getStack(
+            final GetStackRequest request) {
+        LOG.trace("Called async getStack");
+        final GetStackRequest interceptedRequest = GetStackConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetStackConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetStackResponse>
+                transformer = GetStackConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetStackTfConfigResponse> getStackTfConfig(
             final GetStackTfConfigRequest request,
@@ -1132,6 +1369,30 @@ public class ResourceManagerAsyncClient implements ResourceManagerAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetStackTfConfigResponse> getStackTfConfig(
+            final GetStackTfConfigRequest request) {
+        LOG.trace("Called async getStackTfConfig");
+        final GetStackTfConfigRequest interceptedRequest =
+                GetStackTfConfigConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetStackTfConfigConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetStackTfConfigResponse>
+                transformer = GetStackTfConfigConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListJobsResponse> listJobs(
             final ListJobsRequest request,
@@ -1204,6 +1465,29 @@ public class ResourceManagerAsyncClient implements ResourceManagerAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListJobsResponse> listJobs(
+            final ListJobsRequest request) {
+        LOG.trace("Called async listJobs");
+        final ListJobsRequest interceptedRequest = ListJobsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListJobsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListJobsResponse>
+                transformer = ListJobsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListStacksResponse> listStacks(
             final ListStacksRequest request,
@@ -1276,6 +1560,29 @@ public class ResourceManagerAsyncClient implements ResourceManagerAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListStacksResponse> listStacks(
+            final ListStacksRequest request) {
+        LOG.trace("Called async listStacks");
+        final ListStacksRequest interceptedRequest = ListStacksConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListStacksConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListStacksResponse>
+                transformer = ListStacksConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateJobResponse> updateJob(
             final UpdateJobRequest request,
@@ -1363,6 +1670,30 @@ public class ResourceManagerAsyncClient implements ResourceManagerAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateJobResponse> updateJob(
+            final UpdateJobRequest request) {
+        LOG.trace("Called async updateJob");
+        final UpdateJobRequest interceptedRequest = UpdateJobConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateJobConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, UpdateJobResponse>
+                transformer = UpdateJobConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib, interceptedRequest.getUpdateJobDetails(), interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateStackResponse> updateStack(
             final UpdateStackRequest request,
@@ -1450,4 +1781,29 @@ public class ResourceManagerAsyncClient implements ResourceManagerAsync {
                     responseFuture, transformer);
         }
     }
+
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateStackResponse> updateStack(
+            final UpdateStackRequest request) {
+        LOG.trace("Called async updateStack");
+        final UpdateStackRequest interceptedRequest =
+                UpdateStackConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateStackConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, UpdateStackResponse>
+                transformer = UpdateStackConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib, interceptedRequest.getUpdateStackDetails(), interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
 }
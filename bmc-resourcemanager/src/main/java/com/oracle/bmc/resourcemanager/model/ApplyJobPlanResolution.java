@@ -54,7 +54,8 @@ public class ApplyJobPlanResolution {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public ApplyJobPlanResolution build() {
             ApplyJobPlanResolution __instance__ =
@@ -106,6 +107,11 @@ public class ApplyJobPlanResolution {
     @com.fasterxml.jackson.annotation.JsonProperty("isAutoApproved")
     Boolean isAutoApproved;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "planJobId", "isUseLatestJobId", "isAutoApproved");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
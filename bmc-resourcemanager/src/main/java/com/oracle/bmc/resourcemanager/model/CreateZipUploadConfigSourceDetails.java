@@ -50,7 +50,8 @@ public class CreateZipUploadConfigSourceDetails extends CreateConfigSourceDetail
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public CreateZipUploadConfigSourceDetails build() {
             CreateZipUploadConfigSourceDetails __instance__ =
@@ -87,6 +88,11 @@ public class CreateZipUploadConfigSourceDetails extends CreateConfigSourceDetail
     @com.fasterxml.jackson.annotation.JsonProperty("zipFileBase64Encoded")
     String zipFileBase64Encoded;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "workingDirectory", "zipFileBase64Encoded");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
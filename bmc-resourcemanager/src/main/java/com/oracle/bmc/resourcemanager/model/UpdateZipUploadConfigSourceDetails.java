@@ -49,7 +49,8 @@ public class UpdateZipUploadConfigSourceDetails extends UpdateConfigSourceDetail
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public UpdateZipUploadConfigSourceDetails build() {
             UpdateZipUploadConfigSourceDetails __instance__ =
@@ -86,6 +87,11 @@ public class UpdateZipUploadConfigSourceDetails extends UpdateConfigSourceDetail
     @com.fasterxml.jackson.annotation.JsonProperty("zipFileBase64Encoded")
     String zipFileBase64Encoded;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "workingDirectory", "zipFileBase64Encoded");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -106,6 +106,7 @@ public class GetJobLogsRequest extends com.oracle.bmc.requests.BmcRequest {
     public static class Builder {
         private com.oracle.bmc.util.internal.Consumer<javax.ws.rs.client.Invocation.Builder>
                 invocationCallback = null;
+        private com.oracle.bmc.retrier.RetryConfiguration retryConfiguration = null;
 
         /**
          * Set the invocation callback for the request to be built.
@@ -119,6 +120,17 @@ public class GetJobLogsRequest extends com.oracle.bmc.requests.BmcRequest {
             return this;
         }
 
+        /**
+         * Set the retry configuration for the request to be built.
+         * @param retryConfiguration the retry configuration to be used for the request
+         * @return this builder instance
+         */
+        public Builder retryConfiguration(
+                com.oracle.bmc.retrier.RetryConfiguration retryConfiguration) {
+            this.retryConfiguration = retryConfiguration;
+            return this;
+        }
+
         /**
          * Copy method to populate the builder with values from the given instance.
          * @return this builder instance
@@ -134,6 +146,7 @@ public class GetJobLogsRequest extends com.oracle.bmc.requests.BmcRequest {
             timestampGreaterThanOrEqualTo(o.getTimestampGreaterThanOrEqualTo());
             timestampLessThanOrEqualTo(o.getTimestampLessThanOrEqualTo());
             invocationCallback(o.getInvocationCallback());
+            retryConfiguration(o.getRetryConfiguration());
             return this;
         }
 
@@ -150,6 +163,7 @@ public class GetJobLogsRequest extends com.oracle.bmc.requests.BmcRequest {
         public GetJobLogsRequest build() {
             GetJobLogsRequest request = buildWithoutInvocationCallback();
             request.setInvocationCallback(invocationCallback);
+            request.setRetryConfiguration(retryConfiguration);
             return request;
         }
     }
@@ -52,6 +52,24 @@ public interface ResourceSearchAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<GetResourceTypeRequest, GetResourceTypeResponse>
                     handler);
 
+    /**
+     * Gets detailed information about a resource type by using the resource type name.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetResourceTypeResponse> getResourceType(
+            GetResourceTypeRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetResourceTypeRequest, GetResourceTypeResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getResourceType(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists all resource types that you can search or query for.
      *
@@ -69,6 +87,24 @@ public interface ResourceSearchAsync extends AutoCloseable {
                             ListResourceTypesRequest, ListResourceTypesResponse>
                     handler);
 
+    /**
+     * Lists all resource types that you can search or query for.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListResourceTypesResponse> listResourceTypes(
+            ListResourceTypesRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListResourceTypesRequest, ListResourceTypesResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listResourceTypes(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Queries any and all compartments in the tenancy to find resources that match the specified criteria.
      * Results include resources that you have permission to view and can span different resource types.
@@ -86,4 +122,24 @@ public interface ResourceSearchAsync extends AutoCloseable {
             SearchResourcesRequest request,
             com.oracle.bmc.responses.AsyncHandler<SearchResourcesRequest, SearchResourcesResponse>
                     handler);
+
+    /**
+     * Queries any and all compartments in the tenancy to find resources that match the specified criteria.
+     * Results include resources that you have permission to view and can span different resource types.
+     * You can also sort results based on a specified resource attribute.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<SearchResourcesResponse> searchResources(
+            SearchResourcesRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        SearchResourcesRequest, SearchResourcesResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        searchResources(request, handler);
+        return handler.getStage();
+    }
 }
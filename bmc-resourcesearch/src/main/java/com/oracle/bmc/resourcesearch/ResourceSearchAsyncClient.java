@@ -376,6 +376,30 @@ public class ResourceSearchAsyncClient implements ResourceSearchAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetResourceTypeResponse> getResourceType(
+            final GetResourceTypeRequest request) {
+        LOG.trace("Called async getResourceType");
+        final GetResourceTypeRequest interceptedRequest =
+                GetResourceTypeConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetResourceTypeConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetResourceTypeResponse>
+                transformer = GetResourceTypeConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListResourceTypesResponse> listResourceTypes(
             final ListResourceTypesRequest request,
@@ -450,6 +474,30 @@ public class ResourceSearchAsyncClient implements ResourceSearchAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListResourceTypesResponse> listResourceTypes(
+            final ListResourceTypesRequest request) {
+        LOG.trace("Called async listResourceTypes");
+        final ListResourceTypesRequest interceptedRequest =
+                ListResourceTypesConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListResourceTypesConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListResourceTypesResponse>
+                transformer = ListResourceTypesConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<SearchResourcesResponse> searchResources(
             final SearchResourcesRequest request,
@@ -538,4 +586,29 @@ public class ResourceSearchAsyncClient implements ResourceSearchAsync {
                     responseFuture, transformer);
         }
     }
+
+    @Override
+    public java.util.concurrent.CompletionStage<SearchResourcesResponse> searchResources(
+            final SearchResourcesRequest request) {
+        LOG.trace("Called async searchResources");
+        final SearchResourcesRequest interceptedRequest =
+                SearchResourcesConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                SearchResourcesConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, SearchResourcesResponse>
+                transformer = SearchResourcesConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib, interceptedRequest.getSearchDetails(), interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
 }
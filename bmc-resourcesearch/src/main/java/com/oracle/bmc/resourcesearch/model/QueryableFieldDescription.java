@@ -62,7 +62,8 @@ public class QueryableFieldDescription {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public QueryableFieldDescription build() {
             QueryableFieldDescription __instance__ =
@@ -173,6 +174,11 @@ public class QueryableFieldDescription {
     @com.fasterxml.jackson.annotation.JsonProperty("objectProperties")
     java.util.List<QueryableFieldDescription> objectProperties;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "fieldType", "fieldName", "isArray", "objectProperties");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -114,7 +114,8 @@ public class ResourceSummary {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public ResourceSummary build() {
             ResourceSummary __instance__ =
@@ -219,6 +220,20 @@ public class ResourceSummary {
     @com.fasterxml.jackson.annotation.JsonProperty("searchContext")
     SearchContext searchContext;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "resourceType",
+                    "identifier",
+                    "compartmentId",
+                    "timeCreated",
+                    "displayName",
+                    "availabilityDomain",
+                    "lifecycleState",
+                    "freeformTags",
+                    "definedTags",
+                    "searchContext");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -54,6 +54,26 @@ public interface StreamAdminAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<CreateStreamRequest, CreateStreamResponse>
                     handler);
 
+    /**
+     * Starts the provisioning of a new stream.
+     * To track the progress of the provisioning, you can periodically call {@link #getStream(GetStreamRequest, Consumer, Consumer) getStream}.
+     * In the response, the `lifecycleState` parameter of the {@link Stream} object tells you its current state.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreateStreamResponse> createStream(
+            CreateStreamRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreateStreamRequest, CreateStreamResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createStream(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Deletes a stream and its content. Stream contents are deleted immediately. The service retains records of the stream itself for 90 days after deletion.
      * The `lifeCycleState` parameter of the `Stream` object changes to `DELETING` and the stream becomes inaccessible for read or write operations.
@@ -74,6 +94,28 @@ public interface StreamAdminAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<DeleteStreamRequest, DeleteStreamResponse>
                     handler);
 
+    /**
+     * Deletes a stream and its content. Stream contents are deleted immediately. The service retains records of the stream itself for 90 days after deletion.
+     * The `lifeCycleState` parameter of the `Stream` object changes to `DELETING` and the stream becomes inaccessible for read or write operations.
+     * To verify that a stream has been deleted, make a {@link #getStream(GetStreamRequest, Consumer, Consumer) getStream} request. If the call returns the stream's
+     * lifecycle state as `DELETED`, then the stream has been deleted. If the call returns a \"404 Not Found\" error, that means all records of the
+     * stream have been deleted.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<DeleteStreamResponse> deleteStream(
+            DeleteStreamRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        DeleteStreamRequest, DeleteStreamResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        deleteStream(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets detailed information about a stream, including the number of partitions.
      *
@@ -88,6 +130,23 @@ public interface StreamAdminAsync extends AutoCloseable {
             GetStreamRequest request,
             com.oracle.bmc.responses.AsyncHandler<GetStreamRequest, GetStreamResponse> handler);
 
+    /**
+     * Gets detailed information about a stream, including the number of partitions.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetStreamResponse> getStream(
+            GetStreamRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetStreamRequest, GetStreamResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getStream(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Lists the streams.
      *
@@ -102,6 +161,23 @@ public interface StreamAdminAsync extends AutoCloseable {
             ListStreamsRequest request,
             com.oracle.bmc.responses.AsyncHandler<ListStreamsRequest, ListStreamsResponse> handler);
 
+    /**
+     * Lists the streams.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListStreamsResponse> listStreams(
+            ListStreamsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListStreamsRequest, ListStreamsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listStreams(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Updates the tags applied to the stream.
      *
@@ -117,4 +193,22 @@ public interface StreamAdminAsync extends AutoCloseable {
             UpdateStreamRequest request,
             com.oracle.bmc.responses.AsyncHandler<UpdateStreamRequest, UpdateStreamResponse>
                     handler);
+
+    /**
+     * Updates the tags applied to the stream.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateStreamResponse> updateStream(
+            UpdateStreamRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateStreamRequest, UpdateStreamResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateStream(request, handler);
+        return handler.getStage();
+    }
 }
@@ -391,6 +391,33 @@ public class StreamAdminAsyncClient implements StreamAdminAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateStreamResponse> createStream(
+            final CreateStreamRequest request) {
+        LOG.trace("Called async createStream");
+        final CreateStreamRequest interceptedRequest =
+                CreateStreamConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateStreamConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, CreateStreamResponse>
+                transformer = CreateStreamConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreateStreamDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteStreamResponse> deleteStream(
             final DeleteStreamRequest request,
@@ -464,6 +491,30 @@ public class StreamAdminAsyncClient implements StreamAdminAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteStreamResponse> deleteStream(
+            final DeleteStreamRequest request) {
+        LOG.trace("Called async deleteStream");
+        final DeleteStreamRequest interceptedRequest =
+                DeleteStreamConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteStreamConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, DeleteStreamResponse>
+                transformer = DeleteStreamConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetStreamResponse> getStream(
             final GetStreamRequest request,
@@ -536,6 +587,29 @@ public class StreamAdminAsyncClient implements StreamAdminAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetStreamResponse> getStream(
+            final GetStreamRequest request) {
+        LOG.trace("Called async getStream");
+        final GetStreamRequest interceptedRequest = GetStreamConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetStreamConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetStreamResponse>
+                transformer = GetStreamConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListStreamsResponse> listStreams(
             final ListStreamsRequest request,
@@ -609,6 +683,30 @@ public class StreamAdminAsyncClient implements StreamAdminAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListStreamsResponse> listStreams(
+            final ListStreamsRequest request) {
+        LOG.trace("Called async listStreams");
+        final ListStreamsRequest interceptedRequest =
+                ListStreamsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListStreamsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListStreamsResponse>
+                transformer = ListStreamsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateStreamResponse> updateStream(
             final UpdateStreamRequest request,
@@ -696,4 +794,31 @@ public class StreamAdminAsyncClient implements StreamAdminAsync {
                     responseFuture, transformer);
         }
     }
+
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateStreamResponse> updateStream(
+            final UpdateStreamRequest request) {
+        LOG.trace("Called async updateStream");
+        final UpdateStreamRequest interceptedRequest =
+                UpdateStreamConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateStreamConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, UpdateStreamResponse>
+                transformer = UpdateStreamConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdateStreamDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
 }
@@ -53,6 +53,25 @@ public interface StreamAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<ConsumerCommitRequest, ConsumerCommitResponse>
                     handler);
 
+    /**
+     * Provides a mechanism to manually commit offsets, if not using commit-on-get consumer semantics.
+     * This commits offsets assicated with the provided cursor, extends the timeout on each of the affected partitions, and returns an updated cursor.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ConsumerCommitResponse> consumerCommit(
+            ConsumerCommitRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ConsumerCommitRequest, ConsumerCommitResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        consumerCommit(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Allows long-running processes to extend the timeout on partitions reserved by a consumer instance.
      *
@@ -70,6 +89,24 @@ public interface StreamAsync extends AutoCloseable {
                             ConsumerHeartbeatRequest, ConsumerHeartbeatResponse>
                     handler);
 
+    /**
+     * Allows long-running processes to extend the timeout on partitions reserved by a consumer instance.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ConsumerHeartbeatResponse> consumerHeartbeat(
+            ConsumerHeartbeatRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ConsumerHeartbeatRequest, ConsumerHeartbeatResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        consumerHeartbeat(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Creates a cursor. Cursors are used to consume a stream, starting from a specific point in the partition and going forward from there.
      * You can create a cursor based on an offset, a time, the trim horizon, or the most recent message in the stream. As the oldest message
@@ -90,6 +127,28 @@ public interface StreamAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<CreateCursorRequest, CreateCursorResponse>
                     handler);
 
+    /**
+     * Creates a cursor. Cursors are used to consume a stream, starting from a specific point in the partition and going forward from there.
+     * You can create a cursor based on an offset, a time, the trim horizon, or the most recent message in the stream. As the oldest message
+     * inside the retention period boundary, using the trim horizon effectively lets you consume all messages in the stream. A cursor based
+     * on the most recent message allows consumption of only messages that are added to the stream after you create the cursor. Cursors expire
+     * five minutes after you receive them from the service.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreateCursorResponse> createCursor(
+            CreateCursorRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreateCursorRequest, CreateCursorResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createCursor(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Creates a group-cursor.
      *
@@ -107,6 +166,24 @@ public interface StreamAsync extends AutoCloseable {
                             CreateGroupCursorRequest, CreateGroupCursorResponse>
                     handler);
 
+    /**
+     * Creates a group-cursor.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreateGroupCursorResponse> createGroupCursor(
+            CreateGroupCursorRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreateGroupCursorRequest, CreateGroupCursorResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createGroupCursor(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Returns the current state of a consumer group.
      *
@@ -122,6 +199,24 @@ public interface StreamAsync extends AutoCloseable {
             GetGroupRequest request,
             com.oracle.bmc.responses.AsyncHandler<GetGroupRequest, GetGroupResponse> handler);
 
+    /**
+     * Returns the current state of a consumer group.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetGroupResponse> getGroup(
+            GetGroupRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetGroupRequest, GetGroupResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getGroup(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Returns messages from the specified stream using the specified cursor as the starting point for consumption. By default, the number of messages returned is undefined, but the service returns as many as possible.
      * To get messages, you must first obtain a cursor using the {@link #createCursor(CreateCursorRequest, Consumer, Consumer) createCursor} operation.
@@ -139,6 +234,26 @@ public interface StreamAsync extends AutoCloseable {
             GetMessagesRequest request,
             com.oracle.bmc.responses.AsyncHandler<GetMessagesRequest, GetMessagesResponse> handler);
 
+    /**
+     * Returns messages from the specified stream using the specified cursor as the starting point for consumption. By default, the number of messages returned is undefined, but the service returns as many as possible.
+     * To get messages, you must first obtain a cursor using the {@link #createCursor(CreateCursorRequest, Consumer, Consumer) createCursor} operation.
+     * In the response, retrieve the value of the 'opc-next-cursor' header to pass as a parameter to get the next batch of messages in the stream.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetMessagesResponse> getMessages(
+            GetMessagesRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetMessagesRequest, GetMessagesResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getMessages(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Emits messages to a stream. There's no limit to the number of messages in a request, but the total size of a message or request must be 1 MiB or less.
      * The service calculates the partition ID from the message key and stores messages that share a key on the same partition.
@@ -157,6 +272,27 @@ public interface StreamAsync extends AutoCloseable {
             PutMessagesRequest request,
             com.oracle.bmc.responses.AsyncHandler<PutMessagesRequest, PutMessagesResponse> handler);
 
+    /**
+     * Emits messages to a stream. There's no limit to the number of messages in a request, but the total size of a message or request must be 1 MiB or less.
+     * The service calculates the partition ID from the message key and stores messages that share a key on the same partition.
+     * If a message does not contain a key or if the key is null, the service generates a message key for you.
+     * The partition ID cannot be passed as a parameter.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<PutMessagesResponse> putMessages(
+            PutMessagesRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        PutMessagesRequest, PutMessagesResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        putMessages(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Forcefully changes the current location of a group as a whole; reseting processing location of all consumers to a particular location in the stream.
      *
@@ -171,4 +307,22 @@ public interface StreamAsync extends AutoCloseable {
     java.util.concurrent.Future<UpdateGroupResponse> updateGroup(
             UpdateGroupRequest request,
             com.oracle.bmc.responses.AsyncHandler<UpdateGroupRequest, UpdateGroupResponse> handler);
+
+    /**
+     * Forcefully changes the current location of a group as a whole; reseting processing location of all consumers to a particular location in the stream.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateGroupResponse> updateGroup(
+            UpdateGroupRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateGroupRequest, UpdateGroupResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateGroup(request, handler);
+        return handler.getStage();
+    }
 }
@@ -377,6 +377,30 @@ public class StreamAsyncClient implements StreamAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ConsumerCommitResponse> consumerCommit(
+            final ConsumerCommitRequest request) {
+        LOG.trace("Called async consumerCommit");
+        final ConsumerCommitRequest interceptedRequest =
+                ConsumerCommitConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ConsumerCommitConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ConsumerCommitResponse>
+                transformer = ConsumerCommitConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ConsumerHeartbeatResponse> consumerHeartbeat(
             final ConsumerHeartbeatRequest request,
@@ -451,6 +475,30 @@ public class StreamAsyncClient implements StreamAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ConsumerHeartbeatResponse> consumerHeartbeat(
+            final ConsumerHeartbeatRequest request) {
+        LOG.trace("Called async consumerHeartbeat");
+        final ConsumerHeartbeatRequest interceptedRequest =
+                ConsumerHeartbeatConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ConsumerHeartbeatConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ConsumerHeartbeatResponse>
+                transformer = ConsumerHeartbeatConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateCursorResponse> createCursor(
             final CreateCursorRequest request,
@@ -539,6 +587,33 @@ public class StreamAsyncClient implements StreamAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateCursorResponse> createCursor(
+            final CreateCursorRequest request) {
+        LOG.trace("Called async createCursor");
+        final CreateCursorRequest interceptedRequest =
+                CreateCursorConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateCursorConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, CreateCursorResponse>
+                transformer = CreateCursorConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreateCursorDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateGroupCursorResponse> createGroupCursor(
             final CreateGroupCursorRequest request,
@@ -628,6 +703,33 @@ public class StreamAsyncClient implements StreamAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateGroupCursorResponse> createGroupCursor(
+            final CreateGroupCursorRequest request) {
+        LOG.trace("Called async createGroupCursor");
+        final CreateGroupCursorRequest interceptedRequest =
+                CreateGroupCursorConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateGroupCursorConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, CreateGroupCursorResponse>
+                transformer = CreateGroupCursorConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreateGroupCursorDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetGroupResponse> getGroup(
             final GetGroupRequest request,
@@ -700,6 +802,29 @@ public class StreamAsyncClient implements StreamAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetGroupResponse> getGroup(
+            final GetGroupRequest request) {
+        LOG.trace("Called async getGroup");
+        final GetGroupRequest interceptedRequest = GetGroupConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetGroupConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetGroupResponse>
+                transformer = GetGroupConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetMessagesResponse> getMessages(
             final GetMessagesRequest request,
@@ -773,6 +898,30 @@ public class StreamAsyncClient implements StreamAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetMessagesResponse> getMessages(
+            final GetMessagesRequest request) {
+        LOG.trace("Called async getMessages");
+        final GetMessagesRequest interceptedRequest =
+                GetMessagesConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetMessagesConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetMessagesResponse>
+                transformer = GetMessagesConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<PutMessagesResponse> putMessages(
             final PutMessagesRequest request,
@@ -865,6 +1014,31 @@ public class StreamAsyncClient implements StreamAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<PutMessagesResponse> putMessages(
+            final PutMessagesRequest request) {
+        LOG.trace("Called async putMessages");
+        final PutMessagesRequest interceptedRequest =
+                PutMessagesConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                PutMessagesConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, PutMessagesResponse>
+                transformer = PutMessagesConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib, interceptedRequest.getPutMessagesDetails(), interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateGroupResponse> updateGroup(
             final UpdateGroupRequest request,
@@ -952,4 +1126,29 @@ public class StreamAsyncClient implements StreamAsync {
                     responseFuture, transformer);
         }
     }
+
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateGroupResponse> updateGroup(
+            final UpdateGroupRequest request) {
+        LOG.trace("Called async updateGroup");
+        final UpdateGroupRequest interceptedRequest =
+                UpdateGroupConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateGroupConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, UpdateGroupResponse>
+                transformer = UpdateGroupConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib, interceptedRequest.getUpdateGroupDetails(), interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
 }
@@ -79,7 +79,8 @@ public class CreateGroupCursorDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public CreateGroupCursorDetails build() {
             CreateGroupCursorDetails __instance__ =
@@ -185,6 +186,11 @@ public class CreateGroupCursorDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("commitOnGet")
     Boolean commitOnGet;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "type", "time", "groupName", "instanceName", "timeoutInMs", "commitOnGet");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -62,7 +62,8 @@ public class PartitionReservation {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public PartitionReservation build() {
             PartitionReservation __instance__ =
@@ -116,6 +117,11 @@ public class PartitionReservation {
     @com.fasterxml.jackson.annotation.JsonProperty("timeReservedUntil")
     java.util.Date timeReservedUntil;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "partition", "committedOffset", "reservedInstance", "timeReservedUntil");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
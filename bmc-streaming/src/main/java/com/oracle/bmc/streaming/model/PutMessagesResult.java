@@ -45,7 +45,8 @@ public class PutMessagesResult {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public PutMessagesResult build() {
             PutMessagesResult __instance__ = new PutMessagesResult(failures, entries);
@@ -85,6 +86,10 @@ public class PutMessagesResult {
     @com.fasterxml.jackson.annotation.JsonProperty("entries")
     java.util.List<PutMessagesResultEntry> entries;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of("failures", "entries");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
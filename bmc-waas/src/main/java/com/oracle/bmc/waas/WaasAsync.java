@@ -54,6 +54,25 @@ public interface WaasAsync extends AutoCloseable {
                             AcceptRecommendationsRequest, AcceptRecommendationsResponse>
                     handler);
 
+    /**
+     * Accepts a list of recommended Web Application Firewall protection rules. Web Application Firewall protection rule recommendations are sets of rules generated by observed traffic patterns through the Web Application Firewall and are meant to optimize the Web Application Firewall's security profile. Only the rules specified in the request body will be updated; all other rules will remain unchanged.
+     * <p>
+     * Use the `GET /waasPolicies/{waasPolicyId}/wafConfig/recommendations` method to view a list of recommended Web Application Firewall protection rules. For more information, see [WAF Protection Rules](https://docs.cloud.oracle.com/iaas/Content/WAF/Tasks/wafprotectionrules.htm).
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<AcceptRecommendationsResponse>
+            acceptRecommendations(AcceptRecommendationsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        AcceptRecommendationsRequest, AcceptRecommendationsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        acceptRecommendations(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Cancels a specified work request.
      *
@@ -70,6 +89,23 @@ public interface WaasAsync extends AutoCloseable {
                             CancelWorkRequestRequest, CancelWorkRequestResponse>
                     handler);
 
+    /**
+     * Cancels a specified work request.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CancelWorkRequestResponse> cancelWorkRequest(
+            CancelWorkRequestRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CancelWorkRequestRequest, CancelWorkRequestResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        cancelWorkRequest(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Allows an SSL certificate to be added to a WAAS policy. The Web Application Firewall terminates SSL connections to inspect requests in runtime, and then re-encrypts requests before sending them to the origin for fulfillment.
      * <p>
@@ -88,6 +124,25 @@ public interface WaasAsync extends AutoCloseable {
                             CreateCertificateRequest, CreateCertificateResponse>
                     handler);
 
+    /**
+     * Allows an SSL certificate to be added to a WAAS policy. The Web Application Firewall terminates SSL connections to inspect requests in runtime, and then re-encrypts requests before sending them to the origin for fulfillment.
+     * <p>
+     * For more information, see [WAF Settings](https://docs.cloud.oracle.com/iaas/Content/WAF/Tasks/wafsettings.htm).
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreateCertificateResponse> createCertificate(
+            CreateCertificateRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreateCertificateRequest, CreateCertificateResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createCertificate(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Creates a new Web Application Acceleration and Security (WAAS) policy in the specified compartment. A WAAS policy must be established before creating Web Application Firewall (WAF) rules. To use WAF rules, your web application's origin servers must defined in the `WaasPolicy` schema.
      * <p>
@@ -115,6 +170,35 @@ public interface WaasAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<CreateWaasPolicyRequest, CreateWaasPolicyResponse>
                     handler);
 
+    /**
+     * Creates a new Web Application Acceleration and Security (WAAS) policy in the specified compartment. A WAAS policy must be established before creating Web Application Firewall (WAF) rules. To use WAF rules, your web application's origin servers must defined in the `WaasPolicy` schema.
+     * <p>
+     * A domain name must be specified when creating a WAAS policy. The domain name should be different from the origins specified in your `WaasPolicy`. Once domain name is entered and stored, it is unchangeable.
+     * <p>
+     * Use the record data returned in the `cname` field of the `WaasPolicy` object to create a CNAME record in your DNS configuration that will direct your domain's traffic through the WAF.
+     * <p>
+     * For the purposes of access control, you must provide the OCID of the compartment where you want the service to reside. For information about access control and compartments, see [Overview of the IAM Service](https://docs.cloud.oracle.com/iaas/Content/Identity/Concepts/overview.htm).
+     * <p>
+     * You must specify a display name and domain for the WAAS policy. The display name does not have to be unique and can be changed. The domain name should be different from every origin specified in `WaasPolicy`.
+     * <p>
+     * All Oracle Cloud Infrastructure resources, including WAAS policies, receive a unique, Oracle-assigned ID called an Oracle Cloud Identifier (OCID). When a resource is created, you can find its OCID in the response. You can also retrieve a resource's OCID by using a list API operation for that resource type, or by viewing the resource in the Console. Fore more information, see [Resource Identifiers](https://docs.cloud.oracle.com/iaas/Content/General/Concepts/identifiers.htm).
+     * <p>
+     **Note:** After sending the POST request, the new object's state will temporarily be `CREATING`. Ensure that the resource's state has changed to `ACTIVE` before use.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<CreateWaasPolicyResponse> createWaasPolicy(
+            CreateWaasPolicyRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        CreateWaasPolicyRequest, CreateWaasPolicyResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        createWaasPolicy(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Deletes an SSL certificate from the WAAS service.
      *
@@ -131,6 +215,23 @@ public interface WaasAsync extends AutoCloseable {
                             DeleteCertificateRequest, DeleteCertificateResponse>
                     handler);
 
+    /**
+     * Deletes an SSL certificate from the WAAS service.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<DeleteCertificateResponse> deleteCertificate(
+            DeleteCertificateRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        DeleteCertificateRequest, DeleteCertificateResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        deleteCertificate(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Deletes a policy.
      *
@@ -146,6 +247,23 @@ public interface WaasAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<DeleteWaasPolicyRequest, DeleteWaasPolicyResponse>
                     handler);
 
+    /**
+     * Deletes a policy.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<DeleteWaasPolicyResponse> deleteWaasPolicy(
+            DeleteWaasPolicyRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        DeleteWaasPolicyRequest, DeleteWaasPolicyResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        deleteWaasPolicy(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the details of an SSL certificate.
      *
@@ -161,6 +279,23 @@ public interface WaasAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<GetCertificateRequest, GetCertificateResponse>
                     handler);
 
+    /**
+     * Gets the details of an SSL certificate.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetCertificateResponse> getCertificate(
+            GetCertificateRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetCertificateRequest, GetCertificateResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getCertificate(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the device fingerprint challenge settings in the Web Application Firewall configuration for a WAAS policy.
      *
@@ -179,6 +314,23 @@ public interface WaasAsync extends AutoCloseable {
                                     GetDeviceFingerprintChallengeResponse>
                             handler);
 
+    /**
+     * Gets the device fingerprint challenge settings in the Web Application Firewall configuration for a WAAS policy.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetDeviceFingerprintChallengeResponse>
+            getDeviceFingerprintChallenge(GetDeviceFingerprintChallengeRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetDeviceFingerprintChallengeRequest, GetDeviceFingerprintChallengeResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getDeviceFingerprintChallenge(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the human interaction challenge settings in the Web Application Firewall configuration for a WAAS policy.
      *
@@ -196,6 +348,23 @@ public interface WaasAsync extends AutoCloseable {
                             GetHumanInteractionChallengeResponse>
                     handler);
 
+    /**
+     * Gets the human interaction challenge settings in the Web Application Firewall configuration for a WAAS policy.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetHumanInteractionChallengeResponse>
+            getHumanInteractionChallenge(GetHumanInteractionChallengeRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetHumanInteractionChallengeRequest, GetHumanInteractionChallengeResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getHumanInteractionChallenge(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the JavaScript challenge settings in the Web Application Firewall configuration for a WAAS policy.
      *
@@ -211,6 +380,23 @@ public interface WaasAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<GetJsChallengeRequest, GetJsChallengeResponse>
                     handler);
 
+    /**
+     * Gets the JavaScript challenge settings in the Web Application Firewall configuration for a WAAS policy.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetJsChallengeResponse> getJsChallenge(
+            GetJsChallengeRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetJsChallengeRequest, GetJsChallengeResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getJsChallenge(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the configuration of a WAAS policy.
      *
@@ -226,6 +412,23 @@ public interface WaasAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<GetPolicyConfigRequest, GetPolicyConfigResponse>
                     handler);
 
+    /**
+     * Gets the configuration of a WAAS policy.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetPolicyConfigResponse> getPolicyConfig(
+            GetPolicyConfigRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetPolicyConfigRequest, GetPolicyConfigResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getPolicyConfig(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the details of a protection rule in the Web Application Firewall configuration for a WAAS policy.
      *
@@ -242,6 +445,23 @@ public interface WaasAsync extends AutoCloseable {
                             GetProtectionRuleRequest, GetProtectionRuleResponse>
                     handler);
 
+    /**
+     * Gets the details of a protection rule in the Web Application Firewall configuration for a WAAS policy.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetProtectionRuleResponse> getProtectionRule(
+            GetProtectionRuleRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetProtectionRuleRequest, GetProtectionRuleResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getProtectionRule(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the protection settings in the Web Application Firewall configuration for a WAAS policy.
      *
@@ -258,6 +478,23 @@ public interface WaasAsync extends AutoCloseable {
                             GetProtectionSettingsRequest, GetProtectionSettingsResponse>
                     handler);
 
+    /**
+     * Gets the protection settings in the Web Application Firewall configuration for a WAAS policy.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetProtectionSettingsResponse>
+            getProtectionSettings(GetProtectionSettingsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetProtectionSettingsRequest, GetProtectionSettingsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getProtectionSettings(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the details of a WAAS policy.
      *
@@ -273,6 +510,23 @@ public interface WaasAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<GetWaasPolicyRequest, GetWaasPolicyResponse>
                     handler);
 
+    /**
+     * Gets the details of a WAAS policy.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetWaasPolicyResponse> getWaasPolicy(
+            GetWaasPolicyRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetWaasPolicyRequest, GetWaasPolicyResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getWaasPolicy(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the address rate limiting settings of the Web Application Firewall configuration for a WAAS policy.
      *
@@ -289,6 +543,23 @@ public interface WaasAsync extends AutoCloseable {
                             GetWafAddressRateLimitingRequest, GetWafAddressRateLimitingResponse>
                     handler);
 
+    /**
+     * Gets the address rate limiting settings of the Web Application Firewall configuration for a WAAS policy.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetWafAddressRateLimitingResponse>
+            getWafAddressRateLimiting(GetWafAddressRateLimitingRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetWafAddressRateLimitingRequest, GetWafAddressRateLimitingResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getWafAddressRateLimiting(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the Web Application Firewall configuration details for a WAAS policy.
      *
@@ -304,6 +575,23 @@ public interface WaasAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<GetWafConfigRequest, GetWafConfigResponse>
                     handler);
 
+    /**
+     * Gets the Web Application Firewall configuration details for a WAAS policy.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetWafConfigResponse> getWafConfig(
+            GetWafConfigRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetWafConfigRequest, GetWafConfigResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getWafConfig(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the details of a specified work request.
      *
@@ -319,6 +607,23 @@ public interface WaasAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<GetWorkRequestRequest, GetWorkRequestResponse>
                     handler);
 
+    /**
+     * Gets the details of a specified work request.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<GetWorkRequestResponse> getWorkRequest(
+            GetWorkRequestRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        GetWorkRequestRequest, GetWorkRequestResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        getWorkRequest(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the currently configured access rules for the Web Application Firewall configration of a specified WAAS policy.
      * The order of the access rules is important. The rules will be checked in the order they are specified and the first matching rule will be used.
@@ -335,6 +640,24 @@ public interface WaasAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<ListAccessRulesRequest, ListAccessRulesResponse>
                     handler);
 
+    /**
+     * Gets the currently configured access rules for the Web Application Firewall configration of a specified WAAS policy.
+     * The order of the access rules is important. The rules will be checked in the order they are specified and the first matching rule will be used.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListAccessRulesResponse> listAccessRules(
+            ListAccessRulesRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListAccessRulesRequest, ListAccessRulesResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listAccessRules(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the list of currently configured CAPTCHA challenges in the Web
      * Application Firewall configuration of a WAAS policy.
@@ -355,6 +678,28 @@ public interface WaasAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<ListCaptchasRequest, ListCaptchasResponse>
                     handler);
 
+    /**
+     * Gets the list of currently configured CAPTCHA challenges in the Web
+     * Application Firewall configuration of a WAAS policy.
+     * <p>
+     * The order of the CAPTCHA challenges is important. The URL for each
+     * CAPTCHA will be checked in the order they are created.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListCaptchasResponse> listCaptchas(
+            ListCaptchasRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListCaptchasRequest, ListCaptchasResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listCaptchas(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets a list of SSL certificates that can be used in a WAAS policy.
      *
@@ -370,6 +715,23 @@ public interface WaasAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<ListCertificatesRequest, ListCertificatesResponse>
                     handler);
 
+    /**
+     * Gets a list of SSL certificates that can be used in a WAAS policy.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListCertificatesResponse> listCertificates(
+            ListCertificatesRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListCertificatesRequest, ListCertificatesResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listCertificates(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Return the list of the tenant's edge node subnets. Use these CIDR blocks to restrict incoming traffic to your origin. These subnets are owned by OCI and forward traffic to customer origins. They are not associated with specific regions or compartments.
      *
@@ -385,6 +747,23 @@ public interface WaasAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<ListEdgeSubnetsRequest, ListEdgeSubnetsResponse>
                     handler);
 
+    /**
+     * Return the list of the tenant's edge node subnets. Use these CIDR blocks to restrict incoming traffic to your origin. These subnets are owned by OCI and forward traffic to customer origins. They are not associated with specific regions or compartments.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListEdgeSubnetsResponse> listEdgeSubnets(
+            ListEdgeSubnetsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListEdgeSubnetsRequest, ListEdgeSubnetsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listEdgeSubnets(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the list of good bots defined in the Web Application Firewall configuration for a WAAS policy.
      * <p>
@@ -403,6 +782,26 @@ public interface WaasAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<ListGoodBotsRequest, ListGoodBotsResponse>
                     handler);
 
+    /**
+     * Gets the list of good bots defined in the Web Application Firewall configuration for a WAAS policy.
+     * <p>
+     * The list is sorted ascending by `key`.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListGoodBotsResponse> listGoodBots(
+            ListGoodBotsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListGoodBotsRequest, ListGoodBotsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listGoodBots(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the list of protection rules in the Web Application Firewall configuration for a WAAS policy, including currently defined rules and recommended rules.
      * The list is sorted ascending by `key`.
@@ -420,6 +819,24 @@ public interface WaasAsync extends AutoCloseable {
                             ListProtectionRulesRequest, ListProtectionRulesResponse>
                     handler);
 
+    /**
+     * Gets the list of protection rules in the Web Application Firewall configuration for a WAAS policy, including currently defined rules and recommended rules.
+     * The list is sorted ascending by `key`.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListProtectionRulesResponse> listProtectionRules(
+            ListProtectionRulesRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListProtectionRulesRequest, ListProtectionRulesResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listProtectionRules(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the list of recommended Web Application Firewall protection rules.
      * <p>
@@ -439,6 +856,26 @@ public interface WaasAsync extends AutoCloseable {
                             ListRecommendationsRequest, ListRecommendationsResponse>
                     handler);
 
+    /**
+     * Gets the list of recommended Web Application Firewall protection rules.
+     * <p>
+     * Use the `POST /waasPolicies/{waasPolicyId}/actions/acceptWafConfigRecommendations` method to accept recommended Web Application Firewall protection rules. For more information, see [WAF Protection Rules](https://docs.cloud.oracle.com/iaas/Content/WAF/Tasks/wafprotectionrules.htm).
+     * The list is sorted ascending by `key`.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListRecommendationsResponse> listRecommendations(
+            ListRecommendationsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListRecommendationsRequest, ListRecommendationsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listRecommendations(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the list of available web application threat intelligence feeds
      * and the actions set for each feed. The list is sorted ascending by
@@ -457,6 +894,26 @@ public interface WaasAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<ListThreatFeedsRequest, ListThreatFeedsResponse>
                     handler);
 
+    /**
+     * Gets the list of available web application threat intelligence feeds
+     * and the actions set for each feed. The list is sorted ascending by
+     * `key`.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListThreatFeedsResponse> listThreatFeeds(
+            ListThreatFeedsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListThreatFeedsRequest, ListThreatFeedsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listThreatFeeds(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets a list of WAAS policies.
      *
@@ -472,6 +929,23 @@ public interface WaasAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<ListWaasPoliciesRequest, ListWaasPoliciesResponse>
                     handler);
 
+    /**
+     * Gets a list of WAAS policies.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListWaasPoliciesResponse> listWaasPolicies(
+            ListWaasPoliciesRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListWaasPoliciesRequest, ListWaasPoliciesResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listWaasPolicies(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the number of blocked requests by a Web Application Firewall feature in five minute blocks, in ascending order by `timeObserved`.
      *
@@ -488,6 +962,23 @@ public interface WaasAsync extends AutoCloseable {
                             ListWafBlockedRequestsRequest, ListWafBlockedRequestsResponse>
                     handler);
 
+    /**
+     * Gets the number of blocked requests by a Web Application Firewall feature in five minute blocks, in ascending order by `timeObserved`.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListWafBlockedRequestsResponse>
+            listWafBlockedRequests(ListWafBlockedRequestsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListWafBlockedRequestsRequest, ListWafBlockedRequestsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listWafBlockedRequests(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets structured Web Application Firewall event logs for a WAAS
      * policy. The list is sorted by the `timeObserved` starting from the
@@ -505,6 +996,26 @@ public interface WaasAsync extends AutoCloseable {
             ListWafLogsRequest request,
             com.oracle.bmc.responses.AsyncHandler<ListWafLogsRequest, ListWafLogsResponse> handler);
 
+    /**
+     * Gets structured Web Application Firewall event logs for a WAAS
+     * policy. The list is sorted by the `timeObserved` starting from the
+     * oldest recorded event (ascending).
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListWafLogsResponse> listWafLogs(
+            ListWafLogsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListWafLogsRequest, ListWafLogsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listWafLogs(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the number of requests managed by a Web Application Firewall
      * over a specified period of time, including blocked requests. Sorted
@@ -523,6 +1034,26 @@ public interface WaasAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<ListWafRequestsRequest, ListWafRequestsResponse>
                     handler);
 
+    /**
+     * Gets the number of requests managed by a Web Application Firewall
+     * over a specified period of time, including blocked requests. Sorted
+     * by `timeObserved` with oldest requests first (ascending).
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListWafRequestsResponse> listWafRequests(
+            ListWafRequestsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListWafRequestsRequest, ListWafRequestsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listWafRequests(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the Web Application Firewall traffic data for a WAAS policy.
      * Sorted by `timeObserved` with oldest data points first (ascending).
@@ -540,6 +1071,25 @@ public interface WaasAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<ListWafTrafficRequest, ListWafTrafficResponse>
                     handler);
 
+    /**
+     * Gets the Web Application Firewall traffic data for a WAAS policy.
+     * Sorted by `timeObserved` with oldest data points first (ascending).
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListWafTrafficResponse> listWafTraffic(
+            ListWafTrafficRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListWafTrafficRequest, ListWafTrafficResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listWafTraffic(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets the list of whitelists defined in the Web Application Firewall configuration for a WAAS policy.
      *
@@ -555,6 +1105,23 @@ public interface WaasAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<ListWhitelistsRequest, ListWhitelistsResponse>
                     handler);
 
+    /**
+     * Gets the list of whitelists defined in the Web Application Firewall configuration for a WAAS policy.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListWhitelistsResponse> listWhitelists(
+            ListWhitelistsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListWhitelistsRequest, ListWhitelistsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listWhitelists(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Gets a list of subnets (CIDR notation) from which the WAAS EDGE may make requests. The subnets are owned by OCI and forward traffic to your origins. Allow traffic from these subnets to your origins. They are not associated with specific regions or compartments.
      *
@@ -570,6 +1137,23 @@ public interface WaasAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<ListWorkRequestsRequest, ListWorkRequestsResponse>
                     handler);
 
+    /**
+     * Gets a list of subnets (CIDR notation) from which the WAAS EDGE may make requests. The subnets are owned by OCI and forward traffic to your origins. Allow traffic from these subnets to your origins. They are not associated with specific regions or compartments.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<ListWorkRequestsResponse> listWorkRequests(
+            ListWorkRequestsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        ListWorkRequestsRequest, ListWorkRequestsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        listWorkRequests(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Updates the list of access rules in the Web Application Firewall configuration for a specified WAAS policy. Access rules allow explicit actions to be defined and executed for requests that meet various conditions. A rule action can be set to allow, detect, or block requests. The detect setting allows the request to pass through the Web Application Firewall and is tagged with a `DETECT` flag in the Web Application Firewall's log.
      * This operation can create, delete, update, and/or reorder access rules depending on the structure of the request body.
@@ -591,6 +1175,28 @@ public interface WaasAsync extends AutoCloseable {
                             UpdateAccessRulesRequest, UpdateAccessRulesResponse>
                     handler);
 
+    /**
+     * Updates the list of access rules in the Web Application Firewall configuration for a specified WAAS policy. Access rules allow explicit actions to be defined and executed for requests that meet various conditions. A rule action can be set to allow, detect, or block requests. The detect setting allows the request to pass through the Web Application Firewall and is tagged with a `DETECT` flag in the Web Application Firewall's log.
+     * This operation can create, delete, update, and/or reorder access rules depending on the structure of the request body.
+     * Updating an existing access rule can be accomplished by changing the properties of the access rule object with a non-empty `key` property in the list.
+     * Reordering of access rules can be accomplished by changing the order of the access rules in the list when updating.
+     * Creating an access rule can be accomplished by adding a new access rule object to the list without a `key` property. A `key` will be generated for the new access rule upon update.
+     * Deleting an access rule can be accomplished by removing the existing access rule object from the list. Any existing access rule with a `key` that is not present in the list of access rules sent in the request will be deleted.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateAccessRulesResponse> updateAccessRules(
+            UpdateAccessRulesRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateAccessRulesRequest, UpdateAccessRulesResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateAccessRules(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Updates the list of CAPTCHA challenges in the Web Application Firewall configuration for a WAAS policy.
      * This operation can create, update, or delete CAPTCHAs depending on the structure of the request body.
@@ -610,6 +1216,27 @@ public interface WaasAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<UpdateCaptchasRequest, UpdateCaptchasResponse>
                     handler);
 
+    /**
+     * Updates the list of CAPTCHA challenges in the Web Application Firewall configuration for a WAAS policy.
+     * This operation can create, update, or delete CAPTCHAs depending on the structure of the request body.
+     * Updating an existing CAPTCHA can be accomplished by changing the properties of the CAPTCHA object with a non-empty `key` property in the list.
+     * Creating a CAPTCHA can be accomplished by adding a new CAPTCHA object to the list without a `key` property. A `key` will be generated for the new CAPTCHA upon update.
+     * Deleting a CAPTCHA can be accomplished by removing the existing CAPTCHA object from the list. Any existing CAPTCHA with a `key` that is not present in the list of CAPTCHAs sent in the request will be deleted.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateCaptchasResponse> updateCaptchas(
+            UpdateCaptchasRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateCaptchasRequest, UpdateCaptchasResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateCaptchas(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * It is not possible to update a certificate, only create and delete. Therefore, this operation can only update the display name, freeform tags, and defined tags of a certificate.
      *
@@ -626,6 +1253,23 @@ public interface WaasAsync extends AutoCloseable {
                             UpdateCertificateRequest, UpdateCertificateResponse>
                     handler);
 
+    /**
+     * It is not possible to update a certificate, only create and delete. Therefore, this operation can only update the display name, freeform tags, and defined tags of a certificate.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateCertificateResponse> updateCertificate(
+            UpdateCertificateRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateCertificateRequest, UpdateCertificateResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateCertificate(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Updates the Device Fingerprint Challenge (DFC) settings in the Web Application Firewall configuration for a policy. The DFC generates a hashed signature of both virtual and real browsers based on 50+ attributes. These proprietary signatures are then leveraged for real-time correlation to identify and block malicious bots.
      * <p>
@@ -648,6 +1292,28 @@ public interface WaasAsync extends AutoCloseable {
                                     UpdateDeviceFingerprintChallengeResponse>
                             handler);
 
+    /**
+     * Updates the Device Fingerprint Challenge (DFC) settings in the Web Application Firewall configuration for a policy. The DFC generates a hashed signature of both virtual and real browsers based on 50+ attributes. These proprietary signatures are then leveraged for real-time correlation to identify and block malicious bots.
+     * <p>
+     * The signature is based on a library of attributes detected via JavaScript listeners; the attributes include OS, screen resolution, fonts, UserAgent, IP address, etc. We are constantly making improvements and considering new libraries to include in our DFC build. We can also exclude attributes from the signature as needed.
+     * <p>
+     * DFC collects attributes to generate a hashed signature about a client \u2013 if a fingerprint is not possible, then it will result in a block or alert action. Actions can be enforced across multiple devices if they share they have the same fingerprint.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateDeviceFingerprintChallengeResponse>
+            updateDeviceFingerprintChallenge(UpdateDeviceFingerprintChallengeRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateDeviceFingerprintChallengeRequest,
+                        UpdateDeviceFingerprintChallengeResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateDeviceFingerprintChallenge(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Updates the list of good bots in the Web Application Firewall configuration for a policy. Only the fields specified in the request body will be updated, all other configuration properties will remain unchanged.
      * <p>
@@ -665,6 +1331,25 @@ public interface WaasAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<UpdateGoodBotsRequest, UpdateGoodBotsResponse>
                     handler);
 
+    /**
+     * Updates the list of good bots in the Web Application Firewall configuration for a policy. Only the fields specified in the request body will be updated, all other configuration properties will remain unchanged.
+     * <p>
+     * Good bots allows you to manage access for bots from known providers, such as Google or Baidu. For more information about good bots, please see [Bot Management](https://docs.cloud.oracle.com/iaas/Content/WAF/Tasks/botmanagement.htm).
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateGoodBotsResponse> updateGoodBots(
+            UpdateGoodBotsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateGoodBotsRequest, UpdateGoodBotsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateGoodBots(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Updates the Human Interaction Challenge (HIC) settings in the Web Application Firewall configuration for a WAAS policy. HIC is a countermeasure that allows the proxy to check the user's browser for various behaviors that distinguish a human presence from a bot.
      *
@@ -683,6 +1368,24 @@ public interface WaasAsync extends AutoCloseable {
                                     UpdateHumanInteractionChallengeResponse>
                             handler);
 
+    /**
+     * Updates the Human Interaction Challenge (HIC) settings in the Web Application Firewall configuration for a WAAS policy. HIC is a countermeasure that allows the proxy to check the user's browser for various behaviors that distinguish a human presence from a bot.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateHumanInteractionChallengeResponse>
+            updateHumanInteractionChallenge(UpdateHumanInteractionChallengeRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateHumanInteractionChallengeRequest,
+                        UpdateHumanInteractionChallengeResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateHumanInteractionChallenge(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Updates the JavaScript challenge settings in the Web Application Firewall configuration for a WAAS policy. JavaScript Challenge validates that the client can accept JavaScript with a binary decision. For more information, see [Bot Management](https://docs.cloud.oracle.com/iaas/Content/WAF/Tasks/botmanagement.htm).
      *
@@ -699,6 +1402,23 @@ public interface WaasAsync extends AutoCloseable {
                             UpdateJsChallengeRequest, UpdateJsChallengeResponse>
                     handler);
 
+    /**
+     * Updates the JavaScript challenge settings in the Web Application Firewall configuration for a WAAS policy. JavaScript Challenge validates that the client can accept JavaScript with a binary decision. For more information, see [Bot Management](https://docs.cloud.oracle.com/iaas/Content/WAF/Tasks/botmanagement.htm).
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateJsChallengeResponse> updateJsChallenge(
+            UpdateJsChallengeRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateJsChallengeRequest, UpdateJsChallengeResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateJsChallenge(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Updates the configuration for a WAAS policy. Only the fields specified in the request body will be updated; all other properties will remain unchanged.
      *
@@ -715,6 +1435,23 @@ public interface WaasAsync extends AutoCloseable {
                             UpdatePolicyConfigRequest, UpdatePolicyConfigResponse>
                     handler);
 
+    /**
+     * Updates the configuration for a WAAS policy. Only the fields specified in the request body will be updated; all other properties will remain unchanged.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdatePolicyConfigResponse> updatePolicyConfig(
+            UpdatePolicyConfigRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdatePolicyConfigRequest, UpdatePolicyConfigResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updatePolicyConfig(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Updates the action for each specified protection rule. Requests can either be allowed, blocked, or trigger an alert if they meet the parameters of an applied rule. For more information on protection rules, see [WAF Protection Rules](https://docs.cloud.oracle.com/iaas/Content/WAF/Tasks/wafprotectionrules.htm).
      * This operation can update or disable protection rules depending on the structure of the request body.
@@ -733,6 +1470,25 @@ public interface WaasAsync extends AutoCloseable {
                             UpdateProtectionRulesRequest, UpdateProtectionRulesResponse>
                     handler);
 
+    /**
+     * Updates the action for each specified protection rule. Requests can either be allowed, blocked, or trigger an alert if they meet the parameters of an applied rule. For more information on protection rules, see [WAF Protection Rules](https://docs.cloud.oracle.com/iaas/Content/WAF/Tasks/wafprotectionrules.htm).
+     * This operation can update or disable protection rules depending on the structure of the request body.
+     * Updating an existing protection rule can be accomplished by changing the properties of the protection rule object with a non-empty `key` property in the list.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateProtectionRulesResponse>
+            updateProtectionRules(UpdateProtectionRulesRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateProtectionRulesRequest, UpdateProtectionRulesResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateProtectionRules(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Updates the protection settings in the Web Application Firewall configuration for a WAAS policy. Protection settings allow you define what action is taken when a request is blocked by the Web Application Firewall, such as returning a response code or block page. Only the fields specified in the request body will be updated; all other fields will remain unchanged.
      *
@@ -749,6 +1505,23 @@ public interface WaasAsync extends AutoCloseable {
                             UpdateProtectionSettingsRequest, UpdateProtectionSettingsResponse>
                     handler);
 
+    /**
+     * Updates the protection settings in the Web Application Firewall configuration for a WAAS policy. Protection settings allow you define what action is taken when a request is blocked by the Web Application Firewall, such as returning a response code or block page. Only the fields specified in the request body will be updated; all other fields will remain unchanged.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateProtectionSettingsResponse>
+            updateProtectionSettings(UpdateProtectionSettingsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateProtectionSettingsRequest, UpdateProtectionSettingsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateProtectionSettings(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Updates the action to take when a request's IP address matches an address in the specified threat intelligence feed. Threat intelligence feeds are compiled lists of IP addresses with malicious reputations based on internet intelligence. Only the threat feeds specified in the request body will be updated; all other threat feeds will remain unchanged.
      *
@@ -765,6 +1538,23 @@ public interface WaasAsync extends AutoCloseable {
                             UpdateThreatFeedsRequest, UpdateThreatFeedsResponse>
                     handler);
 
+    /**
+     * Updates the action to take when a request's IP address matches an address in the specified threat intelligence feed. Threat intelligence feeds are compiled lists of IP addresses with malicious reputations based on internet intelligence. Only the threat feeds specified in the request body will be updated; all other threat feeds will remain unchanged.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateThreatFeedsResponse> updateThreatFeeds(
+            UpdateThreatFeedsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateThreatFeedsRequest, UpdateThreatFeedsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateThreatFeeds(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Updates the details of a WAAS policy, including origins and tags. Only the fields specified in the request body will be updated; all other properties will remain unchanged.
      * To update platform provided resources such as `GoodBots`, `ProtectionRules`, and `ThreatFeeds` first retrieve the list of available resources with the related list operation such as `GetThreatFeeds` or `GetProtectionRules`.
@@ -782,6 +1572,25 @@ public interface WaasAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<UpdateWaasPolicyRequest, UpdateWaasPolicyResponse>
                     handler);
 
+    /**
+     * Updates the details of a WAAS policy, including origins and tags. Only the fields specified in the request body will be updated; all other properties will remain unchanged.
+     * To update platform provided resources such as `GoodBots`, `ProtectionRules`, and `ThreatFeeds` first retrieve the list of available resources with the related list operation such as `GetThreatFeeds` or `GetProtectionRules`.
+     * The returned list will contain objects with `key` properties that can be used to update the resource during the `UpdateWaasPolicy` request.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateWaasPolicyResponse> updateWaasPolicy(
+            UpdateWaasPolicyRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateWaasPolicyRequest, UpdateWaasPolicyResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateWaasPolicy(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Updates the address rate limiting settings in the Web Application Firewall configuration for a policy. Rate limiting allows you to configure a threshold for the number of requests from a unique IP address for the given period. You can also define the response code for the requests from the same address that exceed the threshold.
      *
@@ -799,6 +1608,23 @@ public interface WaasAsync extends AutoCloseable {
                             UpdateWafAddressRateLimitingResponse>
                     handler);
 
+    /**
+     * Updates the address rate limiting settings in the Web Application Firewall configuration for a policy. Rate limiting allows you to configure a threshold for the number of requests from a unique IP address for the given period. You can also define the response code for the requests from the same address that exceed the threshold.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateWafAddressRateLimitingResponse>
+            updateWafAddressRateLimiting(UpdateWafAddressRateLimitingRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateWafAddressRateLimitingRequest, UpdateWafAddressRateLimitingResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateWafAddressRateLimiting(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Updates the Web Application Firewall configuration for a specified WAAS policy.
      * <p>
@@ -822,6 +1648,31 @@ public interface WaasAsync extends AutoCloseable {
             com.oracle.bmc.responses.AsyncHandler<UpdateWafConfigRequest, UpdateWafConfigResponse>
                     handler);
 
+    /**
+     * Updates the Web Application Firewall configuration for a specified WAAS policy.
+     * <p>
+     * To update platform provided resources such as `GoodBots`, `ProtectionRules`, and `ThreatFeeds`
+     * first retrieve the list of available resources with the related list operation such as
+     * `GetThreatFeeds` or `GetProtectionRules`.
+     * <p>
+     * The returned list will contain objects with `key` properties that can be used to update the
+     * resource during the `UpdateWafConfig` request.
+     *
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateWafConfigResponse> updateWafConfig(
+            UpdateWafConfigRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateWafConfigRequest, UpdateWafConfigResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateWafConfig(request, handler);
+        return handler.getStage();
+    }
+
     /**
      * Updates the list of IP addresses that bypass the Web Application Firewall for a WAAS policy. Supports both single IP addresses or subnet masks (CIDR notation).
      * This operation can create, delete, update, and/or reorder whitelists depending on the structure of the request body.
@@ -841,4 +1692,26 @@ public interface WaasAsync extends AutoCloseable {
             UpdateWhitelistsRequest request,
             com.oracle.bmc.responses.AsyncHandler<UpdateWhitelistsRequest, UpdateWhitelistsResponse>
                     handler);
+
+    /**
+     * Updates the list of IP addresses that bypass the Web Application Firewall for a WAAS policy. Supports both single IP addresses or subnet masks (CIDR notation).
+     * This operation can create, delete, update, and/or reorder whitelists depending on the structure of the request body.
+     * Updating an existing whitelist can be accomplished by changing the properties of the whitelist object with a non-empty `key` property in the list.
+     * Reordering of whitelists can be accomplished by changing the order of the whitelists in the list when updating.
+     * Creating a whitelist can be accomplished by adding a new whitelist object to the list without a `key` property. A `key` will be generated for the new whitelist upon update.
+     * Deleting a whitelist can be accomplished by removing the existing whitelist object from the list. Any existing whitelist with a `key` that is not present in the list of whitelists sent in the request will be deleted.
+     *
+     * @param request The request object containing the details to send
+     * @return A CompletionStage that completes with the response, or exceptionally with
+     *         a {@link com.oracle.bmc.model.BmcException} if the request failed. The
+     *         calling thread is not blocked while waiting for the response.
+     */
+    default java.util.concurrent.CompletionStage<UpdateWhitelistsResponse> updateWhitelists(
+            UpdateWhitelistsRequest request) {
+        com.oracle.bmc.util.internal.CompletionStageAsyncHandler<
+                        UpdateWhitelistsRequest, UpdateWhitelistsResponse>
+                handler = new com.oracle.bmc.util.internal.CompletionStageAsyncHandler<>();
+        updateWhitelists(request, handler);
+        return handler.getStage();
+    }
 }
@@ -392,6 +392,32 @@ public class WaasAsyncClient implements WaasAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<AcceptRecommendationsResponse>
+            acceptRecommendations(final AcceptRecommendationsRequest request) {
+        LOG.trace("Called async acceptRecommendations");
+        final AcceptRecommendationsRequest interceptedRequest =
+                AcceptRecommendationsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                AcceptRecommendationsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, AcceptRecommendationsResponse>
+                transformer = AcceptRecommendationsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib, interceptedRequest.getProtectionRuleKeys(), interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CancelWorkRequestResponse> cancelWorkRequest(
             final CancelWorkRequestRequest request,
@@ -466,6 +492,30 @@ public class WaasAsyncClient implements WaasAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CancelWorkRequestResponse> cancelWorkRequest(
+            final CancelWorkRequestRequest request) {
+        LOG.trace("Called async cancelWorkRequest");
+        final CancelWorkRequestRequest interceptedRequest =
+                CancelWorkRequestConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CancelWorkRequestConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, CancelWorkRequestResponse>
+                transformer = CancelWorkRequestConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateCertificateResponse> createCertificate(
             final CreateCertificateRequest request,
@@ -555,6 +605,33 @@ public class WaasAsyncClient implements WaasAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateCertificateResponse> createCertificate(
+            final CreateCertificateRequest request) {
+        LOG.trace("Called async createCertificate");
+        final CreateCertificateRequest interceptedRequest =
+                CreateCertificateConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateCertificateConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, CreateCertificateResponse>
+                transformer = CreateCertificateConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreateCertificateDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<CreateWaasPolicyResponse> createWaasPolicy(
             final CreateWaasPolicyRequest request,
@@ -644,6 +721,33 @@ public class WaasAsyncClient implements WaasAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<CreateWaasPolicyResponse> createWaasPolicy(
+            final CreateWaasPolicyRequest request) {
+        LOG.trace("Called async createWaasPolicy");
+        final CreateWaasPolicyRequest interceptedRequest =
+                CreateWaasPolicyConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                CreateWaasPolicyConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, CreateWaasPolicyResponse>
+                transformer = CreateWaasPolicyConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPost(
+                                ib,
+                                interceptedRequest.getCreateWaasPolicyDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteCertificateResponse> deleteCertificate(
             final DeleteCertificateRequest request,
@@ -718,6 +822,30 @@ public class WaasAsyncClient implements WaasAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteCertificateResponse> deleteCertificate(
+            final DeleteCertificateRequest request) {
+        LOG.trace("Called async deleteCertificate");
+        final DeleteCertificateRequest interceptedRequest =
+                DeleteCertificateConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteCertificateConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, DeleteCertificateResponse>
+                transformer = DeleteCertificateConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<DeleteWaasPolicyResponse> deleteWaasPolicy(
             final DeleteWaasPolicyRequest request,
@@ -792,6 +920,30 @@ public class WaasAsyncClient implements WaasAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<DeleteWaasPolicyResponse> deleteWaasPolicy(
+            final DeleteWaasPolicyRequest request) {
+        LOG.trace("Called async deleteWaasPolicy");
+        final DeleteWaasPolicyRequest interceptedRequest =
+                DeleteWaasPolicyConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                DeleteWaasPolicyConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, DeleteWaasPolicyResponse>
+                transformer = DeleteWaasPolicyConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxDelete(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetCertificateResponse> getCertificate(
             final GetCertificateRequest request,
@@ -866,6 +1018,30 @@ public class WaasAsyncClient implements WaasAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetCertificateResponse> getCertificate(
+            final GetCertificateRequest request) {
+        LOG.trace("Called async getCertificate");
+        final GetCertificateRequest interceptedRequest =
+                GetCertificateConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetCertificateConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetCertificateResponse>
+                transformer = GetCertificateConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetDeviceFingerprintChallengeResponse>
             getDeviceFingerprintChallenge(
@@ -945,6 +1121,31 @@ public class WaasAsyncClient implements WaasAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetDeviceFingerprintChallengeResponse>
+            getDeviceFingerprintChallenge(final GetDeviceFingerprintChallengeRequest request) {
+        LOG.trace("Called async getDeviceFingerprintChallenge");
+        final GetDeviceFingerprintChallengeRequest interceptedRequest =
+                GetDeviceFingerprintChallengeConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetDeviceFingerprintChallengeConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, GetDeviceFingerprintChallengeResponse>
+                transformer = GetDeviceFingerprintChallengeConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetHumanInteractionChallengeResponse>
             getHumanInteractionChallenge(
@@ -1024,6 +1225,31 @@ public class WaasAsyncClient implements WaasAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetHumanInteractionChallengeResponse>
+            getHumanInteractionChallenge(final GetHumanInteractionChallengeRequest request) {
+        LOG.trace("Called async getHumanInteractionChallenge");
+        final GetHumanInteractionChallengeRequest interceptedRequest =
+                GetHumanInteractionChallengeConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetHumanInteractionChallengeConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, GetHumanInteractionChallengeResponse>
+                transformer = GetHumanInteractionChallengeConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetJsChallengeResponse> getJsChallenge(
             final GetJsChallengeRequest request,
@@ -1098,6 +1324,30 @@ public class WaasAsyncClient implements WaasAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetJsChallengeResponse> getJsChallenge(
+            final GetJsChallengeRequest request) {
+        LOG.trace("Called async getJsChallenge");
+        final GetJsChallengeRequest interceptedRequest =
+                GetJsChallengeConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetJsChallengeConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetJsChallengeResponse>
+                transformer = GetJsChallengeConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetPolicyConfigResponse> getPolicyConfig(
             final GetPolicyConfigRequest request,
@@ -1172,6 +1422,30 @@ public class WaasAsyncClient implements WaasAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetPolicyConfigResponse> getPolicyConfig(
+            final GetPolicyConfigRequest request) {
+        LOG.trace("Called async getPolicyConfig");
+        final GetPolicyConfigRequest interceptedRequest =
+                GetPolicyConfigConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetPolicyConfigConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetPolicyConfigResponse>
+                transformer = GetPolicyConfigConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetProtectionRuleResponse> getProtectionRule(
             final GetProtectionRuleRequest request,
@@ -1246,6 +1520,30 @@ public class WaasAsyncClient implements WaasAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetProtectionRuleResponse> getProtectionRule(
+            final GetProtectionRuleRequest request) {
+        LOG.trace("Called async getProtectionRule");
+        final GetProtectionRuleRequest interceptedRequest =
+                GetProtectionRuleConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetProtectionRuleConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetProtectionRuleResponse>
+                transformer = GetProtectionRuleConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetProtectionSettingsResponse> getProtectionSettings(
             final GetProtectionSettingsRequest request,
@@ -1322,6 +1620,31 @@ public class WaasAsyncClient implements WaasAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetProtectionSettingsResponse>
+            getProtectionSettings(final GetProtectionSettingsRequest request) {
+        LOG.trace("Called async getProtectionSettings");
+        final GetProtectionSettingsRequest interceptedRequest =
+                GetProtectionSettingsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetProtectionSettingsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, GetProtectionSettingsResponse>
+                transformer = GetProtectionSettingsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetWaasPolicyResponse> getWaasPolicy(
             final GetWaasPolicyRequest request,
@@ -1395,6 +1718,30 @@ public class WaasAsyncClient implements WaasAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetWaasPolicyResponse> getWaasPolicy(
+            final GetWaasPolicyRequest request) {
+        LOG.trace("Called async getWaasPolicy");
+        final GetWaasPolicyRequest interceptedRequest =
+                GetWaasPolicyConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetWaasPolicyConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetWaasPolicyResponse>
+                transformer = GetWaasPolicyConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetWafAddressRateLimitingResponse> getWafAddressRateLimiting(
             final GetWafAddressRateLimitingRequest request,
@@ -1471,6 +1818,31 @@ public class WaasAsyncClient implements WaasAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetWafAddressRateLimitingResponse>
+            getWafAddressRateLimiting(final GetWafAddressRateLimitingRequest request) {
+        LOG.trace("Called async getWafAddressRateLimiting");
+        final GetWafAddressRateLimitingRequest interceptedRequest =
+                GetWafAddressRateLimitingConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetWafAddressRateLimitingConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, GetWafAddressRateLimitingResponse>
+                transformer = GetWafAddressRateLimitingConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetWafConfigResponse> getWafConfig(
             final GetWafConfigRequest request,
@@ -1544,6 +1916,30 @@ public class WaasAsyncClient implements WaasAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetWafConfigResponse> getWafConfig(
+            final GetWafConfigRequest request) {
+        LOG.trace("Called async getWafConfig");
+        final GetWafConfigRequest interceptedRequest =
+                GetWafConfigConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetWafConfigConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetWafConfigResponse>
+                transformer = GetWafConfigConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<GetWorkRequestResponse> getWorkRequest(
             final GetWorkRequestRequest request,
@@ -1618,6 +2014,30 @@ public class WaasAsyncClient implements WaasAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<GetWorkRequestResponse> getWorkRequest(
+            final GetWorkRequestRequest request) {
+        LOG.trace("Called async getWorkRequest");
+        final GetWorkRequestRequest interceptedRequest =
+                GetWorkRequestConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                GetWorkRequestConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, GetWorkRequestResponse>
+                transformer = GetWorkRequestConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListAccessRulesResponse> listAccessRules(
             final ListAccessRulesRequest request,
@@ -1692,6 +2112,30 @@ public class WaasAsyncClient implements WaasAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListAccessRulesResponse> listAccessRules(
+            final ListAccessRulesRequest request) {
+        LOG.trace("Called async listAccessRules");
+        final ListAccessRulesRequest interceptedRequest =
+                ListAccessRulesConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListAccessRulesConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListAccessRulesResponse>
+                transformer = ListAccessRulesConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListCaptchasResponse> listCaptchas(
             final ListCaptchasRequest request,
@@ -1765,6 +2209,30 @@ public class WaasAsyncClient implements WaasAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListCaptchasResponse> listCaptchas(
+            final ListCaptchasRequest request) {
+        LOG.trace("Called async listCaptchas");
+        final ListCaptchasRequest interceptedRequest =
+                ListCaptchasConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListCaptchasConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListCaptchasResponse>
+                transformer = ListCaptchasConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListCertificatesResponse> listCertificates(
             final ListCertificatesRequest request,
@@ -1839,6 +2307,30 @@ public class WaasAsyncClient implements WaasAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListCertificatesResponse> listCertificates(
+            final ListCertificatesRequest request) {
+        LOG.trace("Called async listCertificates");
+        final ListCertificatesRequest interceptedRequest =
+                ListCertificatesConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListCertificatesConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListCertificatesResponse>
+                transformer = ListCertificatesConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListEdgeSubnetsResponse> listEdgeSubnets(
             final ListEdgeSubnetsRequest request,
@@ -1913,6 +2405,30 @@ public class WaasAsyncClient implements WaasAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListEdgeSubnetsResponse> listEdgeSubnets(
+            final ListEdgeSubnetsRequest request) {
+        LOG.trace("Called async listEdgeSubnets");
+        final ListEdgeSubnetsRequest interceptedRequest =
+                ListEdgeSubnetsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListEdgeSubnetsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListEdgeSubnetsResponse>
+                transformer = ListEdgeSubnetsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListGoodBotsResponse> listGoodBots(
             final ListGoodBotsRequest request,
@@ -1986,6 +2502,30 @@ public class WaasAsyncClient implements WaasAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListGoodBotsResponse> listGoodBots(
+            final ListGoodBotsRequest request) {
+        LOG.trace("Called async listGoodBots");
+        final ListGoodBotsRequest interceptedRequest =
+                ListGoodBotsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListGoodBotsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListGoodBotsResponse>
+                transformer = ListGoodBotsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListProtectionRulesResponse> listProtectionRules(
             final ListProtectionRulesRequest request,
@@ -2062,6 +2602,31 @@ public class WaasAsyncClient implements WaasAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListProtectionRulesResponse> listProtectionRules(
+            final ListProtectionRulesRequest request) {
+        LOG.trace("Called async listProtectionRules");
+        final ListProtectionRulesRequest interceptedRequest =
+                ListProtectionRulesConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListProtectionRulesConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, ListProtectionRulesResponse>
+                transformer = ListProtectionRulesConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListRecommendationsResponse> listRecommendations(
             final ListRecommendationsRequest request,
@@ -2138,6 +2703,31 @@ public class WaasAsyncClient implements WaasAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListRecommendationsResponse> listRecommendations(
+            final ListRecommendationsRequest request) {
+        LOG.trace("Called async listRecommendations");
+        final ListRecommendationsRequest interceptedRequest =
+                ListRecommendationsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListRecommendationsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, ListRecommendationsResponse>
+                transformer = ListRecommendationsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListThreatFeedsResponse> listThreatFeeds(
             final ListThreatFeedsRequest request,
@@ -2212,6 +2802,30 @@ public class WaasAsyncClient implements WaasAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListThreatFeedsResponse> listThreatFeeds(
+            final ListThreatFeedsRequest request) {
+        LOG.trace("Called async listThreatFeeds");
+        final ListThreatFeedsRequest interceptedRequest =
+                ListThreatFeedsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListThreatFeedsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListThreatFeedsResponse>
+                transformer = ListThreatFeedsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListWaasPoliciesResponse> listWaasPolicies(
             final ListWaasPoliciesRequest request,
@@ -2286,6 +2900,30 @@ public class WaasAsyncClient implements WaasAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListWaasPoliciesResponse> listWaasPolicies(
+            final ListWaasPoliciesRequest request) {
+        LOG.trace("Called async listWaasPolicies");
+        final ListWaasPoliciesRequest interceptedRequest =
+                ListWaasPoliciesConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListWaasPoliciesConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListWaasPoliciesResponse>
+                transformer = ListWaasPoliciesConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListWafBlockedRequestsResponse> listWafBlockedRequests(
             final ListWafBlockedRequestsRequest request,
@@ -2362,6 +3000,31 @@ public class WaasAsyncClient implements WaasAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListWafBlockedRequestsResponse>
+            listWafBlockedRequests(final ListWafBlockedRequestsRequest request) {
+        LOG.trace("Called async listWafBlockedRequests");
+        final ListWafBlockedRequestsRequest interceptedRequest =
+                ListWafBlockedRequestsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListWafBlockedRequestsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, ListWafBlockedRequestsResponse>
+                transformer = ListWafBlockedRequestsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListWafLogsResponse> listWafLogs(
             final ListWafLogsRequest request,
@@ -2435,6 +3098,30 @@ public class WaasAsyncClient implements WaasAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListWafLogsResponse> listWafLogs(
+            final ListWafLogsRequest request) {
+        LOG.trace("Called async listWafLogs");
+        final ListWafLogsRequest interceptedRequest =
+                ListWafLogsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListWafLogsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListWafLogsResponse>
+                transformer = ListWafLogsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListWafRequestsResponse> listWafRequests(
             final ListWafRequestsRequest request,
@@ -2509,6 +3196,30 @@ public class WaasAsyncClient implements WaasAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListWafRequestsResponse> listWafRequests(
+            final ListWafRequestsRequest request) {
+        LOG.trace("Called async listWafRequests");
+        final ListWafRequestsRequest interceptedRequest =
+                ListWafRequestsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListWafRequestsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListWafRequestsResponse>
+                transformer = ListWafRequestsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListWafTrafficResponse> listWafTraffic(
             final ListWafTrafficRequest request,
@@ -2583,6 +3294,30 @@ public class WaasAsyncClient implements WaasAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListWafTrafficResponse> listWafTraffic(
+            final ListWafTrafficRequest request) {
+        LOG.trace("Called async listWafTraffic");
+        final ListWafTrafficRequest interceptedRequest =
+                ListWafTrafficConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListWafTrafficConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListWafTrafficResponse>
+                transformer = ListWafTrafficConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListWhitelistsResponse> listWhitelists(
             final ListWhitelistsRequest request,
@@ -2657,6 +3392,30 @@ public class WaasAsyncClient implements WaasAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListWhitelistsResponse> listWhitelists(
+            final ListWhitelistsRequest request) {
+        LOG.trace("Called async listWhitelists");
+        final ListWhitelistsRequest interceptedRequest =
+                ListWhitelistsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListWhitelistsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListWhitelistsResponse>
+                transformer = ListWhitelistsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<ListWorkRequestsResponse> listWorkRequests(
             final ListWorkRequestsRequest request,
@@ -2731,6 +3490,30 @@ public class WaasAsyncClient implements WaasAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<ListWorkRequestsResponse> listWorkRequests(
+            final ListWorkRequestsRequest request) {
+        LOG.trace("Called async listWorkRequests");
+        final ListWorkRequestsRequest interceptedRequest =
+                ListWorkRequestsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                ListWorkRequestsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, ListWorkRequestsResponse>
+                transformer = ListWorkRequestsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxGet(ib, interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateAccessRulesResponse> updateAccessRules(
             final UpdateAccessRulesRequest request,
@@ -2820,6 +3603,31 @@ public class WaasAsyncClient implements WaasAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateAccessRulesResponse> updateAccessRules(
+            final UpdateAccessRulesRequest request) {
+        LOG.trace("Called async updateAccessRules");
+        final UpdateAccessRulesRequest interceptedRequest =
+                UpdateAccessRulesConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateAccessRulesConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, UpdateAccessRulesResponse>
+                transformer = UpdateAccessRulesConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib, interceptedRequest.getAccessRules(), interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateCaptchasResponse> updateCaptchas(
             final UpdateCaptchasRequest request,
@@ -2909,6 +3717,31 @@ public class WaasAsyncClient implements WaasAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateCaptchasResponse> updateCaptchas(
+            final UpdateCaptchasRequest request) {
+        LOG.trace("Called async updateCaptchas");
+        final UpdateCaptchasRequest interceptedRequest =
+                UpdateCaptchasConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateCaptchasConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, UpdateCaptchasResponse>
+                transformer = UpdateCaptchasConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib, interceptedRequest.getCaptchas(), interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateCertificateResponse> updateCertificate(
             final UpdateCertificateRequest request,
@@ -2998,6 +3831,33 @@ public class WaasAsyncClient implements WaasAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateCertificateResponse> updateCertificate(
+            final UpdateCertificateRequest request) {
+        LOG.trace("Called async updateCertificate");
+        final UpdateCertificateRequest interceptedRequest =
+                UpdateCertificateConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateCertificateConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, UpdateCertificateResponse>
+                transformer = UpdateCertificateConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdateCertificateDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateDeviceFingerprintChallengeResponse>
             updateDeviceFingerprintChallenge(
@@ -3093,6 +3953,34 @@ public class WaasAsyncClient implements WaasAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateDeviceFingerprintChallengeResponse>
+            updateDeviceFingerprintChallenge(final UpdateDeviceFingerprintChallengeRequest request) {
+        LOG.trace("Called async updateDeviceFingerprintChallenge");
+        final UpdateDeviceFingerprintChallengeRequest interceptedRequest =
+                UpdateDeviceFingerprintChallengeConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateDeviceFingerprintChallengeConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, UpdateDeviceFingerprintChallengeResponse>
+                transformer = UpdateDeviceFingerprintChallengeConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdateDeviceFingerprintChallengeDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateGoodBotsResponse> updateGoodBots(
             final UpdateGoodBotsRequest request,
@@ -3182,6 +4070,31 @@ public class WaasAsyncClient implements WaasAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateGoodBotsResponse> updateGoodBots(
+            final UpdateGoodBotsRequest request) {
+        LOG.trace("Called async updateGoodBots");
+        final UpdateGoodBotsRequest interceptedRequest =
+                UpdateGoodBotsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateGoodBotsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, UpdateGoodBotsResponse>
+                transformer = UpdateGoodBotsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib, interceptedRequest.getGoodBots(), interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateHumanInteractionChallengeResponse>
             updateHumanInteractionChallenge(
@@ -3277,6 +4190,34 @@ public class WaasAsyncClient implements WaasAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateHumanInteractionChallengeResponse>
+            updateHumanInteractionChallenge(final UpdateHumanInteractionChallengeRequest request) {
+        LOG.trace("Called async updateHumanInteractionChallenge");
+        final UpdateHumanInteractionChallengeRequest interceptedRequest =
+                UpdateHumanInteractionChallengeConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateHumanInteractionChallengeConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, UpdateHumanInteractionChallengeResponse>
+                transformer = UpdateHumanInteractionChallengeConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdateHumanInteractionChallengeDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateJsChallengeResponse> updateJsChallenge(
             final UpdateJsChallengeRequest request,
@@ -3366,6 +4307,33 @@ public class WaasAsyncClient implements WaasAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateJsChallengeResponse> updateJsChallenge(
+            final UpdateJsChallengeRequest request) {
+        LOG.trace("Called async updateJsChallenge");
+        final UpdateJsChallengeRequest interceptedRequest =
+                UpdateJsChallengeConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateJsChallengeConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, UpdateJsChallengeResponse>
+                transformer = UpdateJsChallengeConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdateJsChallengeDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdatePolicyConfigResponse> updatePolicyConfig(
             final UpdatePolicyConfigRequest request,
@@ -3455,6 +4423,33 @@ public class WaasAsyncClient implements WaasAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdatePolicyConfigResponse> updatePolicyConfig(
+            final UpdatePolicyConfigRequest request) {
+        LOG.trace("Called async updatePolicyConfig");
+        final UpdatePolicyConfigRequest interceptedRequest =
+                UpdatePolicyConfigConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdatePolicyConfigConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, UpdatePolicyConfigResponse>
+                transformer = UpdatePolicyConfigConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdatePolicyConfigDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateProtectionRulesResponse> updateProtectionRules(
             final UpdateProtectionRulesRequest request,
@@ -3546,6 +4541,32 @@ public class WaasAsyncClient implements WaasAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateProtectionRulesResponse>
+            updateProtectionRules(final UpdateProtectionRulesRequest request) {
+        LOG.trace("Called async updateProtectionRules");
+        final UpdateProtectionRulesRequest interceptedRequest =
+                UpdateProtectionRulesConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateProtectionRulesConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, UpdateProtectionRulesResponse>
+                transformer = UpdateProtectionRulesConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib, interceptedRequest.getProtectionRules(), interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateProtectionSettingsResponse> updateProtectionSettings(
             final UpdateProtectionSettingsRequest request,
@@ -3637,6 +4658,34 @@ public class WaasAsyncClient implements WaasAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateProtectionSettingsResponse>
+            updateProtectionSettings(final UpdateProtectionSettingsRequest request) {
+        LOG.trace("Called async updateProtectionSettings");
+        final UpdateProtectionSettingsRequest interceptedRequest =
+                UpdateProtectionSettingsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateProtectionSettingsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, UpdateProtectionSettingsResponse>
+                transformer = UpdateProtectionSettingsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdateProtectionSettingsDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateThreatFeedsResponse> updateThreatFeeds(
             final UpdateThreatFeedsRequest request,
@@ -3726,6 +4775,31 @@ public class WaasAsyncClient implements WaasAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateThreatFeedsResponse> updateThreatFeeds(
+            final UpdateThreatFeedsRequest request) {
+        LOG.trace("Called async updateThreatFeeds");
+        final UpdateThreatFeedsRequest interceptedRequest =
+                UpdateThreatFeedsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateThreatFeedsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, UpdateThreatFeedsResponse>
+                transformer = UpdateThreatFeedsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib, interceptedRequest.getThreatFeeds(), interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateWaasPolicyResponse> updateWaasPolicy(
             final UpdateWaasPolicyRequest request,
@@ -3815,6 +4889,33 @@ public class WaasAsyncClient implements WaasAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateWaasPolicyResponse> updateWaasPolicy(
+            final UpdateWaasPolicyRequest request) {
+        LOG.trace("Called async updateWaasPolicy");
+        final UpdateWaasPolicyRequest interceptedRequest =
+                UpdateWaasPolicyConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateWaasPolicyConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, UpdateWaasPolicyResponse>
+                transformer = UpdateWaasPolicyConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdateWaasPolicyDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateWafAddressRateLimitingResponse>
             updateWafAddressRateLimiting(
@@ -3909,6 +5010,34 @@ public class WaasAsyncClient implements WaasAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateWafAddressRateLimitingResponse>
+            updateWafAddressRateLimiting(final UpdateWafAddressRateLimitingRequest request) {
+        LOG.trace("Called async updateWafAddressRateLimiting");
+        final UpdateWafAddressRateLimitingRequest interceptedRequest =
+                UpdateWafAddressRateLimitingConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateWafAddressRateLimitingConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<
+                        javax.ws.rs.core.Response, UpdateWafAddressRateLimitingResponse>
+                transformer = UpdateWafAddressRateLimitingConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdateWafAddressRateLimitingDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateWafConfigResponse> updateWafConfig(
             final UpdateWafConfigRequest request,
@@ -3998,6 +5127,33 @@ public class WaasAsyncClient implements WaasAsync {
         }
     }
 
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateWafConfigResponse> updateWafConfig(
+            final UpdateWafConfigRequest request) {
+        LOG.trace("Called async updateWafConfig");
+        final UpdateWafConfigRequest interceptedRequest =
+                UpdateWafConfigConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateWafConfigConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, UpdateWafConfigResponse>
+                transformer = UpdateWafConfigConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib,
+                                interceptedRequest.getUpdateWafConfigDetails(),
+                                interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
+
     @Override
     public java.util.concurrent.Future<UpdateWhitelistsResponse> updateWhitelists(
             final UpdateWhitelistsRequest request,
@@ -4086,4 +5242,29 @@ public class WaasAsyncClient implements WaasAsync {
                     responseFuture, transformer);
         }
     }
+
+    @Override
+    public java.util.concurrent.CompletionStage<UpdateWhitelistsResponse> updateWhitelists(
+            final UpdateWhitelistsRequest request) {
+        LOG.trace("Called async updateWhitelists");
+        final UpdateWhitelistsRequest interceptedRequest =
+                UpdateWhitelistsConverter.interceptRequest(request);
+        final com.oracle.bmc.http.internal.WrappedInvocationBuilder ib =
+                UpdateWhitelistsConverter.fromRequest(client, interceptedRequest);
+        final com.google.common.base.Function<javax.ws.rs.core.Response, UpdateWhitelistsResponse>
+                transformer = UpdateWhitelistsConverter.fromResponse();
+
+        return com.oracle.bmc.util.internal.CompletionStageUtils.transform(
+                new com.google.common.base.Supplier<
+                        java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>>() {
+                    @Override
+                    public java.util.concurrent.CompletionStage<javax.ws.rs.core.Response>
+                            get() {
+                        return client.rxPut(
+                                ib, interceptedRequest.getWhitelists(), interceptedRequest);
+                    }
+                },
+                transformer,
+                this.authenticationDetailsProvider);
+    }
 }
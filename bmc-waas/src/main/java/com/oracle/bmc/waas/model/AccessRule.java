@@ -95,7 +95,8 @@ public class AccessRule {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public AccessRule build() {
             AccessRule __instance__ =
@@ -275,6 +276,18 @@ public class AccessRule {
     @com.fasterxml.jackson.annotation.JsonProperty("blockErrorPageDescription")
     String blockErrorPageDescription;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "name",
+                    "criteria",
+                    "action",
+                    "blockAction",
+                    "blockResponseCode",
+                    "blockErrorPageMessage",
+                    "blockErrorPageCode",
+                    "blockErrorPageDescription");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -61,7 +61,8 @@ public class AddressRateLimiting {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public AddressRateLimiting build() {
             AddressRateLimiting __instance__ =
@@ -118,6 +119,14 @@ public class AddressRateLimiting {
     @com.fasterxml.jackson.annotation.JsonProperty("blockResponseCode")
     Integer blockResponseCode;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "isEnabled",
+                    "allowedRatePerAddress",
+                    "maxDelayedCountPerAddress",
+                    "blockResponseCode");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -106,7 +106,8 @@ public class BlockChallengeSettings {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public BlockChallengeSettings build() {
             BlockChallengeSettings __instance__ =
@@ -250,6 +251,19 @@ public class BlockChallengeSettings {
     @com.fasterxml.jackson.annotation.JsonProperty("captchaSubmitLabel")
     String captchaSubmitLabel;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "blockAction",
+                    "blockResponseCode",
+                    "blockErrorPageMessage",
+                    "blockErrorPageDescription",
+                    "blockErrorPageCode",
+                    "captchaTitle",
+                    "captchaHeader",
+                    "captchaFooter",
+                    "captchaSubmitLabel");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
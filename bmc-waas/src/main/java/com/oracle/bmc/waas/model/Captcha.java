@@ -88,7 +88,8 @@ public class Captcha {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public Captcha build() {
             Captcha __instance__ =
@@ -169,6 +170,17 @@ public class Captcha {
     @com.fasterxml.jackson.annotation.JsonProperty("submitLabel")
     String submitLabel;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "url",
+                    "sessionExpirationInSeconds",
+                    "title",
+                    "headerText",
+                    "footerText",
+                    "failureMessage",
+                    "submitLabel");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
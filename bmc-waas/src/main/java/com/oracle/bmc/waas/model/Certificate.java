@@ -178,7 +178,8 @@ public class Certificate {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public Certificate build() {
             Certificate __instance__ =
@@ -312,6 +313,27 @@ public class Certificate {
     @com.fasterxml.jackson.annotation.JsonProperty("timeCreated")
     java.util.Date timeCreated;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "id",
+                    "compartmentId",
+                    "displayName",
+                    "issuedBy",
+                    "subjectName",
+                    "issuerName",
+                    "serialNumber",
+                    "version",
+                    "signatureAlgorithm",
+                    "timeNotValidBefore",
+                    "timeNotValidAfter",
+                    "publicKeyInfo",
+                    "extensions",
+                    "freeformTags",
+                    "definedTags",
+                    "lifecycleState",
+                    "timeCreated");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -52,7 +52,8 @@ public class Certificate_publicKeyInfo {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public Certificate_publicKeyInfo build() {
             Certificate_publicKeyInfo __instance__ =
@@ -87,6 +88,11 @@ public class Certificate_publicKeyInfo {
     @com.fasterxml.jackson.annotation.JsonProperty("keySize")
     Integer keySize;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "algorithm", "exponent", "keySize");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -88,7 +88,8 @@ public class Certificate_subjectName {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public Certificate_subjectName build() {
             Certificate_subjectName __instance__ =
@@ -148,6 +149,17 @@ public class Certificate_subjectName {
     @com.fasterxml.jackson.annotation.JsonProperty("emailAddress")
     String emailAddress;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "country",
+                    "stateProvince",
+                    "locality",
+                    "organization",
+                    "organizationalUnit",
+                    "commonName",
+                    "emailAddress");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
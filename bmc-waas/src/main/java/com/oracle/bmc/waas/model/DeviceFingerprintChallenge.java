@@ -99,7 +99,8 @@ public class DeviceFingerprintChallenge {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public DeviceFingerprintChallenge build() {
             DeviceFingerprintChallenge __instance__ =
@@ -232,6 +233,18 @@ public class DeviceFingerprintChallenge {
     @com.fasterxml.jackson.annotation.JsonProperty("challengeSettings")
     BlockChallengeSettings challengeSettings;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "isEnabled",
+                    "action",
+                    "failureThreshold",
+                    "actionExpirationInSeconds",
+                    "failureThresholdExpirationInSeconds",
+                    "maxAddressCount",
+                    "maxAddressCountExpirationInSeconds",
+                    "challengeSettings");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
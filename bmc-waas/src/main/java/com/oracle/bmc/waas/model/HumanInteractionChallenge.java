@@ -107,7 +107,8 @@ public class HumanInteractionChallenge {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public HumanInteractionChallenge build() {
             HumanInteractionChallenge __instance__ =
@@ -247,6 +248,19 @@ public class HumanInteractionChallenge {
     @com.fasterxml.jackson.annotation.JsonProperty("challengeSettings")
     BlockChallengeSettings challengeSettings;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "isEnabled",
+                    "action",
+                    "failureThreshold",
+                    "actionExpirationInSeconds",
+                    "failureThresholdExpirationInSeconds",
+                    "interactionThreshold",
+                    "recordingPeriodInSeconds",
+                    "setHttpHeader",
+                    "challengeSettings");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
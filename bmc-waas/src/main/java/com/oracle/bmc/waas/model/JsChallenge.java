@@ -77,7 +77,8 @@ public class JsChallenge {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public JsChallenge build() {
             JsChallenge __instance__ =
@@ -192,6 +193,16 @@ public class JsChallenge {
     @com.fasterxml.jackson.annotation.JsonProperty("challengeSettings")
     BlockChallengeSettings challengeSettings;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "isEnabled",
+                    "action",
+                    "failureThreshold",
+                    "actionExpirationInSeconds",
+                    "setHttpHeader",
+                    "challengeSettings");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
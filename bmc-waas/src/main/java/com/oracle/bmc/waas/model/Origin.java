@@ -59,7 +59,8 @@ public class Origin {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public Origin build() {
             Origin __instance__ = new Origin(uri, httpPort, httpsPort, customHeaders);
@@ -111,6 +112,11 @@ public class Origin {
     @com.fasterxml.jackson.annotation.JsonProperty("customHeaders")
     java.util.List<Header> customHeaders;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "uri", "httpPort", "httpsPort", "customHeaders");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -86,7 +86,8 @@ public class ProtectionRule {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public ProtectionRule build() {
             ProtectionRule __instance__ =
@@ -206,6 +207,17 @@ public class ProtectionRule {
     @com.fasterxml.jackson.annotation.JsonProperty("exclusions")
     java.util.List<ProtectionRuleExclusion> exclusions;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "key",
+                    "modSecurityRuleIds",
+                    "name",
+                    "description",
+                    "action",
+                    "labels",
+                    "exclusions");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
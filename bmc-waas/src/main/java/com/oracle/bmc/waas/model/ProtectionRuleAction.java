@@ -52,7 +52,8 @@ public class ProtectionRuleAction {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public ProtectionRuleAction build() {
             ProtectionRuleAction __instance__ = new ProtectionRuleAction(key, action, exclusions);
@@ -130,6 +131,10 @@ public class ProtectionRuleAction {
     @com.fasterxml.jackson.annotation.JsonProperty("exclusions")
     java.util.List<ProtectionRuleExclusion> exclusions;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of("key", "action", "exclusions");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -43,7 +43,8 @@ public class ProtectionRuleExclusion {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public ProtectionRuleExclusion build() {
             ProtectionRuleExclusion __instance__ = new ProtectionRuleExclusion(target, exclusions);
@@ -124,6 +125,10 @@ public class ProtectionRuleExclusion {
     @com.fasterxml.jackson.annotation.JsonProperty("exclusions")
     java.util.List<String> exclusions;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of("target", "exclusions");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
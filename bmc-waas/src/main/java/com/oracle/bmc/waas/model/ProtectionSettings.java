@@ -142,7 +142,8 @@ public class ProtectionSettings {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public ProtectionSettings build() {
             ProtectionSettings __instance__ =
@@ -394,6 +395,23 @@ public class ProtectionSettings {
     @com.fasterxml.jackson.annotation.JsonProperty("mediaTypes")
     java.util.List<String> mediaTypes;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "blockAction",
+                    "blockResponseCode",
+                    "blockErrorPageMessage",
+                    "blockErrorPageCode",
+                    "blockErrorPageDescription",
+                    "maxArgumentCount",
+                    "maxNameLengthPerArgument",
+                    "maxTotalNameLengthOfArguments",
+                    "recommendationsPeriodInDays",
+                    "isResponseInspected",
+                    "maxResponseSizeInKiB",
+                    "allowedHttpMethods",
+                    "mediaTypes");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
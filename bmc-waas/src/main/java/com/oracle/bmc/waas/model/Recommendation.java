@@ -79,7 +79,8 @@ public class Recommendation {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public Recommendation build() {
             Recommendation __instance__ =
@@ -148,6 +149,16 @@ public class Recommendation {
     @com.fasterxml.jackson.annotation.JsonProperty("recommendedAction")
     String recommendedAction;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "key",
+                    "modSecurityRuleIds",
+                    "name",
+                    "description",
+                    "labels",
+                    "recommendedAction");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
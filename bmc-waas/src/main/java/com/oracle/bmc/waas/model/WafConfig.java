@@ -133,7 +133,8 @@ public class WafConfig {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public WafConfig build() {
             WafConfig __instance__ =
@@ -254,6 +255,22 @@ public class WafConfig {
     @com.fasterxml.jackson.annotation.JsonProperty("whitelists")
     java.util.List<Whitelist> whitelists;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "accessRules",
+                    "addressRateLimiting",
+                    "captchas",
+                    "deviceFingerprintChallenge",
+                    "goodBots",
+                    "humanInteractionChallenge",
+                    "jsChallenge",
+                    "origin",
+                    "protectionRules",
+                    "protectionSettings",
+                    "threatFeeds",
+                    "whitelists");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -106,7 +106,8 @@ public class WafConfigDetails {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public WafConfigDetails build() {
             WafConfigDetails __instance__ =
@@ -203,6 +204,19 @@ public class WafConfigDetails {
     @com.fasterxml.jackson.annotation.JsonProperty("whitelists")
     java.util.List<Whitelist> whitelists;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "accessRules",
+                    "addressRateLimiting",
+                    "captchas",
+                    "deviceFingerprintChallenge",
+                    "humanInteractionChallenge",
+                    "jsChallenge",
+                    "origin",
+                    "protectionSettings",
+                    "whitelists");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
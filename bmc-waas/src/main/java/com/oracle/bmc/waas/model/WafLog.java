@@ -276,7 +276,8 @@ public class WafLog {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public WafLog build() {
             WafLog __instance__ =
@@ -528,6 +529,38 @@ public class WafLog {
     @com.fasterxml.jackson.annotation.JsonProperty("originResponseTime")
     String originResponseTime;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "action",
+                    "captchaAction",
+                    "captchaExpected",
+                    "captchaReceived",
+                    "captchaFailCount",
+                    "clientAddress",
+                    "countryName",
+                    "userAgent",
+                    "domain",
+                    "protectionRuleDetections",
+                    "httpMethod",
+                    "requestUrl",
+                    "httpHeaders",
+                    "referrer",
+                    "responseCode",
+                    "responseSize",
+                    "incidentKey",
+                    "fingerprint",
+                    "device",
+                    "countryCode",
+                    "requestHeaders",
+                    "threatFeedKey",
+                    "accessRuleKey",
+                    "addressRateLimitingKey",
+                    "timestamp",
+                    "logType",
+                    "originAddress",
+                    "originResponseTime");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
@@ -113,7 +113,8 @@ public class WafMeterDatum {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public WafMeterDatum build() {
             WafMeterDatum __instance__ =
@@ -218,6 +219,20 @@ public class WafMeterDatum {
     @com.fasterxml.jackson.annotation.JsonProperty("tagSlug")
     byte[] tagSlug;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "timeObserved",
+                    "timeRangeInSeconds",
+                    "tenancyId",
+                    "compartmentId",
+                    "waasPolicyId",
+                    "isOciOrigin",
+                    "isBotEnabled",
+                    "requestCount",
+                    "trafficInBytes",
+                    "tagSlug");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }
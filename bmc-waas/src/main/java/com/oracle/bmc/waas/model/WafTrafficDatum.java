@@ -77,7 +77,8 @@ public class WafTrafficDatum {
         }
 
         @com.fasterxml.jackson.annotation.JsonIgnore
-        private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+        private final java.util.Set<String> __explicitlySet__ =
+                new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 
         public WafTrafficDatum build() {
             WafTrafficDatum __instance__ =
@@ -150,6 +151,16 @@ public class WafTrafficDatum {
     @com.fasterxml.jackson.annotation.JsonProperty("trafficInBytes")
     Integer trafficInBytes;
 
+    private static final com.oracle.bmc.http.internal.ExplicitlySet.Fields __explicitlySetFields__ =
+            com.oracle.bmc.http.internal.ExplicitlySet.Fields.of(
+                    "timeObserved",
+                    "timeRangeInSeconds",
+                    "tenancyId",
+                    "compartmentId",
+                    "waasPolicyId",
+                    "trafficInBytes");
+
     @com.fasterxml.jackson.annotation.JsonIgnore
-    private final java.util.Set<String> __explicitlySet__ = new java.util.HashSet<String>();
+    private final java.util.Set<String> __explicitlySet__ =
+            new com.oracle.bmc.http.internal.ExplicitlySet(__explicitlySetFields__);
 }